@@ -0,0 +1,22 @@
+package com.rappidrive.application.exceptions;
+
+/**
+ * Thrown when an idempotency key cannot be honoured: it was used for a different request, or the
+ * request it was first used for is still being processed.
+ */
+public class IdempotencyKeyConflictException extends ApplicationException {
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+
+    public static IdempotencyKeyConflictException reusedForDifferentRequest(String key) {
+        return new IdempotencyKeyConflictException(
+            "Idempotency key " + key + " was already used for a different request");
+    }
+
+    public static IdempotencyKeyConflictException stillInProgress(String key) {
+        return new IdempotencyKeyConflictException(
+            "Request with idempotency key " + key + " is still being processed");
+    }
+}
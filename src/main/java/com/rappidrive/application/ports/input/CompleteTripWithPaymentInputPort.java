@@ -3,6 +3,7 @@ package com.rappidrive.application.ports.input;
 import com.rappidrive.domain.entities.Fare;
 import com.rappidrive.domain.entities.Payment;
 import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.PaymentStatus;
 import com.rappidrive.domain.valueobjects.Location;
 import com.rappidrive.domain.valueobjects.PaymentMethod;
 
@@ -10,6 +11,7 @@ import java.util.UUID;
 
 /**
  * Input port for completing a trip with automatic fare calculation and payment processing.
+ * Gateway payments are settled asynchronously: the returned payment is still PENDING for them.
  */
 public interface CompleteTripWithPaymentInputPort {
     
@@ -67,5 +69,12 @@ public interface CompleteTripWithPaymentInputPort {
         public boolean hasFailureReason() {
             return failureReason != null && !failureReason.isBlank();
         }
+        
+        /**
+         * Whether the payment is still waiting for the settlement saga.
+         */
+        public boolean isPaymentPending() {
+            return payment.getStatus() == PaymentStatus.PENDING;
+        }
     }
 }
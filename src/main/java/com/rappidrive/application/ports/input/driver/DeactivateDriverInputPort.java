@@ -0,0 +1,19 @@
+package com.rappidrive.application.ports.input.driver;
+
+import com.rappidrive.domain.entities.Driver;
+
+import java.util.UUID;
+
+/**
+ * Input port for taking a driver offline.
+ */
+public interface DeactivateDriverInputPort {
+    
+    /**
+     * Deactivates a driver, so they stop receiving trips until activated again.
+     *
+     * @param driverId the driver ID to deactivate
+     * @return the deactivated driver
+     */
+    Driver execute(UUID driverId);
+}
@@ -0,0 +1,51 @@
+package com.rappidrive.application.ports.input.payment;
+
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort.CancellationFeeCharge;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Input port for charging the cancellation fee of a cancelled trip through the payment gateway.
+ */
+public interface ChargeCancellationFeeInputPort {
+
+    /**
+     * Runs one charging attempt for a queued cancellation fee.
+     *
+     * @param command the charge command
+     * @return the outcome of the attempt
+     */
+    ChargeOutcome execute(ChargeCancellationFeeCommand command);
+
+    /**
+     * Command for one charging attempt.
+     *
+     * @param charge the queued fee
+     * @param finalAttempt whether the fee must be given up on if the gateway is still unavailable
+     * @param deadline when the gateway call must have answered, or null for the gateway's default timeout
+     */
+    record ChargeCancellationFeeCommand(
+            CancellationFeeCharge charge,
+            boolean finalAttempt,
+            Instant deadline
+    ) {
+        public ChargeCancellationFeeCommand {
+            Objects.requireNonNull(charge, "Charge cannot be null");
+        }
+    }
+
+    /**
+     * Outcome of a charging attempt.
+     */
+    enum ChargeOutcome {
+        /** The gateway charged the fee. */
+        CHARGED,
+        /** The gateway declined the fee. */
+        DECLINED,
+        /** The gateway was unavailable; the attempt should be retried later. */
+        RETRY,
+        /** The gateway stayed unavailable through the final attempt; the fee was given up on. */
+        ABANDONED
+    }
+}
@@ -0,0 +1,79 @@
+package com.rappidrive.application.ports.input.payment;
+
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Input port for estimating fares of several routes and vehicle types at once.
+ */
+public interface EstimateFaresInputPort {
+
+    /**
+     * Estimates the fare of every route × vehicle type combination.
+     *
+     * @param command the estimation command
+     * @return one estimate per combination, ordered by route and then by vehicle type
+     */
+    List<FareEstimate> execute(EstimateFaresCommand command);
+
+    /**
+     * Command for estimating fares. An empty vehicle type list means every vehicle type.
+     */
+    record EstimateFaresCommand(
+            TenantId tenantId,
+            List<Route> routes,
+            List<VehicleType> vehicleTypes,
+            LocalDateTime tripTime
+    ) {
+        public EstimateFaresCommand {
+            Objects.requireNonNull(tenantId, "Tenant ID cannot be null");
+            Objects.requireNonNull(routes, "Routes cannot be null");
+            Objects.requireNonNull(tripTime, "Trip time cannot be null");
+
+            if (routes.isEmpty()) {
+                throw new IllegalArgumentException("At least one route is required");
+            }
+            routes = List.copyOf(routes);
+            vehicleTypes = vehicleTypes == null || vehicleTypes.isEmpty()
+                    ? List.of(VehicleType.values())
+                    : List.copyOf(new LinkedHashSet<>(vehicleTypes));
+        }
+    }
+
+    /**
+     * Origin and destination of one candidate trip.
+     */
+    record Route(Location origin, Location destination) {
+        public Route {
+            Objects.requireNonNull(origin, "Origin cannot be null");
+            Objects.requireNonNull(destination, "Destination cannot be null");
+        }
+    }
+
+    /**
+     * Estimated fare of one route for one vehicle type.
+     *
+     * @param routeIndex position of the route in the command
+     * @param distanceKm straight-line distance, rounded to the meter
+     * @param durationMinutes duration estimated from the distance
+     * @param subtotal fare before multipliers
+     * @param totalAmount fare after multipliers, minimum fare and rounding
+     */
+    record FareEstimate(
+            int routeIndex,
+            VehicleType vehicleType,
+            double distanceKm,
+            int durationMinutes,
+            FareMultiplierType multiplierType,
+            Money subtotal,
+            Money totalAmount
+    ) {}
+}
@@ -0,0 +1,23 @@
+package com.rappidrive.application.ports.input.payment;
+
+import com.rappidrive.domain.valueobjects.LedgerAccount;
+
+/**
+ * Input port for reading ledger account balances.
+ */
+public interface GetLedgerBalanceInputPort {
+
+    /**
+     * Reads the current balance of an account: its latest snapshot plus the postings after it.
+     *
+     * @param account the account
+     * @return the balance in cents, debits minus credits
+     */
+    LedgerBalance execute(LedgerAccount account);
+
+    /**
+     * @param balanceCents debits minus credits; a driver is owed {@code -balanceCents}
+     */
+    record LedgerBalance(LedgerAccount account, long balanceCents) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.rappidrive.application.ports.input.payment;
+
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.util.List;
+
+/**
+ * Input port for retrieving a tenant's pricing rules.
+ */
+public interface GetPricingRulesInputPort {
+
+    /**
+     * Gets the pricing rules of a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @return the tenant's rules in declaration order, empty if it uses the default pricing
+     */
+    List<PricingRule> execute(TenantId tenantId);
+}
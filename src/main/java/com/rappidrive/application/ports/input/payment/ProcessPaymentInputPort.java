@@ -12,7 +12,8 @@ import java.util.UUID;
 public interface ProcessPaymentInputPort {
     
     /**
-     * Processes a payment for a trip.
+     * Processes a payment for a trip. A retried command with the same idempotency key returns the
+     * payment of the first one without charging again.
      *
      * @param command the payment command
      * @return the processed payment
@@ -21,11 +22,18 @@ public interface ProcessPaymentInputPort {
     
     /**
      * Command for processing a payment.
+     *
+     * @param idempotencyKey client-supplied key for safe retries, or null to key the payment by trip
      */
     record ProcessPaymentCommand(
             UUID tripId,
-            PaymentMethod paymentMethod
+            PaymentMethod paymentMethod,
+            String idempotencyKey
     ) {
+        public ProcessPaymentCommand(UUID tripId, PaymentMethod paymentMethod) {
+            this(tripId, paymentMethod, null);
+        }
+        
         public ProcessPaymentCommand {
             Objects.requireNonNull(tripId, "Trip ID cannot be null");
             Objects.requireNonNull(paymentMethod, "Payment method cannot be null");
@@ -0,0 +1,47 @@
+package com.rappidrive.application.ports.input.payment;
+
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.valueobjects.FareQuote;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Input port for issuing signed fare quotes that a passenger can then request a trip with.
+ */
+public interface QuoteFareInputPort {
+
+    /**
+     * Prices a route for one vehicle type and signs the result.
+     *
+     * @param command the quote command
+     * @return the quote and its token
+     */
+    IssuedFareQuote execute(QuoteFareCommand command);
+
+    /**
+     * Command for quoting a fare.
+     */
+    record QuoteFareCommand(
+            TenantId tenantId,
+            Location origin,
+            Location destination,
+            VehicleType vehicleType,
+            LocalDateTime tripTime
+    ) {
+        public QuoteFareCommand {
+            Objects.requireNonNull(tenantId, "Tenant ID cannot be null");
+            Objects.requireNonNull(origin, "Origin cannot be null");
+            Objects.requireNonNull(destination, "Destination cannot be null");
+            Objects.requireNonNull(vehicleType, "Vehicle type cannot be null");
+            Objects.requireNonNull(tripTime, "Trip time cannot be null");
+        }
+    }
+
+    /**
+     * Quote together with the signed token that carries it.
+     */
+    record IssuedFareQuote(FareQuote quote, String token) {}
+}
@@ -0,0 +1,57 @@
+package com.rappidrive.application.ports.input.payment;
+
+import com.rappidrive.application.ports.output.SettlementFilePort;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Input port for reconciling our payments against a gateway settlement export.
+ */
+public interface ReconcilePaymentsInputPort {
+
+    /**
+     * Compares the payments created in the command's window with the settlement file and writes
+     * every difference to the report.
+     *
+     * @param command the file and window to reconcile
+     * @return counts of matched records and of each kind of mismatch
+     */
+    ReconciliationResult execute(ReconcilePaymentsCommand command);
+
+    record ReconcilePaymentsCommand(
+            Path settlementFile,
+            SettlementFilePort.Format format,
+            LocalDateTime from,
+            LocalDateTime to,
+            Path report
+    ) {
+        public ReconcilePaymentsCommand {
+            Objects.requireNonNull(settlementFile, "Settlement file cannot be null");
+            Objects.requireNonNull(format, "Format cannot be null");
+            Objects.requireNonNull(from, "Window start cannot be null");
+            Objects.requireNonNull(to, "Window end cannot be null");
+            Objects.requireNonNull(report, "Report cannot be null");
+            if (!from.isBefore(to)) {
+                throw new IllegalArgumentException("Window start must be before its end");
+            }
+        }
+    }
+
+    record ReconciliationResult(
+            Path report,
+            long gatewayRecords,
+            long ledgerPayments,
+            long matched,
+            long missingAtGateway,
+            long missingInLedger,
+            long amountMismatches,
+            long statusMismatches,
+            long duplicatesAtGateway
+    ) {
+        public long mismatches() {
+            return missingAtGateway + missingInLedger + amountMismatches + statusMismatches + duplicatesAtGateway;
+        }
+    }
+}
@@ -17,15 +17,33 @@ public interface RefundPaymentInputPort {
      * @param reason the refund reason
      * @return the refunded payment
      */
-    Payment execute(UUID paymentId, String reason);
+    default Payment execute(UUID paymentId, String reason) {
+        return execute(new RefundPaymentCommand(paymentId, reason));
+    }
+    
+    /**
+     * Refunds a payment. A retried command with the same idempotency key returns the refunded
+     * payment without calling the gateway again.
+     *
+     * @param command the refund command
+     * @return the refunded payment
+     */
+    Payment execute(RefundPaymentCommand command);
     
     /**
      * Command for refunding a payment.
+     *
+     * @param idempotencyKey client-supplied key for safe retries, or null to key the refund by payment
      */
     record RefundPaymentCommand(
             UUID paymentId,
-            String reason
+            String reason,
+            String idempotencyKey
     ) {
+        public RefundPaymentCommand(UUID paymentId, String reason) {
+            this(paymentId, reason, null);
+        }
+        
         public RefundPaymentCommand {
             Objects.requireNonNull(paymentId, "Payment ID cannot be null");
             if (reason == null || reason.trim().isEmpty()) {
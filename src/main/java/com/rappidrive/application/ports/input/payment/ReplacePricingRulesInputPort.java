@@ -0,0 +1,34 @@
+package com.rappidrive.application.ports.input.payment;
+
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Input port for replacing a tenant's pricing rules.
+ */
+public interface ReplacePricingRulesInputPort {
+
+    /**
+     * Replaces all pricing rules of a tenant. An empty list restores the default pricing.
+     *
+     * @param command the replace command
+     * @return the saved rules
+     */
+    List<PricingRule> execute(ReplacePricingRulesCommand command);
+
+    /**
+     * Command for replacing pricing rules.
+     */
+    record ReplacePricingRulesCommand(
+            TenantId tenantId,
+            List<PricingRule> rules
+    ) {
+        public ReplacePricingRulesCommand {
+            Objects.requireNonNull(tenantId, "Tenant ID cannot be null");
+            rules = rules == null ? List.of() : List.copyOf(rules);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.rappidrive.application.ports.input.payment;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Input port for the daily driver payout batch.
+ */
+public interface RunDriverPayoutsInputPort {
+
+    /**
+     * Computes and stores the payouts of every tenant for a business day. Tenants already settled
+     * for that day are skipped, so the batch can be rerun after a partial failure.
+     *
+     * @param command the day to settle
+     * @return what the run did
+     */
+    PayoutRunResult execute(RunDriverPayoutsCommand command);
+
+    record RunDriverPayoutsCommand(LocalDate businessDate) {
+        public RunDriverPayoutsCommand {
+            Objects.requireNonNull(businessDate, "Business date cannot be null");
+        }
+    }
+
+    /**
+     * @param settledTenants tenants whose payouts were stored by this run
+     * @param skippedTenants tenants already checkpointed for the day
+     * @param failedTenants tenants whose settlement failed and remain to be retried
+     * @param payments payments aggregated by this run
+     * @param payouts payout records written by this run
+     */
+    record PayoutRunResult(
+            LocalDate businessDate,
+            int settledTenants,
+            int skippedTenants,
+            List<UUID> failedTenants,
+            long payments,
+            long payouts
+    ) {
+    }
+}
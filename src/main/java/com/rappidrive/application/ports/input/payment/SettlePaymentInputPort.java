@@ -0,0 +1,59 @@
+package com.rappidrive.application.ports.input.payment;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Input port for settling the pending payment of a completed trip with the payment gateway.
+ */
+public interface SettlePaymentInputPort {
+
+    /**
+     * Runs one settlement attempt for a payment.
+     *
+     * @param command the settlement command
+     * @return the outcome of the attempt
+     */
+    SettlementOutcome execute(SettlePaymentCommand command);
+
+    /**
+     * Command for one settlement attempt.
+     *
+     * @param paymentId the payment ID
+     * @param finalAttempt whether the payment must be failed if the gateway is still unavailable
+     * @param deadline when the gateway call must have answered, or null for the gateway's default timeout
+     */
+    record SettlePaymentCommand(
+            UUID paymentId,
+            boolean finalAttempt,
+            Instant deadline
+    ) {
+        public SettlePaymentCommand(UUID paymentId, boolean finalAttempt) {
+            this(paymentId, finalAttempt, null);
+        }
+        
+        public SettlePaymentCommand {
+            Objects.requireNonNull(paymentId, "Payment ID cannot be null");
+        }
+    }
+
+    /**
+     * Outcome of a settlement attempt.
+     */
+    enum SettlementOutcome {
+        /** The gateway confirmed the payment and the trip is PAID. */
+        SETTLED,
+        /** The payment was declined or given up on and the trip is PAYMENT_FAILED. */
+        FAILED,
+        /** The gateway was unavailable; the attempt should be retried later. */
+        RETRY,
+        /**
+         * The final attempt timed out after the charge was sent. The payment stays PENDING and its
+         * entry is parked for reconciliation, since the passenger may have been charged.
+         */
+        UNKNOWN,
+        /** Nothing left to settle, e.g. the payment no longer exists. */
+        DISCARDED
+    }
+}
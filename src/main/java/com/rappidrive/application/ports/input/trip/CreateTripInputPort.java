@@ -21,11 +21,18 @@ public interface CreateTripInputPort {
     
     /**
      * Command record for creating a trip.
+     * With a fare quote token the trip is priced from the quote, which must match the tenant and
+     * route and must not have expired.
      */
     record CreateTripCommand(
         TenantId tenantId,
         UUID passengerId,
         Location pickupLocation,
-        Location dropoffLocation
-    ) {}
+        Location dropoffLocation,
+        String fareQuoteToken
+    ) {
+        public CreateTripCommand(TenantId tenantId, UUID passengerId, Location pickupLocation, Location dropoffLocation) {
+            this(tenantId, passengerId, pickupLocation, dropoffLocation, null);
+        }
+    }
 }
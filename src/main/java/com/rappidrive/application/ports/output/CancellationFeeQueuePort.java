@@ -0,0 +1,105 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Output port for the queue of cancellation fees waiting to be charged through the payment gateway.
+ *
+ * <p>A fee is enqueued in the same transaction that cancels the trip, with the amount of the
+ * trip's {@code TripCancelledEvent}, and removed once the gateway gave a final answer. A fee given
+ * up on is kept as abandoned, never claimed again, for reconciliation. Claiming
+ * works like {@link PaymentSettlementQueuePort}: an entry is leased rather than locked, so gateway
+ * calls run outside any transaction.</p>
+ */
+public interface CancellationFeeQueuePort {
+
+    /**
+     * Enqueues a fee for charging. A trip has at most one fee, so enqueuing it again is a no-op.
+     *
+     * @param charge the fee to charge
+     * @param dueAt when the first attempt is due
+     */
+    void enqueue(CancellationFeeCharge charge, LocalDateTime dueAt);
+
+    /**
+     * Claims due entries, counting one attempt for each and leasing it until {@code leaseUntil}.
+     * Entries claimed concurrently by another node are skipped.
+     *
+     * @param now the current time
+     * @param leaseUntil when the claimed entries become due again unless rescheduled or removed
+     * @param limit maximum number of entries to claim
+     * @return the claimed entries, oldest due first
+     */
+    List<ClaimedCancellationFee> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Makes an entry due again at the given time.
+     *
+     * @param tripId the cancelled trip
+     * @param dueAt when the next attempt is due
+     */
+    void reschedule(UUID tripId, LocalDateTime dueAt);
+
+    /**
+     * Removes an entry once the gateway charged its fee.
+     *
+     * @param tripId the cancelled trip
+     */
+    void remove(UUID tripId);
+
+    /**
+     * Keeps an entry whose fee was given up on as abandoned, so it is never claimed again but
+     * remains for reconciliation.
+     *
+     * @param tripId the cancelled trip
+     */
+    void abandon(UUID tripId);
+
+    /**
+     * Keeps an entry whose fee the gateway declined as declined, so it is never claimed again but
+     * remains for finance to follow up.
+     *
+     * @param tripId the cancelled trip
+     */
+    void decline(UUID tripId);
+
+    /**
+     * A cancellation fee owed by the passenger of a cancelled trip.
+     *
+     * @param tripId the cancelled trip, which also identifies the fee
+     * @param tenantId the trip's tenant
+     * @param fee the amount to charge
+     * @param reason why the fee applies, shown on the charge
+     * @param cancelledAt when the trip was cancelled
+     */
+    record CancellationFeeCharge(
+            UUID tripId,
+            TenantId tenantId,
+            Money fee,
+            String reason,
+            LocalDateTime cancelledAt
+    ) {
+        public CancellationFeeCharge {
+            Objects.requireNonNull(tripId, "Trip ID cannot be null");
+            Objects.requireNonNull(tenantId, "Tenant ID cannot be null");
+            Objects.requireNonNull(fee, "Fee cannot be null");
+            Objects.requireNonNull(reason, "Reason cannot be null");
+            Objects.requireNonNull(cancelledAt, "Cancelled at cannot be null");
+        }
+    }
+
+    /**
+     * A claimed queue entry.
+     *
+     * @param charge the fee to charge
+     * @param attempt the attempt this claim represents, starting at 1
+     */
+    record ClaimedCancellationFee(CancellationFeeCharge charge, int attempt) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Output port for the daily driver payout batch: streams the settled payments of a tenant and
+ * stores the resulting payouts together with a checkpoint.
+ *
+ * <p>A checkpoint marks a tenant's business day as done. It is written in the same transaction as
+ * the day's payouts, so a batch that stopped halfway is resumed by running it again: checkpointed
+ * tenants are skipped and the others are recomputed from scratch.</p>
+ */
+public interface DriverPayoutStorePort {
+
+    /**
+     * @return tenants with at least one payment completed in {@code [from, to)}
+     */
+    List<TenantId> findTenantsWithCompletedPayments(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * @return tenants whose payouts for the day are already stored
+     */
+    Set<TenantId> findCheckpointedTenants(LocalDate businessDate);
+
+    /**
+     * Streams the tenant's payments completed in {@code [from, to)} without loading them
+     * all into memory.
+     *
+     * @param sink receives one call per payment, in no particular order
+     * @return the number of payments streamed
+     */
+    long streamCompletedPayments(TenantId tenantId, LocalDateTime from, LocalDateTime to, CompletedPaymentSink sink);
+
+    /**
+     * Replaces the tenant's payouts for the day and writes its checkpoint, atomically.
+     *
+     * @param paymentCount number of payments the payouts were computed from
+     */
+    void savePayouts(TenantId tenantId, LocalDate businessDate, List<DriverPayout> payouts, long paymentCount);
+
+    /**
+     * Receives a streamed payment as primitive amounts in cents.
+     */
+    @FunctionalInterface
+    interface CompletedPaymentSink {
+        void accept(UUID driverId, Currency currency, boolean cash, long amountCents, long platformFeeCents,
+                    long driverAmountCents);
+    }
+
+    /**
+     * A driver's earnings for one business day and currency, in cents.
+     *
+     * @param cashCollectedCents fares the driver collected in cash and therefore already holds
+     */
+    record DriverPayout(
+            UUID driverId,
+            Currency currency,
+            int tripCount,
+            long grossCents,
+            long platformFeeCents,
+            long driverEarningsCents,
+            long cashCollectedCents
+    ) {
+        /**
+         * What the platform owes the driver; negative when cash fares leave the driver owing fees.
+         */
+        public long netPayoutCents() {
+            return driverEarningsCents - cashCollectedCents;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.valueobjects.Location;
+
+import java.util.UUID;
+
+/**
+ * Output port for feeding driver positions to live trip streams.
+ *
+ * <p>Called on every position a driver reports, so implementations must not block and should
+ * drop positions of drivers whose trip nobody is watching.</p>
+ */
+public interface DriverPositionFeedPort {
+
+    /**
+     * Offers a driver's latest position.
+     *
+     * @param driverId the driver who reported it
+     * @param location where the driver is
+     */
+    void offer(UUID driverId, Location location);
+}
@@ -0,0 +1,41 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.valueobjects.RatingScore;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Port de saída para os agregados de avaliações ativas de cada motorista.
+ *
+ * <p>Os agregados (quantidade, soma e histograma das notas) são mantidos incrementalmente por quem
+ * cria ou reporta avaliações, na mesma transação da mudança, para que o resumo do motorista não
+ * precise ler todas as suas avaliações.</p>
+ */
+public interface DriverRatingStatsPort {
+    
+    /**
+     * Soma {@code delta} avaliações com a nota {@code score} aos agregados do motorista na transação corrente
+     */
+    void adjust(UUID driverId, TenantId tenantId, RatingScore score, int delta);
+    
+    /**
+     * Retorna os agregados do motorista (zerados se ele ainda não tem avaliações)
+     */
+    DriverRatingStats get(UUID driverId);
+    
+    /**
+     * Agregados das avaliações ativas de um motorista.
+     */
+    record DriverRatingStats(long totalRatings, long scoreSum, Map<Integer, Long> distribution) {
+        
+        public static DriverRatingStats empty() {
+            return new DriverRatingStats(0, 0, Map.of(1, 0L, 2, 0L, 3, 0L, 4, 0L, 5, 0L));
+        }
+        
+        public double averageRating() {
+            return totalRatings > 0 ? (double) scoreSum / totalRatings : 0.0;
+        }
+    }
+}
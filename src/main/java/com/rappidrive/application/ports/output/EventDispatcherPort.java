@@ -12,4 +12,18 @@ public interface EventDispatcherPort {
      * @throws Exception on failure
      */
     void dispatch(UUID eventId, String eventType, String payload) throws Exception;
+
+    /**
+     * Dispatches an event together with the id of the aggregate that produced it.
+     * Transports that key or compact by aggregate (partitioned brokers, the local event log)
+     * override this; the default ignores the aggregate id.
+     * @param eventId unique event id
+     * @param aggregateId id of the aggregate that produced the event, may be null
+     * @param eventType event type
+     * @param payload JSON payload
+     * @throws Exception on failure
+     */
+    default void dispatch(UUID eventId, UUID aggregateId, String eventType, String payload) throws Exception {
+        dispatch(eventId, eventType, payload);
+    }
 }
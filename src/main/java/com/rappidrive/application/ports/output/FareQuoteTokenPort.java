@@ -0,0 +1,39 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.exceptions.InvalidFareQuoteException;
+import com.rappidrive.domain.valueobjects.FareQuote;
+
+/**
+ * Output port for encoding fare quotes into tamper-proof tokens handed to clients.
+ * The token carries the whole quote, so verifying it needs no storage lookup.
+ */
+public interface FareQuoteTokenPort {
+    
+    /**
+     * Encodes and signs a quote.
+     * 
+     * @param quote the quote to sign
+     * @return opaque URL-safe token
+     */
+    String sign(FareQuote quote);
+    
+    /**
+     * Checks the token signature and decodes the quote. Expiry, tenant and route are left to the caller.
+     * 
+     * @param token token previously returned by {@link #sign}
+     * @return the signed quote
+     * @throws InvalidFareQuoteException if the token is malformed or its signature does not match
+     */
+    FareQuote verify(String token);
+    
+    /**
+     * Decodes a token that was verified when its trip was created and has been stored with the trip
+     * since. The signature is not checked again, so a trip can still be charged after the signing
+     * secret has rotated past its token. Never use it for tokens received from clients.
+     * 
+     * @param token token stored with a trip
+     * @return the quote it carries
+     * @throws InvalidFareQuoteException if the token is malformed
+     */
+    FareQuote decode(String token);
+}
@@ -0,0 +1,53 @@
+package com.rappidrive.application.ports.output;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Output port for idempotency keys: runs an operation at most once per key and remembers the
+ * resource it produced.
+ *
+ * <p>A key is reserved before the operation runs, so of several concurrent requests with the same
+ * key only one executes; the others wait for its outcome. A later request with the key gets the
+ * stored outcome without running the operation. If the operation throws, the reservation is
+ * released and the key may be retried.</p>
+ */
+public interface IdempotencyStorePort {
+
+    /**
+     * Runs the operation unless the key was already used.
+     *
+     * @param request the key and a fingerprint of the request it was sent with
+     * @param operation the operation, returning the id of the resource it created or changed
+     * @return the resource id and whether it comes from an earlier execution
+     * @throws com.rappidrive.application.exceptions.IdempotencyKeyConflictException if the key was
+     *         used for a different request, or its first execution did not finish in time
+     */
+    IdempotentResult execute(IdempotentRequest request, Supplier<UUID> operation);
+
+    /**
+     * @param scope the operation the key belongs to, e.g. {@code payment}
+     * @param key the client-supplied key
+     * @param fingerprint the request's parameters; the same key with another fingerprint is rejected
+     */
+    record IdempotentRequest(String scope, String key, String fingerprint) {
+        public IdempotentRequest {
+            Objects.requireNonNull(scope, "Scope cannot be null");
+            Objects.requireNonNull(fingerprint, "Fingerprint cannot be null");
+            if (key == null || key.isBlank()) {
+                throw new IllegalArgumentException("Idempotency key cannot be null or empty");
+            }
+            if (key.length() > 255) {
+                throw new IllegalArgumentException("Idempotency key must not exceed 255 characters");
+            }
+        }
+    }
+
+    /**
+     * @param resourceId the id returned by the operation
+     * @param replayed true if the operation ran for an earlier request with the same key
+     */
+    record IdempotentResult(UUID resourceId, boolean replayed) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.enums.JournalEntryType;
+import com.rappidrive.domain.valueobjects.JournalEntry;
+import com.rappidrive.domain.valueobjects.LedgerAccount;
+
+import java.util.UUID;
+
+/**
+ * Output port for the append-only double-entry ledger.
+ */
+public interface LedgerRepositoryPort {
+
+    /**
+     * Appends a journal entry and its postings, joining the caller's transaction if there is one.
+     *
+     * @return false if an entry of the same type for the same reference was already recorded, in
+     *         which case nothing is written
+     */
+    boolean append(JournalEntry entry);
+
+    boolean isRecorded(JournalEntryType type, UUID referenceId);
+
+    /**
+     * Current balance of an account in cents (debits minus credits); zero for an account that
+     * has no postings.
+     */
+    long balanceCents(LedgerAccount account);
+}
@@ -0,0 +1,26 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.entities.Notification;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Port de saída para agrupar notificações do mesmo usuário em um digest.
+ *
+ * <p>Um digest é uma notificação PENDING comum, cuja janela vai da criação até o push agendado.
+ * Enquanto a janela está aberta, notificações do mesmo tipo e prioridade para o mesmo usuário são
+ * fundidas nela em vez de gerar uma nova linha e um novo push.</p>
+ */
+public interface NotificationCoalescingPort {
+    
+    /**
+     * Funde a notificação no digest aberto mais recente do mesmo usuário, tipo e prioridade,
+     * criado a partir de {@code openSince} e cujo push ainda não começou. O digest passa a ter o
+     * conteúdo da notificação mais recente e a contagem de notificações agrupadas em
+     * {@code data.digestCount}.
+     * 
+     * @return o digest atualizado, ou vazio se não há janela aberta
+     */
+    Optional<Notification> mergeIntoOpenDigest(Notification notification, LocalDateTime openSince);
+}
@@ -0,0 +1,77 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.entities.Notification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Output port for the queue of push notifications waiting to be delivered.
+ *
+ * <p>An entry is enqueued in the same transaction that stores the PENDING notification and removed
+ * when the notification is marked SENT or FAILED. Claiming leases entries instead of locking them,
+ * like {@link PaymentSettlementQueuePort}, so provider calls run outside any transaction. Results
+ * are written back for a whole batch at once.</p>
+ */
+public interface NotificationDeliveryQueuePort {
+
+    /**
+     * Enqueues a stored notification for delivery.
+     *
+     * @param notificationId the notification ID
+     * @param dueAt when the first attempt is due
+     */
+    void enqueue(UUID notificationId, LocalDateTime dueAt);
+
+    /**
+     * Claims due entries, counting one attempt for each and leasing it until {@code leaseUntil}.
+     * Entries claimed concurrently by another node are skipped.
+     *
+     * @param now the current time
+     * @param leaseUntil when the claimed entries become due again unless rescheduled or removed
+     * @param limit maximum number of entries to claim
+     * @return the claimed entries with their notifications
+     */
+    List<ClaimedDelivery> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Marks notifications SENT or FAILED and removes their entries, in one transaction.
+     *
+     * @param sent notifications the provider accepted
+     * @param failed notifications the provider rejected or that ran out of attempts
+     * @param at when the outcome was known
+     */
+    void complete(Collection<UUID> sent, Collection<UUID> failed, LocalDateTime at);
+
+    /**
+     * Makes entries due again, each at its own time.
+     *
+     * @param dueAtById when the next attempt of each notification is due
+     */
+    void reschedule(Map<UUID, LocalDateTime> dueAtById);
+
+    /**
+     * Makes entries that were claimed but never sent due again, each at its own time, giving back
+     * the attempt their claim counted.
+     *
+     * @param dueAtById when each notification is due again
+     */
+    void defer(Map<UUID, LocalDateTime> dueAtById);
+
+    /**
+     * @return the number of notifications waiting for delivery, leased ones included
+     */
+    long depth();
+
+    /**
+     * A claimed queue entry.
+     *
+     * @param notification the notification to deliver
+     * @param attempt the attempt this claim represents, starting at 1
+     */
+    record ClaimedDelivery(Notification notification, int attempt) {
+    }
+}
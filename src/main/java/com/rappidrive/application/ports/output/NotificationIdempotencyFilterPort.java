@@ -0,0 +1,41 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.valueobjects.TenantId;
+
+/**
+ * Port de saída para o filtro probabilístico de chaves de idempotência de notificações.
+ *
+ * <p>O filtro conhece as chaves vistas recentemente por tenant. Uma resposta negativa é
+ * definitiva dentro da janela do filtro, então a consulta ao banco pode ser evitada; uma resposta
+ * positiva pode ser falso positivo e precisa ser confirmada no banco. A restrição única de
+ * {@code idempotency_key} continua sendo a garantia final.</p>
+ */
+public interface NotificationIdempotencyFilterPort {
+    
+    /**
+     * Consulta o filtro; só {@link Lookup#DEFINITELY_ABSENT} dispensa a consulta ao banco
+     */
+    Lookup check(TenantId tenantId, String idempotencyKey);
+    
+    /**
+     * Registra uma chave usada por uma notificação
+     */
+    void add(TenantId tenantId, String idempotencyKey);
+    
+    /**
+     * Registra que uma resposta {@link Lookup#MAYBE} não foi confirmada no banco
+     */
+    void recordFalsePositive(TenantId tenantId);
+    
+    /**
+     * Resposta do filtro para uma chave
+     */
+    enum Lookup {
+        /** A chave certamente não foi vista recentemente no tenant */
+        DEFINITELY_ABSENT,
+        /** A chave pode ter sido vista; pode ser falso positivo */
+        MAYBE,
+        /** O filtro ainda não foi reconstruído ou está desligado, então não sabe responder */
+        NOT_READY
+    }
+}
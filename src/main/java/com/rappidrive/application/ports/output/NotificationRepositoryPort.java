@@ -5,7 +5,6 @@ import com.rappidrive.domain.enums.NotificationStatus;
 import com.rappidrive.domain.valueobjects.TenantId;
 import com.rappidrive.domain.valueobjects.UserId;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +19,14 @@ public interface NotificationRepositoryPort {
      */
     Notification save(Notification notification);
     
+    /**
+     * Insere uma notificação nova com chave de idempotência, a menos que a chave já exista.
+     * Uma chave repetida não viola a restrição única, então a transação corrente segue válida.
+     * 
+     * @return a notificação inserida, ou vazio se a chave já estava em uso
+     */
+    Optional<Notification> saveIfIdempotencyKeyAbsent(Notification notification);
+    
     /**
      * Busca notificação por ID
      */
@@ -51,11 +58,6 @@ public interface NotificationRepositoryPort {
      */
     Long countUnreadByUserId(UserId userId, TenantId tenantId);
     
-    /**
-     * Deleta notificações antigas (soft-delete)
-     */
-    void deleteOldNotifications(LocalDateTime cutoffDate);
-    
     /**
      * Verifica se existe notificação com chave de idempotência
      */
@@ -2,14 +2,23 @@ package com.rappidrive.application.ports.output;
 
 import com.rappidrive.domain.entities.Notification;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * Port de saída para serviço externo de notificações push (FCM).
+ *
+ * <p>Cada implementação é um provedor. O worker de entrega agrupa as notificações pendentes por
+ * provedor ({@link #supports}) e as envia em lotes de até {@link #maxBatchSize()}, respeitando
+ * {@link #maxBatchesPerSecond()}.</p>
  */
 public interface NotificationServicePort {
     
     /**
      * Envia push notification via Firebase Cloud Messaging
-     * 
+     *
      * @param notification Notificação a ser enviada
      * @return true se enviada com sucesso, false caso contrário
      */
@@ -19,4 +28,67 @@ public interface NotificationServicePort {
      * Verifica se serviço de push está disponível
      */
     boolean isAvailable();
+    
+    /**
+     * Nome do provedor, usado em métricas e logs
+     */
+    default String providerName() {
+        return "fcm";
+    }
+    
+    /**
+     * Verifica se o provedor entrega esta notificação
+     */
+    default boolean supports(Notification notification) {
+        return true;
+    }
+    
+    /**
+     * Máximo de notificações por chamada em lote
+     */
+    default int maxBatchSize() {
+        return 500;
+    }
+    
+    /**
+     * Máximo de chamadas em lote por segundo aceitas pelo provedor
+     */
+    default int maxBatchesPerSecond() {
+        return 10;
+    }
+    
+    /**
+     * Envia um lote de push notifications em uma chamada. A implementação padrão envia uma a uma;
+     * provedores com API de lote devem sobrescrevê-la.
+     *
+     * <p>Uma exceção indica falha transitória do lote inteiro, que é reenviado depois.</p>
+     *
+     * @param notifications Notificações a serem enviadas, no máximo {@link #maxBatchSize()}
+     * @return notificações aceitas e recusadas; as ausentes de ambos são reenviadas depois
+     */
+    default BatchResult sendBatch(List<Notification> notifications) {
+        Set<UUID> delivered = new HashSet<>();
+        Set<UUID> rejected = new HashSet<>();
+        for (Notification notification : notifications) {
+            if (sendPushNotification(notification)) {
+                delivered.add(notification.getId());
+            } else {
+                rejected.add(notification.getId());
+            }
+        }
+        return new BatchResult(delivered, rejected);
+    }
+    
+    /**
+     * Resultado de um envio em lote.
+     *
+     * @param delivered notificações aceitas pelo provedor
+     * @param rejected notificações recusadas definitivamente (ex.: token inválido)
+     */
+    record BatchResult(Set<UUID> delivered, Set<UUID> rejected) {
+        public BatchResult {
+            delivered = Set.copyOf(delivered);
+            rejected = Set.copyOf(rejected);
+        }
+    }
 }
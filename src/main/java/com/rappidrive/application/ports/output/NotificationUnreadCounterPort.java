@@ -0,0 +1,23 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.UserId;
+
+/**
+ * Port de saída para os contadores de notificações não lidas por usuário.
+ *
+ * <p>Os contadores são mantidos incrementalmente por quem cria, lê ou remove notificações, na
+ * mesma transação da mudança, para que o badge não precise contar notificações.</p>
+ */
+public interface NotificationUnreadCounterPort {
+    
+    /**
+     * Soma {@code delta} ao contador do usuário na transação corrente (nunca fica negativo)
+     */
+    void adjust(UserId userId, TenantId tenantId, long delta);
+    
+    /**
+     * Retorna o número de notificações não lidas do usuário
+     */
+    long get(UserId userId, TenantId tenantId);
+}
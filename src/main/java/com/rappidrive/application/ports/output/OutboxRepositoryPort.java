@@ -13,11 +13,15 @@ public interface OutboxRepositoryPort {
 
     List<OutboxEvent> findPendingBatch(LocalDateTime now, int limit);
 
-    void markSent(UUID id);
+    /**
+     * Status updates take the event's {@code createdAt} as well, so a partitioned store can go
+     * straight to the row's partition.
+     */
+    void markSent(UUID id, LocalDateTime createdAt);
 
-    void incrementAttempts(UUID id, LocalDateTime nextAttemptAt);
+    void incrementAttempts(UUID id, LocalDateTime createdAt, LocalDateTime nextAttemptAt);
 
-    void markFailed(UUID id);
+    void markFailed(UUID id, LocalDateTime createdAt);
 
     Optional<OutboxEvent> findById(UUID id);
 }
@@ -2,6 +2,9 @@ package com.rappidrive.application.ports.output;
 
 import com.rappidrive.domain.valueobjects.Money;
 import com.rappidrive.domain.valueobjects.PaymentMethod;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.time.Instant;
 
 /**
  * Output port for payment gateway integration.
@@ -20,21 +23,37 @@ public interface PaymentGatewayPort {
     /**
      * Refunds a payment through the payment gateway.
      *
+     * @param tenantId the tenant the payment belongs to
      * @param transactionId the original transaction ID
      * @param amount the amount to refund
      * @return the refund response
      */
-    PaymentGatewayResponse refundPayment(String transactionId, Money amount);
+    PaymentGatewayResponse refundPayment(TenantId tenantId, String transactionId, Money amount);
     
     /**
      * Payment gateway request.
+     *
+     * @param tenantId the tenant charged for gateway capacity
+     * @param idempotencyKey key the gateway deduplicates the charge by, or null; only requests
+     *                       carrying one may be sent to the gateway more than once
+     * @param deadline when the caller stops waiting for the response, or null for the default timeout
      */
     record PaymentGatewayRequest(
+            TenantId tenantId,
             Money amount,
             PaymentMethod paymentMethod,
-            String description
+            String description,
+            String idempotencyKey,
+            Instant deadline
     ) {
+        public PaymentGatewayRequest(TenantId tenantId, Money amount, PaymentMethod paymentMethod, String description) {
+            this(tenantId, amount, paymentMethod, description, null, null);
+        }
+        
         public PaymentGatewayRequest {
+            if (tenantId == null) {
+                throw new IllegalArgumentException("Tenant ID cannot be null");
+            }
             if (amount == null) {
                 throw new IllegalArgumentException("Amount cannot be null");
             }
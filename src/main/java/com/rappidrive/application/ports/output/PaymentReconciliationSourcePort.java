@@ -0,0 +1,26 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.enums.PaymentStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Output port streaming our payments for reconciliation against gateway settlements.
+ */
+public interface PaymentReconciliationSourcePort {
+
+    /**
+     * Streams the payments created in {@code [from, to)} that reached the gateway to the sink,
+     * ordered by gateway transaction id in ordinal string order (the order of
+     * {@link String#compareTo}). Payments are not held in memory.
+     *
+     * @return the number of payments streamed
+     */
+    long streamOrderedByTransactionId(LocalDateTime from, LocalDateTime to, Consumer<LedgerPayment> sink);
+
+    record LedgerPayment(UUID paymentId, UUID tenantId, String transactionId, long amountCents,
+                         PaymentStatus status) {
+    }
+}
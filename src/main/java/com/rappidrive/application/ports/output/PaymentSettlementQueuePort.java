@@ -0,0 +1,78 @@
+package com.rappidrive.application.ports.output;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port for the queue of payments waiting to be settled with the payment gateway.
+ *
+ * <p>An entry is enqueued in the same transaction that completes the trip and removed once the
+ * trip reflects the final payment state. Claiming an entry leases it until a given time instead
+ * of locking it, so gateway calls run outside any transaction and an entry whose worker died is
+ * picked up again when its lease runs out.</p>
+ */
+public interface PaymentSettlementQueuePort {
+
+    /**
+     * Enqueues a payment for settlement.
+     *
+     * @param paymentId the payment ID
+     * @param dueAt when the first settlement attempt is due
+     */
+    void enqueue(UUID paymentId, LocalDateTime dueAt);
+
+    /**
+     * Claims due entries, counting one attempt for each and leasing it until {@code leaseUntil}.
+     * Entries claimed concurrently by another node are skipped.
+     *
+     * @param now the current time
+     * @param leaseUntil when the claimed entries become due again unless rescheduled or removed
+     * @param limit maximum number of entries to claim
+     * @return the claimed entries, oldest due first
+     */
+    List<ClaimedSettlement> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Makes an entry due again at the given time.
+     *
+     * @param paymentId the payment ID
+     * @param dueAt when the next attempt is due
+     */
+    void reschedule(UUID paymentId, LocalDateTime dueAt);
+
+    /**
+     * Parks an entry for reconciliation: the gateway may have charged the payment, so it is neither
+     * retried nor failed automatically. Parked entries are only claimed by {@link #claimParked}.
+     *
+     * @param paymentId the payment ID
+     */
+    void park(UUID paymentId);
+
+    /**
+     * Claims parked entries due for reconciliation, leasing each until {@code leaseUntil} without
+     * counting an attempt. Entries claimed concurrently by another node are skipped.
+     *
+     * @param now the current time
+     * @param leaseUntil when the claimed entries become due again unless removed
+     * @param limit maximum number of entries to claim
+     * @return the claimed entries, oldest due first
+     */
+    List<ClaimedSettlement> claimParked(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Removes an entry once its payment is settled.
+     *
+     * @param paymentId the payment ID
+     */
+    void remove(UUID paymentId);
+
+    /**
+     * A claimed queue entry.
+     *
+     * @param paymentId the payment ID
+     * @param attempt the attempt this claim represents, starting at 1
+     */
+    record ClaimedSettlement(UUID paymentId, int attempt) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.util.List;
+
+/**
+ * Output port for tenant pricing rule persistence operations.
+ */
+public interface PricingRuleRepositoryPort {
+
+    /**
+     * Finds all pricing rules of a tenant, in the order they were declared.
+     *
+     * @param tenantId the tenant ID
+     * @return the tenant's rules, empty if it has none
+     */
+    List<PricingRule> findByTenantId(TenantId tenantId);
+
+    /**
+     * Replaces all pricing rules of a tenant in one transaction.
+     *
+     * @param tenantId the tenant ID
+     * @param rules the new rules, in declaration order
+     * @return the saved rules
+     */
+    List<PricingRule> replaceAll(TenantId tenantId, List<PricingRule> rules);
+}
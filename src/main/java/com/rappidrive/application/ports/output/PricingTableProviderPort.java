@@ -0,0 +1,19 @@
+package com.rappidrive.application.ports.output;
+
+import com.rappidrive.domain.services.PricingTable;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+/**
+ * Output port for the compiled pricing tables of tenants.
+ * Implementations compile a tenant's rules once and keep the table until the rules change.
+ */
+public interface PricingTableProviderPort {
+
+    /**
+     * Gets the compiled pricing table of a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @return the tenant's table, or {@link PricingTable#standard()} if it has no rules
+     */
+    PricingTable forTenant(TenantId tenantId);
+}
@@ -23,6 +23,11 @@ public interface RatingRepositoryPort {
      */
     Optional<Rating> findById(UUID id);
     
+    /**
+     * Busca avaliação por ID bloqueando-a até o fim da transação corrente.
+     */
+    Optional<Rating> findByIdForUpdate(UUID id);
+    
     /**
      * Busca avaliação específica por viagem, avaliador e tipo.
      */
@@ -0,0 +1,52 @@
+package com.rappidrive.application.ports.output;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Output port for the mismatch report written by a reconciliation run.
+ */
+public interface ReconciliationReportPort {
+
+    /**
+     * Creates (or replaces) a report.
+     *
+     * @param report the report file, relative to the configured report directory
+     * @return a writer that must be closed once the run is over
+     */
+    MismatchWriter create(Path report);
+
+    interface MismatchWriter extends AutoCloseable {
+
+        void write(Mismatch mismatch);
+
+        @Override
+        void close();
+    }
+
+    enum MismatchType {
+        /** Our payment has no settlement line. */
+        MISSING_AT_GATEWAY,
+        /** A settlement line matches none of our payments. */
+        MISSING_IN_LEDGER,
+        AMOUNT_MISMATCH,
+        STATUS_MISMATCH,
+        /** The settlement file lists the same transaction more than once. */
+        DUPLICATE_AT_GATEWAY
+    }
+
+    /**
+     * A difference between the two sides. Fields of a side that has no record are null.
+     */
+    record Mismatch(
+            MismatchType type,
+            String transactionId,
+            UUID paymentId,
+            UUID tenantId,
+            Long ledgerAmountCents,
+            Long gatewayAmountCents,
+            String ledgerStatus,
+            String gatewayStatus
+    ) {
+    }
+}
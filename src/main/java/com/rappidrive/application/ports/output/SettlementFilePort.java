@@ -0,0 +1,49 @@
+package com.rappidrive.application.ports.output;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Output port for settlement exports downloaded from the payment gateway.
+ */
+public interface SettlementFilePort {
+
+    /**
+     * Opens a settlement file and returns its records ordered by transaction id (ordinal string
+     * order), whatever the order of the file itself.
+     *
+     * @param file the file, relative to the configured settlement directory
+     * @param format the file format
+     * @return the records; must be closed
+     */
+    SettlementCursor openSortedByTransactionId(Path file, Format format);
+
+    /**
+     * Forward-only iterator over the records; holds the file (and any temporary files) until closed.
+     */
+    interface SettlementCursor extends Iterator<SettlementRecord>, AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * One line of a settlement export.
+     *
+     * @param transactionId the gateway transaction id
+     * @param amountCents the settled amount in cents
+     * @param status the gateway status as written in the file (e.g. SETTLED, REFUNDED)
+     */
+    record SettlementRecord(String transactionId, long amountCents, String status) {
+        public SettlementRecord {
+            Objects.requireNonNull(transactionId, "Transaction ID cannot be null");
+            Objects.requireNonNull(status, "Status cannot be null");
+        }
+    }
+}
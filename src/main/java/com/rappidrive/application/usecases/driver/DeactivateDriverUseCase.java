@@ -0,0 +1,27 @@
+package com.rappidrive.application.usecases.driver;
+
+import com.rappidrive.application.ports.input.driver.DeactivateDriverInputPort;
+import com.rappidrive.application.ports.output.DriverRepositoryPort;
+import com.rappidrive.domain.entities.Driver;
+import com.rappidrive.domain.exceptions.DriverNotFoundException;
+
+import java.util.UUID;
+
+public class DeactivateDriverUseCase implements DeactivateDriverInputPort {
+    
+    private final DriverRepositoryPort driverRepository;
+
+    public DeactivateDriverUseCase(DriverRepositoryPort driverRepository) {
+        this.driverRepository = driverRepository;
+    }
+    
+    @Override
+    public Driver execute(UUID driverId) {
+        Driver driver = driverRepository.findById(driverId)
+            .orElseThrow(() -> new DriverNotFoundException(driverId));
+        
+        driver.deactivate();
+        
+        return driverRepository.save(driver);
+    }
+}
@@ -1,6 +1,7 @@
 package com.rappidrive.application.usecases.driver;
 
 import com.rappidrive.application.ports.input.driver.UpdateDriverLocationInputPort;
+import com.rappidrive.application.ports.output.DriverPositionFeedPort;
 import com.rappidrive.application.ports.output.DriverRepositoryPort;
 import com.rappidrive.domain.entities.Driver;
 import com.rappidrive.domain.exceptions.DriverNotFoundException;
@@ -8,13 +9,16 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Use case for updating driver location.
+ * Feeds the new position to live trip streams once it is saved.
  */
 public class UpdateDriverLocationUseCase implements UpdateDriverLocationInputPort {
     
     private final DriverRepositoryPort driverRepository;
+    private final DriverPositionFeedPort positionFeed;
 
-    public UpdateDriverLocationUseCase(DriverRepositoryPort driverRepository) {
+    public UpdateDriverLocationUseCase(DriverRepositoryPort driverRepository, DriverPositionFeedPort positionFeed) {
         this.driverRepository = driverRepository;
+        this.positionFeed = positionFeed;
     }
     
     @Override
@@ -24,6 +28,8 @@ public class UpdateDriverLocationUseCase implements UpdateDriverLocationInputPor
         
         driver.updateLocation(command.location());
         
-        return driverRepository.save(driver);
+        Driver saved = driverRepository.save(driver);
+        positionFeed.offer(command.driverId(), command.location());
+        return saved;
     }
 }
@@ -1,24 +1,22 @@
 package com.rappidrive.application.usecases.notification;
 
 import com.rappidrive.application.ports.input.notification.GetUnreadCountInputPort;
-import com.rappidrive.application.ports.output.NotificationRepositoryPort;
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
 
 /**
  * Use case para contar notificações não lidas.
+ * Lê o contador materializado em vez de contar as notificações a cada consulta.
  */
 public class GetUnreadCountUseCase implements GetUnreadCountInputPort {
     
-    private final NotificationRepositoryPort notificationRepository;
+    private final NotificationUnreadCounterPort unreadCounters;
     
-    public GetUnreadCountUseCase(NotificationRepositoryPort notificationRepository) {
-        this.notificationRepository = notificationRepository;
+    public GetUnreadCountUseCase(NotificationUnreadCounterPort unreadCounters) {
+        this.unreadCounters = unreadCounters;
     }
     
     @Override
     public Long execute(GetUnreadCountQuery query) {
-        return notificationRepository.countUnreadByUserId(
-            query.userId(),
-            query.tenantId()
-        );
+        return unreadCounters.get(query.userId(), query.tenantId());
     }
 }
@@ -2,6 +2,7 @@ package com.rappidrive.application.usecases.notification;
 
 import com.rappidrive.application.ports.input.notification.MarkNotificationAsReadInputPort;
 import com.rappidrive.application.ports.output.NotificationRepositoryPort;
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
 import com.rappidrive.domain.entities.Notification;
 import com.rappidrive.domain.exceptions.NotificationNotFoundException;
 
@@ -11,12 +12,16 @@ import com.rappidrive.domain.exceptions.NotificationNotFoundException;
 public class MarkNotificationAsReadUseCase implements MarkNotificationAsReadInputPort {
     
     private final NotificationRepositoryPort notificationRepository;
+    private final NotificationUnreadCounterPort unreadCounters;
     
-    public MarkNotificationAsReadUseCase(NotificationRepositoryPort notificationRepository) {
+    public MarkNotificationAsReadUseCase(NotificationRepositoryPort notificationRepository,
+                                         NotificationUnreadCounterPort unreadCounters) {
         this.notificationRepository = notificationRepository;
+        this.unreadCounters = unreadCounters;
     }
     
     @Override
+    @org.springframework.transaction.annotation.Transactional
     public void execute(MarkAsReadCommand command) {
         Notification notification = notificationRepository
             .findById(command.notificationId())
@@ -37,6 +42,7 @@ public class MarkNotificationAsReadUseCase implements MarkNotificationAsReadInpu
         if (notification.isUnread()) {
             notification.markAsRead();
             notificationRepository.save(notification);
+            unreadCounters.adjust(notification.getUserId(), notification.getTenantId(), -1);
         }
     }
 }
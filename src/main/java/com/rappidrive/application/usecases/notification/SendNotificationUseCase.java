@@ -1,39 +1,73 @@
 package com.rappidrive.application.usecases.notification;
 
+import com.rappidrive.application.exceptions.IdempotencyKeyConflictException;
 import com.rappidrive.application.metrics.DriverAssignmentAttemptStatus;
 import com.rappidrive.application.metrics.DriverAssignmentStage;
 import com.rappidrive.application.ports.input.notification.SendNotificationInputPort;
 import com.rappidrive.application.ports.output.DriverAssignmentMetricsPort;
+import com.rappidrive.application.ports.output.NotificationCoalescingPort;
+import com.rappidrive.application.ports.output.NotificationDeliveryQueuePort;
+import com.rappidrive.application.ports.output.NotificationIdempotencyFilterPort;
+import com.rappidrive.application.ports.output.NotificationIdempotencyFilterPort.Lookup;
 import com.rappidrive.application.ports.output.NotificationRepositoryPort;
-import com.rappidrive.application.ports.output.NotificationServicePort;
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
 import com.rappidrive.application.ports.output.TelemetryPort;
 import com.rappidrive.domain.entities.Notification;
+import com.rappidrive.domain.enums.NotificationPriority;
 import com.rappidrive.domain.valueobjects.NotificationContent;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Stores a notification as PENDING and, if its priority calls for a push, enqueues it for the
+ * delivery worker in the same transaction. The push provider is never called on the caller's
+ * thread. The recipient's unread counter is raised in the same transaction.
+ *
+ * <p>An idempotency key the filter has certainly not seen skips the lookup by key: the insert
+ * itself ignores a key that exists after all, and only then is the existing notification read.</p>
+ *
+ * <p>Priorities with a coalescing window are sent as digests: a notification opens a window whose
+ * push is due when it closes, and further notifications of the same type and priority for the same
+ * user are merged into it until then, costing neither a row nor a push. High priority is never
+ * delayed, and keyed notifications are stored on their own so a retry cannot be merged twice.</p>
+ */
 public class SendNotificationUseCase implements SendNotificationInputPort {
     
     private final NotificationRepositoryPort notificationRepository;
-    private final NotificationServicePort notificationService;
+    private final NotificationDeliveryQueuePort deliveryQueue;
+    private final NotificationUnreadCounterPort unreadCounters;
+    private final NotificationIdempotencyFilterPort idempotencyFilter;
+    private final NotificationCoalescingPort coalescing;
+    private final Map<NotificationPriority, Duration> coalescingWindows;
     private final TelemetryPort telemetryPort;
     private final DriverAssignmentMetricsPort metricsPort;
     
     public SendNotificationUseCase(
             NotificationRepositoryPort notificationRepository,
-            NotificationServicePort notificationService,
+            NotificationDeliveryQueuePort deliveryQueue,
+            NotificationUnreadCounterPort unreadCounters,
+            NotificationIdempotencyFilterPort idempotencyFilter,
+            NotificationCoalescingPort coalescing,
+            Map<NotificationPriority, Duration> coalescingWindows,
             TelemetryPort telemetryPort,
             DriverAssignmentMetricsPort metricsPort) {
         this.notificationRepository = notificationRepository;
-        this.notificationService = notificationService;
+        this.deliveryQueue = deliveryQueue;
+        this.unreadCounters = unreadCounters;
+        this.idempotencyFilter = idempotencyFilter;
+        this.coalescing = coalescing;
+        this.coalescingWindows = Map.copyOf(coalescingWindows);
         this.telemetryPort = telemetryPort;
         this.metricsPort = metricsPort;
     }
     
     @Override
+    @org.springframework.transaction.annotation.Transactional
     public Notification execute(SendNotificationCommand command) {
         Map<String, String> attributes = telemetryAttributes(command);
         return telemetryPort.traceUseCase("driver.notify", attributes, () -> executeWithMetrics(command));
@@ -54,12 +88,19 @@ public class SendNotificationUseCase implements SendNotificationInputPort {
     }
 
     private Notification doSend(SendNotificationCommand command) {
-        if (command.idempotencyKey() != null && !command.idempotencyKey().isBlank()) {
-            Optional<Notification> existing = notificationRepository
-                .findByIdempotencyKey(command.idempotencyKey(), command.tenantId());
-            
-            if (existing.isPresent()) {
-                return existing.get();
+        boolean keyed = command.idempotencyKey() != null && !command.idempotencyKey().isBlank();
+        if (keyed) {
+            Lookup lookup = idempotencyFilter.check(command.tenantId(), command.idempotencyKey());
+            if (lookup != Lookup.DEFINITELY_ABSENT) {
+                Optional<Notification> existing = notificationRepository
+                    .findByIdempotencyKey(command.idempotencyKey(), command.tenantId());
+                
+                if (existing.isPresent()) {
+                    return existing.get();
+                }
+                if (lookup == Lookup.MAYBE) {
+                    idempotencyFilter.recordFalsePositive(command.tenantId());
+                }
             }
         }
         
@@ -77,22 +118,45 @@ public class SendNotificationUseCase implements SendNotificationInputPort {
             command.idempotencyKey()
         );
         
-        Notification savedNotification = notificationRepository.save(notification);
+        LocalDateTime dueAt = LocalDateTime.now();
+        Duration window = coalescingWindow(notification, keyed);
+        if (!window.isZero()) {
+            Optional<Notification> digest = coalescing.mergeIntoOpenDigest(notification, dueAt.minus(window));
+            if (digest.isPresent()) {
+                return digest.get();
+            }
+            dueAt = dueAt.plus(window);
+        }
         
-        if (savedNotification.getPriority().shouldSendPush() && notificationService.isAvailable()) {
-            boolean sent = notificationService.sendPushNotification(savedNotification);
-            if (sent) {
-                savedNotification.markAsSent();
-                notificationRepository.save(savedNotification);
-            } else {
-                savedNotification.markAsFailed();
-                notificationRepository.save(savedNotification);
+        Notification savedNotification;
+        if (keyed) {
+            Optional<Notification> inserted = notificationRepository.saveIfIdempotencyKeyAbsent(notification);
+            idempotencyFilter.add(command.tenantId(), command.idempotencyKey());
+            if (inserted.isEmpty()) {
+                // key first used on another node, before the filter window or by a concurrent send
+                return notificationRepository.findByIdempotencyKey(command.idempotencyKey(), command.tenantId())
+                    .orElseThrow(() -> IdempotencyKeyConflictException.reusedForDifferentRequest(command.idempotencyKey()));
             }
+            savedNotification = inserted.get();
+        } else {
+            savedNotification = notificationRepository.save(notification);
+        }
+        unreadCounters.adjust(savedNotification.getUserId(), savedNotification.getTenantId(), 1);
+        
+        if (savedNotification.getPriority().shouldSendPush()) {
+            deliveryQueue.enqueue(savedNotification.getId(), dueAt);
         }
         
         return savedNotification;
     }
 
+    private Duration coalescingWindow(Notification notification, boolean keyed) {
+        if (keyed || notification.isHighPriority()) {
+            return Duration.ZERO;
+        }
+        return coalescingWindows.getOrDefault(notification.getPriority(), Duration.ZERO);
+    }
+
     private Map<String, String> telemetryAttributes(SendNotificationCommand command) {
         Map<String, String> attributes = new HashMap<>();
         attributes.put("stage", "driver.notify");
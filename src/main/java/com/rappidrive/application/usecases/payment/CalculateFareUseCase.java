@@ -2,19 +2,23 @@ package com.rappidrive.application.usecases.payment;
 
 import com.rappidrive.application.ports.input.payment.CalculateFareInputPort;
 import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.application.ports.output.PricingTableProviderPort;
 import com.rappidrive.domain.entities.Fare;
 import com.rappidrive.domain.entities.FareConfiguration;
 import com.rappidrive.domain.exceptions.FareConfigurationNotFoundException;
 
 /**
- * Use case for calculating trip fares.
+ * Use case for calculating trip fares with the tenant's pricing rules.
  */
 public class CalculateFareUseCase implements CalculateFareInputPort {
     
     private final FareConfigurationRepositoryPort fareConfigurationRepository;
+    private final PricingTableProviderPort pricingTableProvider;
     
-    public CalculateFareUseCase(FareConfigurationRepositoryPort fareConfigurationRepository) {
+    public CalculateFareUseCase(FareConfigurationRepositoryPort fareConfigurationRepository,
+                                PricingTableProviderPort pricingTableProvider) {
         this.fareConfigurationRepository = fareConfigurationRepository;
+        this.pricingTableProvider = pricingTableProvider;
     }
     
     @Override
@@ -26,6 +30,7 @@ public class CalculateFareUseCase implements CalculateFareInputPort {
         // Calculate fare using domain entity
         return Fare.calculate(
                 config,
+                pricingTableProvider.forTenant(command.tenantId()),
                 command.tripId(),
                 command.tenantId(),
                 command.distanceKm(),
@@ -0,0 +1,62 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.ChargeCancellationFeeInputPort;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort.CancellationFeeCharge;
+import com.rappidrive.application.ports.output.PaymentGatewayPort;
+import com.rappidrive.domain.valueobjects.PaymentMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Charges one queued cancellation fee, enqueued by {@code CancelTripUseCase}.
+ *
+ * <p>The gateway call is keyed by trip, so an attempt replayed after the gateway answered but
+ * before the entry was removed does not charge twice. A charged fee removes the entry and a
+ * declined one keeps it as declined, so finance has a record of it; gateway unavailability is reported as {@link ChargeOutcome#RETRY} until the final
+ * attempt, which gives the fee up and keeps the entry as abandoned for reconciliation.</p>
+ */
+public class ChargeCancellationFeeUseCase implements ChargeCancellationFeeInputPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargeCancellationFeeUseCase.class);
+
+    private final PaymentGatewayPort paymentGateway;
+    private final CancellationFeeQueuePort feeQueue;
+
+    public ChargeCancellationFeeUseCase(PaymentGatewayPort paymentGateway, CancellationFeeQueuePort feeQueue) {
+        this.paymentGateway = paymentGateway;
+        this.feeQueue = feeQueue;
+    }
+
+    @Override
+    public ChargeOutcome execute(ChargeCancellationFeeCommand command) {
+        CancellationFeeCharge charge = command.charge();
+        PaymentGatewayPort.PaymentGatewayResponse response;
+        try {
+            response = paymentGateway.processPayment(new PaymentGatewayPort.PaymentGatewayRequest(
+                charge.tenantId(),
+                charge.fee(),
+                PaymentMethod.cash(),
+                "Cancellation fee: " + charge.reason(),
+                "cancellation-fee-" + charge.tripId(),
+                command.deadline()
+            ));
+        } catch (RuntimeException e) {
+            if (!command.finalAttempt()) {
+                log.warn("Payment gateway unavailable, cancellation fee will be retried: tripId={}, error={}",
+                    charge.tripId(), e.getMessage());
+                return ChargeOutcome.RETRY;
+            }
+            feeQueue.abandon(charge.tripId());
+            return ChargeOutcome.ABANDONED;
+        }
+
+        if (!response.success()) {
+            log.warn("Cancellation fee declined: tripId={}, reason={}", charge.tripId(), response.failureReason());
+            feeQueue.decline(charge.tripId());
+            return ChargeOutcome.DECLINED;
+        }
+        feeQueue.remove(charge.tripId());
+        return ChargeOutcome.CHARGED;
+    }
+}
@@ -0,0 +1,128 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.output.DriverPayoutStorePort.DriverPayout;
+import com.rappidrive.domain.valueobjects.Currency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-driver totals of one currency, kept in parallel primitive arrays with open addressing on
+ * the driver id so that adding a payment allocates nothing. A tenant-day has far fewer drivers
+ * than payments, so the table stays small while any number of payments streams through it.
+ */
+final class DriverEarningsAccumulator {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Currency currency;
+    private long[] idHigh;
+    private long[] idLow;
+    private int[] trips;
+    private long[] gross;
+    private long[] platformFee;
+    private long[] earnings;
+    private long[] cash;
+    private int size;
+
+    DriverEarningsAccumulator(Currency currency) {
+        this.currency = currency;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    void add(UUID driverId, boolean cashPayment, long amountCents, long platformFeeCents, long driverAmountCents) {
+        int slot = slotOf(driverId.getMostSignificantBits(), driverId.getLeastSignificantBits());
+        trips[slot]++;
+        gross[slot] += amountCents;
+        platformFee[slot] += platformFeeCents;
+        earnings[slot] += driverAmountCents;
+        if (cashPayment) {
+            cash[slot] += amountCents;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    List<DriverPayout> toPayouts() {
+        List<DriverPayout> payouts = new ArrayList<>(size);
+        for (int slot = 0; slot < trips.length; slot++) {
+            if (trips[slot] > 0) {
+                payouts.add(new DriverPayout(new UUID(idHigh[slot], idLow[slot]), currency, trips[slot],
+                    gross[slot], platformFee[slot], earnings[slot], cash[slot]));
+            }
+        }
+        return payouts;
+    }
+
+    /**
+     * Finds the driver's slot, claiming an empty one (and growing the table) if it is new.
+     * An occupied slot always has at least one trip.
+     */
+    private int slotOf(long high, long low) {
+        int mask = trips.length - 1;
+        int slot = mix(high, low) & mask;
+        while (trips[slot] > 0) {
+            if (idHigh[slot] == high && idLow[slot] == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((size + 1) * 4 > trips.length * 3) {
+            grow();
+            return slotOf(high, low);
+        }
+        idHigh[slot] = high;
+        idLow[slot] = low;
+        size++;
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldHigh = idHigh;
+        long[] oldLow = idLow;
+        int[] oldTrips = trips;
+        long[] oldGross = gross;
+        long[] oldFee = platformFee;
+        long[] oldEarnings = earnings;
+        long[] oldCash = cash;
+        allocate(oldTrips.length * 2);
+        int mask = trips.length - 1;
+        for (int old = 0; old < oldTrips.length; old++) {
+            if (oldTrips[old] == 0) {
+                continue;
+            }
+            int slot = mix(oldHigh[old], oldLow[old]) & mask;
+            while (trips[slot] > 0) {
+                slot = (slot + 1) & mask;
+            }
+            idHigh[slot] = oldHigh[old];
+            idLow[slot] = oldLow[old];
+            trips[slot] = oldTrips[old];
+            gross[slot] = oldGross[old];
+            platformFee[slot] = oldFee[old];
+            earnings[slot] = oldEarnings[old];
+            cash[slot] = oldCash[old];
+        }
+    }
+
+    private void allocate(int capacity) {
+        idHigh = new long[capacity];
+        idLow = new long[capacity];
+        trips = new int[capacity];
+        gross = new long[capacity];
+        platformFee = new long[capacity];
+        earnings = new long[capacity];
+        cash = new long[capacity];
+    }
+
+    private static int mix(long high, long low) {
+        long h = high ^ low;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,138 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort;
+import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.application.ports.output.PricingTableProviderPort;
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.FareConfigurationNotFoundException;
+import com.rappidrive.domain.services.FareKernel;
+import com.rappidrive.domain.services.PricingTable;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for estimating fares of several routes and vehicle types in one call.
+ * Loads the tenant's fare configuration and pricing table once, computes all distances in one pass and all fares
+ * with {@link FareKernel#computeAll}, applying the same rounding rules as {@link Fare#calculate}
+ * to the distance rounded to the meter and a duration derived from an average speed.
+ */
+public class EstimateFaresUseCase implements EstimateFaresInputPort {
+
+    public static final double DEFAULT_AVERAGE_SPEED_KMH = 30.0;
+    public static final int DEFAULT_MAX_ROUTES = 10;
+
+    private static final UUID ESTIMATE_TRIP_ID = new UUID(0L, 0L);
+
+    private final FareConfigurationRepositoryPort fareConfigurationRepository;
+    private final PricingTableProviderPort pricingTableProvider;
+    private final double averageSpeedKmh;
+    private final int maxRoutes;
+
+    public EstimateFaresUseCase(FareConfigurationRepositoryPort fareConfigurationRepository,
+                                PricingTableProviderPort pricingTableProvider) {
+        this(fareConfigurationRepository, pricingTableProvider, DEFAULT_AVERAGE_SPEED_KMH, DEFAULT_MAX_ROUTES);
+    }
+
+    public EstimateFaresUseCase(FareConfigurationRepositoryPort fareConfigurationRepository,
+                                PricingTableProviderPort pricingTableProvider,
+                                double averageSpeedKmh, int maxRoutes) {
+        if (averageSpeedKmh <= 0) {
+            throw new IllegalArgumentException("Average speed must be positive");
+        }
+        this.fareConfigurationRepository = fareConfigurationRepository;
+        this.pricingTableProvider = pricingTableProvider;
+        this.averageSpeedKmh = averageSpeedKmh;
+        this.maxRoutes = maxRoutes;
+    }
+
+    @Override
+    public List<FareEstimate> execute(EstimateFaresCommand command) {
+        if (command.routes().size() > maxRoutes) {
+            throw new IllegalArgumentException("At most " + maxRoutes + " routes can be estimated at once");
+        }
+        FareConfiguration config = fareConfigurationRepository.findByTenantId(command.tenantId())
+                .orElseThrow(() -> FareConfigurationNotFoundException.forTenant(command.tenantId()));
+
+        List<Route> routes = command.routes();
+        List<VehicleType> vehicleTypes = command.vehicleTypes();
+        int routeCount = routes.size();
+        int vehicleCount = vehicleTypes.size();
+
+        double[] distancesKm = new double[routeCount];
+        long[] distanceMicros = new long[routeCount];
+        long[] minutes = new long[routeCount];
+        for (int i = 0; i < routeCount; i++) {
+            Location origin = routes.get(i).origin();
+            Location destination = routes.get(i).destination();
+            double distanceKm = roundToMeter(Location.distanceKm(origin.getLatitude(), origin.getLongitude(),
+                    destination.getLatitude(), destination.getLongitude()));
+            distancesKm[i] = distanceKm;
+            distanceMicros[i] = Money.toMicros(distanceKm);
+            minutes[i] = estimateMinutes(distanceKm, averageSpeedKmh);
+        }
+
+        PricingTable pricingTable = pricingTableProvider.forTenant(command.tenantId());
+        int[] outcomes = new int[vehicleCount];
+        long[] multiplierMicros = new long[vehicleCount];
+        for (int v = 0; v < vehicleCount; v++) {
+            outcomes[v] = pricingTable.resolve(command.tripTime(), vehicleTypes.get(v));
+            multiplierMicros[v] = pricingTable.combinedMultiplierMicros(outcomes[v], vehicleTypes.get(v));
+        }
+
+        long[] results = new long[routeCount * vehicleCount * FareKernel.SLOTS];
+        Currency currency = config.getBaseFare().getCurrency();
+        if (fitsKernel(config, currency)) {
+            FareKernel.computeAll(config.getBaseFare().toCents(), config.getPricePerKm().toCents(),
+                    config.getPricePerMinute().toCents(), config.getMinimumFare().toCents(),
+                    distanceMicros, minutes, multiplierMicros, results);
+        } else {
+            for (int offset = 0; offset < results.length; offset += FareKernel.SLOTS) {
+                results[offset + FareKernel.TOTAL] = -1;
+            }
+        }
+
+        List<FareEstimate> estimates = new ArrayList<>(routeCount * vehicleCount);
+        for (int i = 0; i < routeCount; i++) {
+            for (int v = 0; v < vehicleCount; v++) {
+                int offset = (i * vehicleCount + v) * FareKernel.SLOTS;
+                Money subtotal;
+                Money total;
+                if (results[offset + FareKernel.TOTAL] >= 0) {
+                    subtotal = Money.ofCents(results[offset + FareKernel.SUBTOTAL], currency);
+                    total = Money.ofCents(results[offset + FareKernel.TOTAL], currency);
+                } else {
+                    Fare fare = Fare.calculate(config, pricingTable, ESTIMATE_TRIP_ID, command.tenantId(),
+                            distancesKm[i], (int) minutes[i], vehicleTypes.get(v), command.tripTime());
+                    subtotal = fare.getTotalBeforeMultiplier();
+                    total = fare.getTotalAmount();
+                }
+                estimates.add(new FareEstimate(i, vehicleTypes.get(v), distancesKm[i], (int) minutes[i],
+                        pricingTable.multiplierType(outcomes[v]), subtotal, total));
+            }
+        }
+        return estimates;
+    }
+
+    private static boolean fitsKernel(FareConfiguration config, Currency currency) {
+        return config.getBaseFare().fitsInCents() && config.getPricePerKm().fitsInCents()
+                && config.getPricePerMinute().fitsInCents() && config.getMinimumFare().fitsInCents()
+                && config.getPricePerKm().getCurrency() == currency
+                && config.getPricePerMinute().getCurrency() == currency
+                && config.getMinimumFare().getCurrency() == currency;
+    }
+
+    static double roundToMeter(double distanceKm) {
+        return Math.round(distanceKm * 1000.0) / 1000.0;
+    }
+
+    static long estimateMinutes(double distanceKm, double averageSpeedKmh) {
+        return Math.max(1L, (long) Math.ceil(distanceKm / averageSpeedKmh * 60.0));
+    }
+}
@@ -0,0 +1,22 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.GetLedgerBalanceInputPort;
+import com.rappidrive.application.ports.output.LedgerRepositoryPort;
+import com.rappidrive.domain.valueobjects.LedgerAccount;
+
+/**
+ * Use case for reading a ledger account balance.
+ */
+public class GetLedgerBalanceUseCase implements GetLedgerBalanceInputPort {
+
+    private final LedgerRepositoryPort ledgerRepository;
+
+    public GetLedgerBalanceUseCase(LedgerRepositoryPort ledgerRepository) {
+        this.ledgerRepository = ledgerRepository;
+    }
+
+    @Override
+    public LedgerBalance execute(LedgerAccount account) {
+        return new LedgerBalance(account, ledgerRepository.balanceCents(account));
+    }
+}
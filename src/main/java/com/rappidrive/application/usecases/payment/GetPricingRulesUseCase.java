@@ -0,0 +1,25 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.GetPricingRulesInputPort;
+import com.rappidrive.application.ports.output.PricingRuleRepositoryPort;
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.util.List;
+
+/**
+ * Use case for retrieving a tenant's pricing rules.
+ */
+public class GetPricingRulesUseCase implements GetPricingRulesInputPort {
+
+    private final PricingRuleRepositoryPort pricingRuleRepository;
+
+    public GetPricingRulesUseCase(PricingRuleRepositoryPort pricingRuleRepository) {
+        this.pricingRuleRepository = pricingRuleRepository;
+    }
+
+    @Override
+    public List<PricingRule> execute(TenantId tenantId) {
+        return pricingRuleRepository.findByTenantId(tenantId);
+    }
+}
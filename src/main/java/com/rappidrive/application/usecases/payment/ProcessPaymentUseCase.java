@@ -2,51 +2,110 @@ package com.rappidrive.application.usecases.payment;
 
 import com.rappidrive.application.ports.input.payment.ProcessPaymentInputPort;
 import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.application.ports.output.IdempotencyStorePort;
 import com.rappidrive.application.ports.output.PaymentGatewayPort;
 import com.rappidrive.application.ports.output.PaymentRepositoryPort;
 import com.rappidrive.application.ports.output.TelemetryPort;
+import com.rappidrive.application.ports.output.TripRepositoryPort;
 import com.rappidrive.domain.entities.FareConfiguration;
 import com.rappidrive.domain.entities.Payment;
+import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.PaymentStatus;
+import com.rappidrive.domain.exceptions.PaymentNotFoundException;
 import com.rappidrive.domain.exceptions.PaymentProcessingException;
+import com.rappidrive.domain.exceptions.TripNotFoundException;
 import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Use case for processing payments.
  * 
  * Note: This is a simplified version. In a real system, you would:
  * 1. Get the Fare entity from a FareRepositoryPort
- * 2. Verify the trip exists and is completed
+ * 2. Verify the trip is completed
  * 3. Update the trip status to COMPLETED after payment
+ * 
+ * The payment, its fare configuration and the gateway permits are charged to the trip's tenant.
+ * 
+ * Every payment runs under an idempotency key, the client's or else one derived from the trip, so
+ * a retried request gets the first payment back instead of a second charge. Keys are scoped to the
+ * trip's tenant and passenger, so two clients that happen to pick the same key do not collide.
+ * 
+ * A charge is saved as PROCESSING before the gateway is called. If the call throws, the payment
+ * stays PROCESSING and the next request for the trip resumes it under the same gateway key, so
+ * the gateway answers with the charge it may already have made instead of charging again.
  */
 public class ProcessPaymentUseCase implements ProcessPaymentInputPort {
     
+    static final String IDEMPOTENCY_SCOPE = "payment";
+    
     private final PaymentRepositoryPort paymentRepository;
     private final PaymentGatewayPort paymentGateway;
     private final FareConfigurationRepositoryPort fareConfigurationRepository;
     private final TelemetryPort telemetryPort;
-    // TODO: Add TripRepositoryPort and FareRepositoryPort when Trip management is implemented
+    private final IdempotencyStorePort idempotencyStore;
+    private final TripRepositoryPort tripRepository;
+    // TODO: Add FareRepositoryPort when Trip management is implemented
     
     public ProcessPaymentUseCase(PaymentRepositoryPort paymentRepository,
+                                TripRepositoryPort tripRepository,
                                 PaymentGatewayPort paymentGateway,
                                 FareConfigurationRepositoryPort fareConfigurationRepository,
-                                TelemetryPort telemetryPort) {
+                                TelemetryPort telemetryPort,
+                                IdempotencyStorePort idempotencyStore) {
         this.paymentRepository = paymentRepository;
+        this.tripRepository = tripRepository;
         this.paymentGateway = paymentGateway;
         this.fareConfigurationRepository = fareConfigurationRepository;
         this.telemetryPort = Objects.requireNonNull(telemetryPort, "telemetryPort must not be null");
+        this.idempotencyStore = Objects.requireNonNull(idempotencyStore, "idempotencyStore must not be null");
     }
     
     @Override
     public Payment execute(ProcessPaymentCommand command) {
-        return telemetryPort.traceUseCase("usecase.process_payment", () -> processPayment(command));
+        return telemetryPort.traceUseCase("usecase.process_payment", () -> processIdempotently(command));
     }
 
-    private Payment processPayment(ProcessPaymentCommand command) {
-        // Check if payment already exists for this trip
-        if (paymentRepository.existsByTripId(command.tripId())) {
-            throw new PaymentProcessingException("Payment already exists for trip: " + command.tripId());
+    private Payment processIdempotently(ProcessPaymentCommand command) {
+        Trip trip = tripRepository.findById(command.tripId())
+                .orElseThrow(() -> new TripNotFoundException(command.tripId()));
+        String key = command.idempotencyKey() != null ? command.idempotencyKey() : "trip-" + command.tripId();
+        AtomicReference<Payment> processed = new AtomicReference<>();
+        IdempotencyStorePort.IdempotentResult result = idempotencyStore.execute(
+            new IdempotencyStorePort.IdempotentRequest(idempotencyScope(trip), key,
+                command.tripId() + "|" + command.paymentMethod()),
+            () -> {
+                processed.set(processPayment(command, trip));
+                return processed.get().getId();
+            });
+        if (!result.replayed()) {
+            return processed.get();
+        }
+        return paymentRepository.findById(result.resourceId())
+            .orElseThrow(() -> PaymentNotFoundException.withId(result.resourceId()));
+    }
+
+    /**
+     * {@code payment:<tenant>:<passenger>}; the caller paying for a trip is its passenger.
+     */
+    static String idempotencyScope(Trip trip) {
+        return IDEMPOTENCY_SCOPE + ":" + trip.getTenantId().getValue() + ":" + trip.getPassengerId().getValue();
+    }
+
+    private Payment processPayment(ProcessPaymentCommand command, Trip trip) {
+        Optional<Payment> existing = paymentRepository.findByTripId(command.tripId());
+        if (existing.isPresent()) {
+            Payment interrupted = existing.get();
+            // A payment created outside this use case (e.g. at trip completion) has no idempotency key
+            if (interrupted.getStatus() != PaymentStatus.PROCESSING
+                    || !interrupted.getPaymentMethod().equals(command.paymentMethod())) {
+                throw new PaymentProcessingException("Payment already exists for trip: " + command.tripId());
+            }
+            return charge(interrupted);
         }
         
         // TODO: In real implementation, get Fare from FareRepositoryPort
@@ -58,17 +117,10 @@ public class ProcessPaymentUseCase implements ProcessPaymentInputPort {
         // In real implementation, this would come from the Fare entity
         Money fareAmount = new Money(25.00);
         
-        // TODO: Get tenant ID from Trip entity
-        // Trip trip = tripRepository.findById(command.tripId())
-        //         .orElseThrow(() -> new TripNotFoundException(command.tripId()));
-        // TenantId tenantId = trip.getTenantId();
+        TenantId tenantId = trip.getTenantId();
         
-        // For now, using a mock tenant ID (should come from Trip)
-        // This is a temporary solution until Trip integration is complete
-        Money baseFare = new Money(4.00); // Mock base fare
-        FareConfiguration config = fareConfigurationRepository.findByTenantId(
-                new com.rappidrive.domain.valueobjects.TenantId(java.util.UUID.randomUUID())
-        ).orElse(null); // Will use default values if not found
+        FareConfiguration config = fareConfigurationRepository.findByTenantId(tenantId)
+                .orElse(null); // Will use default values if not found
         
         // Calculate platform fee and driver amount
         Money platformFee;
@@ -86,7 +138,8 @@ public class ProcessPaymentUseCase implements ProcessPaymentInputPort {
         // Create payment with PENDING status
         Payment payment = Payment.create(
                 command.tripId(),
-                new com.rappidrive.domain.valueobjects.TenantId(java.util.UUID.randomUUID()), // Mock tenant ID
+                trip.getDriverId().orElse(null),
+                tenantId,
                 fareAmount,
                 platformFee,
                 driverAmount,
@@ -95,35 +148,41 @@ public class ProcessPaymentUseCase implements ProcessPaymentInputPort {
         
         // Process based on payment method
         if (command.paymentMethod().requiresGatewayProcessing()) {
-            // Process through gateway
-            PaymentGatewayPort.PaymentGatewayRequest request = new PaymentGatewayPort.PaymentGatewayRequest(
-                    fareAmount,
-                    command.paymentMethod(),
-                    "Payment for trip " + command.tripId()
-            );
-            
             payment.process("pending-txn-" + java.util.UUID.randomUUID()); // Mark as processing
-            payment = paymentRepository.save(payment);
-            
-            PaymentGatewayPort.PaymentGatewayResponse response = paymentGateway.processPayment(request);
-            
-            if (response.success()) {
-                payment.complete();
-            } else {
-                payment.fail(response.failureReason());
-            }
-        } else {
-            // Cash payment - mark as completed without processing
-            payment.complete();
+            return charge(paymentRepository.save(payment));
         }
         
-        // Save final state
-        payment = paymentRepository.save(payment);
+        // Cash payment - mark as completed without processing
+        payment.complete();
         
         // TODO: Update trip status to COMPLETED
         // trip.complete();
         // tripRepository.save(trip);
         
-        return payment;
+        return paymentRepository.save(payment);
+    }
+    
+    /**
+     * Charges a PROCESSING payment through the gateway and saves its final state. The charge is
+     * keyed by payment, so resuming a payment whose earlier call threw does not charge twice.
+     */
+    private Payment charge(Payment payment) {
+        PaymentGatewayPort.PaymentGatewayRequest request = new PaymentGatewayPort.PaymentGatewayRequest(
+                payment.getTenantId(),
+                payment.getAmount(),
+                payment.getPaymentMethod(),
+                "Payment for trip " + payment.getTripId(),
+                "payment-" + payment.getId(),
+                null
+        );
+        
+        PaymentGatewayPort.PaymentGatewayResponse response = paymentGateway.processPayment(request);
+        
+        if (response.success()) {
+            payment.complete();
+        } else {
+            payment.fail(response.failureReason());
+        }
+        return paymentRepository.save(payment);
     }
 }
@@ -0,0 +1,84 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.QuoteFareInputPort;
+import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.application.ports.output.FareQuoteTokenPort;
+import com.rappidrive.application.ports.output.PricingTableProviderPort;
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.exceptions.FareConfigurationNotFoundException;
+import com.rappidrive.domain.services.PricingTable;
+import com.rappidrive.domain.valueobjects.FareQuote;
+import com.rappidrive.domain.valueobjects.Location;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Use case for issuing fare quotes.
+ * Prices the route like {@link EstimateFaresUseCase} does and captures the tenant's prices and the
+ * multipliers of its pricing rules in the quote, so trip creation and completion can reuse them from the token.
+ */
+public class QuoteFareUseCase implements QuoteFareInputPort {
+
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final FareConfigurationRepositoryPort fareConfigurationRepository;
+    private final PricingTableProviderPort pricingTableProvider;
+    private final FareQuoteTokenPort fareQuoteTokenPort;
+    private final Duration ttl;
+    private final double averageSpeedKmh;
+    private final Clock clock;
+
+    public QuoteFareUseCase(FareConfigurationRepositoryPort fareConfigurationRepository,
+                            PricingTableProviderPort pricingTableProvider,
+                            FareQuoteTokenPort fareQuoteTokenPort,
+                            Duration ttl, double averageSpeedKmh) {
+        this(fareConfigurationRepository, pricingTableProvider, fareQuoteTokenPort, ttl, averageSpeedKmh,
+                Clock.systemUTC());
+    }
+
+    QuoteFareUseCase(FareConfigurationRepositoryPort fareConfigurationRepository,
+                     PricingTableProviderPort pricingTableProvider,
+                     FareQuoteTokenPort fareQuoteTokenPort,
+                     Duration ttl, double averageSpeedKmh, Clock clock) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Quote TTL must be positive");
+        }
+        if (averageSpeedKmh <= 0) {
+            throw new IllegalArgumentException("Average speed must be positive");
+        }
+        this.fareConfigurationRepository = fareConfigurationRepository;
+        this.pricingTableProvider = pricingTableProvider;
+        this.fareQuoteTokenPort = fareQuoteTokenPort;
+        this.ttl = ttl;
+        this.averageSpeedKmh = averageSpeedKmh;
+        this.clock = clock;
+    }
+
+    @Override
+    public IssuedFareQuote execute(QuoteFareCommand command) {
+        FareConfiguration config = fareConfigurationRepository.findByTenantId(command.tenantId())
+                .orElseThrow(() -> FareConfigurationNotFoundException.forTenant(command.tenantId()));
+
+        Location origin = command.origin();
+        Location destination = command.destination();
+        double distanceKm = EstimateFaresUseCase.roundToMeter(Location.distanceKm(origin.getLatitude(),
+                origin.getLongitude(), destination.getLatitude(), destination.getLongitude()));
+        int durationMinutes = (int) EstimateFaresUseCase.estimateMinutes(distanceKm, averageSpeedKmh);
+        PricingTable pricingTable = pricingTableProvider.forTenant(command.tenantId());
+
+        UUID quoteId = UUID.randomUUID();
+        Fare fare = Fare.calculate(config, pricingTable, quoteId, command.tenantId(), distanceKm, durationMinutes,
+                command.vehicleType(), command.tripTime());
+
+        int outcome = pricingTable.resolve(command.tripTime(), command.vehicleType());
+        FareQuote quote = new FareQuote(quoteId, command.tenantId(), origin, destination, command.vehicleType(),
+                distanceKm, durationMinutes, fare.getMultiplierType(), pricingTable.timeMultiplier(outcome),
+                pricingTable.vehicleMultiplier(command.vehicleType()), config.getBaseFare(), config.getPricePerKm(),
+                config.getPricePerMinute(), config.getMinimumFare(), fare.getTotalAmount(),
+                clock.instant().plus(ttl));
+        return new IssuedFareQuote(quote, fareQuoteTokenPort.sign(quote));
+    }
+}
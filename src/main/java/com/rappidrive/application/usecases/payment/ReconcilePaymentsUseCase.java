@@ -0,0 +1,179 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort;
+import com.rappidrive.application.ports.output.PaymentReconciliationSourcePort;
+import com.rappidrive.application.ports.output.PaymentReconciliationSourcePort.LedgerPayment;
+import com.rappidrive.application.ports.output.ReconciliationReportPort;
+import com.rappidrive.application.ports.output.ReconciliationReportPort.Mismatch;
+import com.rappidrive.application.ports.output.ReconciliationReportPort.MismatchType;
+import com.rappidrive.application.ports.output.ReconciliationReportPort.MismatchWriter;
+import com.rappidrive.application.ports.output.SettlementFilePort;
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementCursor;
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementRecord;
+import com.rappidrive.domain.enums.PaymentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Reconciles our payments against a gateway settlement export with a sort-merge join.
+ *
+ * <p>Both sides arrive ordered by transaction id: the settlement file through the
+ * {@link SettlementFilePort}, which sorts it externally if needed, and our payments as a database
+ * stream. Each payment is matched against the settlement cursor as it arrives, so only the current
+ * record of each side is in memory no matter how many rows the window holds. An input that goes
+ * backwards fails the run rather than produce a wrong report.</p>
+ */
+public class ReconcilePaymentsUseCase implements ReconcilePaymentsInputPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconcilePaymentsUseCase.class);
+
+    /**
+     * Gateway statuses that agree with each of our final payment statuses.
+     */
+    private static final Map<String, PaymentStatus> GATEWAY_STATUSES = Map.of(
+        "SETTLED", PaymentStatus.COMPLETED,
+        "CAPTURED", PaymentStatus.COMPLETED,
+        "PAID", PaymentStatus.COMPLETED,
+        "COMPLETED", PaymentStatus.COMPLETED,
+        "REFUNDED", PaymentStatus.REFUNDED,
+        "FAILED", PaymentStatus.FAILED,
+        "DECLINED", PaymentStatus.FAILED);
+
+    private final SettlementFilePort settlementFiles;
+    private final PaymentReconciliationSourcePort paymentSource;
+    private final ReconciliationReportPort reports;
+
+    public ReconcilePaymentsUseCase(SettlementFilePort settlementFiles,
+                                    PaymentReconciliationSourcePort paymentSource,
+                                    ReconciliationReportPort reports) {
+        this.settlementFiles = settlementFiles;
+        this.paymentSource = paymentSource;
+        this.reports = reports;
+    }
+
+    @Override
+    public ReconciliationResult execute(ReconcilePaymentsCommand command) {
+        try (SettlementCursor gateway = settlementFiles.openSortedByTransactionId(command.settlementFile(),
+                 command.format());
+             MismatchWriter report = reports.create(command.report())) {
+            MergeJoin join = new MergeJoin(gateway, report);
+            long payments = paymentSource.streamOrderedByTransactionId(command.from(), command.to(), join::onPayment);
+            join.finish();
+
+            ReconciliationResult result = new ReconciliationResult(command.report(), join.gatewayRecords, payments,
+                join.matched, join.count(MismatchType.MISSING_AT_GATEWAY), join.count(MismatchType.MISSING_IN_LEDGER),
+                join.count(MismatchType.AMOUNT_MISMATCH), join.count(MismatchType.STATUS_MISMATCH),
+                join.count(MismatchType.DUPLICATE_AT_GATEWAY));
+            log.info("Reconciliation finished: file={}, window=[{}, {}), gatewayRecords={}, payments={}, "
+                    + "matched={}, mismatches={}", command.settlementFile(), command.from(), command.to(),
+                result.gatewayRecords(), payments, result.matched(), result.mismatches());
+            return result;
+        }
+    }
+
+    static boolean sameStatus(PaymentStatus ledger, String gatewayStatus) {
+        return GATEWAY_STATUSES.get(gatewayStatus) == ledger;
+    }
+
+    /**
+     * Join state: the settlement record the next payment is compared with.
+     */
+    private static final class MergeJoin {
+
+        private final SettlementCursor gateway;
+        private final MismatchWriter report;
+        private final Map<MismatchType, Long> counts = new EnumMap<>(MismatchType.class);
+        private SettlementRecord current;
+        private String lastGatewayId;
+        private String lastPaymentId;
+        private long gatewayRecords;
+        private long matched;
+
+        MergeJoin(SettlementCursor gateway, MismatchWriter report) {
+            this.gateway = gateway;
+            this.report = report;
+            advanceGateway();
+        }
+
+        void onPayment(LedgerPayment payment) {
+            String transactionId = payment.transactionId();
+            if (lastPaymentId != null && transactionId.compareTo(lastPaymentId) < 0) {
+                throw new IllegalStateException("Payments are not ordered by transaction id at " + transactionId);
+            }
+            lastPaymentId = transactionId;
+
+            while (current != null && current.transactionId().compareTo(transactionId) < 0) {
+                emit(MismatchType.MISSING_IN_LEDGER, null, current);
+                advanceGateway();
+            }
+            if (current == null || !current.transactionId().equals(transactionId)) {
+                emit(MismatchType.MISSING_AT_GATEWAY, payment, null);
+                return;
+            }
+
+            boolean amountMatches = current.amountCents() == payment.amountCents();
+            boolean statusMatches = sameStatus(payment.status(), current.status());
+            if (!amountMatches) {
+                emit(MismatchType.AMOUNT_MISMATCH, payment, current);
+            }
+            if (!statusMatches) {
+                emit(MismatchType.STATUS_MISMATCH, payment, current);
+            }
+            if (amountMatches && statusMatches) {
+                matched++;
+            }
+            advanceGateway();
+        }
+
+        void finish() {
+            while (current != null) {
+                emit(MismatchType.MISSING_IN_LEDGER, null, current);
+                advanceGateway();
+            }
+        }
+
+        long count(MismatchType type) {
+            return counts.getOrDefault(type, 0L);
+        }
+
+        /**
+         * Moves to the next distinct transaction of the file, reporting repeated ones.
+         */
+        private void advanceGateway() {
+            while (gateway.hasNext()) {
+                SettlementRecord next = gateway.next();
+                gatewayRecords++;
+                if (lastGatewayId != null) {
+                    int order = next.transactionId().compareTo(lastGatewayId);
+                    if (order < 0) {
+                        throw new IllegalStateException(
+                            "Settlement records are not ordered by transaction id at " + next.transactionId());
+                    }
+                    if (order == 0) {
+                        emit(MismatchType.DUPLICATE_AT_GATEWAY, null, next);
+                        continue;
+                    }
+                }
+                lastGatewayId = next.transactionId();
+                current = next;
+                return;
+            }
+            current = null;
+        }
+
+        private void emit(MismatchType type, LedgerPayment payment, SettlementRecord settlement) {
+            counts.merge(type, 1L, Long::sum);
+            report.write(new Mismatch(type,
+                payment != null ? payment.transactionId() : settlement.transactionId(),
+                payment != null ? payment.paymentId() : null,
+                payment != null ? payment.tenantId() : null,
+                payment != null ? payment.amountCents() : null,
+                settlement != null ? settlement.amountCents() : null,
+                payment != null ? payment.status().name() : null,
+                settlement != null ? settlement.status() : null));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.rappidrive.application.usecases.payment;
 
 import com.rappidrive.application.ports.input.payment.RefundPaymentInputPort;
+import com.rappidrive.application.ports.output.IdempotencyStorePort;
 import com.rappidrive.application.ports.output.PaymentGatewayPort;
 import com.rappidrive.application.ports.output.PaymentRepositoryPort;
 import com.rappidrive.domain.entities.Payment;
@@ -8,20 +9,47 @@ import com.rappidrive.domain.exceptions.PaymentNotFoundException;
 import com.rappidrive.domain.exceptions.PaymentProcessingException;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Refunds a payment through the gateway. Refunds run under an idempotency key, the client's or
+ * else one derived from the payment, so a retried request returns the refunded payment instead of
+ * failing or refunding twice.
+ */
 public class RefundPaymentUseCase implements RefundPaymentInputPort {
     
+    static final String IDEMPOTENCY_SCOPE = "refund";
+    
     private final PaymentRepositoryPort paymentRepository;
     private final PaymentGatewayPort paymentGateway;
+    private final IdempotencyStorePort idempotencyStore;
     
     public RefundPaymentUseCase(PaymentRepositoryPort paymentRepository,
-                               PaymentGatewayPort paymentGateway) {
+                               PaymentGatewayPort paymentGateway,
+                               IdempotencyStorePort idempotencyStore) {
         this.paymentRepository = paymentRepository;
         this.paymentGateway = paymentGateway;
+        this.idempotencyStore = idempotencyStore;
     }
     
     @Override
-    public Payment execute(UUID paymentId, String reason) {
+    public Payment execute(RefundPaymentCommand command) {
+        String key = command.idempotencyKey() != null ? command.idempotencyKey() : "payment-" + command.paymentId();
+        AtomicReference<Payment> refunded = new AtomicReference<>();
+        IdempotencyStorePort.IdempotentResult result = idempotencyStore.execute(
+            new IdempotencyStorePort.IdempotentRequest(IDEMPOTENCY_SCOPE, key, command.paymentId().toString()),
+            () -> {
+                refunded.set(refund(command.paymentId()));
+                return refunded.get().getId();
+            });
+        if (!result.replayed()) {
+            return refunded.get();
+        }
+        return paymentRepository.findById(result.resourceId())
+                .orElseThrow(() -> PaymentNotFoundException.withId(result.resourceId()));
+    }
+    
+    private Payment refund(UUID paymentId) {
         // Find payment
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> PaymentNotFoundException.withId(paymentId));
@@ -37,6 +65,7 @@ public class RefundPaymentUseCase implements RefundPaymentInputPort {
         
         // Process refund through gateway
         PaymentGatewayPort.PaymentGatewayResponse response = paymentGateway.refundPayment(
+                payment.getTenantId(),
                 payment.getGatewayTransactionId(),
                 payment.getAmount()
         );
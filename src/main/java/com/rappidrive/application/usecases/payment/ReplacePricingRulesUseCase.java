@@ -0,0 +1,36 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.ReplacePricingRulesInputPort;
+import com.rappidrive.application.ports.output.PricingRuleRepositoryPort;
+import com.rappidrive.domain.exceptions.InvalidPricingRuleException;
+import com.rappidrive.domain.services.PricingTable;
+import com.rappidrive.domain.valueobjects.PricingRule;
+
+import java.util.List;
+
+/**
+ * Use case for replacing a tenant's pricing rules.
+ * Compiles the rules before saving them, so a rule set that cannot be compiled is rejected here
+ * rather than when the next fare is priced.
+ */
+public class ReplacePricingRulesUseCase implements ReplacePricingRulesInputPort {
+
+    public static final int DEFAULT_MAX_RULES = 500;
+
+    private final PricingRuleRepositoryPort pricingRuleRepository;
+    private final int maxRules;
+
+    public ReplacePricingRulesUseCase(PricingRuleRepositoryPort pricingRuleRepository, int maxRules) {
+        this.pricingRuleRepository = pricingRuleRepository;
+        this.maxRules = maxRules;
+    }
+
+    @Override
+    public List<PricingRule> execute(ReplacePricingRulesCommand command) {
+        if (command.rules().size() > maxRules) {
+            throw new InvalidPricingRuleException("A tenant can have at most " + maxRules + " pricing rules");
+        }
+        PricingTable.compile(command.rules());
+        return pricingRuleRepository.replaceAll(command.tenantId(), command.rules());
+    }
+}
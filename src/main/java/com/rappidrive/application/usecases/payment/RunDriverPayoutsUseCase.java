@@ -0,0 +1,114 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.RunDriverPayoutsInputPort;
+import com.rappidrive.application.ports.output.DriverPayoutStorePort;
+import com.rappidrive.application.ports.output.DriverPayoutStorePort.DriverPayout;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Computes each driver's earnings and platform fees for a business day, per tenant.
+ *
+ * <p>Payments are streamed from the store and summed per driver as they arrive, so memory grows
+ * with the number of drivers, not payments. Tenants are settled in parallel on the given
+ * (virtual-thread) executor, but at most {@code maxConcurrentTenants} at a time touch the database,
+ * since each one holds a connection for its whole stream and write. A tenant that fails does not
+ * stop the others; its checkpoint is missing, so the next run retries it.</p>
+ */
+public class RunDriverPayoutsUseCase implements RunDriverPayoutsInputPort {
+
+    private static final Logger log = LoggerFactory.getLogger(RunDriverPayoutsUseCase.class);
+
+    private final DriverPayoutStorePort payoutStore;
+    private final ExecutorService executor;
+    private final Semaphore databasePermits;
+
+    public RunDriverPayoutsUseCase(DriverPayoutStorePort payoutStore, ExecutorService executor,
+                                   int maxConcurrentTenants) {
+        if (maxConcurrentTenants < 1) {
+            throw new IllegalArgumentException("maxConcurrentTenants must be positive");
+        }
+        this.payoutStore = payoutStore;
+        this.executor = executor;
+        this.databasePermits = new Semaphore(maxConcurrentTenants);
+    }
+
+    @Override
+    public PayoutRunResult execute(RunDriverPayoutsCommand command) {
+        LocalDate businessDate = command.businessDate();
+        LocalDateTime from = businessDate.atStartOfDay();
+        LocalDateTime to = businessDate.plusDays(1).atStartOfDay();
+
+        List<TenantId> tenants = payoutStore.findTenantsWithCompletedPayments(from, to);
+        Set<TenantId> checkpointed = payoutStore.findCheckpointedTenants(businessDate);
+        List<CompletableFuture<TenantOutcome>> outcomes = tenants.stream()
+            .filter(tenantId -> !checkpointed.contains(tenantId))
+            .map(tenantId -> CompletableFuture.supplyAsync(() -> settle(tenantId, businessDate, from, to), executor))
+            .toList();
+
+        int settled = 0;
+        long payments = 0;
+        long payouts = 0;
+        List<UUID> failed = new ArrayList<>();
+        for (CompletableFuture<TenantOutcome> future : outcomes) {
+            TenantOutcome outcome = future.join();
+            if (outcome.failed()) {
+                failed.add(outcome.tenantId().getValue());
+            } else {
+                settled++;
+                payments += outcome.payments();
+                payouts += outcome.payouts();
+            }
+        }
+        return new PayoutRunResult(businessDate, settled, tenants.size() - outcomes.size(), failed, payments, payouts);
+    }
+
+    private TenantOutcome settle(TenantId tenantId, LocalDate businessDate, LocalDateTime from, LocalDateTime to) {
+        try {
+            databasePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return TenantOutcome.failed(tenantId);
+        }
+        try {
+            Map<Currency, DriverEarningsAccumulator> byCurrency = new EnumMap<>(Currency.class);
+            long payments = payoutStore.streamCompletedPayments(tenantId, from, to,
+                (driverId, currency, cash, amountCents, platformFeeCents, driverAmountCents) ->
+                    byCurrency.computeIfAbsent(currency, DriverEarningsAccumulator::new)
+                        .add(driverId, cash, amountCents, platformFeeCents, driverAmountCents));
+
+            List<DriverPayout> payouts = new ArrayList<>();
+            byCurrency.values().forEach(accumulator -> payouts.addAll(accumulator.toPayouts()));
+            payoutStore.savePayouts(tenantId, businessDate, payouts, payments);
+            log.info("Driver payouts settled: tenantId={}, businessDate={}, payments={}, drivers={}",
+                tenantId, businessDate, payments, payouts.size());
+            return new TenantOutcome(tenantId, false, payments, payouts.size());
+        } catch (RuntimeException e) {
+            log.error("Driver payouts failed, tenant will be retried: tenantId={}, businessDate={}",
+                tenantId, businessDate, e);
+            return TenantOutcome.failed(tenantId);
+        } finally {
+            databasePermits.release();
+        }
+    }
+
+    private record TenantOutcome(TenantId tenantId, boolean failed, long payments, long payouts) {
+        static TenantOutcome failed(TenantId tenantId) {
+            return new TenantOutcome(tenantId, true, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.notification.SendNotificationInputPort;
+import com.rappidrive.application.ports.input.payment.SettlePaymentInputPort;
+import com.rappidrive.application.ports.output.PaymentGatewayPort;
+import com.rappidrive.application.ports.output.PaymentRepositoryPort;
+import com.rappidrive.application.ports.output.PaymentSettlementQueuePort;
+import com.rappidrive.application.ports.output.TripRepositoryPort;
+import com.rappidrive.domain.entities.Payment;
+import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.NotificationType;
+import com.rappidrive.domain.enums.PaymentStatus;
+import com.rappidrive.domain.exceptions.PaymentOutcomeUnknownException;
+import com.rappidrive.domain.valueobjects.UserId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * One step of the payment settlement saga started by {@code CompleteTripWithPaymentUseCase}.
+ *
+ * <p>Charges a PENDING payment through the gateway, then applies the result to the trip (whose
+ * save writes the settled/failed event to the outbox in the same transaction), notifies the
+ * passenger and finally removes
+ * the queue entry. Each write is idempotent, so a step interrupted anywhere is simply replayed:
+ * a payment that is already final is not charged again, only carried over to the trip. Gateway
+ * unavailability is reported as {@link SettlementOutcome#RETRY} until the final attempt, which
+ * fails the payment instead. A final attempt that timed out after the charge was sent is not a
+ * failure: the gateway may have charged it, so the payment stays PENDING and its queue entry is
+ * parked for reconciliation ({@link SettlementOutcome#UNKNOWN}).</p>
+ */
+public class SettlePaymentUseCase implements SettlePaymentInputPort {
+
+    private static final Logger log = LoggerFactory.getLogger(SettlePaymentUseCase.class);
+
+    static final String GATEWAY_UNAVAILABLE_REASON = "Payment gateway unavailable";
+
+    private final PaymentRepositoryPort paymentRepository;
+    private final TripRepositoryPort tripRepository;
+    private final PaymentGatewayPort paymentGateway;
+    private final PaymentSettlementQueuePort settlementQueue;
+    private final SendNotificationInputPort sendNotification;
+
+    public SettlePaymentUseCase(PaymentRepositoryPort paymentRepository,
+                                TripRepositoryPort tripRepository,
+                                PaymentGatewayPort paymentGateway,
+                                PaymentSettlementQueuePort settlementQueue,
+                                SendNotificationInputPort sendNotification) {
+        this.paymentRepository = paymentRepository;
+        this.tripRepository = tripRepository;
+        this.paymentGateway = paymentGateway;
+        this.settlementQueue = settlementQueue;
+        this.sendNotification = sendNotification;
+    }
+
+    @Override
+    public SettlementOutcome execute(SettlePaymentCommand command) {
+        Optional<Payment> found = paymentRepository.findById(command.paymentId());
+        if (found.isEmpty()) {
+            settlementQueue.remove(command.paymentId());
+            return SettlementOutcome.DISCARDED;
+        }
+        Payment payment = found.get();
+
+        if (payment.getStatus() == PaymentStatus.PENDING) {
+            SettlementOutcome notCharged = charge(payment, command);
+            if (notCharged != null) {
+                return notCharged;
+            }
+            payment = paymentRepository.save(payment);
+        }
+
+        SettlementOutcome outcome = outcomeOf(payment);
+        if (outcome != SettlementOutcome.DISCARDED) {
+            Optional<Trip> trip = tripRepository.findById(payment.getTripId());
+            if (trip.isPresent()) {
+                if (trip.get().settlePayment(payment)) {
+                    tripRepository.save(trip.get());
+                }
+                // also on replay: the step may have stopped after the trip was saved
+                notifyPassenger(trip.get(), payment);
+            }
+        }
+        settlementQueue.remove(payment.getId());
+        return outcome;
+    }
+
+    /**
+     * Calls the gateway and moves the payment to its final state. The charge is keyed by payment,
+     * so a step replayed after the gateway answered but before the payment was saved is not
+     * charged twice.
+     *
+     * @return null once the payment is final, otherwise {@link SettlementOutcome#RETRY} or
+     *         {@link SettlementOutcome#UNKNOWN} with the payment left PENDING
+     */
+    private SettlementOutcome charge(Payment payment, SettlePaymentCommand command) {
+        PaymentGatewayPort.PaymentGatewayResponse response;
+        try {
+            response = paymentGateway.processPayment(new PaymentGatewayPort.PaymentGatewayRequest(
+                payment.getTenantId(),
+                payment.getAmount(),
+                payment.getPaymentMethod(),
+                "Payment for trip " + payment.getTripId(),
+                "payment-" + payment.getId(),
+                command.deadline()
+            ));
+        } catch (RuntimeException e) {
+            if (!command.finalAttempt()) {
+                log.warn("Payment gateway unavailable, settlement will be retried: paymentId={}, error={}",
+                    payment.getId(), e.getMessage());
+                return SettlementOutcome.RETRY;
+            }
+            if (e instanceof PaymentOutcomeUnknownException) {
+                log.error("Payment gateway did not answer the final settlement attempt, parking it for "
+                    + "reconciliation: paymentId={}, error={}", payment.getId(), e.getMessage());
+                settlementQueue.park(payment.getId());
+                return SettlementOutcome.UNKNOWN;
+            }
+            payment.fail(GATEWAY_UNAVAILABLE_REASON);
+            return null;
+        }
+
+        if (response.success()) {
+            payment.process(response.transactionId());
+            payment.complete();
+        } else {
+            payment.fail(response.failureReason());
+        }
+        return null;
+    }
+
+    private static SettlementOutcome outcomeOf(Payment payment) {
+        if (payment.getStatus() == PaymentStatus.COMPLETED) {
+            return SettlementOutcome.SETTLED;
+        }
+        if (payment.getStatus() == PaymentStatus.FAILED) {
+            return SettlementOutcome.FAILED;
+        }
+        return SettlementOutcome.DISCARDED;
+    }
+
+    /**
+     * The notification is keyed by payment, so replaying this step does not notify twice. A push
+     * failure does not undo the settlement.
+     */
+    private void notifyPassenger(Trip trip, Payment payment) {
+        boolean paid = payment.getStatus() == PaymentStatus.COMPLETED;
+        try {
+            sendNotification.execute(new SendNotificationInputPort.SendNotificationCommand(
+                new UserId(trip.getPassengerId().getValue()),
+                paid ? NotificationType.PAYMENT_PROCESSED : NotificationType.PAYMENT_FAILED,
+                paid ? "Payment confirmed" : "Payment failed",
+                paid ? "Your payment of " + payment.getAmount() + " was confirmed."
+                    : "Your payment of " + payment.getAmount() + " failed: " + payment.getFailureReason(),
+                Map.of("tripId", payment.getTripId().toString(), "paymentId", payment.getId().toString()),
+                "payment-settlement:" + payment.getId(),
+                trip.getTenantId()
+            ));
+        } catch (RuntimeException e) {
+            log.warn("Failed to notify passenger of payment settlement: paymentId={}, error={}",
+                payment.getId(), e.getMessage());
+        }
+    }
+}
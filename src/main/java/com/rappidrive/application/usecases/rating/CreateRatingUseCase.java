@@ -1,6 +1,7 @@
 package com.rappidrive.application.usecases.rating;
 
 import com.rappidrive.application.ports.input.rating.CreateRatingInputPort;
+import com.rappidrive.application.ports.output.DriverRatingStatsPort;
 import com.rappidrive.application.ports.output.RatingRepositoryPort;
 import com.rappidrive.application.ports.output.TripRepositoryPort;
 import com.rappidrive.domain.entities.Rating;
@@ -11,23 +12,31 @@ import com.rappidrive.domain.services.RatingValidationService;
 import com.rappidrive.domain.valueobjects.RatingComment;
 import com.rappidrive.domain.valueobjects.RatingScore;
 
+/**
+ * Use case para criar avaliação. Avaliações de motoristas entram nos agregados do motorista na
+ * mesma transação.
+ */
 public class CreateRatingUseCase implements CreateRatingInputPort {
     
     private final RatingRepositoryPort ratingRepository;
     private final TripRepositoryPort tripRepository;
     private final RatingValidationService validationService;
+    private final DriverRatingStatsPort driverRatingStats;
     
     public CreateRatingUseCase(
             RatingRepositoryPort ratingRepository,
             TripRepositoryPort tripRepository,
-            RatingValidationService validationService
+            RatingValidationService validationService,
+            DriverRatingStatsPort driverRatingStats
     ) {
         this.ratingRepository = ratingRepository;
         this.tripRepository = tripRepository;
         this.validationService = validationService;
+        this.driverRatingStats = driverRatingStats;
     }
     
     @Override
+    @org.springframework.transaction.annotation.Transactional
     public Rating execute(CreateRatingCommand command) {
         Trip trip = tripRepository.findById(command.tripId())
             .orElseThrow(() -> new TripNotFoundException(
@@ -61,6 +70,11 @@ public class CreateRatingUseCase implements CreateRatingInputPort {
             trip.getTenantId()
         );
         
-        return ratingRepository.save(rating);
+        Rating saved = ratingRepository.save(rating);
+        if (saved.isDriverRating()) {
+            driverRatingStats.adjust(saved.getRateeId(), saved.getTenantId(), saved.getScore(), 1);
+        }
+        
+        return saved;
     }
 }
@@ -1,47 +1,36 @@
 package com.rappidrive.application.usecases.rating;
 
 import com.rappidrive.application.ports.input.rating.GetDriverRatingSummaryInputPort;
+import com.rappidrive.application.ports.output.DriverRatingStatsPort;
+import com.rappidrive.application.ports.output.DriverRatingStatsPort.DriverRatingStats;
 import com.rappidrive.application.ports.output.RatingRepositoryPort;
 import com.rappidrive.domain.entities.Rating;
-import com.rappidrive.domain.enums.RatingStatus;
 import com.rappidrive.domain.enums.RatingType;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+/**
+ * Use case para o resumo de avaliações do motorista: média, total e distribuição vêm dos
+ * agregados mantidos na criação e no report de avaliações, sem ler as avaliações em si.
+ */
 public class GetDriverRatingSummaryUseCase implements GetDriverRatingSummaryInputPort {
     
     private static final int RECENT_RATINGS_LIMIT = 10;
     
     private final RatingRepositoryPort ratingRepository;
+    private final DriverRatingStatsPort driverRatingStats;
     
-    public GetDriverRatingSummaryUseCase(RatingRepositoryPort ratingRepository) {
+    public GetDriverRatingSummaryUseCase(RatingRepositoryPort ratingRepository, DriverRatingStatsPort driverRatingStats) {
         this.ratingRepository = ratingRepository;
+        this.driverRatingStats = driverRatingStats;
     }
     
     @Override
     public DriverRatingSummary execute(UUID driverId) {
-        double averageRating = ratingRepository.calculateAverageByRateeId(
-            driverId,
-            RatingType.DRIVER_BY_PASSENGER,
-            RatingStatus.ACTIVE
-        );
-        
-        long totalRatings = ratingRepository.countByRateeIdAndType(
-            driverId,
-            RatingType.DRIVER_BY_PASSENGER,
-            RatingStatus.ACTIVE
-        );
-        
-        List<Rating> allRatings = ratingRepository.findByRateeIdAndType(
-            driverId,
-            RatingType.DRIVER_BY_PASSENGER,
-            RatingStatus.ACTIVE
-        );
-        
-        Map<Integer, Long> distribution = calculateDistribution(allRatings);
+        DriverRatingStats stats = driverRatingStats.get(driverId);
         
         List<Rating> recentRatings = ratingRepository.findRecentByRateeId(
             driverId,
@@ -51,19 +40,15 @@ public class GetDriverRatingSummaryUseCase implements GetDriverRatingSummaryInpu
         
         return new DriverRatingSummary(
             driverId,
-            averageRating,
-            totalRatings,
-            distribution,
+            stats.averageRating(),
+            stats.totalRatings(),
+            calculateDistribution(stats),
             recentRatings
         );
     }
     
-    private Map<Integer, Long> calculateDistribution(List<Rating> ratings) {
-        Map<Integer, Long> distribution = ratings.stream()
-            .collect(Collectors.groupingBy(
-                r -> r.getScore().value(),
-                Collectors.counting()
-            ));
+    private Map<Integer, Long> calculateDistribution(DriverRatingStats stats) {
+        Map<Integer, Long> distribution = new HashMap<>(stats.distribution());
         
         // Garantir que todos os scores 1-5 existam no mapa
         for (int i = 1; i <= 5; i++) {
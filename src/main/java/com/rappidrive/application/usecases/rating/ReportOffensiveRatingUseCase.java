@@ -1,31 +1,42 @@
 package com.rappidrive.application.usecases.rating;
 
 import com.rappidrive.application.ports.input.rating.ReportOffensiveRatingInputPort;
+import com.rappidrive.application.ports.output.DriverRatingStatsPort;
 import com.rappidrive.application.ports.output.RatingRepositoryPort;
 import com.rappidrive.domain.entities.Rating;
 import com.rappidrive.domain.exceptions.RatingNotFoundException;
 
 /**
  * Use case para reportar avaliação ofensiva.
+ *
+ * <p>A avaliação é bloqueada antes de mudar de status, para que dois reports simultâneos não a
+ * retirem duas vezes dos agregados do motorista.</p>
  */
 public class ReportOffensiveRatingUseCase implements ReportOffensiveRatingInputPort {
     
     private final RatingRepositoryPort ratingRepository;
+    private final DriverRatingStatsPort driverRatingStats;
     
-    public ReportOffensiveRatingUseCase(RatingRepositoryPort ratingRepository) {
+    public ReportOffensiveRatingUseCase(RatingRepositoryPort ratingRepository, DriverRatingStatsPort driverRatingStats) {
         this.ratingRepository = ratingRepository;
+        this.driverRatingStats = driverRatingStats;
     }
     
     @Override
+    @org.springframework.transaction.annotation.Transactional
     public void execute(ReportRatingCommand command) {
-        Rating rating = ratingRepository.findById(command.ratingId())
+        Rating rating = ratingRepository.findByIdForUpdate(command.ratingId())
             .orElseThrow(() -> new RatingNotFoundException(
                 String.format("Avaliação %s não encontrada", command.ratingId())
             ));
         
+        boolean wasActive = rating.isActive();
         rating.markAsReported();
         
         ratingRepository.save(rating);
+        if (wasActive && rating.isDriverRating()) {
+            driverRatingStats.adjust(rating.getRateeId(), rating.getTenantId(), rating.getScore(), -1);
+        }
         
         // TODO: Notificar admin sobre report
         // TODO: Log para auditoria
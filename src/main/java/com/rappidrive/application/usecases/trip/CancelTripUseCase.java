@@ -2,7 +2,7 @@ package com.rappidrive.application.usecases.trip;
 
 import com.rappidrive.application.exceptions.TripUnauthorizedException;
 import com.rappidrive.application.ports.input.trip.CancelTripInputPort;
-import com.rappidrive.application.ports.output.PaymentGatewayPort;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort;
 import com.rappidrive.application.ports.output.TripRepositoryPort;
 import com.rappidrive.domain.entities.Trip;
 import com.rappidrive.domain.enums.TripStatus;
@@ -10,25 +10,30 @@ import com.rappidrive.domain.exceptions.TripNotFoundException;
 import com.rappidrive.domain.services.CancellationPolicyService;
 import com.rappidrive.domain.valueobjects.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Cancels a trip and, when the passenger owes a cancellation fee, enqueues it in the same
+ * transaction for {@code ChargeCancellationFeeUseCase}. The payment gateway is never called here,
+ * so cancelling does not wait on it; the result reports the fee being charged.
+ */
 public class CancelTripUseCase implements CancelTripInputPort {
 
     private final TripRepositoryPort tripRepository;
     private final CancellationPolicyService policyService;
-    private final PaymentGatewayPort paymentGateway;
+    private final CancellationFeeQueuePort feeQueue;
 
     public CancelTripUseCase(TripRepositoryPort tripRepository,
                             CancellationPolicyService policyService,
-                            PaymentGatewayPort paymentGateway) {
+                            CancellationFeeQueuePort feeQueue) {
         this.tripRepository = tripRepository;
         this.policyService = policyService;
-        this.paymentGateway = paymentGateway;
+        this.feeQueue = feeQueue;
     }
 
     @Override
+    @org.springframework.transaction.annotation.Transactional
     public CancellationResult execute(CancelCommand command) {
         Trip trip = tripRepository.findById(command.tripId())
             .orElseThrow(() -> new TripNotFoundException("Trip not found: " + command.tripId()));
@@ -38,26 +43,21 @@ public class CancelTripUseCase implements CancelTripInputPort {
         LocalDateTime cancelledAt = LocalDateTime.now();
         CancellationFee fee = policyService.calculateFee(trip, command.actorType(), cancelledAt);
 
-        trip.cancel(command.actorType(), command.reason(), cancelledAt);
-
-        Money feeCharged = Money.zero(Currency.BRL);
-        if (!fee.isFree() && command.actorType() == ActorType.PASSENGER) {
-            try {
-                PaymentGatewayPort.PaymentGatewayRequest paymentRequest = new PaymentGatewayPort.PaymentGatewayRequest(
-                    fee.amount(),
-                    PaymentMethod.cash(),
-                    "Cancellation fee: " + fee.reason()
-                );
-                PaymentGatewayPort.PaymentGatewayResponse response = paymentGateway.processPayment(paymentRequest);
-                if (response.success()) {
-                    feeCharged = fee.amount();
-                }
-            } catch (Exception e) {
-                feeCharged = Money.zero(Currency.BRL);
-            }
-        }
+        Money feeCharged = !fee.isFree() && command.actorType() == ActorType.PASSENGER
+            ? fee.amount()
+            : Money.zero(Currency.BRL);
+        trip.cancel(command.actorType(), command.reason(), cancelledAt, feeCharged);
 
         tripRepository.save(trip);
+        if (!feeCharged.isZero()) {
+            feeQueue.enqueue(new CancellationFeeQueuePort.CancellationFeeCharge(
+                trip.getId().getValue(),
+                trip.getTenantId(),
+                feeCharged,
+                fee.reason(),
+                cancelledAt
+            ), cancelledAt);
+        }
 
         return new CancellationResult(
             trip.getId(),
@@ -67,7 +67,7 @@ public class CancelTripUseCase implements CancelTripInputPort {
             feeCharged,
             false,
             cancelledAt,
-            "Trip cancelled successfully. " + (feeCharged.isZero() ? "No fee charged." : "Fee charged: " + feeCharged)
+            "Trip cancelled successfully. " + (feeCharged.isZero() ? "No fee charged." : "Fee being charged: " + feeCharged)
         );
     }
 
@@ -2,53 +2,76 @@ package com.rappidrive.application.usecases.trip;
 
 import com.rappidrive.application.ports.input.CompleteTripWithPaymentInputPort;
 import com.rappidrive.application.ports.input.payment.CalculateFareInputPort;
-import com.rappidrive.application.ports.input.payment.ProcessPaymentInputPort;
 import com.rappidrive.application.ports.output.DistanceCalculationPort;
+import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.application.ports.output.FareQuoteTokenPort;
 import com.rappidrive.application.ports.output.FareRepositoryPort;
+import com.rappidrive.application.ports.output.PaymentRepositoryPort;
+import com.rappidrive.application.ports.output.PaymentSettlementQueuePort;
 import com.rappidrive.application.ports.output.TripRepositoryPort;
 import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
 import com.rappidrive.domain.entities.Payment;
 import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.PaymentStatus;
 import com.rappidrive.domain.enums.VehicleType;
 import com.rappidrive.domain.exceptions.TripNotFoundException;
 import com.rappidrive.domain.services.TripCompletionService;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.PaymentMethod;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
- * Use case for completing a trip with automatic fare calculation and payment processing.
- * Orchestrates the entire completion workflow:
+ * Use case for completing a trip with automatic fare calculation and payment.
+ * Orchestrates the completion workflow in one transaction:
  * 1. Validates trip state
  * 2. Calculates actual distance and duration
- * 3. Calculates fare
- * 4. Processes payment
- * 5. Updates trip
+ * 3. Calculates fare (with the quoted prices when the trip was requested with a fare quote)
+ * 4. Records the payment: cash is settled on the spot, other methods stay PENDING and are
+ *    enqueued for the settlement saga ({@code SettlePaymentUseCase})
+ * 5. Completes the trip
+ *
+ * The payment gateway is never called here, so completing a trip does not wait on it.
  */
 public class CompleteTripWithPaymentUseCase implements CompleteTripWithPaymentInputPort {
     
+    private static final double DEFAULT_PLATFORM_COMMISSION_RATE = 0.20;
+    
     private final TripRepositoryPort tripRepository;
     private final FareRepositoryPort fareRepository;
     private final DistanceCalculationPort distanceCalculation;
     private final CalculateFareInputPort calculateFare;
-    private final ProcessPaymentInputPort processPayment;
+    private final PaymentRepositoryPort paymentRepository;
+    private final FareConfigurationRepositoryPort fareConfigurationRepository;
+    private final PaymentSettlementQueuePort settlementQueue;
     private final TripCompletionService completionService;
+    private final FareQuoteTokenPort fareQuoteTokenPort;
     
     public CompleteTripWithPaymentUseCase(
             TripRepositoryPort tripRepository,
             FareRepositoryPort fareRepository,
             DistanceCalculationPort distanceCalculation,
             CalculateFareInputPort calculateFare,
-            ProcessPaymentInputPort processPayment,
-            TripCompletionService completionService) {
+            PaymentRepositoryPort paymentRepository,
+            FareConfigurationRepositoryPort fareConfigurationRepository,
+            PaymentSettlementQueuePort settlementQueue,
+            TripCompletionService completionService,
+            FareQuoteTokenPort fareQuoteTokenPort) {
         this.tripRepository = tripRepository;
         this.fareRepository = fareRepository;
         this.distanceCalculation = distanceCalculation;
         this.calculateFare = calculateFare;
-        this.processPayment = processPayment;
+        this.paymentRepository = paymentRepository;
+        this.fareConfigurationRepository = fareConfigurationRepository;
+        this.settlementQueue = settlementQueue;
         this.completionService = completionService;
+        this.fareQuoteTokenPort = fareQuoteTokenPort;
     }
     
     @Override
+    @org.springframework.transaction.annotation.Transactional
     public TripCompletionResult execute(CompleteTripWithPaymentCommand command) {
         Trip trip = tripRepository.findById(command.tripId())
             .orElseThrow(() -> new TripNotFoundException(command.tripId()));
@@ -74,43 +97,23 @@ public class CompleteTripWithPaymentUseCase implements CompleteTripWithPaymentIn
             trip.getStartedAt().orElseThrow()
         );
         
-        Fare fare = calculateFare.execute(
-            new CalculateFareInputPort.CalculateFareCommand(
-                trip.getId().getValue(),
-                trip.getTenantId(),
-                actualDistanceKm,
-                actualDurationMinutes,
-                VehicleType.SEDAN, // TODO: Get from driver's vehicle
-                LocalDateTime.now()
-            )
-        );
+        Fare fare = calculateFare(trip, actualDistanceKm, actualDurationMinutes);
         
         fare = fareRepository.save(fare);
         
-        Payment payment;
-        boolean paymentSuccessful;
-        String failureReason = null;
-        
-        try {
-            payment = processPayment.execute(
-                new ProcessPaymentInputPort.ProcessPaymentCommand(
-                    trip.getId().getValue(),
-                    command.paymentMethod()
-                )
-            );
-            
-            paymentSuccessful = payment.getStatus().name().equals("COMPLETED");
-            if (!paymentSuccessful && payment.getFailureReason() != null && !payment.getFailureReason().isBlank()) {
-                failureReason = payment.getFailureReason();
-            }
-        } catch (Exception e) {
-            // Payment failed - create failed payment record
-            throw e; // For now, propagate exception
-        }
-        
+        Payment payment = createPayment(trip, fare, command.paymentMethod());
         completionService.validateFareAndPayment(fare, payment);
         
-        trip.completeWithPayment(fare, payment);
+        if (command.paymentMethod().requiresGatewayProcessing()) {
+            payment = paymentRepository.save(payment);
+            settlementQueue.enqueue(payment.getId(), LocalDateTime.now());
+            trip.completeAwaitingPayment(fare, payment);
+        } else {
+            // Cash is collected by the driver, nothing to settle
+            payment.complete();
+            payment = paymentRepository.save(payment);
+            trip.completeWithPayment(fare, payment);
+        }
         
         trip = tripRepository.save(trip);
         
@@ -118,8 +121,47 @@ public class CompleteTripWithPaymentUseCase implements CompleteTripWithPaymentIn
             trip,
             fare,
             payment,
-            paymentSuccessful,
-            failureReason
+            payment.getStatus() == PaymentStatus.COMPLETED,
+            null
+        );
+    }
+    
+    private Payment createPayment(Trip trip, Fare fare, PaymentMethod paymentMethod) {
+        Money amount = fare.getTotalAmount();
+        Optional<FareConfiguration> config = fareConfigurationRepository.findByTenantId(trip.getTenantId());
+        Money platformFee = config.isPresent()
+            ? config.get().calculatePlatformFee(amount)
+            : amount.multiply(DEFAULT_PLATFORM_COMMISSION_RATE);
+        return Payment.create(
+            trip.getId().getValue(),
+            trip.getDriverId().orElse(null),
+            trip.getTenantId(),
+            amount,
+            platformFee,
+            amount.subtract(platformFee),
+            paymentMethod
+        );
+    }
+    
+    /**
+     * Quoted trips are charged with the prices, vehicle type and multiplier in their quote. The token was
+     * verified when the trip was created and is trusted as stored: neither its signature nor its expiry is
+     * checked again, so rotating the signing secret or a long trip never makes the trip impossible to charge.
+     */
+    private Fare calculateFare(Trip trip, double actualDistanceKm, int actualDurationMinutes) {
+        if (trip.getFareQuoteToken().isPresent()) {
+            return Fare.calculate(fareQuoteTokenPort.decode(trip.getFareQuoteToken().get()),
+                trip.getId().getValue(), actualDistanceKm, actualDurationMinutes);
+        }
+        return calculateFare.execute(
+            new CalculateFareInputPort.CalculateFareCommand(
+                trip.getId().getValue(),
+                trip.getTenantId(),
+                actualDistanceKm,
+                actualDurationMinutes,
+                VehicleType.SEDAN, // TODO: Get from driver's vehicle
+                LocalDateTime.now()
+            )
         );
     }
     
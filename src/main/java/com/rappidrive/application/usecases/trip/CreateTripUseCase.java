@@ -1,6 +1,7 @@
 package com.rappidrive.application.usecases.trip;
 
 import com.rappidrive.application.ports.input.trip.CreateTripInputPort;
+import com.rappidrive.application.ports.output.FareQuoteTokenPort;
 import com.rappidrive.application.ports.output.PassengerRepositoryPort;
 import com.rappidrive.application.ports.output.TripRepositoryPort;
 import com.rappidrive.application.ports.output.TelemetryPort;
@@ -8,13 +9,16 @@ import com.rappidrive.domain.entities.Passenger;
 import com.rappidrive.domain.entities.Trip;
 import com.rappidrive.domain.events.DomainEventPublisher;
 import com.rappidrive.domain.events.TripCreatedEvent;
+import com.rappidrive.domain.exceptions.InvalidFareQuoteException;
 import com.rappidrive.domain.exceptions.PassengerNotFoundException;
 import com.rappidrive.domain.services.FareCalculator;
 import com.rappidrive.domain.services.StandardFareCalculator;
+import com.rappidrive.domain.valueobjects.FareQuote;
 import com.rappidrive.domain.valueobjects.Money;
 import com.rappidrive.domain.valueobjects.PassengerId;
 import com.rappidrive.domain.valueobjects.TripId;
 
+import java.time.Clock;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 
@@ -25,15 +29,28 @@ public class CreateTripUseCase implements CreateTripInputPort {
     private final FareCalculator fareCalculator;
     private final DomainEventPublisher eventPublisher;
     private final TelemetryPort telemetryPort;
+    private final FareQuoteTokenPort fareQuoteTokenPort;
+    private final Clock clock;
 
     public CreateTripUseCase(TripRepositoryPort tripRepository,
                              PassengerRepositoryPort passengerRepository,
-                             TelemetryPort telemetryPort) {
+                             TelemetryPort telemetryPort,
+                             FareQuoteTokenPort fareQuoteTokenPort) {
+        this(tripRepository, passengerRepository, telemetryPort, fareQuoteTokenPort, Clock.systemUTC());
+    }
+
+    CreateTripUseCase(TripRepositoryPort tripRepository,
+                      PassengerRepositoryPort passengerRepository,
+                      TelemetryPort telemetryPort,
+                      FareQuoteTokenPort fareQuoteTokenPort,
+                      Clock clock) {
         this.tripRepository = tripRepository;
         this.passengerRepository = passengerRepository;
         this.fareCalculator = new StandardFareCalculator();
         this.eventPublisher = DomainEventPublisher.instance();
         this.telemetryPort = Objects.requireNonNull(telemetryPort, "telemetryPort must not be null");
+        this.fareQuoteTokenPort = Objects.requireNonNull(fareQuoteTokenPort, "fareQuoteTokenPort must not be null");
+        this.clock = clock;
     }
 
     @Override
@@ -50,6 +67,51 @@ public class CreateTripUseCase implements CreateTripInputPort {
             throw new IllegalStateException("Passenger cannot request rides in current status: " + passenger.getStatus());
         }
 
+        Trip trip = command.fareQuoteToken() != null
+            ? createFromQuote(command)
+            : createWithEstimate(command);
+
+        // Save trip
+        trip = tripRepository.save(trip);
+
+        // Publish event
+        eventPublisher.publish(new TripCreatedEvent(
+            trip.getId(),
+            trip.getPassengerId(),
+            String.format("%s,%s", trip.getOrigin().getLatitude(), trip.getOrigin().getLongitude()),
+            String.format("%s,%s", trip.getDestination().getLatitude(), trip.getDestination().getLongitude()),
+            trip.getEstimatedDistanceKm(),
+            trip.getEstimatedFare().toString()
+        ));
+
+        return trip;
+    }
+
+    /**
+     * Takes the estimate from the signed quote; the token is only checked, nothing is recomputed.
+     */
+    private Trip createFromQuote(CreateTripCommand command) {
+        FareQuote quote = fareQuoteTokenPort.verify(command.fareQuoteToken());
+        if (!quote.tenantId().equals(command.tenantId())) {
+            throw InvalidFareQuoteException.tenantMismatch();
+        }
+        if (quote.isExpired(clock.instant())) {
+            throw InvalidFareQuoteException.expired();
+        }
+        if (!quote.matchesRoute(command.pickupLocation(), command.dropoffLocation())) {
+            throw InvalidFareQuoteException.routeMismatch();
+        }
+
+        return new Trip(
+            TripId.generate(),
+            command.tenantId(),
+            new PassengerId(command.passengerId()),
+            quote,
+            command.fareQuoteToken()
+        );
+    }
+
+    private Trip createWithEstimate(CreateTripCommand command) {
         // Calculate estimated fare
         Money estimatedFare = fareCalculator.calculateFare(
             new FareCalculator.FareCalculationRequest(
@@ -61,8 +123,7 @@ public class CreateTripUseCase implements CreateTripInputPort {
             )
         );
 
-        // Create trip
-        Trip trip = new Trip(
+        return new Trip(
             TripId.generate(),
             command.tenantId(),
             new PassengerId(command.passengerId()),
@@ -70,20 +131,5 @@ public class CreateTripUseCase implements CreateTripInputPort {
             command.dropoffLocation(),
             estimatedFare
         );
-
-        // Save trip
-        trip = tripRepository.save(trip);
-
-        // Publish event
-        eventPublisher.publish(new TripCreatedEvent(
-            trip.getId(),
-            trip.getPassengerId(),
-            String.format("%s,%s", trip.getOrigin().getLatitude(), trip.getOrigin().getLongitude()),
-            String.format("%s,%s", trip.getDestination().getLatitude(), trip.getDestination().getLongitude()),
-            trip.getEstimatedDistanceKm(),
-            trip.getEstimatedFare().toString()
-        ));
-
-        return trip;
     }
 }
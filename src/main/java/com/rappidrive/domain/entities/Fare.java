@@ -3,7 +3,11 @@ package com.rappidrive.domain.entities;
 import com.rappidrive.domain.enums.FareMultiplierType;
 import com.rappidrive.domain.enums.VehicleType;
 import com.rappidrive.domain.exceptions.InvalidFareException;
+import com.rappidrive.domain.services.FareKernel;
+import com.rappidrive.domain.services.PricingTable;
+import com.rappidrive.domain.valueobjects.Currency;
 import com.rappidrive.domain.valueobjects.FareBreakdown;
+import com.rappidrive.domain.valueobjects.FareQuote;
 import com.rappidrive.domain.valueobjects.Money;
 import com.rappidrive.domain.valueobjects.TenantId;
 
@@ -71,11 +75,86 @@ public class Fare {
     public static Fare calculate(FareConfiguration config, UUID tripId, TenantId tenantId,
                                 double distanceKm, int durationMinutes,
                                 VehicleType vehicleCategory, LocalDateTime tripTime) {
+        Objects.requireNonNull(tripTime, "Trip time cannot be null");
+        return calculate(config, tripId, tenantId, distanceKm, durationMinutes, vehicleCategory,
+                FareMultiplierType.fromTripTime(tripTime));
+    }
+    
+    /**
+     * Calculates a new fare with an already determined time multiplier.
+     *
+     * @param config the fare configuration
+     * @param tripId the trip ID
+     * @param tenantId the tenant ID
+     * @param distanceKm the distance in kilometers
+     * @param durationMinutes the duration in minutes
+     * @param vehicleCategory the vehicle category
+     * @param multiplierType the time multiplier to apply
+     * @return a new Fare instance
+     */
+    public static Fare calculate(FareConfiguration config, UUID tripId, TenantId tenantId,
+                                double distanceKm, int durationMinutes,
+                                VehicleType vehicleCategory, FareMultiplierType multiplierType) {
+        Objects.requireNonNull(config, "Fare configuration cannot be null");
+        Objects.requireNonNull(vehicleCategory, "Vehicle category cannot be null");
+        Objects.requireNonNull(multiplierType, "Multiplier type cannot be null");
+        return calculate(config.getBaseFare(), config.getPricePerKm(), config.getPricePerMinute(),
+                config.getMinimumFare(), tripId, tenantId, distanceKm, durationMinutes, vehicleCategory,
+                multiplierType, multiplierType.getMultiplier(), getVehicleMultiplier(vehicleCategory));
+    }
+    
+    /**
+     * Calculates a new fare with the multipliers of the tenant's compiled pricing rules.
+     *
+     * @param config the fare configuration
+     * @param pricingTable the tenant's pricing table
+     * @param tripId the trip ID
+     * @param tenantId the tenant ID
+     * @param distanceKm the distance in kilometers
+     * @param durationMinutes the duration in minutes
+     * @param vehicleCategory the vehicle category
+     * @param tripTime the time when the trip occurred
+     * @return a new Fare instance
+     */
+    public static Fare calculate(FareConfiguration config, PricingTable pricingTable, UUID tripId,
+                                TenantId tenantId, double distanceKm, int durationMinutes,
+                                VehicleType vehicleCategory, LocalDateTime tripTime) {
         Objects.requireNonNull(config, "Fare configuration cannot be null");
+        Objects.requireNonNull(pricingTable, "Pricing table cannot be null");
+        Objects.requireNonNull(vehicleCategory, "Vehicle category cannot be null");
+        Objects.requireNonNull(tripTime, "Trip time cannot be null");
+        int outcome = pricingTable.resolve(tripTime, vehicleCategory);
+        return calculate(config.getBaseFare(), config.getPricePerKm(), config.getPricePerMinute(),
+                config.getMinimumFare(), tripId, tenantId, distanceKm, durationMinutes, vehicleCategory,
+                pricingTable.multiplierType(outcome), pricingTable.timeMultiplier(outcome),
+                pricingTable.vehicleMultiplier(vehicleCategory));
+    }
+    
+    /**
+     * Calculates the fare of a quoted trip with the prices and multipliers captured in the quote,
+     * so later changes to the tenant's fare configuration do not affect it.
+     *
+     * @param quote the fare quote the trip was created with
+     * @param tripId the trip ID
+     * @param distanceKm the actual distance in kilometers
+     * @param durationMinutes the actual duration in minutes
+     * @return a new Fare instance
+     */
+    public static Fare calculate(FareQuote quote, UUID tripId, double distanceKm, int durationMinutes) {
+        Objects.requireNonNull(quote, "Fare quote cannot be null");
+        return calculate(quote.baseFare(), quote.pricePerKm(), quote.pricePerMinute(), quote.minimumFare(),
+                tripId, quote.tenantId(), distanceKm, durationMinutes, quote.vehicleType(), quote.multiplierType(),
+                quote.timeMultiplier(), quote.vehicleMultiplier());
+    }
+    
+    private static Fare calculate(Money baseFare, Money pricePerKm, Money pricePerMinute, Money minimumFare,
+                                  UUID tripId, TenantId tenantId, double distanceKm, int durationMinutes,
+                                  VehicleType vehicleCategory, FareMultiplierType multiplierType,
+                                  double timeMultiplier, double vehicleMultiplier) {
         Objects.requireNonNull(tripId, "Trip ID cannot be null");
         Objects.requireNonNull(tenantId, "Tenant ID cannot be null");
         Objects.requireNonNull(vehicleCategory, "Vehicle category cannot be null");
-        Objects.requireNonNull(tripTime, "Trip time cannot be null");
+        Objects.requireNonNull(multiplierType, "Multiplier type cannot be null");
         
         if (distanceKm < 0) {
             throw InvalidFareException.negativeDistance();
@@ -84,32 +163,107 @@ public class Fare {
             throw InvalidFareException.negativeDuration();
         }
         
-        // Base fare
-        Money baseFare = config.getBaseFare();
+        Fare fare = calculateFixedPoint(baseFare, pricePerKm, pricePerMinute, minimumFare, tripId, tenantId,
+                distanceKm, durationMinutes, vehicleCategory, multiplierType, vehicleMultiplier, timeMultiplier);
+        if (fare == null) {
+            fare = calculateDecimal(baseFare, pricePerKm, pricePerMinute, minimumFare, tripId, tenantId,
+                    distanceKm, durationMinutes, vehicleCategory, multiplierType, vehicleMultiplier, timeMultiplier);
+        }
+        return fare;
+    }
+    
+    /**
+     * Computes the fare on long cents through {@link FareKernel}. Returns null when the inputs are
+     * outside what the kernel represents exactly (more than six fractional digits, overflow,
+     * mixed currencies), leaving those to {@link #calculateDecimal}.
+     */
+    private static Fare calculateFixedPoint(Money baseFare, Money pricePerKm, Money pricePerMinute,
+                                            Money minimumFare, UUID tripId, TenantId tenantId,
+                                            double distanceKm, int durationMinutes, VehicleType vehicleCategory,
+                                            FareMultiplierType multiplierType,
+                                            double vehicleMultiplier, double timeMultiplier) {
+        Currency currency = baseFare.getCurrency();
+        if (!baseFare.fitsInCents() || !pricePerKm.fitsInCents() || !pricePerMinute.fitsInCents()
+                || !minimumFare.fitsInCents() || pricePerKm.getCurrency() != currency
+                || pricePerMinute.getCurrency() != currency || minimumFare.getCurrency() != currency) {
+            return null;
+        }
+        long distanceMicros = Money.toMicros(distanceKm);
+        long multiplierMicros = FareKernel.combineMultipliers(vehicleMultiplier, timeMultiplier);
+        if (distanceMicros < 0 || multiplierMicros < 0) {
+            return null;
+        }
+        
+        long[] result = new long[FareKernel.SLOTS];
+        if (!FareKernel.compute(baseFare.toCents(), pricePerKm.toCents(), pricePerMinute.toCents(),
+                minimumFare.toCents(), distanceMicros, durationMinutes, multiplierMicros, result, 0)) {
+            return null;
+        }
+        
+        Money distanceFare = Money.ofCents(result[FareKernel.DISTANCE], currency);
+        Money timeFare = Money.ofCents(result[FareKernel.TIME], currency);
+        Money subtotal = Money.ofCents(result[FareKernel.SUBTOTAL], currency);
+        // rounded on its own, like FareBreakdown does: HALF_UP of |subtotal × (multiplier - 1)|
+        boolean multiplierDiscount = multiplierMicros < FareKernel.ONE;
+        long adjustment = Money.multiplyHalfUp(result[FareKernel.SUBTOTAL],
+                Math.abs(multiplierMicros - FareKernel.ONE), FareKernel.ONE);
+        if (adjustment < 0) {
+            return null;
+        }
+        Money totalMultiplier = Money.ofCents(adjustment, Currency.BRL);
+        Money finalAmount = Money.ofCents(result[FareKernel.TOTAL], Currency.BRL);
+        
+        FareBreakdown breakdown = FareBreakdown.ofComputed(
+                baseFare,
+                distanceFare,
+                timeFare,
+                subtotal,
+                vehicleMultiplier,
+                timeMultiplier,
+                totalMultiplier,
+                multiplierDiscount,
+                minimumFare,
+                finalAmount
+        );
         
+        return new Fare(
+                UUID.randomUUID(),
+                tripId,
+                tenantId,
+                baseFare,
+                distanceKm,
+                durationMinutes,
+                distanceFare,
+                timeFare,
+                multiplierType,
+                vehicleCategory,
+                subtotal,
+                finalAmount,
+                breakdown,
+                LocalDateTime.now()
+        );
+    }
+    
+    private static Fare calculateDecimal(Money baseFare, Money pricePerKm, Money pricePerMinute,
+                                         Money minimumFare, UUID tripId, TenantId tenantId,
+                                         double distanceKm, int durationMinutes, VehicleType vehicleCategory,
+                                         FareMultiplierType multiplierType,
+                                         double vehicleMultiplier, double timeMultiplier) {
         // Distance fare: distance × pricePerKm
-        Money distanceFare = config.getPricePerKm().multiply(BigDecimal.valueOf(distanceKm));
+        Money distanceFare = pricePerKm.multiply(BigDecimal.valueOf(distanceKm));
         
         // Time fare: duration × pricePerMinute
-        Money timeFare = config.getPricePerMinute().multiply(BigDecimal.valueOf(durationMinutes));
+        Money timeFare = pricePerMinute.multiply(BigDecimal.valueOf(durationMinutes));
         
         // Subtotal before multipliers
         Money subtotal = baseFare.add(distanceFare).add(timeFare);
         
-        // Determine time multiplier
-        FareMultiplierType multiplierType = FareMultiplierType.fromTripTime(tripTime);
-        double timeMultiplier = multiplierType.getMultiplier();
-        
-        // Determine vehicle multiplier
-        double vehicleMultiplier = getVehicleMultiplier(vehicleCategory);
-        
         // Apply multipliers
         BigDecimal combinedMultiplier = BigDecimal.valueOf(vehicleMultiplier)
                 .multiply(BigDecimal.valueOf(timeMultiplier));
         Money totalAfterMultipliers = subtotal.multiply(combinedMultiplier);
         
         // Ensure minimum fare
-        Money minimumFare = config.getMinimumFare();
         Money finalAmount = totalAfterMultipliers.isLessThan(minimumFare)
                 ? minimumFare
                 : totalAfterMultipliers;
@@ -147,10 +301,10 @@ public class Fare {
     }
     
     /**
-     * Gets the vehicle category multiplier.
+     * Gets the default vehicle category multiplier, used unless a tenant pricing rule overrides it.
      * HATCHBACK: 0.9x, SEDAN: 1.0x, SUV: 1.2x
      */
-    private static double getVehicleMultiplier(VehicleType vehicleType) {
+    public static double getVehicleMultiplier(VehicleType vehicleType) {
         return switch (vehicleType) {
             case HATCHBACK -> 0.9;
             case SEDAN -> 1.0;
@@ -10,6 +10,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,6 +20,7 @@ import java.util.UUID;
 public class Payment {
     private final UUID id;
     private final UUID tripId;
+    private final UUID driverId;
     private final TenantId tenantId;
     private final Money amount;
     private final Money platformFee;
@@ -30,13 +32,15 @@ public class Payment {
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime processedAt;
+    private PaymentStatus persistedStatus;
     
-    public Payment(UUID id, UUID tripId, TenantId tenantId, Money amount,
+    public Payment(UUID id, UUID tripId, UUID driverId, TenantId tenantId, Money amount,
                   Money platformFee, Money driverAmount, PaymentMethod paymentMethod,
                   PaymentStatus status, String gatewayTransactionId, String failureReason,
                   LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime processedAt) {
         this.id = Objects.requireNonNull(id, "ID cannot be null");
         this.tripId = Objects.requireNonNull(tripId, "Trip ID cannot be null");
+        this.driverId = driverId;
         this.tenantId = Objects.requireNonNull(tenantId, "Tenant ID cannot be null");
         this.amount = Objects.requireNonNull(amount, "Amount cannot be null");
         this.platformFee = Objects.requireNonNull(platformFee, "Platform fee cannot be null");
@@ -54,14 +58,16 @@ public class Payment {
     
     /**
      * Creates a new payment with PENDING status.
+     * The driver is the one paid for the trip, or null when the trip has none.
      */
-    public static Payment create(UUID tripId, TenantId tenantId, Money amount,
+    public static Payment create(UUID tripId, UUID driverId, TenantId tenantId, Money amount,
                                 Money platformFee, Money driverAmount,
                                 PaymentMethod paymentMethod) {
         LocalDateTime now = LocalDateTime.now();
         return new Payment(
                 UUID.randomUUID(),
                 tripId,
+                driverId,
                 tenantId,
                 amount,
                 platformFee,
@@ -159,6 +165,14 @@ public class Payment {
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * Records that the current status is the one stored.
+     * Called by the repository after loading or saving the payment.
+     */
+    public void markPersisted() {
+        this.persistedStatus = status;
+    }
+    
     /**
      * Checks if this payment can be refunded.
      */
@@ -181,6 +195,10 @@ public class Payment {
         return tripId;
     }
     
+    public Optional<UUID> getDriverId() {
+        return Optional.ofNullable(driverId);
+    }
+    
     public TenantId getTenantId() {
         return tenantId;
     }
@@ -225,6 +243,13 @@ public class Payment {
         return processedAt;
     }
     
+    /**
+     * Status as last loaded or saved, or null if the payment has never been stored.
+     */
+    public PaymentStatus getPersistedStatus() {
+        return persistedStatus;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -243,6 +268,7 @@ public class Payment {
         return "Payment{" +
                "id=" + id +
                ", tripId=" + tripId +
+               ", driverId=" + driverId +
                ", tenantId=" + tenantId +
                ", amount=" + amount +
                ", platformFee=" + platformFee +
@@ -28,6 +28,7 @@ public class Trip {
     private TripStatus status;
     private final double estimatedDistanceKm;
     private final Money estimatedFare;
+    private final String fareQuoteToken;
     private Money actualFare;
 
     private static final double BASE_FARE = 5.0;
@@ -59,6 +60,7 @@ public class Trip {
         this.status = TripStatus.REQUESTED;
         this.estimatedDistanceKm = origin.distanceTo(destination);
         this.estimatedFare = computeEstimatedFare(this.estimatedDistanceKm);
+        this.fareQuoteToken = null;
         this.requestedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -78,6 +80,29 @@ public class Trip {
         this.status = TripStatus.REQUESTED;
         this.estimatedDistanceKm = origin.distanceTo(destination);
         this.estimatedFare = estimatedFare;
+        this.fareQuoteToken = null;
+        this.requestedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Constructor for a trip requested with a fare quote. The route, estimated distance and fare
+     * are taken from the quote; the token is kept so the final fare can be charged with the
+     * quoted prices.
+     */
+    public Trip(TripId id, TenantId tenantId, PassengerId passengerId, FareQuote quote, String fareQuoteToken) {
+        if (id == null || tenantId == null || passengerId == null || quote == null || fareQuoteToken == null) {
+            throw new IllegalArgumentException("Required fields cannot be null");
+        }
+        this.id = id;
+        this.tenantId = tenantId;
+        this.passengerId = passengerId;
+        this.origin = quote.origin();
+        this.destination = quote.destination();
+        this.status = TripStatus.REQUESTED;
+        this.estimatedDistanceKm = quote.distanceKm();
+        this.estimatedFare = quote.totalAmount();
+        this.fareQuoteToken = fareQuoteToken;
         this.requestedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -98,6 +123,30 @@ public class Trip {
                 UUID fareId,
                 UUID paymentId,
                 TripPaymentStatus paymentStatus) {
+        this(id, tenantId, passengerId, driverId, origin, destination, status, requestedAt, startedAt,
+                completedAt, fareId, paymentId, paymentStatus, null, null, null);
+    }
+
+    /**
+     * Reconstruction constructor used by persistence mappers for trips whose estimate was stored.
+     * A missing estimated distance or fare (rows written before they were persisted) is recomputed.
+     */
+    public Trip(TripId id,
+                TenantId tenantId,
+                PassengerId passengerId,
+                DriverId driverId,
+                Location origin,
+                Location destination,
+                TripStatus status,
+                LocalDateTime requestedAt,
+                LocalDateTime startedAt,
+                LocalDateTime completedAt,
+                UUID fareId,
+                UUID paymentId,
+                TripPaymentStatus paymentStatus,
+                Double estimatedDistanceKm,
+                Money estimatedFare,
+                String fareQuoteToken) {
         this.id = id;
         this.tenantId = tenantId;
         this.passengerId = passengerId;
@@ -105,8 +154,13 @@ public class Trip {
         this.origin = origin;
         this.destination = destination;
         this.status = status != null ? status : TripStatus.REQUESTED;
-        this.estimatedDistanceKm = origin != null ? origin.distanceTo(destination) : 0.0;
-        this.estimatedFare = computeEstimatedFare(this.estimatedDistanceKm);
+        if (estimatedDistanceKm != null) {
+            this.estimatedDistanceKm = estimatedDistanceKm;
+        } else {
+            this.estimatedDistanceKm = origin != null ? origin.distanceTo(destination) : 0.0;
+        }
+        this.estimatedFare = estimatedFare != null ? estimatedFare : computeEstimatedFare(this.estimatedDistanceKm);
+        this.fareQuoteToken = fareQuoteToken;
         this.requestedAt = requestedAt != null ? requestedAt : LocalDateTime.now();
         this.startedAt = startedAt;
         this.completedAt = completedAt;
@@ -144,6 +198,8 @@ public class Trip {
         this.actualFare = actualFare;
         this.completedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+
+        registerCompletion();
     }
 
     public void start() {
@@ -153,6 +209,8 @@ public class Trip {
         this.status = TripStatus.IN_PROGRESS;
         this.startedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new TripStartedEvent(this.id, this.driverId));
     }
 
     public void completeWithPayment(com.rappidrive.domain.entities.Fare fare, com.rappidrive.domain.entities.Payment payment) {
@@ -170,12 +228,85 @@ public class Trip {
         this.status = TripStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+
+        registerCompletion();
+    }
+
+    /**
+     * Completes the trip before its payment is settled. The payment stays PENDING until the
+     * settlement saga applies the gateway result through {@link #settlePayment}.
+     */
+    public void completeAwaitingPayment(com.rappidrive.domain.entities.Fare fare, com.rappidrive.domain.entities.Payment payment) {
+        if (fare == null || payment == null) {
+            throw new IllegalArgumentException("Fare and payment cannot be null");
+        }
+        if (status != TripStatus.IN_PROGRESS) {
+            throw new InvalidTripStateException("Can only complete trips that are in progress");
+        }
+
+        this.actualFare = fare.getTotalAmount();
+        this.fareId = fare.getId();
+        this.paymentId = payment.getId();
+        this.paymentStatus = TripPaymentStatus.PENDING;
+        this.status = TripStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+
+        registerCompletion();
+    }
+
+    /**
+     * Applies the final state of the trip's payment and publishes the matching event.
+     *
+     * @return false if the trip already reflects a final payment state, so replaying a
+     *         settlement step is a no-op
+     */
+    public boolean settlePayment(com.rappidrive.domain.entities.Payment payment) {
+        if (payment == null) {
+            throw new IllegalArgumentException("Payment cannot be null");
+        }
+        if (status != TripStatus.COMPLETED) {
+            throw new InvalidTripStateException("Can only settle payments of completed trips");
+        }
+        if (paymentStatus != null && paymentStatus.isFinal()) {
+            return false;
+        }
+        if (!payment.getId().equals(paymentId)) {
+            throw new IllegalArgumentException("Payment " + payment.getId() + " does not belong to trip " + id);
+        }
+
+        DomainEvent event;
+        if (payment.getStatus() == com.rappidrive.domain.enums.PaymentStatus.COMPLETED) {
+            this.paymentStatus = TripPaymentStatus.PAID;
+            event = new TripPaymentSettledEvent(this.id, this.passengerId, this.driverId, payment.getId(),
+                payment.getAmount().toString(), payment.getGatewayTransactionId());
+        } else if (payment.getStatus() == com.rappidrive.domain.enums.PaymentStatus.FAILED) {
+            this.paymentStatus = TripPaymentStatus.PAYMENT_FAILED;
+            event = new TripPaymentFailedEvent(this.id, this.passengerId, this.driverId, payment.getId(),
+                payment.getAmount().toString(), payment.getFailureReason());
+        } else {
+            throw new IllegalArgumentException("Payment " + payment.getId() + " is not settled: " + payment.getStatus());
+        }
+        this.updatedAt = LocalDateTime.now();
+
+        DomainEventsCollector.instance().handle(event);
+        registerEvent(event);
+        return true;
     }
 
     public void registerEvent(DomainEvent event) {
         DomainEventPublisher.instance().publish(event);
     }
 
+    /**
+     * In-process only: completion reaches the outbox through the payment events.
+     */
+    private void registerCompletion() {
+        long durationMinutes = getDuration().map(Duration::toMinutes).orElse(0L);
+        registerEvent(new TripCompletedEvent(this.id, this.passengerId, this.driverId,
+            actualFare != null ? actualFare.toString() : null, durationMinutes));
+    }
+
     public TripId getId() {
         return id;
     }
@@ -252,6 +383,13 @@ public class Trip {
         return estimatedFare;
     }
 
+    /**
+     * Token of the fare quote the trip was requested with, if any.
+     */
+    public Optional<String> getFareQuoteToken() {
+        return Optional.ofNullable(fareQuoteToken);
+    }
+
     private Money computeEstimatedFare(double distanceKm) {
         if (distanceKm <= 0) {
             return new Money(0.0);
@@ -327,6 +465,13 @@ public class Trip {
     }
 
     public void cancel(ActorType actor, CancellationReason reason, LocalDateTime cancelledAt) {
+        cancel(actor, reason, cancelledAt, Money.zero(Currency.BRL));
+    }
+
+    /**
+     * Cancels the trip, recording the cancellation fee owed in the {@link TripCancelledEvent}.
+     */
+    public void cancel(ActorType actor, CancellationReason reason, LocalDateTime cancelledAt, Money fee) {
         if (actor == null) {
             throw new IllegalArgumentException("Actor cannot be null");
         }
@@ -336,6 +481,9 @@ public class Trip {
         if (cancelledAt == null) {
             throw new IllegalArgumentException("Cancelled at cannot be null");
         }
+        if (fee == null) {
+            throw new IllegalArgumentException("Cancellation fee cannot be null");
+        }
         if (this.status == TripStatus.COMPLETED) {
             throw new InvalidTripStateException("Cannot cancel a completed trip");
         }
@@ -353,9 +501,9 @@ public class Trip {
         this.status = TripStatus.CANCELLED;
         this.updatedAt = LocalDateTime.now();
 
-        DomainEventsCollector.instance().handle(
-            new TripCancelledEvent(this.id, actor, reason, Money.zero(Currency.BRL))
-        );
+        TripCancelledEvent event = new TripCancelledEvent(this.id, actor, reason, fee);
+        DomainEventsCollector.instance().handle(event);
+        registerEvent(event);
     }
 
     /**
@@ -0,0 +1,10 @@
+package com.rappidrive.domain.enums;
+
+/**
+ * Business event recorded by a ledger journal entry. Each event is recorded at most once per
+ * referenced payment.
+ */
+public enum JournalEntryType {
+    PAYMENT_COMPLETED,
+    PAYMENT_REFUNDED
+}
@@ -0,0 +1,28 @@
+package com.rappidrive.domain.enums;
+
+/**
+ * Kind of account in the double-entry ledger. Balances are debits minus credits, so liability
+ * and revenue accounts carry negative balances.
+ */
+public enum LedgerAccountType {
+    /**
+     * Money the payment gateway collected for us and has yet to pay out (asset, one per tenant).
+     */
+    GATEWAY_CLEARING,
+    
+    /**
+     * Platform fees earned (revenue, one per tenant).
+     */
+    PLATFORM_REVENUE,
+    
+    /**
+     * What the platform owes a driver (liability, one per driver). Cash trips, where the driver
+     * kept the fare, debit it with the platform fee the driver owes.
+     */
+    DRIVER_PAYABLE,
+    
+    /**
+     * Driver shares of payments whose trip has no driver, held until someone sorts them out.
+     */
+    SUSPENSE
+}
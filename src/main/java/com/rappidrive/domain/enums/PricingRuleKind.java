@@ -0,0 +1,21 @@
+package com.rappidrive.domain.enums;
+
+/**
+ * Kind of tenant pricing rule.
+ */
+public enum PricingRuleKind {
+    /**
+     * Multiplier of one or more vehicle types, applied at any time.
+     */
+    VEHICLE_RATE,
+    
+    /**
+     * Time multiplier for a daily window on some days of the week (e.g. weekday rush hours).
+     */
+    WEEKLY,
+    
+    /**
+     * Time multiplier for a fixed date-time range (e.g. holidays, event nights).
+     */
+    DATED
+}
@@ -1,10 +1,13 @@
 package com.rappidrive.domain.events;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Base interface for all domain events.
  * Events represent something that has happened in the domain.
+ * Each event declares its own metadata (aggregate id/type, schema version) so that
+ * infrastructure can route and serialise it without reflection.
  */
 public interface DomainEvent {
     
@@ -17,6 +20,17 @@ public interface DomainEvent {
      * Unique identifier for this event instance.
      */
     String eventId();
+
+    /**
+     * Identifier of the aggregate instance the event belongs to.
+     * Used as outbox aggregate id and as ordering/compaction key.
+     */
+    UUID aggregateId();
+
+    /**
+     * Name of the aggregate type the event belongs to (e.g. "Trip").
+     */
+    String aggregateType();
     
     /**
      * Version of the event schema for evolution compatibility.
@@ -1,53 +1,84 @@
 package com.rappidrive.domain.events;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Domain Event Publisher using Observer pattern.
- * Thread-safe implementation for publishing domain events.
+ * Thread-safe, process-wide implementation for publishing domain events.
+ *
+ * <p>Handlers run synchronously on the publishing thread. An event published from inside a
+ * handler is queued and delivered once the current event has reached every handler, so nested
+ * publishes keep their order instead of being dropped. Handlers that must not add latency to the
+ * caller (notifications, metrics) should subscribe through the asynchronous event bus registered
+ * here by the infrastructure layer.</p>
  */
 public class DomainEventPublisher {
-    
-    private static final ThreadLocal<DomainEventPublisher> INSTANCE = ThreadLocal.withInitial(DomainEventPublisher::new);
+
+    private static final DomainEventPublisher INSTANCE = new DomainEventPublisher();
+    private static final ThreadLocal<Deque<DomainEvent>> PENDING = new ThreadLocal<>();
+
     private final List<DomainEventHandler<?>> handlers = new CopyOnWriteArrayList<>();
-    private boolean publishing = false;
-    
+
     public static DomainEventPublisher instance() {
-        return INSTANCE.get();
+        return INSTANCE;
     }
-    
+
     /**
      * Publishes a domain event to all registered handlers.
-     * 
+     *
      * @param event the domain event to publish
      * @param <T> event type
      */
-    @SuppressWarnings("unchecked")
     public <T extends DomainEvent> void publish(T event) {
-        if (publishing) {
-            return; // Prevent recursive publishing
+        Deque<DomainEvent> pending = PENDING.get();
+        if (pending != null) {
+            pending.addLast(event); // nested publish: delivered after the current event
+            return;
         }
-        
+
+        pending = new ArrayDeque<>();
+        PENDING.set(pending);
         try {
-            publishing = true;
-            handlers.stream()
-                    .filter(handler -> handler.canHandle(event))
-                    .forEach(handler -> ((DomainEventHandler<T>) handler).handle(event));
+            DomainEvent next = event;
+            while (next != null) {
+                deliver(next);
+                next = pending.pollFirst();
+            }
         } finally {
-            publishing = false;
+            PENDING.remove();
         }
     }
-    
+
+    @SuppressWarnings("unchecked")
+    private <T extends DomainEvent> void deliver(T event) {
+        for (DomainEventHandler<?> handler : handlers) {
+            if (handler.canHandle(event)) {
+                ((DomainEventHandler<T>) handler).handle(event);
+            }
+        }
+    }
+
     /**
      * Registers a domain event handler.
-     * 
+     *
      * @param handler the handler to register
      */
     public void register(DomainEventHandler<?> handler) {
         handlers.add(handler);
     }
-    
+
+    /**
+     * Removes a previously registered handler.
+     *
+     * @param handler the handler to remove
+     */
+    public void unregister(DomainEventHandler<?> handler) {
+        handlers.remove(handler);
+    }
+
     /**
      * Clears all registered handlers.
      * Useful for testing or cleanup.
@@ -55,13 +86,13 @@ public class DomainEventPublisher {
     public void clearHandlers() {
         handlers.clear();
     }
-    
+
     /**
      * Resets the publisher state.
-     * Clears handlers and resets publishing flag.
+     * Clears handlers and any events queued on the current thread.
      */
     public void reset() {
-        publishing = false;
+        PENDING.remove();
         clearHandlers();
     }
-}
\ No newline at end of file
+}
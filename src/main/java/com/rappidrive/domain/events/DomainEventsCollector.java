@@ -32,8 +32,12 @@ public class DomainEventsCollector implements DomainEventHandler<DomainEvent> {
      * Drain and clear collected events for current thread.
      */
     public List<DomainEvent> drain() {
-        List<DomainEvent> list = new ArrayList<>(EVENTS.get());
-        EVENTS.get().clear();
+        List<DomainEvent> collected = EVENTS.get();
+        if (collected.isEmpty()) {
+            return List.of();
+        }
+        List<DomainEvent> list = new ArrayList<>(collected);
+        collected.clear();
         return list;
     }
 
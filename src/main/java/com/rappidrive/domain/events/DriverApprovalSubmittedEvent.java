@@ -15,4 +15,14 @@ public record DriverApprovalSubmittedEvent(
     UUID approvalRequestId,
     int documentCount
 ) implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return approvalRequestId;
+    }
+
+    @Override
+    public String aggregateType() {
+        return "DriverApproval";
+    }
 }
@@ -17,4 +17,14 @@ public record DriverApprovedEvent(
     UUID approvedByAdminId,
     String approverName
 ) implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return approvalRequestId;
+    }
+
+    @Override
+    public String aggregateType() {
+        return "DriverApproval";
+    }
 }
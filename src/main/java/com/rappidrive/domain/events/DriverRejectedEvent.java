@@ -19,4 +19,14 @@ public record DriverRejectedEvent(
     String rejectionReason,
     boolean permanentBan
 ) implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return approvalRequestId;
+    }
+
+    @Override
+    public String aggregateType() {
+        return "DriverApproval";
+    }
 }
@@ -64,6 +64,16 @@ public class TenantOnboardedEvent implements DomainEvent {
         return serviceAreaName;
     }
 
+    @Override
+    public UUID aggregateId() {
+        return tenantId.getValue();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Tenant";
+    }
+
     @Override
     public int version() {
         return 1;
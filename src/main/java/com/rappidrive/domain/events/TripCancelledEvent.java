@@ -29,4 +29,14 @@ public record TripCancelledEvent(
             LocalDateTime.now()
         );
     }
+
+    @Override
+    public UUID aggregateId() {
+        return tripId.getValue();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Trip";
+    }
 }
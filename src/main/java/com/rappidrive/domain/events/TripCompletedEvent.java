@@ -32,4 +32,14 @@ public record TripCompletedEvent(
             durationMinutes
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public UUID aggregateId() {
+        return tripId.getValue();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Trip";
+    }
+}
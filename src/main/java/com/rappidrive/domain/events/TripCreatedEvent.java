@@ -34,4 +34,14 @@ public record TripCreatedEvent(
             estimatedFare
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public UUID aggregateId() {
+        return tripId.getValue();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Trip";
+    }
+}
@@ -24,4 +24,14 @@ public record TripDriverAssignedEvent(
             driverId
         );
     }
+
+    @Override
+    public UUID aggregateId() {
+        return tripId.getValue();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Trip";
+    }
 }
@@ -0,0 +1,47 @@
+package com.rappidrive.domain.events;
+
+import com.rappidrive.domain.valueobjects.DriverId;
+import com.rappidrive.domain.valueobjects.PassengerId;
+import com.rappidrive.domain.valueobjects.TripId;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Event published when the payment of a completed trip is confirmed by the gateway.
+ */
+public record TripPaymentSettledEvent(
+    String eventId,
+    LocalDateTime occurredOn,
+    TripId tripId,
+    PassengerId passengerId,
+    DriverId driverId,
+    UUID paymentId,
+    String amount,
+    String gatewayTransactionId
+) implements DomainEvent {
+
+    public TripPaymentSettledEvent(TripId tripId, PassengerId passengerId, DriverId driverId,
+                                   UUID paymentId, String amount, String gatewayTransactionId) {
+        this(
+            UUID.randomUUID().toString(),
+            LocalDateTime.now(),
+            tripId,
+            passengerId,
+            driverId,
+            paymentId,
+            amount,
+            gatewayTransactionId
+        );
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return tripId.getValue();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Trip";
+    }
+}
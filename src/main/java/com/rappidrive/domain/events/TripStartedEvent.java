@@ -0,0 +1,37 @@
+package com.rappidrive.domain.events;
+
+import com.rappidrive.domain.valueobjects.DriverId;
+import com.rappidrive.domain.valueobjects.TripId;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Event published when the driver starts a trip.
+ */
+public record TripStartedEvent(
+    String eventId,
+    LocalDateTime occurredOn,
+    TripId tripId,
+    DriverId driverId
+) implements DomainEvent {
+
+    public TripStartedEvent(TripId tripId, DriverId driverId) {
+        this(
+            UUID.randomUUID().toString(),
+            LocalDateTime.now(),
+            tripId,
+            driverId
+        );
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return tripId.getValue();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Trip";
+    }
+}
@@ -0,0 +1,31 @@
+package com.rappidrive.domain.exceptions;
+
+/**
+ * Exception thrown when a fare quote token cannot be used to request or charge a trip.
+ */
+public class InvalidFareQuoteException extends DomainException {
+    
+    public InvalidFareQuoteException(String message) {
+        super(message);
+    }
+    
+    public static InvalidFareQuoteException malformed() {
+        return new InvalidFareQuoteException("Fare quote token is malformed");
+    }
+    
+    public static InvalidFareQuoteException invalidSignature() {
+        return new InvalidFareQuoteException("Fare quote token signature is invalid");
+    }
+    
+    public static InvalidFareQuoteException expired() {
+        return new InvalidFareQuoteException("Fare quote has expired");
+    }
+    
+    public static InvalidFareQuoteException tenantMismatch() {
+        return new InvalidFareQuoteException("Fare quote was issued for another tenant");
+    }
+    
+    public static InvalidFareQuoteException routeMismatch() {
+        return new InvalidFareQuoteException("Fare quote was issued for another route");
+    }
+}
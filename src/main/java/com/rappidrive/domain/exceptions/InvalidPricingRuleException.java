@@ -0,0 +1,15 @@
+package com.rappidrive.domain.exceptions;
+
+/**
+ * Exception thrown when a tenant pricing rule is inconsistent or cannot be compiled.
+ */
+public class InvalidPricingRuleException extends DomainException {
+    
+    public InvalidPricingRuleException(String message) {
+        super(message);
+    }
+    
+    public static InvalidPricingRuleException forRule(String ruleName, String reason) {
+        return new InvalidPricingRuleException("Invalid pricing rule '" + ruleName + "': " + reason);
+    }
+}
@@ -0,0 +1,11 @@
+package com.rappidrive.domain.exceptions;
+
+/**
+ * The charge reached the payment gateway but no answer arrived in time, so it may or may not have
+ * gone through. Retrying with the same idempotency key is safe; failing the payment is not.
+ */
+public class PaymentOutcomeUnknownException extends PaymentServiceUnavailableException {
+    public PaymentOutcomeUnknownException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
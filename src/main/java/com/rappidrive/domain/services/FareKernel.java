@@ -0,0 +1,124 @@
+package com.rappidrive.domain.services;
+
+import com.rappidrive.domain.valueobjects.Money;
+
+/**
+ * Fixed-point fare arithmetic on amounts in minor units (cents).
+ *
+ * <p>Reproduces the rounding of {@code Fare.calculate} exactly: distance fare rounded HALF_UP to
+ * the cent, subtotal multiplied by the combined multiplier and rounded HALF_UP, clamped to the
+ * minimum fare and finally rounded up to the next 10 cents. Distances and multipliers are taken
+ * in millionths, which is exact for every {@code double} whose decimal form has at most six
+ * fractional digits (see {@link Money#toMicros(double)}).</p>
+ *
+ * <p>{@link #compute} writes its results into a caller-supplied {@code long[]} so that a single
+ * array can hold many fares; it allocates nothing and returns {@code false} on overflow, in which
+ * case callers fall back to {@code BigDecimal} arithmetic.</p>
+ */
+public final class FareKernel {
+
+    public static final int BASE = 0;
+    public static final int DISTANCE = 1;
+    public static final int TIME = 2;
+    public static final int SUBTOTAL = 3;
+    public static final int AFTER_MULTIPLIERS = 4;
+    public static final int TOTAL = 5;
+    public static final int SLOTS = 6;
+
+    public static final long ONE = 1_000_000L;
+
+    private static final long ROUNDING_STEP_CENTS = 10L;
+
+    private FareKernel() {
+    }
+
+    /**
+     * Combined vehicle × time multiplier in millionths, or -1 if it cannot be expressed exactly.
+     */
+    public static long combineMultipliers(double vehicleMultiplier, double timeMultiplier) {
+        long vehicle = Money.toMicros(vehicleMultiplier);
+        long time = Money.toMicros(timeMultiplier);
+        if (vehicle < 0 || time < 0 || Math.multiplyHigh(vehicle, time) != 0) {
+            return -1;
+        }
+        long product = vehicle * time;
+        if (product < 0 || product % ONE != 0) {
+            return -1;
+        }
+        return product / ONE;
+    }
+
+    /**
+     * Computes one fare into {@code out[offset .. offset + SLOTS)}.
+     *
+     * @param baseCents base fare
+     * @param perKmCents price per kilometer
+     * @param perMinuteCents price per minute
+     * @param minimumCents minimum fare
+     * @param distanceMicros distance in millionths of a kilometer
+     * @param minutes trip duration in minutes
+     * @param multiplierMicros combined multiplier in millionths
+     * @param out result array
+     * @param offset first slot to write
+     * @return false if an intermediate value overflowed; {@code out} is then unspecified
+     */
+    public static boolean compute(long baseCents, long perKmCents, long perMinuteCents, long minimumCents,
+                                  long distanceMicros, long minutes, long multiplierMicros,
+                                  long[] out, int offset) {
+        long distance = Money.multiplyHalfUp(perKmCents, distanceMicros, ONE);
+        if (distance < 0 || Math.multiplyHigh(perMinuteCents, minutes) != 0) {
+            return false;
+        }
+        long time = perMinuteCents * minutes;
+        long subtotal = baseCents + distance;
+        if (time < 0 || subtotal < 0) {
+            return false;
+        }
+        subtotal += time;
+        if (subtotal < 0) {
+            return false;
+        }
+        long afterMultipliers = Money.multiplyHalfUp(subtotal, multiplierMicros, ONE);
+        if (afterMultipliers < 0) {
+            return false;
+        }
+        long total = Math.max(afterMultipliers, minimumCents);
+        if (total > Long.MAX_VALUE - ROUNDING_STEP_CENTS) {
+            return false;
+        }
+        total = (total + ROUNDING_STEP_CENTS - 1) / ROUNDING_STEP_CENTS * ROUNDING_STEP_CENTS;
+
+        out[offset + BASE] = baseCents;
+        out[offset + DISTANCE] = distance;
+        out[offset + TIME] = time;
+        out[offset + SUBTOTAL] = subtotal;
+        out[offset + AFTER_MULTIPLIERS] = afterMultipliers;
+        out[offset + TOTAL] = total;
+        return true;
+    }
+
+    /**
+     * Computes the fares of every route × multiplier combination with one configuration.
+     * Cell {@code (route, m)} occupies {@code out[(route * multiplierMicros.length + m) * SLOTS ..]};
+     * cells whose inputs are negative (not representable) or that overflow get {@code TOTAL = -1}.
+     *
+     * @return the number of cells that could not be computed
+     */
+    public static int computeAll(long baseCents, long perKmCents, long perMinuteCents, long minimumCents,
+                                 long[] distanceMicros, long[] minutes, long[] multiplierMicros, long[] out) {
+        int multipliers = multiplierMicros.length;
+        int failed = 0;
+        for (int route = 0; route < distanceMicros.length; route++) {
+            for (int m = 0; m < multipliers; m++) {
+                int offset = (route * multipliers + m) * SLOTS;
+                if (distanceMicros[route] < 0 || multiplierMicros[m] < 0
+                        || !compute(baseCents, perKmCents, perMinuteCents, minimumCents,
+                                distanceMicros[route], minutes[route], multiplierMicros[m], out, offset)) {
+                    out[offset + TOTAL] = -1;
+                    failed++;
+                }
+            }
+        }
+        return failed;
+    }
+}
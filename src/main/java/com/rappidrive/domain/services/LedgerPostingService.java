@@ -0,0 +1,79 @@
+package com.rappidrive.domain.services;
+
+import com.rappidrive.domain.entities.Payment;
+import com.rappidrive.domain.enums.JournalEntryType;
+import com.rappidrive.domain.enums.PaymentStatus;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.JournalEntry;
+import com.rappidrive.domain.valueobjects.JournalEntry.Posting;
+import com.rappidrive.domain.valueobjects.LedgerAccount;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Domain service with the posting rules of the double-entry ledger.
+ *
+ * <p>A completed gateway payment debits the tenant's gateway clearing account with the full amount
+ * and credits the platform fee to revenue and the rest to the driver. A completed cash payment
+ * never reaches us: the driver kept the fare, so the driver's account is debited with the platform
+ * fee they owe. A refund reverses the completion entry.</p>
+ */
+public class LedgerPostingService {
+
+    /**
+     * Returns the journal entry a payment status change calls for, if any.
+     *
+     * @param payment the payment in its new state
+     * @param previousStatus the status it had before, or null for a new payment
+     * @param driverId the driver of the payment's trip, or null if it has none (their share goes
+     *                 to the tenant's suspense account)
+     */
+    public Optional<JournalEntry> entryFor(Payment payment, PaymentStatus previousStatus, UUID driverId) {
+        PaymentStatus status = payment.getStatus();
+        if (status == previousStatus) {
+            return Optional.empty();
+        }
+        if (status == PaymentStatus.COMPLETED) {
+            return completion(payment, driverId);
+        }
+        if (status == PaymentStatus.REFUNDED) {
+            return completion(payment, driverId).map(entry -> entry.reversal(JournalEntryType.PAYMENT_REFUNDED));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<JournalEntry> completion(Payment payment, UUID driverId) {
+        TenantId tenantId = payment.getTenantId();
+        Currency currency = payment.getAmount().getCurrency();
+        long amount = payment.getAmount().toCents();
+        long fee = payment.getPlatformFee().toCents();
+        LedgerAccount driver = driverId != null
+            ? LedgerAccount.driverPayable(tenantId, driverId, currency)
+            : LedgerAccount.suspense(tenantId, currency);
+        LedgerAccount revenue = LedgerAccount.platformRevenue(tenantId, currency);
+
+        List<Posting> postings = new ArrayList<>(3);
+        if (payment.getPaymentMethod().requiresGatewayProcessing()) {
+            postings.add(Posting.debit(LedgerAccount.gatewayClearing(tenantId, currency), amount));
+            addCredit(postings, revenue, fee);
+            addCredit(postings, driver, amount - fee);
+        } else if (fee > 0) {
+            postings.add(Posting.debit(driver, fee));
+            postings.add(Posting.credit(revenue, fee));
+        }
+        if (postings.size() < 2) {
+            return Optional.empty();
+        }
+        return Optional.of(new JournalEntry(tenantId, JournalEntryType.PAYMENT_COMPLETED, payment.getId(), postings));
+    }
+
+    private static void addCredit(List<Posting> postings, LedgerAccount account, long cents) {
+        if (cents != 0) {
+            postings.add(Posting.credit(account, cents));
+        }
+    }
+}
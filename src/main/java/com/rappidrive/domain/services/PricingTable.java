@@ -0,0 +1,337 @@
+package com.rappidrive.domain.services;
+
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.PricingRuleKind;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.InvalidPricingRuleException;
+import com.rappidrive.domain.valueobjects.PricingRule;
+
+import java.math.BigDecimal;
+import java.nio.ShortBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A tenant's pricing rules compiled into flat lookup tables.
+ *
+ * <p>Every distinct (multiplier type, time multiplier) pair becomes an <em>outcome</em> with a
+ * {@code short} id. The weekly calendar is a {@code short[]} indexed by
+ * {@code (minuteOfWeek × vehicleTypes + vehicleType)}; days touched by dated rules get their own
+ * 1440-minute table, shared between days with identical contents, and are found through a
+ * per-day index starting at the earliest dated rule. {@link #resolve} is therefore two or three
+ * array reads regardless of the number of rules, and allocates nothing.</p>
+ *
+ * <p>The built-in defaults ({@link FareMultiplierType} windows and {@link Fare#getVehicleMultiplier})
+ * are painted first; tenant rules are painted over them in ascending priority, dated rules after
+ * weekly ones of the same priority and otherwise in list order, so the last matching rule wins.</p>
+ *
+ * <p>Instances are immutable and safe to share between threads.</p>
+ */
+public final class PricingTable {
+
+    public static final int MINUTES_PER_DAY = 1440;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    /**
+     * Upper bound on the days covered by the dated index, to keep a stray far-future rule from
+     * growing the table without limit.
+     */
+    public static final int MAX_DATED_SPAN_DAYS = 10 * 366;
+
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final int V = VEHICLE_TYPES.length;
+    private static final short NO_DAY_TABLE = -1;
+
+    private static final List<PricingRule> DEFAULT_RULES = List.of(
+            PricingRule.weekly("Default late night", EnumSet.allOf(DayOfWeek.class), LocalTime.MIDNIGHT,
+                    LocalTime.of(6, 0), Set.of(), FareMultiplierType.LATE_NIGHT,
+                    multiplierOf(FareMultiplierType.LATE_NIGHT), Integer.MIN_VALUE),
+            PricingRule.weekly("Default morning peak", EnumSet.allOf(DayOfWeek.class), LocalTime.of(7, 0),
+                    LocalTime.of(9, 0), Set.of(), FareMultiplierType.PEAK,
+                    multiplierOf(FareMultiplierType.PEAK), Integer.MIN_VALUE),
+            PricingRule.weekly("Default evening peak", EnumSet.allOf(DayOfWeek.class), LocalTime.of(17, 0),
+                    LocalTime.of(19, 0), Set.of(), FareMultiplierType.PEAK,
+                    multiplierOf(FareMultiplierType.PEAK), Integer.MIN_VALUE));
+
+    private static final Comparator<PricingRule> PAINT_ORDER = Comparator
+            .comparingInt(PricingRule::priority)
+            .thenComparing(rule -> rule.kind() == PricingRuleKind.DATED);
+
+    private static final PricingTable STANDARD = compile(List.of());
+
+    private final FareMultiplierType[] outcomeTypes;
+    private final double[] outcomeMultipliers;
+    private final double[] vehicleMultipliers;
+    private final long[] combinedMicros;
+    private final short[] weekly;
+    private final long baseEpochDay;
+    private final short[] dayProfile;
+    private final short[][] dayTables;
+    private final int ruleCount;
+
+    private PricingTable(FareMultiplierType[] outcomeTypes, double[] outcomeMultipliers, double[] vehicleMultipliers,
+                         short[] weekly, long baseEpochDay, short[] dayProfile, short[][] dayTables, int ruleCount) {
+        this.outcomeTypes = outcomeTypes;
+        this.outcomeMultipliers = outcomeMultipliers;
+        this.vehicleMultipliers = vehicleMultipliers;
+        this.weekly = weekly;
+        this.baseEpochDay = baseEpochDay;
+        this.dayProfile = dayProfile;
+        this.dayTables = dayTables;
+        this.ruleCount = ruleCount;
+        this.combinedMicros = new long[outcomeTypes.length * V];
+        for (int o = 0; o < outcomeTypes.length; o++) {
+            for (int v = 0; v < V; v++) {
+                combinedMicros[o * V + v] = FareKernel.combineMultipliers(vehicleMultipliers[v], outcomeMultipliers[o]);
+            }
+        }
+    }
+
+    /**
+     * Table with only the built-in defaults, for tenants without rules.
+     */
+    public static PricingTable standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Compiles a tenant's rules.
+     *
+     * @throws InvalidPricingRuleException if the dated rules span more than {@link #MAX_DATED_SPAN_DAYS}
+     *         or produce more distinct tables than fit the index
+     */
+    public static PricingTable compile(List<PricingRule> rules) {
+        List<PricingRule> ordered = new ArrayList<>(DEFAULT_RULES);
+        List<PricingRule> tenantRules = new ArrayList<>(rules);
+        tenantRules.sort(PAINT_ORDER); // stable: list order breaks ties
+        ordered.addAll(tenantRules);
+
+        double[] vehicleMultipliers = new double[V];
+        for (int v = 0; v < V; v++) {
+            vehicleMultipliers[v] = Fare.getVehicleMultiplier(VEHICLE_TYPES[v]);
+        }
+
+        Outcomes outcomes = new Outcomes();
+        List<PricingRule> timeRules = new ArrayList<>();
+        List<PricingRule> datedRules = new ArrayList<>();
+        for (PricingRule rule : ordered) {
+            if (rule.kind() == PricingRuleKind.VEHICLE_RATE) {
+                for (int v = 0; v < V; v++) {
+                    if (rule.appliesTo(VEHICLE_TYPES[v])) {
+                        vehicleMultipliers[v] = rule.multiplier().doubleValue();
+                    }
+                }
+                continue;
+            }
+            outcomes.idOf(rule);
+            timeRules.add(rule);
+            if (rule.kind() == PricingRuleKind.DATED) {
+                datedRules.add(rule);
+            }
+        }
+
+        short[] weekly = new short[MINUTES_PER_WEEK * V];
+        for (DayOfWeek day : DayOfWeek.values()) {
+            short[] dayTable = new short[MINUTES_PER_DAY * V];
+            paintDay(dayTable, day, null, timeRules, outcomes);
+            System.arraycopy(dayTable, 0, weekly, (day.getValue() - 1) * MINUTES_PER_DAY * V, dayTable.length);
+        }
+
+        long baseEpochDay = 0;
+        short[] dayProfile = new short[0];
+        List<short[]> dayTables = new ArrayList<>();
+        if (!datedRules.isEmpty()) {
+            long firstDay = Long.MAX_VALUE;
+            long lastDay = Long.MIN_VALUE;
+            for (PricingRule rule : datedRules) {
+                firstDay = Math.min(firstDay, rule.startsAt().toLocalDate().toEpochDay());
+                lastDay = Math.max(lastDay, lastDayOf(rule).toEpochDay());
+            }
+            if (lastDay - firstDay + 1 > MAX_DATED_SPAN_DAYS) {
+                throw new InvalidPricingRuleException(
+                        "Dated pricing rules cannot span more than " + MAX_DATED_SPAN_DAYS + " days");
+            }
+            baseEpochDay = firstDay;
+            dayProfile = new short[(int) (lastDay - firstDay + 1)];
+            Arrays.fill(dayProfile, NO_DAY_TABLE);
+
+            Map<ShortBuffer, Short> distinct = new HashMap<>();
+            for (PricingRule rule : datedRules) {
+                long ruleLastDay = lastDayOf(rule).toEpochDay();
+                for (long epochDay = rule.startsAt().toLocalDate().toEpochDay(); epochDay <= ruleLastDay; epochDay++) {
+                    int index = (int) (epochDay - baseEpochDay);
+                    if (dayProfile[index] != NO_DAY_TABLE) {
+                        continue; // already built with every rule, not just this one
+                    }
+                    LocalDate date = LocalDate.ofEpochDay(epochDay);
+                    short[] dayTable = new short[MINUTES_PER_DAY * V];
+                    paintDay(dayTable, date.getDayOfWeek(), date, timeRules, outcomes);
+                    int weeklyOffset = (date.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY * V;
+                    if (Arrays.equals(dayTable, 0, dayTable.length, weekly, weeklyOffset, weeklyOffset + dayTable.length)) {
+                        continue; // fully shadowed by weekly rules of higher priority
+                    }
+                    Short id = distinct.get(ShortBuffer.wrap(dayTable));
+                    if (id == null) {
+                        if (dayTables.size() == Short.MAX_VALUE) {
+                            throw new InvalidPricingRuleException("Too many distinct dated pricing days");
+                        }
+                        id = (short) dayTables.size();
+                        dayTables.add(dayTable);
+                        distinct.put(ShortBuffer.wrap(dayTable), id);
+                    }
+                    dayProfile[index] = id;
+                }
+            }
+        }
+
+        return new PricingTable(outcomes.types.toArray(FareMultiplierType[]::new),
+                outcomes.multipliers.stream().mapToDouble(BigDecimal::doubleValue).toArray(),
+                vehicleMultipliers, weekly, baseEpochDay, dayProfile, dayTables.toArray(short[][]::new),
+                rules.size());
+    }
+
+    /**
+     * Resolves the outcome in effect for a trip starting at the given time.
+     *
+     * @return outcome id, to be passed to {@link #multiplierType}, {@link #timeMultiplier} and
+     *         {@link #combinedMultiplierMicros}
+     */
+    public int resolve(LocalDateTime tripTime, VehicleType vehicleType) {
+        int minuteOfDay = tripTime.getHour() * 60 + tripTime.getMinute();
+        int v = vehicleType.ordinal();
+        long day = tripTime.toLocalDate().toEpochDay() - baseEpochDay;
+        if (day >= 0 && day < dayProfile.length) {
+            short table = dayProfile[(int) day];
+            if (table != NO_DAY_TABLE) {
+                return dayTables[table][minuteOfDay * V + v];
+            }
+        }
+        int minuteOfWeek = (tripTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + minuteOfDay;
+        return weekly[minuteOfWeek * V + v];
+    }
+
+    public FareMultiplierType multiplierType(int outcome) {
+        return outcomeTypes[outcome];
+    }
+
+    public double timeMultiplier(int outcome) {
+        return outcomeMultipliers[outcome];
+    }
+
+    public double vehicleMultiplier(VehicleType vehicleType) {
+        return vehicleMultipliers[vehicleType.ordinal()];
+    }
+
+    /**
+     * Vehicle × time multiplier in millionths, or -1 if it cannot be expressed exactly
+     * (see {@link FareKernel#combineMultipliers}).
+     */
+    public long combinedMultiplierMicros(int outcome, VehicleType vehicleType) {
+        return combinedMicros[outcome * V + vehicleType.ordinal()];
+    }
+
+    public int ruleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * Number of distinct day tables built for dated rules.
+     */
+    public int datedTableCount() {
+        return dayTables.length;
+    }
+
+    /**
+     * Paints the time rules that cover {@code dayOfWeek} (and {@code date}, when given) into a
+     * 1440-minute table. Weekly windows that wrap past midnight are painted from the previous day.
+     * Dated rules are skipped when {@code date} is null.
+     */
+    private static void paintDay(short[] dayTable, DayOfWeek dayOfWeek, LocalDate date,
+                                 List<PricingRule> timeRules, Outcomes outcomes) {
+        DayOfWeek previousDay = dayOfWeek.minus(1);
+        for (PricingRule rule : timeRules) {
+            short outcome = outcomes.idOf(rule);
+            if (rule.kind() == PricingRuleKind.WEEKLY) {
+                int start = minuteOf(rule.startTime());
+                int end = minuteOf(rule.endTime());
+                if (rule.daysOfWeek().contains(dayOfWeek)) {
+                    paint(dayTable, rule, outcome, start, end > start ? end : MINUTES_PER_DAY);
+                }
+                if (end <= start && rule.daysOfWeek().contains(previousDay)) {
+                    paint(dayTable, rule, outcome, 0, end);
+                }
+            } else if (date != null) {
+                LocalDateTime dayStart = date.atStartOfDay();
+                long start = ChronoUnit.MINUTES.between(dayStart, rule.startsAt());
+                long end = ChronoUnit.MINUTES.between(dayStart, rule.endsAt());
+                if (start < MINUTES_PER_DAY && end > 0) {
+                    paint(dayTable, rule, outcome, (int) Math.max(start, 0), (int) Math.min(end, MINUTES_PER_DAY));
+                }
+            }
+        }
+    }
+
+    private static void paint(short[] dayTable, PricingRule rule, short outcome, int fromMinute, int toMinute) {
+        for (int v = 0; v < V; v++) {
+            if (!rule.appliesTo(VEHICLE_TYPES[v])) {
+                continue;
+            }
+            for (int minute = fromMinute; minute < toMinute; minute++) {
+                dayTable[minute * V + v] = outcome;
+            }
+        }
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalDate lastDayOf(PricingRule rule) {
+        return rule.endsAt().minusMinutes(1).toLocalDate();
+    }
+
+    private static BigDecimal multiplierOf(FareMultiplierType type) {
+        return BigDecimal.valueOf(type.getMultiplier());
+    }
+
+    /**
+     * Interns (multiplier type, multiplier) pairs; id 0 is the default normal rate.
+     */
+    private static final class Outcomes {
+        private final List<FareMultiplierType> types = new ArrayList<>();
+        private final List<BigDecimal> multipliers = new ArrayList<>();
+        private final Map<String, Short> ids = new HashMap<>();
+
+        private Outcomes() {
+            idOf(FareMultiplierType.NORMAL, multiplierOf(FareMultiplierType.NORMAL));
+        }
+
+        short idOf(PricingRule rule) {
+            return idOf(rule.multiplierType(), rule.multiplier());
+        }
+
+        private short idOf(FareMultiplierType type, BigDecimal multiplier) {
+            BigDecimal normalized = multiplier.stripTrailingZeros();
+            return ids.computeIfAbsent(type.name() + ':' + normalized.toPlainString(), key -> {
+                if (types.size() == Short.MAX_VALUE) {
+                    throw new InvalidPricingRuleException("Too many distinct pricing multipliers");
+                }
+                types.add(type);
+                multipliers.add(normalized);
+                return (short) (types.size() - 1);
+            });
+        }
+    }
+}
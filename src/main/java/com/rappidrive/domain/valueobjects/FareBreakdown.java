@@ -7,6 +7,10 @@ import java.util.Objects;
 /**
  * Value object representing a detailed breakdown of fare calculation.
  * Immutable - provides transparency on how the final fare was calculated.
+ *
+ * <p>The total multiplier amount is the absolute difference between the subtotal and the
+ * subtotal after multipliers; {@link #isMultiplierDiscount()} tells whether it was subtracted
+ * (combined multiplier below 1, e.g. HATCHBACK at normal hours).</p>
  */
 public final class FareBreakdown {
     private final Money baseFare;
@@ -16,6 +20,7 @@ public final class FareBreakdown {
     private final double vehicleMultiplier;
     private final double timeMultiplier;
     private final Money totalMultiplier;
+    private final boolean multiplierDiscount;
     private final Money minimumFare;
     private final Money finalAmount;
     
@@ -36,15 +41,43 @@ public final class FareBreakdown {
         // Calculate total multiplier amount
         BigDecimal combinedMultiplier = BigDecimal.valueOf(vehicleMultiplier)
                 .multiply(BigDecimal.valueOf(timeMultiplier));
-        this.totalMultiplier = new Money(
-                subtotal.getAmount().multiply(combinedMultiplier)
-                        .subtract(subtotal.getAmount())
-                        .setScale(2, RoundingMode.HALF_UP)
-        );
+        BigDecimal adjustment = subtotal.getAmount().multiply(combinedMultiplier)
+                .subtract(subtotal.getAmount())
+                .setScale(2, RoundingMode.HALF_UP);
+        this.multiplierDiscount = adjustment.signum() < 0;
+        this.totalMultiplier = new Money(adjustment.abs());
         
         validate();
     }
     
+    private FareBreakdown(Money baseFare, Money distanceFare, Money timeFare, Money subtotal,
+                          double vehicleMultiplier, double timeMultiplier, Money totalMultiplier,
+                          boolean multiplierDiscount, Money minimumFare, Money finalAmount) {
+        this.baseFare = Objects.requireNonNull(baseFare, "Base fare cannot be null");
+        this.distanceFare = Objects.requireNonNull(distanceFare, "Distance fare cannot be null");
+        this.timeFare = Objects.requireNonNull(timeFare, "Time fare cannot be null");
+        this.subtotal = Objects.requireNonNull(subtotal, "Subtotal cannot be null");
+        this.vehicleMultiplier = vehicleMultiplier;
+        this.timeMultiplier = timeMultiplier;
+        this.totalMultiplier = Objects.requireNonNull(totalMultiplier, "Total multiplier cannot be null");
+        this.multiplierDiscount = multiplierDiscount;
+        this.minimumFare = Objects.requireNonNull(minimumFare, "Minimum fare cannot be null");
+        this.finalAmount = Objects.requireNonNull(finalAmount, "Final amount cannot be null");
+        
+        validate();
+    }
+    
+    /**
+     * Creates a breakdown from already computed components, without re-deriving the subtotal and
+     * multiplier amount. Callers must supply values consistent with the public constructor.
+     */
+    public static FareBreakdown ofComputed(Money baseFare, Money distanceFare, Money timeFare, Money subtotal,
+                                           double vehicleMultiplier, double timeMultiplier, Money totalMultiplier,
+                                           boolean multiplierDiscount, Money minimumFare, Money finalAmount) {
+        return new FareBreakdown(baseFare, distanceFare, timeFare, subtotal, vehicleMultiplier,
+                timeMultiplier, totalMultiplier, multiplierDiscount, minimumFare, finalAmount);
+    }
+    
     private void validate() {
         if (vehicleMultiplier <= 0) {
             throw new IllegalArgumentException("Vehicle multiplier must be positive");
@@ -82,8 +115,10 @@ public final class FareBreakdown {
         sb.append("Subtotal: ").append(subtotal).append("\n");
         sb.append("Vehicle Multiplier: ").append(vehicleMultiplier).append("x\n");
         sb.append("Time Multiplier: ").append(timeMultiplier).append("x\n");
-        sb.append("Total Multiplier Amount: ").append(totalMultiplier).append("\n");
-        sb.append("Before Minimum Check: ").append(subtotal.add(totalMultiplier)).append("\n");
+        sb.append("Total Multiplier Amount: ").append(multiplierDiscount ? "-" : "").append(totalMultiplier).append("\n");
+        sb.append("Before Minimum Check: ")
+                .append(multiplierDiscount ? subtotal.subtract(totalMultiplier) : subtotal.add(totalMultiplier))
+                .append("\n");
         sb.append("Minimum Fare: ").append(minimumFare).append("\n");
         sb.append("Final Amount: ").append(finalAmount);
         return sb.toString();
@@ -117,6 +152,10 @@ public final class FareBreakdown {
         return totalMultiplier;
     }
     
+    public boolean isMultiplierDiscount() {
+        return multiplierDiscount;
+    }
+    
     public Money getMinimumFare() {
         return minimumFare;
     }
@@ -132,6 +171,7 @@ public final class FareBreakdown {
         FareBreakdown that = (FareBreakdown) o;
         return Double.compare(that.vehicleMultiplier, vehicleMultiplier) == 0 &&
                Double.compare(that.timeMultiplier, timeMultiplier) == 0 &&
+               multiplierDiscount == that.multiplierDiscount &&
                Objects.equals(baseFare, that.baseFare) &&
                Objects.equals(distanceFare, that.distanceFare) &&
                Objects.equals(timeFare, that.timeFare) &&
@@ -144,7 +184,7 @@ public final class FareBreakdown {
     @Override
     public int hashCode() {
         return Objects.hash(baseFare, distanceFare, timeFare, subtotal,
-                vehicleMultiplier, timeMultiplier, totalMultiplier, minimumFare, finalAmount);
+                vehicleMultiplier, timeMultiplier, totalMultiplier, multiplierDiscount, minimumFare, finalAmount);
     }
     
     @Override
@@ -156,7 +196,7 @@ public final class FareBreakdown {
                ", subtotal=" + subtotal +
                ", vehicleMultiplier=" + vehicleMultiplier +
                ", timeMultiplier=" + timeMultiplier +
-               ", totalMultiplier=" + totalMultiplier +
+               ", totalMultiplier=" + (multiplierDiscount ? "-" : "") + totalMultiplier +
                ", minimumFare=" + minimumFare +
                ", finalAmount=" + finalAmount +
                '}';
@@ -0,0 +1,88 @@
+package com.rappidrive.domain.valueobjects;
+
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Price offered to a passenger for one route and vehicle type before the trip is requested.
+ * Carries the tenant's prices and the multipliers in effect when it was issued, so the
+ * trip can be created and later charged with the same inputs without looking them up again.
+ *
+ * @param quoteId unique quote identifier
+ * @param distanceKm estimated distance, rounded to the meter
+ * @param durationMinutes estimated duration
+ * @param timeMultiplier time multiplier of the tenant's pricing rules at the trip time
+ * @param vehicleMultiplier tenant's multiplier for the vehicle type
+ * @param totalAmount quoted fare for the estimated distance and duration
+ * @param expiresAt instant after which the quote can no longer be used to request a trip
+ */
+public record FareQuote(
+        UUID quoteId,
+        TenantId tenantId,
+        Location origin,
+        Location destination,
+        VehicleType vehicleType,
+        double distanceKm,
+        int durationMinutes,
+        FareMultiplierType multiplierType,
+        double timeMultiplier,
+        double vehicleMultiplier,
+        Money baseFare,
+        Money pricePerKm,
+        Money pricePerMinute,
+        Money minimumFare,
+        Money totalAmount,
+        Instant expiresAt
+) {
+
+    /**
+     * Maximum coordinate difference, in degrees (about 10 cm), for a trip to match the quoted route.
+     */
+    private static final double COORDINATE_TOLERANCE = 1e-6;
+
+    public FareQuote {
+        Objects.requireNonNull(quoteId, "Quote ID cannot be null");
+        Objects.requireNonNull(tenantId, "Tenant ID cannot be null");
+        Objects.requireNonNull(origin, "Origin cannot be null");
+        Objects.requireNonNull(destination, "Destination cannot be null");
+        Objects.requireNonNull(vehicleType, "Vehicle type cannot be null");
+        Objects.requireNonNull(multiplierType, "Multiplier type cannot be null");
+        Objects.requireNonNull(baseFare, "Base fare cannot be null");
+        Objects.requireNonNull(pricePerKm, "Price per km cannot be null");
+        Objects.requireNonNull(pricePerMinute, "Price per minute cannot be null");
+        Objects.requireNonNull(minimumFare, "Minimum fare cannot be null");
+        Objects.requireNonNull(totalAmount, "Total amount cannot be null");
+        Objects.requireNonNull(expiresAt, "Expiry cannot be null");
+
+        if (distanceKm < 0) {
+            throw new IllegalArgumentException("Distance cannot be negative");
+        }
+        if (durationMinutes < 0) {
+            throw new IllegalArgumentException("Duration cannot be negative");
+        }
+        if (!(timeMultiplier > 0) || !(vehicleMultiplier > 0)) {
+            throw new IllegalArgumentException("Multipliers must be positive");
+        }
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * Checks whether a trip between the given locations is the quoted route.
+     */
+    public boolean matchesRoute(Location tripOrigin, Location tripDestination) {
+        return isSameLocation(origin, tripOrigin) && isSameLocation(destination, tripDestination);
+    }
+
+    private static boolean isSameLocation(Location a, Location b) {
+        return b != null
+                && Math.abs(a.getLatitude() - b.getLatitude()) <= COORDINATE_TOLERANCE
+                && Math.abs(a.getLongitude() - b.getLongitude()) <= COORDINATE_TOLERANCE;
+    }
+}
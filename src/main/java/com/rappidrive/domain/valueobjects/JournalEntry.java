@@ -0,0 +1,68 @@
+package com.rappidrive.domain.valueobjects;
+
+import com.rappidrive.domain.enums.JournalEntryType;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A balanced set of ledger postings recording one business event.
+ *
+ * <p>Posting amounts are signed cents: debits positive, credits negative. An entry must have at
+ * least two postings in one currency and sum to zero.</p>
+ */
+public record JournalEntry(TenantId tenantId, JournalEntryType type, UUID referenceId, List<Posting> postings) {
+
+    public JournalEntry {
+        Objects.requireNonNull(tenantId, "tenantId cannot be null");
+        Objects.requireNonNull(type, "type cannot be null");
+        Objects.requireNonNull(referenceId, "referenceId cannot be null");
+        postings = List.copyOf(postings);
+        if (postings.size() < 2) {
+            throw new IllegalArgumentException("A journal entry needs at least two postings");
+        }
+        long sum = 0;
+        Currency currency = postings.get(0).account().currency();
+        for (Posting posting : postings) {
+            if (posting.account().currency() != currency) {
+                throw new IllegalArgumentException("A journal entry cannot mix currencies");
+            }
+            if (!posting.account().tenantId().equals(tenantId)) {
+                throw new IllegalArgumentException("A journal entry cannot post to another tenant's accounts");
+            }
+            sum = Math.addExact(sum, posting.amountCents());
+        }
+        if (sum != 0) {
+            throw new IllegalArgumentException("Journal entry is unbalanced by " + sum + " cents");
+        }
+    }
+
+    /**
+     * The entry that undoes this one, posting every amount to the same account with the opposite
+     * sign.
+     */
+    public JournalEntry reversal(JournalEntryType type) {
+        return new JournalEntry(tenantId, type, referenceId, postings.stream()
+            .map(posting -> new Posting(posting.account(), -posting.amountCents()))
+            .toList());
+    }
+
+    public record Posting(LedgerAccount account, long amountCents) {
+
+        public Posting {
+            Objects.requireNonNull(account, "account cannot be null");
+            if (amountCents == 0) {
+                throw new IllegalArgumentException("A posting cannot be zero");
+            }
+        }
+
+        public static Posting debit(LedgerAccount account, long cents) {
+            return new Posting(account, cents);
+        }
+
+        public static Posting credit(LedgerAccount account, long cents) {
+            return new Posting(account, -cents);
+        }
+    }
+}
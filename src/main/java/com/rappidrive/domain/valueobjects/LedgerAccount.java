@@ -0,0 +1,36 @@
+package com.rappidrive.domain.valueobjects;
+
+import com.rappidrive.domain.enums.LedgerAccountType;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Identifies a ledger account. Tenant-wide accounts are owned by the tenant itself; driver
+ * accounts by the driver.
+ */
+public record LedgerAccount(TenantId tenantId, LedgerAccountType type, UUID ownerId, Currency currency) {
+
+    public LedgerAccount {
+        Objects.requireNonNull(tenantId, "tenantId cannot be null");
+        Objects.requireNonNull(type, "type cannot be null");
+        Objects.requireNonNull(ownerId, "ownerId cannot be null");
+        Objects.requireNonNull(currency, "currency cannot be null");
+    }
+
+    public static LedgerAccount gatewayClearing(TenantId tenantId, Currency currency) {
+        return new LedgerAccount(tenantId, LedgerAccountType.GATEWAY_CLEARING, tenantId.getValue(), currency);
+    }
+
+    public static LedgerAccount platformRevenue(TenantId tenantId, Currency currency) {
+        return new LedgerAccount(tenantId, LedgerAccountType.PLATFORM_REVENUE, tenantId.getValue(), currency);
+    }
+
+    public static LedgerAccount driverPayable(TenantId tenantId, UUID driverId, Currency currency) {
+        return new LedgerAccount(tenantId, LedgerAccountType.DRIVER_PAYABLE, driverId, currency);
+    }
+
+    public static LedgerAccount suspense(TenantId tenantId, Currency currency) {
+        return new LedgerAccount(tenantId, LedgerAccountType.SUSPENSE, tenantId.getValue(), currency);
+    }
+}
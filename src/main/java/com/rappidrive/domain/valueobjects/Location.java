@@ -64,10 +64,19 @@ public final class Location {
             throw new IllegalArgumentException("Other location cannot be null");
         }
         
-        double lat1Rad = Math.toRadians(this.latitude);
-        double lat2Rad = Math.toRadians(other.latitude);
-        double deltaLat = Math.toRadians(other.latitude - this.latitude);
-        double deltaLon = Math.toRadians(other.longitude - this.longitude);
+        return distanceKm(this.latitude, this.longitude, other.latitude, other.longitude);
+    }
+    
+    /**
+     * Haversine distance between two coordinates, for callers that keep coordinates in arrays.
+     * 
+     * @return distance in kilometers
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double lat1Rad = Math.toRadians(latitude1);
+        double lat2Rad = Math.toRadians(latitude2);
+        double deltaLat = Math.toRadians(latitude2 - latitude1);
+        double deltaLon = Math.toRadians(longitude2 - longitude1);
         
         double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
                    Math.cos(lat1Rad) * Math.cos(lat2Rad) *
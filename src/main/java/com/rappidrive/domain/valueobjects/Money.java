@@ -1,20 +1,29 @@
 package com.rappidrive.domain.valueobjects;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Objects;
 
 /**
  * Value object representing a monetary amount with currency.
  * Immutable and uses BigDecimal for precision.
+ *
+ * <p>Alongside the {@link BigDecimal} amount every instance keeps its value in minor units (cents)
+ * as a {@code long} whenever it fits. Addition, subtraction, comparison and multiplication by
+ * decimal factors with up to six fractional digits run on those longs and only fall back to
+ * {@code BigDecimal} on overflow; results are identical to the {@code BigDecimal} path.</p>
  */
 public final class Money {
     
     private static final int SCALE = 2;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+    private static final long MICROS = 1_000_000L;
     
     private final BigDecimal amount;
     private final Currency currency;
+    private final long cents;
+    private final boolean compact;
     
     /**
      * Creates a new Money instance.
@@ -36,6 +45,16 @@ public final class Money {
         
         this.amount = amount.setScale(SCALE, ROUNDING_MODE);
         this.currency = currency;
+        BigInteger unscaled = this.amount.unscaledValue();
+        this.compact = unscaled.bitLength() < Long.SIZE;
+        this.cents = compact ? unscaled.longValue() : 0L;
+    }
+    
+    private Money(long cents, Currency currency) {
+        this.amount = BigDecimal.valueOf(cents, SCALE);
+        this.currency = currency;
+        this.cents = cents;
+        this.compact = true;
     }
     
     /**
@@ -69,6 +88,24 @@ public final class Money {
         return new Money(BigDecimal.valueOf(amount), currency);
     }
     
+    /**
+     * Creates a new Money instance from an amount in minor units (cents).
+     * 
+     * @param cents the amount in cents
+     * @param currency the currency
+     * @return a new Money instance
+     * @throws IllegalArgumentException if currency is null or cents is negative
+     */
+    public static Money ofCents(long cents, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        if (cents < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        return new Money(cents, currency);
+    }
+    
     /**
      * Creates a new Money instance with zero amount.
      * 
@@ -88,6 +125,12 @@ public final class Money {
      */
     public Money add(Money other) {
         ensureSameCurrency(other);
+        if (compact && other.compact) {
+            long sum = this.cents + other.cents;
+            if (sum >= 0) { // both operands are non-negative, so a negative sum means overflow
+                return new Money(sum, this.currency);
+            }
+        }
         return new Money(this.amount.add(other.amount), this.currency);
     }
     
@@ -100,6 +143,13 @@ public final class Money {
      */
     public Money subtract(Money other) {
         ensureSameCurrency(other);
+        if (compact && other.compact) {
+            long difference = this.cents - other.cents;
+            if (difference < 0) {
+                throw new IllegalArgumentException("Subtraction would result in negative amount");
+            }
+            return new Money(difference, this.currency);
+        }
         BigDecimal result = this.amount.subtract(other.amount);
         if (result.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Subtraction would result in negative amount");
@@ -118,6 +168,15 @@ public final class Money {
         if (factor < 0) {
             throw new IllegalArgumentException("Factor cannot be negative");
         }
+        if (compact) {
+            long factorMicros = toMicros(factor);
+            if (factorMicros >= 0) {
+                long product = multiplyHalfUp(cents, factorMicros, MICROS);
+                if (product >= 0) {
+                    return new Money(product, this.currency);
+                }
+            }
+        }
         return new Money(this.amount.multiply(BigDecimal.valueOf(factor)), this.currency);
     }
     
@@ -147,6 +206,9 @@ public final class Money {
      */
     public boolean isGreaterThan(Money other) {
         ensureSameCurrency(other);
+        if (compact && other.compact) {
+            return this.cents > other.cents;
+        }
         return this.amount.compareTo(other.amount) > 0;
     }
     
@@ -159,6 +221,9 @@ public final class Money {
      */
     public boolean isLessThan(Money other) {
         ensureSameCurrency(other);
+        if (compact && other.compact) {
+            return this.cents < other.cents;
+        }
         return this.amount.compareTo(other.amount) < 0;
     }
     
@@ -198,6 +263,56 @@ public final class Money {
         return this.amount.compareTo(BigDecimal.ZERO) > 0;
     }
     
+    /**
+     * Checks if this amount can be represented as {@code long} cents.
+     * 
+     * @return true if {@link #toCents()} will succeed
+     */
+    public boolean fitsInCents() {
+        return compact;
+    }
+    
+    /**
+     * Returns the amount in minor units (cents).
+     * 
+     * @return the amount in cents
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public long toCents() {
+        if (!compact) {
+            throw new ArithmeticException("Amount does not fit in long cents: " + amount);
+        }
+        return cents;
+    }
+    
+    /**
+     * Exact value of {@code BigDecimal.valueOf(value)} in millionths, or -1 when that decimal has more
+     * than six fractional digits or is out of range. Non-negative inputs only.
+     */
+    public static long toMicros(double value) {
+        if (!(value >= 0 && value < 1e9)) {
+            return -1;
+        }
+        long micros = Math.round(value * MICROS);
+        // below 1e9 doubles are denser than 1e-6, so a round trip means Double.toString(value)
+        // denotes exactly micros / 1e6
+        return micros / (double) MICROS == value ? micros : -1;
+    }
+    
+    /**
+     * {@code value * numerator / denominator} rounded HALF_UP, or -1 on overflow. Non-negative inputs only.
+     */
+    public static long multiplyHalfUp(long value, long numerator, long denominator) {
+        if (Math.multiplyHigh(value, numerator) != 0) {
+            return -1;
+        }
+        long product = value * numerator;
+        if (product < 0 || product > Long.MAX_VALUE - denominator / 2) {
+            return -1;
+        }
+        return (product + denominator / 2) / denominator;
+    }
+    
     private void ensureSameCurrency(Money other) {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException(
@@ -220,6 +335,9 @@ public final class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
+        if (compact && money.compact) {
+            return cents == money.cents && currency == money.currency;
+        }
         return amount.compareTo(money.amount) == 0 && currency == money.currency;
     }
     
@@ -0,0 +1,129 @@
+package com.rappidrive.domain.valueobjects;
+
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.PricingRuleKind;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.InvalidPricingRuleException;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tenant-defined pricing rule. Rules are data; {@code PricingTable} compiles a tenant's rules into
+ * a lookup table, painting them over the built-in defaults in ascending {@code priority} (on ties,
+ * dated rules over weekly ones, then list order), so the last matching rule wins.
+ *
+ * <p>Times are evaluated at minute resolution. A weekly window whose end is not after its start
+ * runs past midnight into the next day, so equal start and end times cover 24 hours. An empty vehicle
+ * type set means every vehicle type.</p>
+ *
+ * @param multiplierType category recorded on fares priced by a time rule; null for vehicle rates
+ * @param multiplier multiplier with at most two decimals, between 0.01 and 9.99
+ */
+public record PricingRule(
+        UUID id,
+        String name,
+        PricingRuleKind kind,
+        Set<DayOfWeek> daysOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        Set<VehicleType> vehicleTypes,
+        FareMultiplierType multiplierType,
+        BigDecimal multiplier,
+        int priority
+) {
+
+    public static final BigDecimal MAX_MULTIPLIER = new BigDecimal("9.99");
+    public static final Duration MAX_DATED_DURATION = Duration.ofDays(366);
+
+    public PricingRule {
+        Objects.requireNonNull(id, "Rule ID cannot be null");
+        Objects.requireNonNull(kind, "Rule kind cannot be null");
+        Objects.requireNonNull(multiplier, "Multiplier cannot be null");
+        if (name == null || name.isBlank()) {
+            throw new InvalidPricingRuleException("Pricing rule name cannot be blank");
+        }
+        daysOfWeek = daysOfWeek == null || daysOfWeek.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(daysOfWeek));
+        vehicleTypes = vehicleTypes == null || vehicleTypes.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(vehicleTypes));
+
+        if (multiplier.signum() <= 0 || multiplier.compareTo(MAX_MULTIPLIER) > 0
+                || multiplier.stripTrailingZeros().scale() > 2) {
+            throw InvalidPricingRuleException.forRule(name, "multiplier must be between 0.01 and 9.99 with at most two decimals");
+        }
+
+        if (kind == PricingRuleKind.VEHICLE_RATE) {
+            if (vehicleTypes.isEmpty()) {
+                throw InvalidPricingRuleException.forRule(name, "a vehicle rate needs at least one vehicle type");
+            }
+            if (multiplierType != null || !daysOfWeek.isEmpty() || startTime != null || endTime != null
+                    || startsAt != null || endsAt != null) {
+                throw InvalidPricingRuleException.forRule(name, "a vehicle rate has no time window or multiplier type");
+            }
+        } else if (kind == PricingRuleKind.WEEKLY) {
+            requireTimeRule(name, multiplierType);
+            if (daysOfWeek.isEmpty() || startTime == null || endTime == null) {
+                throw InvalidPricingRuleException.forRule(name, "a weekly rule needs days of week, start and end time");
+            }
+            if (startsAt != null || endsAt != null) {
+                throw InvalidPricingRuleException.forRule(name, "a weekly rule has no dates");
+            }
+            requireWholeMinutes(name, startTime.getSecond() + startTime.getNano() + endTime.getSecond() + endTime.getNano());
+        } else {
+            requireTimeRule(name, multiplierType);
+            if (startsAt == null || endsAt == null || !startsAt.isBefore(endsAt)) {
+                throw InvalidPricingRuleException.forRule(name, "a dated rule needs a start before its end");
+            }
+            if (Duration.between(startsAt, endsAt).compareTo(MAX_DATED_DURATION) > 0) {
+                throw InvalidPricingRuleException.forRule(name, "a dated rule cannot span more than 366 days");
+            }
+            if (!daysOfWeek.isEmpty() || startTime != null || endTime != null) {
+                throw InvalidPricingRuleException.forRule(name, "a dated rule has no weekly window");
+            }
+            requireWholeMinutes(name, startsAt.getSecond() + startsAt.getNano() + endsAt.getSecond() + endsAt.getNano());
+        }
+    }
+
+    public static PricingRule vehicleRate(String name, Set<VehicleType> vehicleTypes, BigDecimal multiplier, int priority) {
+        return new PricingRule(UUID.randomUUID(), name, PricingRuleKind.VEHICLE_RATE, null, null, null, null, null,
+                vehicleTypes, null, multiplier, priority);
+    }
+
+    public static PricingRule weekly(String name, Set<DayOfWeek> daysOfWeek, LocalTime startTime, LocalTime endTime,
+                                     Set<VehicleType> vehicleTypes, FareMultiplierType multiplierType,
+                                     BigDecimal multiplier, int priority) {
+        return new PricingRule(UUID.randomUUID(), name, PricingRuleKind.WEEKLY, daysOfWeek, startTime, endTime,
+                null, null, vehicleTypes, multiplierType, multiplier, priority);
+    }
+
+    public static PricingRule dated(String name, LocalDateTime startsAt, LocalDateTime endsAt,
+                                    Set<VehicleType> vehicleTypes, FareMultiplierType multiplierType,
+                                    BigDecimal multiplier, int priority) {
+        return new PricingRule(UUID.randomUUID(), name, PricingRuleKind.DATED, null, null, null, startsAt, endsAt,
+                vehicleTypes, multiplierType, multiplier, priority);
+    }
+
+    public boolean appliesTo(VehicleType vehicleType) {
+        return vehicleTypes.isEmpty() || vehicleTypes.contains(vehicleType);
+    }
+
+    private static void requireTimeRule(String name, FareMultiplierType multiplierType) {
+        if (multiplierType == null) {
+            throw InvalidPricingRuleException.forRule(name, "a time rule needs a multiplier type");
+        }
+    }
+
+    private static void requireWholeMinutes(String name, long secondsAndNanos) {
+        if (secondsAndNanos != 0) {
+            throw InvalidPricingRuleException.forRule(name, "times must be whole minutes");
+        }
+    }
+}
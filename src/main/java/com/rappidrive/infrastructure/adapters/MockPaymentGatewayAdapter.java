@@ -3,18 +3,25 @@ package com.rappidrive.infrastructure.adapters;
 import com.rappidrive.application.ports.output.PaymentGatewayPort;
 import com.rappidrive.domain.valueobjects.Money;
 import com.rappidrive.domain.exceptions.PaymentServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rappidrive.domain.valueobjects.TenantId;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Random;
 import java.util.UUID;
 
 /**
  * Mock implementation of PaymentGatewayPort for MVP.
- * Simulates payment gateway behavior with 95% success rate.
+ * Simulates payment gateway behavior with 95% success rate. Like real gateways, it answers a
+ * repeated idempotency key with the first response instead of charging again.
+ * 
+ * Callers go through {@link ResilientPaymentGatewayAdapter}, which bounds concurrency and
+ * waiting time; this adapter only keeps the circuit breaker.
  * 
  * In production, replace with real payment gateway integration
  * (Stripe, PayPal, PagSeguro, Mercado Pago, etc.).
@@ -33,17 +40,39 @@ public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
     };
     
     private final Random random = new Random();
+    private final Cache<String, PaymentGatewayResponse> processedByKey = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofHours(24))
+        .maximumSize(100_000)
+        .build();
     
     @Override
     @CircuitBreaker(name = "paymentGateway", fallbackMethod = "paymentFallback")
-    @Retry(name = "paymentGateway")
     public PaymentGatewayResponse processPayment(PaymentGatewayRequest request) {
-        logger.info("Processing payment: amount={}, method={}, description={}",
-            request.amount(), request.paymentMethod(), request.description());
+        if (request.idempotencyKey() != null) {
+            PaymentGatewayResponse previous = processedByKey.getIfPresent(request.idempotencyKey());
+            if (previous != null) {
+                logger.info("Returning previous response for idempotency key {}", request.idempotencyKey());
+                return previous;
+            }
+        }
+        
+        logger.info("Processing payment: tenantId={}, amount={}, method={}, description={}",
+            request.tenantId(), request.amount(), request.paymentMethod(), request.description());
         
         // Simulate processing delay
         simulateDelay(500);
         
+        PaymentGatewayResponse response = charge();
+        if (request.idempotencyKey() != null) {
+            PaymentGatewayResponse first = processedByKey.asMap().putIfAbsent(request.idempotencyKey(), response);
+            if (first != null) {
+                return first;
+            }
+        }
+        return response;
+    }
+    
+    private PaymentGatewayResponse charge() {
         boolean success = random.nextDouble() < SUCCESS_RATE;
         
         if (success) {
@@ -71,9 +100,9 @@ public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
     }
     
     @Override
-    public PaymentGatewayResponse refundPayment(String transactionId, Money amount) {
-        logger.info("Processing refund: transactionId={}, amount={}",
-            transactionId, amount);
+    public PaymentGatewayResponse refundPayment(TenantId tenantId, String transactionId, Money amount) {
+        logger.info("Processing refund: tenantId={}, transactionId={}, amount={}",
+            tenantId, transactionId, amount);
         
         // Simulate processing delay
         simulateDelay(300);
@@ -0,0 +1,371 @@
+package com.rappidrive.infrastructure.adapters;
+
+import com.rappidrive.application.ports.output.PaymentGatewayPort;
+import com.rappidrive.domain.exceptions.PaymentOutcomeUnknownException;
+import com.rappidrive.domain.exceptions.PaymentServiceUnavailableException;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Execution layer in front of the payment gateway: bounds how many calls are in flight, how long
+ * callers wait, and hedges slow idempotent charges.
+ *
+ * <ul>
+ *   <li><b>Bulkhead</b> - a call needs a permit of its tenant and a global one. Callers wait at
+ *   most {@code max-queue-wait} (or until their deadline) for them and are rejected otherwise.
+ *   Permits are released only when the gateway actually returns, so calls the caller gave up on
+ *   keep counting against the limit. A tenant's semaphore is kept only while some call waits for
+ *   or holds one of its permits, so memory follows the calls in flight rather than the number of
+ *   tenants, and a semaphore is never dropped while permits are checked out.</li>
+ *   <li><b>Deadline</b> - the caller waits until the request deadline or the default timeout,
+ *   whichever comes first, then interrupts the attempts and fails.</li>
+ *   <li><b>Hedging</b> - a charge carrying an idempotency key that has not answered after the
+ *   recent p95 latency is sent a second time, if a permit is free right away. The first answer
+ *   wins; the gateway deduplicates the charge by its key. Refunds are never hedged.</li>
+ * </ul>
+ *
+ * <p>Rejections surface as {@link PaymentServiceUnavailableException}, the same as an open circuit
+ * breaker, so callers already treat them as retryable. An expired deadline surfaces as its subclass
+ * {@link PaymentOutcomeUnknownException}: the request was sent, so the charge may have gone through.</p>
+ */
+public class ResilientPaymentGatewayAdapter implements PaymentGatewayPort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientPaymentGatewayAdapter.class);
+
+    private static final String CHARGE = "charge";
+    private static final String REFUND = "refund";
+
+    private final PaymentGatewayPort delegate;
+    private final Semaphore globalPermits;
+    private final int maxConcurrentPerTenant;
+    private final Map<UUID, TenantPermits> tenantPermits = new ConcurrentHashMap<>();
+    private final Duration maxQueueWait;
+    private final Duration timeout;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeMinDelay;
+    private final Duration hedgeInitialDelay;
+    private final LatencyWindow latencies = new LatencyWindow(256);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter hedgesLaunched;
+    private final Counter hedgesWon;
+
+    public ResilientPaymentGatewayAdapter(PaymentGatewayPort delegate,
+                                          MeterRegistry meterRegistry,
+                                          int maxConcurrent,
+                                          int maxConcurrentPerTenant,
+                                          Duration maxQueueWait,
+                                          Duration timeout,
+                                          boolean hedgeEnabled,
+                                          Duration hedgeMinDelay,
+                                          Duration hedgeInitialDelay) {
+        if (maxConcurrent < 1 || maxConcurrentPerTenant < 1) {
+            throw new IllegalArgumentException("max-concurrent and max-concurrent-per-tenant must be positive");
+        }
+        this.delegate = delegate;
+        this.globalPermits = new Semaphore(maxConcurrent);
+        this.maxConcurrentPerTenant = maxConcurrentPerTenant;
+        this.maxQueueWait = maxQueueWait;
+        this.timeout = timeout;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeInitialDelay = hedgeInitialDelay;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("payment_gateway_in_flight", inFlight, AtomicInteger::get)
+            .description("Payment gateway calls currently executing, abandoned ones included")
+            .register(meterRegistry);
+        this.hedgesLaunched = Counter.builder("payment_gateway_hedges_total")
+            .description("Hedged payment gateway attempts")
+            .tag("result", "launched")
+            .register(meterRegistry);
+        this.hedgesWon = Counter.builder("payment_gateway_hedges_total")
+            .description("Hedged payment gateway attempts")
+            .tag("result", "won")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public PaymentGatewayResponse processPayment(PaymentGatewayRequest request) {
+        boolean hedge = hedgeEnabled && request.idempotencyKey() != null;
+        return execute(CHARGE, request.tenantId(), request.deadline(), hedge,
+            () -> delegate.processPayment(request));
+    }
+
+    @Override
+    public PaymentGatewayResponse refundPayment(TenantId tenantId, String transactionId, Money amount) {
+        return execute(REFUND, tenantId, null, false,
+            () -> delegate.refundPayment(tenantId, transactionId, amount));
+    }
+
+    private PaymentGatewayResponse execute(String operation, TenantId tenantId, Instant requestedDeadline,
+                                           boolean hedge, Supplier<PaymentGatewayResponse> call) {
+        Instant deadline = effectiveDeadline(requestedDeadline);
+        UUID tenantKey = tenantId.getValue();
+        Semaphore tenant = retainTenant(tenantKey);
+        try {
+            acquire(operation, tenantId, tenant, deadline);
+        } catch (RuntimeException e) {
+            releaseTenant(tenantKey);
+            throw e;
+        }
+
+        CompletableFuture<PaymentGatewayResponse> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        List<Future<?>> attempts = new ArrayList<>(2);
+        attempts.add(launch(operation, call, tenantKey, tenant, result, outstanding, false));
+        try {
+            if (hedge) {
+                Duration delay = hedgeDelay();
+                if (delay.compareTo(Duration.between(Instant.now(), deadline)) < 0) {
+                    try {
+                        return result.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+                    } catch (TimeoutException slow) {
+                        if (tryAcquireNow(tenantKey)) {
+                            outstanding.incrementAndGet();
+                            hedgesLaunched.increment();
+                            log.info("Hedging slow payment gateway {} for tenant {} after {} ms",
+                                operation, tenantId, delay.toMillis());
+                            attempts.add(launch(operation, call, tenantKey, tenant, result, outstanding, true));
+                        }
+                    }
+                }
+            }
+            return result.get(Math.max(Duration.between(Instant.now(), deadline).toNanos(), 0),
+                TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            counter("payment_gateway_deadline_exceeded_total", "Payment gateway calls abandoned at their deadline",
+                operation).increment();
+            log.warn("Payment gateway {} for tenant {} exceeded its deadline", operation, tenantId);
+            throw new PaymentOutcomeUnknownException("Payment gateway deadline exceeded", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new PaymentServiceUnavailableException("Payment gateway call failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentServiceUnavailableException("Interrupted while waiting for payment gateway", e);
+        } finally {
+            // losers and abandoned attempts are interrupted; their permits return when they do
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    /**
+     * Runs one attempt on a virtual thread. The permits taken for it are released when the
+     * gateway returns, not when the caller stops waiting. The result completes exceptionally only
+     * once every launched attempt has failed.
+     */
+    private Future<?> launch(String operation, Supplier<PaymentGatewayResponse> call, UUID tenantKey,
+                             Semaphore tenant, CompletableFuture<PaymentGatewayResponse> result,
+                             AtomicInteger outstanding, boolean hedged) {
+        return executor.submit(() -> {
+            inFlight.incrementAndGet();
+            long startNanos = System.nanoTime();
+            try {
+                PaymentGatewayResponse response = call.get();
+                long elapsedNanos = System.nanoTime() - startNanos;
+                latencies.record(elapsedNanos);
+                Timer.builder("payment_gateway_latency")
+                    .description("Payment gateway response time")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+                if (result.complete(response) && hedged) {
+                    hedgesWon.increment();
+                }
+            } catch (RuntimeException e) {
+                if (outstanding.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+            } finally {
+                inFlight.decrementAndGet();
+                globalPermits.release();
+                tenant.release();
+                releaseTenant(tenantKey);
+            }
+        });
+    }
+
+    private void acquire(String operation, TenantId tenantId, Semaphore tenant, Instant deadline) {
+        long startNanos = System.nanoTime();
+        Duration untilDeadline = Duration.between(Instant.now(), deadline);
+        long waitNanos = Math.max(Math.min(maxQueueWait.toNanos(), untilDeadline.toNanos()), 0);
+        boolean acquired = false;
+        try {
+            if (tenant.tryAcquire(waitNanos, TimeUnit.NANOSECONDS)) {
+                long remaining = waitNanos - (System.nanoTime() - startNanos);
+                acquired = globalPermits.tryAcquire(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                if (!acquired) {
+                    tenant.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentServiceUnavailableException("Interrupted while waiting for payment gateway capacity", e);
+        } finally {
+            Timer.builder("payment_gateway_bulkhead_wait")
+                .description("Time spent waiting for a payment gateway permit")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            counter("payment_gateway_bulkhead_rejected_total", "Payment gateway calls rejected by the bulkhead",
+                operation).increment();
+            log.warn("Payment gateway {} rejected for tenant {}: bulkhead full", operation, tenantId);
+            throw new PaymentServiceUnavailableException("Payment gateway capacity exhausted");
+        }
+    }
+
+    /**
+     * A hedge never waits for a permit: when the gateway is saturated a second attempt would only
+     * add load.
+     */
+    private boolean tryAcquireNow(UUID tenantKey) {
+        Semaphore tenant = retainTenant(tenantKey);
+        if (tenant.tryAcquire()) {
+            if (globalPermits.tryAcquire()) {
+                return true;
+            }
+            tenant.release();
+        }
+        releaseTenant(tenantKey);
+        return false;
+    }
+
+    /**
+     * Registers a caller of the tenant's semaphore, creating it if needed. Every call must be
+     * paired with {@link #releaseTenant} once the caller no longer waits for or holds a permit.
+     */
+    private Semaphore retainTenant(UUID tenantKey) {
+        return tenantPermits.compute(tenantKey, (id, permits) -> {
+            TenantPermits retained = permits != null ? permits : new TenantPermits(maxConcurrentPerTenant);
+            retained.references++;
+            return retained;
+        }).semaphore;
+    }
+
+    /**
+     * Drops the tenant's semaphore with its last caller, when all its permits are available again.
+     */
+    private void releaseTenant(UUID tenantKey) {
+        tenantPermits.computeIfPresent(tenantKey, (id, permits) -> --permits.references == 0 ? null : permits);
+    }
+
+    private Instant effectiveDeadline(Instant requested) {
+        Instant byTimeout = Instant.now().plus(timeout);
+        return requested == null || requested.isAfter(byTimeout) ? byTimeout : requested;
+    }
+
+    /**
+     * The p95 of recent gateway latencies, kept between {@code hedge.min-delay} and half the
+     * timeout; {@code hedge.initial-delay} until enough samples have been seen.
+     */
+    Duration hedgeDelay() {
+        long p95 = latencies.percentile(0.95);
+        Duration delay = p95 < 0 ? hedgeInitialDelay : Duration.ofNanos(p95);
+        Duration max = timeout.dividedBy(2);
+        if (delay.compareTo(hedgeMinDelay) < 0) {
+            return hedgeMinDelay;
+        }
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    int trackedTenants() {
+        return tenantPermits.size();
+    }
+
+    private Counter counter(String name, String description, String operation) {
+        return Counter.builder(name)
+            .description(description)
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A tenant's semaphore and the number of callers waiting for or holding its permits. The count
+     * is only read and written inside the map's compute functions, which lock the entry.
+     */
+    private static final class TenantPermits {
+
+        private final Semaphore semaphore;
+        private int references;
+
+        TenantPermits(int permits) {
+            this.semaphore = new Semaphore(permits);
+        }
+    }
+
+    /**
+     * Ring buffer of the most recent latencies. Percentiles are computed on demand by sorting a
+     * copy, which is cheap next to a gateway call.
+     */
+    static final class LatencyWindow {
+
+        private static final int MIN_SAMPLES = 20;
+
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        /**
+         * @return the percentile in nanoseconds, or -1 while fewer than {@value #MIN_SAMPLES} samples exist
+         */
+        long percentile(double quantile) {
+            long[] copy;
+            synchronized (this) {
+                if (size < MIN_SAMPLES) {
+                    return -1;
+                }
+                copy = Arrays.copyOf(samples, size);
+            }
+            Arrays.sort(copy);
+            int index = (int) Math.ceil(quantile * copy.length) - 1;
+            return copy[Math.max(index, 0)];
+        }
+    }
+}
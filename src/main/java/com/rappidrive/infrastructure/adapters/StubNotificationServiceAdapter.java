@@ -4,6 +4,7 @@ import com.rappidrive.application.ports.output.NotificationServicePort;
 import com.rappidrive.domain.entities.Notification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,6 +17,16 @@ public class StubNotificationServiceAdapter implements NotificationServicePort {
     
     private static final Logger logger = LoggerFactory.getLogger(StubNotificationServiceAdapter.class);
     
+    private final int maxBatchSize;
+    private final int maxBatchesPerSecond;
+    
+    public StubNotificationServiceAdapter(
+            @Value("${notification.providers.fcm.max-batch-size:500}") int maxBatchSize,
+            @Value("${notification.providers.fcm.max-batches-per-second:10}") int maxBatchesPerSecond) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchesPerSecond = maxBatchesPerSecond;
+    }
+    
     @Override
     public boolean sendPushNotification(Notification notification) {
         // TODO: Implementar integração com FCM
@@ -35,4 +46,14 @@ public class StubNotificationServiceAdapter implements NotificationServicePort {
         // Stub sempre disponível (não envia de verdade)
         return true;
     }
+    
+    @Override
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+    
+    @Override
+    public int maxBatchesPerSecond() {
+        return maxBatchesPerSecond;
+    }
 }
@@ -1,25 +1,119 @@
 package com.rappidrive.infrastructure.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import java.time.Duration;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import com.rappidrive.application.ports.output.NotificationIdempotencyFilterPort;
+import com.rappidrive.infrastructure.persistence.cache.FareConfigurationChangeListener;
+import com.rappidrive.infrastructure.persistence.cache.FareConfigurationNearCache;
+import com.rappidrive.infrastructure.persistence.cache.FareConfigurationNearCache.Versioned;
+import com.rappidrive.infrastructure.persistence.cache.DisabledNotificationIdempotencyFilter;
+import com.rappidrive.infrastructure.persistence.cache.NotificationIdempotencyKeyFilter;
+import com.rappidrive.infrastructure.persistence.cache.NotificationIdempotencyKeyFilterLoader;
+import com.rappidrive.infrastructure.persistence.cache.PricingTableCache;
+import com.rappidrive.infrastructure.persistence.mappers.FareConfigurationMapper;
+import com.rappidrive.infrastructure.persistence.mappers.PricingRuleMapper;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataFareConfigurationRepository;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataPricingRuleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Optional;
 
+/**
+ * Wires the fare configuration near-cache, the compiled pricing table cache and the listener that
+ * keeps both coherent across nodes, plus the notification idempotency key filter.
+ *
+ * <p>With the listener enabled, writes on any node evict the entry everywhere within the
+ * notification delay, so {@code max-staleness-hours} can stay long. Disable the listener only for
+ * single-node setups, or lower the staleness bound to what stale prices may cost.</p>
+ */
 @Configuration
-@EnableCaching
 public class CacheConfiguration {
 
-    public static final String FARE_CONFIG_CACHE = "fareConfigByTenant";
+    @Bean
+    public FareConfigurationNearCache fareConfigurationNearCache(
+            SpringDataFareConfigurationRepository repository,
+            FareConfigurationMapper mapper,
+            MeterRegistry meterRegistry,
+            @Value("${fare.config-cache.refresh-ahead-seconds:600}") long refreshAheadSeconds,
+            @Value("${fare.config-cache.max-staleness-hours:24}") long maxStalenessHours,
+            @Value("${fare.config-cache.maximum-size:10000}") long maximumSize) {
+        return new FareConfigurationNearCache(
+            tenantId -> repository.findByTenantId(tenantId)
+                // version is null for an entity written in the same persistence context
+                .map(entity -> new Versioned(Optional.of(mapper.toDomain(entity)),
+                    entity.getConfigVersion() != null ? entity.getConfigVersion() : 0L))
+                .orElseGet(Versioned::absent),
+            meterRegistry,
+            Duration.ofSeconds(refreshAheadSeconds),
+            Duration.ofHours(maxStalenessHours),
+            maximumSize);
+    }
+
+    @Bean
+    public PricingTableCache pricingTableCache(
+            SpringDataPricingRuleRepository repository,
+            PricingRuleMapper mapper,
+            MeterRegistry meterRegistry,
+            @Value("${fare.config-cache.max-staleness-hours:24}") long maxStalenessHours,
+            @Value("${fare.config-cache.maximum-size:10000}") long maximumSize) {
+        return new PricingTableCache(
+            tenantId -> repository.findByTenantIdOrderBySortOrderAsc(tenantId).stream()
+                .map(mapper::toDomain)
+                .toList(),
+            meterRegistry,
+            Duration.ofHours(maxStalenessHours),
+            maximumSize);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "fare.config-cache.listener.enabled", havingValue = "true", matchIfMissing = true)
+    public FareConfigurationChangeListener fareConfigurationChangeListener(
+            DataSource dataSource,
+            FareConfigurationNearCache nearCache,
+            PricingTableCache pricingTableCache,
+            @Value("${fare.config-cache.listener.poll-timeout-ms:500}") long pollTimeoutMs,
+            @Value("${fare.config-cache.listener.reconnect-backoff-ms:5000}") long reconnectBackoffMs) {
+        FareConfigurationChangeListener listener = new FareConfigurationChangeListener(dataSource, nearCache,
+            pricingTableCache, Duration.ofMillis(pollTimeoutMs), Duration.ofMillis(reconnectBackoffMs));
+        listener.start();
+        return listener;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.idempotency-filter.enabled", havingValue = "true", matchIfMissing = true)
+    public NotificationIdempotencyKeyFilter notificationIdempotencyKeyFilter(
+            MeterRegistry meterRegistry,
+            @Value("${notification.idempotency-filter.expected-keys-per-tenant:200000}") long expectedKeys,
+            @Value("${notification.idempotency-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${notification.idempotency-filter.window-hours:24}") long windowHours) {
+        return new NotificationIdempotencyKeyFilter(meterRegistry, expectedKeys, falsePositiveRate,
+            Duration.ofHours(windowHours));
+    }
+
+    /**
+     * With the filter disabled, every keyed send checks the database and no keys are kept.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "notification.idempotency-filter.enabled", havingValue = "false")
+    public NotificationIdempotencyFilterPort disabledNotificationIdempotencyFilter() {
+        return new DisabledNotificationIdempotencyFilter();
+    }
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(FARE_CONFIG_CACHE);
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(Duration.ofMinutes(30))
-            .maximumSize(500));
-        return cacheManager;
+    @ConditionalOnProperty(name = "notification.idempotency-filter.enabled", havingValue = "true", matchIfMissing = true)
+    public NotificationIdempotencyKeyFilterLoader notificationIdempotencyKeyFilterLoader(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            NotificationIdempotencyKeyFilter filter,
+            @Value("${notification.idempotency-filter.window-hours:24}") long windowHours,
+            @Value("${notification.idempotency-filter.fetch-size:5000}") int fetchSize) {
+        return new NotificationIdempotencyKeyFilterLoader(jdbcTemplate, transactionManager, filter,
+            Duration.ofHours(windowHours), fetchSize);
     }
 }
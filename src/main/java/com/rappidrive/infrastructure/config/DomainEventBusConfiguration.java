@@ -0,0 +1,35 @@
+package com.rappidrive.infrastructure.config;
+
+import com.rappidrive.domain.events.DomainEventHandler;
+import com.rappidrive.domain.events.DomainEventPublisher;
+import com.rappidrive.infrastructure.messaging.AsyncDomainEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the asynchronous in-process domain event bus.
+ *
+ * <p>Every {@link DomainEventHandler} bean becomes a subscriber of the bus and runs on a virtual
+ * thread after the publishing transaction commits. The bus itself is registered on the
+ * {@link DomainEventPublisher}, so domain code keeps publishing as before.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "domain-events.bus.enabled", havingValue = "true", matchIfMissing = true)
+public class DomainEventBusConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public AsyncDomainEventBus asyncDomainEventBus(
+            MeterRegistry meterRegistry,
+            ObjectProvider<DomainEventHandler<?>> subscribers,
+            @Value("${domain-events.bus.lanes:16}") int lanes,
+            @Value("${domain-events.bus.lane-capacity:1024}") int laneCapacity) {
+        AsyncDomainEventBus bus = new AsyncDomainEventBus(meterRegistry, lanes, laneCapacity);
+        subscribers.orderedStream().forEach(bus::subscribe);
+        DomainEventPublisher.instance().register(bus);
+        return bus;
+    }
+}
@@ -0,0 +1,51 @@
+package com.rappidrive.infrastructure.config;
+
+import com.rappidrive.application.ports.input.driver.ActivateDriverInputPort;
+import com.rappidrive.application.ports.input.driver.DeactivateDriverInputPort;
+import com.rappidrive.application.ports.input.driver.GetDriverInputPort;
+import com.rappidrive.application.ports.input.driver.UpdateDriverLocationInputPort;
+import com.rappidrive.application.ports.input.trip.AssignDriverToTripInputPort;
+import com.rappidrive.infrastructure.web.uplink.DriverUplinkHandshakeInterceptor;
+import com.rappidrive.infrastructure.web.uplink.DriverUplinkWebSocketHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import java.time.Duration;
+
+/**
+ * Registers the driver uplink WebSocket at {@code /api/v1/drivers/{driverId}/uplink}.
+ *
+ * <p>The path sits under {@code /api/v1/drivers/**}, so the handshake goes through the same
+ * security rules and tenant resolution as the REST endpoints it replaces.</p>
+ */
+@Configuration
+@EnableWebSocket
+@ConditionalOnProperty(name = "driver.uplink.enabled", havingValue = "true", matchIfMissing = true)
+public class DriverUplinkConfiguration implements WebSocketConfigurer {
+
+    private final DriverUplinkWebSocketHandler handler;
+    private final DriverUplinkHandshakeInterceptor handshakeInterceptor;
+
+    public DriverUplinkConfiguration(UpdateDriverLocationInputPort updateDriverLocationUseCase,
+                                     ActivateDriverInputPort activateDriverUseCase,
+                                     DeactivateDriverInputPort deactivateDriverUseCase,
+                                     AssignDriverToTripInputPort assignDriverUseCase,
+                                     GetDriverInputPort getDriverUseCase,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${driver.uplink.idle-timeout-ms:120000}") long idleTimeoutMs) {
+        this.handler = new DriverUplinkWebSocketHandler(updateDriverLocationUseCase, activateDriverUseCase,
+            deactivateDriverUseCase, assignDriverUseCase, meterRegistry, Duration.ofMillis(idleTimeoutMs));
+        this.handshakeInterceptor = new DriverUplinkHandshakeInterceptor(getDriverUseCase);
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(handler, "/api/v1/drivers/*/uplink")
+            .addInterceptors(handshakeInterceptor);
+    }
+}
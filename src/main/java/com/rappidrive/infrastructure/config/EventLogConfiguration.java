@@ -0,0 +1,26 @@
+package com.rappidrive.infrastructure.config;
+
+import com.rappidrive.infrastructure.messaging.eventlog.FileEventLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Local append-only event log used as the outbox transport when no broker is available.
+ * Enabled with {@code event-log.enabled=true}; otherwise events go to the no-op dispatcher.
+ */
+@Configuration
+@ConditionalOnProperty(name = "event-log.enabled", havingValue = "true")
+public class EventLogConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public FileEventLog fileEventLog(
+            @Value("${event-log.directory:./data/event-log}") String directory,
+            @Value("${event-log.segment-bytes:67108864}") long segmentBytes,
+            @Value("${event-log.index-interval-bytes:4096}") int indexIntervalBytes) {
+        return new FileEventLog(Path.of(directory), segmentBytes, indexIntervalBytes);
+    }
+}
@@ -0,0 +1,36 @@
+package com.rappidrive.infrastructure.config;
+
+import com.rappidrive.infrastructure.adapters.MockPaymentGatewayAdapter;
+import com.rappidrive.infrastructure.adapters.ResilientPaymentGatewayAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Puts the bulkhead/deadline/hedging layer in front of the gateway adapter. Being primary, it is
+ * what use cases get when they ask for a {@code PaymentGatewayPort}.
+ */
+@Configuration
+public class PaymentGatewayConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public ResilientPaymentGatewayAdapter resilientPaymentGatewayAdapter(
+            MockPaymentGatewayAdapter gateway,
+            MeterRegistry meterRegistry,
+            @Value("${payment.gateway.max-concurrent:64}") int maxConcurrent,
+            @Value("${payment.gateway.max-concurrent-per-tenant:16}") int maxConcurrentPerTenant,
+            @Value("${payment.gateway.max-queue-wait-ms:200}") long maxQueueWaitMs,
+            @Value("${payment.gateway.timeout-ms:3000}") long timeoutMs,
+            @Value("${payment.gateway.hedge.enabled:true}") boolean hedgeEnabled,
+            @Value("${payment.gateway.hedge.min-delay-ms:100}") long hedgeMinDelayMs,
+            @Value("${payment.gateway.hedge.initial-delay-ms:800}") long hedgeInitialDelayMs) {
+        return new ResilientPaymentGatewayAdapter(gateway, meterRegistry, maxConcurrent, maxConcurrentPerTenant,
+            Duration.ofMillis(maxQueueWaitMs), Duration.ofMillis(timeoutMs), hedgeEnabled,
+            Duration.ofMillis(hedgeMinDelayMs), Duration.ofMillis(hedgeInitialDelayMs));
+    }
+}
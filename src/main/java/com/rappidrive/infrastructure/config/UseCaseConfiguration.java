@@ -24,16 +24,21 @@ import com.rappidrive.application.usecases.tenant.*;
 import com.rappidrive.application.usecases.trip.*;
 import com.rappidrive.application.usecases.vehicle.*;
 import com.rappidrive.application.usecases.approval.*;
+import com.rappidrive.domain.enums.NotificationPriority;
 import com.rappidrive.domain.services.FareCalculator;
 import com.rappidrive.domain.services.StandardFareCalculator;
 import com.rappidrive.domain.services.CancellationPolicyService;
 import com.rappidrive.domain.events.DomainEventPublisher;
 import com.rappidrive.domain.services.RatingValidationService;
 import com.rappidrive.domain.services.TripCompletionService;
+import com.rappidrive.domain.services.LedgerPostingService;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -62,8 +67,14 @@ public class UseCaseConfiguration {
     }
     
     @Bean
-    public UpdateDriverLocationInputPort updateDriverLocationUseCase(DriverRepositoryPort driverRepository) {
-        return new UpdateDriverLocationUseCase(driverRepository);
+    public DeactivateDriverInputPort deactivateDriverUseCase(DriverRepositoryPort driverRepository) {
+        return new DeactivateDriverUseCase(driverRepository);
+    }
+    
+    @Bean
+    public UpdateDriverLocationInputPort updateDriverLocationUseCase(DriverRepositoryPort driverRepository,
+                                                                     DriverPositionFeedPort positionFeed) {
+        return new UpdateDriverLocationUseCase(driverRepository, positionFeed);
     }
     
     @Bean
@@ -92,8 +103,9 @@ public class UseCaseConfiguration {
     @Bean
     public CreateTripInputPort createTripUseCase(TripRepositoryPort tripRepository,
                                                   PassengerRepositoryPort passengerRepository,
-                                                  TelemetryPort telemetryPort) {
-        return new CreateTripUseCase(tripRepository, passengerRepository, telemetryPort);
+                                                  TelemetryPort telemetryPort,
+                                                  FareQuoteTokenPort fareQuoteTokenPort) {
+        return new CreateTripUseCase(tripRepository, passengerRepository, telemetryPort, fareQuoteTokenPort);
     }
     
     @Bean
@@ -126,21 +138,32 @@ public class UseCaseConfiguration {
         return new TripCompletionService();
     }
     
+    @Bean
+    public LedgerPostingService ledgerPostingService() {
+        return new LedgerPostingService();
+    }
+    
     @Bean
     public CompleteTripWithPaymentInputPort completeTripWithPaymentUseCase(
             TripRepositoryPort tripRepository,
             FareRepositoryPort fareRepository,
             DistanceCalculationPort distanceCalculation,
             CalculateFareInputPort calculateFare,
-            ProcessPaymentInputPort processPayment,
-            TripCompletionService completionService) {
+            PaymentRepositoryPort paymentRepository,
+            FareConfigurationRepositoryPort fareConfigRepository,
+            PaymentSettlementQueuePort settlementQueue,
+            TripCompletionService completionService,
+            FareQuoteTokenPort fareQuoteTokenPort) {
         return new CompleteTripWithPaymentUseCase(
             tripRepository,
             fareRepository,
             distanceCalculation,
             calculateFare,
-            processPayment,
-            completionService
+            paymentRepository,
+            fareConfigRepository,
+            settlementQueue,
+            completionService,
+            fareQuoteTokenPort
         );
     }
     
@@ -159,9 +182,9 @@ public class UseCaseConfiguration {
     @Bean
     public CancelTripInputPort cancelTripUseCase(
             TripRepositoryPort tripRepository,
-            PaymentGatewayPort paymentGateway) {
+            CancellationFeeQueuePort feeQueue) {
         CancellationPolicyService policyService = new CancellationPolicyService();
-        return new CancelTripUseCase(tripRepository, policyService, paymentGateway);
+        return new CancelTripUseCase(tripRepository, policyService, feeQueue);
     }
     
     // Vehicle Use Cases
@@ -194,16 +217,88 @@ public class UseCaseConfiguration {
     // Payment Use Cases
     
     @Bean
-    public CalculateFareInputPort calculateFareUseCase(FareConfigurationRepositoryPort fareConfigRepository) {
-        return new CalculateFareUseCase(fareConfigRepository);
+    public CalculateFareInputPort calculateFareUseCase(FareConfigurationRepositoryPort fareConfigRepository,
+                                                       PricingTableProviderPort pricingTableProvider) {
+        return new CalculateFareUseCase(fareConfigRepository, pricingTableProvider);
+    }
+    
+    @Bean
+    public EstimateFaresInputPort estimateFaresUseCase(
+            FareConfigurationRepositoryPort fareConfigRepository,
+            PricingTableProviderPort pricingTableProvider,
+            @Value("${fare.estimate.average-speed-kmh:30}") double averageSpeedKmh,
+            @Value("${fare.estimate.max-routes:10}") int maxRoutes) {
+        return new EstimateFaresUseCase(fareConfigRepository, pricingTableProvider, averageSpeedKmh, maxRoutes);
+    }
+    
+    @Bean
+    public QuoteFareInputPort quoteFareUseCase(
+            FareConfigurationRepositoryPort fareConfigRepository,
+            PricingTableProviderPort pricingTableProvider,
+            FareQuoteTokenPort fareQuoteTokenPort,
+            @Value("${fare.quote.ttl-seconds:300}") long ttlSeconds,
+            @Value("${fare.estimate.average-speed-kmh:30}") double averageSpeedKmh) {
+        return new QuoteFareUseCase(fareConfigRepository, pricingTableProvider, fareQuoteTokenPort,
+            Duration.ofSeconds(ttlSeconds), averageSpeedKmh);
+    }
+    
+    @Bean
+    public GetPricingRulesInputPort getPricingRulesUseCase(PricingRuleRepositoryPort pricingRuleRepository) {
+        return new GetPricingRulesUseCase(pricingRuleRepository);
+    }
+    
+    @Bean
+    public ReplacePricingRulesInputPort replacePricingRulesUseCase(
+            PricingRuleRepositoryPort pricingRuleRepository,
+            @Value("${fare.pricing-rules.max-rules-per-tenant:500}") int maxRules) {
+        return new ReplacePricingRulesUseCase(pricingRuleRepository, maxRules);
     }
     
     @Bean
     public ProcessPaymentInputPort processPaymentUseCase(PaymentRepositoryPort paymentRepository,
+                                                          TripRepositoryPort tripRepository,
                                                           PaymentGatewayPort paymentGateway,
                                                           FareConfigurationRepositoryPort fareConfigRepository,
-                                                          TelemetryPort telemetryPort) {
-        return new ProcessPaymentUseCase(paymentRepository, paymentGateway, fareConfigRepository, telemetryPort);
+                                                          TelemetryPort telemetryPort,
+                                                          IdempotencyStorePort idempotencyStore) {
+        return new ProcessPaymentUseCase(paymentRepository, tripRepository, paymentGateway, fareConfigRepository,
+            telemetryPort, idempotencyStore);
+    }
+    
+    @Bean
+    public SettlePaymentInputPort settlePaymentUseCase(PaymentRepositoryPort paymentRepository,
+                                                        TripRepositoryPort tripRepository,
+                                                        PaymentGatewayPort paymentGateway,
+                                                        PaymentSettlementQueuePort settlementQueue,
+                                                        SendNotificationInputPort sendNotification) {
+        return new SettlePaymentUseCase(paymentRepository, tripRepository, paymentGateway, settlementQueue,
+            sendNotification);
+    }
+    
+    @Bean
+    public ChargeCancellationFeeInputPort chargeCancellationFeeUseCase(PaymentGatewayPort paymentGateway,
+                                                                        CancellationFeeQueuePort feeQueue) {
+        return new ChargeCancellationFeeUseCase(paymentGateway, feeQueue);
+    }
+    
+    @Bean
+    public RunDriverPayoutsInputPort runDriverPayoutsUseCase(
+            DriverPayoutStorePort payoutStore,
+            @Qualifier("virtualThreadExecutor") ExecutorService executor,
+            @Value("${payout.max-concurrent-tenants:4}") int maxConcurrentTenants) {
+        return new RunDriverPayoutsUseCase(payoutStore, executor, maxConcurrentTenants);
+    }
+    
+    @Bean
+    public ReconcilePaymentsInputPort reconcilePaymentsUseCase(SettlementFilePort settlementFiles,
+                                                               PaymentReconciliationSourcePort paymentSource,
+                                                               ReconciliationReportPort reports) {
+        return new ReconcilePaymentsUseCase(settlementFiles, paymentSource, reports);
+    }
+    
+    @Bean
+    public GetLedgerBalanceInputPort getLedgerBalanceUseCase(LedgerRepositoryPort ledgerRepository) {
+        return new GetLedgerBalanceUseCase(ledgerRepository);
     }
     
     @Bean
@@ -213,8 +308,9 @@ public class UseCaseConfiguration {
     
     @Bean
     public RefundPaymentInputPort refundPaymentUseCase(PaymentRepositoryPort paymentRepository,
-                                                        PaymentGatewayPort paymentGateway) {
-        return new RefundPaymentUseCase(paymentRepository, paymentGateway);
+                                                        PaymentGatewayPort paymentGateway,
+                                                        IdempotencyStorePort idempotencyStore) {
+        return new RefundPaymentUseCase(paymentRepository, paymentGateway, idempotencyStore);
     }
     
     @Bean
@@ -238,14 +334,16 @@ public class UseCaseConfiguration {
     public CreateRatingInputPort createRatingUseCase(
             RatingRepositoryPort ratingRepository,
             TripRepositoryPort tripRepository,
-            RatingValidationService validationService) {
-        return new CreateRatingUseCase(ratingRepository, tripRepository, validationService);
+            RatingValidationService validationService,
+            DriverRatingStatsPort driverRatingStats) {
+        return new CreateRatingUseCase(ratingRepository, tripRepository, validationService, driverRatingStats);
     }
     
     @Bean
     public GetDriverRatingSummaryInputPort getDriverRatingSummaryUseCase(
-            RatingRepositoryPort ratingRepository) {
-        return new GetDriverRatingSummaryUseCase(ratingRepository);
+            RatingRepositoryPort ratingRepository,
+            DriverRatingStatsPort driverRatingStats) {
+        return new GetDriverRatingSummaryUseCase(ratingRepository, driverRatingStats);
     }
     
     @Bean
@@ -262,8 +360,9 @@ public class UseCaseConfiguration {
     
     @Bean
     public ReportOffensiveRatingInputPort reportOffensiveRatingUseCase(
-            RatingRepositoryPort ratingRepository) {
-        return new ReportOffensiveRatingUseCase(ratingRepository);
+            RatingRepositoryPort ratingRepository,
+            DriverRatingStatsPort driverRatingStats) {
+        return new ReportOffensiveRatingUseCase(ratingRepository, driverRatingStats);
     }
     
     // Notification Use Cases
@@ -271,10 +370,21 @@ public class UseCaseConfiguration {
     @Bean
     public SendNotificationInputPort sendNotificationUseCase(
             NotificationRepositoryPort notificationRepository,
-            NotificationServicePort notificationService,
+            NotificationDeliveryQueuePort deliveryQueue,
+            NotificationUnreadCounterPort unreadCounters,
+            NotificationIdempotencyFilterPort idempotencyFilter,
+            NotificationCoalescingPort coalescing,
             TelemetryPort telemetryPort,
-            DriverAssignmentMetricsPort driverAssignmentMetricsPort) {
-        return new SendNotificationUseCase(notificationRepository, notificationService, telemetryPort, driverAssignmentMetricsPort);
+            DriverAssignmentMetricsPort driverAssignmentMetricsPort,
+            @Value("${notification.coalescing.enabled:true}") boolean coalescingEnabled,
+            @Value("${notification.coalescing.medium-window-ms:5000}") long mediumWindowMs,
+            @Value("${notification.coalescing.low-window-ms:60000}") long lowWindowMs) {
+        Map<NotificationPriority, Duration> coalescingWindows = coalescingEnabled
+            ? Map.of(NotificationPriority.MEDIUM, Duration.ofMillis(mediumWindowMs),
+                NotificationPriority.LOW, Duration.ofMillis(lowWindowMs))
+            : Map.of();
+        return new SendNotificationUseCase(notificationRepository, deliveryQueue, unreadCounters, idempotencyFilter,
+            coalescing, coalescingWindows, telemetryPort, driverAssignmentMetricsPort);
     }
     
     @Bean
@@ -285,14 +395,15 @@ public class UseCaseConfiguration {
     
     @Bean
     public MarkNotificationAsReadInputPort markNotificationAsReadUseCase(
-            NotificationRepositoryPort notificationRepository) {
-        return new MarkNotificationAsReadUseCase(notificationRepository);
+            NotificationRepositoryPort notificationRepository,
+            NotificationUnreadCounterPort unreadCounters) {
+        return new MarkNotificationAsReadUseCase(notificationRepository, unreadCounters);
     }
     
     @Bean
     public GetUnreadCountInputPort getUnreadCountUseCase(
-            NotificationRepositoryPort notificationRepository) {
-        return new GetUnreadCountUseCase(notificationRepository);
+            NotificationUnreadCounterPort unreadCounters) {
+        return new GetUnreadCountUseCase(unreadCounters);
     }
     
     // FareCalculator Bean
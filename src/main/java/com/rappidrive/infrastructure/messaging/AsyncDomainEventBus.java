@@ -0,0 +1,244 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.domain.events.DomainEvent;
+import com.rappidrive.domain.events.DomainEventHandler;
+import com.rappidrive.domain.events.DomainEventPublisher;
+import com.rappidrive.domain.events.DomainEventsCollector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process domain event bus that runs subscribers asynchronously on virtual threads.
+ *
+ * <p>Registered on the {@code DomainEventPublisher}, it receives every published event. Inside a
+ * transaction, events are buffered and only handed to subscribers after commit (and discarded on
+ * rollback); outside a transaction they are dispatched right away.</p>
+ *
+ * <p>Events are routed to a fixed number of lanes by aggregate id. Each lane is a bounded queue
+ * drained by its own virtual thread, so events of one aggregate reach subscribers in publish order
+ * while different aggregates proceed in parallel. When a lane is full the event is rejected right
+ * away, without blocking the committing request thread; the outbox remains the durable delivery
+ * path, this bus only carries non-critical in-process reactions.</p>
+ */
+public class AsyncDomainEventBus implements DomainEventHandler<DomainEvent>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncDomainEventBus.class);
+
+    private final List<DomainEventHandler<?>> subscribers = new CopyOnWriteArrayList<>();
+    private final Lane[] lanes;
+    private volatile boolean closed;
+
+    private final Counter published;
+    private final Counter handled;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Counter discarded;
+    private final Timer handlerDuration;
+
+    public AsyncDomainEventBus(MeterRegistry meterRegistry, int laneCount, int laneCapacity) {
+        if (laneCount <= 0 || laneCapacity <= 0) {
+            throw new IllegalArgumentException("Lane count and capacity must be positive");
+        }
+        this.published = Counter.builder("domain_event_bus_published_total")
+            .description("Domain events handed to the async bus after commit")
+            .register(meterRegistry);
+        this.handled = Counter.builder("domain_event_bus_handled_total")
+            .description("Domain events delivered to all matching subscribers")
+            .register(meterRegistry);
+        this.failed = Counter.builder("domain_event_bus_handler_failures_total")
+            .description("Subscriber invocations that threw")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("domain_event_bus_rejected_total")
+            .description("Domain events rejected because their lane stayed full")
+            .register(meterRegistry);
+        this.discarded = Counter.builder("domain_event_bus_discarded_total")
+            .description("Domain events dropped because their transaction rolled back")
+            .register(meterRegistry);
+        this.handlerDuration = Timer.builder("domain_event_bus_handler_duration")
+            .description("Time spent delivering one event to its subscribers")
+            .register(meterRegistry);
+
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i, laneCapacity);
+        }
+        Gauge.builder("domain_event_bus_queued", this, AsyncDomainEventBus::queued)
+            .description("Domain events waiting in the bus lanes")
+            .register(meterRegistry);
+    }
+
+    public void subscribe(DomainEventHandler<?> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public boolean canHandle(DomainEvent event) {
+        return !closed;
+    }
+
+    /**
+     * Called by the publisher on the publishing thread: buffers the event until the surrounding
+     * transaction commits, or dispatches it immediately when there is none.
+     */
+    @Override
+    public void handle(DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionBuffer().add(event);
+        } else {
+            dispatch(event);
+        }
+    }
+
+    public int queued() {
+        int total = 0;
+        for (Lane lane : lanes) {
+            total += lane.queue.size();
+        }
+        return total;
+    }
+
+    void dispatch(DomainEvent event) {
+        if (closed) {
+            rejected.increment();
+            return;
+        }
+        Lane lane = laneFor(event);
+        if (lane.queue.offer(event)) {
+            published.increment();
+            return;
+        }
+        rejected.increment();
+        log.error("[EVENT_BUS_REJECTED] lane={} full, dropping eventType={} aggregateId={}",
+            lane.index, event.getClass().getSimpleName(), event.aggregateId());
+    }
+
+    private Lane laneFor(DomainEvent event) {
+        Object key = event.aggregateId() != null ? event.aggregateId() : event.eventId();
+        if (key == null) {
+            key = event;
+        }
+        return lanes[Math.floorMod(key.hashCode(), lanes.length)];
+    }
+
+    private List<DomainEvent> transactionBuffer() {
+        @SuppressWarnings("unchecked")
+        List<DomainEvent> buffer = (List<DomainEvent>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            List<DomainEvent> newBuffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, newBuffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    newBuffer.forEach(AsyncDomainEventBus.this::dispatch);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AsyncDomainEventBus.this);
+                    if (status != STATUS_COMMITTED) {
+                        discarded.increment(newBuffer.size());
+                    }
+                    // outbox events are drained before commit; never let leftovers leak into
+                    // the next transaction served by this thread
+                    DomainEventsCollector.instance().clear();
+                }
+            });
+            buffer = newBuffer;
+        }
+        return buffer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(DomainEvent event) {
+        long start = System.nanoTime();
+        for (DomainEventHandler<?> subscriber : subscribers) {
+            try {
+                if (subscriber.canHandle(event)) {
+                    ((DomainEventHandler<DomainEvent>) subscriber).handle(event);
+                }
+            } catch (Exception ex) {
+                failed.increment();
+                log.error("[EVENT_BUS_HANDLER_ERROR] subscriber={} eventType={} eventId={}",
+                    subscriber.getClass().getSimpleName(), event.getClass().getSimpleName(), event.eventId(), ex);
+            }
+        }
+        handlerDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        handled.increment();
+    }
+
+    /**
+     * Detaches from the publisher, stops accepting events and waits up to {@code drainTimeout}
+     * for queued events to be delivered.
+     */
+    public void close(Duration drainTimeout) {
+        closed = true;
+        DomainEventPublisher.instance().unregister(this);
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+        for (Lane lane : lanes) {
+            long remaining = deadline - System.nanoTime();
+            try {
+                if (remaining <= 0 || !lane.worker.join(Duration.ofNanos(remaining))) {
+                    lane.worker.interrupt();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(5));
+    }
+
+    private final class Lane {
+        private final int index;
+        private final BlockingQueue<DomainEvent> queue;
+        private final Thread worker;
+        private volatile boolean stopping;
+
+        private Lane(int index, int capacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.worker = Thread.ofVirtual().name("domain-event-bus-" + index).start(this::run);
+        }
+
+        private void run() {
+            while (true) {
+                DomainEvent event;
+                try {
+                    event = stopping ? queue.poll() : queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                if (event != null) {
+                    deliver(event);
+                } else if (stopping) {
+                    return;
+                }
+            }
+        }
+
+        private void stop() {
+            stopping = true;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.application.ports.input.payment.ChargeCancellationFeeInputPort;
+import com.rappidrive.application.ports.input.payment.ChargeCancellationFeeInputPort.ChargeOutcome;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort.CancellationFeeCharge;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort.ClaimedCancellationFee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Charges queued cancellation fees (see V28 migration), one {@link ChargeCancellationFeeInputPort}
+ * attempt per claimed entry.
+ *
+ * <p>Works like {@link PaymentSettlementWorker}: the entries of a batch are charged concurrently on
+ * virtual threads outside any transaction, an attempt the gateway could not serve is rescheduled
+ * with exponential backoff, and the attempt reaching {@code max-attempts} gives the fee up.</p>
+ *
+ * <p>Attempts are counted per tenant and outcome ({@code cancellation_fee_charges_total}), and
+ * the time from cancellation to the gateway's final answer is recorded per tenant
+ * ({@code cancellation_fee_charge_lag}), so a backlog building up during a cancellation spike is
+ * visible before fees are given up on.</p>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "payment.cancellation-fee.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class CancellationFeeWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(CancellationFeeWorker.class);
+
+    private final ChargeCancellationFeeInputPort chargeCancellationFee;
+    private final CancellationFeeQueuePort feeQueue;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Clock clock;
+    private final Map<UUID, TenantMeters> metersByTenant = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CancellationFeeWorker(
+            ChargeCancellationFeeInputPort chargeCancellationFee,
+            CancellationFeeQueuePort feeQueue,
+            MeterRegistry meterRegistry,
+            @Value("${payment.cancellation-fee.batch-size:50}") int batchSize,
+            @Value("${payment.cancellation-fee.max-attempts:8}") int maxAttempts,
+            @Value("${payment.cancellation-fee.lease-ms:60000}") long leaseMs,
+            @Value("${payment.cancellation-fee.backoff-base-ms:5000}") long backoffBaseMs,
+            @Value("${payment.cancellation-fee.backoff-max-ms:600000}") long backoffMaxMs) {
+        this(chargeCancellationFee, feeQueue, meterRegistry, batchSize, maxAttempts, Duration.ofMillis(leaseMs),
+            Duration.ofMillis(backoffBaseMs), Duration.ofMillis(backoffMaxMs), Clock.systemDefaultZone());
+    }
+
+    CancellationFeeWorker(ChargeCancellationFeeInputPort chargeCancellationFee, CancellationFeeQueuePort feeQueue,
+                          MeterRegistry meterRegistry, int batchSize, int maxAttempts, Duration lease,
+                          Duration backoffBase, Duration backoffMax, Clock clock) {
+        if (batchSize < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("batch-size and max-attempts must be positive");
+        }
+        this.chargeCancellationFee = chargeCancellationFee;
+        this.feeQueue = feeQueue;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.cancellation-fee.poll-delay-ms:1000}")
+    public void chargeDueFees() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ClaimedCancellationFee> claimed;
+        try {
+            claimed = feeQueue.claimDue(now, now.plus(lease), batchSize);
+        } catch (RuntimeException ex) {
+            log.error("[CANCELLATION_FEE_ERROR] Failed to claim due cancellation fees", ex);
+            return;
+        }
+
+        if (claimed.isEmpty()) {
+            log.debug("[CANCELLATION_FEE_IDLE] No due cancellation fees");
+            return;
+        }
+
+        log.info("[CANCELLATION_FEE_START] claimed={} due cancellation fees", claimed.size());
+        // gateway calls must answer within half the lease, leaving the rest to record the result
+        Instant deadline = clock.instant().plus(lease.dividedBy(2));
+        // close() waits for the whole batch before the next poll is scheduled
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ClaimedCancellationFee fee : claimed) {
+                executor.execute(() -> charge(fee, deadline));
+            }
+        }
+    }
+
+    void charge(ClaimedCancellationFee claimed, Instant deadline) {
+        CancellationFeeCharge charge = claimed.charge();
+        TenantMeters meters = metersFor(charge.tenantId().getValue());
+        MDC.put("correlationId", charge.tripId().toString());
+        try {
+            boolean finalAttempt = claimed.attempt() >= maxAttempts;
+            ChargeOutcome outcome = chargeCancellationFee.execute(
+                new ChargeCancellationFeeInputPort.ChargeCancellationFeeCommand(charge, finalAttempt, deadline));
+            meters.outcomes().get(outcome).increment();
+
+            if (outcome == ChargeOutcome.RETRY) {
+                LocalDateTime dueAt = LocalDateTime.now(clock).plus(backoff(claimed.attempt()));
+                feeQueue.reschedule(charge.tripId(), dueAt);
+                log.warn("[CANCELLATION_FEE_RETRY] tripId={} attempt={}/{} nextAttempt={}",
+                    charge.tripId(), claimed.attempt(), maxAttempts, dueAt);
+                return;
+            }
+            meters.lag().record(Duration.between(charge.cancelledAt(), LocalDateTime.now(clock)));
+            if (outcome == ChargeOutcome.CHARGED) {
+                log.info("[CANCELLATION_FEE_SUCCESS] tripId={} fee={} attempt={}/{}",
+                    charge.tripId(), charge.fee(), claimed.attempt(), maxAttempts);
+            } else {
+                log.warn("[CANCELLATION_FEE_{}] tripId={} fee={} attempt={}/{}", outcome,
+                    charge.tripId(), charge.fee(), claimed.attempt(), maxAttempts);
+            }
+        } catch (RuntimeException ex) {
+            meters.errors().increment();
+            log.error("[CANCELLATION_FEE_ERROR] tripId={} attempt={}/{} retrying after lease",
+                charge.tripId(), claimed.attempt(), maxAttempts, ex);
+        } finally {
+            MDC.remove("correlationId");
+        }
+    }
+
+    /**
+     * Delay before the attempt after {@code attempt}: base * 2^(attempt - 1), capped at the maximum.
+     */
+    Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        Duration delay = backoffBase.multipliedBy(1L << shift);
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private TenantMeters metersFor(UUID tenantId) {
+        return metersByTenant.computeIfAbsent(tenantId, id -> {
+            String tenant = id.toString();
+            Map<ChargeOutcome, Counter> outcomes = new EnumMap<>(ChargeOutcome.class);
+            for (ChargeOutcome outcome : ChargeOutcome.values()) {
+                outcomes.put(outcome, Counter.builder("cancellation_fee_charges_total")
+                    .description("Cancellation fee charging attempts by tenant and outcome")
+                    .tags("tenant", tenant, "outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+            }
+            Counter errors = Counter.builder("cancellation_fee_charges_total")
+                .description("Cancellation fee charging attempts by tenant and outcome")
+                .tags("tenant", tenant, "outcome", "error")
+                .register(meterRegistry);
+            Timer lag = Timer.builder("cancellation_fee_charge_lag")
+                .description("Time from trip cancellation to the gateway's final answer on its fee")
+                .tag("tenant", tenant)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+            return new TenantMeters(outcomes, errors, lag);
+        });
+    }
+
+    private record TenantMeters(Map<ChargeOutcome, Counter> outcomes, Counter errors, Timer lag) {
+    }
+}
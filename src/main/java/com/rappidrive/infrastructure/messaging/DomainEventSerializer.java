@@ -0,0 +1,94 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rappidrive.domain.events.DomainEvent;
+import com.rappidrive.domain.events.DriverApprovalSubmittedEvent;
+import com.rappidrive.domain.events.DriverApprovedEvent;
+import com.rappidrive.domain.events.DriverRejectedEvent;
+import com.rappidrive.domain.events.TenantOnboardedEvent;
+import com.rappidrive.domain.events.TripCancelledEvent;
+import com.rappidrive.domain.events.TripCompletedEvent;
+import com.rappidrive.domain.events.TripCreatedEvent;
+import com.rappidrive.domain.events.TripDriverAssignedEvent;
+import com.rappidrive.domain.events.TripPaymentFailedEvent;
+import com.rappidrive.domain.events.TripPaymentSettledEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Registry of Jackson writers per domain event type used to build outbox payloads.
+ *
+ * <p>Each event class gets an {@link ObjectWriter} bound to its concrete type, created once
+ * (eagerly for the known events, lazily for anything else) and looked up through a
+ * {@link ClassValue}, so serialising an event neither resolves serializers nor uses reflection
+ * on the hot path. Aggregate metadata comes from {@link DomainEvent} itself.</p>
+ */
+@Component
+public class DomainEventSerializer {
+
+    private static final List<Class<? extends DomainEvent>> KNOWN_EVENT_TYPES = List.of(
+        TripCreatedEvent.class,
+        TripDriverAssignedEvent.class,
+        TripCompletedEvent.class,
+        TripCancelledEvent.class,
+        TripPaymentSettledEvent.class,
+        TripPaymentFailedEvent.class,
+        DriverApprovalSubmittedEvent.class,
+        DriverApprovedEvent.class,
+        DriverRejectedEvent.class,
+        TenantOnboardedEvent.class
+    );
+
+    private final ClassValue<EventWriter> writers;
+
+    public DomainEventSerializer(ObjectMapper objectMapper) {
+        this.writers = new ClassValue<>() {
+            @Override
+            protected EventWriter computeValue(Class<?> type) {
+                return new EventWriter(type.getSimpleName(), objectMapper.writerFor(type));
+            }
+        };
+        KNOWN_EVENT_TYPES.forEach(writers::get);
+    }
+
+    /**
+     * Outbox event type names of the events known at startup, e.g. for pre-registering meters.
+     */
+    public List<String> knownEventTypes() {
+        return KNOWN_EVENT_TYPES.stream().map(type -> writers.get(type).eventType()).toList();
+    }
+
+    /**
+     * Outbox event type name for the event (its simple class name).
+     */
+    public String eventType(DomainEvent event) {
+        return writers.get(event.getClass()).eventType();
+    }
+
+    /**
+     * Serialises the event to its JSON outbox payload.
+     */
+    public String serialize(DomainEvent event) {
+        try {
+            return writers.get(event.getClass()).writer().writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new EventSerializationException(
+                "Failed to serialize domain event " + event.getClass().getSimpleName() + " for outbox", e);
+        }
+    }
+
+    private record EventWriter(String eventType, ObjectWriter writer) {
+    }
+
+    /**
+     * Raised when a domain event cannot be serialised for the outbox.
+     */
+    public static class EventSerializationException extends RuntimeException {
+        public EventSerializationException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
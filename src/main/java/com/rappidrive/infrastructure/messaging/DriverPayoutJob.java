@@ -0,0 +1,89 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.application.ports.input.payment.RunDriverPayoutsInputPort;
+import com.rappidrive.application.ports.input.payment.RunDriverPayoutsInputPort.PayoutRunResult;
+import com.rappidrive.application.ports.input.payment.RunDriverPayoutsInputPort.RunDriverPayoutsCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Runs the driver payout batch for the last {@code catch-up-days} business days, oldest first.
+ * Days and tenants already checkpointed are skipped, so a run that failed or was interrupted is
+ * completed by the next one.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "payout.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class DriverPayoutJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverPayoutJob.class);
+
+    private final RunDriverPayoutsInputPort runDriverPayouts;
+    private final int catchUpDays;
+    private final Clock clock;
+    private final Counter tenantsSettled;
+    private final Counter tenantsFailed;
+
+    @Autowired
+    public DriverPayoutJob(RunDriverPayoutsInputPort runDriverPayouts,
+                           MeterRegistry meterRegistry,
+                           @Value("${payout.catch-up-days:3}") int catchUpDays) {
+        this(runDriverPayouts, meterRegistry, catchUpDays, Clock.systemDefaultZone());
+    }
+
+    DriverPayoutJob(RunDriverPayoutsInputPort runDriverPayouts, MeterRegistry meterRegistry, int catchUpDays,
+                    Clock clock) {
+        if (catchUpDays < 1) {
+            throw new IllegalArgumentException("catch-up-days must be positive");
+        }
+        this.runDriverPayouts = runDriverPayouts;
+        this.catchUpDays = catchUpDays;
+        this.clock = clock;
+        this.tenantsSettled = Counter.builder("driver_payout_tenants_total")
+            .description("Tenant business days processed by the payout batch, by outcome")
+            .tag("outcome", "settled")
+            .register(meterRegistry);
+        this.tenantsFailed = Counter.builder("driver_payout_tenants_total")
+            .description("Tenant business days processed by the payout batch, by outcome")
+            .tag("outcome", "failed")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${payout.cron:0 30 2 * * *}")
+    public void runPayouts() {
+        LocalDate today = LocalDate.now(clock);
+        for (int daysAgo = catchUpDays; daysAgo >= 1; daysAgo--) {
+            LocalDate businessDate = today.minusDays(daysAgo);
+            try {
+                PayoutRunResult result = runDriverPayouts.execute(new RunDriverPayoutsCommand(businessDate));
+                tenantsSettled.increment(result.settledTenants());
+                tenantsFailed.increment(result.failedTenants().size());
+                if (!result.failedTenants().isEmpty()) {
+                    log.warn("[PAYOUT_PARTIAL] businessDate={} settled={} skipped={} failed={}",
+                        businessDate, result.settledTenants(), result.skippedTenants(), result.failedTenants());
+                } else if (result.settledTenants() > 0) {
+                    log.info("[PAYOUT_DONE] businessDate={} tenants={} payments={} payouts={} skipped={}",
+                        businessDate, result.settledTenants(), result.payments(), result.payouts(),
+                        result.skippedTenants());
+                } else {
+                    log.debug("[PAYOUT_IDLE] businessDate={} nothing to settle", businessDate);
+                }
+            } catch (RuntimeException ex) {
+                log.error("[PAYOUT_ERROR] businessDate={} payout batch failed", businessDate, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.rappidrive.infrastructure.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Advances the ledger balance snapshots (see V27 and V34 migrations), so a balance read only sums
+ * the postings made since the last run.
+ *
+ * <p>Each posting records the id of the transaction that wrote it. Each run folds the postings of
+ * transactions below the oldest transaction still running ({@code pg_snapshot_xmin}) into the
+ * snapshots of the accounts they touch, at most {@code batch-size} postings at a time. Those
+ * transactions have all committed or rolled back, so however late a transaction commits, its
+ * postings are never below the snapshot. Only one instance runs at a time, guarded by a
+ * transaction-scoped Postgres advisory lock.</p>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "ledger.snapshot.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class LedgerSnapshotJob {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotJob.class);
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('ledger_balance_snapshots'))";
+    private static final String WATERMARK_SQL =
+        "SELECT COALESCE(MAX(below_tx_id), 0) FROM ledger_balance_snapshots";
+    private static final String SETTLED_SQL = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+    private static final String CUTOFF_SQL =
+        "WITH batch AS (SELECT tx_id FROM ledger_postings WHERE tx_id >= ? AND tx_id < ? ORDER BY tx_id LIMIT ?) "
+            + "SELECT CASE WHEN COUNT(*) < ? THEN ? ELSE MAX(tx_id) + 1 END FROM batch";
+    private static final String ADVANCE_SQL =
+        "INSERT INTO ledger_balance_snapshots (account_id, balance_cents, below_tx_id, taken_at) "
+            + "SELECT account_id, SUM(amount_cents), ?, ? FROM ledger_postings WHERE tx_id >= ? AND tx_id < ? "
+            + "GROUP BY account_id "
+            + "ON CONFLICT (account_id) DO UPDATE SET "
+            + "balance_cents = ledger_balance_snapshots.balance_cents + EXCLUDED.balance_cents, "
+            + "below_tx_id = EXCLUDED.below_tx_id, taken_at = EXCLUDED.taken_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long batchSize;
+    private final Clock clock;
+
+    @Autowired
+    public LedgerSnapshotJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${ledger.snapshot.batch-size:1000000}") long batchSize) {
+        this(jdbcTemplate, transactionManager, batchSize, Clock.systemDefaultZone());
+    }
+
+    LedgerSnapshotJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, long batchSize,
+                      Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+        initialDelayString = "${ledger.snapshot.initial-delay-ms:30000}",
+        fixedDelayString = "${ledger.snapshot.interval-ms:300000}"
+    )
+    public void advanceSnapshots() {
+        try {
+            Integer accounts = transactionTemplate.execute(status -> advance());
+            if (accounts != null && accounts > 0) {
+                log.info("[LEDGER_SNAPSHOT] Advanced {} account snapshots", accounts);
+            }
+        } catch (Exception ex) {
+            log.error("[LEDGER_SNAPSHOT_ERROR] Ledger snapshot run failed", ex);
+        }
+    }
+
+    /**
+     * @return the number of account snapshots advanced
+     */
+    Integer advance() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class))) {
+            log.debug("[LEDGER_SNAPSHOT_SKIP] Snapshot already running on another instance");
+            return 0;
+        }
+        Long watermark = jdbcTemplate.queryForObject(WATERMARK_SQL, Long.class);
+        long from = watermark != null ? watermark : 0L;
+        Long settled = jdbcTemplate.queryForObject(SETTLED_SQL, Long.class);
+        Long cutoff = jdbcTemplate.queryForObject(CUTOFF_SQL, Long.class, from, settled, batchSize, batchSize, settled);
+        if (cutoff == null || cutoff <= from) {
+            return 0;
+        }
+        return jdbcTemplate.update(ADVANCE_SQL, cutoff, Timestamp.valueOf(LocalDateTime.now(clock)), from, cutoff);
+    }
+}
@@ -3,6 +3,7 @@ package com.rappidrive.infrastructure.messaging;
 import com.rappidrive.application.ports.output.EventDispatcherPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -10,8 +11,10 @@ import java.util.UUID;
 /**
  * No-op implementation of EventDispatcherPort for local development and testing.
  * In production, this would be replaced by a real implementation (Kafka, RabbitMQ, etc.)
+ * Disabled when the local event log is enabled ({@code event-log.enabled=true}).
  */
 @Component
+@ConditionalOnProperty(name = "event-log.enabled", havingValue = "false", matchIfMissing = true)
 public class NoOpEventDispatcher implements EventDispatcherPort {
     
     private static final Logger logger = LoggerFactory.getLogger(NoOpEventDispatcher.class);
@@ -0,0 +1,356 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.application.ports.output.NotificationDeliveryQueuePort;
+import com.rappidrive.application.ports.output.NotificationDeliveryQueuePort.ClaimedDelivery;
+import com.rappidrive.application.ports.output.NotificationServicePort;
+import com.rappidrive.application.ports.output.NotificationServicePort.BatchResult;
+import com.rappidrive.domain.entities.Notification;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers queued push notifications (see V29 migration) in provider batches.
+ *
+ * <p>Each poll claims up to {@code batch-size} due entries, routes every notification to the first
+ * {@link NotificationServicePort} that supports it and splits each provider's share into batches
+ * of the provider's {@link NotificationServicePort#maxBatchSize() maximum}. Batches run
+ * concurrently on virtual threads, but each provider only gets
+ * {@link NotificationServicePort#maxBatchesPerSecond()} calls per second. A batch that cannot get a
+ * permit within {@code permit-wait-ms}, or whose provider is unavailable, was never sent: it is
+ * deferred with the backoff of its current attempt and the attempt its claim counted is given back,
+ * so throttling alone never fails a notification. The results of the whole poll are written back
+ * in bulk.</p>
+ *
+ * <p>Notifications the provider could not take are retried with exponential backoff and equal
+ * jitter, so a provider outage does not bring every notification back at the same instant; the
+ * attempt reaching {@code max-attempts} marks them FAILED.</p>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "notification.delivery.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class NotificationDeliveryWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDeliveryWorker.class);
+
+    private final List<NotificationServicePort> providers;
+    private final NotificationDeliveryQueuePort deliveryQueue;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Clock clock;
+    private final Random random;
+    private final Map<NotificationServicePort, ProviderLane> lanes = new IdentityHashMap<>();
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    @Autowired
+    public NotificationDeliveryWorker(
+            List<NotificationServicePort> providers,
+            NotificationDeliveryQueuePort deliveryQueue,
+            MeterRegistry meterRegistry,
+            @Value("${notification.delivery.batch-size:1000}") int batchSize,
+            @Value("${notification.delivery.max-attempts:6}") int maxAttempts,
+            @Value("${notification.delivery.lease-ms:60000}") long leaseMs,
+            @Value("${notification.delivery.backoff-base-ms:1000}") long backoffBaseMs,
+            @Value("${notification.delivery.backoff-max-ms:300000}") long backoffMaxMs,
+            @Value("${notification.delivery.permit-wait-ms:2000}") long permitWaitMs) {
+        this(providers, deliveryQueue, meterRegistry, batchSize, maxAttempts, Duration.ofMillis(leaseMs),
+            Duration.ofMillis(backoffBaseMs), Duration.ofMillis(backoffMaxMs), Duration.ofMillis(permitWaitMs),
+            Clock.systemDefaultZone(), new Random());
+    }
+
+    NotificationDeliveryWorker(List<NotificationServicePort> providers, NotificationDeliveryQueuePort deliveryQueue,
+                               MeterRegistry meterRegistry, int batchSize, int maxAttempts, Duration lease,
+                               Duration backoffBase, Duration backoffMax, Duration permitWait, Clock clock,
+                               Random random) {
+        if (batchSize < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("batch-size and max-attempts must be positive");
+        }
+        this.providers = List.copyOf(providers);
+        this.deliveryQueue = deliveryQueue;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.clock = clock;
+        this.random = random;
+        for (NotificationServicePort provider : this.providers) {
+            lanes.put(provider, new ProviderLane(provider, permitWait));
+        }
+        Gauge.builder("notification_delivery_queue_depth", queueDepth, AtomicLong::get)
+            .description("Push notifications waiting for delivery, as of the last refresh")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.delivery.poll-delay-ms:500}")
+    public void deliverDueNotifications() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ClaimedDelivery> claimed;
+        try {
+            claimed = deliveryQueue.claimDue(now, now.plus(lease), batchSize);
+        } catch (RuntimeException ex) {
+            log.error("[NOTIFICATION_DELIVERY_ERROR] Failed to claim due notifications", ex);
+            return;
+        }
+
+        if (claimed.isEmpty()) {
+            log.debug("[NOTIFICATION_DELIVERY_IDLE] No due notifications");
+            return;
+        }
+
+        log.info("[NOTIFICATION_DELIVERY_START] claimed={} due notifications", claimed.size());
+        Results results = deliver(claimed);
+        try {
+            LocalDateTime finishedAt = LocalDateTime.now(clock);
+            deliveryQueue.complete(results.sent, results.failed, finishedAt);
+            deliveryQueue.reschedule(results.retries);
+            deliveryQueue.defer(results.deferrals);
+            log.info("[NOTIFICATION_DELIVERY_COMPLETE] sent={} failed={} retried={} deferred={}",
+                results.sent.size(), results.failed.size(), results.retries.size(), results.deferrals.size());
+        } catch (RuntimeException ex) {
+            log.error("[NOTIFICATION_DELIVERY_ERROR] Failed to record results of {} notifications, "
+                + "redelivering after lease", claimed.size(), ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.delivery.depth-refresh-ms:10000}")
+    public void refreshQueueDepth() {
+        try {
+            queueDepth.set(deliveryQueue.depth());
+        } catch (RuntimeException ex) {
+            log.warn("[NOTIFICATION_DELIVERY_ERROR] Failed to read delivery queue depth: {}", ex.getMessage());
+        }
+    }
+
+    Results deliver(List<ClaimedDelivery> claimed) {
+        Results results = new Results();
+        Map<NotificationServicePort, List<ClaimedDelivery>> byProvider = new LinkedHashMap<>();
+        for (ClaimedDelivery delivery : claimed) {
+            NotificationServicePort provider = providerFor(delivery.notification());
+            if (provider == null) {
+                log.warn("[NOTIFICATION_DELIVERY_FAILED] notificationId={} no provider supports it",
+                    delivery.notification().getId());
+                results.fail(delivery);
+            } else {
+                byProvider.computeIfAbsent(provider, p -> new ArrayList<>()).add(delivery);
+            }
+        }
+
+        // close() waits for every batch before the results are written back
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            byProvider.forEach((provider, deliveries) -> {
+                ProviderLane lane = lanes.get(provider);
+                int size = Math.max(1, provider.maxBatchSize());
+                for (int from = 0; from < deliveries.size(); from += size) {
+                    List<ClaimedDelivery> batch = deliveries.subList(from, Math.min(from + size, deliveries.size()));
+                    executor.execute(() -> deliverBatch(lane, batch, results));
+                }
+            });
+        }
+        return results;
+    }
+
+    private void deliverBatch(ProviderLane lane, List<ClaimedDelivery> batch, Results results) {
+        NotificationServicePort provider = lane.provider;
+        if (!provider.isAvailable()) {
+            deferAll(lane, batch, results, "provider unavailable");
+            return;
+        }
+        if (!lane.rateLimiter.acquirePermission()) {
+            deferAll(lane, batch, results, "rate limited");
+            return;
+        }
+
+        List<Notification> notifications = batch.stream().map(ClaimedDelivery::notification).toList();
+        long startNanos = System.nanoTime();
+        BatchResult result;
+        try {
+            result = provider.sendBatch(notifications);
+        } catch (RuntimeException ex) {
+            retryAll(lane, batch, results, ex.getMessage());
+            return;
+        } finally {
+            lane.batchDuration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ClaimedDelivery> unanswered = new ArrayList<>();
+        for (ClaimedDelivery delivery : batch) {
+            UUID id = delivery.notification().getId();
+            if (result.delivered().contains(id)) {
+                results.send(delivery);
+                lane.sent.increment();
+                lane.latency.record(Duration.between(delivery.notification().getCreatedAt(), now));
+            } else if (result.rejected().contains(id)) {
+                results.fail(delivery);
+                lane.rejected.increment();
+            } else {
+                unanswered.add(delivery);
+            }
+        }
+        if (!unanswered.isEmpty()) {
+            retryAll(lane, unanswered, results, "not answered in batch result");
+        }
+    }
+
+    private void retryAll(ProviderLane lane, List<ClaimedDelivery> deliveries, Results results, String reason) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int exhausted = 0;
+        for (ClaimedDelivery delivery : deliveries) {
+            if (delivery.attempt() >= maxAttempts) {
+                results.fail(delivery);
+                exhausted++;
+            } else {
+                results.retry(delivery, now.plus(backoff(delivery.attempt())));
+            }
+        }
+        lane.exhausted.increment(exhausted);
+        lane.retried.increment(deliveries.size() - exhausted);
+        log.warn("[NOTIFICATION_DELIVERY_RETRY] provider={} notifications={} exhausted={} reason={}",
+            lane.provider.providerName(), deliveries.size(), exhausted, reason);
+    }
+
+    /**
+     * Puts back a batch that was never handed to the provider, without spending an attempt.
+     */
+    private void deferAll(ProviderLane lane, List<ClaimedDelivery> deliveries, Results results, String reason) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (ClaimedDelivery delivery : deliveries) {
+            results.defer(delivery, now.plus(backoff(delivery.attempt())));
+        }
+        lane.deferred.increment(deliveries.size());
+        log.debug("[NOTIFICATION_DELIVERY_DEFERRED] provider={} notifications={} reason={}",
+            lane.provider.providerName(), deliveries.size(), reason);
+    }
+
+    /**
+     * Delay before the attempt after {@code attempt}: half of base * 2^(attempt - 1), capped at the
+     * maximum, plus a random share of the other half.
+     */
+    Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        Duration delay = backoffBase.multipliedBy(1L << shift);
+        long cappedMillis = (delay.compareTo(backoffMax) > 0 ? backoffMax : delay).toMillis();
+        long half = cappedMillis / 2;
+        long jitter;
+        synchronized (random) {
+            jitter = half > 0 ? random.nextLong(half + 1) : 0;
+        }
+        return Duration.ofMillis(cappedMillis - half + jitter);
+    }
+
+    private NotificationServicePort providerFor(Notification notification) {
+        for (NotificationServicePort provider : providers) {
+            if (provider.supports(notification)) {
+                return provider;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Outcomes of one poll, filled concurrently by its batches.
+     */
+    static final class Results {
+        final List<UUID> sent = new ArrayList<>();
+        final List<UUID> failed = new ArrayList<>();
+        final Map<UUID, LocalDateTime> retries = new HashMap<>();
+        final Map<UUID, LocalDateTime> deferrals = new HashMap<>();
+
+        synchronized void send(ClaimedDelivery delivery) {
+            sent.add(delivery.notification().getId());
+        }
+
+        synchronized void fail(ClaimedDelivery delivery) {
+            failed.add(delivery.notification().getId());
+        }
+
+        synchronized void retry(ClaimedDelivery delivery, LocalDateTime dueAt) {
+            retries.put(delivery.notification().getId(), dueAt);
+        }
+
+        synchronized void defer(ClaimedDelivery delivery, LocalDateTime dueAt) {
+            deferrals.put(delivery.notification().getId(), dueAt);
+        }
+    }
+
+    /**
+     * Rate limiter and meters of one provider.
+     */
+    private final class ProviderLane {
+        final NotificationServicePort provider;
+        final RateLimiter rateLimiter;
+        final Counter sent;
+        final Counter rejected;
+        final Counter retried;
+        final Counter exhausted;
+        final Counter deferred;
+        final Timer latency;
+        final Timer batchDuration;
+
+        ProviderLane(NotificationServicePort provider, Duration permitWait) {
+            String name = provider.providerName();
+            this.provider = provider;
+            this.rateLimiter = RateLimiter.of("notification-" + name, RateLimiterConfig.custom()
+                .limitForPeriod(Math.max(1, provider.maxBatchesPerSecond()))
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(permitWait)
+                .build());
+            this.sent = outcome(name, "sent");
+            this.rejected = outcome(name, "rejected");
+            this.retried = outcome(name, "retried");
+            this.exhausted = outcome(name, "exhausted");
+            this.deferred = outcome(name, "deferred");
+            this.latency = Timer.builder("notification_delivery_latency")
+                .description("Time from storing a notification to its provider accepting it")
+                .tag("provider", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+            this.batchDuration = Timer.builder("notification_delivery_batch_duration")
+                .description("Time spent in one provider batch call")
+                .tag("provider", name)
+                .register(meterRegistry);
+        }
+
+        private Counter outcome(String provider, String outcome) {
+            return Counter.builder("notification_deliveries_total")
+                .description("Push notification delivery attempts by provider and outcome")
+                .tags("provider", provider, "outcome", outcome)
+                .register(meterRegistry);
+        }
+    }
+}
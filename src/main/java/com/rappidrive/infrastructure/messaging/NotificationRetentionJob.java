@@ -0,0 +1,273 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Enforces notification retention in bounded chunks, so it never holds long locks or rewrites the
+ * whole table in one transaction.
+ *
+ * <p>Each run first soft-deletes expired notifications (read ones {@code read-days} after being
+ * read, unread ones {@code unread-days} after creation, failed ones {@code failed-days} after
+ * failing), walking live rows in {@code (created_at, id)} keyset windows of {@code chunk-size}.
+ * It then hard-deletes rows soft-deleted more than {@code hard-delete-grace-days} ago, oldest first.
+ * Every chunk is its own transaction, and a chunk that changed rows is followed by a
+ * {@code chunk-pause-ms} pause that leaves room for foreground traffic and autovacuum; a run stops after {@code max-run-ms} and the next run
+ * picks up where the backlog is. Only one instance runs at a time: the run holds a session-level
+ * Postgres advisory lock on a separate connection for its whole duration.</p>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "notification.retention.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class NotificationRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetentionJob.class);
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_lock(hashtext('notification_retention'))";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtext('notification_retention'))";
+    private static final String WINDOW_SQL =
+        "SELECT id, created_at FROM notifications WHERE deleted_at IS NULL AND created_at < ? "
+            + "AND (created_at, id) > (?, ?) ORDER BY created_at, id LIMIT ?";
+    private static final String SOFT_DELETE_SQL =
+        "UPDATE notifications SET deleted_at = ? WHERE id = ANY(?) AND deleted_at IS NULL AND ("
+            + "(status = 'READ' AND read_at < ?) OR "
+            + "(status IN ('PENDING', 'SENT') AND created_at < ?) OR "
+            + "(status = 'FAILED' AND failed_at < ?)) "
+            + "RETURNING tenant_id, user_id, status";
+    private static final String HARD_DELETE_SQL =
+        "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications WHERE deleted_at < ? "
+            + "ORDER BY deleted_at LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private static final Timestamp KEYSET_START = Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0));
+    private static final UUID KEYSET_START_ID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationUnreadCounterPort unreadCounters;
+    private final Counter softDeleted;
+    private final Counter hardDeleted;
+    private final RetentionPolicy policy;
+    private final Clock clock;
+
+    @Autowired
+    public NotificationRetentionJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            NotificationUnreadCounterPort unreadCounters,
+            MeterRegistry meterRegistry,
+            @Value("${notification.retention.read-days:30}") long readDays,
+            @Value("${notification.retention.unread-days:90}") long unreadDays,
+            @Value("${notification.retention.failed-days:7}") long failedDays,
+            @Value("${notification.retention.hard-delete-grace-days:30}") long hardDeleteGraceDays,
+            @Value("${notification.retention.chunk-size:1000}") int chunkSize,
+            @Value("${notification.retention.chunk-pause-ms:200}") long chunkPauseMs,
+            @Value("${notification.retention.max-run-ms:600000}") long maxRunMs) {
+        this(jdbcTemplate, transactionManager, unreadCounters, meterRegistry,
+            new RetentionPolicy(Duration.ofDays(readDays), Duration.ofDays(unreadDays), Duration.ofDays(failedDays),
+                Duration.ofDays(hardDeleteGraceDays), chunkSize, Duration.ofMillis(chunkPauseMs),
+                Duration.ofMillis(maxRunMs)),
+            Clock.systemDefaultZone());
+    }
+
+    NotificationRetentionJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             NotificationUnreadCounterPort unreadCounters, MeterRegistry meterRegistry,
+                             RetentionPolicy policy, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.unreadCounters = unreadCounters;
+        this.softDeleted = rowsCounter(meterRegistry, "soft_delete");
+        this.hardDeleted = rowsCounter(meterRegistry, "hard_delete");
+        this.policy = policy;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+        initialDelayString = "${notification.retention.initial-delay-ms:120000}",
+        fixedDelayString = "${notification.retention.interval-ms:3600000}"
+    )
+    public void enforceRetention() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) lockConnection -> {
+                if (!queryBoolean(lockConnection, LOCK_SQL)) {
+                    log.debug("[NOTIFICATION_RETENTION_SKIP] Retention already running on another instance");
+                    return null;
+                }
+                try {
+                    purge();
+                } finally {
+                    queryBoolean(lockConnection, UNLOCK_SQL);
+                }
+                return null;
+            });
+        } catch (Exception ex) {
+            log.error("[NOTIFICATION_RETENTION_ERROR] Notification retention run failed", ex);
+        }
+    }
+
+    /**
+     * Runs both phases until they are done or the run's time budget is spent.
+     *
+     * @return rows soft-deleted and hard-deleted
+     */
+    RunResult purge() {
+        long started = System.nanoTime();
+        long deadline = started + policy.maxRun().toNanos();
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        long softDeletedRows = 0;
+        Timestamp cursorCreatedAt = KEYSET_START;
+        UUID cursorId = KEYSET_START_ID;
+        Timestamp horizon = Timestamp.valueOf(now.minus(policy.shortestRetention()));
+        while (System.nanoTime() < deadline) {
+            List<WindowRow> window = jdbcTemplate.query(WINDOW_SQL,
+                (rs, row) -> new WindowRow(rs.getObject(1, UUID.class), rs.getTimestamp(2)),
+                horizon, cursorCreatedAt, cursorId, policy.chunkSize());
+            if (window.isEmpty()) {
+                break;
+            }
+            int rows = softDeleteChunk(window, now);
+            softDeletedRows += rows;
+            WindowRow last = window.get(window.size() - 1);
+            cursorCreatedAt = last.createdAt();
+            cursorId = last.id();
+            // windows of rows that are kept (e.g. read recently) only cost an index read, no pause needed
+            if (window.size() < policy.chunkSize() || (rows > 0 && !pause())) {
+                break;
+            }
+        }
+        long softElapsed = System.nanoTime() - started;
+
+        long hardDeletedRows = 0;
+        Timestamp graceCutoff = Timestamp.valueOf(now.minus(policy.hardDeleteGrace()));
+        while (System.nanoTime() < deadline) {
+            Integer deleted = transactionTemplate.execute(status ->
+                jdbcTemplate.update(HARD_DELETE_SQL, graceCutoff, policy.chunkSize()));
+            int rows = deleted != null ? deleted : 0;
+            hardDeletedRows += rows;
+            hardDeleted.increment(rows);
+            if (rows < policy.chunkSize() || !pause()) {
+                break;
+            }
+        }
+        long hardElapsed = System.nanoTime() - started - softElapsed;
+
+        if (softDeletedRows > 0 || hardDeletedRows > 0) {
+            log.info("[NOTIFICATION_RETENTION] Soft-deleted {} notifications ({} rows/s), hard-deleted {} ({} rows/s)",
+                softDeletedRows, rate(softDeletedRows, softElapsed), hardDeletedRows, rate(hardDeletedRows, hardElapsed));
+        }
+        if (System.nanoTime() >= deadline) {
+            log.warn("[NOTIFICATION_RETENTION_BUDGET] Run stopped after {} ms with work left", policy.maxRun().toMillis());
+        }
+        return new RunResult(softDeletedRows, hardDeletedRows);
+    }
+
+    /**
+     * Soft-deletes the expired rows of one keyset window and lowers the unread counters of the
+     * unread ones in the same transaction.
+     */
+    private int softDeleteChunk(List<WindowRow> window, LocalDateTime now) {
+        UUID[] ids = window.stream().map(WindowRow::id).toArray(UUID[]::new);
+        Integer deleted = transactionTemplate.execute(status -> {
+            Map<UnreadKey, Long> unread = new HashMap<>();
+            int[] rows = {0};
+            jdbcTemplate.query(SOFT_DELETE_SQL, ps -> {
+                ps.setTimestamp(1, Timestamp.valueOf(now));
+                ps.setArray(2, ps.getConnection().createArrayOf("uuid", ids));
+                ps.setTimestamp(3, Timestamp.valueOf(now.minus(policy.read())));
+                ps.setTimestamp(4, Timestamp.valueOf(now.minus(policy.unread())));
+                ps.setTimestamp(5, Timestamp.valueOf(now.minus(policy.failed())));
+            }, rs -> {
+                rows[0]++;
+                String notificationStatus = rs.getString(3);
+                if ("PENDING".equals(notificationStatus) || "SENT".equals(notificationStatus)) {
+                    unread.merge(new UnreadKey(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class)), 1L, Long::sum);
+                }
+            });
+            unread.forEach((key, count) ->
+                unreadCounters.adjust(new UserId(key.userId()), new TenantId(key.tenantId()), -count));
+            return rows[0];
+        });
+        int rows = deleted != null ? deleted : 0;
+        softDeleted.increment(rows);
+        return rows;
+    }
+
+    private boolean pause() {
+        if (policy.chunkPause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(policy.chunkPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long rate(long rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * 1_000_000_000L / elapsedNanos : rows;
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private static Counter rowsCounter(MeterRegistry meterRegistry, String phase) {
+        return Counter.builder("notification_retention_rows_total")
+            .description("Notifications removed by the retention job")
+            .tag("phase", phase)
+            .register(meterRegistry);
+    }
+
+    record RetentionPolicy(Duration read, Duration unread, Duration failed, Duration hardDeleteGrace,
+                           int chunkSize, Duration chunkPause, Duration maxRun) {
+
+        Duration shortestRetention() {
+            Duration shortest = read.compareTo(unread) < 0 ? read : unread;
+            return shortest.compareTo(failed) < 0 ? shortest : failed;
+        }
+    }
+
+    record RunResult(long softDeleted, long hardDeleted) {
+    }
+
+    record WindowRow(UUID id, Timestamp createdAt) {
+    }
+
+    private record UnreadKey(UUID tenantId, UUID userId) {
+    }
+}
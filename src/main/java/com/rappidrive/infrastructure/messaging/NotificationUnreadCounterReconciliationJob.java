@@ -0,0 +1,124 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.infrastructure.persistence.adapters.JdbcNotificationUnreadCounterAdapter;
+import com.rappidrive.infrastructure.persistence.adapters.JdbcNotificationUnreadCounterAdapter.CounterKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rewrites unread counters (see V30 migration) that drifted from the actual number of unread
+ * notifications, e.g. after a notification was changed outside the application.
+ *
+ * <p>Counters are only rewritten if they were not changed during the last {@code grace-seconds}:
+ * the actual count is read from a snapshot, and a counter adjusted by a transaction that committed
+ * after it would otherwise be overwritten with a stale value. The cached copies of rewritten
+ * counters are evicted on this instance; other instances pick the new value up when their entry
+ * expires. Only one instance runs at a time, guarded by a transaction-scoped Postgres advisory
+ * lock.</p>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "notification.unread-counters.reconciliation.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class NotificationUnreadCounterReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationUnreadCounterReconciliationJob.class);
+
+    private static final String LOCK_SQL =
+        "SELECT pg_try_advisory_xact_lock(hashtext('notification_unread_counters'))";
+    private static final String RECONCILE_SQL =
+        "WITH actual AS (SELECT tenant_id, user_id, COUNT(*) AS unread FROM notifications "
+            + "WHERE status IN ('PENDING', 'SENT') AND deleted_at IS NULL GROUP BY tenant_id, user_id), "
+            + "drift AS (SELECT COALESCE(a.tenant_id, c.tenant_id) AS tenant_id, "
+            + "COALESCE(a.user_id, c.user_id) AS user_id, COALESCE(a.unread, 0) AS unread "
+            + "FROM actual a FULL JOIN notification_unread_counters c "
+            + "ON c.tenant_id = a.tenant_id AND c.user_id = a.user_id "
+            + "WHERE c.user_id IS NULL OR (c.unread_count <> COALESCE(a.unread, 0) AND c.updated_at < ?)) "
+            + "INSERT INTO notification_unread_counters AS c (tenant_id, user_id, unread_count, version, updated_at) "
+            + "SELECT tenant_id, user_id, unread, 1, ? FROM drift "
+            + "ON CONFLICT (tenant_id, user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count, "
+            + "version = c.version + 1, updated_at = EXCLUDED.updated_at WHERE c.updated_at < ? "
+            + "RETURNING tenant_id, user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcNotificationUnreadCounterAdapter counters;
+    private final Counter corrections;
+    private final Duration grace;
+    private final Clock clock;
+
+    @Autowired
+    public NotificationUnreadCounterReconciliationJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            JdbcNotificationUnreadCounterAdapter counters,
+            MeterRegistry meterRegistry,
+            @Value("${notification.unread-counters.reconciliation.grace-seconds:300}") long graceSeconds) {
+        this(jdbcTemplate, transactionManager, counters, meterRegistry, Duration.ofSeconds(graceSeconds),
+            Clock.systemDefaultZone());
+    }
+
+    NotificationUnreadCounterReconciliationJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                               JdbcNotificationUnreadCounterAdapter counters, MeterRegistry meterRegistry,
+                                               Duration grace, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.counters = counters;
+        this.corrections = Counter.builder("notification_unread_counter_corrections_total")
+            .description("Unread counters rewritten by reconciliation because they drifted")
+            .register(meterRegistry);
+        this.grace = grace;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+        initialDelayString = "${notification.unread-counters.reconciliation.initial-delay-ms:60000}",
+        fixedDelayString = "${notification.unread-counters.reconciliation.interval-ms:3600000}"
+    )
+    public void reconcileCounters() {
+        try {
+            List<CounterKey> corrected = transactionTemplate.execute(status -> reconcile());
+            if (corrected != null && !corrected.isEmpty()) {
+                counters.evict(corrected);
+                corrections.increment(corrected.size());
+                log.warn("[UNREAD_COUNTER_RECONCILED] Corrected {} drifted unread counters", corrected.size());
+            }
+        } catch (Exception ex) {
+            log.error("[UNREAD_COUNTER_RECONCILE_ERROR] Unread counter reconciliation failed", ex);
+        }
+    }
+
+    /**
+     * @return the counters that were rewritten
+     */
+    List<CounterKey> reconcile() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class))) {
+            log.debug("[UNREAD_COUNTER_RECONCILE_SKIP] Reconciliation already running on another instance");
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Timestamp settled = Timestamp.valueOf(now.minus(grace));
+        return jdbcTemplate.query(RECONCILE_SQL,
+            (rs, row) -> new CounterKey(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class)),
+            settled, Timestamp.valueOf(now), settled);
+    }
+}
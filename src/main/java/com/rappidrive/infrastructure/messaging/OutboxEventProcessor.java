@@ -3,8 +3,6 @@ package com.rappidrive.infrastructure.messaging;
 import com.rappidrive.application.ports.output.EventDispatcherPort;
 import com.rappidrive.application.ports.output.OutboxRepositoryPort;
 import com.rappidrive.domain.outbox.OutboxEvent;
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.TraceContext;
 import io.micrometer.tracing.Tracer;
@@ -36,7 +34,7 @@ public class OutboxEventProcessor {
 
     private final OutboxRepositoryPort outboxRepository;
     private final EventDispatcherPort eventDispatcher;
-    private final MeterRegistry meterRegistry;
+    private final OutboxMetrics outboxMetrics;
     private final Tracer tracer;
 
     private static final int MAX_RETRIES = 5;
@@ -54,6 +52,7 @@ public class OutboxEventProcessor {
                 return;
             }
 
+            outboxMetrics.recordClaimed(events.size());
             log.info("[OUTBOX_START] processing={} pending events", events.size());
 
             int successCount = 0;
@@ -69,7 +68,7 @@ public class OutboxEventProcessor {
                 }
                 try {
                     dispatchEvent(event);
-                    outboxRepository.markSent(event.getId());
+                    outboxRepository.markSent(event.getId(), event.getCreatedAt());
                     successCount++;
                     log.info("[OUTBOX_SUCCESS] eventId={} type={} attempt={}/{}", 
                              event.getId(), event.getEventType(), event.getAttempts() + 1, MAX_RETRIES);
@@ -96,23 +95,22 @@ public class OutboxEventProcessor {
      * Wraps exceptions for proper retry handling.
      */
     private void dispatchEvent(OutboxEvent event) {
-        Timer.Sample sample = Timer.start(meterRegistry);
+        long startNanos = System.nanoTime();
         Span span = startSpan(event);
         Tracer.SpanInScope scope = null;
         try {
             if (span != null) {
                 scope = tracer.withSpan(span);
             }
-            eventDispatcher.dispatch(event.getId(), event.getEventType(), event.getPayload());
-            incrementDispatchCounter(event, "success");
+            eventDispatcher.dispatch(event.getId(), event.getAggregateId(), event.getEventType(), event.getPayload());
+            outboxMetrics.recordDispatched(event.getEventType(), event.getCreatedAt(), System.nanoTime() - startNanos);
         } catch (Exception ex) {
-            incrementDispatchCounter(event, "error");
+            outboxMetrics.recordDispatchError(event.getEventType(), System.nanoTime() - startNanos);
             if (span != null) {
                 span.error(ex);
             }
             throw new OutboxDispatchException("Failed to dispatch event: " + event.getId(), ex);
         } finally {
-            sample.stop(resolveDispatchTimer(event));
             if (scope != null) {
                 scope.close();
             }
@@ -130,13 +128,15 @@ public class OutboxEventProcessor {
         int newAttempt = event.getAttempts() + 1;
 
         if (newAttempt >= MAX_RETRIES) {
-            outboxRepository.markFailed(event.getId());
+            outboxRepository.markFailed(event.getId(), event.getCreatedAt());
+            outboxMetrics.recordFailed();
             log.error("[OUTBOX_FAILED] eventId={} type={} attempts_exceeded={}/{}", 
                      event.getId(), event.getEventType(), newAttempt, MAX_RETRIES, ex);
         } else {
             // Calculate next attempt time with exponential backoff
             LocalDateTime nextAttemptAt = calculateNextAttemptTime(newAttempt);
-            outboxRepository.incrementAttempts(event.getId(), nextAttemptAt);
+            outboxRepository.incrementAttempts(event.getId(), event.getCreatedAt(), nextAttemptAt);
+            outboxMetrics.recordRetry();
             log.warn("[OUTBOX_RETRY] eventId={} type={} attempt={}/{} nextAttempt={}", 
                     event.getId(), event.getEventType(), newAttempt, MAX_RETRIES, nextAttemptAt);
         }
@@ -160,21 +160,6 @@ public class OutboxEventProcessor {
         }
     }
 
-    private void incrementDispatchCounter(OutboxEvent event, String status) {
-        meterRegistry.counter(
-            "outbox_dispatch_total",
-            "eventType", event.getEventType(),
-            "status", status
-        ).increment();
-    }
-
-    private Timer resolveDispatchTimer(OutboxEvent event) {
-        return Timer.builder("outbox_dispatch_duration")
-            .description("Outbox event dispatch latency")
-            .tags("eventType", event.getEventType())
-            .register(meterRegistry);
-    }
-
     private Span startSpan(OutboxEvent event) {
         if (tracer == null) {
             return null;
@@ -0,0 +1,107 @@
+package com.rappidrive.infrastructure.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot-path meters of the outbox dispatcher.
+ *
+ * <p>All meters are registered up front (per event type for the known events, lazily and once for
+ * any other type), so recording a dispatch never goes through a builder or a registry lookup.
+ * Backlog gauges are maintained separately by {@code OutboxBacklogMonitor}.</p>
+ */
+@Component
+public class OutboxMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TypeMeters> metersByType = new ConcurrentHashMap<>();
+
+    private final Counter claimed;
+    private final Counter dispatched;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer deliveryLatency;
+
+    @Autowired
+    public OutboxMetrics(MeterRegistry meterRegistry, DomainEventSerializer eventSerializer) {
+        this(meterRegistry, eventSerializer.knownEventTypes());
+    }
+
+    OutboxMetrics(MeterRegistry meterRegistry, List<String> knownEventTypes) {
+        this.meterRegistry = meterRegistry;
+        this.claimed = Counter.builder("outbox_events_claimed_total")
+            .description("Outbox events picked up by the dispatcher")
+            .register(meterRegistry);
+        this.dispatched = Counter.builder("outbox_events_dispatched_total")
+            .description("Outbox events dispatched and marked SENT")
+            .register(meterRegistry);
+        this.retried = Counter.builder("outbox_events_retried_total")
+            .description("Outbox dispatch failures rescheduled for another attempt")
+            .register(meterRegistry);
+        this.failed = Counter.builder("outbox_events_failed_total")
+            .description("Outbox events marked FAILED after exhausting retries")
+            .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("outbox_delivery_latency")
+            .description("Time from outbox event creation until it was dispatched")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        knownEventTypes.forEach(this::metersFor);
+    }
+
+    public void recordClaimed(int count) {
+        claimed.increment(count);
+    }
+
+    public void recordDispatched(String eventType, LocalDateTime createdAt, long dispatchNanos) {
+        TypeMeters meters = metersFor(eventType);
+        meters.success().increment();
+        meters.dispatchDuration().record(dispatchNanos, TimeUnit.NANOSECONDS);
+        dispatched.increment();
+        if (createdAt != null) {
+            // outbox rows are stamped in UTC
+            Duration latency = Duration.between(createdAt, LocalDateTime.now(ZoneOffset.UTC));
+            if (!latency.isNegative()) {
+                deliveryLatency.record(latency);
+            }
+        }
+    }
+
+    public void recordDispatchError(String eventType, long dispatchNanos) {
+        TypeMeters meters = metersFor(eventType);
+        meters.error().increment();
+        meters.dispatchDuration().record(dispatchNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetry() {
+        retried.increment();
+    }
+
+    public void recordFailed() {
+        failed.increment();
+    }
+
+    private TypeMeters metersFor(String eventType) {
+        return metersByType.computeIfAbsent(eventType, type -> new TypeMeters(
+            Counter.builder("outbox_dispatch_total").tags("eventType", type, "status", "success").register(meterRegistry),
+            Counter.builder("outbox_dispatch_total").tags("eventType", type, "status", "error").register(meterRegistry),
+            Timer.builder("outbox_dispatch_duration")
+                .description("Outbox event dispatch latency")
+                .tags("eventType", type)
+                .register(meterRegistry)
+        ));
+    }
+
+    private record TypeMeters(Counter success, Counter error, Timer dispatchDuration) {
+    }
+}
@@ -0,0 +1,273 @@
+package com.rappidrive.infrastructure.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the range-partitioned {@code outbox_event} table bounded (see V19 migration).
+ *
+ * <p>Each run pre-creates partitions up to {@code precreate-hours} ahead, drops expired partitions
+ * (see {@link #mayDrop}) and reports PENDING events that fell outside the pending lookback window,
+ * which the pollers only reach in their periodic stale sweep. Partition bounds are UTC, like the
+ * {@code created_at} the outbox writer stamps. Only one instance runs maintenance at a time,
+ * guarded by a transaction-scoped Postgres advisory lock.</p>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "outbox.partitioning.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class OutboxPartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPartitionMaintenanceJob.class);
+
+    static final String PARENT_TABLE = "outbox_event";
+    static final String DEFAULT_PARTITION = "outbox_event_default";
+
+    private static final String IS_PARTITIONED_SQL =
+        "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid "
+            + "WHERE c.relname = '" + PARENT_TABLE + "' AND pg_table_is_visible(c.oid))";
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('outbox_event_partitions'))";
+    private static final String LIST_PARTITIONS_SQL =
+        "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = '" + PARENT_TABLE + "'::regclass";
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Granularity granularity;
+    private final long precreateHours;
+    private final long retentionHours;
+    private final long failedRetentionHours;
+    private final long pendingLookbackHours;
+    private final Clock clock;
+
+    @Autowired
+    public OutboxPartitionMaintenanceJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.partitioning.granularity:DAILY}") Granularity granularity,
+            @Value("${outbox.partitioning.precreate-hours:168}") long precreateHours,
+            @Value("${outbox.partitioning.retention-hours:168}") long retentionHours,
+            @Value("${outbox.partitioning.failed-retention-hours:720}") long failedRetentionHours,
+            @Value("${outbox.partitioning.pending-lookback-hours:72}") long pendingLookbackHours) {
+        this(jdbcTemplate, transactionManager, granularity, precreateHours, retentionHours, failedRetentionHours,
+            pendingLookbackHours, Clock.systemUTC());
+    }
+
+    OutboxPartitionMaintenanceJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  Granularity granularity, long precreateHours, long retentionHours,
+                                  long failedRetentionHours, long pendingLookbackHours, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.granularity = granularity;
+        this.precreateHours = precreateHours;
+        this.retentionHours = retentionHours;
+        this.failedRetentionHours = failedRetentionHours;
+        this.pendingLookbackHours = pendingLookbackHours;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+        initialDelayString = "${outbox.partitioning.initial-delay-ms:10000}",
+        fixedDelayString = "${outbox.partitioning.maintenance-interval-ms:3600000}"
+    )
+    public void maintainPartitions() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> runMaintenance());
+        } catch (Exception ex) {
+            log.error("[OUTBOX_PARTITION_ERROR] Outbox partition maintenance failed", ex);
+        }
+    }
+
+    private void runMaintenance() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class))) {
+            log.debug("[OUTBOX_PARTITION_SKIP] {} is not partitioned", PARENT_TABLE);
+            return;
+        }
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class))) {
+            log.debug("[OUTBOX_PARTITION_SKIP] Maintenance already running on another instance");
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxPartition> partitions = jdbcTemplate.query(LIST_PARTITIONS_SQL,
+            (rs, rowNum) -> OutboxPartition.fromBound(rs.getString(1), rs.getString(2)));
+
+        int created = createPartitionsAhead(partitions, now);
+        int dropped = dropExpiredPartitions(partitions, now);
+        reportStalePendingEvents(now);
+
+        if (created > 0 || dropped > 0) {
+            log.info("[OUTBOX_PARTITION_MAINTENANCE] created={} dropped={} partitions", created, dropped);
+        }
+    }
+
+    private int createPartitionsAhead(List<OutboxPartition> partitions, LocalDateTime now) {
+        boolean hasDefault = partitions.stream().anyMatch(OutboxPartition::isDefault);
+        LocalDateTime horizon = now.plusHours(precreateHours);
+        LocalDateTime cursor = partitions.stream()
+            .filter(p -> !p.isDefault())
+            .map(OutboxPartition::to)
+            .max(Comparator.naturalOrder())
+            .orElse(granularity.floor(now));
+
+        int created = 0;
+        while (cursor.isBefore(horizon)) {
+            LocalDateTime next = granularity.next(cursor);
+            createPartition(granularity.partitionName(cursor), cursor, next, hasDefault);
+            cursor = next;
+            created++;
+        }
+        return created;
+    }
+
+    private void createPartition(String name, LocalDateTime from, LocalDateTime to, boolean hasDefault) {
+        String bounds = "FOR VALUES FROM ('" + BOUND_FORMAT.format(from) + "') TO ('" + BOUND_FORMAT.format(to) + "')";
+        boolean defaultHoldsRange = hasDefault && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?)",
+            Boolean.class, from, to));
+
+        if (!defaultHoldsRange) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + quote(name) + " PARTITION OF " + PARENT_TABLE + " " + bounds);
+            return;
+        }
+
+        // Postgres refuses to create a partition whose range has rows in the default partition,
+        // so build it detached, move those rows over and attach it in the same transaction.
+        jdbcTemplate.execute("CREATE TABLE " + quote(name) + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update(
+            "WITH moved AS (DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ? RETURNING *) "
+                + "INSERT INTO " + quote(name) + " SELECT * FROM moved", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + quote(name) + " " + bounds);
+        log.warn("[OUTBOX_PARTITION_BACKFILL] partition={} moved={} rows out of {}", name, moved, DEFAULT_PARTITION);
+    }
+
+    private int dropExpiredPartitions(List<OutboxPartition> partitions, LocalDateTime now) {
+        int dropped = 0;
+        for (OutboxPartition partition : partitions) {
+            if (partition.isDefault() || partition.to().isAfter(now.minusHours(retentionHours))) {
+                continue;
+            }
+            // both checks are served from the PENDING / FAILED partial indexes
+            boolean hasPending = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + quote(partition.name()) + " WHERE status = 'PENDING')", Boolean.class));
+            Long failed = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + quote(partition.name()) + " WHERE status = 'FAILED'", Long.class);
+            long failedRows = failed != null ? failed : 0;
+            if (!mayDrop(partition, hasPending, failedRows, now)) {
+                log.warn("[OUTBOX_PARTITION_RETAINED] partition={} pending={} failed={}",
+                    partition.name(), hasPending, failedRows);
+                continue;
+            }
+            jdbcTemplate.execute("DROP TABLE " + quote(partition.name()));
+            if (failedRows > 0) {
+                log.warn("[OUTBOX_PARTITION_FAILED_DROPPED] partition={} dropped {} FAILED events after {}h",
+                    partition.name(), failedRows, failedRetentionHours);
+            }
+            dropped++;
+        }
+        return dropped;
+    }
+
+    /**
+     * Drop rule for a partition whose range ended more than {@code retention-hours} ago (the
+     * legacy partition included): it is never dropped while it holds a PENDING event; if it holds
+     * FAILED events it is kept until its range ended {@code failed-retention-hours} ago, leaving
+     * time to reconcile or replay them; otherwise, with only SENT events left, it is dropped.
+     */
+    boolean mayDrop(OutboxPartition partition, boolean hasPending, long failedRows, LocalDateTime now) {
+        if (hasPending) {
+            return false;
+        }
+        return failedRows == 0 || !partition.to().isAfter(now.minusHours(failedRetentionHours));
+    }
+
+    private void reportStalePendingEvents(LocalDateTime now) {
+        Long stale = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM " + PARENT_TABLE + " WHERE status = 'PENDING' AND created_at < ?",
+            Long.class, now.minusHours(pendingLookbackHours));
+        if (stale != null && stale > 0) {
+            log.warn("[OUTBOX_PARTITION_STALE] {} PENDING events are older than the {}h pending lookback; "
+                + "pollers only reach them in the stale sweep", stale, pendingLookbackHours);
+        }
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Width of newly created partitions. Changing it only affects partitions created from then on.
+     */
+    public enum Granularity {
+        DAILY(ChronoUnit.DAYS, "yyyyMMdd"),
+        HOURLY(ChronoUnit.HOURS, "yyyyMMdd_HH");
+
+        private final ChronoUnit unit;
+        private final DateTimeFormatter suffix;
+
+        Granularity(ChronoUnit unit, String suffixPattern) {
+            this.unit = unit;
+            this.suffix = DateTimeFormatter.ofPattern(suffixPattern);
+        }
+
+        LocalDateTime floor(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        LocalDateTime next(LocalDateTime time) {
+            return floor(time).plus(1, unit);
+        }
+
+        String partitionName(LocalDateTime from) {
+            return PARENT_TABLE + "_p" + suffix.format(from);
+        }
+    }
+
+    /**
+     * A partition of {@code outbox_event}; {@code from} is null for the MINVALUE-bounded legacy partition
+     * and both bounds are null for the default partition.
+     */
+    record OutboxPartition(String name, LocalDateTime from, LocalDateTime to) {
+
+        private static final Pattern RANGE_BOUND = Pattern.compile("FOR VALUES FROM \\((.+)\\) TO \\((.+)\\)");
+
+        boolean isDefault() {
+            return to == null;
+        }
+
+        static OutboxPartition fromBound(String name, String bound) {
+            Matcher matcher = RANGE_BOUND.matcher(bound == null ? "" : bound);
+            if (!matcher.matches()) {
+                return new OutboxPartition(name, null, null);
+            }
+            return new OutboxPartition(name, parseBound(matcher.group(1)), parseBound(matcher.group(2)));
+        }
+
+        private static LocalDateTime parseBound(String literal) {
+            if ("MINVALUE".equals(literal) || "MAXVALUE".equals(literal)) {
+                return null;
+            }
+            return LocalDateTime.parse(literal.replace("'", "").trim().replace(' ', 'T'));
+        }
+    }
+}
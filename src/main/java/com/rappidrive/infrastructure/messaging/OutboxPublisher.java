@@ -24,6 +24,7 @@ public class OutboxPublisher {
 
     private final OutboxRepositoryPort outboxRepository;
     private final EventDispatcherPort dispatcher;
+    private final OutboxMetrics outboxMetrics;
 
     // Configurable values; for simplicity are constants here
     private final int batchSize = 20;
@@ -39,22 +40,28 @@ public class OutboxPublisher {
         LocalDateTime now = LocalDateTime.now();
         List<OutboxEvent> batch = outboxRepository.findPendingBatch(now, batchSize);
         if (batch.isEmpty()) return;
+        outboxMetrics.recordClaimed(batch.size());
         log.debug("Publishing {} outbox events", batch.size());
 
         for (OutboxEvent e : batch) {
+            long startNanos = System.nanoTime();
             try {
-                dispatcher.dispatch(e.getId(), e.getEventType(), e.getPayload());
-                outboxRepository.markSent(e.getId());
+                dispatcher.dispatch(e.getId(), e.getAggregateId(), e.getEventType(), e.getPayload());
+                outboxMetrics.recordDispatched(e.getEventType(), e.getCreatedAt(), System.nanoTime() - startNanos);
+                outboxRepository.markSent(e.getId(), e.getCreatedAt());
                 log.info("Event {} dispatched", e.getId());
             } catch (Exception ex) {
+                outboxMetrics.recordDispatchError(e.getEventType(), System.nanoTime() - startNanos);
                 log.warn("Failed to dispatch event {}: {}", e.getId(), ex.getMessage());
                 int attempts = e.getAttempts() + 1;
                 if (attempts >= maxAttempts) {
-                    outboxRepository.markFailed(e.getId());
+                    outboxRepository.markFailed(e.getId(), e.getCreatedAt());
+                    outboxMetrics.recordFailed();
                     log.error("Event {} marked as FAILED after {} attempts", e.getId(), attempts);
                 } else {
                     LocalDateTime nextAttempt = computeNextAttempt(attempts);
-                    outboxRepository.incrementAttempts(e.getId(), nextAttempt);
+                    outboxRepository.incrementAttempts(e.getId(), e.getCreatedAt(), nextAttempt);
+                    outboxMetrics.recordRetry();
                 }
             }
         }
@@ -0,0 +1,234 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.application.ports.input.payment.SettlePaymentInputPort;
+import com.rappidrive.application.ports.input.payment.SettlePaymentInputPort.SettlementOutcome;
+import com.rappidrive.application.ports.output.PaymentSettlementQueuePort;
+import com.rappidrive.application.ports.output.PaymentSettlementQueuePort.ClaimedSettlement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the payment settlement saga: claims due entries of the settlement queue (see V23
+ * migration) and runs one {@link SettlePaymentInputPort} step per entry.
+ *
+ * <p>Gateway calls block for hundreds of milliseconds, so the entries of a batch are settled
+ * concurrently on virtual threads, outside any transaction. A step the gateway could not serve is
+ * rescheduled with exponential backoff; the attempt reaching {@code max-attempts} fails the payment,
+ * unless it timed out after the charge was sent, which parks the entry for reconciliation.
+ * An entry whose step crashed becomes due again when its lease expires.</p>
+ *
+ * <p>Parked entries are reconciled on a slower schedule by running the step again, never as a
+ * final attempt. The charge is resent with the payment's idempotency key, so the gateway answers
+ * with the outcome of the charge it may already have made instead of charging twice; once it
+ * answers, the step finishes the saga as usual (payment, trip event, notification, queue entry).
+ * While the gateway still does not answer, the entry stays parked and is tried again when its
+ * lease expires.</p>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "payment.settlement.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class PaymentSettlementWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentSettlementWorker.class);
+
+    private final SettlePaymentInputPort settlePayment;
+    private final PaymentSettlementQueuePort settlementQueue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Clock clock;
+    private final Map<SettlementOutcome, Counter> outcomes = new EnumMap<>(SettlementOutcome.class);
+    private final Map<SettlementOutcome, Counter> reconciliations = new EnumMap<>(SettlementOutcome.class);
+    private final Counter errors;
+    private final Timer duration;
+
+    @Autowired
+    public PaymentSettlementWorker(
+            SettlePaymentInputPort settlePayment,
+            PaymentSettlementQueuePort settlementQueue,
+            MeterRegistry meterRegistry,
+            @Value("${payment.settlement.batch-size:20}") int batchSize,
+            @Value("${payment.settlement.max-attempts:5}") int maxAttempts,
+            @Value("${payment.settlement.lease-ms:60000}") long leaseMs,
+            @Value("${payment.settlement.backoff-base-ms:2000}") long backoffBaseMs,
+            @Value("${payment.settlement.backoff-max-ms:60000}") long backoffMaxMs) {
+        this(settlePayment, settlementQueue, meterRegistry, batchSize, maxAttempts, Duration.ofMillis(leaseMs),
+            Duration.ofMillis(backoffBaseMs), Duration.ofMillis(backoffMaxMs), Clock.systemDefaultZone());
+    }
+
+    PaymentSettlementWorker(SettlePaymentInputPort settlePayment, PaymentSettlementQueuePort settlementQueue,
+                            MeterRegistry meterRegistry, int batchSize, int maxAttempts, Duration lease,
+                            Duration backoffBase, Duration backoffMax, Clock clock) {
+        if (batchSize < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("batch-size and max-attempts must be positive");
+        }
+        this.settlePayment = settlePayment;
+        this.settlementQueue = settlementQueue;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.clock = clock;
+        for (SettlementOutcome outcome : SettlementOutcome.values()) {
+            outcomes.put(outcome, Counter.builder("payment_settlement_attempts_total")
+                .description("Payment settlement attempts by outcome")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+            reconciliations.put(outcome, Counter.builder("payment_settlement_reconciliations_total")
+                .description("Reconciliation attempts of parked payment settlements by outcome")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        this.errors = Counter.builder("payment_settlement_attempts_total")
+            .description("Payment settlement attempts by outcome")
+            .tag("outcome", "error")
+            .register(meterRegistry);
+        this.duration = Timer.builder("payment_settlement_duration")
+            .description("Time to run one settlement attempt, gateway call included")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.settlement.poll-delay-ms:500}")
+    public void settleDuePayments() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ClaimedSettlement> claimed;
+        try {
+            claimed = settlementQueue.claimDue(now, now.plus(lease), batchSize);
+        } catch (RuntimeException ex) {
+            log.error("[SETTLEMENT_ERROR] Failed to claim due payment settlements", ex);
+            return;
+        }
+
+        if (claimed.isEmpty()) {
+            log.debug("[SETTLEMENT_IDLE] No due payment settlements");
+            return;
+        }
+
+        log.info("[SETTLEMENT_START] claimed={} due payment settlements", claimed.size());
+        // gateway calls must answer within half the lease, leaving the rest to record the result
+        Instant deadline = clock.instant().plus(lease.dividedBy(2));
+        // close() waits for the whole batch before the next poll is scheduled
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ClaimedSettlement settlement : claimed) {
+                executor.execute(() -> settle(settlement, deadline));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payment.settlement.reconcile-delay-ms:300000}")
+    public void reconcileParkedPayments() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ClaimedSettlement> parked;
+        try {
+            parked = settlementQueue.claimParked(now, now.plus(lease), batchSize);
+        } catch (RuntimeException ex) {
+            log.error("[SETTLEMENT_ERROR] Failed to claim parked payment settlements", ex);
+            return;
+        }
+
+        if (parked.isEmpty()) {
+            return;
+        }
+
+        log.info("[SETTLEMENT_RECONCILE] claimed={} parked payment settlements", parked.size());
+        Instant deadline = clock.instant().plus(lease.dividedBy(2));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ClaimedSettlement settlement : parked) {
+                executor.execute(() -> reconcile(settlement, deadline));
+            }
+        }
+    }
+
+    void reconcile(ClaimedSettlement settlement, Instant deadline) {
+        MDC.put("correlationId", settlement.paymentId().toString());
+        try {
+            SettlementOutcome outcome = settlePayment.execute(
+                new SettlePaymentInputPort.SettlePaymentCommand(settlement.paymentId(), false, deadline));
+            reconciliations.get(outcome).increment();
+            if (outcome == SettlementOutcome.RETRY) {
+                log.warn("[SETTLEMENT_UNKNOWN] paymentId={} gateway still unavailable, stays parked",
+                    settlement.paymentId());
+            } else {
+                log.info("[SETTLEMENT_RECONCILED] paymentId={} outcome={}", settlement.paymentId(), outcome);
+            }
+        } catch (RuntimeException ex) {
+            errors.increment();
+            log.error("[SETTLEMENT_ERROR] paymentId={} reconciliation failed, retrying after lease",
+                settlement.paymentId(), ex);
+        } finally {
+            MDC.remove("correlationId");
+        }
+    }
+
+    void settle(ClaimedSettlement settlement, Instant deadline) {
+        MDC.put("correlationId", settlement.paymentId().toString());
+        long startNanos = System.nanoTime();
+        try {
+            boolean finalAttempt = settlement.attempt() >= maxAttempts;
+            SettlementOutcome outcome = settlePayment.execute(
+                new SettlePaymentInputPort.SettlePaymentCommand(settlement.paymentId(), finalAttempt, deadline));
+            outcomes.get(outcome).increment();
+
+            if (outcome == SettlementOutcome.RETRY) {
+                LocalDateTime dueAt = LocalDateTime.now(clock).plus(backoff(settlement.attempt()));
+                settlementQueue.reschedule(settlement.paymentId(), dueAt);
+                log.warn("[SETTLEMENT_RETRY] paymentId={} attempt={}/{} nextAttempt={}",
+                    settlement.paymentId(), settlement.attempt(), maxAttempts, dueAt);
+            } else if (outcome == SettlementOutcome.UNKNOWN) {
+                log.error("[SETTLEMENT_UNKNOWN] paymentId={} attempt={}/{} parked for reconciliation",
+                    settlement.paymentId(), settlement.attempt(), maxAttempts);
+            } else if (outcome == SettlementOutcome.FAILED) {
+                log.warn("[SETTLEMENT_FAILED] paymentId={} attempt={}/{}",
+                    settlement.paymentId(), settlement.attempt(), maxAttempts);
+            } else if (outcome == SettlementOutcome.SETTLED) {
+                log.info("[SETTLEMENT_SUCCESS] paymentId={} attempt={}/{}",
+                    settlement.paymentId(), settlement.attempt(), maxAttempts);
+            } else {
+                log.info("[SETTLEMENT_DISCARDED] paymentId={} attempt={}/{}",
+                    settlement.paymentId(), settlement.attempt(), maxAttempts);
+            }
+        } catch (RuntimeException ex) {
+            errors.increment();
+            log.error("[SETTLEMENT_ERROR] paymentId={} attempt={}/{} retrying after lease",
+                settlement.paymentId(), settlement.attempt(), maxAttempts, ex);
+        } finally {
+            duration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            MDC.remove("correlationId");
+        }
+    }
+
+    /**
+     * Delay before the attempt after {@code attempt}: base * 2^(attempt - 1), capped at the maximum.
+     */
+    Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        Duration delay = backoffBase.multipliedBy(1L << shift);
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+}
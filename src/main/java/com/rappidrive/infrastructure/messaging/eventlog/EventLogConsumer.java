@@ -0,0 +1,98 @@
+package com.rappidrive.infrastructure.messaging.eventlog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * A named reader of the {@link FileEventLog} that tracks its own position.
+ *
+ * <p>{@link #poll(int)} advances the in-memory position; {@link #commit()} persists it so the
+ * consumer resumes from there after a restart (at-least-once delivery). Instances are not
+ * thread-safe; use one per consuming thread.</p>
+ */
+public class EventLogConsumer {
+
+    private final FileEventLog eventLog;
+    private final String name;
+    private final Path offsetFile;
+    private long position;
+
+    EventLogConsumer(FileEventLog eventLog, String name, Path consumersDirectory) {
+        if (name == null || !name.matches("[A-Za-z0-9._-]+")) {
+            throw new IllegalArgumentException("Consumer name must match [A-Za-z0-9._-]+: " + name);
+        }
+        this.eventLog = eventLog;
+        this.name = name;
+        this.offsetFile = consumersDirectory.resolve(name + ".offset");
+        this.position = loadCommittedOffset();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Offset of the next record this consumer will read.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Number of records between this consumer and the end of the log.
+     */
+    public long lag() {
+        return Math.max(0, eventLog.endOffset() - Math.max(position, eventLog.startOffset()));
+    }
+
+    /**
+     * Returns up to {@code maxRecords} records after the current position and advances past them.
+     * A position that fell behind retention jumps to the oldest retained record.
+     */
+    public List<EventLogRecord> poll(int maxRecords) {
+        position = Math.max(position, eventLog.startOffset());
+        List<EventLogRecord> records = eventLog.read(position, maxRecords);
+        if (!records.isEmpty()) {
+            position = records.get(records.size() - 1).offset() + 1;
+        }
+        return records;
+    }
+
+    public void seek(long offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        this.position = offset;
+    }
+
+    /**
+     * Atomically persists the current position.
+     */
+    public void commit() {
+        Path temp = offsetFile.resolveSibling(offsetFile.getFileName() + ".tmp");
+        try {
+            Files.writeString(temp, Long.toString(position), StandardCharsets.US_ASCII);
+            Files.move(temp, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to commit offset for consumer " + name, ex);
+        }
+    }
+
+    private long loadCommittedOffset() {
+        if (!Files.exists(offsetFile)) {
+            return eventLog.startOffset();
+        }
+        try {
+            return Long.parseLong(Files.readString(offsetFile, StandardCharsets.US_ASCII).trim());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read offset for consumer " + name, ex);
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException("Corrupt offset file for consumer " + name, ex);
+        }
+    }
+}
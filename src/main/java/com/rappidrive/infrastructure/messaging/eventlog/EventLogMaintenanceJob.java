@@ -0,0 +1,53 @@
+package com.rappidrive.infrastructure.messaging.eventlog;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Periodic housekeeping for the local event log: background fsync when per-append fsync is
+ * disabled, segment retention and compaction by aggregate id.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event-log.enabled", havingValue = "true")
+public class EventLogMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLogMaintenanceJob.class);
+
+    private final FileEventLog eventLog;
+
+    @Value("${event-log.fsync-on-append:true}")
+    private boolean fsyncOnAppend;
+
+    @Value("${event-log.retention-hours:168}")
+    private long retentionHours;
+
+    @Value("${event-log.compaction-enabled:true}")
+    private boolean compactionEnabled;
+
+    @Scheduled(fixedDelayString = "${event-log.flush-interval-ms:200}")
+    public void flush() {
+        if (!fsyncOnAppend) {
+            eventLog.flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${event-log.maintenance-interval-ms:300000}")
+    public void runMaintenance() {
+        try {
+            eventLog.applyRetention(Duration.ofHours(retentionHours));
+            if (compactionEnabled) {
+                eventLog.compact();
+            }
+        } catch (Exception ex) {
+            log.error("[EVENT_LOG_MAINTENANCE_ERROR] Event log maintenance failed", ex);
+        }
+    }
+}
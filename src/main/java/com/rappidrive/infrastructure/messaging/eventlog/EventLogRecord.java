@@ -0,0 +1,117 @@
+package com.rappidrive.infrastructure.messaging.eventlog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * A single entry of the local event log.
+ *
+ * <p>On-disk layout (big-endian):</p>
+ * <pre>
+ * int size | int crc32c | long offset | long timestamp | uuid eventId | byte hasAggregate | uuid aggregateId
+ *          | short typeLength | type bytes | int payloadLength | payload bytes
+ * </pre>
+ * {@code size} counts every byte after itself; the checksum covers every byte after the checksum.
+ */
+public record EventLogRecord(
+    long offset,
+    long timestamp,
+    UUID eventId,
+    UUID aggregateId,
+    String eventType,
+    String payload
+) {
+
+    static final int LENGTH_FIELD_BYTES = 4;
+    static final int CRC_FIELD_BYTES = 4;
+    static final int HEADER_BYTES = LENGTH_FIELD_BYTES + CRC_FIELD_BYTES;
+    private static final int FIXED_BODY_BYTES = 8 + 8 + 16 + 1 + 16 + 2 + 4;
+
+    /**
+     * Encodes the record into a buffer ready to be written (position 0, limit = encoded size).
+     */
+    ByteBuffer encode() {
+        byte[] type = eventType.getBytes(StandardCharsets.UTF_8);
+        byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+        if (type.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Event type too long: " + type.length + " bytes");
+        }
+
+        int bodySize = FIXED_BODY_BYTES + type.length + body.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodySize);
+        buffer.putInt(CRC_FIELD_BYTES + bodySize);
+        buffer.putInt(0); // checksum placeholder
+        buffer.putLong(offset);
+        buffer.putLong(timestamp);
+        buffer.putLong(eventId.getMostSignificantBits());
+        buffer.putLong(eventId.getLeastSignificantBits());
+        buffer.put((byte) (aggregateId != null ? 1 : 0));
+        buffer.putLong(aggregateId != null ? aggregateId.getMostSignificantBits() : 0L);
+        buffer.putLong(aggregateId != null ? aggregateId.getLeastSignificantBits() : 0L);
+        buffer.putShort((short) type.length);
+        buffer.put(type);
+        buffer.putInt(body.length);
+        buffer.put(body);
+
+        buffer.putInt(LENGTH_FIELD_BYTES, checksum(buffer, HEADER_BYTES, bodySize));
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes the record starting at {@code position}. The buffer position is left untouched.
+     */
+    static EventLogRecord decode(ByteBuffer buffer, int position) {
+        int cursor = position + HEADER_BYTES;
+        long offset = buffer.getLong(cursor);
+        long timestamp = buffer.getLong(cursor + 8);
+        UUID eventId = new UUID(buffer.getLong(cursor + 16), buffer.getLong(cursor + 24));
+        boolean hasAggregate = buffer.get(cursor + 32) == 1;
+        UUID aggregateId = hasAggregate ? new UUID(buffer.getLong(cursor + 33), buffer.getLong(cursor + 41)) : null;
+        int typeLength = buffer.getShort(cursor + 49);
+        String eventType = readString(buffer, cursor + 51, typeLength);
+        int payloadLength = buffer.getInt(cursor + 51 + typeLength);
+        String payload = readString(buffer, cursor + 55 + typeLength, payloadLength);
+        return new EventLogRecord(offset, timestamp, eventId, aggregateId, eventType, payload);
+    }
+
+    /**
+     * Reads only the offset of the record starting at {@code position}.
+     */
+    static long offsetAt(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + HEADER_BYTES);
+    }
+
+    /**
+     * Total on-disk size of the record starting at {@code position}, or -1 when the bytes
+     * available from {@code position} up to {@code limit} do not hold a complete, valid record.
+     */
+    static int validSizeAt(ByteBuffer buffer, int position, int limit) {
+        if (limit - position < HEADER_BYTES) {
+            return -1;
+        }
+        int size = buffer.getInt(position);
+        int bodySize = size - CRC_FIELD_BYTES;
+        if (bodySize < FIXED_BODY_BYTES || (long) position + LENGTH_FIELD_BYTES + size > limit) {
+            return -1;
+        }
+        int expected = buffer.getInt(position + LENGTH_FIELD_BYTES);
+        if (checksum(buffer, position + HEADER_BYTES, bodySize) != expected) {
+            return -1;
+        }
+        return LENGTH_FIELD_BYTES + size;
+    }
+
+    private static int checksum(ByteBuffer buffer, int from, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(from, length));
+        return (int) crc.getValue();
+    }
+
+    private static String readString(ByteBuffer buffer, int from, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,396 @@
+package com.rappidrive.infrastructure.messaging.eventlog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Durable, segmented, append-only event log stored in a local directory.
+ *
+ * <ul>
+ *   <li>Appends are serialised and written through {@link java.nio.channels.FileChannel};
+ *   segments roll once they reach {@code segmentBytes}.</li>
+ *   <li>Durability uses group commit: a caller waiting for its offset either finds it already
+ *   covered by a previous {@code fsync}, or becomes the leader and forces everything written so
+ *   far, covering every caller queued behind it.</li>
+ *   <li>Reads are served from memory-mapped segments via a sparse offset index.</li>
+ *   <li>Consumers keep their own offsets (see {@link EventLogConsumer}).</li>
+ *   <li>Sealed segments can be compacted by aggregate id and expired by age.</li>
+ * </ul>
+ *
+ * <p>Readers hold the read side of {@code segmentLock} while they use a segment; compaction,
+ * retention and {@link #close()} take the write side only to close or swap segments, so a reader
+ * never sees a segment closed underneath it and compaction itself does not block reads.</p>
+ */
+public class FileEventLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(FileEventLog.class);
+
+    static final String CONSUMERS_DIRECTORY = "consumers";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int indexIntervalBytes;
+    private final Clock clock;
+
+    private final ConcurrentNavigableMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    private final Object flushLock = new Object();
+
+    private volatile LogSegment activeSegment;
+    private volatile long nextOffset;
+    private volatile long durableOffset;
+    private volatile boolean closed;
+
+    public FileEventLog(Path directory, long segmentBytes, int indexIntervalBytes) {
+        this(directory, segmentBytes, indexIntervalBytes, Clock.systemUTC());
+    }
+
+    FileEventLog(Path directory, long segmentBytes, int indexIntervalBytes, Clock clock) {
+        if (segmentBytes <= 0 || indexIntervalBytes <= 0) {
+            throw new IllegalArgumentException("segmentBytes and indexIntervalBytes must be positive");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.indexIntervalBytes = indexIntervalBytes;
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory.resolve(CONSUMERS_DIRECTORY));
+            loadSegments();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open event log at " + directory, ex);
+        }
+    }
+
+    /**
+     * Appends an event and returns its offset. The record is visible to readers immediately but
+     * only durable after {@link #awaitDurable(long)} or {@link #flush()}.
+     */
+    public long append(UUID eventId, UUID aggregateId, String eventType, String payload) {
+        appendLock.lock();
+        try {
+            ensureOpen();
+            if (activeSegment.sizeInBytes() >= segmentBytes) {
+                roll();
+            }
+            long offset = nextOffset;
+            activeSegment.append(new EventLogRecord(offset, clock.millis(), eventId, aggregateId, eventType, payload));
+            nextOffset = offset + 1;
+            return offset;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append to event log", ex);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until {@code offset} has been forced to disk. Concurrent callers share one
+     * {@code fsync}: whoever holds the flush lock forces every record written so far.
+     */
+    public void awaitDurable(long offset) {
+        if (offset < durableOffset) {
+            return;
+        }
+        synchronized (flushLock) {
+            if (offset < durableOffset) {
+                return;
+            }
+            flushLocked();
+        }
+    }
+
+    /**
+     * Forces every record appended so far to disk.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            if (durableOffset < nextOffset) {
+                flushLocked();
+            }
+        }
+    }
+
+    /**
+     * Reads up to {@code maxRecords} records starting at {@code fromOffset}. Offsets removed by
+     * compaction or retention are skipped.
+     */
+    public List<EventLogRecord> read(long fromOffset, int maxRecords) {
+        List<EventLogRecord> records = new ArrayList<>(Math.min(maxRecords, 256));
+        segmentLock.readLock().lock();
+        try {
+            Map.Entry<Long, LogSegment> floor = segments.floorEntry(fromOffset);
+            Long key = floor != null ? floor.getKey() : segments.ceilingKey(fromOffset);
+            long from = fromOffset;
+            while (key != null && records.size() < maxRecords) {
+                LogSegment segment = segments.get(key);
+                if (segment != null) {
+                    segment.read(from, maxRecords - records.size(), records);
+                }
+                key = segments.higherKey(key);
+                if (key != null) {
+                    from = Math.max(from, key);
+                }
+            }
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+        return records;
+    }
+
+    /**
+     * Returns a consumer that reads from its last committed offset.
+     */
+    public EventLogConsumer consumer(String name) {
+        return new EventLogConsumer(this, name, directory.resolve(CONSUMERS_DIRECTORY));
+    }
+
+    /**
+     * Offset of the oldest record still retained (or {@link #endOffset()} when empty).
+     */
+    public long startOffset() {
+        Map.Entry<Long, LogSegment> first = segments.firstEntry();
+        return first != null ? first.getKey() : nextOffset;
+    }
+
+    /**
+     * Offset that the next appended record will receive.
+     */
+    public long endOffset() {
+        return nextOffset;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Deletes sealed segments whose newest record is older than {@code retention}.
+     *
+     * @return number of segments removed
+     */
+    public int applyRetention(Duration retention) {
+        long cutoff = clock.millis() - retention.toMillis();
+        int removed = 0;
+        appendLock.lock();
+        try {
+            for (LogSegment segment : sealedSegments()) {
+                if (segment.largestTimestamp() >= cutoff) {
+                    break;
+                }
+                segmentLock.writeLock().lock();
+                try {
+                    segments.remove(segment.baseOffset());
+                    segment.delete();
+                } finally {
+                    segmentLock.writeLock().unlock();
+                }
+                removed++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to apply event log retention", ex);
+        } finally {
+            appendLock.unlock();
+        }
+        if (removed > 0) {
+            log.info("[EVENT_LOG_RETENTION] removedSegments={} startOffset={}", removed, startOffset());
+        }
+        return removed;
+    }
+
+    /**
+     * Rewrites sealed segments keeping only the newest record per aggregate id. Records without
+     * an aggregate id are always kept. The active segment is never touched, but its records are
+     * taken into account when deciding which older records are superseded.
+     *
+     * @return number of records removed
+     */
+    public long compact() {
+        appendLock.lock();
+        try {
+            List<LogSegment> sealed = sealedSegments();
+            if (sealed.isEmpty()) {
+                return 0;
+            }
+
+            Map<UUID, Long> latest = new HashMap<>();
+            long totalRecords = 0;
+            for (LogSegment segment : segments.values()) {
+                totalRecords += indexLatest(segment, latest);
+            }
+
+            long removed = 0;
+            for (LogSegment segment : sealed) {
+                long[] dropped = new long[1];
+                Path cleaned = segment.writeCleaned(record -> {
+                    boolean keep = record.aggregateId() == null
+                        || latest.get(record.aggregateId()) == record.offset();
+                    if (!keep) {
+                        dropped[0]++;
+                    }
+                    return keep;
+                });
+                removed += dropped[0];
+                segmentLock.writeLock().lock();
+                try {
+                    LogSegment rewritten = segment.replaceWith(cleaned);
+                    if (rewritten.isEmpty()) {
+                        segments.remove(rewritten.baseOffset());
+                        rewritten.delete();
+                    } else {
+                        segments.put(rewritten.baseOffset(), rewritten);
+                    }
+                } finally {
+                    segmentLock.writeLock().unlock();
+                }
+            }
+            log.info("[EVENT_LOG_COMPACTION] scanned={} removed={} segments={}", totalRecords, removed, segments.size());
+            return removed;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to compact event log", ex);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            appendLock.unlock();
+        }
+        // flushing takes the flush lock before the append lock; holding the append lock here would invert that order
+        flush();
+        segmentLock.writeLock().lock();
+        try {
+            for (LogSegment segment : segments.values()) {
+                segment.close();
+            }
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+    }
+
+    private void flushLocked() {
+        long target;
+        LogSegment segment;
+        appendLock.lock();
+        try {
+            target = nextOffset;
+            segment = activeSegment;
+        } finally {
+            appendLock.unlock();
+        }
+        try {
+            // segments are flushed when they roll, so only the active one can hold unsynced data
+            segment.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to flush event log", ex);
+        }
+        durableOffset = target;
+    }
+
+    private void roll() throws IOException {
+        activeSegment.flush();
+        LogSegment next = LogSegment.open(directory, nextOffset, indexIntervalBytes);
+        segments.put(next.baseOffset(), next);
+        activeSegment = next;
+        log.debug("[EVENT_LOG_ROLL] baseOffset={}", next.baseOffset());
+    }
+
+    private List<LogSegment> sealedSegments() {
+        List<LogSegment> sealed = new ArrayList<>(segments.values());
+        sealed.remove(activeSegment);
+        return sealed;
+    }
+
+    private long indexLatest(LogSegment segment, Map<UUID, Long> latest) {
+        List<EventLogRecord> batch = new ArrayList<>();
+        long from = segment.baseOffset();
+        long count = 0;
+        while (segment.read(from, 512, batch) > 0) {
+            for (EventLogRecord record : batch) {
+                if (record.aggregateId() != null) {
+                    latest.put(record.aggregateId(), record.offset());
+                }
+            }
+            count += batch.size();
+            from = batch.get(batch.size() - 1).offset() + 1;
+            batch.clear();
+        }
+        return count;
+    }
+
+    private void loadSegments() throws IOException {
+        List<Path> logFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            logFiles = files.filter(Files::isRegularFile)
+                .filter(LogSegment::isLogFile)
+                .sorted(Comparator.comparingLong(LogSegment::baseOffsetOf))
+                .toList();
+        }
+        discardInterruptedCompactions();
+
+        for (Path logFile : logFiles) {
+            LogSegment segment = LogSegment.open(directory, LogSegment.baseOffsetOf(logFile), indexIntervalBytes);
+            segments.put(segment.baseOffset(), segment);
+        }
+        if (segments.isEmpty()) {
+            LogSegment first = LogSegment.open(directory, 0L, indexIntervalBytes);
+            segments.put(first.baseOffset(), first);
+        }
+
+        activeSegment = segments.lastEntry().getValue();
+        nextOffset = activeSegment.nextOffset();
+        durableOffset = nextOffset;
+        log.info("[EVENT_LOG_OPEN] directory={} segments={} startOffset={} endOffset={}",
+            directory, segments.size(), startOffset(), nextOffset);
+    }
+
+    private void discardInterruptedCompactions() throws IOException {
+        List<Path> leftovers;
+        try (Stream<Path> files = Files.list(directory)) {
+            leftovers = files.filter(Files::isDirectory)
+                .filter(path -> path.getFileName().toString().endsWith(".cleaned"))
+                .toList();
+        }
+        for (Path leftover : leftovers) {
+            try (Stream<Path> files = Files.list(leftover)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(leftover);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Event log is closed");
+        }
+    }
+}
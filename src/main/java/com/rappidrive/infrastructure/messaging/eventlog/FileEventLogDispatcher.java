@@ -0,0 +1,38 @@
+package com.rappidrive.infrastructure.messaging.eventlog;
+
+import com.rappidrive.application.ports.output.EventDispatcherPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * EventDispatcherPort backed by the local {@link FileEventLog}.
+ * Used in edge deployments without a broker; local consumers tail the log by offset.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event-log.enabled", havingValue = "true")
+public class FileEventLogDispatcher implements EventDispatcherPort {
+
+    private final FileEventLog eventLog;
+
+    @Value("${event-log.fsync-on-append:true}")
+    private boolean fsyncOnAppend;
+
+    @Override
+    public void dispatch(UUID eventId, String eventType, String payload) {
+        dispatch(eventId, null, eventType, payload);
+    }
+
+    @Override
+    public void dispatch(UUID eventId, UUID aggregateId, String eventType, String payload) {
+        long offset = eventLog.append(eventId, aggregateId, eventType, payload);
+        if (fsyncOnAppend) {
+            // the outbox marks the event SENT right after this returns, so it must be on disk
+            eventLog.awaitDurable(offset);
+        }
+    }
+}
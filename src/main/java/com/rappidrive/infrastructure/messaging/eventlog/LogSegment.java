@@ -0,0 +1,388 @@
+package com.rappidrive.infrastructure.messaging.eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * One append-only file of the event log plus its sparse offset index.
+ *
+ * <p>Appends go through a {@link FileChannel}; reads go through a read-only memory mapping
+ * that is widened lazily as the segment grows. The index stores one
+ * {@code (relativeOffset, position)} pair every {@code indexIntervalBytes} of log data, so a
+ * lookup is a binary search followed by a short forward scan.</p>
+ *
+ * <p>Not thread-safe for writers: {@link FileEventLog} serialises appends. Reads may run
+ * concurrently with appends.</p>
+ */
+final class LogSegment implements Closeable {
+
+    static final String LOG_SUFFIX = ".log";
+    static final String INDEX_SUFFIX = ".index";
+    private static final String CLEANED_SUFFIX = ".cleaned";
+    private static final int INDEX_ENTRY_BYTES = 8;
+
+    private final long baseOffset;
+    private final Path logFile;
+    private final Path indexFile;
+    private final int indexIntervalBytes;
+    private final FileChannel channel;
+    private final FileChannel indexChannel;
+
+    private int[] indexOffsets = new int[64];
+    private int[] indexPositions = new int[64];
+    private volatile int indexSize;
+
+    private volatile long size;
+    private long nextOffset;
+    private long bytesSinceLastIndexEntry;
+    private volatile long largestTimestamp;
+
+    private MappedByteBuffer mapped;
+    private long mappedSize;
+
+    private LogSegment(Path directory, long baseOffset, int indexIntervalBytes) throws IOException {
+        this.baseOffset = baseOffset;
+        this.logFile = directory.resolve(fileName(baseOffset, LOG_SUFFIX));
+        this.indexFile = directory.resolve(fileName(baseOffset, INDEX_SUFFIX));
+        this.indexIntervalBytes = indexIntervalBytes;
+        this.channel = FileChannel.open(logFile,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.indexChannel = FileChannel.open(indexFile,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.nextOffset = baseOffset;
+    }
+
+    /**
+     * Opens (or creates) the segment starting at {@code baseOffset}, recovering from a torn tail.
+     */
+    static LogSegment open(Path directory, long baseOffset, int indexIntervalBytes) throws IOException {
+        LogSegment segment = new LogSegment(directory, baseOffset, indexIntervalBytes);
+        try {
+            segment.recover();
+            return segment;
+        } catch (IOException | RuntimeException ex) {
+            segment.close();
+            throw ex;
+        }
+    }
+
+    static String fileName(long baseOffset, String suffix) {
+        return String.format("%020d%s", baseOffset, suffix);
+    }
+
+    static boolean isLogFile(Path path) {
+        return path.getFileName().toString().endsWith(LOG_SUFFIX);
+    }
+
+    static long baseOffsetOf(Path logFile) {
+        String name = logFile.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length()));
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long nextOffset() {
+        return nextOffset;
+    }
+
+    long sizeInBytes() {
+        return size;
+    }
+
+    long largestTimestamp() {
+        return largestTimestamp;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends a record whose offset must equal {@link #nextOffset()}.
+     */
+    void append(EventLogRecord record) throws IOException {
+        if (record.offset() != nextOffset) {
+            throw new IllegalArgumentException(
+                "Out of order append: expected offset " + nextOffset + " but got " + record.offset());
+        }
+        ByteBuffer encoded = record.encode();
+        int recordBytes = encoded.remaining();
+        long position = size;
+
+        if (position == 0 || bytesSinceLastIndexEntry >= indexIntervalBytes) {
+            appendIndexEntry(record.offset(), position);
+        }
+
+        while (encoded.hasRemaining()) {
+            channel.write(encoded, position + (recordBytes - encoded.remaining()));
+        }
+
+        bytesSinceLastIndexEntry += recordBytes;
+        nextOffset = record.offset() + 1;
+        largestTimestamp = Math.max(largestTimestamp, record.timestamp());
+        size = position + recordBytes;
+    }
+
+    /**
+     * Reads up to {@code maxRecords} records with offset {@code >= fromOffset} into {@code out}.
+     *
+     * @return number of records added
+     */
+    int read(long fromOffset, int maxRecords, List<EventLogRecord> out) {
+        long limit = size;
+        if (limit == 0 || maxRecords <= 0) {
+            return 0;
+        }
+        ByteBuffer view = mappedView(limit);
+        int position = lookupPosition(fromOffset);
+        int added = 0;
+        while (position < limit && added < maxRecords) {
+            int recordBytes = EventLogRecord.LENGTH_FIELD_BYTES + view.getInt(position);
+            if (EventLogRecord.offsetAt(view, position) >= fromOffset) {
+                out.add(EventLogRecord.decode(view, position));
+                added++;
+            }
+            position += recordBytes;
+        }
+        return added;
+    }
+
+    /**
+     * Forces log and index data to the storage device.
+     */
+    void flush() throws IOException {
+        channel.force(false);
+        indexChannel.force(false);
+    }
+
+    /**
+     * Writes the records accepted by {@code keep} into a fresh copy of this segment, next to it.
+     * Offsets are preserved, so the copy may contain gaps. This segment stays open and readable;
+     * {@link #replaceWith(Path)} swaps the copy in.
+     *
+     * @return directory holding the copy
+     */
+    Path writeCleaned(Predicate<EventLogRecord> keep) throws IOException {
+        Path directory = logFile.getParent();
+        Path cleanedDirectory = Files.createDirectories(directory.resolve(fileName(baseOffset, CLEANED_SUFFIX)));
+        try (LogSegment cleaned = new LogSegment(cleanedDirectory, baseOffset, indexIntervalBytes)) {
+            List<EventLogRecord> batch = new ArrayList<>();
+            long from = baseOffset;
+            while (read(from, 512, batch) > 0) {
+                for (EventLogRecord record : batch) {
+                    if (keep.test(record)) {
+                        cleaned.nextOffset = record.offset();
+                        cleaned.append(record);
+                    }
+                }
+                from = batch.get(batch.size() - 1).offset() + 1;
+                batch.clear();
+            }
+            cleaned.flush();
+        }
+        return cleanedDirectory;
+    }
+
+    /**
+     * Closes this segment and replaces its files with the copy written by
+     * {@link #writeCleaned(Predicate)}. The caller must make sure no reader still uses this segment.
+     *
+     * @return the segment that replaces this one
+     */
+    LogSegment replaceWith(Path cleanedDirectory) throws IOException {
+        Path directory = logFile.getParent();
+        close();
+        Files.move(cleanedDirectory.resolve(logFile.getFileName()), logFile,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(cleanedDirectory.resolve(indexFile.getFileName()), indexFile,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(cleanedDirectory);
+
+        LogSegment reopened = open(directory, baseOffset, indexIntervalBytes);
+        // keep the original offset range so the next segment still starts where this one ended
+        reopened.nextOffset = Math.max(reopened.nextOffset, nextOffset);
+        return reopened;
+    }
+
+    /**
+     * Closes and removes the segment files.
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(logFile);
+        Files.deleteIfExists(indexFile);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            mapped = null;
+            mappedSize = 0;
+        }
+        try {
+            channel.close();
+        } finally {
+            indexChannel.close();
+        }
+    }
+
+    /**
+     * Loads the persisted index, then validates records from the last indexed position to the end
+     * of the file. Anything after the first torn or corrupt record is truncated.
+     */
+    private void recover() throws IOException {
+        loadIndex();
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Segment too large to map: " + logFile);
+        }
+
+        int start = indexSize > 0 ? indexPositions[indexSize - 1] : 0;
+        if (start > fileSize) {
+            indexSize = 0;
+            start = 0;
+        }
+        // drop index entries past the start of the scan; they are rebuilt while scanning
+        if (indexSize > 0) {
+            indexSize--;
+        }
+
+        ByteBuffer view = fileSize > 0 ? channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize) : ByteBuffer.allocate(0);
+        int limit = (int) fileSize;
+        int position = start;
+        long lastOffset = baseOffset - 1;
+        if (indexSize > 0) {
+            bytesSinceLastIndexEntry = indexIntervalBytes;
+        }
+        while (position < limit) {
+            int recordBytes = EventLogRecord.validSizeAt(view, position, limit);
+            if (recordBytes < 0) {
+                break;
+            }
+            long offset = EventLogRecord.offsetAt(view, position);
+            if (indexSize == 0 || bytesSinceLastIndexEntry >= indexIntervalBytes) {
+                addIndexEntry(offset, position);
+                bytesSinceLastIndexEntry = 0;
+            }
+            largestTimestamp = Math.max(largestTimestamp, view.getLong(position + EventLogRecord.HEADER_BYTES + 8));
+            bytesSinceLastIndexEntry += recordBytes;
+            lastOffset = offset;
+            position += recordBytes;
+        }
+
+        if (position < limit) {
+            channel.truncate(position);
+        }
+        size = position;
+        nextOffset = Math.max(baseOffset, lastOffset + 1);
+        if (start > 0 && largestTimestamp == 0) {
+            largestTimestamp = Files.getLastModifiedTime(logFile).toMillis();
+        }
+        rewriteIndexFile();
+    }
+
+    private void loadIndex() throws IOException {
+        long indexBytes = indexChannel.size() - (indexChannel.size() % INDEX_ENTRY_BYTES);
+        if (indexBytes == 0) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) indexBytes);
+        while (buffer.hasRemaining() && indexChannel.read(buffer, buffer.position()) >= 0) {
+            // keep reading until the buffer is full
+        }
+        buffer.flip();
+        int lastPosition = -1;
+        while (buffer.remaining() >= INDEX_ENTRY_BYTES) {
+            int relativeOffset = buffer.getInt();
+            int position = buffer.getInt();
+            if (position <= lastPosition) {
+                break; // torn or garbage tail
+            }
+            addIndexEntry(baseOffset + relativeOffset, position);
+            lastPosition = position;
+        }
+    }
+
+    private void rewriteIndexFile() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(indexSize * INDEX_ENTRY_BYTES);
+        for (int i = 0; i < indexSize; i++) {
+            buffer.putInt(indexOffsets[i]).putInt(indexPositions[i]);
+        }
+        buffer.flip();
+        indexChannel.truncate(0);
+        while (buffer.hasRemaining()) {
+            indexChannel.write(buffer, buffer.position());
+        }
+    }
+
+    private void appendIndexEntry(long offset, long position) throws IOException {
+        addIndexEntry(offset, (int) position);
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES)
+            .putInt((int) (offset - baseOffset))
+            .putInt((int) position)
+            .flip();
+        long at = (long) (indexSize - 1) * INDEX_ENTRY_BYTES;
+        while (entry.hasRemaining()) {
+            indexChannel.write(entry, at + entry.position());
+        }
+        bytesSinceLastIndexEntry = 0;
+    }
+
+    private void addIndexEntry(long offset, int position) {
+        if (indexSize == indexOffsets.length) {
+            indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+            indexPositions = Arrays.copyOf(indexPositions, indexSize * 2);
+        }
+        indexOffsets[indexSize] = (int) (offset - baseOffset);
+        indexPositions[indexSize] = position;
+        indexSize++;
+    }
+
+    /**
+     * Position of the last indexed record whose offset is {@code <= target}, or 0.
+     */
+    private int lookupPosition(long target) {
+        long relative = target - baseOffset;
+        int low = 0;
+        int high = indexSize - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexOffsets[mid] <= relative) {
+                found = indexPositions[mid];
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private synchronized ByteBuffer mappedView(long limit) {
+        if (mapped == null || mappedSize < limit) {
+            try {
+                // map everything written so far; later reads only remap once the segment has grown
+                long target = Math.min(Integer.MAX_VALUE, Math.max(limit, channel.size()));
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, target);
+                mappedSize = target;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to map segment " + logFile, ex);
+            }
+        }
+        return mapped.duplicate();
+    }
+}
@@ -0,0 +1,36 @@
+package com.rappidrive.infrastructure.monitoring;
+
+import com.rappidrive.infrastructure.monitoring.OutboxBacklogMonitor.BacklogSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint with the current outbox backlog breakdown.
+ *
+ * Accessible at: GET /actuator/outbox
+ */
+@Component
+@Endpoint(id = "outbox")
+@RequiredArgsConstructor
+public class OutboxBacklogEndpoint {
+
+    private final OutboxBacklogMonitor backlogMonitor;
+
+    @ReadOperation
+    public Map<String, Object> backlog() {
+        BacklogSnapshot snapshot = backlogMonitor.snapshot();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("capturedAt", snapshot.capturedAt());
+        body.put("pending", snapshot.totalPending());
+        body.put("retrying", snapshot.totalRetrying());
+        body.put("oldestPendingCreatedAt", snapshot.oldestCreatedAt());
+        body.put("oldestPendingAgeSeconds", backlogMonitor.oldestPendingAgeSeconds());
+        body.put("byType", snapshot.byType());
+        return body;
+    }
+}
@@ -0,0 +1,123 @@
+package com.rappidrive.infrastructure.monitoring;
+
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataOutboxRepository;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataOutboxRepository.PendingSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Periodically aggregates the outbox backlog with a single grouped query and publishes it as gauges.
+ *
+ * <p>Gauges read the last snapshot, so scrapes never hit the database. The oldest-pending age is
+ * computed at read time from the snapshot's oldest {@code created_at}, so it keeps growing between
+ * refreshes while delivery is stuck. {@link OutboxBacklogEndpoint} exposes the same snapshot.</p>
+ */
+@Component
+public class OutboxBacklogMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxBacklogMonitor.class);
+
+    private final SpringDataOutboxRepository repository;
+    private final MultiGauge pendingByType;
+    private final Clock clock;
+    private final AtomicReference<BacklogSnapshot> snapshot;
+
+    public OutboxBacklogMonitor(SpringDataOutboxRepository repository, MeterRegistry meterRegistry) {
+        this(repository, meterRegistry, Clock.systemUTC());
+    }
+
+    OutboxBacklogMonitor(SpringDataOutboxRepository repository, MeterRegistry meterRegistry, Clock clock) {
+        this.repository = repository;
+        this.clock = clock;
+        this.snapshot = new AtomicReference<>(new BacklogSnapshot(LocalDateTime.now(clock), List.of()));
+
+        Gauge.builder("outbox_backlog_pending", this, m -> m.snapshot().totalPending())
+            .description("PENDING outbox events at the last backlog refresh")
+            .register(meterRegistry);
+        Gauge.builder("outbox_backlog_retrying", this, m -> m.snapshot().totalRetrying())
+            .description("PENDING outbox events waiting for a retry (attempts > 0)")
+            .register(meterRegistry);
+        Gauge.builder("outbox_backlog_oldest_pending_age_seconds", this, OutboxBacklogMonitor::oldestPendingAgeSeconds)
+            .description("Age of the oldest PENDING outbox event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.pendingByType = MultiGauge.builder("outbox_backlog_pending_by_type")
+            .description("PENDING outbox events per event type")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-interval-ms:15000}")
+    public void refresh() {
+        try {
+            List<TypeBacklog> byType = repository.summarizePending().stream()
+                .map(TypeBacklog::from)
+                .sorted(Comparator.comparing(TypeBacklog::eventType))
+                .toList();
+            snapshot.set(new BacklogSnapshot(LocalDateTime.now(clock), byType));
+            pendingByType.register(byType.stream()
+                .<MultiGauge.Row<?>>map(t -> MultiGauge.Row.of(Tags.of("eventType", t.eventType()), t.pending()))
+                .toList(), true);
+        } catch (Exception ex) {
+            log.warn("[OUTBOX_BACKLOG_ERROR] Failed to refresh outbox backlog: {}", ex.getMessage());
+        }
+    }
+
+    public BacklogSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    public double oldestPendingAgeSeconds() {
+        LocalDateTime oldest = snapshot().oldestCreatedAt();
+        if (oldest == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(oldest, LocalDateTime.now(clock)).toMillis() / 1000.0);
+    }
+
+    /**
+     * Backlog of a single event type.
+     */
+    public record TypeBacklog(String eventType, long pending, long retrying, LocalDateTime oldestCreatedAt) {
+
+        static TypeBacklog from(PendingSummary summary) {
+            return new TypeBacklog(summary.getEventType(), summary.getPending(), summary.getRetrying(),
+                summary.getOldestCreatedAt());
+        }
+    }
+
+    /**
+     * Result of one backlog refresh.
+     */
+    public record BacklogSnapshot(LocalDateTime capturedAt, List<TypeBacklog> byType) {
+
+        public long totalPending() {
+            return byType.stream().mapToLong(TypeBacklog::pending).sum();
+        }
+
+        public long totalRetrying() {
+            return byType.stream().mapToLong(TypeBacklog::retrying).sum();
+        }
+
+        public LocalDateTime oldestCreatedAt() {
+            return byType.stream()
+                .map(TypeBacklog::oldestCreatedAt)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        }
+    }
+}
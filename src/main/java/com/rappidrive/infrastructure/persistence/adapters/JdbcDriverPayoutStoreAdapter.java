@@ -0,0 +1,117 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.DriverPayoutStorePort;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Plain JDBC store for the payout batch (see V25 migration). Payments are read through a
+ * server-side cursor: Postgres only streams with autocommit off and a fetch size, so the query runs
+ * in a read-only transaction and rows arrive {@code fetch-size} at a time. Payouts are written with
+ * batched inserts.
+ *
+ * <p>Payments belong to the day they completed on ({@code processed_at}), not the day they were
+ * created: card and PIX payments are settled after the trip, so a payment created late in a day
+ * may complete the next one, after the first day was already checkpointed.</p>
+ */
+@Component
+public class JdbcDriverPayoutStoreAdapter implements DriverPayoutStorePort {
+
+    private static final String TENANTS_SQL =
+        "SELECT DISTINCT tenant_id FROM payments WHERE status = 'COMPLETED' AND processed_at >= ? AND processed_at < ?";
+    private static final String CHECKPOINTS_SQL =
+        "SELECT tenant_id FROM driver_payout_checkpoints WHERE business_date = ?";
+    private static final String PAYMENTS_SQL =
+        "SELECT t.driver_id, p.currency, p.payment_method_type = 'CASH', (p.amount * 100)::bigint, "
+            + "(p.platform_fee * 100)::bigint, (p.driver_amount * 100)::bigint "
+            + "FROM payments p JOIN trips t ON t.id = p.trip_id "
+            + "WHERE p.tenant_id = ? AND p.status = 'COMPLETED' AND p.processed_at >= ? AND p.processed_at < ? "
+            + "AND t.driver_id IS NOT NULL";
+    private static final String DELETE_PAYOUTS_SQL =
+        "DELETE FROM driver_payouts WHERE tenant_id = ? AND business_date = ?";
+    private static final String INSERT_PAYOUT_SQL =
+        "INSERT INTO driver_payouts (tenant_id, business_date, driver_id, currency, trip_count, gross_amount, "
+            + "platform_fee, driver_earnings, cash_collected, net_payout) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CHECKPOINT_SQL =
+        "INSERT INTO driver_payout_checkpoints (tenant_id, business_date, payment_count, payout_count) "
+            + "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+
+    public JdbcDriverPayoutStoreAdapter(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${payout.fetch-size:1000}") int fetchSize,
+                                        @Value("${payout.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<TenantId> findTenantsWithCompletedPayments(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(TENANTS_SQL, (rs, rowNum) -> new TenantId(rs.getObject(1, UUID.class)),
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public Set<TenantId> findCheckpointedTenants(LocalDate businessDate) {
+        return new HashSet<>(jdbcTemplate.query(CHECKPOINTS_SQL,
+            (rs, rowNum) -> new TenantId(rs.getObject(1, UUID.class)), Date.valueOf(businessDate)));
+    }
+
+    @Override
+    public long streamCompletedPayments(TenantId tenantId, LocalDateTime from, LocalDateTime to,
+                                        CompletedPaymentSink sink) {
+        long[] count = new long[1];
+        readTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(PAYMENTS_SQL, rs -> {
+            sink.accept(rs.getObject(1, UUID.class), Currency.valueOf(rs.getString(2)), rs.getBoolean(3),
+                rs.getLong(4), rs.getLong(5), rs.getLong(6));
+            count[0]++;
+        }, tenantId.getValue(), Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        return count[0];
+    }
+
+    @Override
+    public void savePayouts(TenantId tenantId, LocalDate businessDate, List<DriverPayout> payouts, long paymentCount) {
+        Date date = Date.valueOf(businessDate);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_PAYOUTS_SQL, tenantId.getValue(), date);
+            jdbcTemplate.batchUpdate(INSERT_PAYOUT_SQL, payouts, batchSize, (ps, payout) -> {
+                ps.setObject(1, tenantId.getValue());
+                ps.setDate(2, date);
+                ps.setObject(3, payout.driverId());
+                ps.setString(4, payout.currency().name());
+                ps.setInt(5, payout.tripCount());
+                ps.setBigDecimal(6, BigDecimal.valueOf(payout.grossCents(), 2));
+                ps.setBigDecimal(7, BigDecimal.valueOf(payout.platformFeeCents(), 2));
+                ps.setBigDecimal(8, BigDecimal.valueOf(payout.driverEarningsCents(), 2));
+                ps.setBigDecimal(9, BigDecimal.valueOf(payout.cashCollectedCents(), 2));
+                ps.setBigDecimal(10, BigDecimal.valueOf(payout.netPayoutCents(), 2));
+            });
+            jdbcTemplate.update(INSERT_CHECKPOINT_SQL, tenantId.getValue(), date, paymentCount, payouts.size());
+        });
+    }
+}
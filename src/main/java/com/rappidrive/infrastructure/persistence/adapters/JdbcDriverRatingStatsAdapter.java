@@ -0,0 +1,68 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.DriverRatingStatsPort;
+import com.rappidrive.domain.valueobjects.RatingScore;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Driver rating aggregates on the V32 table.
+ *
+ * <p>A change is one upsert that adds to the count, the score sum and the score's histogram
+ * column under the row lock, so concurrent ratings of the same driver never lose an update. The
+ * aggregates never go below zero; removing a rating the row does not account for leaves it as is
+ * rather than failing the report.</p>
+ */
+@Component
+public class JdbcDriverRatingStatsAdapter implements DriverRatingStatsPort {
+
+    private static final String SCORE_COLUMNS =
+        "score_1_count, score_2_count, score_3_count, score_4_count, score_5_count";
+    private static final String ADJUST_SQL =
+        "INSERT INTO driver_rating_stats AS s (driver_id, tenant_id, rating_count, score_sum, " + SCORE_COLUMNS
+            + ", updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (driver_id) DO UPDATE SET "
+            + "rating_count = GREATEST(s.rating_count + ?, 0), score_sum = GREATEST(s.score_sum + ?, 0), "
+            + "score_1_count = GREATEST(s.score_1_count + ?, 0), score_2_count = GREATEST(s.score_2_count + ?, 0), "
+            + "score_3_count = GREATEST(s.score_3_count + ?, 0), score_4_count = GREATEST(s.score_4_count + ?, 0), "
+            + "score_5_count = GREATEST(s.score_5_count + ?, 0), updated_at = EXCLUDED.updated_at";
+    private static final String GET_SQL =
+        "SELECT rating_count, score_sum, " + SCORE_COLUMNS + " FROM driver_rating_stats WHERE driver_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcDriverRatingStatsAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void adjust(UUID driverId, TenantId tenantId, RatingScore score, int delta) {
+        long[] histogram = new long[5];
+        histogram[score.value() - 1] = delta;
+        long inserted = Math.max(delta, 0);
+        jdbcTemplate.update(ADJUST_SQL,
+            driverId, tenantId.getValue(), inserted, inserted * score.value(),
+            Math.max(histogram[0], 0), Math.max(histogram[1], 0), Math.max(histogram[2], 0),
+            Math.max(histogram[3], 0), Math.max(histogram[4], 0),
+            Timestamp.valueOf(LocalDateTime.now()),
+            delta, (long) delta * score.value(),
+            histogram[0], histogram[1], histogram[2], histogram[3], histogram[4]);
+    }
+
+    @Override
+    public DriverRatingStats get(UUID driverId) {
+        List<DriverRatingStats> stats = jdbcTemplate.query(GET_SQL, (rs, row) -> new DriverRatingStats(
+            rs.getLong(1),
+            rs.getLong(2),
+            Map.of(1, rs.getLong(3), 2, rs.getLong(4), 3, rs.getLong(5), 4, rs.getLong(6), 5, rs.getLong(7))),
+            driverId);
+        return stats.isEmpty() ? DriverRatingStats.empty() : stats.get(0);
+    }
+}
@@ -0,0 +1,125 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rappidrive.application.ports.output.LedgerRepositoryPort;
+import com.rappidrive.domain.enums.JournalEntryType;
+import com.rappidrive.domain.valueobjects.JournalEntry;
+import com.rappidrive.domain.valueobjects.LedgerAccount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Plain JDBC ledger (see V27 and V34 migrations). Writes go through the shared {@link JdbcTemplate}, so
+ * they join the transaction of the payment update that triggers them.
+ *
+ * <p>Account ids are name-based UUIDs of the account key, so posting needs no lookup: an account
+ * row is inserted the first time this node sees the account and remembered once committed. The
+ * unique (type, reference) key of journal entries makes a replayed append a no-op. A balance is
+ * the account's latest snapshot plus its postings from transactions the snapshot has not folded.</p>
+ */
+@Component
+public class JdbcLedgerRepositoryAdapter implements LedgerRepositoryPort {
+
+    private static final String INSERT_ACCOUNT_SQL =
+        "INSERT INTO ledger_accounts (id, tenant_id, account_type, owner_id, currency) VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT (id) DO NOTHING";
+    private static final String INSERT_ENTRY_SQL =
+        "INSERT INTO ledger_journal_entries (id, tenant_id, entry_type, reference_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (entry_type, reference_id) DO NOTHING";
+    private static final String INSERT_POSTING_SQL =
+        "INSERT INTO ledger_postings (journal_entry_id, account_id, amount_cents, created_at) VALUES (?, ?, ?, ?)";
+    private static final String ENTRY_EXISTS_SQL =
+        "SELECT EXISTS (SELECT 1 FROM ledger_journal_entries WHERE entry_type = ? AND reference_id = ?)";
+    private static final String BALANCE_SQL =
+        "SELECT COALESCE(s.balance_cents, 0) + COALESCE((SELECT SUM(p.amount_cents) FROM ledger_postings p "
+            + "WHERE p.account_id = a.id AND p.tx_id >= COALESCE(s.below_tx_id, 0)), 0) "
+            + "FROM (SELECT ?::uuid AS id) a LEFT JOIN ledger_balance_snapshots s ON s.account_id = a.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<UUID, Boolean> knownAccounts;
+    private final Clock clock;
+
+    public JdbcLedgerRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                       @Value("${ledger.account-cache-size:100000}") long accountCacheSize) {
+        this(jdbcTemplate, accountCacheSize, Clock.systemDefaultZone());
+    }
+
+    JdbcLedgerRepositoryAdapter(JdbcTemplate jdbcTemplate, long accountCacheSize, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.knownAccounts = Caffeine.newBuilder().maximumSize(accountCacheSize).build();
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean append(JournalEntry entry) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        UUID entryId = UUID.randomUUID();
+        int inserted = jdbcTemplate.update(INSERT_ENTRY_SQL, entryId, entry.tenantId().getValue(), entry.type().name(),
+            entry.referenceId(), now);
+        if (inserted == 0) {
+            return false;
+        }
+        for (JournalEntry.Posting posting : entry.postings()) {
+            ensureAccount(posting.account());
+        }
+        jdbcTemplate.batchUpdate(INSERT_POSTING_SQL, entry.postings(), entry.postings().size(), (ps, posting) -> {
+            ps.setObject(1, entryId);
+            ps.setObject(2, accountId(posting.account()));
+            ps.setLong(3, posting.amountCents());
+            ps.setTimestamp(4, now);
+        });
+        return true;
+    }
+
+    @Override
+    public boolean isRecorded(JournalEntryType type, UUID referenceId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(ENTRY_EXISTS_SQL, Boolean.class, type.name(),
+            referenceId));
+    }
+
+    @Override
+    public long balanceCents(LedgerAccount account) {
+        Long balance = jdbcTemplate.queryForObject(BALANCE_SQL, Long.class, accountId(account));
+        return balance != null ? balance : 0L;
+    }
+
+    /**
+     * Inserts the account row unless this node already did. The account is remembered only once
+     * the insert commits, so a rolled-back transaction does not leave postings pointing at a row
+     * that was never written.
+     */
+    private void ensureAccount(LedgerAccount account) {
+        UUID id = accountId(account);
+        if (knownAccounts.getIfPresent(id) != null) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_ACCOUNT_SQL, id, account.tenantId().getValue(), account.type().name(),
+            account.ownerId(), account.currency().name());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    knownAccounts.put(id, Boolean.TRUE);
+                }
+            });
+        } else {
+            knownAccounts.put(id, Boolean.TRUE);
+        }
+    }
+
+    static UUID accountId(LedgerAccount account) {
+        String key = account.tenantId().getValue() + "|" + account.type().name() + "|" + account.ownerId() + "|"
+            + account.currency().name();
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.NotificationCoalescingPort;
+import com.rappidrive.domain.entities.Notification;
+import com.rappidrive.domain.enums.NotificationPriority;
+import com.rappidrive.infrastructure.persistence.entities.NotificationJpaEntity;
+import com.rappidrive.infrastructure.persistence.mappers.NotificationMapper;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataNotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Digest windows on the notifications table itself: merging is one UPDATE of the open digest row.
+ *
+ * <p>The digest is locked before it is changed. For push priorities its delivery entry is locked
+ * too, and only an entry no attempt has claimed yet qualifies; the delivery worker claims with
+ * {@code SKIP LOCKED}, so a push either starts before the merge and the window counts as closed,
+ * or after it and carries the merged content. Keyed notifications are never digests, so every
+ * idempotency key keeps pointing at the one notification it created.</p>
+ */
+@Component
+public class JdbcNotificationCoalescingAdapter implements NotificationCoalescingPort {
+
+    private static final String OPEN_DIGEST_FILTER =
+        "n.tenant_id = ? AND n.user_id = ? AND n.type = ? AND n.priority = ? AND n.status = 'PENDING' "
+            + "AND n.deleted_at IS NULL AND n.idempotency_key IS NULL AND n.created_at >= ? ";
+    private static final String MERGE_SET =
+        "UPDATE notifications n SET title = ?, message = ?, "
+            + "data = COALESCE(CAST(? AS jsonb), '{}'::jsonb) "
+            + "|| jsonb_build_object('digestCount', (COALESCE((n.data->>'digestCount')::int, 1) + 1)::text) ";
+    private static final String MERGE_PUSH_SQL =
+        "WITH digest AS (SELECT n.id FROM notifications n "
+            + "JOIN notification_deliveries d ON d.notification_id = n.id "
+            + "WHERE " + OPEN_DIGEST_FILTER + "AND d.attempts = 0 "
+            + "ORDER BY n.created_at DESC LIMIT 1 FOR UPDATE OF n, d) "
+            + MERGE_SET + "FROM digest WHERE n.id = digest.id RETURNING n.id";
+    private static final String MERGE_IN_APP_SQL =
+        "WITH digest AS (SELECT n.id FROM notifications n "
+            + "WHERE " + OPEN_DIGEST_FILTER
+            + "ORDER BY n.created_at DESC LIMIT 1 FOR UPDATE OF n) "
+            + MERGE_SET + "FROM digest WHERE n.id = digest.id RETURNING n.id";
+    private static final NotificationJpaEntity.JsonbMapConverter JSONB = new NotificationJpaEntity.JsonbMapConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SpringDataNotificationRepository notificationRepository;
+    private final NotificationMapper mapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public JdbcNotificationCoalescingAdapter(JdbcTemplate jdbcTemplate,
+                                             SpringDataNotificationRepository notificationRepository,
+                                             NotificationMapper mapper,
+                                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.notificationRepository = notificationRepository;
+        this.mapper = mapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Optional<Notification> mergeIntoOpenDigest(Notification notification, LocalDateTime openSince) {
+        NotificationPriority priority = notification.getPriority();
+        List<UUID> merged = jdbcTemplate.query(priority.shouldSendPush() ? MERGE_PUSH_SQL : MERGE_IN_APP_SQL,
+            (rs, row) -> rs.getObject(1, UUID.class),
+            notification.getTenantId().getValue(),
+            notification.getUserId().getValue(),
+            notification.getType().name(),
+            priority.name(),
+            Timestamp.valueOf(openSince),
+            notification.getContent().getTitle(),
+            notification.getContent().getMessage(),
+            JSONB.convertToDatabaseColumn(notification.getContent().getData()));
+        if (merged.isEmpty()) {
+            count(priority, "opened");
+            return Optional.empty();
+        }
+        count(priority, "merged");
+        return notificationRepository.findById(merged.get(0)).map(mapper::toDomain);
+    }
+
+    /**
+     * merged / (merged + opened) is the share of coalescible notifications that caused neither a
+     * row insert nor a push.
+     */
+    private void count(NotificationPriority priority, String outcome) {
+        counters.computeIfAbsent(priority.name() + ':' + outcome, key -> Counter.builder("notification_coalescing_total")
+            .description("Coalescible notifications merged into an open digest or opening a new one")
+            .tag("priority", priority.name().toLowerCase())
+            .tag("outcome", outcome)
+            .register(meterRegistry)).increment();
+    }
+}
@@ -0,0 +1,194 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.NotificationDeliveryQueuePort;
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
+import com.rappidrive.domain.entities.Notification;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.UserId;
+import com.rappidrive.infrastructure.persistence.mappers.NotificationMapper;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataNotificationRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Notification delivery queue on the V29 table. Claims and results are single set-based
+ * statements, so a batch of any size costs the same few round trips; notifications are loaded
+ * through JPA to reuse their mapping.
+ */
+@Component
+public class JdbcNotificationDeliveryQueueAdapter implements NotificationDeliveryQueuePort {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO notification_deliveries (notification_id, attempts, due_at, created_at) VALUES (?, 0, ?, ?) "
+            + "ON CONFLICT (notification_id) DO NOTHING";
+    private static final String CLAIM_SQL =
+        "UPDATE notification_deliveries d SET attempts = d.attempts + 1, due_at = ? "
+            + "FROM (SELECT notification_id FROM notification_deliveries WHERE due_at <= ? ORDER BY due_at LIMIT ? "
+            + "FOR UPDATE SKIP LOCKED) due "
+            + "WHERE d.notification_id = due.notification_id RETURNING d.notification_id, d.attempts";
+    private static final String MARK_SENT_SQL =
+        "UPDATE notifications SET status = 'SENT', sent_at = ? WHERE id = ANY(?) AND status = 'PENDING'";
+    private static final String MARK_FAILED_SQL =
+        "WITH failed AS (UPDATE notifications SET status = 'FAILED', failed_at = ? WHERE id = ANY(?) "
+            + "AND status = 'PENDING' RETURNING tenant_id, user_id, deleted_at) "
+            + "SELECT tenant_id, user_id, COUNT(*) FROM failed WHERE deleted_at IS NULL GROUP BY tenant_id, user_id";
+    private static final String DELETE_SQL = "DELETE FROM notification_deliveries WHERE notification_id = ANY(?)";
+    private static final String RESCHEDULE_SQL =
+        "UPDATE notification_deliveries d SET due_at = v.due_at "
+            + "FROM unnest(?::uuid[], ?::timestamp[]) AS v(notification_id, due_at) "
+            + "WHERE d.notification_id = v.notification_id";
+    private static final String DEFER_SQL =
+        "UPDATE notification_deliveries d SET due_at = v.due_at, attempts = GREATEST(d.attempts - 1, 0) "
+            + "FROM unnest(?::uuid[], ?::timestamp[]) AS v(notification_id, due_at) "
+            + "WHERE d.notification_id = v.notification_id";
+    private static final String DEPTH_SQL = "SELECT COUNT(*) FROM notification_deliveries";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SpringDataNotificationRepository notificationRepository;
+    private final NotificationMapper mapper;
+    private final NotificationUnreadCounterPort unreadCounters;
+
+    public JdbcNotificationDeliveryQueueAdapter(JdbcTemplate jdbcTemplate,
+                                                SpringDataNotificationRepository notificationRepository,
+                                                NotificationMapper mapper,
+                                                NotificationUnreadCounterPort unreadCounters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.notificationRepository = notificationRepository;
+        this.mapper = mapper;
+        this.unreadCounters = unreadCounters;
+    }
+
+    /**
+     * Flushes first: the notification was usually just saved through JPA in this transaction, and
+     * its insert must reach the database before the foreign key to it is checked.
+     */
+    @Override
+    public void enqueue(UUID notificationId, LocalDateTime dueAt) {
+        notificationRepository.flush();
+        jdbcTemplate.update(INSERT_SQL, notificationId, Timestamp.valueOf(dueAt),
+            Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * The row locks only last for this short transaction; the lease written here is what keeps
+     * other nodes off the entries while their provider calls run. An entry whose notification was
+     * deleted in the meantime is dropped.
+     */
+    @Override
+    @Transactional
+    public List<ClaimedDelivery> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        Map<UUID, Integer> attempts = new HashMap<>();
+        jdbcTemplate.query(CLAIM_SQL, rs -> {
+            attempts.put(rs.getObject(1, UUID.class), rs.getInt(2));
+        }, Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), limit);
+        if (attempts.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Notification> notifications = notificationRepository.findAllById(attempts.keySet()).stream()
+            .filter(entity -> entity.getDeletedAt() == null)
+            .map(mapper::toDomain)
+            .collect(Collectors.toMap(Notification::getId, Function.identity()));
+        List<UUID> orphans = new ArrayList<>();
+        List<ClaimedDelivery> claimed = new ArrayList<>(notifications.size());
+        attempts.forEach((id, attempt) -> {
+            Notification notification = notifications.get(id);
+            if (notification != null) {
+                claimed.add(new ClaimedDelivery(notification, attempt));
+            } else {
+                orphans.add(id);
+            }
+        });
+        if (!orphans.isEmpty()) {
+            update(DELETE_SQL, null, orphans);
+        }
+        return claimed;
+    }
+
+    /**
+     * A failed notification no longer counts as unread, so the unread counters of its recipients
+     * are lowered in the same transaction.
+     */
+    @Override
+    @Transactional
+    public void complete(Collection<UUID> sent, Collection<UUID> failed, LocalDateTime at) {
+        Timestamp timestamp = Timestamp.valueOf(at);
+        if (!sent.isEmpty()) {
+            update(MARK_SENT_SQL, timestamp, sent);
+        }
+        if (!failed.isEmpty()) {
+            jdbcTemplate.query(MARK_FAILED_SQL, ps -> {
+                ps.setTimestamp(1, timestamp);
+                ps.setArray(2, ps.getConnection().createArrayOf("uuid", failed.toArray()));
+            }, rs -> {
+                unreadCounters.adjust(new UserId(rs.getObject(2, UUID.class)),
+                    new TenantId(rs.getObject(1, UUID.class)), -rs.getLong(3));
+            });
+        }
+        List<UUID> done = new ArrayList<>(sent.size() + failed.size());
+        done.addAll(sent);
+        done.addAll(failed);
+        if (!done.isEmpty()) {
+            update(DELETE_SQL, null, done);
+        }
+    }
+
+    @Override
+    public void reschedule(Map<UUID, LocalDateTime> dueAtById) {
+        updateDueAt(RESCHEDULE_SQL, dueAtById);
+    }
+
+    @Override
+    public void defer(Map<UUID, LocalDateTime> dueAtById) {
+        updateDueAt(DEFER_SQL, dueAtById);
+    }
+
+    @Override
+    public long depth() {
+        Long depth = jdbcTemplate.queryForObject(DEPTH_SQL, Long.class);
+        return depth != null ? depth : 0L;
+    }
+
+    /**
+     * Runs a statement taking an id array and a matching due-at array.
+     */
+    private void updateDueAt(String sql, Map<UUID, LocalDateTime> dueAtById) {
+        if (dueAtById.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = new ArrayList<>(dueAtById.size());
+        List<Timestamp> dueAts = new ArrayList<>(dueAtById.size());
+        dueAtById.forEach((id, dueAt) -> {
+            ids.add(id);
+            dueAts.add(Timestamp.valueOf(dueAt));
+        });
+        jdbcTemplate.update(sql, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+            ps.setArray(2, ps.getConnection().createArrayOf("timestamp", dueAts.toArray()));
+        });
+    }
+
+    /**
+     * Runs a statement whose last parameter is an id array, preceded by {@code timestamp} if given.
+     */
+    private void update(String sql, Timestamp timestamp, Collection<UUID> ids) {
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            if (timestamp != null) {
+                ps.setTimestamp(index++, timestamp);
+            }
+            ps.setArray(index, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+        });
+    }
+}
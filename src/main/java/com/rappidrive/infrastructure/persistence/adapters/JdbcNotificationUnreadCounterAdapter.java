@@ -0,0 +1,110 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Unread counters on the V30 table, fronted by a per-node cache.
+ *
+ * <p>A change is one upsert that returns the counter's new value and version; once the transaction
+ * commits, that value replaces the cached one unless the cache already holds a newer version. The
+ * node that changed a counter therefore serves it from memory right away, while changes made on
+ * other nodes show up when the entry expires after {@code notification.unread-counters.cache-ttl-ms},
+ * which bounds how stale a badge can be.</p>
+ */
+@Component
+public class JdbcNotificationUnreadCounterAdapter implements NotificationUnreadCounterPort {
+
+    public static final String CACHE_NAME = "notificationUnreadCounters";
+
+    private static final String ADJUST_SQL =
+        "INSERT INTO notification_unread_counters AS c (tenant_id, user_id, unread_count, version, updated_at) "
+            + "VALUES (?, ?, GREATEST(?, 0), 1, ?) "
+            + "ON CONFLICT (tenant_id, user_id) DO UPDATE SET unread_count = GREATEST(c.unread_count + ?, 0), "
+            + "version = c.version + 1, updated_at = EXCLUDED.updated_at "
+            + "RETURNING unread_count, version";
+    private static final String SELECT_SQL =
+        "SELECT unread_count, version FROM notification_unread_counters WHERE tenant_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<CounterKey, Counter> cache;
+
+    public JdbcNotificationUnreadCounterAdapter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${notification.unread-counters.cache-ttl-ms:30000}") long cacheTtlMs,
+            @Value("${notification.unread-counters.cache-size:200000}") long cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+            .maximumSize(cacheSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public void adjust(UserId userId, TenantId tenantId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        CounterKey key = new CounterKey(tenantId.getValue(), userId.getValue());
+        Counter updated = jdbcTemplate.queryForObject(ADJUST_SQL,
+            (rs, row) -> new Counter(rs.getLong(1), rs.getLong(2)),
+            key.tenantId(), key.userId(), delta, Timestamp.valueOf(LocalDateTime.now()), delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(key, updated);
+                }
+            });
+        } else {
+            offer(key, updated);
+        }
+    }
+
+    @Override
+    public long get(UserId userId, TenantId tenantId) {
+        return cache.get(new CounterKey(tenantId.getValue(), userId.getValue()), this::load).count();
+    }
+
+    /**
+     * Drops cached counters, e.g. after the reconciliation job rewrote them.
+     */
+    public void evict(List<CounterKey> keys) {
+        cache.invalidateAll(keys);
+    }
+
+    private Counter load(CounterKey key) {
+        List<Counter> rows = jdbcTemplate.query(SELECT_SQL,
+            (rs, row) -> new Counter(rs.getLong(1), rs.getLong(2)), key.tenantId(), key.userId());
+        return rows.isEmpty() ? new Counter(0, 0) : rows.get(0);
+    }
+
+    private void offer(CounterKey key, Counter updated) {
+        cache.asMap().compute(key, (k, cached) -> cached == null || cached.version() < updated.version() ? updated : cached);
+    }
+
+    public record CounterKey(UUID tenantId, UUID userId) {
+    }
+
+    private record Counter(long count, long version) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.PaymentReconciliationSourcePort;
+import com.rappidrive.domain.enums.PaymentStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams payments for reconciliation through a server-side cursor, like
+ * {@link JdbcDriverPayoutStoreAdapter}. The query sorts with the "C" collation so Postgres orders
+ * transaction ids byte-wise, which is the order {@link String#compareTo} gives for the ASCII ids
+ * gateways issue; the V26 index provides that order without a sort.
+ */
+@Component
+public class JdbcPaymentReconciliationAdapter implements PaymentReconciliationSourcePort {
+
+    private static final String PAYMENTS_SQL =
+        "SELECT id, tenant_id, gateway_transaction_id, (amount * 100)::bigint, status FROM payments "
+            + "WHERE gateway_transaction_id IS NOT NULL AND created_at >= ? AND created_at < ? "
+            + "ORDER BY gateway_transaction_id COLLATE \"C\"";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readTransaction;
+
+    public JdbcPaymentReconciliationAdapter(JdbcTemplate jdbcTemplate,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${reconciliation.fetch-size:5000}") int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public long streamOrderedByTransactionId(LocalDateTime from, LocalDateTime to, Consumer<LedgerPayment> sink) {
+        long[] count = new long[1];
+        readTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(PAYMENTS_SQL, rs -> {
+            sink.accept(new LedgerPayment(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getString(3),
+                rs.getLong(4), PaymentStatus.valueOf(rs.getString(5))));
+            count[0]++;
+        }, Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        return count[0];
+    }
+}
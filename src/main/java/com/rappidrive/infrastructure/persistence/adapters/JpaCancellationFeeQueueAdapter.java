@@ -0,0 +1,83 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.persistence.entities.CancellationFeeChargeJpaEntity;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataCancellationFeeChargeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class JpaCancellationFeeQueueAdapter implements CancellationFeeQueuePort {
+
+    private final SpringDataCancellationFeeChargeRepository jpaRepository;
+
+    public JpaCancellationFeeQueueAdapter(SpringDataCancellationFeeChargeRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(CancellationFeeCharge charge, LocalDateTime dueAt) {
+        jpaRepository.insertIfAbsent(charge.tripId(), charge.tenantId().getValue(), charge.fee().getAmount(),
+            charge.fee().getCurrency().name(), charge.reason(), charge.cancelledAt(), dueAt, LocalDateTime.now());
+    }
+
+    /**
+     * The row locks only last for this short transaction; the lease written here is what keeps
+     * other nodes off the entries while their gateway calls run.
+     */
+    @Override
+    @Transactional
+    public List<ClaimedCancellationFee> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<CancellationFeeChargeJpaEntity> due = jpaRepository.findDueForUpdate(now, limit);
+        List<ClaimedCancellationFee> claimed = new ArrayList<>(due.size());
+        for (CancellationFeeChargeJpaEntity entry : due) {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setDueAt(leaseUntil);
+            claimed.add(new ClaimedCancellationFee(toCharge(entry), entry.getAttempts()));
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public void reschedule(UUID tripId, LocalDateTime dueAt) {
+        jpaRepository.reschedule(tripId, dueAt);
+    }
+
+    @Override
+    @Transactional
+    public void remove(UUID tripId) {
+        jpaRepository.deleteByTripId(tripId);
+    }
+
+    @Override
+    @Transactional
+    public void abandon(UUID tripId) {
+        jpaRepository.abandon(tripId);
+    }
+
+    @Override
+    @Transactional
+    public void decline(UUID tripId) {
+        jpaRepository.decline(tripId);
+    }
+
+    private static CancellationFeeCharge toCharge(CancellationFeeChargeJpaEntity entry) {
+        return new CancellationFeeCharge(
+            entry.getTripId(),
+            new TenantId(entry.getTenantId()),
+            new Money(entry.getAmount(), Currency.valueOf(entry.getCurrency())),
+            entry.getReason(),
+            entry.getCancelledAt()
+        );
+    }
+}
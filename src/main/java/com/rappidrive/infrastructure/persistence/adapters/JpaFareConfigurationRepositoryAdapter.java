@@ -3,12 +3,10 @@ package com.rappidrive.infrastructure.persistence.adapters;
 import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
 import com.rappidrive.domain.entities.FareConfiguration;
 import com.rappidrive.domain.valueobjects.TenantId;
-import com.rappidrive.infrastructure.config.CacheConfiguration;
+import com.rappidrive.infrastructure.persistence.cache.FareConfigurationNearCache;
 import com.rappidrive.infrastructure.persistence.entities.FareConfigurationJpaEntity;
 import com.rappidrive.infrastructure.persistence.mappers.FareConfigurationMapper;
 import com.rappidrive.infrastructure.persistence.repositories.SpringDataFareConfigurationRepository;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -19,19 +17,22 @@ public class JpaFareConfigurationRepositoryAdapter implements FareConfigurationR
     
     private final SpringDataFareConfigurationRepository jpaRepository;
     private final FareConfigurationMapper mapper;
+    private final FareConfigurationNearCache nearCache;
     
     public JpaFareConfigurationRepositoryAdapter(
             SpringDataFareConfigurationRepository jpaRepository,
-            FareConfigurationMapper mapper) {
+            FareConfigurationMapper mapper,
+            FareConfigurationNearCache nearCache) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.nearCache = nearCache;
     }
     
     @Override
-    @CacheEvict(cacheNames = CacheConfiguration.FARE_CONFIG_CACHE, key = "#fareConfiguration.getTenantId().getValue()")
     public FareConfiguration save(FareConfiguration fareConfiguration) {
         FareConfigurationJpaEntity entity = mapper.toJpaEntity(fareConfiguration);
         FareConfigurationJpaEntity saved = jpaRepository.save(entity);
+        nearCache.invalidate(fareConfiguration.getTenantId().getValue());
         return mapper.toDomain(saved);
     }
     
@@ -41,11 +42,12 @@ public class JpaFareConfigurationRepositoryAdapter implements FareConfigurationR
             .map(mapper::toDomain);
     }
     
+    /**
+     * Served from the near-cache; other nodes' writes reach it through change notifications.
+     */
     @Override
-    @Cacheable(cacheNames = CacheConfiguration.FARE_CONFIG_CACHE, key = "#tenantId.getValue()")
     public Optional<FareConfiguration> findByTenantId(TenantId tenantId) {
-        return jpaRepository.findByTenantId(tenantId.getValue())
-            .map(mapper::toDomain);
+        return nearCache.get(tenantId.getValue());
     }
     
     @Override
@@ -54,9 +56,9 @@ public class JpaFareConfigurationRepositoryAdapter implements FareConfigurationR
     }
     
     @Override
-    @CacheEvict(cacheNames = CacheConfiguration.FARE_CONFIG_CACHE, key = "#fareConfiguration.getTenantId().getValue()")
     public void delete(FareConfiguration fareConfiguration) {
         FareConfigurationJpaEntity entity = mapper.toJpaEntity(fareConfiguration);
         jpaRepository.delete(entity);
+        nearCache.invalidate(fareConfiguration.getTenantId().getValue());
     }
 }
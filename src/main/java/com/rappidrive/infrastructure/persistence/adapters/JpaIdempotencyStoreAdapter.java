@@ -0,0 +1,256 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rappidrive.application.exceptions.IdempotencyKeyConflictException;
+import com.rappidrive.application.ports.output.IdempotencyStorePort;
+import com.rappidrive.infrastructure.persistence.entities.IdempotencyKeyJpaEntity;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataIdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency keys stored in the {@code idempotency_keys} table (see V24 migration), fronted by
+ * an in-memory cache of recently completed keys.
+ *
+ * <p>A retry of a completed request is answered from the cache without touching the database.
+ * Concurrent duplicates on this node join the first request's in-flight result instead of racing
+ * for the key; duplicates on other nodes lose the insert on the primary key and poll the row until
+ * it completes. A reservation left behind by a node that died is taken over after
+ * {@code in-progress-timeout}.</p>
+ */
+@Component
+public class JpaIdempotencyStoreAdapter implements IdempotencyStorePort {
+
+    private static final Logger log = LoggerFactory.getLogger(JpaIdempotencyStoreAdapter.class);
+
+    private final SpringDataIdempotencyKeyRepository jpaRepository;
+    private final Cache<String, Completed> recent;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Duration retention;
+    private final Duration waitTimeout;
+    private final Duration inProgressTimeout;
+    private final Duration pollInterval;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public JpaIdempotencyStoreAdapter(
+            SpringDataIdempotencyKeyRepository jpaRepository,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.cache-size:100000}") long cacheSize,
+            @Value("${idempotency.retention-hours:24}") long retentionHours,
+            @Value("${idempotency.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${idempotency.in-progress-timeout-ms:60000}") long inProgressTimeoutMs,
+            @Value("${idempotency.poll-interval-ms:50}") long pollIntervalMs) {
+        this(jpaRepository, meterRegistry, cacheSize, Duration.ofHours(retentionHours),
+            Duration.ofMillis(waitTimeoutMs), Duration.ofMillis(inProgressTimeoutMs), Duration.ofMillis(pollIntervalMs),
+            Clock.systemDefaultZone());
+    }
+
+    JpaIdempotencyStoreAdapter(SpringDataIdempotencyKeyRepository jpaRepository, MeterRegistry meterRegistry,
+                               long cacheSize, Duration retention, Duration waitTimeout,
+                               Duration inProgressTimeout, Duration pollInterval, Clock clock) {
+        this.jpaRepository = jpaRepository;
+        this.meterRegistry = meterRegistry;
+        this.recent = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(retention)
+            .build();
+        this.retention = retention;
+        this.waitTimeout = waitTimeout;
+        this.inProgressTimeout = inProgressTimeout;
+        this.pollInterval = pollInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public IdempotentResult execute(IdempotentRequest request, Supplier<UUID> operation) {
+        String cacheKey = request.scope() + ':' + request.key();
+        String requestHash = sha256(request.fingerprint());
+
+        Completed completed = recent.getIfPresent(cacheKey);
+        if (completed != null) {
+            checkSameRequest(request, requestHash, completed.requestHash());
+            count(request, "replayed");
+            return new IdempotentResult(completed.resourceId(), true);
+        }
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            return join(request, requestHash, running);
+        }
+        try {
+            IdempotentResult result = executeOnce(request, cacheKey, requestHash, operation);
+            mine.resourceId().complete(result.resourceId());
+            return result;
+        } catch (RuntimeException e) {
+            mine.resourceId().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * Waits for a duplicate running on this node; its failure is this request's failure too.
+     */
+    private IdempotentResult join(IdempotentRequest request, String requestHash, InFlight running) {
+        checkSameRequest(request, requestHash, running.requestHash());
+        try {
+            UUID resourceId = running.resourceId().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            count(request, "joined");
+            return new IdempotentResult(resourceId, true);
+        } catch (TimeoutException e) {
+            throw IdempotencyKeyConflictException.stillInProgress(request.key());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Idempotent operation failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyKeyConflictException.stillInProgress(request.key());
+        }
+    }
+
+    private IdempotentResult executeOnce(IdempotentRequest request, String cacheKey, String requestHash,
+                                         Supplier<UUID> operation) {
+        if (jpaRepository.reserve(request.scope(), request.key(), requestHash, LocalDateTime.now(clock)) == 0) {
+            Optional<UUID> stored = awaitStored(request, cacheKey, requestHash);
+            if (stored.isPresent()) {
+                count(request, "replayed");
+                return new IdempotentResult(stored.get(), true);
+            }
+        }
+
+        UUID resourceId;
+        try {
+            resourceId = operation.get();
+        } catch (RuntimeException e) {
+            release(request);
+            throw e;
+        }
+        if (jpaRepository.complete(request.scope(), request.key(), resourceId, LocalDateTime.now(clock)) == 0) {
+            log.warn("Idempotency key {}/{} was no longer reserved when its request completed",
+                request.scope(), request.key());
+        }
+        recent.put(cacheKey, new Completed(requestHash, resourceId));
+        count(request, "executed");
+        return new IdempotentResult(resourceId, false);
+    }
+
+    /**
+     * Polls a key reserved by another request until it completes.
+     *
+     * @return the stored resource id, or empty if this request now holds the reservation because
+     *         the other one released it or went stale
+     */
+    private Optional<UUID> awaitStored(IdempotentRequest request, String cacheKey, String requestHash) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        IdempotencyKeyJpaEntity.Key id = new IdempotencyKeyJpaEntity.Key(request.scope(), request.key());
+        while (true) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Optional<IdempotencyKeyJpaEntity> row = jpaRepository.findById(id);
+            if (row.isEmpty()) {
+                if (jpaRepository.reserve(request.scope(), request.key(), requestHash, now) == 1) {
+                    return Optional.empty();
+                }
+                continue;
+            }
+
+            IdempotencyKeyJpaEntity key = row.get();
+            checkSameRequest(request, requestHash, key.getRequestHash());
+            if (key.isCompleted()) {
+                recent.put(cacheKey, new Completed(key.getRequestHash(), key.getResourceId()));
+                return Optional.of(key.getResourceId());
+            }
+            if (key.getCreatedAt().isBefore(now.minus(inProgressTimeout))
+                    && jpaRepository.takeOverStale(request.scope(), request.key(), now.minus(inProgressTimeout), now) == 1) {
+                log.warn("Took over stale idempotency key {}/{} reserved at {}",
+                    request.scope(), request.key(), key.getCreatedAt());
+                return Optional.empty();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw IdempotencyKeyConflictException.stillInProgress(request.key());
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw IdempotencyKeyConflictException.stillInProgress(request.key());
+            }
+        }
+    }
+
+    private void release(IdempotentRequest request) {
+        try {
+            jpaRepository.release(request.scope(), request.key());
+        } catch (RuntimeException e) {
+            log.error("Failed to release idempotency key {}/{}; it is taken over after {} ms",
+                request.scope(), request.key(), inProgressTimeout.toMillis(), e);
+        }
+    }
+
+    private void checkSameRequest(IdempotentRequest request, String requestHash, String storedHash) {
+        if (!storedHash.equals(requestHash)) {
+            count(request, "conflict");
+            throw IdempotencyKeyConflictException.reusedForDifferentRequest(request.key());
+        }
+    }
+
+    private void count(IdempotentRequest request, String outcome) {
+        Counter.builder("idempotency_requests_total")
+            .description("Requests carrying an idempotency key, by outcome")
+            .tag("scope", request.scope())
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = jpaRepository.deleteCreatedBefore(LocalDateTime.now(clock).minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} idempotency keys older than {} hours", purged, retention.toHours());
+        }
+    }
+
+    static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Completed(String requestHash, UUID resourceId) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<UUID> resourceId) {
+    }
+}
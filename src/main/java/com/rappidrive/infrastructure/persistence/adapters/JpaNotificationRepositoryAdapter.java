@@ -9,9 +9,10 @@ import com.rappidrive.infrastructure.persistence.entities.NotificationJpaEntity;
 import com.rappidrive.infrastructure.persistence.mappers.NotificationMapper;
 import com.rappidrive.infrastructure.persistence.repositories.SpringDataNotificationRepository;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,14 +23,23 @@ import java.util.UUID;
 @Component
 public class JpaNotificationRepositoryAdapter implements NotificationRepositoryPort {
     
+    private static final String INSERT_IF_KEY_ABSENT_SQL =
+        "INSERT INTO notifications (id, user_id, type, priority, title, message, data, status, idempotency_key, "
+            + "tenant_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (idempotency_key) DO NOTHING";
+    private static final NotificationJpaEntity.JsonbMapConverter JSONB = new NotificationJpaEntity.JsonbMapConverter();
+    
     private final SpringDataNotificationRepository jpaRepository;
     private final NotificationMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
     
     public JpaNotificationRepositoryAdapter(
             SpringDataNotificationRepository jpaRepository,
-            NotificationMapper mapper) {
+            NotificationMapper mapper,
+            JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     @Override
@@ -39,6 +49,30 @@ public class JpaNotificationRepositoryAdapter implements NotificationRepositoryP
         return mapper.toDomain(saved);
     }
     
+    /**
+     * Insert direto em SQL: com JPA a chave repetida só apareceria no flush, como violação da
+     * restrição única, e abortaria a transação.
+     */
+    @Override
+    public Optional<Notification> saveIfIdempotencyKeyAbsent(Notification notification) {
+        NotificationJpaEntity entity = mapper.toJpaEntity(notification);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        int inserted = jdbcTemplate.update(INSERT_IF_KEY_ABSENT_SQL,
+            entity.getId(),
+            entity.getUserId(),
+            entity.getType(),
+            entity.getPriority(),
+            entity.getTitle(),
+            entity.getMessage(),
+            JSONB.convertToDatabaseColumn(entity.getData()),
+            entity.getStatus(),
+            entity.getIdempotencyKey(),
+            entity.getTenantId(),
+            Timestamp.valueOf(entity.getCreatedAt()),
+            now);
+        return inserted == 1 ? Optional.of(notification) : Optional.empty();
+    }
+    
     @Override
     public Optional<Notification> findById(UUID id) {
         return jpaRepository.findById(id)
@@ -92,20 +126,6 @@ public class JpaNotificationRepositoryAdapter implements NotificationRepositoryP
         return count != null ? count : 0L;
     }
     
-    @Override
-    public void deleteOldNotifications(LocalDateTime cutoffDate) {
-        // Lidas: 30 dias após leitura
-        LocalDateTime readCutoff = LocalDateTime.now().minusDays(30);
-        
-        // Não lidas: 90 dias após criação
-        LocalDateTime oldCutoff = LocalDateTime.now().minusDays(90);
-        
-        // Falhas: 7 dias após falha
-        LocalDateTime failedCutoff = LocalDateTime.now().minusDays(7);
-        
-        jpaRepository.softDeleteOldNotifications(readCutoff, oldCutoff, failedCutoff);
-    }
-    
     @Override
     public boolean existsByIdempotencyKey(String idempotencyKey, TenantId tenantId) {
         return jpaRepository.existsByIdempotencyKeyAndTenantIdAndDeletedAtIsNull(
@@ -4,21 +4,56 @@ import com.rappidrive.application.ports.output.OutboxRepositoryPort;
 import com.rappidrive.domain.outbox.OutboxEvent;
 import com.rappidrive.infrastructure.persistence.entities.OutboxEventJpaEntity;
 import com.rappidrive.infrastructure.persistence.repositories.SpringDataOutboxRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Outbox rows are stamped and looked up in UTC, the time base the {@code outbox_event} partitions
+ * are laid out in (see V19 and {@code OutboxPartitionMaintenanceJob}).
+ */
 @Component
-@RequiredArgsConstructor
 public class JpaOutboxRepository implements OutboxRepositoryPort {
 
+    private static final LocalDateTime SWEEP_LOWER_BOUND = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final SpringDataOutboxRepository repository;
+    private final Clock clock;
+
+    /**
+     * Pending lookups normally only scan partitions created within this window.
+     */
+    @Value("${outbox.partitioning.pending-lookback-hours:72}")
+    private long pendingLookbackHours = 72;
+
+    /**
+     * Every this often a poll scans all partitions instead, and keeps doing so while it finds
+     * PENDING events older than the lookback (a consumer outage, a long backoff, rows left in the
+     * legacy partition), so those are delivered late rather than never.
+     */
+    @Value("${outbox.partitioning.stale-sweep-interval-ms:600000}")
+    private long staleSweepIntervalMs = 600_000;
+
+    private volatile long nextStaleSweepAt;
+
+    @Autowired
+    public JpaOutboxRepository(SpringDataOutboxRepository repository) {
+        this(repository, Clock.systemUTC());
+    }
+
+    JpaOutboxRepository(SpringDataOutboxRepository repository, Clock clock) {
+        this.repository = repository;
+        this.clock = clock;
+    }
 
     @Override
     public void save(OutboxEvent event) {
@@ -39,37 +74,22 @@ public class JpaOutboxRepository implements OutboxRepositoryPort {
 
     @Override
     public List<OutboxEvent> findPendingBatch(LocalDateTime now, int limit) {
-        return repository.findPending(now, PageRequest.of(0, limit)).stream()
-            .map(this::toDomain)
-            .collect(Collectors.toList());
+        return pollPending(createdAfter -> repository.findPending(now, createdAfter, PageRequest.of(0, limit)));
     }
 
     @Override
-    public void markSent(UUID id) {
-        repository.findById(id).ifPresent(e -> {
-            if (!"SENT".equals(e.getStatus())) {
-                e.setStatus("SENT");
-                e.setSentAt(LocalDateTime.now());
-                repository.save(e);
-            }
-        });
+    public void markSent(UUID id, LocalDateTime createdAt) {
+        repository.markSent(id, createdAt, LocalDateTime.now(clock));
     }
 
     @Override
-    public void incrementAttempts(UUID id, LocalDateTime nextAttemptAt) {
-        repository.findById(id).ifPresent(e -> {
-            e.setAttempts(e.getAttempts() + 1);
-            e.setNextAttemptAt(nextAttemptAt);
-            repository.save(e);
-        });
+    public void incrementAttempts(UUID id, LocalDateTime createdAt, LocalDateTime nextAttemptAt) {
+        repository.incrementAttempts(id, createdAt, nextAttemptAt);
     }
 
     @Override
-    public void markFailed(UUID id) {
-        repository.findById(id).ifPresent(e -> {
-            e.setStatus("FAILED");
-            repository.save(e);
-        });
+    public void markFailed(UUID id, LocalDateTime createdAt) {
+        repository.markFailed(id, createdAt);
     }
 
     @Override
@@ -79,7 +99,17 @@ public class JpaOutboxRepository implements OutboxRepositoryPort {
 
     // Não sobrescreve interface, é método utilitário
     public List<OutboxEvent> findPendingForUpdate(int limit) {
-        return repository.findPendingForUpdate(limit).stream()
+        return pollPending(createdAfter -> repository.findPendingForUpdate(createdAfter, limit));
+    }
+
+    private List<OutboxEvent> pollPending(Function<LocalDateTime, List<OutboxEventJpaEntity>> query) {
+        LocalDateTime lookbackStart = LocalDateTime.now(clock).minusHours(pendingLookbackHours);
+        boolean sweep = clock.millis() >= nextStaleSweepAt;
+        List<OutboxEventJpaEntity> rows = query.apply(sweep ? SWEEP_LOWER_BOUND : lookbackStart);
+        if (sweep && rows.stream().noneMatch(row -> row.getCreatedAt().isBefore(lookbackStart))) {
+            nextStaleSweepAt = clock.millis() + staleSweepIntervalMs;
+        }
+        return rows.stream()
             .map(this::toDomain)
             .collect(Collectors.toList());
     }
@@ -1,12 +1,20 @@
 package com.rappidrive.infrastructure.persistence.adapters;
 
+import com.rappidrive.application.ports.output.LedgerRepositoryPort;
 import com.rappidrive.application.ports.output.PaymentRepositoryPort;
 import com.rappidrive.domain.entities.Payment;
+import com.rappidrive.domain.enums.JournalEntryType;
+import com.rappidrive.domain.enums.PaymentStatus;
+import com.rappidrive.domain.services.LedgerPostingService;
 import com.rappidrive.domain.valueobjects.TenantId;
 import com.rappidrive.infrastructure.persistence.entities.PaymentJpaEntity;
 import com.rappidrive.infrastructure.persistence.mappers.PaymentMapper;
 import com.rappidrive.infrastructure.persistence.repositories.SpringDataPaymentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,27 +24,65 @@ import java.util.stream.Collectors;
 
 /**
  * Adapter implementing PaymentRepositoryPort using JPA.
+ * A save that completes or refunds a payment appends its ledger entry in the same transaction.
+ * The status change and the driver to credit come from the aggregate, so other saves run no
+ * extra queries and open no transaction of their own.
  */
 @Component
 public class JpaPaymentRepositoryAdapter implements PaymentRepositoryPort {
     
+    private static final Logger log = LoggerFactory.getLogger(JpaPaymentRepositoryAdapter.class);
+    
     private final SpringDataPaymentRepository jpaRepository;
     private final PaymentMapper mapper;
+    private final LedgerRepositoryPort ledgerRepository;
+    private final LedgerPostingService postingService;
+    private final TransactionTemplate writeTransaction;
     
     public JpaPaymentRepositoryAdapter(
             SpringDataPaymentRepository jpaRepository,
-            PaymentMapper mapper) {
+            PaymentMapper mapper,
+            LedgerRepositoryPort ledgerRepository,
+            LedgerPostingService postingService,
+            PlatformTransactionManager transactionManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.ledgerRepository = ledgerRepository;
+        this.postingService = postingService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
     }
     
     @Override
     public Payment save(Payment payment) {
+        PaymentStatus previousStatus = payment.getPersistedStatus();
         PaymentJpaEntity entity = mapper.toJpaEntity(payment);
-        PaymentJpaEntity saved = jpaRepository.save(entity);
+        PaymentJpaEntity saved;
+        if (payment.getStatus() != previousStatus && payment.getStatus().isFinal()) {
+            saved = writeTransaction.execute(status -> {
+                PaymentJpaEntity written = jpaRepository.save(entity);
+                postToLedger(payment, previousStatus);
+                return written;
+            });
+        } else {
+            saved = jpaRepository.save(entity);
+        }
+        payment.markPersisted();
         return mapper.toDomain(saved);
     }
     
+    private void postToLedger(Payment payment, PaymentStatus previousStatus) {
+        UUID driverId = payment.getDriverId().orElse(null);
+        postingService.entryFor(payment, previousStatus, driverId).ifPresent(entry -> {
+            if (entry.type() == JournalEntryType.PAYMENT_REFUNDED
+                    && !ledgerRepository.isRecorded(JournalEntryType.PAYMENT_COMPLETED, payment.getId())) {
+                // completed before the ledger existed: there is nothing to reverse
+                log.warn("Refund of payment {} not posted: its completion is not in the ledger", payment.getId());
+                return;
+            }
+            ledgerRepository.append(entry);
+        });
+    }
+    
     @Override
     public Optional<Payment> findById(UUID id) {
         return jpaRepository.findById(id)
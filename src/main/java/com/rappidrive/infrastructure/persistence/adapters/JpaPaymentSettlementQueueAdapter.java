@@ -0,0 +1,74 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.PaymentSettlementQueuePort;
+import com.rappidrive.infrastructure.persistence.entities.PaymentSettlementJpaEntity;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataPaymentSettlementRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class JpaPaymentSettlementQueueAdapter implements PaymentSettlementQueuePort {
+    
+    private final SpringDataPaymentSettlementRepository jpaRepository;
+    
+    public JpaPaymentSettlementQueueAdapter(SpringDataPaymentSettlementRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    public void enqueue(UUID paymentId, LocalDateTime dueAt) {
+        jpaRepository.save(new PaymentSettlementJpaEntity(paymentId, 0, dueAt, LocalDateTime.now()));
+    }
+    
+    /**
+     * The row locks only last for this short transaction; the lease written here is what keeps
+     * other nodes off the entries while their gateway calls run.
+     */
+    @Override
+    @Transactional
+    public List<ClaimedSettlement> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<PaymentSettlementJpaEntity> due = jpaRepository.findDueForUpdate(now, limit);
+        List<ClaimedSettlement> claimed = new ArrayList<>(due.size());
+        for (PaymentSettlementJpaEntity entry : due) {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setDueAt(leaseUntil);
+            claimed.add(new ClaimedSettlement(entry.getPaymentId(), entry.getAttempts()));
+        }
+        return claimed;
+    }
+    
+    @Override
+    @Transactional
+    public void reschedule(UUID paymentId, LocalDateTime dueAt) {
+        jpaRepository.reschedule(paymentId, dueAt);
+    }
+    
+    @Override
+    @Transactional
+    public void park(UUID paymentId) {
+        jpaRepository.park(paymentId);
+    }
+    
+    @Override
+    @Transactional
+    public List<ClaimedSettlement> claimParked(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<PaymentSettlementJpaEntity> parked = jpaRepository.findParkedForUpdate(now, limit);
+        List<ClaimedSettlement> claimed = new ArrayList<>(parked.size());
+        for (PaymentSettlementJpaEntity entry : parked) {
+            entry.setDueAt(leaseUntil);
+            claimed.add(new ClaimedSettlement(entry.getPaymentId(), entry.getAttempts()));
+        }
+        return claimed;
+    }
+    
+    @Override
+    @Transactional
+    public void remove(UUID paymentId) {
+        jpaRepository.deleteByPaymentId(paymentId);
+    }
+}
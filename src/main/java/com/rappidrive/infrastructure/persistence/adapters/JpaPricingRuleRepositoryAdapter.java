@@ -0,0 +1,61 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.PricingRuleRepositoryPort;
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.persistence.cache.PricingTableCache;
+import com.rappidrive.infrastructure.persistence.entities.PricingRuleJpaEntity;
+import com.rappidrive.infrastructure.persistence.mappers.PricingRuleMapper;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataPricingRuleRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class JpaPricingRuleRepositoryAdapter implements PricingRuleRepositoryPort {
+    
+    private final SpringDataPricingRuleRepository jpaRepository;
+    private final PricingRuleMapper mapper;
+    private final PricingTableCache pricingTableCache;
+    
+    public JpaPricingRuleRepositoryAdapter(
+            SpringDataPricingRuleRepository jpaRepository,
+            PricingRuleMapper mapper,
+            PricingTableCache pricingTableCache) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.pricingTableCache = pricingTableCache;
+    }
+    
+    @Override
+    public List<PricingRule> findByTenantId(TenantId tenantId) {
+        return jpaRepository.findByTenantIdOrderBySortOrderAsc(tenantId.getValue()).stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+    
+    /**
+     * Deletes and re-inserts the tenant's rules in one transaction; the V22 trigger announces the
+     * change to the other nodes on commit.
+     */
+    @Override
+    @Transactional
+    public List<PricingRule> replaceAll(TenantId tenantId, List<PricingRule> rules) {
+        UUID tenant = tenantId.getValue();
+        jpaRepository.deleteAllByTenantId(tenant);
+        LocalDateTime now = LocalDateTime.now();
+        List<PricingRuleJpaEntity> entities = new ArrayList<>(rules.size());
+        for (int position = 0; position < rules.size(); position++) {
+            entities.add(mapper.toJpaEntity(rules.get(position), tenant, position, now));
+        }
+        List<PricingRule> saved = jpaRepository.saveAll(entities).stream()
+            .map(mapper::toDomain)
+            .toList();
+        pricingTableCache.invalidate(tenant);
+        return saved;
+    }
+}
@@ -42,6 +42,12 @@ public class JpaRatingRepositoryAdapter implements RatingRepositoryPort {
             .map(mapper::toDomain);
     }
     
+    @Override
+    public Optional<Rating> findByIdForUpdate(UUID id) {
+        return jpaRepository.findByIdForUpdate(id)
+            .map(mapper::toDomain);
+    }
+    
     @Override
     public Optional<Rating> findByTripIdAndRaterIdAndType(UUID tripId, UUID raterId, RatingType type) {
         return jpaRepository.findByTripIdAndRaterIdAndType(tripId, raterId, type.name())
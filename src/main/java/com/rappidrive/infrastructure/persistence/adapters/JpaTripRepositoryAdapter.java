@@ -1,9 +1,14 @@
 package com.rappidrive.infrastructure.persistence.adapters;
 
+import com.rappidrive.application.ports.output.OutboxRepositoryPort;
 import com.rappidrive.application.ports.output.TripRepositoryPort;
 import com.rappidrive.domain.entities.Trip;
 import com.rappidrive.domain.enums.TripStatus;
+import com.rappidrive.domain.events.DomainEvent;
+import com.rappidrive.domain.events.DomainEventsCollector;
+import com.rappidrive.domain.outbox.OutboxEvent;
 import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.messaging.DomainEventSerializer;
 import com.rappidrive.infrastructure.persistence.entities.TripJpaEntity;
 import com.rappidrive.infrastructure.persistence.mappers.TripMapper;
 import com.rappidrive.infrastructure.persistence.repositories.SpringDataTripRepository;
@@ -11,7 +16,10 @@ import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,11 +30,16 @@ public class JpaTripRepositoryAdapter implements TripRepositoryPort {
     
     private final SpringDataTripRepository jpaRepository;
     private final TripMapper mapper;
-    private final com.rappidrive.application.ports.output.OutboxRepositoryPort outboxRepository;
-    private final com.fasterxml.jackson.databind.ObjectMapper objectMapper;
+    private final OutboxRepositoryPort outboxRepository;
+    private final DomainEventSerializer eventSerializer;
     private final Tracer tracer;
     
+    /**
+     * Saves the trip and writes its pending domain events to the outbox in one transaction, so a
+     * state change is never committed without its events.
+     */
     @Override
+    @Transactional
     public Trip save(Trip trip) {
         TripJpaEntity entity;
         
@@ -41,30 +54,28 @@ public class JpaTripRepositoryAdapter implements TripRepositoryPort {
         try {
             TripJpaEntity saved = jpaRepository.save(entity);
 
-            try {
-                java.util.List<com.rappidrive.domain.events.DomainEvent> events = com.rappidrive.domain.events.DomainEventsCollector.instance().drain();
-                java.time.LocalDateTime now = java.time.LocalDateTime.now();
+            List<DomainEvent> events = DomainEventsCollector.instance().drain();
+            if (!events.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                // created_at is the outbox partition key, whose partitions are laid out in UTC
+                LocalDateTime createdAt = LocalDateTime.now(ZoneOffset.UTC);
                 String traceId = currentTraceId();
                 String spanId = currentSpanId();
-                for (com.rappidrive.domain.events.DomainEvent event : events) {
-                    java.util.UUID aggregateId = extractAggregateId(event, saved);
-                    String payload = objectMapper.writeValueAsString(event);
-                    com.rappidrive.domain.outbox.OutboxEvent outboxEvent = new com.rappidrive.domain.outbox.OutboxEvent(
-                        java.util.UUID.randomUUID(),
+                for (DomainEvent event : events) {
+                    UUID aggregateId = event.aggregateId() != null ? event.aggregateId() : saved.getId();
+                    outboxRepository.save(new OutboxEvent(
+                        UUID.randomUUID(),
                         aggregateId,
-                        event.getClass().getSimpleName(),
-                        payload,
+                        eventSerializer.eventType(event),
+                        eventSerializer.serialize(event),
                         "PENDING",
                         0,
                         now,
-                        now,
+                        createdAt,
                         traceId,
                         spanId
-                    );
-                    outboxRepository.save(outboxEvent);
+                    ));
                 }
-            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-                throw new RuntimeException("Failed to serialize domain event for outbox", e);
             }
 
             return mapper.toDomain(saved);
@@ -122,47 +133,6 @@ public class JpaTripRepositoryAdapter implements TripRepositoryPort {
         jpaRepository.deleteById(id);
     }
 
-    /**
-     * Try to extract aggregate id from event using common conventions (tripId, aggregateId, getTripId, etc.).
-     * Falls back to the saved Trip id when not found.
-     */
-    private java.util.UUID extractAggregateId(com.rappidrive.domain.events.DomainEvent event, TripJpaEntity saved) {
-        try {
-            // Common method names to search
-            String[] methodNames = {"tripId", "getTripId", "aggregateId", "getAggregateId", "getId", "id"};
-            for (String name : methodNames) {
-                try {
-                    java.lang.reflect.Method m = event.getClass().getMethod(name);
-                    Object result = m.invoke(event);
-                    if (result == null) continue;
-
-                    // If it's a UUID directly
-                    if (result instanceof java.util.UUID) return (java.util.UUID) result;
-
-                    // If it's a value object with getValue() returning UUID
-                    try {
-                        java.lang.reflect.Method getValue = result.getClass().getMethod("getValue");
-                        Object val = getValue.invoke(result);
-                        if (val instanceof java.util.UUID) return (java.util.UUID) val;
-                    } catch (NoSuchMethodException ignored) {}
-
-                    // If it's a string that can be parsed as UUID
-                    if (result instanceof String) {
-                        try {
-                            return java.util.UUID.fromString((String) result);
-                        } catch (IllegalArgumentException ignored) {}
-                    }
-                } catch (NoSuchMethodException ignored) {
-                    // try next
-                }
-            }
-        } catch (Exception e) {
-            // ignore and fallback
-        }
-
-        return saved.getId();
-    }
-
     private String currentTraceId() {
         Span span = tracer != null ? tracer.currentSpan() : null;
         return span != null ? span.context().traceId() : null;
@@ -0,0 +1,26 @@
+package com.rappidrive.infrastructure.persistence.cache;
+
+import com.rappidrive.application.ports.output.NotificationIdempotencyFilterPort;
+import com.rappidrive.domain.valueobjects.TenantId;
+
+/**
+ * Idempotency key filter used when {@code notification.idempotency-filter.enabled=false}: it keeps
+ * no keys and answers {@link Lookup#NOT_READY}, so every keyed send checks the database.
+ */
+public class DisabledNotificationIdempotencyFilter implements NotificationIdempotencyFilterPort {
+
+    @Override
+    public Lookup check(TenantId tenantId, String idempotencyKey) {
+        return Lookup.NOT_READY;
+    }
+
+    @Override
+    public void add(TenantId tenantId, String idempotencyKey) {
+        // nothing is kept
+    }
+
+    @Override
+    public void recordFalsePositive(TenantId tenantId) {
+        // never answers MAYBE
+    }
+}
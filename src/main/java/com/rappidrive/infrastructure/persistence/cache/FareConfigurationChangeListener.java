@@ -0,0 +1,145 @@
+package com.rappidrive.infrastructure.persistence.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Listens on the {@code fare_configuration_changed} Postgres channel and forwards every change to
+ * the {@link FareConfigurationNearCache}, and, when given a {@link PricingTableCache}, on
+ * {@code pricing_rules_changed} to evict compiled pricing tables.
+ *
+ * <p>Holds one connection of the pool for the lifetime of the application. Whenever the
+ * connection is (re)established the caches are dropped, because notifications sent while
+ * nobody was listening are lost.</p>
+ */
+public class FareConfigurationChangeListener implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FareConfigurationChangeListener.class);
+
+    public static final String CHANNEL = "fare_configuration_changed";
+    public static final String PRICING_RULES_CHANNEL = "pricing_rules_changed";
+
+    private final DataSource dataSource;
+    private final FareConfigurationNearCache nearCache;
+    private final PricingTableCache pricingTableCache;
+    private final int pollTimeoutMillis;
+    private final Duration reconnectBackoff;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public FareConfigurationChangeListener(DataSource dataSource, FareConfigurationNearCache nearCache,
+                                           Duration pollTimeout, Duration reconnectBackoff) {
+        this(dataSource, nearCache, null, pollTimeout, reconnectBackoff);
+    }
+
+    public FareConfigurationChangeListener(DataSource dataSource, FareConfigurationNearCache nearCache,
+                                           PricingTableCache pricingTableCache,
+                                           Duration pollTimeout, Duration reconnectBackoff) {
+        this.dataSource = dataSource;
+        this.nearCache = nearCache;
+        this.pricingTableCache = pricingTableCache;
+        this.pollTimeoutMillis = (int) Math.max(1, pollTimeout.toMillis());
+        this.reconnectBackoff = reconnectBackoff;
+        // platform thread: the driver blocks on the socket while holding a monitor
+        this.worker = Thread.ofPlatform().daemon().name("fare-config-listener").unstarted(this::run);
+    }
+
+    public void start() {
+        worker.start();
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    if (pricingTableCache != null) {
+                        statement.execute("LISTEN " + PRICING_RULES_CHANNEL);
+                    }
+                }
+                invalidateAll();
+                log.info("[FARE_CONFIG_CACHE_LISTEN] channel={} pricingRules={}", CHANNEL, pricingTableCache != null);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            if (PRICING_RULES_CHANNEL.equals(notification.getName())) {
+                                applyPricingRules(notification.getParameter());
+                            } else {
+                                apply(notification.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[FARE_CONFIG_CACHE_RECONNECT] listener connection lost, retrying in {}ms: {}",
+                    reconnectBackoff.toMillis(), e.getMessage());
+                invalidateAll();
+                try {
+                    Thread.sleep(reconnectBackoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a {@code <tenant id>:<version>} payload; anything else drops the whole cache.
+     */
+    void apply(String payload) {
+        int separator = payload == null ? -1 : payload.indexOf(':');
+        try {
+            if (separator > 0) {
+                UUID tenantId = UUID.fromString(payload.substring(0, separator));
+                long version = Long.parseLong(payload.substring(separator + 1));
+                nearCache.onChange(tenantId, version);
+                return;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through
+        }
+        log.warn("[FARE_CONFIG_CACHE_INVALID_PAYLOAD] payload={}", payload);
+        nearCache.invalidateAll();
+    }
+
+    /**
+     * Applies a {@code <tenant id>} payload; anything else drops every compiled pricing table.
+     */
+    void applyPricingRules(String payload) {
+        try {
+            pricingTableCache.invalidate(UUID.fromString(payload));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("[FARE_CONFIG_CACHE_INVALID_PAYLOAD] channel={} payload={}", PRICING_RULES_CHANNEL, payload);
+            pricingTableCache.invalidateAll();
+        }
+    }
+
+    private void invalidateAll() {
+        nearCache.invalidateAll();
+        if (pricingTableCache != null) {
+            pricingTableCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        worker.join(pollTimeoutMillis * 2L + reconnectBackoff.toMillis());
+    }
+}
@@ -0,0 +1,110 @@
+package com.rappidrive.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.rappidrive.domain.entities.FareConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Per-node cache of fare configurations by tenant, kept coherent across nodes by change
+ * notifications (see {@link FareConfigurationChangeListener} and the V21 migration).
+ *
+ * <p>Every entry carries the row's {@code config_version}, which the database bumps on each write
+ * and sends along with the notification. A notification only evicts entries older than the version
+ * it announces, so duplicates and the writer's own echo do not cause extra reloads. Entries older
+ * than {@code refreshAhead} are reloaded in the background on the next read while the cached value
+ * keeps being served; {@code maxStaleness} only bounds how long an entry can survive if
+ * notifications are lost without the listener noticing.</p>
+ */
+public class FareConfigurationNearCache {
+
+    public static final String CACHE_NAME = "fareConfigByTenant";
+
+    private final LoadingCache<UUID, Versioned> cache;
+    private final Counter invalidationsApplied;
+    private final Counter invalidationsIgnored;
+
+    public FareConfigurationNearCache(Function<UUID, Versioned> loader, MeterRegistry meterRegistry,
+                                      Duration refreshAhead, Duration maxStaleness, long maximumSize) {
+        this(loader, meterRegistry, refreshAhead, maxStaleness, maximumSize, Ticker.systemTicker(),
+            ForkJoinPool.commonPool());
+    }
+
+    FareConfigurationNearCache(Function<UUID, Versioned> loader, MeterRegistry meterRegistry,
+                               Duration refreshAhead, Duration maxStaleness, long maximumSize,
+                               Ticker ticker, Executor refreshExecutor) {
+        if (refreshAhead.compareTo(maxStaleness) >= 0) {
+            throw new IllegalArgumentException("Refresh-ahead interval must be shorter than the maximum staleness");
+        }
+        this.cache = Caffeine.newBuilder()
+            .refreshAfterWrite(refreshAhead)
+            .expireAfterWrite(maxStaleness)
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .executor(refreshExecutor)
+            .recordStats()
+            .build(loader::apply);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidationsApplied = Counter.builder("fare_config_cache_invalidations_total")
+            .description("Change notifications that evicted a cached fare configuration")
+            .tag("outcome", "applied")
+            .register(meterRegistry);
+        this.invalidationsIgnored = Counter.builder("fare_config_cache_invalidations_total")
+            .description("Change notifications that evicted a cached fare configuration")
+            .tag("outcome", "ignored")
+            .register(meterRegistry);
+    }
+
+    public Optional<FareConfiguration> get(UUID tenantId) {
+        return cache.get(tenantId).configuration();
+    }
+
+    /**
+     * Handles a change announced by the database. Also evicts when nothing is cached yet, which
+     * discards a load that may have read the row before the change committed.
+     */
+    public void onChange(UUID tenantId, long version) {
+        Versioned cached = cache.policy().getIfPresentQuietly(tenantId);
+        if (cached != null && cached.version() >= version) {
+            invalidationsIgnored.increment();
+            return;
+        }
+        cache.invalidate(tenantId);
+        invalidationsApplied.increment();
+    }
+
+    /**
+     * Evicts a tenant's entry after a local write, before the change notification arrives.
+     */
+    public void invalidate(UUID tenantId) {
+        cache.invalidate(tenantId);
+    }
+
+    /**
+     * Evicts everything, used when notifications may have been missed.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Fare configuration of a tenant with the version it was read at; absent configurations are
+     * cached too, with version 0.
+     */
+    public record Versioned(Optional<FareConfiguration> configuration, long version) {
+
+        public static Versioned absent() {
+            return new Versioned(Optional.empty(), 0L);
+        }
+    }
+}
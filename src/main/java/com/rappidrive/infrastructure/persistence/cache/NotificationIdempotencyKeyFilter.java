@@ -0,0 +1,239 @@
+package com.rappidrive.infrastructure.persistence.cache;
+
+import com.rappidrive.application.ports.output.NotificationIdempotencyFilterPort;
+import com.rappidrive.domain.valueobjects.TenantId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-node Bloom filters of the notification idempotency keys seen recently, one per tenant.
+ *
+ * <p>Each tenant has two generations of {@code window} length: keys go into the current one and
+ * lookups check both, so every key stays known for at least one window. When the current
+ * generation is a window old it becomes the previous one and the old previous one is dropped,
+ * since a Bloom filter cannot forget single keys. Generations are sized for
+ * {@code expectedKeys} per tenant and window at {@code falsePositiveRate}; a tenant sending more
+ * keys than that sees a higher false-positive rate, not wrong answers. The startup rebuild loads
+ * the keys of the last window, so it fills the previous generation and leaves the current one to
+ * the window ahead; neither holds more than one window of keys.</p>
+ *
+ * <p>Until {@link #markWarm()} is called after the startup rebuild, every lookup answers
+ * {@link Lookup#NOT_READY}, which only costs the database check the filter would have saved.
+ * Keys first used on other nodes, or longer ago than the window, are not known here either; for
+ * those the unique constraint on {@code idempotency_key} catches the duplicate.</p>
+ */
+public class NotificationIdempotencyKeyFilter implements NotificationIdempotencyFilterPort {
+
+    private final Map<UUID, Generations> filters = new ConcurrentHashMap<>();
+    private final long bits;
+    private final int hashes;
+    private final Duration window;
+    private final Clock clock;
+    private final Counter definiteMisses;
+    private final Counter possibleHits;
+    private final Counter coldChecks;
+    private final Counter falsePositives;
+    private volatile boolean warm;
+
+    public NotificationIdempotencyKeyFilter(MeterRegistry meterRegistry, long expectedKeys,
+                                            double falsePositiveRate, Duration window) {
+        this(meterRegistry, expectedKeys, falsePositiveRate, window, Clock.systemUTC());
+    }
+
+    NotificationIdempotencyKeyFilter(MeterRegistry meterRegistry, long expectedKeys, double falsePositiveRate,
+                                     Duration window, Clock clock) {
+        if (expectedKeys <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected keys must be positive and the false-positive rate in (0, 1)");
+        }
+        double ln2 = Math.log(2);
+        this.bits = Math.max(64, (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedKeys * ln2));
+        this.window = window;
+        this.clock = clock;
+        this.definiteMisses = checksCounter(meterRegistry, "definite_miss");
+        this.possibleHits = checksCounter(meterRegistry, "possible_hit");
+        this.coldChecks = checksCounter(meterRegistry, "cold");
+        this.falsePositives = Counter.builder("notification_idempotency_filter_false_positives_total")
+            .description("Possible hits of the idempotency key filter that the database did not confirm")
+            .register(meterRegistry);
+        Gauge.builder("notification_idempotency_filter_tenants", filters, Map::size)
+            .description("Tenants with an idempotency key filter on this node")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Lookup check(TenantId tenantId, String idempotencyKey) {
+        if (!warm) {
+            coldChecks.increment();
+            return Lookup.NOT_READY;
+        }
+        Generations generations = filters.get(tenantId.getValue());
+        long[] hash = hash(idempotencyKey);
+        boolean possible = generations != null && generations.mightContain(hash, now());
+        (possible ? possibleHits : definiteMisses).increment();
+        return possible ? Lookup.MAYBE : Lookup.DEFINITELY_ABSENT;
+    }
+
+    @Override
+    public void add(TenantId tenantId, String idempotencyKey) {
+        generations(tenantId.getValue()).add(hash(idempotencyKey), now());
+    }
+
+    /**
+     * Adds a key of the last window during the startup rebuild, before the filter is warm.
+     */
+    public void addRebuilt(UUID tenantId, String idempotencyKey) {
+        generations(tenantId).addPrevious(hash(idempotencyKey));
+    }
+
+    @Override
+    public void recordFalsePositive(TenantId tenantId) {
+        falsePositives.increment();
+    }
+
+    /**
+     * Starts answering lookups from the filters; called once the rebuild has loaded the window.
+     */
+    public void markWarm() {
+        warm = true;
+    }
+
+    private Generations generations(UUID tenantId) {
+        return filters.computeIfAbsent(tenantId, id -> new Generations(now()));
+    }
+
+    private Instant now() {
+        return clock.instant();
+    }
+
+    /**
+     * 64-bit FNV-1a of the key's UTF-8 bytes, mixed into two independent halves that derive the
+     * probe positions (Kirsch-Mitzenmacher double hashing).
+     */
+    private static long[] hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9e3779b97f4a7c15L) | 1L;
+        return new long[] {h1, h2};
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static Counter checksCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notification_idempotency_filter_checks_total")
+            .description("Idempotency key lookups answered by the filter; definite misses skipped the database")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private final class Generations {
+
+        private volatile BloomFilter current;
+        private volatile BloomFilter previous;
+        private volatile Instant currentSince;
+
+        private Generations(Instant now) {
+            this.current = new BloomFilter(bits, hashes);
+            this.currentSince = now;
+        }
+
+        boolean mightContain(long[] hash, Instant now) {
+            rotateIfDue(now);
+            BloomFilter older = previous;
+            return current.mightContain(hash) || (older != null && older.mightContain(hash));
+        }
+
+        void add(long[] hash, Instant now) {
+            rotateIfDue(now);
+            current.add(hash);
+        }
+
+        /**
+         * Only used by the rebuild, which runs within the first window, so no rotation is due.
+         */
+        synchronized void addPrevious(long[] hash) {
+            if (previous == null) {
+                previous = new BloomFilter(bits, hashes);
+            }
+            previous.add(hash);
+        }
+
+        private void rotateIfDue(Instant now) {
+            if (now.isBefore(currentSince.plus(window))) {
+                return;
+            }
+            synchronized (this) {
+                if (now.isBefore(currentSince.plus(window))) {
+                    return;
+                }
+                // a second elapsed window means the current generation is too old to keep as well
+                previous = now.isBefore(currentSince.plus(window).plus(window)) ? current : null;
+                current = new BloomFilter(bits, hashes);
+                currentSince = now;
+            }
+        }
+    }
+
+    /**
+     * Fixed-size Bloom filter over a lock-free bit array.
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bits;
+        private final int hashes;
+
+        BloomFilter(long bits, int hashes) {
+            this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+            this.bits = (long) words.length() * 64;
+            this.hashes = hashes;
+        }
+
+        void add(long[] hash) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = index(hash, i);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long value;
+                do {
+                    value = words.get(word);
+                    if ((value & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        boolean mightContain(long[] hash) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = index(hash, i);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long index(long[] hash, int i) {
+            return Math.floorMod(hash[0] + i * hash[1], bits);
+        }
+    }
+}
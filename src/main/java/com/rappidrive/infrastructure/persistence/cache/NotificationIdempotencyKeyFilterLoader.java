@@ -0,0 +1,61 @@
+package com.rappidrive.infrastructure.persistence.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Rebuilds the {@link NotificationIdempotencyKeyFilter} at startup from the keys of notifications
+ * created within the filter window, streamed in one read-only query, and then lets the filter
+ * answer lookups.
+ */
+public class NotificationIdempotencyKeyFilterLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationIdempotencyKeyFilterLoader.class);
+
+    private static final String KEYS_SQL =
+        "SELECT tenant_id, idempotency_key FROM notifications "
+            + "WHERE idempotency_key IS NOT NULL AND created_at >= ?";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final NotificationIdempotencyKeyFilter filter;
+    private final Duration window;
+
+    public NotificationIdempotencyKeyFilterLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                                  NotificationIdempotencyKeyFilter filter, Duration window, int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.filter = filter;
+        this.window = window;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        long[] keys = new long[1];
+        try {
+            readTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(KEYS_SQL, rs -> {
+                filter.addRebuilt(rs.getObject(1, UUID.class), rs.getString(2));
+                keys[0]++;
+            }, Timestamp.valueOf(LocalDateTime.now().minus(window))));
+            filter.markWarm();
+            log.info("[NOTIFICATION_IDEMPOTENCY_FILTER_READY] Loaded {} idempotency keys in {} ms",
+                keys[0], Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception ex) {
+            // the filter stays cold, so every keyed send keeps checking the database
+            log.error("[NOTIFICATION_IDEMPOTENCY_FILTER_ERROR] Rebuilding the idempotency key filter failed", ex);
+        }
+    }
+}
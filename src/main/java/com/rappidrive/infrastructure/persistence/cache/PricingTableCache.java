@@ -0,0 +1,76 @@
+package com.rappidrive.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.rappidrive.application.ports.output.PricingTableProviderPort;
+import com.rappidrive.domain.exceptions.InvalidPricingRuleException;
+import com.rappidrive.domain.services.PricingTable;
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Per-node cache of compiled pricing tables by tenant.
+ *
+ * <p>Rules are compiled once per load, so fares are priced with array lookups only. Entries are
+ * evicted by local writes and by {@code pricing_rules_changed} notifications (see
+ * {@link FareConfigurationChangeListener} and the V22 migration); {@code maxStaleness} only bounds
+ * how long an entry survives if notifications are lost. Tenants without rules share
+ * {@link PricingTable#standard()}.</p>
+ */
+public class PricingTableCache implements PricingTableProviderPort {
+
+    private static final Logger log = LoggerFactory.getLogger(PricingTableCache.class);
+
+    public static final String CACHE_NAME = "pricingTableByTenant";
+
+    private final LoadingCache<UUID, PricingTable> cache;
+
+    public PricingTableCache(Function<UUID, List<PricingRule>> ruleLoader, MeterRegistry meterRegistry,
+                             Duration maxStaleness, long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(maxStaleness)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build(tenantId -> compile(tenantId, ruleLoader.apply(tenantId)));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public PricingTable forTenant(TenantId tenantId) {
+        return cache.get(tenantId.getValue());
+    }
+
+    public void invalidate(UUID tenantId) {
+        cache.invalidate(tenantId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Stored rules were compiled once before being saved, so this only fails if compilation got
+     * stricter since; the tenant is then priced with the defaults rather than not at all.
+     */
+    private static PricingTable compile(UUID tenantId, List<PricingRule> rules) {
+        if (rules.isEmpty()) {
+            return PricingTable.standard();
+        }
+        try {
+            return PricingTable.compile(rules);
+        } catch (InvalidPricingRuleException e) {
+            log.error("[PRICING_TABLE_COMPILE_FAILED] tenantId={} rules={}: {}", tenantId, rules.size(),
+                e.getMessage());
+            return PricingTable.standard();
+        }
+    }
+}
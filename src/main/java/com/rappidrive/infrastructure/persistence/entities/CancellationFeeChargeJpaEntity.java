@@ -0,0 +1,114 @@
+package com.rappidrive.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the cancellation fee queue.
+ * Not exposed outside infrastructure layer.
+ */
+@Entity
+@Table(name = "cancellation_fee_charges", indexes = {
+    @Index(name = "idx_cancellation_fee_charges_due", columnList = "due_at")
+})
+public class CancellationFeeChargeJpaEntity {
+
+    @Id
+    @Column(name = "trip_id", nullable = false)
+    private UUID tripId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "reason", nullable = false)
+    private String reason;
+
+    @Column(name = "cancelled_at", nullable = false)
+    private LocalDateTime cancelledAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = "PENDING";
+
+    protected CancellationFeeChargeJpaEntity() {
+    }
+
+    public CancellationFeeChargeJpaEntity(UUID tripId, UUID tenantId, BigDecimal amount, String currency,
+                                          String reason, LocalDateTime cancelledAt, int attempts,
+                                          LocalDateTime dueAt, LocalDateTime createdAt) {
+        this.tripId = tripId;
+        this.tenantId = tenantId;
+        this.amount = amount;
+        this.currency = currency;
+        this.reason = reason;
+        this.cancelledAt = cancelledAt;
+        this.attempts = attempts;
+        this.dueAt = dueAt;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getTripId() {
+        return tripId;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public LocalDateTime getCancelledAt() {
+        return cancelledAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
@@ -46,6 +46,10 @@ public class FareConfigurationJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    // assigned by a database trigger on every write (see V21 migration)
+    @Column(name = "config_version", insertable = false, updatable = false)
+    private Long configVersion;
+    
     protected FareConfigurationJpaEntity() {
     }
     
@@ -135,4 +139,8 @@ public class FareConfigurationJpaEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public Long getConfigVersion() {
+        return configVersion;
+    }
 }
@@ -0,0 +1,121 @@
+package com.rappidrive.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA Entity for idempotency keys.
+ * Not exposed outside infrastructure layer.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at")
+})
+@IdClass(IdempotencyKeyJpaEntity.Key.class)
+public class IdempotencyKeyJpaEntity {
+    
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+    public static final String COMPLETED = "COMPLETED";
+    
+    @Id
+    @Column(name = "scope", nullable = false, length = 100)
+    private String scope;
+    
+    @Id
+    @Column(name = "idempotency_key", nullable = false, length = 255)
+    private String idempotencyKey;
+    
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+    
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+    
+    @Column(name = "resource_id")
+    private UUID resourceId;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    protected IdempotencyKeyJpaEntity() {
+    }
+    
+    public IdempotencyKeyJpaEntity(String scope, String idempotencyKey, String requestHash, String status,
+                                   UUID resourceId, LocalDateTime createdAt, LocalDateTime completedAt) {
+        this.scope = scope;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.status = status;
+        this.resourceId = resourceId;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+    }
+    
+    public String getScope() {
+        return scope;
+    }
+    
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+    
+    public String getRequestHash() {
+        return requestHash;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public UUID getResourceId() {
+        return resourceId;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public boolean isCompleted() {
+        return COMPLETED.equals(status);
+    }
+    
+    /**
+     * Composite primary key: (scope, idempotency_key).
+     */
+    public static class Key implements Serializable {
+        
+        private String scope;
+        private String idempotencyKey;
+        
+        protected Key() {
+        }
+        
+        public Key(String scope, String idempotencyKey) {
+            this.scope = scope;
+            this.idempotencyKey = idempotencyKey;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(scope, key.scope) && Objects.equals(idempotencyKey, key.idempotencyKey);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, idempotencyKey);
+        }
+    }
+}
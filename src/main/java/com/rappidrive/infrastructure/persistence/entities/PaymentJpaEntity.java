@@ -34,6 +34,9 @@ public class PaymentJpaEntity {
     @Column(name = "trip_id", nullable = false)
     private UUID tripId;
     
+    @Column(name = "driver_id")
+    private UUID driverId;
+    
     @Column(name = "amount", nullable = false, precision = 10, scale = 2)
     private BigDecimal amount;
     
@@ -84,7 +87,7 @@ public class PaymentJpaEntity {
     protected PaymentJpaEntity() {
     }
     
-    public PaymentJpaEntity(UUID id, UUID tenantId, UUID tripId, BigDecimal amount, String currency,
+    public PaymentJpaEntity(UUID id, UUID tenantId, UUID tripId, UUID driverId, BigDecimal amount, String currency,
                            BigDecimal platformFee, BigDecimal driverAmount,
                            PaymentMethodType paymentMethodType, String cardLast4, String cardBrand,
                            String pixKey, PaymentStatus status, String gatewayTransactionId,
@@ -93,6 +96,7 @@ public class PaymentJpaEntity {
         this.id = id;
         this.tenantId = tenantId;
         this.tripId = tripId;
+        this.driverId = driverId;
         this.amount = amount;
         this.currency = currency;
         this.platformFee = platformFee;
@@ -134,6 +138,14 @@ public class PaymentJpaEntity {
         this.tripId = tripId;
     }
     
+    public UUID getDriverId() {
+        return driverId;
+    }
+    
+    public void setDriverId(UUID driverId) {
+        this.driverId = driverId;
+    }
+    
     public BigDecimal getAmount() {
         return amount;
     }
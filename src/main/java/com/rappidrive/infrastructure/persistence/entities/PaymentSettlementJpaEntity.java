@@ -0,0 +1,71 @@
+package com.rappidrive.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the payment settlement queue.
+ * Not exposed outside infrastructure layer.
+ */
+@Entity
+@Table(name = "payment_settlements", indexes = {
+    @Index(name = "idx_payment_settlements_due", columnList = "due_at")
+})
+public class PaymentSettlementJpaEntity {
+    
+    @Id
+    @Column(name = "payment_id", nullable = false)
+    private UUID paymentId;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = "PENDING";
+    
+    protected PaymentSettlementJpaEntity() {
+    }
+    
+    public PaymentSettlementJpaEntity(UUID paymentId, int attempts, LocalDateTime dueAt, LocalDateTime createdAt) {
+        this.paymentId = paymentId;
+        this.attempts = attempts;
+        this.dueAt = dueAt;
+        this.createdAt = createdAt;
+    }
+    
+    public UUID getPaymentId() {
+        return paymentId;
+    }
+    
+    public int getAttempts() {
+        return attempts;
+    }
+    
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+    
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+    
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+}
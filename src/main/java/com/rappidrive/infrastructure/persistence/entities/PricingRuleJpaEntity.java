@@ -0,0 +1,153 @@
+package com.rappidrive.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Filter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for tenant pricing rule persistence.
+ * Not exposed outside infrastructure layer.
+ */
+@Entity
+@Table(name = "pricing_rules", indexes = {
+    @Index(name = "idx_pricing_rules_tenant_order", columnList = "tenant_id, sort_order", unique = true)
+})
+@Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
+public class PricingRuleJpaEntity {
+    
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+    
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+    
+    @Column(name = "sort_order", nullable = false)
+    private int sortOrder;
+    
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+    
+    @Column(name = "kind", nullable = false, length = 20)
+    private String kind;
+    
+    // bit n set = DayOfWeek.of(n + 1)
+    @Column(name = "days_of_week")
+    private Short daysOfWeek;
+    
+    @Column(name = "start_minute")
+    private Short startMinute;
+    
+    @Column(name = "end_minute")
+    private Short endMinute;
+    
+    @Column(name = "starts_at")
+    private LocalDateTime startsAt;
+    
+    @Column(name = "ends_at")
+    private LocalDateTime endsAt;
+    
+    // comma-separated VehicleType names, null = every vehicle type
+    @Column(name = "vehicle_types", length = 100)
+    private String vehicleTypes;
+    
+    @Column(name = "multiplier_type", length = 20)
+    private String multiplierType;
+    
+    @Column(name = "multiplier", nullable = false, precision = 3, scale = 2)
+    private BigDecimal multiplier;
+    
+    @Column(name = "priority", nullable = false)
+    private int priority;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    protected PricingRuleJpaEntity() {
+    }
+    
+    public PricingRuleJpaEntity(UUID id, UUID tenantId, int sortOrder, String name, String kind,
+                                Short daysOfWeek, Short startMinute, Short endMinute,
+                                LocalDateTime startsAt, LocalDateTime endsAt, String vehicleTypes,
+                                String multiplierType, BigDecimal multiplier, int priority,
+                                LocalDateTime createdAt) {
+        this.id = id;
+        this.tenantId = tenantId;
+        this.sortOrder = sortOrder;
+        this.name = name;
+        this.kind = kind;
+        this.daysOfWeek = daysOfWeek;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.vehicleTypes = vehicleTypes;
+        this.multiplierType = multiplierType;
+        this.multiplier = multiplier;
+        this.priority = priority;
+        this.createdAt = createdAt;
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public UUID getTenantId() {
+        return tenantId;
+    }
+    
+    public int getSortOrder() {
+        return sortOrder;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getKind() {
+        return kind;
+    }
+    
+    public Short getDaysOfWeek() {
+        return daysOfWeek;
+    }
+    
+    public Short getStartMinute() {
+        return startMinute;
+    }
+    
+    public Short getEndMinute() {
+        return endMinute;
+    }
+    
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+    
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+    
+    public String getVehicleTypes() {
+        return vehicleTypes;
+    }
+    
+    public String getMultiplierType() {
+        return multiplierType;
+    }
+    
+    public BigDecimal getMultiplier() {
+        return multiplier;
+    }
+    
+    public int getPriority() {
+        return priority;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
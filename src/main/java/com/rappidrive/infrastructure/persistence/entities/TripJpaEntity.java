@@ -37,6 +37,8 @@ public class TripJpaEntity {
                          TripStatus status,
                          Double distanceKm,
                          BigDecimal fareAmount,
+                         BigDecimal estimatedFare,
+                         String fareQuoteToken,
                          UUID fareId,
                          UUID paymentId,
                          String paymentStatus,
@@ -59,6 +61,8 @@ public class TripJpaEntity {
         this.status = status;
         this.distanceKm = distanceKm;
         this.fareAmount = fareAmount;
+        this.estimatedFare = estimatedFare;
+        this.fareQuoteToken = fareQuoteToken;
         this.fareId = fareId;
         this.paymentId = paymentId;
         this.paymentStatus = paymentStatus;
@@ -109,6 +113,12 @@ public class TripJpaEntity {
     @Column(name = "fare_amount", precision = 10, scale = 2)
     private BigDecimal fareAmount;
     
+    @Column(name = "estimated_fare", precision = 10, scale = 2)
+    private BigDecimal estimatedFare;
+    
+    @Column(name = "fare_quote_token", columnDefinition = "TEXT")
+    private String fareQuoteToken;
+    
     // Payment integration fields
     @Column(name = "fare_id")
     private UUID fareId;
@@ -204,4 +214,10 @@ public class TripJpaEntity {
 
     public BigDecimal getFareAmount() { return this.fareAmount; }
     public void setFareAmount(BigDecimal amt) { this.fareAmount = amt; }
+
+    public BigDecimal getEstimatedFare() { return this.estimatedFare; }
+    public void setEstimatedFare(BigDecimal amt) { this.estimatedFare = amt; }
+
+    public String getFareQuoteToken() { return this.fareQuoteToken; }
+    public void setFareQuoteToken(String token) { this.fareQuoteToken = token; }
 }
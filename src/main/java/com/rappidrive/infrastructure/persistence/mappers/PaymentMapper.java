@@ -25,6 +25,7 @@ public class PaymentMapper {
             payment.getId(),
             payment.getTenantId().getValue(),
             payment.getTripId(),
+            payment.getDriverId().orElse(null),
             payment.getAmount().getAmount(),
             payment.getAmount().getCurrency().name(),
             payment.getPlatformFee().getAmount(),
@@ -44,7 +45,7 @@ public class PaymentMapper {
     }
     
     /**
-     * Converts JPA entity to domain Payment.
+     * Converts JPA entity to domain Payment, whose status is then the stored one.
      */
     public Payment toDomain(PaymentJpaEntity entity) {
         Money amount = new Money(entity.getAmount(), Currency.valueOf(entity.getCurrency()));
@@ -53,9 +54,10 @@ public class PaymentMapper {
         
         PaymentMethod method = createPaymentMethod(entity);
         
-        return new Payment(
+        Payment payment = new Payment(
             entity.getId(),
             entity.getTripId(),
+            entity.getDriverId(),
             new TenantId(entity.getTenantId()),
             amount,
             platformFee,
@@ -68,6 +70,8 @@ public class PaymentMapper {
             entity.getUpdatedAt(),
             entity.getProcessedAt()
         );
+        payment.markPersisted();
+        return payment;
     }
     
     private PaymentMethod createPaymentMethod(PaymentJpaEntity entity) {
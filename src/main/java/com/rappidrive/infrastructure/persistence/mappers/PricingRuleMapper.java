@@ -0,0 +1,96 @@
+package com.rappidrive.infrastructure.persistence.mappers;
+
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.PricingRuleKind;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.infrastructure.persistence.entities.PricingRuleJpaEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper for conversion between PricingRule (domain) and PricingRuleJpaEntity (JPA).
+ * Days of week are stored as a bitmask and weekly windows as minutes of the day.
+ */
+@Component
+public class PricingRuleMapper {
+    
+    /**
+     * Converts a domain PricingRule to a JPA entity at the given index of the tenant's list.
+     */
+    public PricingRuleJpaEntity toJpaEntity(PricingRule rule, UUID tenantId, int sortOrder,
+                                            LocalDateTime createdAt) {
+        return new PricingRuleJpaEntity(
+            rule.id(),
+            tenantId,
+            sortOrder,
+            rule.name(),
+            rule.kind().name(),
+            rule.daysOfWeek().isEmpty() ? null : toBitmask(rule.daysOfWeek()),
+            rule.startTime() == null ? null : toMinute(rule.startTime()),
+            rule.endTime() == null ? null : toMinute(rule.endTime()),
+            rule.startsAt(),
+            rule.endsAt(),
+            rule.vehicleTypes().isEmpty() ? null : rule.vehicleTypes().stream()
+                .sorted()
+                .map(Enum::name)
+                .collect(Collectors.joining(",")),
+            rule.multiplierType() == null ? null : rule.multiplierType().name(),
+            rule.multiplier(),
+            rule.priority(),
+            createdAt
+        );
+    }
+    
+    /**
+     * Converts a JPA entity to a domain PricingRule.
+     */
+    public PricingRule toDomain(PricingRuleJpaEntity entity) {
+        return new PricingRule(
+            entity.getId(),
+            entity.getName(),
+            PricingRuleKind.valueOf(entity.getKind()),
+            entity.getDaysOfWeek() == null ? Set.of() : fromBitmask(entity.getDaysOfWeek()),
+            entity.getStartMinute() == null ? null : LocalTime.ofSecondOfDay(entity.getStartMinute() * 60L),
+            entity.getEndMinute() == null ? null : LocalTime.ofSecondOfDay(entity.getEndMinute() * 60L),
+            entity.getStartsAt(),
+            entity.getEndsAt(),
+            entity.getVehicleTypes() == null ? Set.of() : Arrays.stream(entity.getVehicleTypes().split(","))
+                .map(VehicleType::valueOf)
+                .collect(Collectors.toSet()),
+            entity.getMultiplierType() == null ? null : FareMultiplierType.valueOf(entity.getMultiplierType()),
+            entity.getMultiplier(),
+            entity.getPriority()
+        );
+    }
+    
+    private static short toBitmask(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return (short) mask;
+    }
+    
+    private static Set<DayOfWeek> fromBitmask(short mask) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+    
+    private static short toMinute(LocalTime time) {
+        return (short) (time.getHour() * 60 + time.getMinute());
+    }
+}
@@ -41,7 +41,10 @@ public interface TripMapper {
             entity.getCompletedAt(),
             entity.getFareId(),
             entity.getPaymentId(),
-            entity.getPaymentStatus() != null ? com.rappidrive.domain.trip.TripPaymentStatus.valueOf(entity.getPaymentStatus()) : null
+            entity.getPaymentStatus() != null ? com.rappidrive.domain.trip.TripPaymentStatus.valueOf(entity.getPaymentStatus()) : null,
+            entity.getDistanceKm(),
+            entity.getEstimatedFare() != null ? new Money(entity.getEstimatedFare()) : null,
+            entity.getFareQuoteToken()
         );
     }
 
@@ -63,6 +66,9 @@ public interface TripMapper {
         entity.setDropoffLatitude(domain.getDestination().getLatitude());
         entity.setDropoffLongitude(domain.getDestination().getLongitude());
         entity.setStatus(domain.getStatus());
+        entity.setDistanceKm(domain.getEstimatedDistanceKm());
+        entity.setEstimatedFare(domain.getEstimatedFare().getAmount());
+        entity.setFareQuoteToken(domain.getFareQuoteToken().orElse(null));
         entity.setRequestedAt(domain.getRequestedAt());
         entity.setStartedAt(domain.getStartedAt().orElse(null));
         entity.setCompletedAt(domain.getCompletedAt().orElse(null));
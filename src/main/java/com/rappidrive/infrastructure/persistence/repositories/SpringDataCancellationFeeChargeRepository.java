@@ -0,0 +1,54 @@
+package com.rappidrive.infrastructure.persistence.repositories;
+
+import com.rappidrive.infrastructure.persistence.entities.CancellationFeeChargeJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for CancellationFeeChargeJpaEntity.
+ */
+@Repository
+public interface SpringDataCancellationFeeChargeRepository extends JpaRepository<CancellationFeeChargeJpaEntity, UUID> {
+
+    /**
+     * Locks due entries, skipping those another node is claiming (Postgres only).
+     */
+    @Query(value = "SELECT * FROM cancellation_fee_charges WHERE status = 'PENDING' AND due_at <= :now "
+        + "ORDER BY due_at "
+        + "FOR UPDATE SKIP LOCKED LIMIT :limit", nativeQuery = true)
+    List<CancellationFeeChargeJpaEntity> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO cancellation_fee_charges "
+        + "(trip_id, tenant_id, amount, currency, reason, cancelled_at, attempts, due_at, created_at) "
+        + "VALUES (:tripId, :tenantId, :amount, :currency, :reason, :cancelledAt, 0, :dueAt, :createdAt) "
+        + "ON CONFLICT (trip_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("tripId") UUID tripId, @Param("tenantId") UUID tenantId,
+                       @Param("amount") BigDecimal amount, @Param("currency") String currency,
+                       @Param("reason") String reason, @Param("cancelledAt") LocalDateTime cancelledAt,
+                       @Param("dueAt") LocalDateTime dueAt, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CancellationFeeChargeJpaEntity c SET c.dueAt = :dueAt WHERE c.tripId = :tripId")
+    int reschedule(@Param("tripId") UUID tripId, @Param("dueAt") LocalDateTime dueAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CancellationFeeChargeJpaEntity c SET c.status = 'ABANDONED' WHERE c.tripId = :tripId")
+    int abandon(@Param("tripId") UUID tripId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CancellationFeeChargeJpaEntity c SET c.status = 'DECLINED' WHERE c.tripId = :tripId")
+    int decline(@Param("tripId") UUID tripId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CancellationFeeChargeJpaEntity c WHERE c.tripId = :tripId")
+    int deleteByTripId(@Param("tripId") UUID tripId);
+}
@@ -0,0 +1,58 @@
+package com.rappidrive.infrastructure.persistence.repositories;
+
+import com.rappidrive.infrastructure.persistence.entities.IdempotencyKeyJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for IdempotencyKeyJpaEntity.
+ */
+@Repository
+public interface SpringDataIdempotencyKeyRepository
+        extends JpaRepository<IdempotencyKeyJpaEntity, IdempotencyKeyJpaEntity.Key> {
+    
+    /**
+     * Reserves a key; returns 0 if it already exists (Postgres only).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, status, created_at) "
+        + "VALUES (:scope, :key, :requestHash, 'IN_PROGRESS', :createdAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int reserve(@Param("scope") String scope, @Param("key") String key,
+                @Param("requestHash") String requestHash, @Param("createdAt") LocalDateTime createdAt);
+    
+    /**
+     * Takes over a reservation whose owner has not completed it since {@code staleBefore}.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE IdempotencyKeyJpaEntity k SET k.createdAt = :now "
+        + "WHERE k.scope = :scope AND k.idempotencyKey = :key AND k.status = 'IN_PROGRESS' AND k.createdAt < :staleBefore")
+    int takeOverStale(@Param("scope") String scope, @Param("key") String key,
+                      @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE IdempotencyKeyJpaEntity k SET k.status = 'COMPLETED', k.resourceId = :resourceId, "
+        + "k.completedAt = :completedAt WHERE k.scope = :scope AND k.idempotencyKey = :key AND k.status = 'IN_PROGRESS'")
+    int complete(@Param("scope") String scope, @Param("key") String key,
+                 @Param("resourceId") UUID resourceId, @Param("completedAt") LocalDateTime completedAt);
+    
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k "
+        + "WHERE k.scope = :scope AND k.idempotencyKey = :key AND k.status = 'IN_PROGRESS'")
+    int release(@Param("scope") String scope, @Param("key") String key);
+    
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
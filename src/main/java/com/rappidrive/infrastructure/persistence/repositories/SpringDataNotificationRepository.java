@@ -3,11 +3,9 @@ package com.rappidrive.infrastructure.persistence.repositories;
 import com.rappidrive.infrastructure.persistence.entities.NotificationJpaEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -57,26 +55,6 @@ public interface SpringDataNotificationRepository extends JpaRepository<Notifica
     """)
     Long countUnreadByUserId(@Param("userId") UUID userId, @Param("tenantId") UUID tenantId);
     
-    /**
-     * Soft-delete de notificações antigas
-     */
-    @Modifying
-    @Query("""
-        UPDATE NotificationJpaEntity n 
-        SET n.deletedAt = CURRENT_TIMESTAMP 
-        WHERE n.deletedAt IS NULL 
-          AND (
-              (n.status = 'READ' AND n.readAt < :cutoffDate) OR
-              (n.status IN ('PENDING', 'SENT') AND n.createdAt < :oldCutoffDate) OR
-              (n.status = 'FAILED' AND n.failedAt < :failedCutoffDate)
-          )
-    """)
-    void softDeleteOldNotifications(
-        @Param("cutoffDate") LocalDateTime cutoffDate,
-        @Param("oldCutoffDate") LocalDateTime oldCutoffDate,
-        @Param("failedCutoffDate") LocalDateTime failedCutoffDate
-    );
-    
     /**
      * Verifica se existe notificação com idempotency key
      */
@@ -3,8 +3,10 @@ package com.rappidrive.infrastructure.persistence.repositories;
 import com.rappidrive.infrastructure.persistence.entities.OutboxEventJpaEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,10 +14,51 @@ import java.util.UUID;
 
 public interface SpringDataOutboxRepository extends JpaRepository<OutboxEventJpaEntity, UUID> {
 
-    @Query("SELECT o FROM OutboxEventJpaEntity o WHERE o.status = 'PENDING' AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) ORDER BY o.createdAt")
-    List<OutboxEventJpaEntity> findPending(@Param("now") LocalDateTime now, Pageable pageable);
+    // created_at lower bound lets Postgres prune the partitions older than the pending lookback window
+    @Query("SELECT o FROM OutboxEventJpaEntity o WHERE o.status = 'PENDING' AND o.createdAt >= :createdAfter AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) ORDER BY o.createdAt")
+    List<OutboxEventJpaEntity> findPending(@Param("now") LocalDateTime now,
+                                           @Param("createdAfter") LocalDateTime createdAfter,
+                                           Pageable pageable);
 
     // Native query for SKIP LOCKED (Postgres only)
-    @Query(value = "SELECT * FROM outbox_event WHERE status = 'PENDING' AND (next_attempt_at IS NULL OR next_attempt_at <= now()) ORDER BY created_at FOR UPDATE SKIP LOCKED LIMIT :limit", nativeQuery = true)
-    List<OutboxEventJpaEntity> findPendingForUpdate(@Param("limit") int limit);
+    @Query(value = "SELECT * FROM outbox_event WHERE status = 'PENDING' AND created_at >= :createdAfter AND (next_attempt_at IS NULL OR next_attempt_at <= now()) ORDER BY created_at FOR UPDATE SKIP LOCKED LIMIT :limit", nativeQuery = true)
+    List<OutboxEventJpaEntity> findPendingForUpdate(@Param("createdAfter") LocalDateTime createdAfter,
+                                                    @Param("limit") int limit);
+
+    // Served from the PENDING-only partial index, so its cost tracks the backlog, not the history
+    @Query("SELECT o.eventType AS eventType, COUNT(o) AS pending, "
+        + "SUM(CASE WHEN o.attempts > 0 THEN 1 ELSE 0 END) AS retrying, MIN(o.createdAt) AS oldestCreatedAt "
+        + "FROM OutboxEventJpaEntity o WHERE o.status = 'PENDING' GROUP BY o.eventType")
+    List<PendingSummary> summarizePending();
+
+    // Status updates carry created_at, the partition key, so only the row's own partition is probed
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventJpaEntity o SET o.status = 'SENT', o.sentAt = :sentAt "
+        + "WHERE o.id = :id AND o.createdAt = :createdAt AND o.status <> 'SENT'")
+    int markSent(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventJpaEntity o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt "
+        + "WHERE o.id = :id AND o.createdAt = :createdAt")
+    int incrementAttempts(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventJpaEntity o SET o.status = 'FAILED' WHERE o.id = :id AND o.createdAt = :createdAt")
+    int markFailed(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt);
+
+    interface PendingSummary {
+        String getEventType();
+
+        long getPending();
+
+        long getRetrying();
+
+        LocalDateTime getOldestCreatedAt();
+    }
 }
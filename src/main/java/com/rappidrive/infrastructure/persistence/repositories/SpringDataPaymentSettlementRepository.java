@@ -0,0 +1,45 @@
+package com.rappidrive.infrastructure.persistence.repositories;
+
+import com.rappidrive.infrastructure.persistence.entities.PaymentSettlementJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PaymentSettlementJpaEntity.
+ */
+@Repository
+public interface SpringDataPaymentSettlementRepository extends JpaRepository<PaymentSettlementJpaEntity, UUID> {
+    
+    /**
+     * Locks due entries, skipping those another node is claiming (Postgres only).
+     */
+    @Query(value = "SELECT * FROM payment_settlements WHERE status = 'PENDING' AND due_at <= :now ORDER BY due_at "
+        + "FOR UPDATE SKIP LOCKED LIMIT :limit", nativeQuery = true)
+    List<PaymentSettlementJpaEntity> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    /**
+     * Locks parked entries due for reconciliation, skipping those another node is claiming (Postgres only).
+     */
+    @Query(value = "SELECT * FROM payment_settlements WHERE status = 'UNKNOWN' AND due_at <= :now ORDER BY due_at "
+        + "FOR UPDATE SKIP LOCKED LIMIT :limit", nativeQuery = true)
+    List<PaymentSettlementJpaEntity> findParkedForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentSettlementJpaEntity s SET s.dueAt = :dueAt WHERE s.paymentId = :paymentId")
+    int reschedule(@Param("paymentId") UUID paymentId, @Param("dueAt") LocalDateTime dueAt);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentSettlementJpaEntity s SET s.status = 'UNKNOWN' WHERE s.paymentId = :paymentId")
+    int park(@Param("paymentId") UUID paymentId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PaymentSettlementJpaEntity s WHERE s.paymentId = :paymentId")
+    int deleteByPaymentId(@Param("paymentId") UUID paymentId);
+}
@@ -0,0 +1,30 @@
+package com.rappidrive.infrastructure.persistence.repositories;
+
+import com.rappidrive.infrastructure.persistence.entities.PricingRuleJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PricingRuleJpaEntity.
+ */
+@Repository
+public interface SpringDataPricingRuleRepository extends JpaRepository<PricingRuleJpaEntity, UUID> {
+    
+    /**
+     * Finds the pricing rules of a tenant in declaration order.
+     */
+    List<PricingRuleJpaEntity> findByTenantIdOrderBySortOrderAsc(UUID tenantId);
+    
+    /**
+     * Deletes all pricing rules of a tenant in one statement.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PricingRuleJpaEntity r WHERE r.tenantId = :tenantId")
+    int deleteAllByTenantId(@Param("tenantId") UUID tenantId);
+}
@@ -2,7 +2,9 @@ package com.rappidrive.infrastructure.persistence.repositories;
 
 import com.rappidrive.infrastructure.persistence.entities.RatingJpaEntity;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,6 +17,10 @@ import java.util.UUID;
  */
 public interface SpringDataRatingRepository extends JpaRepository<RatingJpaEntity, UUID> {
     
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RatingJpaEntity r WHERE r.id = :id")
+    Optional<RatingJpaEntity> findByIdForUpdate(@Param("id") UUID id);
+    
     Optional<RatingJpaEntity> findByTripIdAndRaterIdAndType(UUID tripId, UUID raterId, String type);
     
     List<RatingJpaEntity> findByTripId(UUID tripId);
@@ -0,0 +1,227 @@
+package com.rappidrive.infrastructure.reconciliation;
+
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementCursor;
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementRecord;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External merge sort of settlement records by transaction id, in bounded memory.
+ *
+ * <p>Records are buffered {@code runSize} at a time, sorted and spilled to a temporary file
+ * (a "run"); the runs are then merged with a priority queue holding the head of each one. A file
+ * that fits in a single run is sorted in memory and never touches the disk. Temporary files are
+ * deleted when the returned cursor is closed.</p>
+ */
+final class ExternalSettlementSorter {
+
+    private static final Comparator<SettlementRecord> BY_TRANSACTION_ID =
+        Comparator.comparing(SettlementRecord::transactionId);
+    private static final int IO_BUFFER_BYTES = 64 * 1024;
+
+    private final Path tempDirectory;
+    private final int runSize;
+
+    ExternalSettlementSorter(Path tempDirectory, int runSize) {
+        if (runSize < 1) {
+            throw new IllegalArgumentException("runSize must be positive");
+        }
+        this.tempDirectory = tempDirectory;
+        this.runSize = runSize;
+    }
+
+    /**
+     * Sorts the records. The source is fully consumed before this returns.
+     */
+    SettlementCursor sort(Iterator<SettlementRecord> records) {
+        SettlementRecord[] buffer = new SettlementRecord[Math.min(runSize, 1024)];
+        List<Path> runs = new ArrayList<>();
+        try {
+            while (true) {
+                int size = 0;
+                while (size < runSize && records.hasNext()) {
+                    if (size == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, Math.min(runSize, buffer.length * 2));
+                    }
+                    buffer[size++] = records.next();
+                }
+                Arrays.sort(buffer, 0, size, BY_TRANSACTION_ID);
+                if (runs.isEmpty() && !records.hasNext()) {
+                    return new InMemoryCursor(buffer, size);
+                }
+                runs.add(spill(buffer, size));
+                Arrays.fill(buffer, 0, size, null);
+                if (!records.hasNext()) {
+                    return new MergeCursor(runs);
+                }
+            }
+        } catch (RuntimeException e) {
+            runs.forEach(ExternalSettlementSorter::deleteQuietly);
+            throw e;
+        }
+    }
+
+    private Path spill(SettlementRecord[] buffer, int size) {
+        Path run = null;
+        try {
+            run = Files.createTempFile(tempDirectory, "settlement-run-", ".bin");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_BYTES))) {
+                for (int i = 0; i < size; i++) {
+                    out.writeUTF(buffer[i].transactionId());
+                    out.writeLong(buffer[i].amountCents());
+                    out.writeUTF(buffer[i].status());
+                }
+            }
+            return run;
+        } catch (IOException e) {
+            if (run != null) {
+                deleteQuietly(run);
+            }
+            throw new UncheckedIOException("Cannot spill settlement records to " + tempDirectory, e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // left to the operating system's temp cleanup
+        }
+    }
+
+    private static final class InMemoryCursor implements SettlementCursor {
+
+        private final SettlementRecord[] records;
+        private final int size;
+        private int position;
+
+        InMemoryCursor(SettlementRecord[] records, int size) {
+            this.records = records;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public SettlementRecord next() {
+            if (position >= size) {
+                throw new NoSuchElementException();
+            }
+            return records[position++];
+        }
+
+        @Override
+        public void close() {
+            position = size;
+        }
+    }
+
+    private static final class MergeCursor implements SettlementCursor {
+
+        private final List<Path> files;
+        private final List<Run> runs = new ArrayList<>();
+        private final PriorityQueue<Run> heads;
+
+        MergeCursor(List<Path> files) {
+            this.files = files;
+            this.heads = new PriorityQueue<>(files.size(), Comparator.comparing(Run::head, BY_TRANSACTION_ID));
+            try {
+                for (Path file : files) {
+                    Run run = new Run(new DataInputStream(
+                        new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_BYTES)));
+                    runs.add(run);
+                    if (run.advance()) {
+                        heads.add(run);
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Cannot read settlement runs", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public SettlementRecord next() {
+            Run run = heads.poll();
+            if (run == null) {
+                throw new NoSuchElementException();
+            }
+            SettlementRecord record = run.head();
+            try {
+                if (run.advance()) {
+                    heads.add(run);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read settlement runs", e);
+            }
+            return record;
+        }
+
+        @Override
+        public void close() {
+            heads.clear();
+            for (Run run : runs) {
+                try {
+                    run.in().close();
+                } catch (IOException e) {
+                    // the file is deleted below either way
+                }
+            }
+            files.forEach(ExternalSettlementSorter::deleteQuietly);
+        }
+    }
+
+    private static final class Run {
+
+        private final DataInputStream in;
+        private SettlementRecord head;
+
+        Run(DataInputStream in) {
+            this.in = in;
+        }
+
+        DataInputStream in() {
+            return in;
+        }
+
+        SettlementRecord head() {
+            return head;
+        }
+
+        boolean advance() throws IOException {
+            String transactionId;
+            try {
+                transactionId = in.readUTF();
+            } catch (EOFException e) {
+                head = null;
+                return false;
+            }
+            head = new SettlementRecord(transactionId, in.readLong(), in.readUTF());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.rappidrive.infrastructure.reconciliation;
+
+import com.rappidrive.application.ports.output.SettlementFilePort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Settlement exports read from a local directory (where finance drops the gateway files).
+ *
+ * <p>The file is parsed through {@link MappedSettlementFileReader} and sorted with
+ * {@link ExternalSettlementSorter}, because gateways do not promise any order: at most
+ * {@code run-size} records are on the heap, the rest wait in temporary runs.</p>
+ */
+@Component
+public class LocalSettlementFileAdapter implements SettlementFilePort {
+
+    private final Path directory;
+    private final long windowBytes;
+    private final ExternalSettlementSorter sorter;
+
+    @Autowired
+    public LocalSettlementFileAdapter(
+            @Value("${reconciliation.settlement-directory:settlements}") String directory,
+            @Value("${reconciliation.temp-directory:${java.io.tmpdir}}") String tempDirectory,
+            @Value("${reconciliation.mapped-window-mb:64}") long mappedWindowMb,
+            @Value("${reconciliation.run-size:500000}") int runSize) {
+        this(Path.of(directory), Path.of(tempDirectory), mappedWindowMb * 1024 * 1024, runSize);
+    }
+
+    LocalSettlementFileAdapter(Path directory, Path tempDirectory, long windowBytes, int runSize) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.windowBytes = windowBytes;
+        this.sorter = new ExternalSettlementSorter(tempDirectory, runSize);
+    }
+
+    @Override
+    public SettlementCursor openSortedByTransactionId(Path file, Format format) {
+        Path resolved = resolveWithin(directory, file);
+        if (!Files.isRegularFile(resolved)) {
+            throw new IllegalArgumentException("Settlement file not found: " + file);
+        }
+        try (MappedSettlementFileReader reader = new MappedSettlementFileReader(resolved, format, windowBytes)) {
+            return sorter.sort(reader);
+        }
+    }
+
+    /**
+     * Resolves a path given by a caller against a base directory, refusing anything outside it.
+     */
+    static Path resolveWithin(Path directory, Path file) {
+        Path resolved = directory.resolve(file).normalize();
+        if (file.isAbsolute() || !resolved.startsWith(directory)) {
+            throw new IllegalArgumentException("Path must be relative to " + directory + ": " + file);
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,363 @@
+package com.rappidrive.infrastructure.reconciliation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.rappidrive.application.ports.output.SettlementFilePort.Format;
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming parser for settlement exports, reading the file through memory-mapped windows.
+ *
+ * <p>Only one window of {@code windowBytes} is mapped at a time and the heap holds one line at a
+ * time: bytes are copied into a reusable line buffer, so a line that crosses the end of a window is
+ * completed from the next one. CSV files need a header naming the {@code transaction_id}, {@code amount}
+ * and {@code status} columns (in any order, quoted fields allowed); NDJSON files hold one flat
+ * object per line with the same keys. Amounts are decimals with at most two fraction digits and
+ * are read as cents. A malformed line fails the read with its line number.</p>
+ */
+final class MappedSettlementFileReader implements Iterator<SettlementRecord>, Closeable {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowBytes;
+    private final Format format;
+    private final Map<String, String> statuses = new HashMap<>();
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private long lineNumber;
+    private int[] csvColumns;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private SettlementRecord next;
+
+    MappedSettlementFileReader(Path file, Format format, long windowBytes) {
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.fileSize = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open settlement file " + file, e);
+        }
+        this.format = format;
+        this.windowBytes = windowBytes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = parseNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public SettlementRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SettlementRecord record = next;
+        next = null;
+        return record;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SettlementRecord parseNext() {
+        while (readLine()) {
+            if (isBlank()) {
+                continue;
+            }
+            if (format == Format.NDJSON) {
+                return parseJson();
+            }
+            if (csvColumns == null) {
+                csvColumns = parseCsvHeader();
+                continue;
+            }
+            return parseCsv();
+        }
+        return null;
+    }
+
+    /**
+     * Copies the next line (without its terminator) into {@link #line}.
+     *
+     * @return false at the end of the file
+     */
+    private boolean readLine() {
+        if (window == null || !window.hasRemaining()) {
+            long position = window == null ? 0 : windowStart + window.limit();
+            if (position >= fileSize || !map(position)) {
+                return false;
+            }
+        }
+        lineLength = 0;
+        while (true) {
+            while (window.hasRemaining()) {
+                byte b = window.get();
+                if (b == '\n') {
+                    lineNumber++;
+                    trimCarriageReturn();
+                    return true;
+                }
+                append(b);
+            }
+            long position = windowStart + window.limit();
+            if (position >= fileSize) {
+                lineNumber++;
+                trimCarriageReturn();
+                return true;
+            }
+            // the bytes read so far are already copied, so the next window starts where this one ended
+            map(position);
+        }
+    }
+
+    private boolean map(long position) {
+        try {
+            long size = Math.min(windowBytes, fileSize - position);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            windowStart = position;
+            return size > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map settlement file", e);
+        }
+    }
+
+    private void append(byte b) {
+        if (lineLength == line.length) {
+            line = Arrays.copyOf(line, line.length * 2);
+        }
+        line[lineLength++] = b;
+    }
+
+    private void trimCarriageReturn() {
+        if (lineLength > 0 && line[lineLength - 1] == '\r') {
+            lineLength--;
+        }
+    }
+
+    private boolean isBlank() {
+        for (int i = 0; i < lineLength; i++) {
+            if (line[i] != ' ' && line[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] parseCsvHeader() {
+        int fields = splitCsv();
+        int[] columns = {-1, -1, -1};
+        for (int i = 0; i < fields; i++) {
+            String name = field(i).trim().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "transaction_id" -> columns[0] = i;
+                case "amount" -> columns[1] = i;
+                case "status" -> columns[2] = i;
+                default -> {
+                    // other columns of the export are not reconciled
+                }
+            }
+        }
+        if (columns[0] < 0 || columns[1] < 0 || columns[2] < 0) {
+            throw malformed("CSV header must name transaction_id, amount and status columns");
+        }
+        return columns;
+    }
+
+    private SettlementRecord parseCsv() {
+        int fields = splitCsv();
+        int required = Math.max(csvColumns[0], Math.max(csvColumns[1], csvColumns[2])) + 1;
+        if (fields < required) {
+            throw malformed("expected at least " + required + " fields but found " + fields);
+        }
+        String transactionId = field(csvColumns[0]).trim();
+        if (transactionId.isEmpty()) {
+            throw malformed("empty transaction_id");
+        }
+        long amountCents = parseCents(fieldStarts[csvColumns[1]], fieldEnds[csvColumns[1]]);
+        return new SettlementRecord(transactionId, amountCents, status(field(csvColumns[2]).trim()));
+    }
+
+    /**
+     * Splits the current line into fields, unquoting in place: a quoted field loses its quotes
+     * and doubled quotes inside it become single ones.
+     *
+     * @return the number of fields
+     */
+    private int splitCsv() {
+        int fields = 0;
+        int read = 0;
+        while (true) {
+            if (fields == fieldStarts.length) {
+                fieldStarts = Arrays.copyOf(fieldStarts, fields * 2);
+                fieldEnds = Arrays.copyOf(fieldEnds, fields * 2);
+            }
+            int start = read;
+            int write = read;
+            if (read < lineLength && line[read] == '"') {
+                read++;
+                while (true) {
+                    if (read >= lineLength) {
+                        throw malformed("unterminated quoted field");
+                    }
+                    byte b = line[read++];
+                    if (b == '"') {
+                        if (read < lineLength && line[read] == '"') {
+                            read++;
+                        } else {
+                            break;
+                        }
+                    }
+                    line[write++] = b;
+                }
+                if (read < lineLength && line[read] != ',') {
+                    throw malformed("unexpected character after quoted field");
+                }
+            } else {
+                while (read < lineLength && line[read] != ',') {
+                    read++;
+                }
+                write = read;
+            }
+            fieldStarts[fields] = start;
+            fieldEnds[fields] = write;
+            fields++;
+            if (read >= lineLength) {
+                return fields;
+            }
+            read++; // the comma
+        }
+    }
+
+    private String field(int index) {
+        return new String(line, fieldStarts[index], fieldEnds[index] - fieldStarts[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a decimal amount such as {@code 12}, {@code 12.5} or {@code -3.75} straight from the
+     * line bytes.
+     */
+    private long parseCents(int start, int end) {
+        while (start < end && line[start] == ' ') {
+            start++;
+        }
+        while (end > start && line[end - 1] == ' ') {
+            end--;
+        }
+        boolean negative = start < end && line[start] == '-';
+        int i = negative ? start + 1 : start;
+        long units = 0;
+        int digits = 0;
+        while (i < end && line[i] >= '0' && line[i] <= '9') {
+            units = Math.addExact(Math.multiplyExact(units, 10), line[i++] - '0');
+            digits++;
+        }
+        long cents = 0;
+        int fractionDigits = 0;
+        if (i < end && line[i] == '.') {
+            i++;
+            while (i < end && line[i] >= '0' && line[i] <= '9') {
+                if (++fractionDigits > 2) {
+                    throw malformed("amount has more than two decimal places");
+                }
+                cents = cents * 10 + (line[i++] - '0');
+            }
+        }
+        if (i != end || digits + fractionDigits == 0) {
+            throw malformed("invalid amount '" + new String(line, start, end - start, StandardCharsets.UTF_8) + "'");
+        }
+        if (fractionDigits == 1) {
+            cents *= 10;
+        }
+        long total = Math.addExact(Math.multiplyExact(units, 100), cents);
+        return negative ? -total : total;
+    }
+
+    private SettlementRecord parseJson() {
+        String transactionId = null;
+        Long amountCents = null;
+        String status = null;
+        try (JsonParser parser = JSON.createParser(line, 0, lineLength)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw malformed("expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "transaction_id" -> transactionId = parser.getValueAsString();
+                    case "amount" -> amountCents = jsonCents(parser, value);
+                    case "status" -> status = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw malformed(e.getMessage());
+        }
+        if (transactionId == null || transactionId.isBlank() || amountCents == null || status == null) {
+            throw malformed("object must have transaction_id, amount and status");
+        }
+        return new SettlementRecord(transactionId, amountCents, status(status));
+    }
+
+    private long jsonCents(JsonParser parser, JsonToken value) throws IOException {
+        BigDecimal amount = switch (value) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_STRING -> decimal(parser.getText());
+            default -> throw malformed("amount must be a number");
+        };
+        if (amount.scale() > 2 && amount.stripTrailingZeros().scale() > 2) {
+            throw malformed("amount has more than two decimal places");
+        }
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private BigDecimal decimal(String text) {
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw malformed("invalid amount '" + text + "'");
+        }
+    }
+
+    /**
+     * Shares one instance per distinct status, since the sorter may hold many records at once.
+     */
+    private String status(String value) {
+        return statuses.computeIfAbsent(value.toUpperCase(Locale.ROOT), status -> status);
+    }
+
+    private IllegalArgumentException malformed(String reason) {
+        return new IllegalArgumentException("Malformed settlement file at line " + lineNumber + ": " + reason);
+    }
+}
@@ -0,0 +1,99 @@
+package com.rappidrive.infrastructure.reconciliation;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.rappidrive.application.ports.output.ReconciliationReportPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes reconciliation mismatches as NDJSON (one object per line) into a local report directory,
+ * streaming them so a large report never sits in memory.
+ */
+@Component
+public class NdjsonReconciliationReportAdapter implements ReconciliationReportPort {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final Path directory;
+
+    public NdjsonReconciliationReportAdapter(
+            @Value("${reconciliation.report-directory:reconciliation-reports}") String directory) {
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public MismatchWriter create(Path report) {
+        Path resolved = LocalSettlementFileAdapter.resolveWithin(directory, report);
+        try {
+            Files.createDirectories(resolved.getParent());
+            JsonGenerator generator = JSON.createGenerator(
+                new BufferedOutputStream(Files.newOutputStream(resolved), 64 * 1024), JsonEncoding.UTF8);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            return new NdjsonMismatchWriter(generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create reconciliation report " + report, e);
+        }
+    }
+
+    private static final class NdjsonMismatchWriter implements MismatchWriter {
+
+        private final JsonGenerator generator;
+        private boolean empty = true;
+
+        NdjsonMismatchWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void write(Mismatch mismatch) {
+            empty = false;
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("type", mismatch.type().name());
+                generator.writeStringField("transaction_id", mismatch.transactionId());
+                writeNullable("payment_id", mismatch.paymentId() != null ? mismatch.paymentId().toString() : null);
+                writeNullable("tenant_id", mismatch.tenantId() != null ? mismatch.tenantId().toString() : null);
+                writeNullable("ledger_amount_cents", mismatch.ledgerAmountCents());
+                writeNullable("gateway_amount_cents", mismatch.gatewayAmountCents());
+                writeNullable("ledger_status", mismatch.ledgerStatus());
+                writeNullable("gateway_status", mismatch.gatewayStatus());
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write reconciliation report", e);
+            }
+        }
+
+        private void writeNullable(String field, String value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(field, value);
+            }
+        }
+
+        private void writeNullable(String field, Long value) throws IOException {
+            if (value != null) {
+                generator.writeNumberField(field, value);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (!empty) {
+                    generator.writeRaw('\n');
+                }
+                generator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot close reconciliation report", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.rappidrive.infrastructure.security;
+
+import com.rappidrive.application.ports.output.FareQuoteTokenPort;
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.InvalidFareQuoteException;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.FareQuote;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Fare quote tokens signed with HMAC-SHA256.
+ *
+ * <p>Token format: {@code base64url(payload) + "." + base64url(hmac(payload))}. The payload is a
+ * fixed-layout binary record (version byte, UUIDs, coordinates, enum ordinals and amounts in cents),
+ * about 190 characters once encoded, so tokens stay small enough for a request body or header.
+ * Tokens signed with {@code fare.quote.previous-signing-secret} are still accepted, which allows
+ * rotating the secret without invalidating quotes of trips in progress. Version 1 payloads, issued
+ * before quotes carried the pricing-rule multipliers, are still decoded for trips that stored one.</p>
+ */
+@Component
+public class HmacFareQuoteTokenAdapter implements FareQuoteTokenPort {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 2;
+    private static final int PAYLOAD_BYTES = 1 + 16 + 16 + 4 * 8 + 1 + 8 + 4 + 1 + 2 * 8 + 1 + 5 * 8 + 8;
+    /** Tokens issued before quotes carried the pricing-rule multipliers; still stored on trips in progress. */
+    private static final byte VERSION_1 = 1;
+    private static final int VERSION_1_PAYLOAD_BYTES = PAYLOAD_BYTES - 2 * 8;
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> currentMac;
+    private final ThreadLocal<Mac> previousMac;
+
+    public HmacFareQuoteTokenAdapter(
+            @Value("${fare.quote.signing-secret}") String signingSecret,
+            @Value("${fare.quote.previous-signing-secret:}") String previousSigningSecret) {
+        SecretKeySpec currentKey = toKey(signingSecret);
+        this.currentMac = ThreadLocal.withInitial(() -> newMac(currentKey));
+        if (previousSigningSecret == null || previousSigningSecret.isBlank()) {
+            this.previousMac = null;
+        } else {
+            SecretKeySpec previousKey = toKey(previousSigningSecret);
+            this.previousMac = ThreadLocal.withInitial(() -> newMac(previousKey));
+        }
+    }
+
+    @Override
+    public String sign(FareQuote quote) {
+        byte[] payload = encode(quote);
+        byte[] signature = currentMac.get().doFinal(payload);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(signature);
+    }
+
+    @Override
+    public FareQuote verify(String token) {
+        byte[][] parts = split(token);
+        byte[] payload = parts[0];
+        byte[] signature = parts[1];
+        if (!MessageDigest.isEqual(signature, currentMac.get().doFinal(payload))
+                && (previousMac == null || !MessageDigest.isEqual(signature, previousMac.get().doFinal(payload)))) {
+            throw InvalidFareQuoteException.invalidSignature();
+        }
+        return decode(payload);
+    }
+
+    @Override
+    public FareQuote decode(String token) {
+        return decode(split(token)[0]);
+    }
+
+    private static byte[][] split(String token) {
+        if (token == null) {
+            throw InvalidFareQuoteException.malformed();
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator != token.lastIndexOf('.')) {
+            throw InvalidFareQuoteException.malformed();
+        }
+        try {
+            return new byte[][] {
+                DECODER.decode(token.substring(0, separator)),
+                DECODER.decode(token.substring(separator + 1))
+            };
+        } catch (IllegalArgumentException e) {
+            throw InvalidFareQuoteException.malformed();
+        }
+    }
+
+    private static byte[] encode(FareQuote quote) {
+        Currency currency = quote.totalAmount().getCurrency();
+        ByteBuffer buffer = ByteBuffer.allocate(PAYLOAD_BYTES);
+        buffer.put(VERSION);
+        putUuid(buffer, quote.quoteId());
+        putUuid(buffer, quote.tenantId().getValue());
+        buffer.putDouble(quote.origin().getLatitude());
+        buffer.putDouble(quote.origin().getLongitude());
+        buffer.putDouble(quote.destination().getLatitude());
+        buffer.putDouble(quote.destination().getLongitude());
+        buffer.put((byte) quote.vehicleType().ordinal());
+        buffer.putDouble(quote.distanceKm());
+        buffer.putInt(quote.durationMinutes());
+        buffer.put((byte) quote.multiplierType().ordinal());
+        buffer.putDouble(quote.timeMultiplier());
+        buffer.putDouble(quote.vehicleMultiplier());
+        buffer.put((byte) currency.ordinal());
+        putCents(buffer, quote.baseFare(), currency);
+        putCents(buffer, quote.pricePerKm(), currency);
+        putCents(buffer, quote.pricePerMinute(), currency);
+        putCents(buffer, quote.minimumFare(), currency);
+        putCents(buffer, quote.totalAmount(), currency);
+        buffer.putLong(quote.expiresAt().getEpochSecond());
+        return buffer.array();
+    }
+
+    private static FareQuote decode(byte[] payload) {
+        boolean version1 = payload.length == VERSION_1_PAYLOAD_BYTES && payload[0] == VERSION_1;
+        if (!version1 && (payload.length != PAYLOAD_BYTES || payload[0] != VERSION)) {
+            throw InvalidFareQuoteException.malformed();
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(payload, 1, payload.length - 1);
+            UUID quoteId = getUuid(buffer);
+            TenantId tenantId = new TenantId(getUuid(buffer));
+            Location origin = new Location(buffer.getDouble(), buffer.getDouble());
+            Location destination = new Location(buffer.getDouble(), buffer.getDouble());
+            VehicleType vehicleType = VehicleType.values()[buffer.get()];
+            double distanceKm = buffer.getDouble();
+            int durationMinutes = buffer.getInt();
+            FareMultiplierType multiplierType = FareMultiplierType.values()[buffer.get()];
+            // version 1 quotes were priced with the built-in multipliers of their multiplier and vehicle type
+            double timeMultiplier = version1 ? multiplierType.getMultiplier() : buffer.getDouble();
+            double vehicleMultiplier = version1 ? Fare.getVehicleMultiplier(vehicleType) : buffer.getDouble();
+            Currency currency = Currency.values()[buffer.get()];
+            Money baseFare = Money.ofCents(buffer.getLong(), currency);
+            Money pricePerKm = Money.ofCents(buffer.getLong(), currency);
+            Money pricePerMinute = Money.ofCents(buffer.getLong(), currency);
+            Money minimumFare = Money.ofCents(buffer.getLong(), currency);
+            Money totalAmount = Money.ofCents(buffer.getLong(), currency);
+            Instant expiresAt = Instant.ofEpochSecond(buffer.getLong());
+            return new FareQuote(quoteId, tenantId, origin, destination, vehicleType, distanceKm,
+                    durationMinutes, multiplierType, timeMultiplier, vehicleMultiplier, baseFare, pricePerKm,
+                    pricePerMinute, minimumFare, totalAmount, expiresAt);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            // a token from an incompatible release, or a corrupted stored token
+            throw InvalidFareQuoteException.malformed();
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putCents(ByteBuffer buffer, Money money, Currency currency) {
+        if (money.getCurrency() != currency) {
+            throw new IllegalArgumentException("All amounts of a fare quote must use the same currency");
+        }
+        buffer.putLong(money.toCents());
+    }
+
+    private static SecretKeySpec toKey(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException(
+                    "fare.quote.signing-secret is not set; provide it through FARE_QUOTE_SIGNING_SECRET");
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                    "fare.quote signing secrets must be at least " + MIN_SECRET_BYTES + " bytes long");
+        }
+        return new SecretKeySpec(bytes, ALGORITHM);
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
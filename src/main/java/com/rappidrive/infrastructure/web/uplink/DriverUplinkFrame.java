@@ -0,0 +1,108 @@
+package com.rappidrive.infrastructure.web.uplink;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary framing of the driver uplink. All numbers are big-endian.
+ *
+ * <pre>
+ * request: [type:1][seq:4][payload]
+ *   0x01 LOCATION       latitude:f64 longitude:f64     (21 bytes)
+ *   0x02 STATUS         online:u8 (1 online, 0 offline) (6 bytes)
+ *   0x03 ACCEPT_OFFER   tripId:uuid                     (21 bytes)
+ *   0x04 DECLINE_OFFER  tripId:uuid                     (21 bytes)
+ *
+ * reply:   [0x80 | type:1][seq:4][result:1][message:utf8]
+ * </pre>
+ *
+ * <p>Every frame except an accepted location gets a reply carrying its sequence number, so a
+ * location stream costs no downlink traffic unless a position is refused.</p>
+ */
+public sealed interface DriverUplinkFrame {
+
+    byte LOCATION = 0x01;
+    byte STATUS = 0x02;
+    byte ACCEPT_OFFER = 0x03;
+    byte DECLINE_OFFER = 0x04;
+    byte REPLY_FLAG = (byte) 0x80;
+
+    int MAX_FRAME_BYTES = 21;
+    int MAX_MESSAGE_BYTES = 120;
+
+    int seq();
+
+    byte type();
+
+    record Location(int seq, double latitude, double longitude) implements DriverUplinkFrame {
+        @Override
+        public byte type() {
+            return LOCATION;
+        }
+    }
+
+    record Status(int seq, boolean online) implements DriverUplinkFrame {
+        @Override
+        public byte type() {
+            return STATUS;
+        }
+    }
+
+    record AcceptOffer(int seq, UUID tripId) implements DriverUplinkFrame {
+        @Override
+        public byte type() {
+            return ACCEPT_OFFER;
+        }
+    }
+
+    record DeclineOffer(int seq, UUID tripId) implements DriverUplinkFrame {
+        @Override
+        public byte type() {
+            return DECLINE_OFFER;
+        }
+    }
+
+    enum Result {
+        OK,
+        REJECTED,
+        NOT_FOUND,
+        MALFORMED
+    }
+
+    /**
+     * @throws IllegalArgumentException if the frame is truncated, has trailing bytes or an unknown type
+     */
+    static DriverUplinkFrame decode(ByteBuffer frame) {
+        ByteBuffer in = frame.duplicate();
+        try {
+            byte type = in.get();
+            int seq = in.getInt();
+            DriverUplinkFrame decoded = switch (type) {
+                case LOCATION -> new Location(seq, in.getDouble(), in.getDouble());
+                case STATUS -> new Status(seq, in.get() != 0);
+                case ACCEPT_OFFER -> new AcceptOffer(seq, new UUID(in.getLong(), in.getLong()));
+                case DECLINE_OFFER -> new DeclineOffer(seq, new UUID(in.getLong(), in.getLong()));
+                default -> throw new IllegalArgumentException("Unknown frame type " + type);
+            };
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException("Trailing bytes after frame type " + type);
+            }
+            return decoded;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated frame", e);
+        }
+    }
+
+    /**
+     * Encodes the reply to a frame of {@code type}; the message is cut to {@link #MAX_MESSAGE_BYTES}.
+     */
+    static ByteBuffer reply(byte type, int seq, Result result, String message) {
+        byte[] text = message != null ? message.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int length = Math.min(text.length, MAX_MESSAGE_BYTES);
+        ByteBuffer out = ByteBuffer.allocate(6 + length);
+        out.put((byte) (REPLY_FLAG | type)).putInt(seq).put((byte) result.ordinal()).put(text, 0, length);
+        return out.flip();
+    }
+}
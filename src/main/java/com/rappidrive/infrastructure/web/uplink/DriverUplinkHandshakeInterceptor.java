@@ -0,0 +1,88 @@
+package com.rappidrive.infrastructure.web.uplink;
+
+import com.rappidrive.application.ports.input.driver.GetDriverInputPort;
+import com.rappidrive.domain.entities.Driver;
+import com.rappidrive.domain.exceptions.DriverNotFoundException;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.context.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves the driver of an uplink session once, at the handshake.
+ *
+ * <p>The upgrade request has already been through the security filter chain (JWT, driver role)
+ * and the {@code TenantResolverFilter}; this checks that the driver in the path exists in the
+ * resolved tenant and stores both in the session attributes, so frames never repeat the lookup.</p>
+ */
+public class DriverUplinkHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String DRIVER_ID_ATTRIBUTE = "uplink.driverId";
+    static final String TENANT_ID_ATTRIBUTE = "uplink.tenantId";
+
+    private static final Logger log = LoggerFactory.getLogger(DriverUplinkHandshakeInterceptor.class);
+
+    private final GetDriverInputPort getDriverUseCase;
+
+    public DriverUplinkHandshakeInterceptor(GetDriverInputPort getDriverUseCase) {
+        this.getDriverUseCase = getDriverUseCase;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Optional<UUID> driverId = driverIdFromPath(request.getURI().getPath());
+        if (driverId.isEmpty()) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        Optional<TenantId> tenant = TenantContext.getTenantIfPresent();
+        Driver driver;
+        try {
+            driver = getDriverUseCase.execute(driverId.get());
+        } catch (DriverNotFoundException e) {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+        if (tenant.isPresent() && !tenant.get().equals(driver.getTenantId())) {
+            log.warn("[UPLINK_TENANT_MISMATCH] driverId={} tenant={}", driverId.get(), tenant.get().asString());
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+
+        attributes.put(DRIVER_ID_ATTRIBUTE, driverId.get());
+        attributes.put(TENANT_ID_ATTRIBUTE, driver.getTenantId());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    /**
+     * Extracts the driver id from {@code .../drivers/{driverId}/uplink}.
+     */
+    static Optional<UUID> driverIdFromPath(String path) {
+        int end = path.lastIndexOf("/uplink");
+        int start = end > 0 ? path.lastIndexOf('/', end - 1) : -1;
+        if (start < 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(path.substring(start + 1, end)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
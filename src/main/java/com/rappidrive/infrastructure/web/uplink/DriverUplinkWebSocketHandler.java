@@ -0,0 +1,176 @@
+package com.rappidrive.infrastructure.web.uplink;
+
+import com.rappidrive.application.exceptions.ApplicationException;
+import com.rappidrive.application.ports.input.driver.ActivateDriverInputPort;
+import com.rappidrive.application.ports.input.driver.DeactivateDriverInputPort;
+import com.rappidrive.application.ports.input.driver.UpdateDriverLocationInputPort;
+import com.rappidrive.application.ports.input.driver.UpdateDriverLocationInputPort.UpdateLocationCommand;
+import com.rappidrive.application.ports.input.trip.AssignDriverToTripInputPort;
+import com.rappidrive.application.ports.input.trip.AssignDriverToTripInputPort.AssignDriverCommand;
+import com.rappidrive.domain.exceptions.DomainException;
+import com.rappidrive.domain.exceptions.DriverNotFoundException;
+import com.rappidrive.domain.exceptions.TripNotFoundException;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.context.TenantContext;
+import com.rappidrive.infrastructure.web.uplink.DriverUplinkFrame.Result;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Driver uplink: one long-lived WebSocket per driver app carrying location updates, online/offline
+ * toggles and trip offer answers as {@link DriverUplinkFrame binary frames}.
+ *
+ * <p>Authentication and tenant resolution happened once at the handshake
+ * ({@link DriverUplinkHandshakeInterceptor}); each frame only restores the tenant of the session
+ * and calls the use case directly. Frames of one session are handled one at a time on the
+ * container's (virtual) thread, in the order the app sent them.</p>
+ */
+public class DriverUplinkWebSocketHandler extends BinaryWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverUplinkWebSocketHandler.class);
+
+    private final UpdateDriverLocationInputPort updateDriverLocationUseCase;
+    private final ActivateDriverInputPort activateDriverUseCase;
+    private final DeactivateDriverInputPort deactivateDriverUseCase;
+    private final AssignDriverToTripInputPort assignDriverUseCase;
+    private final MeterRegistry meterRegistry;
+    private final Duration idleTimeout;
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final Map<String, Counter> frameCounters = new ConcurrentHashMap<>();
+
+    public DriverUplinkWebSocketHandler(UpdateDriverLocationInputPort updateDriverLocationUseCase,
+                                        ActivateDriverInputPort activateDriverUseCase,
+                                        DeactivateDriverInputPort deactivateDriverUseCase,
+                                        AssignDriverToTripInputPort assignDriverUseCase,
+                                        MeterRegistry meterRegistry,
+                                        Duration idleTimeout) {
+        this.updateDriverLocationUseCase = updateDriverLocationUseCase;
+        this.activateDriverUseCase = activateDriverUseCase;
+        this.deactivateDriverUseCase = deactivateDriverUseCase;
+        this.assignDriverUseCase = assignDriverUseCase;
+        this.meterRegistry = meterRegistry;
+        this.idleTimeout = idleTimeout;
+        Gauge.builder("driver_uplink_sessions", openSessions, AtomicInteger::get)
+            .description("Open driver uplink WebSocket sessions")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Frames are tiny, so anything larger is refused by the container before it is buffered. A
+     * session the app stops using (connection lost without a close frame) is dropped after the
+     * idle timeout; apps keep an idle session open with ping frames.
+     */
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.setBinaryMessageSizeLimit(DriverUplinkFrame.MAX_FRAME_BYTES);
+        session.setTextMessageSizeLimit(DriverUplinkFrame.MAX_FRAME_BYTES);
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            jakarta.websocket.Session container = nativeSession.getNativeSession(jakarta.websocket.Session.class);
+            if (container != null) {
+                container.setMaxIdleTimeout(idleTimeout.toMillis());
+            }
+        }
+        openSessions.incrementAndGet();
+        log.debug("[UPLINK_OPEN] driverId={}", driverId(session));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        openSessions.decrementAndGet();
+        log.debug("[UPLINK_CLOSED] driverId={} status={}", driverId(session), status);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        DriverUplinkFrame frame;
+        try {
+            frame = DriverUplinkFrame.decode(message.getPayload());
+        } catch (IllegalArgumentException e) {
+            count("unknown", Result.MALFORMED);
+            session.sendMessage(new BinaryMessage(DriverUplinkFrame.reply((byte) 0, 0, Result.MALFORMED, e.getMessage())));
+            return;
+        }
+
+        UUID driverId = driverId(session);
+        TenantContext.setTenant((TenantId) session.getAttributes().get(DriverUplinkHandshakeInterceptor.TENANT_ID_ATTRIBUTE));
+        Result result;
+        String detail = null;
+        try {
+            apply(driverId, frame);
+            result = Result.OK;
+        } catch (DriverNotFoundException | TripNotFoundException e) {
+            result = Result.NOT_FOUND;
+            detail = e.getMessage();
+        } catch (DomainException | ApplicationException | IllegalStateException | IllegalArgumentException e) {
+            result = Result.REJECTED;
+            detail = e.getMessage();
+        } catch (RuntimeException e) {
+            log.error("[UPLINK_FRAME_ERROR] driverId={} frame={}", driverId, frame, e);
+            result = Result.REJECTED;
+            detail = "Internal error";
+        } finally {
+            TenantContext.clear();
+        }
+
+        count(typeName(frame), result);
+        if (result != Result.OK || !(frame instanceof DriverUplinkFrame.Location)) {
+            session.sendMessage(new BinaryMessage(DriverUplinkFrame.reply(frame.type(), frame.seq(), result, detail)));
+        }
+    }
+
+    private void apply(UUID driverId, DriverUplinkFrame frame) {
+        switch (frame) {
+            case DriverUplinkFrame.Location location -> updateDriverLocationUseCase.execute(
+                new UpdateLocationCommand(driverId, new Location(location.latitude(), location.longitude())));
+            case DriverUplinkFrame.Status status -> {
+                if (status.online()) {
+                    activateDriverUseCase.execute(driverId);
+                } else {
+                    deactivateDriverUseCase.execute(driverId);
+                }
+            }
+            case DriverUplinkFrame.AcceptOffer accept ->
+                assignDriverUseCase.execute(new AssignDriverCommand(accept.tripId(), driverId));
+            case DriverUplinkFrame.DeclineOffer decline ->
+                // offers are not reserved for a driver, so declining only needs to be acknowledged
+                log.info("[UPLINK_OFFER_DECLINED] driverId={} tripId={}", driverId, decline.tripId());
+        }
+    }
+
+    private void count(String type, Result result) {
+        frameCounters.computeIfAbsent(type + ':' + result, key -> Counter.builder("driver_uplink_frames_total")
+            .description("Frames received on driver uplink sessions")
+            .tag("type", type)
+            .tag("result", result.name().toLowerCase())
+            .register(meterRegistry)).increment();
+    }
+
+    private static String typeName(DriverUplinkFrame frame) {
+        return switch (frame) {
+            case DriverUplinkFrame.Location ignored -> "location";
+            case DriverUplinkFrame.Status ignored -> "status";
+            case DriverUplinkFrame.AcceptOffer ignored -> "accept_offer";
+            case DriverUplinkFrame.DeclineOffer ignored -> "decline_offer";
+        };
+    }
+
+    private static UUID driverId(WebSocketSession session) {
+        return (UUID) session.getAttributes().get(DriverUplinkHandshakeInterceptor.DRIVER_ID_ATTRIBUTE);
+    }
+}
@@ -1,24 +1,39 @@
 package com.rappidrive.presentation.controllers;
 
 import com.rappidrive.application.ports.input.payment.CalculateFareInputPort;
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort;
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort.FareEstimate;
+import com.rappidrive.application.ports.input.payment.QuoteFareInputPort;
 import com.rappidrive.domain.entities.Fare;
 import com.rappidrive.presentation.dto.request.CalculateFareRequest;
+import com.rappidrive.presentation.dto.request.EstimateFaresRequest;
+import com.rappidrive.presentation.dto.request.FareQuoteRequest;
+import com.rappidrive.presentation.dto.response.FareEstimatesResponse;
+import com.rappidrive.presentation.dto.response.FareQuoteResponse;
 import com.rappidrive.presentation.dto.response.FareResponse;
 import com.rappidrive.presentation.mappers.PaymentDtoMapper;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/fares")
 public class FareController {
     
     private final CalculateFareInputPort calculateFareUseCase;
+    private final EstimateFaresInputPort estimateFaresUseCase;
+    private final QuoteFareInputPort quoteFareUseCase;
     private final PaymentDtoMapper mapper;
     
     public FareController(CalculateFareInputPort calculateFareUseCase,
+                         EstimateFaresInputPort estimateFaresUseCase,
+                         QuoteFareInputPort quoteFareUseCase,
                          PaymentDtoMapper mapper) {
         this.calculateFareUseCase = calculateFareUseCase;
+        this.estimateFaresUseCase = estimateFaresUseCase;
+        this.quoteFareUseCase = quoteFareUseCase;
         this.mapper = mapper;
     }
     
@@ -27,4 +42,15 @@ public class FareController {
         Fare fare = calculateFareUseCase.execute(mapper.toCommand(request));
         return ResponseEntity.ok(mapper.toResponse(fare));
     }
+    
+    @PostMapping("/estimate")
+    public ResponseEntity<FareEstimatesResponse> estimateFares(@Valid @RequestBody EstimateFaresRequest request) {
+        List<FareEstimate> estimates = estimateFaresUseCase.execute(mapper.toCommand(request));
+        return ResponseEntity.ok(mapper.toResponse(estimates));
+    }
+    
+    @PostMapping("/quote")
+    public ResponseEntity<FareQuoteResponse> quoteFare(@Valid @RequestBody FareQuoteRequest request) {
+        return ResponseEntity.ok(mapper.toResponse(quoteFareUseCase.execute(mapper.toCommand(request))));
+    }
 }
@@ -24,6 +24,9 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/v1/payments")
 public class PaymentController {
     
+    /** Clients retrying a payment or refund resend the same key to get the first outcome back. */
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    
     private final ProcessPaymentInputPort processPaymentUseCase;
     private final GetPaymentInputPort getPaymentUseCase;
     private final RefundPaymentInputPort refundPaymentUseCase;
@@ -40,8 +43,10 @@ public class PaymentController {
     }
     
     @PostMapping
-    public ResponseEntity<PaymentResponse> processPayment(@Valid @RequestBody ProcessPaymentRequest request) {
-        Payment payment = processPaymentUseCase.execute(mapper.toCommand(request));
+    public ResponseEntity<PaymentResponse> processPayment(
+            @Valid @RequestBody ProcessPaymentRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        Payment payment = processPaymentUseCase.execute(mapper.toCommand(request, idempotencyKey));
         return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(payment));
     }
     
@@ -74,8 +79,11 @@ public class PaymentController {
     }
     
     @PostMapping("/refund")
-    public ResponseEntity<PaymentResponse> refundPayment(@Valid @RequestBody RefundPaymentRequest request) {
-        Payment payment = refundPaymentUseCase.execute(request.paymentId(), request.reason());
+    public ResponseEntity<PaymentResponse> refundPayment(
+            @Valid @RequestBody RefundPaymentRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        Payment payment = refundPaymentUseCase.execute(new RefundPaymentInputPort.RefundPaymentCommand(
+            request.paymentId(), request.reason(), idempotencyKey));
         return ResponseEntity.ok(mapper.toResponse(payment));
     }
 }
@@ -15,6 +15,7 @@ import com.rappidrive.presentation.dto.request.CreateTripRequest;
 import com.rappidrive.presentation.dto.response.TripResponse;
 import com.rappidrive.presentation.dto.response.TripWithPaymentDetailsResponse;
 import com.rappidrive.presentation.mappers.TripDtoMapper;
+import com.rappidrive.presentation.sse.TripLiveUpdateHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -26,10 +27,12 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -53,6 +56,7 @@ public class TripController {
     private final GetTripWithPaymentDetailsInputPort getTripWithPaymentDetailsUseCase;
     private final CancelTripInputPort cancelTripUseCase;
     private final TripDtoMapper mapper;
+    private final TripLiveUpdateHub liveUpdateHub;
     
     @Operation(summary = "Create a new trip")
     @ApiResponses(value = {
@@ -70,7 +74,8 @@ public class TripController {
                 mapper.toTenantId(request.tenantId()),
                 request.passengerId(),
                 mapper.toLocation(request.origin()),
-                mapper.toLocation(request.destination())
+                mapper.toLocation(request.destination()),
+                request.fareQuoteToken()
             );
         
         Trip trip = createTripUseCase.execute(command);
@@ -96,6 +101,28 @@ public class TripController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "Stream live trip updates",
+        description = "Server-sent events: `status` on every trip state change and `position` with the "
+            + "driver's location at most once per interval. The stream ends when the trip is completed or cancelled.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream opened"),
+        @ApiResponse(responseCode = "404", description = "Trip not found"),
+        @ApiResponse(responseCode = "429", description = "Trip already has the maximum number of open streams")
+    })
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTripUpdates(@PathVariable UUID id) {
+        try {
+            SseEmitter emitter = liveUpdateHub.subscribe(id, () -> {
+                Trip trip = getTripUseCase.execute(id);
+                return new TripLiveUpdateHub.TripState(trip.getStatus(), trip.getDriverId().orElse(null));
+            });
+            return ResponseEntity.ok(emitter);
+        } catch (TripLiveUpdateHub.TooManySubscribersException e) {
+            log.warn("Live stream refused: tripId={}, reason={}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+    
     @Operation(summary = "Assign a driver to a trip")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Driver assigned successfully",
@@ -158,7 +185,7 @@ public class TripController {
     
     @Operation(summary = "Complete trip with automatic fare calculation and payment processing")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Trip completed and payment processed",
+        @ApiResponse(responseCode = "200", description = "Trip completed; card and PIX payments are settled asynchronously",
             content = @Content(schema = @Schema(implementation = TripWithPaymentDetailsResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid trip state or payment failed"),
         @ApiResponse(responseCode = "404", description = "Trip not found")
@@ -177,8 +204,8 @@ public class TripController {
         
         TripWithPaymentDetailsResponse response = mapper.toTripWithPaymentDetailsResponse(result);
         
-        log.info("Trip completed with payment: tripId={}, paymentSuccessful={}, fareAmount={}", 
-            id, result.paymentSuccessful(), result.fare().getTotalAmount());
+        log.info("Trip completed with payment: tripId={}, paymentStatus={}, fareAmount={}", 
+            id, result.payment().getStatus(), result.fare().getTotalAmount());
         
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,47 @@
+package com.rappidrive.presentation.controllers.admin;
+
+import com.rappidrive.application.ports.input.payment.GetLedgerBalanceInputPort;
+import com.rappidrive.domain.enums.LedgerAccountType;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.LedgerAccount;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.presentation.dto.response.LedgerBalanceResponse;
+import com.rappidrive.presentation.mappers.LedgerDtoMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for ledger balances (Admin area).
+ * Should be protected with admin-level authorization.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/ledger")
+public class LedgerController {
+    
+    private final GetLedgerBalanceInputPort getLedgerBalanceUseCase;
+    private final LedgerDtoMapper mapper;
+    
+    public LedgerController(
+            GetLedgerBalanceInputPort getLedgerBalanceUseCase,
+            LedgerDtoMapper mapper) {
+        this.getLedgerBalanceUseCase = getLedgerBalanceUseCase;
+        this.mapper = mapper;
+    }
+    
+    /**
+     * GET /api/v1/admin/ledger/tenant/{tenantId}/balance - Gets an account balance.
+     * The owner defaults to the tenant, which owns the tenant-wide accounts.
+     */
+    @GetMapping("/tenant/{tenantId}/balance")
+    public ResponseEntity<LedgerBalanceResponse> getBalance(
+            @PathVariable UUID tenantId,
+            @RequestParam LedgerAccountType type,
+            @RequestParam(required = false) UUID ownerId,
+            @RequestParam(defaultValue = "BRL") Currency currency) {
+        LedgerAccount account = new LedgerAccount(new TenantId(tenantId), type,
+            ownerId != null ? ownerId : tenantId, currency);
+        return ResponseEntity.ok(mapper.toResponse(getLedgerBalanceUseCase.execute(account)));
+    }
+}
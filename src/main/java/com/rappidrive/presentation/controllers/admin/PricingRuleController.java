@@ -0,0 +1,56 @@
+package com.rappidrive.presentation.controllers.admin;
+
+import com.rappidrive.application.ports.input.payment.GetPricingRulesInputPort;
+import com.rappidrive.application.ports.input.payment.ReplacePricingRulesInputPort;
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.presentation.dto.request.ReplacePricingRulesRequest;
+import com.rappidrive.presentation.dto.response.PricingRulesResponse;
+import com.rappidrive.presentation.mappers.PricingRuleDtoMapper;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for tenant pricing rules (Admin area).
+ * Should be protected with admin-level authorization.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/pricing-rules")
+public class PricingRuleController {
+    
+    private final GetPricingRulesInputPort getPricingRulesUseCase;
+    private final ReplacePricingRulesInputPort replacePricingRulesUseCase;
+    private final PricingRuleDtoMapper mapper;
+    
+    public PricingRuleController(
+            GetPricingRulesInputPort getPricingRulesUseCase,
+            ReplacePricingRulesInputPort replacePricingRulesUseCase,
+            PricingRuleDtoMapper mapper) {
+        this.getPricingRulesUseCase = getPricingRulesUseCase;
+        this.replacePricingRulesUseCase = replacePricingRulesUseCase;
+        this.mapper = mapper;
+    }
+    
+    /**
+     * GET /api/v1/admin/pricing-rules/tenant/{tenantId} - Gets the pricing rules of a tenant
+     */
+    @GetMapping("/tenant/{tenantId}")
+    public ResponseEntity<PricingRulesResponse> getPricingRules(@PathVariable UUID tenantId) {
+        List<PricingRule> rules = getPricingRulesUseCase.execute(new TenantId(tenantId));
+        return ResponseEntity.ok(mapper.toResponse(tenantId, rules));
+    }
+    
+    /**
+     * PUT /api/v1/admin/pricing-rules - Replaces all pricing rules of a tenant
+     */
+    @PutMapping
+    public ResponseEntity<PricingRulesResponse> replacePricingRules(
+            @Valid @RequestBody ReplacePricingRulesRequest request) {
+        List<PricingRule> rules = replacePricingRulesUseCase.execute(mapper.toCommand(request));
+        return ResponseEntity.ok(mapper.toResponse(request.tenantId(), rules));
+    }
+}
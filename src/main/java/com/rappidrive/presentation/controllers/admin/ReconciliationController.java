@@ -0,0 +1,36 @@
+package com.rappidrive.presentation.controllers.admin;
+
+import com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort;
+import com.rappidrive.presentation.dto.request.ReconcilePaymentsRequest;
+import com.rappidrive.presentation.dto.response.ReconciliationResponse;
+import com.rappidrive.presentation.mappers.ReconciliationDtoMapper;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for reconciling payments against gateway settlement files (Admin area).
+ * Should be protected with admin-level authorization.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/reconciliations")
+public class ReconciliationController {
+    
+    private final ReconcilePaymentsInputPort reconcilePaymentsUseCase;
+    private final ReconciliationDtoMapper mapper;
+    
+    public ReconciliationController(
+            ReconcilePaymentsInputPort reconcilePaymentsUseCase,
+            ReconciliationDtoMapper mapper) {
+        this.reconcilePaymentsUseCase = reconcilePaymentsUseCase;
+        this.mapper = mapper;
+    }
+    
+    /**
+     * POST /api/v1/admin/reconciliations - Reconciles a settlement file and writes its mismatch report
+     */
+    @PostMapping
+    public ResponseEntity<ReconciliationResponse> reconcile(@Valid @RequestBody ReconcilePaymentsRequest request) {
+        return ResponseEntity.ok(mapper.toResponse(reconcilePaymentsUseCase.execute(mapper.toCommand(request))));
+    }
+}
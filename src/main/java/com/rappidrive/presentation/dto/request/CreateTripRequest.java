@@ -34,5 +34,9 @@ public record CreateTripRequest(
     @NotNull(message = "Destination location is required")
     @Valid
     @JsonProperty("destination")
-    LocationDto destination
+    LocationDto destination,
+    
+    @Schema(description = "Token of a fare quote for this route; when present the trip is charged with the quoted prices")
+    @JsonProperty("fareQuoteToken")
+    String fareQuoteToken
 ) {}
@@ -0,0 +1,41 @@
+package com.rappidrive.presentation.dto.request;
+
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.presentation.dto.common.LocationDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for estimating fares of several routes and vehicle types at once.
+ * Omitting the vehicle types estimates every vehicle type. The maximum number of routes is
+ * enforced by the use case ({@code fare.estimate.max-routes}).
+ */
+public record EstimateFaresRequest(
+    
+    @NotNull(message = "Tenant ID is required")
+    UUID tenantId,
+    
+    @NotEmpty(message = "At least one route is required")
+    List<@Valid @NotNull Route> routes,
+    
+    List<@NotNull VehicleType> vehicleTypes,
+    
+    @NotNull(message = "Trip start time is required")
+    LocalDateTime tripStartTime
+) {
+    
+    public record Route(
+        @NotNull(message = "Origin is required")
+        @Valid
+        LocationDto origin,
+        
+        @NotNull(message = "Destination is required")
+        @Valid
+        LocationDto destination
+    ) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.rappidrive.presentation.dto.request;
+
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.presentation.dto.common.LocationDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for requesting a signed fare quote for one route and vehicle type.
+ */
+public record FareQuoteRequest(
+    
+    @NotNull(message = "Tenant ID is required")
+    UUID tenantId,
+    
+    @NotNull(message = "Origin is required")
+    @Valid
+    LocationDto origin,
+    
+    @NotNull(message = "Destination is required")
+    @Valid
+    LocationDto destination,
+    
+    @NotNull(message = "Vehicle type is required")
+    VehicleType vehicleType,
+    
+    @NotNull(message = "Trip start time is required")
+    LocalDateTime tripStartTime
+) {
+}
@@ -0,0 +1,50 @@
+package com.rappidrive.presentation.dto.request;
+
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.PricingRuleKind;
+import com.rappidrive.domain.enums.VehicleType;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * DTO for one tenant pricing rule. Which fields apply depends on the kind:
+ * VEHICLE_RATE uses vehicle types only, WEEKLY days of week with start and end time,
+ * DATED a start and end date-time. Omitting the vehicle types of a time rule applies it to all.
+ */
+public record PricingRuleRequest(
+    
+    @NotBlank(message = "Rule name is required")
+    @Size(max = 100, message = "Rule name must have at most 100 characters")
+    String name,
+    
+    @NotNull(message = "Rule kind is required")
+    PricingRuleKind kind,
+    
+    Set<@NotNull DayOfWeek> daysOfWeek,
+    
+    LocalTime startTime,
+    
+    LocalTime endTime,
+    
+    LocalDateTime startsAt,
+    
+    LocalDateTime endsAt,
+    
+    Set<@NotNull VehicleType> vehicleTypes,
+    
+    FareMultiplierType multiplierType,
+    
+    @NotNull(message = "Multiplier is required")
+    @DecimalMin(value = "0.01", message = "Multiplier must be between 0.01 and 9.99")
+    @DecimalMax(value = "9.99", message = "Multiplier must be between 0.01 and 9.99")
+    @Digits(integer = 1, fraction = 2, message = "Multiplier must have at most two decimals")
+    BigDecimal multiplier,
+    
+    Integer priority
+) {
+}
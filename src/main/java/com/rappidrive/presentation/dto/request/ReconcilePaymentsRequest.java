@@ -0,0 +1,29 @@
+package com.rappidrive.presentation.dto.request;
+
+import com.rappidrive.application.ports.output.SettlementFilePort;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for reconciling a window of payments against a gateway settlement file.
+ * The file is relative to the settlement directory; the report defaults to
+ * {@code <file name>-mismatches.ndjson} in the report directory.
+ */
+public record ReconcilePaymentsRequest(
+    
+    @NotBlank(message = "Settlement file is required")
+    String settlementFile,
+    
+    @NotNull(message = "Format is required")
+    SettlementFilePort.Format format,
+    
+    @NotNull(message = "Window start is required")
+    LocalDateTime from,
+    
+    @NotNull(message = "Window end is required")
+    LocalDateTime to,
+    
+    String report
+) {
+}
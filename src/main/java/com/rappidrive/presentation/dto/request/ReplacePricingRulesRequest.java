@@ -0,0 +1,20 @@
+package com.rappidrive.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for replacing all pricing rules of a tenant. An empty list restores the default pricing.
+ */
+public record ReplacePricingRulesRequest(
+    
+    @NotNull(message = "Tenant ID is required")
+    UUID tenantId,
+    
+    @NotNull(message = "Rules are required")
+    List<@Valid @NotNull PricingRuleRequest> rules
+) {
+}
@@ -0,0 +1,27 @@
+package com.rappidrive.presentation.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for bulk fare estimation response.
+ * The top-level multiplier type is the first estimate's; tenant pricing rules for specific vehicle
+ * types can give each estimate its own.
+ */
+public record FareEstimatesResponse(
+    String multiplierType,
+    String currency,
+    List<Estimate> estimates
+) {
+    
+    public record Estimate(
+        int routeIndex,
+        String vehicleType,
+        BigDecimal distanceKm,
+        int durationMinutes,
+        BigDecimal subtotal,
+        BigDecimal finalAmount,
+        String multiplierType
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.rappidrive.presentation.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO for an issued fare quote. {@code token} is passed back when creating the trip.
+ */
+public record FareQuoteResponse(
+    UUID quoteId,
+    String token,
+    String vehicleType,
+    String multiplierType,
+    BigDecimal distanceKm,
+    int durationMinutes,
+    String currency,
+    BigDecimal finalAmount,
+    Instant expiresAt
+) {
+}
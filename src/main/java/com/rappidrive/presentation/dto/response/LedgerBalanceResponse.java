@@ -0,0 +1,17 @@
+package com.rappidrive.presentation.dto.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for a ledger account balance. The balance is debits minus credits, so accounts the
+ * platform owes (driver payables, revenue) are negative.
+ */
+public record LedgerBalanceResponse(
+    UUID tenantId,
+    String accountType,
+    UUID ownerId,
+    String currency,
+    BigDecimal balance
+) {
+}
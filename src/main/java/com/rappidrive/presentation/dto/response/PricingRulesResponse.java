@@ -0,0 +1,34 @@
+package com.rappidrive.presentation.dto.response;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * DTO for a tenant's pricing rules, in declaration order.
+ */
+public record PricingRulesResponse(
+    UUID tenantId,
+    List<Rule> rules
+) {
+    
+    public record Rule(
+        UUID id,
+        String name,
+        String kind,
+        Set<DayOfWeek> daysOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        Set<String> vehicleTypes,
+        String multiplierType,
+        BigDecimal multiplier,
+        int priority
+    ) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.rappidrive.presentation.dto.response;
+
+/**
+ * DTO for the outcome of a reconciliation run. Details of each mismatch are in the report.
+ */
+public record ReconciliationResponse(
+    String report,
+    long gatewayRecords,
+    long ledgerPayments,
+    long matched,
+    long mismatches,
+    long missingAtGateway,
+    long missingInLedger,
+    long amountMismatches,
+    long statusMismatches,
+    long duplicatesAtGateway
+) {
+}
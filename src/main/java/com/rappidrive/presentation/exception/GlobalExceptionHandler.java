@@ -1,6 +1,7 @@
 package com.rappidrive.presentation.exception;
 
 import com.rappidrive.application.exceptions.ApplicationException;
+import com.rappidrive.application.exceptions.IdempotencyKeyConflictException;
 import com.rappidrive.domain.exceptions.*;
 import com.rappidrive.presentation.dto.response.ErrorResponse;
 import org.slf4j.Logger;
@@ -141,6 +142,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
     
+    @ExceptionHandler(InvalidPricingRuleException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPricingRule(InvalidPricingRuleException ex) {
+        log.warn("Invalid pricing rule: {}", ex.getMessage());
+        
+        ErrorResponse response = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Invalid pricing rule",
+            ex.getMessage(),
+            null
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+    
+    @ExceptionHandler(InvalidFareQuoteException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFareQuote(InvalidFareQuoteException ex) {
+        log.warn("Invalid fare quote: {}", ex.getMessage());
+        
+        ErrorResponse response = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Invalid fare quote",
+            ex.getMessage(),
+            null
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
         log.error("Validation error: {}", ex.getMessage());
@@ -181,6 +212,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
     
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflict(IdempotencyKeyConflictException ex) {
+        log.warn("Idempotency key conflict: {}", ex.getMessage());
+        
+        ErrorResponse response = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.CONFLICT.value(),
+            "Idempotency key conflict",
+            ex.getMessage(),
+            null
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+    
     @ExceptionHandler(ApplicationException.class)
     public ResponseEntity<ErrorResponse> handleApplicationException(ApplicationException ex) {
         log.error("Application error: {}", ex.getMessage());
@@ -0,0 +1,27 @@
+package com.rappidrive.presentation.mappers;
+
+import com.rappidrive.application.ports.input.payment.GetLedgerBalanceInputPort.LedgerBalance;
+import com.rappidrive.presentation.dto.response.LedgerBalanceResponse;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Mapper for conversion of ledger results to DTOs.
+ */
+@Component
+public class LedgerDtoMapper {
+    
+    /**
+     * Converts LedgerBalance to LedgerBalanceResponse DTO.
+     */
+    public LedgerBalanceResponse toResponse(LedgerBalance balance) {
+        return new LedgerBalanceResponse(
+            balance.account().tenantId().getValue(),
+            balance.account().type().name(),
+            balance.account().ownerId(),
+            balance.account().currency().name(),
+            BigDecimal.valueOf(balance.balanceCents(), 2)
+        );
+    }
+}
@@ -1,20 +1,32 @@
 package com.rappidrive.presentation.mappers;
 
 import com.rappidrive.application.ports.input.payment.CalculateFareInputPort.CalculateFareCommand;
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort.EstimateFaresCommand;
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort.FareEstimate;
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort.Route;
 import com.rappidrive.application.ports.input.payment.ProcessPaymentInputPort.ProcessPaymentCommand;
+import com.rappidrive.application.ports.input.payment.QuoteFareInputPort.IssuedFareQuote;
+import com.rappidrive.application.ports.input.payment.QuoteFareInputPort.QuoteFareCommand;
 import com.rappidrive.domain.entities.Fare;
 import com.rappidrive.domain.entities.Payment;
 import com.rappidrive.domain.enums.PaymentMethodType;
+import com.rappidrive.domain.valueobjects.FareQuote;
+import com.rappidrive.domain.valueobjects.Location;
 import com.rappidrive.domain.valueobjects.Money;
 import com.rappidrive.domain.valueobjects.PaymentMethod;
 import com.rappidrive.domain.valueobjects.TenantId;
 import com.rappidrive.presentation.dto.request.CalculateFareRequest;
+import com.rappidrive.presentation.dto.request.EstimateFaresRequest;
+import com.rappidrive.presentation.dto.request.FareQuoteRequest;
 import com.rappidrive.presentation.dto.request.ProcessPaymentRequest;
+import com.rappidrive.presentation.dto.response.FareEstimatesResponse;
+import com.rappidrive.presentation.dto.response.FareQuoteResponse;
 import com.rappidrive.presentation.dto.response.FareResponse;
 import com.rappidrive.presentation.dto.response.PaymentResponse;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -37,10 +49,47 @@ public class PaymentDtoMapper {
         );
     }
     
+    /**
+     * Converts EstimateFaresRequest to EstimateFaresCommand.
+     */
+    public EstimateFaresCommand toCommand(EstimateFaresRequest request) {
+        List<Route> routes = request.routes().stream()
+            .map(route -> new Route(
+                new Location(route.origin().latitude(), route.origin().longitude()),
+                new Location(route.destination().latitude(), route.destination().longitude())))
+            .toList();
+        return new EstimateFaresCommand(
+            new TenantId(request.tenantId()),
+            routes,
+            request.vehicleTypes(),
+            request.tripStartTime()
+        );
+    }
+    
+    /**
+     * Converts FareQuoteRequest to QuoteFareCommand.
+     */
+    public QuoteFareCommand toCommand(FareQuoteRequest request) {
+        return new QuoteFareCommand(
+            new TenantId(request.tenantId()),
+            new Location(request.origin().latitude(), request.origin().longitude()),
+            new Location(request.destination().latitude(), request.destination().longitude()),
+            request.vehicleType(),
+            request.tripStartTime()
+        );
+    }
+    
     /**
      * Converts ProcessPaymentRequest to ProcessPaymentCommand.
      */
     public ProcessPaymentCommand toCommand(ProcessPaymentRequest request) {
+        return toCommand(request, null);
+    }
+    
+    /**
+     * Converts ProcessPaymentRequest to ProcessPaymentCommand carrying the client's idempotency key.
+     */
+    public ProcessPaymentCommand toCommand(ProcessPaymentRequest request, String idempotencyKey) {
         PaymentMethod method = createPaymentMethod(
             request.paymentMethodType(),
             request.cardLast4(),
@@ -50,7 +99,8 @@ public class PaymentDtoMapper {
         
         return new ProcessPaymentCommand(
             request.tripId(),
-            method
+            method,
+            idempotencyKey
         );
     }
     
@@ -80,6 +130,45 @@ public class PaymentDtoMapper {
         );
     }
     
+    /**
+     * Converts fare estimates to FareEstimatesResponse DTO.
+     */
+    public FareEstimatesResponse toResponse(List<FareEstimate> estimates) {
+        FareEstimate first = estimates.get(0);
+        return new FareEstimatesResponse(
+            first.multiplierType().name(),
+            first.totalAmount().getCurrency().name(),
+            estimates.stream()
+                .map(estimate -> new FareEstimatesResponse.Estimate(
+                    estimate.routeIndex(),
+                    estimate.vehicleType().name(),
+                    BigDecimal.valueOf(estimate.distanceKm()),
+                    estimate.durationMinutes(),
+                    estimate.subtotal().getAmount(),
+                    estimate.totalAmount().getAmount(),
+                    estimate.multiplierType().name()))
+                .toList()
+        );
+    }
+    
+    /**
+     * Converts an issued quote to FareQuoteResponse DTO.
+     */
+    public FareQuoteResponse toResponse(IssuedFareQuote issued) {
+        FareQuote quote = issued.quote();
+        return new FareQuoteResponse(
+            quote.quoteId(),
+            issued.token(),
+            quote.vehicleType().name(),
+            quote.multiplierType().name(),
+            BigDecimal.valueOf(quote.distanceKm()),
+            quote.durationMinutes(),
+            quote.totalAmount().getCurrency().name(),
+            quote.totalAmount().getAmount(),
+            quote.expiresAt()
+        );
+    }
+    
     /**
      * Converts Payment entity to PaymentResponse DTO.
      */
@@ -0,0 +1,71 @@
+package com.rappidrive.presentation.mappers;
+
+import com.rappidrive.application.ports.input.payment.ReplacePricingRulesInputPort.ReplacePricingRulesCommand;
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.presentation.dto.request.PricingRuleRequest;
+import com.rappidrive.presentation.dto.request.ReplacePricingRulesRequest;
+import com.rappidrive.presentation.dto.response.PricingRulesResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper for conversion between DTOs and Commands/value objects for tenant pricing rules.
+ */
+@Component
+public class PricingRuleDtoMapper {
+    
+    /**
+     * Converts ReplacePricingRulesRequest to ReplacePricingRulesCommand.
+     */
+    public ReplacePricingRulesCommand toCommand(ReplacePricingRulesRequest request) {
+        return new ReplacePricingRulesCommand(
+            new TenantId(request.tenantId()),
+            request.rules().stream().map(this::toDomain).toList()
+        );
+    }
+    
+    /**
+     * Converts a tenant's rules to PricingRulesResponse DTO.
+     */
+    public PricingRulesResponse toResponse(UUID tenantId, List<PricingRule> rules) {
+        return new PricingRulesResponse(
+            tenantId,
+            rules.stream()
+                .map(rule -> new PricingRulesResponse.Rule(
+                    rule.id(),
+                    rule.name(),
+                    rule.kind().name(),
+                    rule.daysOfWeek(),
+                    rule.startTime(),
+                    rule.endTime(),
+                    rule.startsAt(),
+                    rule.endsAt(),
+                    rule.vehicleTypes().stream().map(Enum::name).collect(Collectors.toSet()),
+                    rule.multiplierType() != null ? rule.multiplierType().name() : null,
+                    rule.multiplier(),
+                    rule.priority()))
+                .toList()
+        );
+    }
+    
+    private PricingRule toDomain(PricingRuleRequest request) {
+        return new PricingRule(
+            UUID.randomUUID(),
+            request.name(),
+            request.kind(),
+            request.daysOfWeek(),
+            request.startTime(),
+            request.endTime(),
+            request.startsAt(),
+            request.endsAt(),
+            request.vehicleTypes(),
+            request.multiplierType(),
+            request.multiplier(),
+            request.priority() != null ? request.priority() : 0
+        );
+    }
+}
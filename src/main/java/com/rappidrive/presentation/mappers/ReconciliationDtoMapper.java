@@ -0,0 +1,51 @@
+package com.rappidrive.presentation.mappers;
+
+import com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort.ReconcilePaymentsCommand;
+import com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort.ReconciliationResult;
+import com.rappidrive.presentation.dto.request.ReconcilePaymentsRequest;
+import com.rappidrive.presentation.dto.response.ReconciliationResponse;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Mapper for conversion between DTOs and Commands/results for payment reconciliation.
+ */
+@Component
+public class ReconciliationDtoMapper {
+    
+    /**
+     * Converts ReconcilePaymentsRequest to ReconcilePaymentsCommand.
+     */
+    public ReconcilePaymentsCommand toCommand(ReconcilePaymentsRequest request) {
+        Path settlementFile = Path.of(request.settlementFile());
+        Path report = request.report() != null && !request.report().isBlank()
+            ? Path.of(request.report())
+            : Path.of(baseName(settlementFile) + "-mismatches.ndjson");
+        return new ReconcilePaymentsCommand(settlementFile, request.format(), request.from(), request.to(), report);
+    }
+    
+    /**
+     * Converts ReconciliationResult to ReconciliationResponse DTO.
+     */
+    public ReconciliationResponse toResponse(ReconciliationResult result) {
+        return new ReconciliationResponse(
+            result.report().toString(),
+            result.gatewayRecords(),
+            result.ledgerPayments(),
+            result.matched(),
+            result.mismatches(),
+            result.missingAtGateway(),
+            result.missingInLedger(),
+            result.amountMismatches(),
+            result.statusMismatches(),
+            result.duplicatesAtGateway()
+        );
+    }
+    
+    private String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+}
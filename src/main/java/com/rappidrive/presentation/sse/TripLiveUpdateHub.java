@@ -0,0 +1,415 @@
+package com.rappidrive.presentation.sse;
+
+import com.rappidrive.application.ports.output.DriverPositionFeedPort;
+import com.rappidrive.domain.enums.TripStatus;
+import com.rappidrive.domain.events.DomainEvent;
+import com.rappidrive.domain.events.DomainEventHandler;
+import com.rappidrive.domain.events.TripCancelledEvent;
+import com.rappidrive.domain.events.TripCompletedEvent;
+import com.rappidrive.domain.events.TripDriverAssignedEvent;
+import com.rappidrive.domain.events.TripStartedEvent;
+import com.rappidrive.domain.valueobjects.Location;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * In-process topic registry behind the live trip stream ({@code GET /api/v1/trips/{id}/live}).
+ *
+ * <p>Each trip with at least one open stream has a topic holding its subscribers. Trip events
+ * arrive from the async domain event bus after commit and are pushed to every subscriber of the
+ * trip, in order, on a virtual thread chained per topic, so a slow client never blocks a bus lane.
+ * Driver positions do not go through the bus: the location use case offers them here directly,
+ * and positions of drivers without a watched trip are dropped with one map lookup. They are not
+ * pushed as they arrive either: each subscriber only keeps the latest position it has not seen
+ * yet, and {@link #flushPositions()} sends it once per interval if the car moved far enough. A
+ * subscriber therefore receives at most one position per interval however often the driver
+ * reports.</p>
+ *
+ * <p>An open stream holds no thread (the request runs in async mode) and costs the emitter plus
+ * one small subscriber object, so idle connections are bounded by the servlet container's
+ * connection limit rather than by memory.</p>
+ */
+@Component
+public class TripLiveUpdateHub implements DomainEventHandler<DomainEvent>, DriverPositionFeedPort {
+
+    private static final Logger log = LoggerFactory.getLogger(TripLiveUpdateHub.class);
+
+    static final String STATUS_EVENT = "status";
+    static final String POSITION_EVENT = "position";
+
+    private final ConcurrentHashMap<UUID, Topic> topics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Topic> topicsByDriver = new ConcurrentHashMap<>();
+    private final Queue<Subscriber> pendingPositions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService ownedSender;
+    private final Executor sender;
+    private final Duration streamTimeout;
+    private final int maxSubscribersPerTrip;
+    private final double minDistanceKm;
+
+    private final Counter statusSent;
+    private final Counter positionsSent;
+    private final Counter positionsCoalesced;
+    private final Counter rejected;
+
+    @Autowired
+    public TripLiveUpdateHub(MeterRegistry meterRegistry,
+                             @Value("${trip.live-updates.stream-timeout-ms:1800000}") long streamTimeoutMs,
+                             @Value("${trip.live-updates.max-subscribers-per-trip:8}") int maxSubscribersPerTrip,
+                             @Value("${trip.live-updates.min-distance-meters:10}") double minDistanceMeters) {
+        this(meterRegistry, Executors.newVirtualThreadPerTaskExecutor(), Duration.ofMillis(streamTimeoutMs),
+            maxSubscribersPerTrip, minDistanceMeters);
+    }
+
+    TripLiveUpdateHub(MeterRegistry meterRegistry, Executor sender, Duration streamTimeout,
+                      int maxSubscribersPerTrip, double minDistanceMeters) {
+        this.ownedSender = sender instanceof ExecutorService service ? service : null;
+        this.sender = sender;
+        this.streamTimeout = streamTimeout;
+        this.maxSubscribersPerTrip = maxSubscribersPerTrip;
+        this.minDistanceKm = minDistanceMeters / 1000.0;
+        this.statusSent = Counter.builder("trip_live_updates_sent_total").tag("type", STATUS_EVENT)
+            .description("Trip status updates pushed to live streams")
+            .register(meterRegistry);
+        this.positionsSent = Counter.builder("trip_live_updates_sent_total").tag("type", POSITION_EVENT)
+            .description("Driver positions pushed to live streams")
+            .register(meterRegistry);
+        this.positionsCoalesced = Counter.builder("trip_live_positions_coalesced_total")
+            .description("Driver positions replaced by a newer one or skipped as too close before being pushed")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("trip_live_subscriptions_rejected_total")
+            .description("Live streams refused because the trip already had the maximum number of subscribers")
+            .register(meterRegistry);
+        Gauge.builder("trip_live_subscribers", subscriberCount, AtomicInteger::get)
+            .description("Open live trip streams")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream on a trip and sends its current status as the first event. The stream is
+     * subscribed before {@code current} reads the trip, and events arriving meanwhile are held
+     * until that snapshot is sent, so a change committed during the read is in the snapshot, sent
+     * after it, or both. A trip that is already finished gets its status and the stream is closed
+     * right away.
+     *
+     * @param current reads the trip's current state; what it throws is rethrown
+     * @throws TooManySubscribersException if the trip already has the maximum number of streams
+     */
+    public SseEmitter subscribe(UUID tripId, Supplier<TripState> current) {
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        Topic topic = topics.compute(tripId, (id, existing) -> {
+            Topic t = existing != null ? existing : new Topic(id);
+            if (t.subscribers.size() < maxSubscribersPerTrip) {
+                t.subscribers.add(subscriber);
+                subscriber.topic = t;
+            }
+            return t;
+        });
+        if (subscriber.topic == null) {
+            rejected.increment();
+            removeIfEmpty(topic);
+            throw new TooManySubscribersException(tripId, maxSubscribersPerTrip);
+        }
+        subscriberCount.incrementAndGet();
+        CompletableFuture<StatusUpdate> snapshot = new CompletableFuture<>();
+        topic.enqueueAfter(snapshot, update -> {
+            if (update != null && send(emitter, STATUS_EVENT, update) && isFinal(update.status())) {
+                emitter.complete();
+            }
+        });
+
+        TripState state;
+        try {
+            state = current.get();
+        } catch (RuntimeException ex) {
+            unsubscribe(subscriber);
+            snapshot.complete(null);
+            throw ex;
+        }
+        if (isFinal(state.status())) {
+            unsubscribe(subscriber);
+        } else {
+            if (state.driverId() != null) {
+                bindDriver(topic, state.driverId());
+            }
+            emitter.onCompletion(() -> unsubscribe(subscriber));
+            emitter.onTimeout(emitter::complete);
+            emitter.onError(error -> unsubscribe(subscriber));
+        }
+        snapshot.complete(new StatusUpdate(tripId, state.status(), state.driverId(), LocalDateTime.now()));
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(streamTimeout.toMillis());
+    }
+
+    @Override
+    public boolean canHandle(DomainEvent event) {
+        if (topics.isEmpty()) {
+            return false;
+        }
+        return event instanceof TripDriverAssignedEvent
+            || event instanceof TripStartedEvent
+            || event instanceof TripCompletedEvent
+            || event instanceof TripCancelledEvent;
+    }
+
+    /**
+     * Runs on the bus lane of the event's aggregate; never blocks on a client.
+     */
+    @Override
+    public void handle(DomainEvent event) {
+        switch (event) {
+            case TripDriverAssignedEvent assigned -> {
+                Topic topic = topics.get(assigned.tripId().getValue());
+                if (topic != null) {
+                    bindDriver(topic, assigned.driverId().getValue());
+                    publishStatus(topic, TripStatus.DRIVER_ASSIGNED, assigned.occurredOn());
+                }
+            }
+            case TripStartedEvent started ->
+                publishStatus(topics.get(started.tripId().getValue()), TripStatus.IN_PROGRESS, started.occurredOn());
+            case TripCompletedEvent completed ->
+                publishStatus(topics.get(completed.tripId().getValue()), TripStatus.COMPLETED, completed.occurredOn());
+            case TripCancelledEvent cancelled ->
+                publishStatus(topics.get(cancelled.tripId().getValue()), TripStatus.CANCELLED, cancelled.occurredOn());
+            default -> { }
+        }
+    }
+
+    /**
+     * Runs on the request thread of every driver position report; never blocks on a client.
+     */
+    @Override
+    public void offer(UUID driverId, Location location) {
+        Topic topic = topicsByDriver.get(driverId);
+        if (topic == null) {
+            return;
+        }
+        PositionUpdate position = new PositionUpdate(topic.tripId, location.getLatitude(), location.getLongitude(),
+            LocalDateTime.now());
+        for (Subscriber subscriber : topic.subscribers) {
+            if (subscriber.pendingPosition.getAndSet(position) == null) {
+                pendingPositions.add(subscriber);
+            } else {
+                positionsCoalesced.increment();
+            }
+        }
+    }
+
+    /**
+     * Pushes the latest pending position of every subscriber that has one. Positions closer than
+     * the minimum distance to the last one pushed to that subscriber are dropped.
+     */
+    @Scheduled(fixedDelayString = "${trip.live-updates.position-interval-ms:1000}")
+    public void flushPositions() {
+        Subscriber subscriber;
+        while ((subscriber = pendingPositions.poll()) != null) {
+            PositionUpdate position = subscriber.pendingPosition.getAndSet(null);
+            if (position == null || subscriber.closed) {
+                continue;
+            }
+            if (subscriber.lastSentPosition != null
+                    && Location.distanceKm(subscriber.lastSentPosition.latitude(), subscriber.lastSentPosition.longitude(),
+                        position.latitude(), position.longitude()) < minDistanceKm) {
+                positionsCoalesced.increment();
+                continue;
+            }
+            subscriber.lastSentPosition = position;
+            SseEmitter emitter = subscriber.emitter;
+            sender.execute(() -> {
+                if (send(emitter, POSITION_EVENT, position)) {
+                    positionsSent.increment();
+                }
+            });
+        }
+    }
+
+    /**
+     * Comments on every open stream, so that proxies keep idle streams open and streams of
+     * clients that went away are detected and released.
+     */
+    @Scheduled(fixedDelayString = "${trip.live-updates.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                SseEmitter emitter = subscriber.emitter;
+                sender.execute(() -> {
+                    try {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } catch (IOException | IllegalStateException ex) {
+                        emitter.completeWithError(ex);
+                    }
+                });
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Topic topic : topics.values()) {
+            topic.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        }
+        if (ownedSender != null) {
+            ownedSender.shutdown();
+        }
+    }
+
+    private void publishStatus(Topic topic, TripStatus status, LocalDateTime occurredOn) {
+        if (topic == null) {
+            return;
+        }
+        StatusUpdate update = new StatusUpdate(topic.tripId, status, topic.driverId, occurredOn);
+        boolean last = isFinal(status);
+        topic.enqueue(() -> {
+            for (Subscriber subscriber : topic.subscribers) {
+                if (send(subscriber.emitter, STATUS_EVENT, update)) {
+                    statusSent.increment();
+                }
+                if (last) {
+                    subscriber.emitter.complete();
+                }
+            }
+        });
+    }
+
+    private void bindDriver(Topic topic, UUID driverId) {
+        topic.driverId = driverId;
+        topicsByDriver.put(driverId, topic);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        Topic topic = subscriber.topic;
+        if (subscriber.closed || topic == null) {
+            return;
+        }
+        subscriber.closed = true;
+        if (topic.subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+        removeIfEmpty(topic);
+    }
+
+    private void removeIfEmpty(Topic topic) {
+        Topic removed = topics.computeIfPresent(topic.tripId, (id, t) -> t == topic && t.subscribers.isEmpty() ? null : t);
+        if (removed == null && topic.driverId != null) {
+            topicsByDriver.remove(topic.driverId, topic);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            // the client went away or the stream already completed
+            log.debug("[TRIP_LIVE_SEND_FAILED] event={} reason={}", name, ex.getMessage());
+            emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    private static boolean isFinal(TripStatus status) {
+        return status == TripStatus.COMPLETED || status == TripStatus.CANCELLED;
+    }
+
+    /**
+     * Subscribers of one trip. Status pushes are chained on {@code tail} so they reach each
+     * subscriber in the order the events were published; a push waiting for a new stream's
+     * snapshot holds back the ones behind it.
+     */
+    private final class Topic {
+        final UUID tripId;
+        final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        volatile UUID driverId;
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        Topic(UUID tripId) {
+            this.tripId = tripId;
+        }
+
+        synchronized void enqueue(Runnable push) {
+            tail = tail.thenRunAsync(push, sender).exceptionally(this::pushFailed);
+        }
+
+        synchronized <T> void enqueueAfter(CompletableFuture<T> ready, Consumer<T> push) {
+            tail = tail.thenCombine(ready, (previous, value) -> value).thenAcceptAsync(push, sender)
+                .exceptionally(this::pushFailed);
+        }
+
+        private Void pushFailed(Throwable error) {
+            log.warn("[TRIP_LIVE_PUSH_FAILED] tripId={}", tripId, error);
+            return null;
+        }
+    }
+
+    /**
+     * One open stream. {@code lastSentPosition} is only touched by {@link #flushPositions()},
+     * which never runs concurrently with itself.
+     */
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final AtomicReference<PositionUpdate> pendingPosition = new AtomicReference<>();
+        volatile Topic topic;
+        volatile boolean closed;
+        PositionUpdate lastSentPosition;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * A trip's current status and driver, read when a stream opens.
+     */
+    public record TripState(TripStatus status, UUID driverId) {
+    }
+
+    public record StatusUpdate(UUID tripId, TripStatus status, UUID driverId, LocalDateTime occurredOn) {
+    }
+
+    public record PositionUpdate(UUID tripId, double latitude, double longitude, LocalDateTime reportedAt) {
+    }
+
+    /**
+     * Raised when a trip already has {@code trip.live-updates.max-subscribers-per-trip} open streams.
+     */
+    public static class TooManySubscribersException extends RuntimeException {
+        public TooManySubscribersException(UUID tripId, int limit) {
+            super("Trip " + tripId + " already has " + limit + " live streams");
+        }
+    }
+}
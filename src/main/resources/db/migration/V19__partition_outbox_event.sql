@@ -0,0 +1,55 @@
+-- Flyway migration: Convert outbox_event into a table range-partitioned by created_at.
+--
+-- The existing table is attached as a single partition holding everything created before this
+-- migration, so no rows are copied. Its upper bound is taken from the data (at least the end of
+-- today), so rows already written today, or later under clock skew, stay inside it; daily
+-- partitions for the following week start at that bound. Days are UTC days, the same time base
+-- the outbox writer and OutboxPartitionMaintenanceJob use. The job keeps creating partitions ahead
+-- of time and drops old ones once no PENDING rows are left in them. The default partition only
+-- catches rows outside the pre-created range.
+
+ALTER TABLE outbox_event RENAME TO outbox_event_legacy;
+ALTER TABLE outbox_event_legacy RENAME CONSTRAINT outbox_event_pkey TO outbox_event_legacy_pkey;
+DROP INDEX IF EXISTS idx_outbox_status_next_attempt;
+DROP INDEX IF EXISTS idx_outbox_trace;
+
+CREATE TABLE outbox_event (
+  id UUID NOT NULL,
+  aggregate_id UUID,
+  event_type VARCHAR(255) NOT NULL,
+  payload JSONB NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+  attempts INT NOT NULL DEFAULT 0,
+  next_attempt_at TIMESTAMP NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT now(),
+  sent_at TIMESTAMP NULL,
+  trace_id VARCHAR(64),
+  span_id VARCHAR(32),
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+  today DATE := (now() AT TIME ZONE 'UTC')::date;
+  legacy_upper DATE;
+  day DATE;
+BEGIN
+  -- GREATEST ignores the NULL max() of an empty table
+  SELECT GREATEST(max(created_at)::date + 1, today + 1) INTO legacy_upper FROM outbox_event_legacy;
+  EXECUTE format('ALTER TABLE outbox_event ATTACH PARTITION outbox_event_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+                 legacy_upper::timestamp);
+  FOR i IN 0..7 LOOP
+    day := legacy_upper + i;
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF outbox_event FOR VALUES FROM (%L) TO (%L)',
+                   'outbox_event_p' || to_char(day, 'YYYYMMDD'), day::timestamp, (day + 1)::timestamp);
+  END LOOP;
+END $$;
+
+CREATE TABLE IF NOT EXISTS outbox_event_default PARTITION OF outbox_event DEFAULT;
+
+-- Partial index: only PENDING rows are indexed, so the poll index stays small however much
+-- SENT history a partition holds.
+CREATE INDEX IF NOT EXISTS idx_outbox_pending_created ON outbox_event(created_at) WHERE status = 'PENDING';
+-- Lets partition maintenance check for dead-lettered rows without scanning SENT history.
+CREATE INDEX IF NOT EXISTS idx_outbox_failed_created ON outbox_event(created_at) WHERE status = 'FAILED';
+CREATE INDEX IF NOT EXISTS idx_outbox_trace ON outbox_event(trace_id, span_id);
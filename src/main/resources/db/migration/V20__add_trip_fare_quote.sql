@@ -0,0 +1,11 @@
+-- Flyway migration: Persist the estimate a trip was requested with.
+--
+-- estimated_fare and distance_km are written once at creation, so loading a trip no longer
+-- recomputes them. fare_quote_token holds the signed fare quote (if the passenger requested the
+-- trip with one) whose prices are used again when the trip is completed.
+
+ALTER TABLE trips ADD COLUMN estimated_fare NUMERIC(10, 2);
+ALTER TABLE trips ADD COLUMN fare_quote_token TEXT;
+
+COMMENT ON COLUMN trips.estimated_fare IS 'Fare estimated or quoted when the trip was requested';
+COMMENT ON COLUMN trips.fare_quote_token IS 'Signed fare quote the trip was requested with';
@@ -0,0 +1,43 @@
+-- Flyway migration: Version fare configurations and announce every change.
+--
+-- config_version is bumped from a sequence on every insert and update, so it only ever grows.
+-- After each insert, update or delete, 'tenant_id:version' is sent on the
+-- fare_configuration_changed channel. Postgres delivers notifications on commit, and every node's
+-- FareConfigurationChangeListener evicts its cached copy when it is older than the announced version.
+
+CREATE SEQUENCE IF NOT EXISTS fare_configuration_version_seq;
+
+ALTER TABLE fare_configurations
+    ADD COLUMN config_version BIGINT NOT NULL DEFAULT nextval('fare_configuration_version_seq');
+
+CREATE OR REPLACE FUNCTION fare_configurations_bump_version() RETURNS trigger AS $$
+BEGIN
+    NEW.config_version := nextval('fare_configuration_version_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_fare_configurations_version
+    BEFORE INSERT OR UPDATE ON fare_configurations
+    FOR EACH ROW EXECUTE FUNCTION fare_configurations_bump_version();
+
+CREATE OR REPLACE FUNCTION fare_configurations_notify_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('fare_configuration_changed',
+            OLD.tenant_id::text || ':' || nextval('fare_configuration_version_seq'));
+        RETURN OLD;
+    END IF;
+    IF TG_OP = 'UPDATE' AND OLD.tenant_id <> NEW.tenant_id THEN
+        PERFORM pg_notify('fare_configuration_changed', OLD.tenant_id::text || ':' || NEW.config_version);
+    END IF;
+    PERFORM pg_notify('fare_configuration_changed', NEW.tenant_id::text || ':' || NEW.config_version);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_fare_configurations_notify
+    AFTER INSERT OR UPDATE OR DELETE ON fare_configurations
+    FOR EACH ROW EXECUTE FUNCTION fare_configurations_notify_change();
+
+COMMENT ON COLUMN fare_configurations.config_version IS 'Monotonic change number, sent with change notifications';
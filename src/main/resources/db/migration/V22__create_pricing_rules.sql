@@ -0,0 +1,65 @@
+-- Flyway migration: Tenant pricing rules.
+--
+-- Rules are stored as data and compiled by each node into lookup tables (PricingTable). A tenant's
+-- rules are always replaced as a whole; sort_order keeps the order they were declared in, which
+-- breaks ties between rules of equal priority. After each change the tenant id is sent on the
+-- pricing_rules_changed channel (Postgres folds duplicates within a transaction), and every node
+-- evicts the tenant's compiled table.
+
+CREATE TABLE IF NOT EXISTS pricing_rules (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    sort_order INTEGER NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+
+    -- WEEKLY: bit n = ISO day of week n + 1, window in minutes of the day
+    days_of_week SMALLINT,
+    start_minute SMALLINT,
+    end_minute SMALLINT,
+
+    -- DATED: local date-time range, end exclusive
+    starts_at TIMESTAMP,
+    ends_at TIMESTAMP,
+
+    -- comma-separated vehicle types, NULL = all
+    vehicle_types VARCHAR(100),
+    multiplier_type VARCHAR(20),
+    multiplier NUMERIC(3, 2) NOT NULL,
+    priority INTEGER NOT NULL DEFAULT 0,
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_pricing_rules_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id),
+    CONSTRAINT chk_pricing_rules_kind CHECK (kind IN ('VEHICLE_RATE', 'WEEKLY', 'DATED')),
+    CONSTRAINT chk_pricing_rules_multiplier_type
+        CHECK (multiplier_type IS NULL OR multiplier_type IN ('NORMAL', 'PEAK', 'LATE_NIGHT')),
+    CONSTRAINT chk_pricing_rules_multiplier CHECK (multiplier > 0),
+    CONSTRAINT chk_pricing_rules_days CHECK (days_of_week IS NULL OR days_of_week BETWEEN 1 AND 127),
+    CONSTRAINT chk_pricing_rules_minutes CHECK (
+        (start_minute IS NULL OR start_minute BETWEEN 0 AND 1439)
+        AND (end_minute IS NULL OR end_minute BETWEEN 0 AND 1439)),
+    CONSTRAINT chk_pricing_rules_range CHECK (starts_at IS NULL OR ends_at > starts_at)
+);
+
+CREATE UNIQUE INDEX idx_pricing_rules_tenant_order ON pricing_rules(tenant_id, sort_order);
+
+CREATE OR REPLACE FUNCTION pricing_rules_notify_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM pg_notify('pricing_rules_changed', OLD.tenant_id::text);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM pg_notify('pricing_rules_changed', NEW.tenant_id::text);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_pricing_rules_notify
+    AFTER INSERT OR UPDATE OR DELETE ON pricing_rules
+    FOR EACH ROW EXECUTE FUNCTION pricing_rules_notify_change();
+
+COMMENT ON TABLE pricing_rules IS 'Tenant pricing rules, compiled into per-minute lookup tables';
+COMMENT ON COLUMN pricing_rules.sort_order IS 'Declaration order within the tenant, breaks priority ties';
+COMMENT ON COLUMN pricing_rules.multiplier_type IS 'Category recorded on fares priced by a time rule';
@@ -0,0 +1,21 @@
+-- Flyway migration: Payment settlement queue.
+--
+-- Completing a trip paid by card or PIX commits the payment as PENDING and enqueues it here in the
+-- same transaction; the settlement worker charges it through the gateway afterwards. Claiming an
+-- entry bumps attempts and pushes due_at out by the lease, so a worker that dies mid-settlement
+-- only delays the payment. Rows are deleted once the trip reflects the final payment state.
+
+CREATE TABLE IF NOT EXISTS payment_settlements (
+    payment_id UUID PRIMARY KEY,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    due_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_payment_settlements_payment FOREIGN KEY (payment_id) REFERENCES payments(id) ON DELETE CASCADE,
+    CONSTRAINT chk_payment_settlements_attempts CHECK (attempts >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_payment_settlements_due ON payment_settlements(due_at);
+
+COMMENT ON TABLE payment_settlements IS 'Payments waiting to be settled with the payment gateway';
+COMMENT ON COLUMN payment_settlements.due_at IS 'When the next attempt is due; lease expiry while an attempt runs';
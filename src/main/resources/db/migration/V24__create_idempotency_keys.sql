@@ -0,0 +1,27 @@
+-- Flyway migration: Idempotency keys for payments and refunds.
+--
+-- A request carrying a key inserts its row as IN_PROGRESS before doing any work; the primary key
+-- makes that insert the arbiter between concurrent duplicates. The row is then completed with the
+-- id of the resource produced, or deleted if the request failed so the client can retry it.
+-- A request with a known key but a different request_hash is rejected. Completed rows are purged
+-- after the retention window.
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    scope VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    resource_id UUID,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (scope, idempotency_key),
+    CONSTRAINT chk_idempotency_keys_status CHECK (status IN ('IN_PROGRESS', 'COMPLETED')),
+    CONSTRAINT chk_idempotency_keys_resource CHECK (status <> 'COMPLETED' OR resource_id IS NOT NULL)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at ON idempotency_keys(created_at);
+
+COMMENT ON TABLE idempotency_keys IS 'Client idempotency keys of payment and refund requests';
+COMMENT ON COLUMN idempotency_keys.request_hash IS 'SHA-256 of the request parameters the key was first used with';
+COMMENT ON COLUMN idempotency_keys.resource_id IS 'Payment produced by the first request with this key';
@@ -0,0 +1,42 @@
+-- Flyway migration: Daily driver payouts.
+--
+-- The payout batch aggregates each tenant's completed payments of a business day per driver and
+-- currency. A tenant's payouts and its checkpoint are written in one transaction; a rerun skips
+-- checkpointed tenants and recomputes the rest, replacing any payouts they left behind.
+
+CREATE TABLE IF NOT EXISTS driver_payouts (
+    tenant_id UUID NOT NULL,
+    business_date DATE NOT NULL,
+    driver_id UUID NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    trip_count INTEGER NOT NULL,
+    gross_amount NUMERIC(14, 2) NOT NULL,
+    platform_fee NUMERIC(14, 2) NOT NULL,
+    driver_earnings NUMERIC(14, 2) NOT NULL,
+    cash_collected NUMERIC(14, 2) NOT NULL,
+    net_payout NUMERIC(14, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_driver_payouts PRIMARY KEY (tenant_id, business_date, driver_id, currency),
+    CONSTRAINT fk_driver_payouts_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id),
+    CONSTRAINT fk_driver_payouts_driver FOREIGN KEY (driver_id) REFERENCES drivers(id),
+    CONSTRAINT chk_driver_payouts_trip_count CHECK (trip_count > 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_driver_payouts_driver ON driver_payouts(driver_id, business_date);
+
+CREATE TABLE IF NOT EXISTS driver_payout_checkpoints (
+    tenant_id UUID NOT NULL,
+    business_date DATE NOT NULL,
+    payment_count BIGINT NOT NULL,
+    payout_count INTEGER NOT NULL,
+    completed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_driver_payout_checkpoints PRIMARY KEY (tenant_id, business_date),
+    CONSTRAINT fk_driver_payout_checkpoints_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id)
+);
+
+COMMENT ON TABLE driver_payouts IS 'Driver earnings and platform fees per tenant, business day and currency';
+COMMENT ON COLUMN driver_payouts.cash_collected IS 'Cash fares the driver already holds';
+COMMENT ON COLUMN driver_payouts.net_payout IS 'driver_earnings - cash_collected; negative when the driver owes fees';
+COMMENT ON TABLE driver_payout_checkpoints IS 'Tenant business days whose payouts are complete';
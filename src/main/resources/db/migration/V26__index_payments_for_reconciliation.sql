@@ -0,0 +1,9 @@
+-- Flyway migration: Index for payment reconciliation.
+--
+-- Reconciliation streams a window of payments ordered by gateway transaction id in byte order
+-- (COLLATE "C") to merge-join them with the gateway's settlement export. This index returns them
+-- in that order, so Postgres does not have to sort millions of rows before the first one arrives.
+
+CREATE INDEX IF NOT EXISTS idx_payment_gateway_transaction_c
+    ON payments (gateway_transaction_id COLLATE "C", created_at)
+    WHERE gateway_transaction_id IS NOT NULL;
@@ -0,0 +1,57 @@
+-- Flyway migration: Double-entry ledger.
+--
+-- Every completed or refunded payment appends one journal entry whose postings sum to zero
+-- (amounts in cents, debits positive), in the same transaction as the payment update. Rows are
+-- never updated or deleted. Account ids are derived from (tenant, type, owner, currency).
+--
+-- ledger_balance_snapshots holds each account's balance up to a posting id; a balance read adds
+-- the account's postings after it, which idx_ledger_postings_account serves as an index-only scan.
+
+CREATE TABLE IF NOT EXISTS ledger_accounts (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    account_type VARCHAR(30) NOT NULL,
+    owner_id UUID NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_ledger_account UNIQUE (tenant_id, account_type, owner_id, currency),
+    CONSTRAINT chk_ledger_account_type
+        CHECK (account_type IN ('GATEWAY_CLEARING', 'PLATFORM_REVENUE', 'DRIVER_PAYABLE', 'SUSPENSE')),
+    CONSTRAINT chk_ledger_account_currency CHECK (currency IN ('BRL', 'USD', 'EUR'))
+);
+
+CREATE TABLE IF NOT EXISTS ledger_journal_entries (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    entry_type VARCHAR(30) NOT NULL,
+    reference_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_ledger_journal_reference UNIQUE (entry_type, reference_id)
+);
+
+CREATE TABLE IF NOT EXISTS ledger_postings (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    journal_entry_id UUID NOT NULL,
+    account_id UUID NOT NULL,
+    amount_cents BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_ledger_posting_entry FOREIGN KEY (journal_entry_id) REFERENCES ledger_journal_entries(id),
+    CONSTRAINT fk_ledger_posting_account FOREIGN KEY (account_id) REFERENCES ledger_accounts(id),
+    CONSTRAINT chk_ledger_posting_amount CHECK (amount_cents <> 0)
+);
+
+CREATE INDEX idx_ledger_postings_account ON ledger_postings(account_id, id) INCLUDE (amount_cents);
+CREATE INDEX idx_ledger_postings_entry ON ledger_postings(journal_entry_id);
+
+CREATE TABLE IF NOT EXISTS ledger_balance_snapshots (
+    account_id UUID PRIMARY KEY,
+    balance_cents BIGINT NOT NULL,
+    last_posting_id BIGINT NOT NULL,
+    taken_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_ledger_snapshot_account FOREIGN KEY (account_id) REFERENCES ledger_accounts(id)
+);
+
+CREATE INDEX idx_ledger_snapshots_last_posting ON ledger_balance_snapshots(last_posting_id);
+
+COMMENT ON TABLE ledger_postings IS 'Append-only ledger postings; debits positive, credits negative';
+COMMENT ON TABLE ledger_balance_snapshots IS 'Account balances up to last_posting_id, advanced by LedgerSnapshotJob';
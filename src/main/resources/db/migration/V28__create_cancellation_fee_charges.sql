@@ -0,0 +1,28 @@
+-- Flyway migration: Cancellation fee queue.
+--
+-- Cancelling a trip that owes a fee commits the trip as CANCELLED and enqueues the fee here in the
+-- same transaction; the cancellation fee worker charges it through the gateway afterwards.
+-- Claiming an entry bumps attempts and pushes due_at out by the lease, like payment_settlements.
+-- Rows are deleted once the gateway gave a final answer or the fee was given up on.
+
+CREATE TABLE IF NOT EXISTS cancellation_fee_charges (
+    trip_id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    reason VARCHAR(255) NOT NULL,
+    cancelled_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    due_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_cancellation_fee_charges_trip FOREIGN KEY (trip_id) REFERENCES trips(id) ON DELETE CASCADE,
+    CONSTRAINT chk_cancellation_fee_charges_amount CHECK (amount > 0),
+    CONSTRAINT chk_cancellation_fee_charges_attempts CHECK (attempts >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_cancellation_fee_charges_due ON cancellation_fee_charges(due_at);
+
+COMMENT ON TABLE cancellation_fee_charges IS 'Cancellation fees waiting to be charged through the payment gateway';
+COMMENT ON COLUMN cancellation_fee_charges.cancelled_at IS 'When the trip was cancelled; charge lag is measured from here';
+COMMENT ON COLUMN cancellation_fee_charges.due_at IS 'When the next attempt is due; lease expiry while an attempt runs';
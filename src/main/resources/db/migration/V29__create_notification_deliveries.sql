@@ -0,0 +1,23 @@
+-- Flyway migration: Push notification delivery queue.
+--
+-- Sending a push notification only stores it as PENDING and enqueues it here in the same
+-- transaction; the delivery worker claims due entries in batches, pushes them through their
+-- provider in batch calls and updates the notifications' status in bulk. Claiming an entry bumps
+-- attempts and pushes due_at out by the lease, like payment_settlements. Rows are deleted once the
+-- notification is SENT or FAILED.
+
+CREATE TABLE IF NOT EXISTS notification_deliveries (
+    notification_id UUID PRIMARY KEY,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    due_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_notification_deliveries_notification FOREIGN KEY (notification_id)
+        REFERENCES notifications(id) ON DELETE CASCADE,
+    CONSTRAINT chk_notification_deliveries_attempts CHECK (attempts >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_deliveries_due ON notification_deliveries(due_at);
+
+COMMENT ON TABLE notification_deliveries IS 'Push notifications waiting to be delivered through their provider';
+COMMENT ON COLUMN notification_deliveries.due_at IS 'When the next attempt is due; lease expiry while an attempt runs';
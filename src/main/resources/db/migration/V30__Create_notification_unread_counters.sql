@@ -0,0 +1,28 @@
+-- Flyway migration: Per-user unread notification counters.
+--
+-- The badge count used to be a COUNT over the user's PENDING/SENT notifications on every refresh.
+-- Counters are now adjusted in the same transaction that creates a notification, reads it, fails
+-- its delivery or soft-deletes it, so the badge is a primary key lookup. version is bumped on every
+-- change, letting per-node caches keep the newest value they have seen. A reconciliation job
+-- rewrites counters that drifted from the actual count.
+
+CREATE TABLE IF NOT EXISTS notification_unread_counters (
+    tenant_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    unread_count BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_notification_unread_counters PRIMARY KEY (tenant_id, user_id),
+    CONSTRAINT chk_notification_unread_counters_count CHECK (unread_count >= 0)
+);
+
+INSERT INTO notification_unread_counters (tenant_id, user_id, unread_count, version, updated_at)
+SELECT tenant_id, user_id, COUNT(*), 1, CURRENT_TIMESTAMP
+FROM notifications
+WHERE status IN ('PENDING', 'SENT') AND deleted_at IS NULL
+GROUP BY tenant_id, user_id
+ON CONFLICT (tenant_id, user_id) DO NOTHING;
+
+COMMENT ON TABLE notification_unread_counters IS 'Unread (PENDING or SENT, not deleted) notifications per user';
+COMMENT ON COLUMN notification_unread_counters.version IS 'Bumped on every change; caches keep the highest version seen';
@@ -0,0 +1,20 @@
+-- Flyway migration: Indexes for notification retention and history queries.
+--
+-- NotificationRetentionJob soft-deletes expired notifications in keyset chunks ordered by
+-- (created_at, id) and later hard-deletes soft-deleted rows past their grace period ordered by
+-- deleted_at. Both walks use partial indexes, so a chunk reads only the rows it touches no matter
+-- how much history has piled up. The per-user listing is served by an index matching its filter
+-- and ORDER BY, which keeps it an index range scan as history grows.
+-- Note: Using regular CREATE INDEX (not CONCURRENTLY) for Flyway compatibility
+
+CREATE INDEX IF NOT EXISTS idx_notifications_retention_live
+ON notifications (created_at, id)
+WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_retention_deleted
+ON notifications (deleted_at)
+WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_history
+ON notifications (user_id, tenant_id, created_at DESC)
+WHERE deleted_at IS NULL;
@@ -0,0 +1,36 @@
+-- Flyway migration: Per-driver aggregates of active passenger ratings.
+--
+-- The driver rating summary used to run AVG and COUNT over the driver's ratings and load every
+-- active rating to build the 1-5 distribution. The aggregates are now adjusted in the same
+-- transaction that creates a rating or reports it, so the summary reads a single row.
+
+CREATE TABLE IF NOT EXISTS driver_rating_stats (
+    driver_id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    score_sum BIGINT NOT NULL DEFAULT 0,
+    score_1_count BIGINT NOT NULL DEFAULT 0,
+    score_2_count BIGINT NOT NULL DEFAULT 0,
+    score_3_count BIGINT NOT NULL DEFAULT 0,
+    score_4_count BIGINT NOT NULL DEFAULT 0,
+    score_5_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_driver_rating_stats PRIMARY KEY (driver_id),
+    CONSTRAINT chk_driver_rating_stats_counts CHECK (
+        rating_count >= 0 AND score_sum >= 0 AND score_1_count >= 0 AND score_2_count >= 0
+        AND score_3_count >= 0 AND score_4_count >= 0 AND score_5_count >= 0
+    )
+);
+
+INSERT INTO driver_rating_stats (driver_id, tenant_id, rating_count, score_sum,
+                                 score_1_count, score_2_count, score_3_count, score_4_count, score_5_count, updated_at)
+SELECT ratee_id, MIN(tenant_id::text)::uuid, COUNT(*), SUM(score),
+       COUNT(*) FILTER (WHERE score = 1), COUNT(*) FILTER (WHERE score = 2), COUNT(*) FILTER (WHERE score = 3),
+       COUNT(*) FILTER (WHERE score = 4), COUNT(*) FILTER (WHERE score = 5), CURRENT_TIMESTAMP
+FROM ratings
+WHERE type = 'DRIVER_BY_PASSENGER' AND status = 'ACTIVE'
+GROUP BY ratee_id
+ON CONFLICT (driver_id) DO NOTHING;
+
+COMMENT ON TABLE driver_rating_stats IS 'Count, score sum and per-score histogram of each driver''s ACTIVE DRIVER_BY_PASSENGER ratings';
@@ -0,0 +1,14 @@
+-- Flyway migration: park settlements whose outcome is unknown.
+--
+-- When the final settlement attempt times out after the charge was sent, the gateway may have
+-- charged the passenger. The payment stays PENDING and its queue entry is kept with status UNKNOWN
+-- for reconciliation instead of failing the payment; workers only claim PENDING entries.
+
+ALTER TABLE payment_settlements ADD COLUMN IF NOT EXISTS status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
+ALTER TABLE payment_settlements ADD CONSTRAINT chk_payment_settlements_status CHECK (status IN ('PENDING', 'UNKNOWN'));
+
+DROP INDEX IF EXISTS idx_payment_settlements_due;
+CREATE INDEX IF NOT EXISTS idx_payment_settlements_due ON payment_settlements(due_at) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_payment_settlements_unknown ON payment_settlements(created_at) WHERE status = 'UNKNOWN';
+
+COMMENT ON COLUMN payment_settlements.status IS 'PENDING while being settled; UNKNOWN once parked for reconciliation';
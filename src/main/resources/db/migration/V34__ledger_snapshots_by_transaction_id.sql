@@ -0,0 +1,28 @@
+-- Flyway migration: advance ledger snapshots by transaction id instead of posting id.
+--
+-- Posting ids are assigned before commit, so a transaction that commits late can add a posting
+-- below a snapshot's last_posting_id, which every balance read would then miss. Each posting now
+-- records the id of the transaction that wrote it. Every transaction older than the oldest one
+-- still running (pg_snapshot_xmin) has finished, so snapshots fold postings up to that id and no
+-- posting can appear below it afterwards.
+--
+-- Existing postings get tx_id 0 and the snapshots are rebuilt from all of them, which also picks
+-- up any posting the posting-id watermark had skipped.
+
+ALTER TABLE ledger_postings ADD COLUMN IF NOT EXISTS tx_id BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE ledger_postings ALTER COLUMN tx_id SET DEFAULT pg_current_xact_id()::text::bigint;
+
+DROP INDEX IF EXISTS idx_ledger_postings_account;
+CREATE INDEX idx_ledger_postings_account ON ledger_postings(account_id, tx_id) INCLUDE (amount_cents);
+CREATE INDEX idx_ledger_postings_tx ON ledger_postings(tx_id);
+
+DROP INDEX IF EXISTS idx_ledger_snapshots_last_posting;
+ALTER TABLE ledger_balance_snapshots RENAME COLUMN last_posting_id TO below_tx_id;
+CREATE INDEX idx_ledger_snapshots_below_tx ON ledger_balance_snapshots(below_tx_id);
+
+DELETE FROM ledger_balance_snapshots;
+INSERT INTO ledger_balance_snapshots (account_id, balance_cents, below_tx_id, taken_at)
+SELECT account_id, SUM(amount_cents), 1, CURRENT_TIMESTAMP FROM ledger_postings GROUP BY account_id;
+
+COMMENT ON COLUMN ledger_postings.tx_id IS 'Id of the transaction that wrote the posting (pg_current_xact_id)';
+COMMENT ON TABLE ledger_balance_snapshots IS 'Account balances of postings with tx_id below below_tx_id, advanced by LedgerSnapshotJob';
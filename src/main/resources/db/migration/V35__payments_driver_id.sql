@@ -0,0 +1,10 @@
+-- Flyway migration: record the driver paid by each payment.
+--
+-- The ledger posting of a completed or refunded payment credits the trip's driver. Storing the
+-- driver on the payment lets a save post to the ledger without reading the trip.
+
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS driver_id UUID;
+
+UPDATE payments p SET driver_id = t.driver_id FROM trips t WHERE t.id = p.trip_id AND p.driver_id IS NULL;
+
+COMMENT ON COLUMN payments.driver_id IS 'Driver paid for the trip; NULL when the trip had no driver';
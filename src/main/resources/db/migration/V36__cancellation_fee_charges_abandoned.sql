@@ -0,0 +1,16 @@
+-- Flyway migration: keep abandoned cancellation fees.
+--
+-- A fee whose gateway calls failed through the final attempt used to be deleted, leaving no trace
+-- of the fee that was never charged. It is now kept with status ABANDONED for reconciliation;
+-- workers only claim PENDING entries.
+
+ALTER TABLE cancellation_fee_charges ADD COLUMN IF NOT EXISTS status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
+ALTER TABLE cancellation_fee_charges ADD CONSTRAINT chk_cancellation_fee_charges_status
+    CHECK (status IN ('PENDING', 'ABANDONED'));
+
+DROP INDEX IF EXISTS idx_cancellation_fee_charges_due;
+CREATE INDEX IF NOT EXISTS idx_cancellation_fee_charges_due ON cancellation_fee_charges(due_at) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_cancellation_fee_charges_abandoned ON cancellation_fee_charges(cancelled_at)
+    WHERE status = 'ABANDONED';
+
+COMMENT ON COLUMN cancellation_fee_charges.status IS 'PENDING while being charged; ABANDONED once given up on';
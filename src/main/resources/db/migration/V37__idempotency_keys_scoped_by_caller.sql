@@ -0,0 +1,9 @@
+-- Flyway migration: widen idempotency key scopes to hold the caller.
+--
+-- Payment keys are scoped to the trip's tenant and passenger (payment:<tenant>:<passenger>), so two
+-- clients that pick the same Idempotency-Key no longer collide. Keys stored under the old plain
+-- 'payment' scope are left to expire with the retention window.
+
+ALTER TABLE idempotency_keys ALTER COLUMN scope TYPE VARCHAR(100);
+
+COMMENT ON COLUMN idempotency_keys.scope IS 'Operation the key belongs to, qualified by tenant and caller where known';
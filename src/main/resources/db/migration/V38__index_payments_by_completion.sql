@@ -0,0 +1,7 @@
+-- Flyway migration: index completed payments by completion time.
+--
+-- The payout batch assigns a payment to the business day it completed on (processed_at) rather
+-- than the day it was created: card and PIX payments complete after the trip, so selecting by
+-- created_at missed payments that completed after their creation day was checkpointed.
+
+CREATE INDEX IF NOT EXISTS idx_payment_tenant_processed ON payments(tenant_id, processed_at) WHERE status = 'COMPLETED';
@@ -0,0 +1,13 @@
+-- Flyway migration: keep declined cancellation fees.
+--
+-- A fee the gateway declined used to be deleted, leaving finance no record of it. It is now kept
+-- with status DECLINED; like ABANDONED it is never claimed again.
+
+ALTER TABLE cancellation_fee_charges DROP CONSTRAINT IF EXISTS chk_cancellation_fee_charges_status;
+ALTER TABLE cancellation_fee_charges ADD CONSTRAINT chk_cancellation_fee_charges_status
+    CHECK (status IN ('PENDING', 'ABANDONED', 'DECLINED'));
+
+CREATE INDEX IF NOT EXISTS idx_cancellation_fee_charges_declined ON cancellation_fee_charges(cancelled_at)
+    WHERE status = 'DECLINED';
+
+COMMENT ON COLUMN cancellation_fee_charges.status IS 'PENDING while being charged; ABANDONED once given up on; DECLINED once the gateway declined it';
@@ -53,13 +53,13 @@ class ApproveDriverUseCaseTest {
     void setUp() {
         useCase = new ApproveDriverUseCase(approvalRepository, adminRepository, driverRepository);
         eventCollector = new ApproveEventCollector();
-        DomainEventPublisher.instance().clearHandlers();
         DomainEventPublisher.instance().register(eventCollector);
     }
 
     @AfterEach
     void tearDown() {
-        DomainEventPublisher.instance().reset();
+        // only detach our own handler; the publisher is process-wide and shared with Spring contexts
+        DomainEventPublisher.instance().unregister(eventCollector);
     }
 
     @Test
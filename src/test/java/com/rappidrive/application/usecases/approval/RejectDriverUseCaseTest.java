@@ -52,13 +52,13 @@ class RejectDriverUseCaseTest {
     void setUp() {
         useCase = new RejectDriverUseCase(approvalRepository, adminRepository, driverRepository);
         eventCollector = new RejectEventCollector();
-        DomainEventPublisher.instance().clearHandlers();
         DomainEventPublisher.instance().register(eventCollector);
     }
 
     @AfterEach
     void tearDown() {
-        DomainEventPublisher.instance().reset();
+        // only detach our own handler; the publisher is process-wide and shared with Spring contexts
+        DomainEventPublisher.instance().unregister(eventCollector);
     }
 
     @Test
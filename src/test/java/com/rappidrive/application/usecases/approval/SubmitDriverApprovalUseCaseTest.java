@@ -44,13 +44,13 @@ class SubmitDriverApprovalUseCaseTest {
     void setUp() {
         useCase = new SubmitDriverApprovalUseCase(approvalRepository, driverRepository);
         eventHandler = new CollectingHandler();
-        DomainEventPublisher.instance().clearHandlers();
         DomainEventPublisher.instance().register(eventHandler);
     }
 
     @AfterEach
     void tearDown() {
-        DomainEventPublisher.instance().reset();
+        // only detach our own handler; the publisher is process-wide and shared with Spring contexts
+        DomainEventPublisher.instance().unregister(eventHandler);
     }
 
     @Test
@@ -0,0 +1,78 @@
+package com.rappidrive.application.usecases.notification;
+
+import com.rappidrive.application.ports.input.notification.GetUnreadCountInputPort.GetUnreadCountQuery;
+import com.rappidrive.application.ports.input.notification.MarkNotificationAsReadInputPort.MarkAsReadCommand;
+import com.rappidrive.application.ports.output.NotificationRepositoryPort;
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
+import com.rappidrive.domain.entities.Notification;
+import com.rappidrive.domain.enums.NotificationType;
+import com.rappidrive.domain.valueobjects.NotificationContent;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for how the notification use cases keep and read the unread counters.
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterUseCasesTest {
+
+    @Mock
+    private NotificationRepositoryPort notificationRepository;
+
+    @Mock
+    private NotificationUnreadCounterPort unreadCounters;
+
+    private final UserId userId = UserId.generate();
+    private final TenantId tenantId = TenantId.generate();
+    private Notification notification;
+
+    @BeforeEach
+    void setUp() {
+        notification = Notification.create(userId, NotificationType.TRIP_ACCEPTED,
+            NotificationContent.of("Motorista a caminho", "Seu motorista aceitou a corrida", null), tenantId, null);
+        notification.markAsSent();
+    }
+
+    @Test
+    void markingAnUnreadNotificationAsReadLowersTheCounter() {
+        when(notificationRepository.findById(notification.getId())).thenReturn(Optional.of(notification));
+
+        new MarkNotificationAsReadUseCase(notificationRepository, unreadCounters)
+            .execute(new MarkAsReadCommand(notification.getId(), userId, tenantId));
+
+        verify(notificationRepository).save(notification);
+        verify(unreadCounters).adjust(userId, tenantId, -1);
+    }
+
+    @Test
+    void markingAnAlreadyReadNotificationLeavesTheCounterAlone() {
+        notification.markAsRead();
+        when(notificationRepository.findById(notification.getId())).thenReturn(Optional.of(notification));
+
+        new MarkNotificationAsReadUseCase(notificationRepository, unreadCounters)
+            .execute(new MarkAsReadCommand(notification.getId(), userId, tenantId));
+
+        verifyNoInteractions(unreadCounters);
+    }
+
+    @Test
+    void unreadCountIsReadFromTheCounterWithoutCountingNotifications() {
+        when(unreadCounters.get(userId, tenantId)).thenReturn(7L);
+
+        Long count = new GetUnreadCountUseCase(unreadCounters).execute(new GetUnreadCountQuery(userId, tenantId));
+
+        assertThat(count).isEqualTo(7L);
+        verifyNoInteractions(notificationRepository);
+    }
+}
@@ -0,0 +1,161 @@
+package com.rappidrive.application.usecases.notification;
+
+import com.rappidrive.application.ports.input.notification.SendNotificationInputPort.SendNotificationCommand;
+import com.rappidrive.application.ports.output.DriverAssignmentMetricsPort;
+import com.rappidrive.application.ports.output.NotificationCoalescingPort;
+import com.rappidrive.application.ports.output.NotificationDeliveryQueuePort;
+import com.rappidrive.application.ports.output.NotificationIdempotencyFilterPort;
+import com.rappidrive.application.ports.output.NotificationIdempotencyFilterPort.Lookup;
+import com.rappidrive.application.ports.output.NotificationRepositoryPort;
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
+import com.rappidrive.application.ports.output.TelemetryPort;
+import com.rappidrive.domain.entities.Notification;
+import com.rappidrive.domain.enums.NotificationPriority;
+import com.rappidrive.domain.enums.NotificationType;
+import com.rappidrive.domain.valueobjects.NotificationContent;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for how SendNotificationUseCase merges bursts into digest windows.
+ */
+@ExtendWith(MockitoExtension.class)
+class SendNotificationCoalescingTest {
+
+    private static final Duration MEDIUM_WINDOW = Duration.ofSeconds(5);
+    private static final Duration LOW_WINDOW = Duration.ofMinutes(1);
+
+    @Mock
+    private NotificationRepositoryPort notificationRepository;
+
+    @Mock
+    private NotificationDeliveryQueuePort deliveryQueue;
+
+    @Mock
+    private NotificationUnreadCounterPort unreadCounters;
+
+    @Mock
+    private NotificationIdempotencyFilterPort idempotencyFilter;
+
+    @Mock
+    private NotificationCoalescingPort coalescing;
+
+    @Mock
+    private TelemetryPort telemetryPort;
+
+    @Mock
+    private DriverAssignmentMetricsPort metricsPort;
+
+    private final UserId userId = UserId.generate();
+    private final TenantId tenantId = TenantId.generate();
+    private SendNotificationUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        when(telemetryPort.traceUseCase(anyString(), anyMap(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        useCase = new SendNotificationUseCase(notificationRepository, deliveryQueue, unreadCounters, idempotencyFilter,
+            coalescing, Map.of(NotificationPriority.MEDIUM, MEDIUM_WINDOW, NotificationPriority.LOW, LOW_WINDOW),
+            telemetryPort, metricsPort);
+    }
+
+    @Test
+    void highPriorityIsNeverHeldInAWindow() {
+        when(notificationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        LocalDateTime before = LocalDateTime.now();
+
+        useCase.execute(command(NotificationType.TRIP_REQUEST, null));
+
+        verifyNoInteractions(coalescing);
+        ArgumentCaptor<LocalDateTime> dueAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(deliveryQueue).enqueue(any(UUID.class), dueAt.capture());
+        assertThat(dueAt.getValue()).isBefore(before.plus(MEDIUM_WINDOW));
+    }
+
+    @Test
+    void notificationMergedIntoAnOpenDigestCostsNoRowCounterOrPush() {
+        Notification digest = Notification.create(userId, NotificationType.PROMOTION,
+            NotificationContent.of("Promoção", "20% off", null), tenantId, null);
+        when(coalescing.mergeIntoOpenDigest(any(), any())).thenReturn(Optional.of(digest));
+
+        Notification result = useCase.execute(command(NotificationType.PROMOTION, null));
+
+        assertThat(result).isSameAs(digest);
+        verify(notificationRepository, never()).save(any());
+        verifyNoInteractions(unreadCounters, deliveryQueue);
+    }
+
+    @Test
+    void firstNotificationOpensAWindowWhosePushIsDueWhenItCloses() {
+        when(coalescing.mergeIntoOpenDigest(any(), any())).thenReturn(Optional.empty());
+        when(notificationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        LocalDateTime before = LocalDateTime.now();
+
+        useCase.execute(command(NotificationType.TRIP_ACCEPTED, null));
+
+        ArgumentCaptor<LocalDateTime> openSince = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(coalescing).mergeIntoOpenDigest(any(), openSince.capture());
+        assertThat(openSince.getValue()).isBetween(before.minus(MEDIUM_WINDOW), LocalDateTime.now().minus(MEDIUM_WINDOW));
+        ArgumentCaptor<LocalDateTime> dueAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(deliveryQueue).enqueue(any(UUID.class), dueAt.capture());
+        assertThat(dueAt.getValue()).isAfterOrEqualTo(before.plus(MEDIUM_WINDOW));
+        verify(unreadCounters).adjust(userId, tenantId, 1);
+    }
+
+    @Test
+    void keyedNotificationIsStoredOnItsOwn() {
+        when(idempotencyFilter.check(tenantId, "trip-123:accepted")).thenReturn(Lookup.DEFINITELY_ABSENT);
+        when(notificationRepository.saveIfIdempotencyKeyAbsent(any()))
+            .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+        useCase.execute(command(NotificationType.TRIP_ACCEPTED, "trip-123:accepted"));
+
+        verifyNoInteractions(coalescing);
+        verify(deliveryQueue).enqueue(any(UUID.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void lookupOfAKeyTheFilterCannotAnswerIsNotCountedAsAFalsePositive() {
+        when(idempotencyFilter.check(tenantId, "trip-123:accepted")).thenReturn(Lookup.NOT_READY);
+        when(notificationRepository.findByIdempotencyKey("trip-123:accepted", tenantId)).thenReturn(Optional.empty());
+        when(notificationRepository.saveIfIdempotencyKeyAbsent(any()))
+            .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+        useCase.execute(command(NotificationType.TRIP_ACCEPTED, "trip-123:accepted"));
+
+        verify(idempotencyFilter, never()).recordFalsePositive(any());
+    }
+
+    @Test
+    void unconfirmedMaybeFromTheFilterIsCountedAsAFalsePositive() {
+        when(idempotencyFilter.check(tenantId, "trip-123:accepted")).thenReturn(Lookup.MAYBE);
+        when(notificationRepository.findByIdempotencyKey("trip-123:accepted", tenantId)).thenReturn(Optional.empty());
+        when(notificationRepository.saveIfIdempotencyKeyAbsent(any()))
+            .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+        useCase.execute(command(NotificationType.TRIP_ACCEPTED, "trip-123:accepted"));
+
+        verify(idempotencyFilter).recordFalsePositive(tenantId);
+    }
+
+    private SendNotificationCommand command(NotificationType type, String idempotencyKey) {
+        return new SendNotificationCommand(userId, type, "Título", "Mensagem", Map.of(), idempotencyKey, tenantId);
+    }
+}
@@ -0,0 +1,90 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.ChargeCancellationFeeInputPort.ChargeCancellationFeeCommand;
+import com.rappidrive.application.ports.input.payment.ChargeCancellationFeeInputPort.ChargeOutcome;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort.CancellationFeeCharge;
+import com.rappidrive.application.ports.output.PaymentGatewayPort;
+import com.rappidrive.application.ports.output.PaymentGatewayPort.PaymentGatewayRequest;
+import com.rappidrive.application.ports.output.PaymentGatewayPort.PaymentGatewayResponse;
+import com.rappidrive.domain.exceptions.PaymentServiceUnavailableException;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ChargeCancellationFeeUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChargeCancellationFeeUseCaseTest {
+
+    @Mock
+    private PaymentGatewayPort paymentGateway;
+    @Mock
+    private CancellationFeeQueuePort feeQueue;
+
+    private final CancellationFeeCharge charge = new CancellationFeeCharge(UUID.randomUUID(), TenantId.generate(),
+        Money.of(8.00, Currency.BRL), "Late cancellation", LocalDateTime.of(2026, 10, 18, 18, 30));
+
+    @Test
+    void chargesFeeKeyedByTripAndRemovesEntry() {
+        when(paymentGateway.processPayment(any())).thenReturn(new PaymentGatewayResponse(true, "TXN-1", null));
+        Instant deadline = Instant.parse("2026-10-18T18:31:00Z");
+
+        ChargeOutcome outcome = useCase().execute(new ChargeCancellationFeeCommand(charge, false, deadline));
+
+        assertThat(outcome).isEqualTo(ChargeOutcome.CHARGED);
+        ArgumentCaptor<PaymentGatewayRequest> request = ArgumentCaptor.forClass(PaymentGatewayRequest.class);
+        verify(paymentGateway).processPayment(request.capture());
+        assertThat(request.getValue().idempotencyKey()).isEqualTo("cancellation-fee-" + charge.tripId());
+        assertThat(request.getValue().amount()).isEqualTo(charge.fee());
+        assertThat(request.getValue().tenantId()).isEqualTo(charge.tenantId());
+        assertThat(request.getValue().deadline()).isEqualTo(deadline);
+        verify(feeQueue).remove(charge.tripId());
+    }
+
+    @Test
+    void declinedFeeIsKeptAsDeclinedWithoutRetry() {
+        when(paymentGateway.processPayment(any()))
+            .thenReturn(new PaymentGatewayResponse(false, null, "Insufficient funds"));
+
+        ChargeOutcome outcome = useCase().execute(new ChargeCancellationFeeCommand(charge, false, null));
+
+        assertThat(outcome).isEqualTo(ChargeOutcome.DECLINED);
+        verify(feeQueue).decline(charge.tripId());
+        verify(feeQueue, never()).remove(any());
+        verify(feeQueue, never()).reschedule(any(), any());
+    }
+
+    @Test
+    void gatewayOutageIsRetriedUntilFinalAttempt() {
+        when(paymentGateway.processPayment(any()))
+            .thenThrow(new PaymentServiceUnavailableException("Gateway down"));
+
+        assertThat(useCase().execute(new ChargeCancellationFeeCommand(charge, false, null)))
+            .isEqualTo(ChargeOutcome.RETRY);
+        verifyNoInteractions(feeQueue);
+
+        assertThat(useCase().execute(new ChargeCancellationFeeCommand(charge, true, null)))
+            .isEqualTo(ChargeOutcome.ABANDONED);
+        verify(feeQueue).abandon(charge.tripId());
+        verify(feeQueue, never()).remove(any());
+    }
+
+    private ChargeCancellationFeeUseCase useCase() {
+        return new ChargeCancellationFeeUseCase(paymentGateway, feeQueue);
+    }
+}
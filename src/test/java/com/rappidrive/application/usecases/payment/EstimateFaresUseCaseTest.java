@@ -0,0 +1,160 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort.EstimateFaresCommand;
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort.FareEstimate;
+import com.rappidrive.application.ports.input.payment.EstimateFaresInputPort.Route;
+import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.FareConfigurationNotFoundException;
+import com.rappidrive.domain.services.PricingTable;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EstimateFaresUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class EstimateFaresUseCaseTest {
+
+    private static final LocalDateTime PEAK = LocalDateTime.of(2026, 10, 18, 8, 15);
+    private static final LocalDateTime NORMAL = LocalDateTime.of(2026, 10, 18, 14, 0);
+    private static final Location PAULISTA = new Location(-23.561414, -46.655881);
+    private static final Location SE = new Location(-23.550520, -46.633308);
+    private static final Location IBIRAPUERA = new Location(-23.587416, -46.657634);
+    private static final Location CONGONHAS = new Location(-23.626110, -46.656376);
+
+    @Mock
+    private FareConfigurationRepositoryPort fareConfigurationRepository;
+
+    private TenantId tenantId;
+    private FareConfiguration config;
+    private EstimateFaresUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = TenantId.generate();
+        config = FareConfiguration.create(tenantId, Money.of(5.00, Currency.BRL), Money.of(2.35, Currency.BRL),
+            Money.of(0.45, Currency.BRL), Money.of(8.00, Currency.BRL), 0.2);
+        useCase = new EstimateFaresUseCase(fareConfigurationRepository, tenant -> PricingTable.standard());
+    }
+
+    @Test
+    void estimatesEveryRouteAndVehicleWithOneConfigurationLookup() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.of(config));
+        List<Route> routes = List.of(new Route(PAULISTA, SE), new Route(PAULISTA, IBIRAPUERA),
+            new Route(PAULISTA, CONGONHAS));
+
+        List<FareEstimate> estimates = useCase.execute(
+            new EstimateFaresCommand(tenantId, routes, List.of(VehicleType.SEDAN, VehicleType.SUV), PEAK));
+
+        assertThat(estimates).hasSize(6);
+        assertThat(estimates).extracting(FareEstimate::routeIndex).containsExactly(0, 0, 1, 1, 2, 2);
+        assertThat(estimates).extracting(FareEstimate::vehicleType)
+            .containsExactly(VehicleType.SEDAN, VehicleType.SUV, VehicleType.SEDAN, VehicleType.SUV,
+                VehicleType.SEDAN, VehicleType.SUV);
+        assertThat(estimates).allMatch(estimate -> estimate.multiplierType() == FareMultiplierType.PEAK);
+        verify(fareConfigurationRepository, times(1)).findByTenantId(tenantId);
+    }
+
+    @Test
+    void estimatesMatchSingleFareCalculation() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.of(config));
+
+        List<FareEstimate> estimates = useCase.execute(new EstimateFaresCommand(tenantId,
+            List.of(new Route(PAULISTA, SE), new Route(SE, CONGONHAS)), List.of(VehicleType.SEDAN, VehicleType.SUV), PEAK));
+
+        for (FareEstimate estimate : estimates) {
+            Fare fare = Fare.calculate(config, UUID.randomUUID(), tenantId, estimate.distanceKm(),
+                estimate.durationMinutes(), estimate.vehicleType(), PEAK);
+            assertThat(estimate.subtotal()).isEqualTo(fare.getTotalBeforeMultiplier());
+            assertThat(estimate.totalAmount()).isEqualTo(fare.getTotalAmount());
+        }
+    }
+
+    @Test
+    void derivesDistanceAndDurationFromCoordinates() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.of(config));
+
+        FareEstimate estimate = useCase.execute(new EstimateFaresCommand(tenantId,
+            List.of(new Route(PAULISTA, SE)), List.of(VehicleType.SEDAN), NORMAL)).get(0);
+
+        assertThat(estimate.distanceKm()).isEqualTo(Math.round(PAULISTA.distanceTo(SE) * 1000) / 1000.0);
+        assertThat(estimate.durationMinutes())
+            .isEqualTo((int) Math.ceil(estimate.distanceKm() / EstimateFaresUseCase.DEFAULT_AVERAGE_SPEED_KMH * 60));
+    }
+
+    @Test
+    void estimatesAllVehicleTypesWhenNoneRequested() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.of(config));
+
+        List<FareEstimate> estimates = useCase.execute(
+            new EstimateFaresCommand(tenantId, List.of(new Route(PAULISTA, CONGONHAS)), List.of(), NORMAL));
+
+        assertThat(estimates).extracting(FareEstimate::vehicleType).containsExactly(VehicleType.values());
+        Money hatchback = totalFor(estimates, VehicleType.HATCHBACK);
+        Money sedan = totalFor(estimates, VehicleType.SEDAN);
+        Money suv = totalFor(estimates, VehicleType.SUV);
+        assertThat(hatchback.isLessThan(sedan)).isTrue();
+        assertThat(sedan.isLessThan(suv)).isTrue();
+    }
+
+    @Test
+    void appliesMinimumFareToShortRoutes() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.of(config));
+
+        FareEstimate estimate = useCase.execute(new EstimateFaresCommand(tenantId,
+            List.of(new Route(SE, SE)), List.of(VehicleType.SEDAN), NORMAL)).get(0);
+
+        assertThat(estimate.distanceKm()).isZero();
+        assertThat(estimate.durationMinutes()).isEqualTo(1);
+        assertThat(estimate.totalAmount()).isEqualTo(Money.of(8.00, Currency.BRL));
+    }
+
+    @Test
+    void rejectsTooManyRoutes() {
+        EstimateFaresUseCase limited = new EstimateFaresUseCase(fareConfigurationRepository,
+            tenant -> PricingTable.standard(), 30.0, 1);
+        EstimateFaresCommand command = new EstimateFaresCommand(tenantId,
+            List.of(new Route(PAULISTA, SE), new Route(PAULISTA, CONGONHAS)), List.of(), NORMAL);
+
+        assertThatThrownBy(() -> limited.execute(command))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("At most 1 routes");
+        verifyNoInteractions(fareConfigurationRepository);
+    }
+
+    @Test
+    void failsWhenTenantHasNoFareConfiguration() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.empty());
+        EstimateFaresCommand command = new EstimateFaresCommand(tenantId,
+            List.of(new Route(PAULISTA, SE)), List.of(), NORMAL);
+
+        assertThatThrownBy(() -> useCase.execute(command)).isInstanceOf(FareConfigurationNotFoundException.class);
+    }
+
+    private static Money totalFor(List<FareEstimate> estimates, VehicleType vehicleType) {
+        return estimates.stream()
+            .filter(estimate -> estimate.vehicleType() == vehicleType)
+            .findFirst()
+            .orElseThrow()
+            .totalAmount();
+    }
+}
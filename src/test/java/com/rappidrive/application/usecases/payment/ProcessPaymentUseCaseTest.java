@@ -0,0 +1,135 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.ProcessPaymentInputPort.ProcessPaymentCommand;
+import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.application.ports.output.IdempotencyStorePort;
+import com.rappidrive.application.ports.output.IdempotencyStorePort.IdempotentRequest;
+import com.rappidrive.application.ports.output.IdempotencyStorePort.IdempotentResult;
+import com.rappidrive.application.ports.output.PaymentGatewayPort;
+import com.rappidrive.application.ports.output.PaymentGatewayPort.PaymentGatewayRequest;
+import com.rappidrive.application.ports.output.PaymentGatewayPort.PaymentGatewayResponse;
+import com.rappidrive.application.ports.output.PaymentRepositoryPort;
+import com.rappidrive.application.ports.output.TelemetryPort;
+import com.rappidrive.application.ports.output.TripRepositoryPort;
+import com.rappidrive.domain.entities.Payment;
+import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.PaymentStatus;
+import com.rappidrive.domain.exceptions.PaymentServiceUnavailableException;
+import com.rappidrive.domain.exceptions.TripNotFoundException;
+import com.rappidrive.domain.valueobjects.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProcessPaymentUseCaseTest {
+
+    private PaymentRepositoryPort paymentRepository;
+    private TripRepositoryPort tripRepository;
+    private PaymentGatewayPort paymentGateway;
+    private FareConfigurationRepositoryPort fareConfigurationRepository;
+    private IdempotencyStorePort idempotencyStore;
+    private ProcessPaymentUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepositoryPort.class);
+        tripRepository = mock(TripRepositoryPort.class);
+        paymentGateway = mock(PaymentGatewayPort.class);
+        fareConfigurationRepository = mock(FareConfigurationRepositoryPort.class);
+        TelemetryPort telemetryPort = new TelemetryPort() {
+            @Override
+            public <T> T traceUseCase(String useCaseName, Map<String, String> attributes, Supplier<T> supplier) {
+                return supplier.get();
+            }
+        };
+        idempotencyStore = mock(IdempotencyStorePort.class);
+        when(idempotencyStore.execute(any(), any())).thenAnswer(invocation ->
+            new IdempotentResult(invocation.<Supplier<UUID>>getArgument(1).get(), false));
+        useCase = new ProcessPaymentUseCase(paymentRepository, tripRepository, paymentGateway,
+            fareConfigurationRepository, telemetryPort, idempotencyStore);
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void chargesThePaymentToTheTenantOfItsTrip() {
+        TenantId tenantId = TenantId.generate();
+        Trip trip = new Trip(TripId.generate(), tenantId, PassengerId.generate(),
+            new Location(-23.561414, -46.655881), new Location(-23.550520, -46.633308));
+        when(tripRepository.findById(trip.getId().getValue())).thenReturn(Optional.of(trip));
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.empty());
+        when(paymentGateway.processPayment(any())).thenReturn(new PaymentGatewayResponse(true, "TXN-1", null));
+
+        Payment payment = useCase.execute(
+            new ProcessPaymentCommand(trip.getId().getValue(), PaymentMethod.pix("passenger@example.com")));
+
+        assertThat(payment.getTenantId()).isEqualTo(tenantId);
+        ArgumentCaptor<PaymentGatewayRequest> request = ArgumentCaptor.forClass(PaymentGatewayRequest.class);
+        verify(paymentGateway).processPayment(request.capture());
+        assertThat(request.getValue().tenantId()).isEqualTo(tenantId);
+        assertThat(request.getValue().idempotencyKey()).isEqualTo("payment-" + payment.getId());
+        verify(fareConfigurationRepository).findByTenantId(tenantId);
+    }
+
+    @Test
+    void scopesTheIdempotencyKeyToTheTripsTenantAndPassenger() {
+        Trip trip = new Trip(TripId.generate(), TenantId.generate(), PassengerId.generate(),
+            new Location(-23.561414, -46.655881), new Location(-23.550520, -46.633308));
+        when(tripRepository.findById(trip.getId().getValue())).thenReturn(Optional.of(trip));
+
+        useCase.execute(new ProcessPaymentCommand(trip.getId().getValue(), PaymentMethod.cash(), "client-key"));
+
+        ArgumentCaptor<IdempotentRequest> request = ArgumentCaptor.forClass(IdempotentRequest.class);
+        verify(idempotencyStore).execute(request.capture(), any());
+        assertThat(request.getValue().scope()).isEqualTo(
+            "payment:" + trip.getTenantId().getValue() + ":" + trip.getPassengerId().getValue());
+        assertThat(request.getValue().key()).isEqualTo("client-key");
+    }
+
+    @Test
+    void retryResumesAPaymentWhoseGatewayCallThrewUnderTheSameGatewayKey() {
+        Trip trip = new Trip(TripId.generate(), TenantId.generate(), PassengerId.generate(),
+            new Location(-23.561414, -46.655881), new Location(-23.550520, -46.633308));
+        UUID tripId = trip.getId().getValue();
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
+        when(paymentRepository.findByTripId(tripId)).thenReturn(Optional.empty());
+        when(paymentGateway.processPayment(any()))
+            .thenThrow(new PaymentServiceUnavailableException("Payment gateway capacity exhausted"))
+            .thenReturn(new PaymentGatewayResponse(true, "TXN-1", null));
+        ProcessPaymentCommand command = new ProcessPaymentCommand(tripId, PaymentMethod.pix("passenger@example.com"));
+
+        assertThatThrownBy(() -> useCase.execute(command)).isInstanceOf(PaymentServiceUnavailableException.class);
+        ArgumentCaptor<Payment> saved = ArgumentCaptor.forClass(Payment.class);
+        verify(paymentRepository).save(saved.capture());
+        Payment interrupted = saved.getValue();
+        assertThat(interrupted.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
+        when(paymentRepository.findByTripId(tripId)).thenReturn(Optional.of(interrupted));
+
+        Payment payment = useCase.execute(command);
+
+        assertThat(payment.getId()).isEqualTo(interrupted.getId());
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        ArgumentCaptor<PaymentGatewayRequest> requests = ArgumentCaptor.forClass(PaymentGatewayRequest.class);
+        verify(paymentGateway, times(2)).processPayment(requests.capture());
+        assertThat(requests.getAllValues()).extracting(PaymentGatewayRequest::idempotencyKey)
+            .containsOnly("payment-" + interrupted.getId());
+    }
+
+    @Test
+    void rejectsPaymentOfUnknownTrip() {
+        UUID tripId = UUID.randomUUID();
+        when(tripRepository.findById(tripId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(new ProcessPaymentCommand(tripId, PaymentMethod.cash())))
+            .isInstanceOf(TripNotFoundException.class);
+        verifyNoInteractions(paymentGateway);
+    }
+}
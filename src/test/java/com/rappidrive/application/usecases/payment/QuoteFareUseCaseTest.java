@@ -0,0 +1,120 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.QuoteFareInputPort.IssuedFareQuote;
+import com.rappidrive.application.ports.input.payment.QuoteFareInputPort.QuoteFareCommand;
+import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.application.ports.output.FareQuoteTokenPort;
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.FareConfigurationNotFoundException;
+import com.rappidrive.domain.services.PricingTable;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.FareQuote;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuoteFareUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuoteFareUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T08:10:00Z");
+    private static final LocalDateTime PEAK = LocalDateTime.of(2026, 10, 18, 8, 15);
+    private static final Location PAULISTA = new Location(-23.561414, -46.655881);
+    private static final Location CONGONHAS = new Location(-23.626110, -46.656376);
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private FareConfigurationRepositoryPort fareConfigurationRepository;
+
+    @Mock
+    private FareQuoteTokenPort fareQuoteTokenPort;
+
+    private TenantId tenantId;
+    private FareConfiguration config;
+    private QuoteFareUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = TenantId.generate();
+        config = FareConfiguration.create(tenantId, Money.of(5.00, Currency.BRL), Money.of(2.35, Currency.BRL),
+            Money.of(0.45, Currency.BRL), Money.of(8.00, Currency.BRL), 0.2);
+        useCase = new QuoteFareUseCase(fareConfigurationRepository, tenant -> PricingTable.standard(),
+            fareQuoteTokenPort, TTL, 30.0, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void capturesTheTenantPricesAndMultipliersInTheSignedQuote() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.of(config));
+        when(fareQuoteTokenPort.sign(any(FareQuote.class))).thenReturn("signed-token");
+
+        IssuedFareQuote issued = useCase.execute(
+            new QuoteFareCommand(tenantId, PAULISTA, CONGONHAS, VehicleType.SUV, PEAK));
+
+        FareQuote quote = issued.quote();
+        assertThat(issued.token()).isEqualTo("signed-token");
+        verify(fareQuoteTokenPort).sign(quote);
+        assertThat(quote.tenantId()).isEqualTo(tenantId);
+        assertThat(quote.vehicleType()).isEqualTo(VehicleType.SUV);
+        assertThat(quote.multiplierType()).isEqualTo(FareMultiplierType.PEAK);
+        assertThat(quote.baseFare()).isEqualTo(config.getBaseFare());
+        assertThat(quote.pricePerKm()).isEqualTo(config.getPricePerKm());
+        assertThat(quote.pricePerMinute()).isEqualTo(config.getPricePerMinute());
+        assertThat(quote.minimumFare()).isEqualTo(config.getMinimumFare());
+        assertThat(quote.expiresAt()).isEqualTo(NOW.plus(TTL));
+        assertThat(quote.matchesRoute(PAULISTA, CONGONHAS)).isTrue();
+    }
+
+    @Test
+    void quotedTotalMatchesChargingTheQuoteForTheEstimatedRoute() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.of(config));
+        when(fareQuoteTokenPort.sign(any(FareQuote.class))).thenReturn("signed-token");
+
+        FareQuote quote = useCase.execute(
+            new QuoteFareCommand(tenantId, PAULISTA, CONGONHAS, VehicleType.SEDAN, PEAK)).quote();
+
+        Fare direct = Fare.calculate(config, UUID.randomUUID(), tenantId, quote.distanceKm(),
+            quote.durationMinutes(), VehicleType.SEDAN, PEAK);
+        Fare charged = Fare.calculate(quote, UUID.randomUUID(), quote.distanceKm(), quote.durationMinutes());
+        assertThat(quote.totalAmount()).isEqualTo(direct.getTotalAmount());
+        assertThat(charged.getTotalAmount()).isEqualTo(quote.totalAmount());
+    }
+
+    @Test
+    void failsWithoutFareConfiguration() {
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(
+            new QuoteFareCommand(tenantId, PAULISTA, CONGONHAS, VehicleType.SEDAN, PEAK)))
+            .isInstanceOf(FareConfigurationNotFoundException.class);
+        verifyNoInteractions(fareQuoteTokenPort);
+    }
+
+    @Test
+    void rejectsNonPositiveTtl() {
+        assertThatThrownBy(() -> new QuoteFareUseCase(fareConfigurationRepository,
+            tenant -> PricingTable.standard(), fareQuoteTokenPort, Duration.ZERO, 30.0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
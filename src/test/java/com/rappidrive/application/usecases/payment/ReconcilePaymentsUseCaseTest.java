@@ -0,0 +1,159 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort.ReconcilePaymentsCommand;
+import com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort.ReconciliationResult;
+import com.rappidrive.application.ports.output.PaymentReconciliationSourcePort.LedgerPayment;
+import com.rappidrive.application.ports.output.ReconciliationReportPort;
+import com.rappidrive.application.ports.output.ReconciliationReportPort.Mismatch;
+import com.rappidrive.application.ports.output.ReconciliationReportPort.MismatchType;
+import com.rappidrive.application.ports.output.SettlementFilePort.Format;
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementCursor;
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementRecord;
+import com.rappidrive.benchmark.SettlementFileGenerator;
+import com.rappidrive.domain.enums.PaymentStatus;
+import com.rappidrive.infrastructure.reconciliation.LocalSettlementFileAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ReconcilePaymentsUseCase.
+ */
+class ReconcilePaymentsUseCaseTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 10, 17, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    private final List<Mismatch> report = new ArrayList<>();
+    private final ReconciliationReportPort reports = file -> new ReconciliationReportPort.MismatchWriter() {
+        @Override
+        public void write(Mismatch mismatch) {
+            report.add(mismatch);
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Test
+    void reportsEveryKindOfMismatch() {
+        List<SettlementRecord> gateway = List.of(
+            new SettlementRecord("TXN-1", 1000, "SETTLED"),
+            new SettlementRecord("TXN-2", 1500, "SETTLED"),
+            new SettlementRecord("TXN-3", 2000, "REFUNDED"),
+            new SettlementRecord("TXN-3", 2000, "REFUNDED"),
+            new SettlementRecord("TXN-5", 700, "SETTLED"));
+        List<LedgerPayment> ledger = List.of(
+            payment("TXN-1", 1000, PaymentStatus.COMPLETED),
+            payment("TXN-2", 1400, PaymentStatus.COMPLETED),
+            payment("TXN-3", 2000, PaymentStatus.COMPLETED),
+            payment("TXN-4", 900, PaymentStatus.COMPLETED));
+
+        ReconciliationResult result = reconcile(gateway, ledger);
+
+        assertThat(result.gatewayRecords()).isEqualTo(5);
+        assertThat(result.ledgerPayments()).isEqualTo(4);
+        assertThat(result.matched()).isEqualTo(1);
+        assertThat(result.amountMismatches()).isEqualTo(1);
+        assertThat(result.statusMismatches()).isEqualTo(1);
+        assertThat(result.duplicatesAtGateway()).isEqualTo(1);
+        assertThat(result.missingAtGateway()).isEqualTo(1);
+        assertThat(result.missingInLedger()).isEqualTo(1);
+        assertThat(report).extracting(Mismatch::type, Mismatch::transactionId).containsExactly(
+            tuple(MismatchType.AMOUNT_MISMATCH, "TXN-2"),
+            tuple(MismatchType.STATUS_MISMATCH, "TXN-3"),
+            tuple(MismatchType.DUPLICATE_AT_GATEWAY, "TXN-3"),
+            tuple(MismatchType.MISSING_AT_GATEWAY, "TXN-4"),
+            tuple(MismatchType.MISSING_IN_LEDGER, "TXN-5"));
+        Mismatch amount = report.get(0);
+        assertThat(amount.ledgerAmountCents()).isEqualTo(1400);
+        assertThat(amount.gatewayAmountCents()).isEqualTo(1500);
+    }
+
+    @Test
+    void failsWhenAnInputIsNotOrdered() {
+        List<SettlementRecord> gateway = List.of(
+            new SettlementRecord("TXN-2", 1000, "SETTLED"),
+            new SettlementRecord("TXN-1", 1000, "SETTLED"));
+
+        assertThatThrownBy(() -> reconcile(gateway, List.of(payment("TXN-3", 1000, PaymentStatus.COMPLETED))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("not ordered");
+    }
+
+    @Test
+    void reconcilesGeneratedFileSortedThroughSpilledRuns(@TempDir Path directory) throws IOException {
+        int rows = 50_000;
+        for (Format format : Format.values()) {
+            Path file = Path.of("settlement-" + format + ".txt");
+            SettlementFileGenerator.writeSettlementFile(directory.resolve(file), format, rows);
+            // small runs and windows force the external merge and lines that cross window ends
+            LocalSettlementFileAdapter settlementFiles =
+                new LocalSettlementFileAdapter(directory.toString(), directory.toString(), 1, 4_000);
+            report.clear();
+
+            ReconciliationResult result = new ReconcilePaymentsUseCase(settlementFiles,
+                (from, to, sink) -> SettlementFileGenerator.streamLedger(rows, sink), reports)
+                .execute(new ReconcilePaymentsCommand(file, format, FROM, TO, Path.of("report.ndjson")));
+
+            assertThat(result.mismatches()).isEqualTo(SettlementFileGenerator.expectedMismatches(rows));
+            assertThat(result.matched() + result.amountMismatches() + result.missingInLedger())
+                .isGreaterThan(rows * 9L / 10);
+            assertThat(report).hasSize((int) result.mismatches());
+        }
+        assertThat(directory.toFile().list()).allMatch(name -> name.startsWith("settlement-"));
+    }
+
+    @Test
+    void mapsGatewayStatusesToOurs() {
+        assertThat(ReconcilePaymentsUseCase.sameStatus(PaymentStatus.COMPLETED, "SETTLED")).isTrue();
+        assertThat(ReconcilePaymentsUseCase.sameStatus(PaymentStatus.FAILED, "DECLINED")).isTrue();
+        assertThat(ReconcilePaymentsUseCase.sameStatus(PaymentStatus.REFUNDED, "REFUNDED")).isTrue();
+        assertThat(ReconcilePaymentsUseCase.sameStatus(PaymentStatus.COMPLETED, "REFUNDED")).isFalse();
+        assertThat(ReconcilePaymentsUseCase.sameStatus(PaymentStatus.PENDING, "CHARGEBACK")).isFalse();
+    }
+
+    private ReconciliationResult reconcile(List<SettlementRecord> gateway, List<LedgerPayment> ledger) {
+        ReconcilePaymentsUseCase useCase = new ReconcilePaymentsUseCase(
+            (file, format) -> cursor(gateway.iterator()),
+            (from, to, sink) -> {
+                ledger.forEach(sink);
+                return ledger.size();
+            },
+            reports);
+        return useCase.execute(new ReconcilePaymentsCommand(Path.of("settlement.csv"), Format.CSV, FROM, TO,
+            Path.of("report.ndjson")));
+    }
+
+    private static LedgerPayment payment(String transactionId, long amountCents, PaymentStatus status) {
+        return new LedgerPayment(UUID.randomUUID(), UUID.randomUUID(), transactionId, amountCents, status);
+    }
+
+    private static SettlementCursor cursor(Iterator<SettlementRecord> records) {
+        return new SettlementCursor() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public SettlementRecord next() {
+                return records.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
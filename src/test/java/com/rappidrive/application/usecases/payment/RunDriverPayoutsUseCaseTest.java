@@ -0,0 +1,202 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.payment.RunDriverPayoutsInputPort.PayoutRunResult;
+import com.rappidrive.application.ports.input.payment.RunDriverPayoutsInputPort.RunDriverPayoutsCommand;
+import com.rappidrive.application.ports.output.DriverPayoutStorePort;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for RunDriverPayoutsUseCase.
+ */
+class RunDriverPayoutsUseCaseTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 10, 17);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final FakePayoutStore store = new FakePayoutStore();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void aggregatesStreamedPaymentsPerDriverAndCurrency() {
+        TenantId tenant = TenantId.generate();
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        store.payments(tenant, List.of(
+            new Row(alice, Currency.BRL, false, 2500, 500, 2000),
+            new Row(alice, Currency.BRL, true, 1000, 200, 800),
+            new Row(alice, Currency.USD, false, 1000, 200, 800),
+            new Row(bob, Currency.BRL, false, 3000, 600, 2400)));
+
+        PayoutRunResult result = useCase(4).execute(new RunDriverPayoutsCommand(BUSINESS_DATE));
+
+        assertThat(result.settledTenants()).isEqualTo(1);
+        assertThat(result.payments()).isEqualTo(4);
+        assertThat(result.payouts()).isEqualTo(3);
+        List<DriverPayoutStorePort.DriverPayout> payouts = store.saved.get(tenant);
+        DriverPayoutStorePort.DriverPayout aliceBrl = payouts.stream()
+            .filter(payout -> payout.driverId().equals(alice) && payout.currency() == Currency.BRL)
+            .findFirst().orElseThrow();
+        assertThat(aliceBrl.tripCount()).isEqualTo(2);
+        assertThat(aliceBrl.grossCents()).isEqualTo(3500);
+        assertThat(aliceBrl.platformFeeCents()).isEqualTo(700);
+        assertThat(aliceBrl.driverEarningsCents()).isEqualTo(2800);
+        assertThat(aliceBrl.cashCollectedCents()).isEqualTo(1000);
+        assertThat(aliceBrl.netPayoutCents()).isEqualTo(1800);
+        assertThat(store.checkpoints).containsEntry(tenant, 4L);
+    }
+
+    @Test
+    void skipsCheckpointedTenantsAndKeepsGoingWhenOneFails() {
+        TenantId done = TenantId.generate();
+        TenantId broken = TenantId.generate();
+        TenantId pending = TenantId.generate();
+        store.payments(done, List.of(new Row(UUID.randomUUID(), Currency.BRL, false, 1000, 200, 800)));
+        store.payments(broken, List.of(new Row(UUID.randomUUID(), Currency.BRL, false, 1000, 200, 800)));
+        store.payments(pending, List.of(new Row(UUID.randomUUID(), Currency.BRL, false, 1000, 200, 800)));
+        store.checkpoints.put(done, 1L);
+        store.failing.add(broken);
+
+        PayoutRunResult result = useCase(4).execute(new RunDriverPayoutsCommand(BUSINESS_DATE));
+
+        assertThat(result.settledTenants()).isEqualTo(1);
+        assertThat(result.skippedTenants()).isEqualTo(1);
+        assertThat(result.failedTenants()).containsExactly(broken.getValue());
+        assertThat(store.streamed).doesNotContain(done);
+        assertThat(store.checkpoints).containsKey(pending).doesNotContainKey(broken);
+
+        // the rerun only picks up the tenant that failed
+        store.failing.clear();
+        store.streamed.clear();
+        PayoutRunResult rerun = useCase(4).execute(new RunDriverPayoutsCommand(BUSINESS_DATE));
+        assertThat(rerun.settledTenants()).isEqualTo(1);
+        assertThat(rerun.skippedTenants()).isEqualTo(2);
+        assertThat(store.streamed).containsExactly(broken);
+    }
+
+    @Test
+    void limitsTenantsTouchingTheDatabaseAtOnce() {
+        for (int i = 0; i < 8; i++) {
+            store.payments(TenantId.generate(), List.of(new Row(UUID.randomUUID(), Currency.BRL, false, 1000, 200, 800)));
+        }
+        store.streamDelayMs = 50;
+
+        PayoutRunResult result = useCase(2).execute(new RunDriverPayoutsCommand(BUSINESS_DATE));
+
+        assertThat(result.settledTenants()).isEqualTo(8);
+        assertThat(store.maxConcurrentStreams.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void accumulatorKeepsEveryDriverAcrossTableGrowth() {
+        DriverEarningsAccumulator accumulator = new DriverEarningsAccumulator(Currency.BRL);
+        List<UUID> drivers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            drivers.add(UUID.randomUUID());
+        }
+        for (int round = 0; round < 3; round++) {
+            for (UUID driver : drivers) {
+                accumulator.add(driver, false, 1000, 200, 800);
+            }
+        }
+
+        List<DriverPayoutStorePort.DriverPayout> payouts = accumulator.toPayouts();
+        assertThat(accumulator.size()).isEqualTo(10_000);
+        assertThat(payouts).hasSize(10_000)
+            .allSatisfy(payout -> {
+                assertThat(payout.tripCount()).isEqualTo(3);
+                assertThat(payout.driverEarningsCents()).isEqualTo(2400);
+            });
+        assertThat(payouts.stream().map(DriverPayoutStorePort.DriverPayout::driverId).sorted(Comparator.naturalOrder()))
+            .containsExactlyElementsOf(drivers.stream().sorted().toList());
+    }
+
+    private RunDriverPayoutsUseCase useCase(int maxConcurrentTenants) {
+        return new RunDriverPayoutsUseCase(store, executor, maxConcurrentTenants);
+    }
+
+    private record Row(UUID driverId, Currency currency, boolean cash, long amount, long fee, long driverAmount) {
+    }
+
+    private static final class FakePayoutStore implements DriverPayoutStorePort {
+
+        final Map<TenantId, List<Row>> payments = new ConcurrentHashMap<>();
+        final Map<TenantId, List<DriverPayout>> saved = new ConcurrentHashMap<>();
+        final Map<TenantId, Long> checkpoints = new ConcurrentHashMap<>();
+        final Set<TenantId> failing = ConcurrentHashMap.newKeySet();
+        final Set<TenantId> streamed = ConcurrentHashMap.newKeySet();
+        final AtomicInteger concurrentStreams = new AtomicInteger();
+        final AtomicInteger maxConcurrentStreams = new AtomicInteger();
+        volatile long streamDelayMs;
+
+        void payments(TenantId tenantId, List<Row> rows) {
+            payments.put(tenantId, rows);
+        }
+
+        @Override
+        public List<TenantId> findTenantsWithCompletedPayments(LocalDateTime from, LocalDateTime to) {
+            assertThat(from).isEqualTo(BUSINESS_DATE.atStartOfDay());
+            assertThat(to).isEqualTo(BUSINESS_DATE.plusDays(1).atStartOfDay());
+            return new ArrayList<>(payments.keySet());
+        }
+
+        @Override
+        public Set<TenantId> findCheckpointedTenants(LocalDate businessDate) {
+            return new HashSet<>(checkpoints.keySet());
+        }
+
+        @Override
+        public long streamCompletedPayments(TenantId tenantId, LocalDateTime from, LocalDateTime to,
+                                            CompletedPaymentSink sink) {
+            streamed.add(tenantId);
+            int running = concurrentStreams.incrementAndGet();
+            maxConcurrentStreams.accumulateAndGet(running, Math::max);
+            try {
+                if (streamDelayMs > 0) {
+                    Thread.sleep(streamDelayMs);
+                }
+                if (failing.contains(tenantId)) {
+                    throw new IllegalStateException("connection reset");
+                }
+                List<Row> rows = payments.get(tenantId);
+                rows.forEach(row -> sink.accept(row.driverId(), row.currency(), row.cash(), row.amount(), row.fee(),
+                    row.driverAmount()));
+                return rows.size();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                concurrentStreams.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void savePayouts(TenantId tenantId, LocalDate businessDate, List<DriverPayout> payouts,
+                                long paymentCount) {
+            saved.put(tenantId, payouts);
+            checkpoints.put(tenantId, paymentCount);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.rappidrive.application.usecases.payment;
+
+import com.rappidrive.application.ports.input.notification.SendNotificationInputPort;
+import com.rappidrive.application.ports.input.notification.SendNotificationInputPort.SendNotificationCommand;
+import com.rappidrive.application.ports.input.payment.SettlePaymentInputPort.SettlePaymentCommand;
+import com.rappidrive.application.ports.input.payment.SettlePaymentInputPort.SettlementOutcome;
+import com.rappidrive.application.ports.output.PaymentGatewayPort;
+import com.rappidrive.application.ports.output.PaymentGatewayPort.PaymentGatewayRequest;
+import com.rappidrive.application.ports.output.PaymentGatewayPort.PaymentGatewayResponse;
+import com.rappidrive.application.ports.output.PaymentRepositoryPort;
+import com.rappidrive.application.ports.output.PaymentSettlementQueuePort;
+import com.rappidrive.application.ports.output.TripRepositoryPort;
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.entities.Payment;
+import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.NotificationType;
+import com.rappidrive.domain.enums.PaymentStatus;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.events.DomainEvent;
+import com.rappidrive.domain.events.DomainEventsCollector;
+import com.rappidrive.domain.events.TripPaymentFailedEvent;
+import com.rappidrive.domain.events.TripPaymentSettledEvent;
+import com.rappidrive.domain.exceptions.PaymentOutcomeUnknownException;
+import com.rappidrive.domain.exceptions.PaymentServiceUnavailableException;
+import com.rappidrive.domain.trip.TripPaymentStatus;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.DriverId;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.PassengerId;
+import com.rappidrive.domain.valueobjects.PaymentMethod;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.TripId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SettlePaymentUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class SettlePaymentUseCaseTest {
+
+    @Mock
+    private PaymentRepositoryPort paymentRepository;
+    @Mock
+    private TripRepositoryPort tripRepository;
+    @Mock
+    private PaymentGatewayPort paymentGateway;
+    @Mock
+    private PaymentSettlementQueuePort settlementQueue;
+    @Mock
+    private SendNotificationInputPort sendNotification;
+
+    private SettlePaymentUseCase useCase;
+    private Trip trip;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SettlePaymentUseCase(paymentRepository, tripRepository, paymentGateway, settlementQueue,
+            sendNotification);
+
+        TenantId tenantId = TenantId.generate();
+        trip = new Trip(TripId.generate(), tenantId, PassengerId.generate(),
+            new Location(-23.561414, -46.655881), new Location(-23.550520, -46.633308));
+        trip.assignDriver(DriverId.generate());
+        trip.start();
+        FareConfiguration config = FareConfiguration.create(tenantId, Money.of(5.00, Currency.BRL),
+            Money.of(2.35, Currency.BRL), Money.of(0.45, Currency.BRL), Money.of(8.00, Currency.BRL), 0.2);
+        Fare fare = Fare.calculate(config, trip.getId().getValue(), tenantId, 4.2, 14, VehicleType.SEDAN,
+            LocalDateTime.of(2026, 10, 18, 14, 0));
+        Money platformFee = config.calculatePlatformFee(fare.getTotalAmount());
+        payment = Payment.create(trip.getId().getValue(), trip.getDriverId().orElse(null), tenantId, fare.getTotalAmount(), platformFee,
+            fare.getTotalAmount().subtract(platformFee), PaymentMethod.creditCard("4242", "VISA"));
+        trip.completeAwaitingPayment(fare, payment);
+        DomainEventsCollector.instance().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DomainEventsCollector.instance().clear();
+    }
+
+    @Test
+    void settlesPendingPaymentAndMarksTripPaid() {
+        givenStored();
+        when(paymentGateway.processPayment(any())).thenReturn(new PaymentGatewayResponse(true, "TXN-1", null));
+
+        SettlementOutcome outcome = useCase.execute(new SettlePaymentCommand(payment.getId(), false));
+
+        assertThat(outcome).isEqualTo(SettlementOutcome.SETTLED);
+        ArgumentCaptor<PaymentGatewayRequest> request = ArgumentCaptor.forClass(PaymentGatewayRequest.class);
+        verify(paymentGateway).processPayment(request.capture());
+        assertThat(request.getValue().idempotencyKey()).isEqualTo("payment-" + payment.getId());
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(payment.getGatewayTransactionId()).isEqualTo("TXN-1");
+        assertThat(trip.getPaymentStatus()).isEqualTo(TripPaymentStatus.PAID);
+        verify(tripRepository).save(trip);
+        List<DomainEvent> events = DomainEventsCollector.instance().drain();
+        assertThat(events).singleElement().isInstanceOf(TripPaymentSettledEvent.class);
+        assertThat(notification().type()).isEqualTo(NotificationType.PAYMENT_PROCESSED);
+        verify(settlementQueue).remove(payment.getId());
+    }
+
+    @Test
+    void declinedPaymentMarksTripPaymentFailed() {
+        givenStored();
+        when(paymentGateway.processPayment(any()))
+            .thenReturn(new PaymentGatewayResponse(false, null, "Insufficient funds"));
+
+        SettlementOutcome outcome = useCase.execute(new SettlePaymentCommand(payment.getId(), false));
+
+        assertThat(outcome).isEqualTo(SettlementOutcome.FAILED);
+        assertThat(payment.getFailureReason()).isEqualTo("Insufficient funds");
+        assertThat(trip.getPaymentStatus()).isEqualTo(TripPaymentStatus.PAYMENT_FAILED);
+        assertThat(DomainEventsCollector.instance().drain()).singleElement().isInstanceOf(TripPaymentFailedEvent.class);
+        assertThat(notification().type()).isEqualTo(NotificationType.PAYMENT_FAILED);
+        verify(settlementQueue).remove(payment.getId());
+    }
+
+    @Test
+    void unavailableGatewayIsRetriedUntilTheFinalAttempt() {
+        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        when(paymentGateway.processPayment(any()))
+            .thenThrow(new PaymentServiceUnavailableException("Payment service unavailable", new RuntimeException()));
+
+        assertThat(useCase.execute(new SettlePaymentCommand(payment.getId(), false)))
+            .isEqualTo(SettlementOutcome.RETRY);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        verify(paymentRepository, never()).save(any());
+        verifyNoInteractions(tripRepository, settlementQueue);
+
+        givenStored();
+        assertThat(useCase.execute(new SettlePaymentCommand(payment.getId(), true)))
+            .isEqualTo(SettlementOutcome.FAILED);
+        assertThat(payment.getFailureReason()).isEqualTo(SettlePaymentUseCase.GATEWAY_UNAVAILABLE_REASON);
+        assertThat(trip.getPaymentStatus()).isEqualTo(TripPaymentStatus.PAYMENT_FAILED);
+    }
+
+    @Test
+    void finalAttemptThatTimedOutIsParkedForReconciliationInsteadOfFailed() {
+        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        when(paymentGateway.processPayment(any()))
+            .thenThrow(new PaymentOutcomeUnknownException("Payment gateway deadline exceeded", new RuntimeException()));
+
+        assertThat(useCase.execute(new SettlePaymentCommand(payment.getId(), true)))
+            .isEqualTo(SettlementOutcome.UNKNOWN);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(trip.getPaymentStatus()).isEqualTo(TripPaymentStatus.PENDING);
+        verify(settlementQueue).park(payment.getId());
+        verify(settlementQueue, never()).remove(any());
+        verify(paymentRepository, never()).save(any());
+        verifyNoInteractions(tripRepository, sendNotification);
+    }
+
+    @Test
+    void replayedStepDoesNotChargeAgain() {
+        payment.process("TXN-1");
+        payment.complete();
+        givenStored();
+
+        SettlementOutcome outcome = useCase.execute(new SettlePaymentCommand(payment.getId(), false));
+
+        assertThat(outcome).isEqualTo(SettlementOutcome.SETTLED);
+        verifyNoInteractions(paymentGateway);
+        assertThat(trip.getPaymentStatus()).isEqualTo(TripPaymentStatus.PAID);
+
+        // the trip is final now, so a further replay does not save it again; the notification is
+        // repeated in case the step stopped before sending it, and its idempotency key deduplicates it
+        clearInvocations(tripRepository, sendNotification, settlementQueue);
+        useCase.execute(new SettlePaymentCommand(payment.getId(), false));
+        verify(tripRepository, never()).save(any());
+        verify(sendNotification).execute(any());
+        verify(settlementQueue).remove(payment.getId());
+    }
+
+    @Test
+    void notificationFailureDoesNotUndoSettlement() {
+        givenStored();
+        when(paymentGateway.processPayment(any())).thenReturn(new PaymentGatewayResponse(true, "TXN-1", null));
+        when(sendNotification.execute(any())).thenThrow(new IllegalStateException("push down"));
+
+        assertThat(useCase.execute(new SettlePaymentCommand(payment.getId(), false)))
+            .isEqualTo(SettlementOutcome.SETTLED);
+        verify(settlementQueue).remove(payment.getId());
+    }
+
+    @Test
+    void discardsEntryOfMissingPayment() {
+        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.empty());
+
+        assertThat(useCase.execute(new SettlePaymentCommand(payment.getId(), false)))
+            .isEqualTo(SettlementOutcome.DISCARDED);
+        verify(settlementQueue).remove(payment.getId());
+        verifyNoInteractions(paymentGateway, tripRepository);
+    }
+
+    private void givenStored() {
+        lenient().when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        lenient().when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(tripRepository.findById(trip.getId().getValue())).thenReturn(Optional.of(trip));
+        lenient().when(tripRepository.save(any(Trip.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private SendNotificationCommand notification() {
+        ArgumentCaptor<SendNotificationCommand> captor = ArgumentCaptor.forClass(SendNotificationCommand.class);
+        verify(sendNotification).execute(captor.capture());
+        assertThat(captor.getValue().idempotencyKey()).isEqualTo("payment-settlement:" + payment.getId());
+        return captor.getValue();
+    }
+}
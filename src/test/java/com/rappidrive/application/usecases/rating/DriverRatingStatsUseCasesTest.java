@@ -0,0 +1,101 @@
+package com.rappidrive.application.usecases.rating;
+
+import com.rappidrive.application.ports.input.rating.CreateRatingInputPort.CreateRatingCommand;
+import com.rappidrive.application.ports.input.rating.GetDriverRatingSummaryInputPort.DriverRatingSummary;
+import com.rappidrive.application.ports.input.rating.ReportOffensiveRatingInputPort.ReportRatingCommand;
+import com.rappidrive.application.ports.output.DriverRatingStatsPort;
+import com.rappidrive.application.ports.output.DriverRatingStatsPort.DriverRatingStats;
+import com.rappidrive.application.ports.output.RatingRepositoryPort;
+import com.rappidrive.application.ports.output.TripRepositoryPort;
+import com.rappidrive.domain.entities.Rating;
+import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.RatingType;
+import com.rappidrive.domain.services.RatingValidationService;
+import com.rappidrive.domain.valueobjects.RatingComment;
+import com.rappidrive.domain.valueobjects.RatingScore;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for how the rating use cases keep and read the driver rating aggregates.
+ */
+@ExtendWith(MockitoExtension.class)
+class DriverRatingStatsUseCasesTest {
+
+    @Mock
+    private RatingRepositoryPort ratingRepository;
+
+    @Mock
+    private TripRepositoryPort tripRepository;
+
+    @Mock
+    private RatingValidationService validationService;
+
+    @Mock
+    private DriverRatingStatsPort driverRatingStats;
+
+    private final UUID driverId = UUID.randomUUID();
+    private final UUID passengerId = UUID.randomUUID();
+    private final TenantId tenantId = TenantId.generate();
+
+    @Test
+    void creatingADriverRatingAddsItToTheDriverAggregates() {
+        UUID tripId = UUID.randomUUID();
+        Trip trip = mock(Trip.class);
+        when(trip.getTenantId()).thenReturn(tenantId);
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
+        when(ratingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        new CreateRatingUseCase(ratingRepository, tripRepository, validationService, driverRatingStats)
+            .execute(new CreateRatingCommand(tripId, passengerId, driverId, RatingType.DRIVER_BY_PASSENGER, 4, null));
+
+        verify(driverRatingStats).adjust(driverId, tenantId, RatingScore.of(4), 1);
+    }
+
+    @Test
+    void reportingAnActiveDriverRatingRemovesItOnce() {
+        Rating rating = driverRating(2);
+        when(ratingRepository.findByIdForUpdate(rating.getId())).thenReturn(Optional.of(rating));
+        ReportOffensiveRatingUseCase useCase = new ReportOffensiveRatingUseCase(ratingRepository, driverRatingStats);
+        ReportRatingCommand command = new ReportRatingCommand(rating.getId(), driverId, "ofensivo");
+
+        useCase.execute(command);
+        useCase.execute(command);
+
+        verify(driverRatingStats, times(1)).adjust(driverId, tenantId, RatingScore.of(2), -1);
+    }
+
+    @Test
+    void summaryIsReadFromTheAggregatesWithoutLoadingEveryRating() {
+        when(driverRatingStats.get(driverId)).thenReturn(new DriverRatingStats(4, 17, Map.of(5, 2L, 4, 1L, 3, 1L)));
+        when(ratingRepository.findRecentByRateeId(driverId, RatingType.DRIVER_BY_PASSENGER, 10))
+            .thenReturn(List.of(driverRating(5)));
+
+        DriverRatingSummary summary = new GetDriverRatingSummaryUseCase(ratingRepository, driverRatingStats)
+            .execute(driverId);
+
+        assertThat(summary.averageRating()).isEqualTo(4.25);
+        assertThat(summary.totalRatings()).isEqualTo(4);
+        assertThat(summary.ratingDistribution()).containsEntry(1, 0L).containsEntry(5, 2L).hasSize(5);
+        assertThat(summary.recentRatings()).hasSize(1);
+        verify(ratingRepository, never()).findByRateeIdAndType(any(), any(), any());
+        verify(ratingRepository, never()).calculateAverageByRateeId(any(), any(), any());
+    }
+
+    private Rating driverRating(int score) {
+        return new Rating(UUID.randomUUID(), passengerId, driverId, RatingType.DRIVER_BY_PASSENGER,
+            RatingScore.of(score), RatingComment.of(null), tenantId);
+    }
+}
@@ -0,0 +1,93 @@
+package com.rappidrive.application.usecases.trip;
+
+import com.rappidrive.application.ports.input.trip.CancelTripInputPort.CancelCommand;
+import com.rappidrive.application.ports.input.trip.CancelTripInputPort.CancellationResult;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort;
+import com.rappidrive.application.ports.output.CancellationFeeQueuePort.CancellationFeeCharge;
+import com.rappidrive.application.ports.output.TripRepositoryPort;
+import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.TripStatus;
+import com.rappidrive.domain.events.DomainEventsCollector;
+import com.rappidrive.domain.events.TripCancelledEvent;
+import com.rappidrive.domain.services.CancellationPolicyService;
+import com.rappidrive.domain.valueobjects.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CancelTripUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class CancelTripUseCaseTest {
+
+    @Mock
+    private TripRepositoryPort tripRepository;
+    @Mock
+    private CancellationPolicyService policyService;
+    @Mock
+    private CancellationFeeQueuePort feeQueue;
+
+    private CancelTripUseCase useCase;
+    private Trip trip;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CancelTripUseCase(tripRepository, policyService, feeQueue);
+        trip = new Trip(TripId.generate(), TenantId.generate(), PassengerId.generate(),
+            new Location(-23.561414, -46.655881), new Location(-23.550520, -46.633308));
+        DomainEventsCollector.instance().clear();
+        when(tripRepository.findById(trip.getId().getValue())).thenReturn(Optional.of(trip));
+    }
+
+    @AfterEach
+    void tearDown() {
+        DomainEventsCollector.instance().clear();
+    }
+
+    @Test
+    void enqueuesPassengerFeeWithTheCancellationInsteadOfChargingIt() {
+        Money fee = Money.of(5.00, Currency.BRL);
+        when(policyService.calculateFee(any(), eq(ActorType.PASSENGER), any()))
+            .thenReturn(CancellationFee.of(fee, "Late cancellation"));
+
+        CancellationResult result = useCase.execute(passengerCancels());
+
+        assertThat(trip.getStatus()).isEqualTo(TripStatus.CANCELLED);
+        assertThat(result.feeCharged()).isEqualTo(fee);
+        verify(tripRepository).save(trip);
+        ArgumentCaptor<CancellationFeeCharge> charge = ArgumentCaptor.forClass(CancellationFeeCharge.class);
+        verify(feeQueue).enqueue(charge.capture(), eq(result.cancelledAt()));
+        assertThat(charge.getValue()).isEqualTo(new CancellationFeeCharge(trip.getId().getValue(), trip.getTenantId(),
+            fee, "Late cancellation", result.cancelledAt()));
+        assertThat(DomainEventsCollector.instance().drain()).singleElement()
+            .isInstanceOfSatisfying(TripCancelledEvent.class, event -> assertThat(event.fee()).isEqualTo(fee));
+    }
+
+    @Test
+    void enqueuesNothingForFreeCancellation() {
+        when(policyService.calculateFee(any(), eq(ActorType.PASSENGER), any()))
+            .thenReturn(CancellationFee.free("Within free window"));
+
+        CancellationResult result = useCase.execute(passengerCancels());
+
+        assertThat(result.feeCharged().isZero()).isTrue();
+        verify(tripRepository).save(trip);
+        verifyNoInteractions(feeQueue);
+    }
+
+    private CancelCommand passengerCancels() {
+        return new CancelCommand(trip.getId().getValue(), trip.getPassengerId().getValue(), ActorType.PASSENGER,
+            CancellationReason.PASSENGER_CHANGE_OF_PLANS, null);
+    }
+}
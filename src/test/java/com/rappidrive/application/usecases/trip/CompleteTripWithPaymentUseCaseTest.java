@@ -0,0 +1,94 @@
+package com.rappidrive.application.usecases.trip;
+
+import com.rappidrive.application.ports.input.CompleteTripWithPaymentInputPort.CompleteTripWithPaymentCommand;
+import com.rappidrive.application.ports.input.CompleteTripWithPaymentInputPort.TripCompletionResult;
+import com.rappidrive.application.ports.input.payment.CalculateFareInputPort;
+import com.rappidrive.application.ports.output.DistanceCalculationPort;
+import com.rappidrive.application.ports.output.FareConfigurationRepositoryPort;
+import com.rappidrive.application.ports.output.FareQuoteTokenPort;
+import com.rappidrive.application.ports.output.FareRepositoryPort;
+import com.rappidrive.application.ports.output.PaymentRepositoryPort;
+import com.rappidrive.application.ports.output.PaymentSettlementQueuePort;
+import com.rappidrive.application.ports.output.TripRepositoryPort;
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.TripStatus;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.services.TripCompletionService;
+import com.rappidrive.domain.valueobjects.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CompleteTripWithPaymentUseCaseTest {
+
+    private static final Location ORIGIN = new Location(-23.561414, -46.655881);
+    private static final Location DESTINATION = new Location(-23.626110, -46.656376);
+    private static final String TOKEN = "payload.signature";
+
+    private TripRepositoryPort tripRepository;
+    private FareRepositoryPort fareRepository;
+    private CalculateFareInputPort calculateFare;
+    private FareQuoteTokenPort fareQuoteTokenPort;
+    private CompleteTripWithPaymentUseCase useCase;
+    private TenantId tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tripRepository = mock(TripRepositoryPort.class);
+        fareRepository = mock(FareRepositoryPort.class);
+        calculateFare = mock(CalculateFareInputPort.class);
+        fareQuoteTokenPort = mock(FareQuoteTokenPort.class);
+        PaymentRepositoryPort paymentRepository = mock(PaymentRepositoryPort.class);
+        FareConfigurationRepositoryPort fareConfigurationRepository = mock(FareConfigurationRepositoryPort.class);
+        useCase = new CompleteTripWithPaymentUseCase(tripRepository, fareRepository,
+            mock(DistanceCalculationPort.class), calculateFare, paymentRepository, fareConfigurationRepository,
+            mock(PaymentSettlementQueuePort.class), new TripCompletionService(), fareQuoteTokenPort);
+
+        tenantId = TenantId.generate();
+        when(fareConfigurationRepository.findByTenantId(tenantId)).thenReturn(Optional.empty());
+        when(fareRepository.save(any(Fare.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tripRepository.save(any(Trip.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void chargesQuotedTripWithTheStoredQuoteEvenAfterItExpired() {
+        FareQuote quote = quote(Instant.parse("2020-01-01T00:00:00Z"));
+        Trip trip = startedTrip(quote);
+        when(fareQuoteTokenPort.decode(TOKEN)).thenReturn(quote);
+
+        TripCompletionResult result = useCase.execute(
+            new CompleteTripWithPaymentCommand(trip.getId().getValue(), DESTINATION, PaymentMethod.cash()));
+
+        assertThat(result.trip().getStatus()).isEqualTo(TripStatus.COMPLETED);
+        assertThat(result.fare().getVehicleCategory()).isEqualTo(VehicleType.SUV);
+        assertThat(result.fare().getMultiplierType()).isEqualTo(FareMultiplierType.PEAK);
+        assertThat(result.fare().getBaseFare()).isEqualTo(quote.baseFare());
+        verify(fareQuoteTokenPort, never()).verify(any());
+        verifyNoInteractions(calculateFare);
+    }
+
+    private Trip startedTrip(FareQuote quote) {
+        Trip trip = new Trip(TripId.generate(), tenantId, PassengerId.generate(), quote, TOKEN);
+        trip.assignDriver(DriverId.generate());
+        trip.start();
+        when(tripRepository.findById(trip.getId().getValue())).thenReturn(Optional.of(trip));
+        when(fareRepository.existsByTripId(trip.getId().getValue())).thenReturn(false);
+        return trip;
+    }
+
+    private FareQuote quote(Instant expiresAt) {
+        return new FareQuote(UUID.randomUUID(), tenantId, ORIGIN, DESTINATION, VehicleType.SUV, 7.196, 15,
+            FareMultiplierType.PEAK, 1.5, 1.2, Money.of(5.00, Currency.BRL), Money.of(2.35, Currency.BRL),
+            Money.of(0.45, Currency.BRL), Money.of(8.00, Currency.BRL), Money.of(47.70, Currency.BRL), expiresAt);
+    }
+}
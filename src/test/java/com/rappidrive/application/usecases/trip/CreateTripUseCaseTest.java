@@ -0,0 +1,129 @@
+package com.rappidrive.application.usecases.trip;
+
+import com.rappidrive.application.ports.input.trip.CreateTripInputPort.CreateTripCommand;
+import com.rappidrive.application.ports.output.FareQuoteTokenPort;
+import com.rappidrive.application.ports.output.PassengerRepositoryPort;
+import com.rappidrive.application.ports.output.TelemetryPort;
+import com.rappidrive.application.ports.output.TripRepositoryPort;
+import com.rappidrive.domain.entities.Passenger;
+import com.rappidrive.domain.entities.Trip;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.InvalidFareQuoteException;
+import com.rappidrive.domain.valueobjects.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CreateTripUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+    private static final Location ORIGIN = new Location(-23.561414, -46.655881);
+    private static final Location DESTINATION = new Location(-23.626110, -46.656376);
+    private static final String TOKEN = "payload.signature";
+
+    private TripRepositoryPort tripRepository;
+    private FareQuoteTokenPort fareQuoteTokenPort;
+    private CreateTripUseCase useCase;
+    private TenantId tenantId;
+    private UUID passengerId;
+
+    @BeforeEach
+    void setUp() {
+        tripRepository = mock(TripRepositoryPort.class);
+        PassengerRepositoryPort passengerRepository = mock(PassengerRepositoryPort.class);
+        fareQuoteTokenPort = mock(FareQuoteTokenPort.class);
+        TelemetryPort telemetryPort = new TelemetryPort() {
+            @Override
+            public <T> T traceUseCase(String useCaseName, Map<String, String> attributes, Supplier<T> supplier) {
+                return supplier.get();
+            }
+        };
+        useCase = new CreateTripUseCase(tripRepository, passengerRepository, telemetryPort, fareQuoteTokenPort,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+        tenantId = TenantId.generate();
+        passengerId = UUID.randomUUID();
+        Passenger passenger = new Passenger(passengerId, tenantId, "Maria Silva",
+            new Email("maria.silva@example.com"), new Phone("+5511987654321"));
+        when(passengerRepository.findById(passengerId)).thenReturn(Optional.of(passenger));
+        when(tripRepository.save(any(Trip.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void takesEstimateFromVerifiedQuote() {
+        FareQuote quote = quote(tenantId, NOW.plusSeconds(60));
+        when(fareQuoteTokenPort.verify(TOKEN)).thenReturn(quote);
+
+        Trip trip = useCase.execute(new CreateTripCommand(tenantId, passengerId, ORIGIN, DESTINATION, TOKEN));
+
+        assertThat(trip.getEstimatedFare()).isEqualTo(quote.totalAmount());
+        assertThat(trip.getEstimatedDistanceKm()).isEqualTo(quote.distanceKm());
+        assertThat(trip.getFareQuoteToken()).contains(TOKEN);
+    }
+
+    @Test
+    void keepsLegacyEstimateWithoutQuote() {
+        Trip trip = useCase.execute(new CreateTripCommand(tenantId, passengerId, ORIGIN, DESTINATION));
+
+        assertThat(trip.getFareQuoteToken()).isEmpty();
+        assertThat(trip.getEstimatedFare().isPositive()).isTrue();
+        verifyNoInteractions(fareQuoteTokenPort);
+    }
+
+    @Test
+    void rejectsExpiredQuote() {
+        when(fareQuoteTokenPort.verify(TOKEN)).thenReturn(quote(tenantId, NOW));
+
+        assertThatThrownBy(() -> useCase.execute(new CreateTripCommand(tenantId, passengerId, ORIGIN, DESTINATION, TOKEN)))
+            .isInstanceOf(InvalidFareQuoteException.class)
+            .hasMessageContaining("expired");
+        verify(tripRepository, never()).save(any());
+    }
+
+    @Test
+    void rejectsTamperedQuoteToken() {
+        when(fareQuoteTokenPort.verify(TOKEN)).thenThrow(InvalidFareQuoteException.invalidSignature());
+
+        assertThatThrownBy(() -> useCase.execute(new CreateTripCommand(tenantId, passengerId, ORIGIN, DESTINATION, TOKEN)))
+            .isInstanceOf(InvalidFareQuoteException.class)
+            .hasMessageContaining("signature");
+        verify(tripRepository, never()).save(any());
+    }
+
+    @Test
+    void rejectsQuoteOfAnotherTenant() {
+        when(fareQuoteTokenPort.verify(TOKEN)).thenReturn(quote(TenantId.generate(), NOW.plusSeconds(60)));
+
+        assertThatThrownBy(() -> useCase.execute(new CreateTripCommand(tenantId, passengerId, ORIGIN, DESTINATION, TOKEN)))
+            .isInstanceOf(InvalidFareQuoteException.class)
+            .hasMessageContaining("tenant");
+    }
+
+    @Test
+    void rejectsQuoteForAnotherRoute() {
+        when(fareQuoteTokenPort.verify(TOKEN)).thenReturn(quote(tenantId, NOW.plusSeconds(60)));
+        Location elsewhere = new Location(-23.550520, -46.633308);
+
+        assertThatThrownBy(() -> useCase.execute(new CreateTripCommand(tenantId, passengerId, ORIGIN, elsewhere, TOKEN)))
+            .isInstanceOf(InvalidFareQuoteException.class)
+            .hasMessageContaining("route");
+    }
+
+    private static FareQuote quote(TenantId tenantId, Instant expiresAt) {
+        return new FareQuote(UUID.randomUUID(), tenantId, ORIGIN, DESTINATION, VehicleType.SEDAN, 7.196, 15,
+            FareMultiplierType.NORMAL, 1.0, 1.0, Money.of(5.00, Currency.BRL), Money.of(2.35, Currency.BRL),
+            Money.of(0.45, Currency.BRL), Money.of(8.00, Currency.BRL), Money.of(28.70, Currency.BRL), expiresAt);
+    }
+}
@@ -140,6 +140,17 @@ class HexagonalArchitectureTest {
             .orShould().implement(com.rappidrive.application.ports.output.AdminUserRepositoryPort.class)
             .orShould().implement(com.rappidrive.application.ports.output.ServiceAreaRepositoryPort.class)
             .orShould().implement(com.rappidrive.application.ports.output.TenantRepositoryPort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.PricingRuleRepositoryPort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.PaymentSettlementQueuePort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.CancellationFeeQueuePort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.NotificationDeliveryQueuePort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.NotificationUnreadCounterPort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.NotificationCoalescingPort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.DriverRatingStatsPort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.IdempotencyStorePort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.DriverPayoutStorePort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.PaymentReconciliationSourcePort.class)
+            .orShould().implement(com.rappidrive.application.ports.output.LedgerRepositoryPort.class)
             .because("Repository adapters must implement port interfaces")
             .allowEmptyShould(true);
 
@@ -154,6 +165,7 @@ class HexagonalArchitectureTest {
             .should().implement(com.rappidrive.application.ports.input.driver.CreateDriverInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.driver.GetDriverInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.driver.ActivateDriverInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.driver.DeactivateDriverInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.driver.UpdateDriverLocationInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.driver.FindAvailableDriversInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.passenger.CreatePassengerInputPort.class)
@@ -169,7 +181,16 @@ class HexagonalArchitectureTest {
             .orShould().implement(com.rappidrive.application.ports.input.vehicle.AssignVehicleToDriverInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.vehicle.ActivateVehicleInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.payment.CalculateFareInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.EstimateFaresInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.QuoteFareInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.GetPricingRulesInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.ReplacePricingRulesInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.payment.ProcessPaymentInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.SettlePaymentInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.ChargeCancellationFeeInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.RunDriverPayoutsInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort.class)
+            .orShould().implement(com.rappidrive.application.ports.input.payment.GetLedgerBalanceInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.payment.GetPaymentInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.payment.RefundPaymentInputPort.class)
             .orShould().implement(com.rappidrive.application.ports.input.payment.GetFareConfigurationInputPort.class)
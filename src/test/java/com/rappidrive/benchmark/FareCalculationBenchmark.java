@@ -0,0 +1,130 @@
+package com.rappidrive.benchmark;
+
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.services.FareKernel;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.FareBreakdown;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares fare quoting on {@code BigDecimal} (the implementation before the fixed-point kernel,
+ * copied below) with {@link Fare#calculate} and with the bare {@link FareKernel}.
+ *
+ * <p>Run with {@code mvn test-compile} and then the {@link #main} method from the IDE, or
+ * {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main FareCalculationBenchmark}.
+ * Add {@code -prof gc} to compare allocation rates.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FareCalculationBenchmark {
+
+    @Param({"SEDAN", "SUV"})
+    public VehicleType vehicle;
+
+    @Param({"13:30", "18:15"})
+    public String time;
+
+    private FareConfiguration config;
+    private UUID tripId;
+    private TenantId tenantId;
+    private LocalDateTime tripTime;
+    private double distanceKm;
+    private int minutes;
+    private long[] out;
+
+    @Setup
+    public void setUp() {
+        tenantId = TenantId.generate();
+        config = FareConfiguration.create(tenantId, Money.of(5.00, Currency.BRL), Money.of(2.35, Currency.BRL),
+            Money.of(0.45, Currency.BRL), Money.of(8.00, Currency.BRL), 0.2);
+        tripId = UUID.randomUUID();
+        tripTime = LocalDateTime.parse("2026-10-18T" + time);
+        distanceKm = 12.437;
+        minutes = 27;
+        out = new long[FareKernel.SLOTS];
+    }
+
+    @Benchmark
+    public FareBreakdown legacyDecimal() {
+        return legacyBreakdown(config, distanceKm, minutes, vehicle, tripTime);
+    }
+
+    @Benchmark
+    public Fare fareCalculate() {
+        return Fare.calculate(config, tripId, tenantId, distanceKm, minutes, vehicle, tripTime);
+    }
+
+    @Benchmark
+    public long kernel() {
+        long multiplier = FareKernel.combineMultipliers(vehicleMultiplier(vehicle),
+            FareMultiplierType.fromTripTime(tripTime).getMultiplier());
+        FareKernel.compute(config.getBaseFare().toCents(), config.getPricePerKm().toCents(),
+            config.getPricePerMinute().toCents(), config.getMinimumFare().toCents(),
+            Money.toMicros(distanceKm), minutes, multiplier, out, 0);
+        return out[FareKernel.TOTAL];
+    }
+
+    /**
+     * Copy of the {@code BigDecimal} arithmetic {@code Fare.calculate} used before the fixed-point kernel.
+     */
+    private static FareBreakdown legacyBreakdown(FareConfiguration config, double distanceKm, int minutes,
+                                                 VehicleType vehicle, LocalDateTime tripTime) {
+        Money baseFare = config.getBaseFare();
+        Money distanceFare = config.getPricePerKm().multiply(BigDecimal.valueOf(distanceKm));
+        Money timeFare = config.getPricePerMinute().multiply(BigDecimal.valueOf(minutes));
+        Money subtotal = baseFare.add(distanceFare).add(timeFare);
+        double timeMultiplier = FareMultiplierType.fromTripTime(tripTime).getMultiplier();
+        double vehicleMultiplier = vehicleMultiplier(vehicle);
+        BigDecimal combinedMultiplier = BigDecimal.valueOf(vehicleMultiplier)
+            .multiply(BigDecimal.valueOf(timeMultiplier));
+        Money totalAfterMultipliers = subtotal.multiply(combinedMultiplier);
+        Money minimumFare = config.getMinimumFare();
+        Money finalAmount = totalAfterMultipliers.isLessThan(minimumFare) ? minimumFare : totalAfterMultipliers;
+        BigDecimal cents = finalAmount.getAmount().multiply(BigDecimal.valueOf(100));
+        BigDecimal roundedCents = cents.divide(BigDecimal.TEN, 0, RoundingMode.CEILING).multiply(BigDecimal.TEN);
+        finalAmount = new Money(roundedCents.divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
+        return new FareBreakdown(baseFare, distanceFare, timeFare, vehicleMultiplier, timeMultiplier,
+            minimumFare, finalAmount);
+    }
+
+    private static double vehicleMultiplier(VehicleType vehicle) {
+        return switch (vehicle) {
+            case HATCHBACK -> 0.9;
+            case SEDAN -> 1.0;
+            case SUV -> 1.2;
+        };
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(FareCalculationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
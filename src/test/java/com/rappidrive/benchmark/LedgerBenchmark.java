@@ -0,0 +1,164 @@
+package com.rappidrive.benchmark;
+
+import com.rappidrive.domain.enums.JournalEntryType;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.JournalEntry;
+import com.rappidrive.domain.valueobjects.JournalEntry.Posting;
+import com.rappidrive.domain.valueobjects.LedgerAccount;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.messaging.LedgerSnapshotJob;
+import com.rappidrive.infrastructure.persistence.adapters.JdbcLedgerRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the ledger against Postgres (started with Testcontainers, so Docker is required):
+ * appending a payment's journal entry, and reading a driver balance from its snapshot plus recent
+ * postings versus summing all of the account's postings.
+ *
+ * <p>The ledger is seeded with {@code postings} postings spread over {@code drivers} driver
+ * accounts, snapshots are advanced, and then another posting per driver is added on top, as
+ * between two snapshot runs. Run with {@code mvn test-compile} and then the {@link #main} method
+ * from the IDE, or
+ * {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main LedgerBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LedgerBenchmark {
+
+    private static final String SEED_ENTRIES_SQL =
+        "INSERT INTO ledger_journal_entries (id, tenant_id, entry_type, reference_id, created_at) "
+            + "SELECT md5('entry' || g)::uuid, ?, 'PAYMENT_COMPLETED', md5('payment' || g)::uuid, "
+            + "now() - interval '1 hour' FROM generate_series(1, ?) g";
+    private static final String SEED_POSTINGS_SQL =
+        "INSERT INTO ledger_postings (journal_entry_id, account_id, amount_cents, created_at) "
+            + "SELECT md5('entry' || g)::uuid, x.account_id, x.amount_cents, now() - interval '1 hour' "
+            + "FROM generate_series(1, ?) g CROSS JOIN LATERAL (VALUES (?::uuid, 1000::bigint), "
+            + "(?::uuid, -200::bigint), ((SELECT account_id FROM bench_drivers WHERE n = g % ?), -800::bigint)) "
+            + "x(account_id, amount_cents)";
+    private static final String FULL_SUM_SQL =
+        "SELECT COALESCE(SUM(amount_cents), 0) FROM ledger_postings WHERE account_id = ?";
+
+    @Param({"1000000", "5000000"})
+    public int postings;
+
+    @Param({"10000"})
+    public int drivers;
+
+    private PostgreSQLContainer<?> postgres;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcLedgerRepositoryAdapter ledger;
+    private TenantId tenantId;
+    private List<LedgerAccount> driverAccounts;
+    private List<UUID> driverAccountIds;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgis/postgis:16-3.4");
+        postgres.start();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(),
+            postgres.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V27__create_ledger.sql"),
+            new ClassPathResource("db/migration/V34__ledger_snapshots_by_transaction_id.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        ledger = new JdbcLedgerRepositoryAdapter(jdbcTemplate, 100_000);
+        tenantId = TenantId.generate();
+
+        driverAccounts = new ArrayList<>();
+        for (int i = 0; i < drivers; i++) {
+            driverAccounts.add(LedgerAccount.driverPayable(tenantId, UUID.randomUUID(), Currency.BRL));
+        }
+        // one entry per driver creates every account row through the adapter
+        driverAccounts.forEach(account -> ledger.append(paymentEntry(account)));
+        driverAccountIds = jdbcTemplate.queryForList(
+            "SELECT id FROM ledger_accounts WHERE account_type = 'DRIVER_PAYABLE' ORDER BY id", UUID.class);
+        jdbcTemplate.execute("CREATE TABLE bench_drivers AS SELECT (row_number() OVER (ORDER BY id) - 1)::int AS n, "
+            + "id AS account_id FROM ledger_accounts WHERE account_type = 'DRIVER_PAYABLE'");
+        jdbcTemplate.execute("ALTER TABLE bench_drivers ADD PRIMARY KEY (n)");
+
+        int entries = postings / 3;
+        UUID clearing = accountId(LedgerAccount.gatewayClearing(tenantId, Currency.BRL));
+        UUID revenue = accountId(LedgerAccount.platformRevenue(tenantId, Currency.BRL));
+        jdbcTemplate.update(SEED_ENTRIES_SQL, tenantId.getValue(), entries);
+        jdbcTemplate.update(SEED_POSTINGS_SQL, entries, clearing, revenue, drivers);
+        jdbcTemplate.execute("ANALYZE");
+
+        LedgerSnapshotJob snapshots = new LedgerSnapshotJob(jdbcTemplate, transactionManager, Long.MAX_VALUE);
+        snapshots.advanceSnapshots();
+        driverAccounts.forEach(account -> ledger.append(paymentEntry(account)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        postgres.stop();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Boolean appendPaymentEntry() {
+        LedgerAccount driver = driverAccounts.get(ThreadLocalRandom.current().nextInt(drivers));
+        return transactionTemplate.execute(status -> ledger.append(paymentEntry(driver)));
+    }
+
+    @Benchmark
+    public long balanceFromSnapshot() {
+        return ledger.balanceCents(driverAccounts.get(ThreadLocalRandom.current().nextInt(drivers)));
+    }
+
+    @Benchmark
+    public Long balanceFromAllPostings() {
+        UUID account = driverAccountIds.get(ThreadLocalRandom.current().nextInt(drivers));
+        return jdbcTemplate.queryForObject(FULL_SUM_SQL, Long.class, account);
+    }
+
+    private JournalEntry paymentEntry(LedgerAccount driver) {
+        return new JournalEntry(tenantId, JournalEntryType.PAYMENT_COMPLETED, UUID.randomUUID(), List.of(
+            Posting.debit(LedgerAccount.gatewayClearing(tenantId, Currency.BRL), 1_000),
+            Posting.credit(LedgerAccount.platformRevenue(tenantId, Currency.BRL), 200),
+            Posting.credit(driver, 800)));
+    }
+
+    private UUID accountId(LedgerAccount account) {
+        return jdbcTemplate.queryForObject("SELECT id FROM ledger_accounts WHERE account_type = ? AND owner_id = ?",
+            UUID.class, account.type().name(), account.ownerId());
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(LedgerBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
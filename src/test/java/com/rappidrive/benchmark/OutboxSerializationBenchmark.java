@@ -0,0 +1,120 @@
+package com.rappidrive.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rappidrive.domain.events.DomainEvent;
+import com.rappidrive.domain.events.TripCreatedEvent;
+import com.rappidrive.domain.events.TripDriverAssignedEvent;
+import com.rappidrive.domain.valueobjects.DriverId;
+import com.rappidrive.domain.valueobjects.PassengerId;
+import com.rappidrive.domain.valueobjects.TripId;
+import com.rappidrive.infrastructure.messaging.DomainEventSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares outbox serialisation before and after explicit event metadata:
+ * reflective aggregate-id probing + {@code ObjectMapper.writeValueAsString} versus
+ * {@link DomainEventSerializer} + {@link DomainEvent#aggregateId()}.
+ *
+ * <p>Run with {@code mvn test-compile} and then the {@link #main} method from the IDE, or
+ * {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main OutboxSerializationBenchmark}.
+ * Add {@code -prof gc} to compare allocation rates.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboxSerializationBenchmark {
+
+    private static final String[] LEGACY_ID_METHODS = {"tripId", "getTripId", "aggregateId", "getAggregateId", "getId", "id"};
+
+    @Param({"TripCreatedEvent", "TripDriverAssignedEvent"})
+    public String eventType;
+
+    private ObjectMapper objectMapper;
+    private DomainEventSerializer serializer;
+    private DomainEvent event;
+    private UUID fallbackId;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        serializer = new DomainEventSerializer(objectMapper);
+        fallbackId = UUID.randomUUID();
+        TripId tripId = TripId.generate();
+        event = switch (eventType) {
+            case "TripCreatedEvent" -> new TripCreatedEvent(tripId, new PassengerId(UUID.randomUUID()),
+                "-23.5505,-46.6333", "-23.5614,-46.6559", 3.2, "13.00");
+            case "TripDriverAssignedEvent" -> new TripDriverAssignedEvent(tripId, new DriverId(UUID.randomUUID()));
+            default -> throw new IllegalArgumentException(eventType);
+        };
+    }
+
+    @Benchmark
+    public void legacyReflective(Blackhole blackhole) throws Exception {
+        blackhole.consume(legacyExtractAggregateId(event, fallbackId));
+        blackhole.consume(event.getClass().getSimpleName());
+        blackhole.consume(objectMapper.writeValueAsString(event));
+    }
+
+    @Benchmark
+    public void registryWriters(Blackhole blackhole) {
+        blackhole.consume(event.aggregateId());
+        blackhole.consume(serializer.eventType(event));
+        blackhole.consume(serializer.serialize(event));
+    }
+
+    /**
+     * Copy of the aggregate-id lookup JpaTripRepositoryAdapter used before events carried metadata.
+     */
+    private static UUID legacyExtractAggregateId(Object event, UUID fallback) {
+        try {
+            for (String name : LEGACY_ID_METHODS) {
+                try {
+                    Method m = event.getClass().getMethod(name);
+                    Object result = m.invoke(event);
+                    if (result == null) continue;
+                    if (result instanceof UUID uuid) return uuid;
+                    try {
+                        Object val = result.getClass().getMethod("getValue").invoke(result);
+                        if (val instanceof UUID uuid) return uuid;
+                    } catch (NoSuchMethodException ignored) {}
+                    if (result instanceof String s) {
+                        try {
+                            return UUID.fromString(s);
+                        } catch (IllegalArgumentException ignored) {}
+                    }
+                } catch (NoSuchMethodException ignored) {
+                    // try next
+                }
+            }
+        } catch (Exception e) {
+            // ignore and fallback
+        }
+        return fallback;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(OutboxSerializationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,116 @@
+package com.rappidrive.benchmark;
+
+import com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort.ReconcilePaymentsCommand;
+import com.rappidrive.application.ports.input.payment.ReconcilePaymentsInputPort.ReconciliationResult;
+import com.rappidrive.application.ports.output.ReconciliationReportPort;
+import com.rappidrive.application.ports.output.SettlementFilePort.Format;
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementCursor;
+import com.rappidrive.application.usecases.payment.ReconcilePaymentsUseCase;
+import com.rappidrive.infrastructure.reconciliation.LocalSettlementFileAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the reconciliation on files from {@link SettlementFileGenerator}: parsing and sorting
+ * the settlement file alone, and the full sort-merge join against a generated payment stream
+ * (the database is left out, the report is discarded).
+ *
+ * <p>With a {@code runSize} below {@code rows} the file is sorted externally through temporary
+ * runs; with a larger one it is sorted in memory. Run with {@code mvn test-compile} and then the
+ * {@link #main} method from the IDE, or
+ * {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main ReconciliationBenchmark}.
+ * Add {@code -prof gc} to compare allocation rates, and a small {@code -Xmx} to check the memory
+ * bound.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReconciliationBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"CSV", "NDJSON"})
+    public Format format;
+
+    @Param({"100000", "2000000"})
+    public int runSize;
+
+    private Path directory;
+    private Path file;
+    private LocalSettlementFileAdapter settlementFiles;
+    private ReconcilePaymentsUseCase useCase;
+    private ReconcilePaymentsCommand command;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("reconciliation-benchmark");
+        file = directory.resolve("settlement." + format.name().toLowerCase());
+        SettlementFileGenerator.writeSettlementFile(file, format, rows);
+        settlementFiles = new LocalSettlementFileAdapter(directory.toString(), directory.toString(), 64, runSize);
+        ReconciliationReportPort discard = report -> new ReconciliationReportPort.MismatchWriter() {
+            @Override
+            public void write(ReconciliationReportPort.Mismatch mismatch) {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        useCase = new ReconcilePaymentsUseCase(settlementFiles,
+            (from, to, sink) -> SettlementFileGenerator.streamLedger(rows, sink), discard);
+        command = new ReconcilePaymentsCommand(file.getFileName(), format, LocalDateTime.of(2026, 10, 17, 0, 0),
+            LocalDateTime.of(2026, 10, 18, 0, 0), Path.of("report.ndjson"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void parseAndSort(Blackhole blackhole) {
+        try (SettlementCursor cursor = settlementFiles.openSortedByTransactionId(file.getFileName(), format)) {
+            while (cursor.hasNext()) {
+                blackhole.consume(cursor.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public ReconciliationResult reconcile() {
+        return useCase.execute(command);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(ReconciliationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,143 @@
+package com.rappidrive.benchmark;
+
+import com.rappidrive.application.ports.output.PaymentReconciliationSourcePort.LedgerPayment;
+import com.rappidrive.application.ports.output.SettlementFilePort.Format;
+import com.rappidrive.domain.enums.PaymentStatus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Synthetic settlement exports and the matching payments, for benchmarks and load tests of the
+ * reconciliation.
+ *
+ * <p>Row {@code i} is transaction {@code TXN-<i, zero-padded>}. The file lists the rows in a
+ * scrambled order (a multiplicative permutation, so no row list is held in memory) and disagrees
+ * with the payments on a fixed share of them: every 89th payment is missing from the file, every
+ * 83rd file line has no payment, every 97th amount and every 101st status differ. The expected
+ * counts are available from {@link #expectedMismatches}.</p>
+ *
+ * <p>Generate a file from the command line with
+ * {@code java -cp target/test-classes:target/classes:<test classpath> com.rappidrive.benchmark.SettlementFileGenerator <file> <rows> [CSV|NDJSON]}.</p>
+ */
+public final class SettlementFileGenerator {
+
+    private static final long PERMUTATION_MULTIPLIER = 2_654_435_761L;
+
+    private SettlementFileGenerator() {
+    }
+
+    public static void writeSettlementFile(Path file, Format format, int rows) throws IOException {
+        long multiplier = coprimeMultiplier(rows);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (format == Format.CSV) {
+                out.write("settlement_date,transaction_id,amount,currency,status\n");
+            }
+            for (long n = 0; n < rows; n++) {
+                int i = (int) ((n * multiplier) % rows);
+                if (missingAtGateway(i)) {
+                    continue;
+                }
+                String transactionId = transactionId(i);
+                String amount = decimal(amountCents(i) + (amountMismatch(i) ? 100 : 0));
+                String status = statusMismatch(i) ? "REFUNDED" : "SETTLED";
+                if (format == Format.CSV) {
+                    out.write("2026-10-17," + transactionId + "," + amount + ",BRL," + status + "\n");
+                } else {
+                    out.write("{\"transaction_id\":\"" + transactionId + "\",\"amount\":" + amount
+                        + ",\"currency\":\"BRL\",\"status\":\"" + status + "\",\"fees\":{\"gateway\":0.35}}\n");
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams the payments that go with {@link #writeSettlementFile}, ordered by transaction id.
+     *
+     * @return the number of payments
+     */
+    public static long streamLedger(int rows, Consumer<LedgerPayment> sink) {
+        UUID tenantId = new UUID(0, 1);
+        long count = 0;
+        for (int i = 0; i < rows; i++) {
+            if (missingInLedger(i)) {
+                continue;
+            }
+            sink.accept(new LedgerPayment(new UUID(1, i), tenantId, transactionId(i), amountCents(i),
+                PaymentStatus.COMPLETED));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Mismatches a reconciliation of {@code rows} rows must report.
+     */
+    public static long expectedMismatches(int rows) {
+        long expected = 0;
+        for (int i = 0; i < rows; i++) {
+            boolean inFile = !missingAtGateway(i);
+            boolean inLedger = !missingInLedger(i);
+            if (inFile && inLedger) {
+                expected += (amountMismatch(i) ? 1 : 0) + (statusMismatch(i) ? 1 : 0);
+            } else if (inFile || inLedger) {
+                expected++;
+            }
+        }
+        return expected;
+    }
+
+    public static String transactionId(int i) {
+        return String.format("TXN-%012d", i);
+    }
+
+    private static long amountCents(int i) {
+        return 500 + (i * 7_919L) % 20_000;
+    }
+
+    private static boolean missingAtGateway(int i) {
+        return i % 89 == 0;
+    }
+
+    private static boolean missingInLedger(int i) {
+        return i % 83 == 0 && !missingAtGateway(i);
+    }
+
+    private static boolean amountMismatch(int i) {
+        return i % 97 == 0;
+    }
+
+    private static boolean statusMismatch(int i) {
+        return i % 101 == 0;
+    }
+
+    private static String decimal(long cents) {
+        return cents / 100 + "." + String.format("%02d", cents % 100);
+    }
+
+    private static long coprimeMultiplier(int rows) {
+        long multiplier = PERMUTATION_MULTIPLIER % Math.max(rows, 1);
+        while (rows > 1 && gcd(multiplier, rows) != 1) {
+            multiplier++;
+        }
+        return Math.max(multiplier, 1);
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: SettlementFileGenerator <file> <rows> [CSV|NDJSON]");
+            System.exit(1);
+        }
+        Format format = args.length > 2 ? Format.valueOf(args[2]) : Format.CSV;
+        writeSettlementFile(Path.of(args[0]), format, Integer.parseInt(args[1]));
+    }
+}
@@ -0,0 +1,98 @@
+package com.rappidrive.domain.events;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainEventPublisherTest {
+
+    private final DomainEventPublisher publisher = DomainEventPublisher.instance();
+    private final List<DomainEventHandler<?>> registered = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        registered.forEach(publisher::unregister);
+    }
+
+    private void register(DomainEventHandler<?> handler) {
+        registered.add(handler);
+        publisher.register(handler);
+    }
+
+    @Test
+    void nestedPublishesAreDeliveredAfterTheCurrentEventInsteadOfDropped() {
+        List<String> delivered = new ArrayList<>();
+        register(new RecordingHandler(delivered, "first"));
+        register(new DomainEventHandler<TestEvent>() {
+            @Override
+            public void handle(TestEvent event) {
+                if (event.name().equals("outer")) {
+                    publisher.publish(new TestEvent("inner"));
+                }
+            }
+
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof TestEvent;
+            }
+        });
+        register(new RecordingHandler(delivered, "last"));
+
+        publisher.publish(new TestEvent("outer"));
+
+        assertThat(delivered).containsExactly("first:outer", "last:outer", "first:inner", "last:inner");
+    }
+
+    @Test
+    void unregisteredHandlersStopReceivingEvents() {
+        List<String> delivered = new ArrayList<>();
+        RecordingHandler handler = new RecordingHandler(delivered, "h");
+        register(handler);
+        publisher.publish(new TestEvent("a"));
+
+        publisher.unregister(handler);
+        publisher.publish(new TestEvent("b"));
+
+        assertThat(delivered).containsExactly("h:a");
+    }
+
+    private record RecordingHandler(List<String> delivered, String name) implements DomainEventHandler<TestEvent> {
+        @Override
+        public void handle(TestEvent event) {
+            delivered.add(name + ":" + event.name());
+        }
+
+        @Override
+        public boolean canHandle(DomainEvent event) {
+            return event instanceof TestEvent;
+        }
+    }
+
+    private record TestEvent(String name) implements DomainEvent {
+        @Override
+        public LocalDateTime occurredOn() {
+            return LocalDateTime.now();
+        }
+
+        @Override
+        public String eventId() {
+            return name;
+        }
+
+        @Override
+        public UUID aggregateId() {
+            return null;
+        }
+
+        @Override
+        public String aggregateType() {
+            return "Test";
+        }
+    }
+}
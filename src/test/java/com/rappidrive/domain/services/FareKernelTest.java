@@ -0,0 +1,248 @@
+package com.rappidrive.domain.services;
+
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.FareBreakdown;
+import com.rappidrive.domain.valueobjects.FareQuote;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Property tests: {@link Fare#calculate} on the fixed-point kernel must produce exactly what the
+ * original {@code BigDecimal} implementation (reproduced in {@link #reference}) produces.
+ */
+class FareKernelTest {
+
+    private static final long SEED = 0x5EED_FA4EL;
+    private static final int SAMPLES = 20_000;
+    private static final List<LocalDateTime> TRIP_TIMES = List.of(
+        LocalDateTime.of(2026, 10, 18, 3, 15),   // late night
+        LocalDateTime.of(2026, 10, 18, 8, 0),    // peak
+        LocalDateTime.of(2026, 10, 18, 13, 30),  // normal
+        LocalDateTime.of(2026, 10, 18, 18, 45)); // peak
+
+    private final TenantId tenantId = TenantId.generate();
+
+    @Test
+    void matchesDecimalImplementationForRandomInputs() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SAMPLES; i++) {
+            int baseCents = 1 + random.nextInt(2_000);
+            FareConfiguration config = FareConfiguration.create(tenantId,
+                money(baseCents), money(1 + random.nextInt(1_000)),
+                money(1 + random.nextInt(300)), money(baseCents + random.nextInt(5_000)), 0.2);
+            double distanceKm = randomDistance(random);
+            int minutes = random.nextInt(240);
+            VehicleType vehicle = VehicleType.values()[random.nextInt(VehicleType.values().length)];
+            LocalDateTime tripTime = TRIP_TIMES.get(random.nextInt(TRIP_TIMES.size()));
+
+            assertSameOutcome(config, distanceKm, minutes, vehicle, tripTime);
+        }
+    }
+
+    @Test
+    void matchesDecimalImplementationAtRoundingBoundaries() {
+        FareConfiguration config = FareConfiguration.create(tenantId,
+            money(500), money(333), money(17), money(800), 0.2);
+        for (double distanceKm : new double[] {0, 0.001, 0.015, 0.045, 1.5, 2.999999, 3.0000001, 12.345678}) {
+            for (VehicleType vehicle : VehicleType.values()) {
+                for (LocalDateTime tripTime : TRIP_TIMES) {
+                    assertSameOutcome(config, distanceKm, 7, vehicle, tripTime);
+                }
+            }
+        }
+    }
+
+    @Test
+    void kernelRoundsDistanceHalfUpAndTotalUpToTenCents() {
+        long[] out = new long[FareKernel.SLOTS];
+
+        // 2.50/km × 1.003 km = 2.5075 → 2.51; 5.00 + 2.51 = 7.51 × 1.5 = 11.265 → 11.27 → 11.30
+        boolean computed = FareKernel.compute(500, 250, 0, 0, 1_003_000, 0, 1_500_000, out, 0);
+
+        assertThat(computed).isTrue();
+        assertThat(out[FareKernel.DISTANCE]).isEqualTo(251);
+        assertThat(out[FareKernel.SUBTOTAL]).isEqualTo(751);
+        assertThat(out[FareKernel.AFTER_MULTIPLIERS]).isEqualTo(1127);
+        assertThat(out[FareKernel.TOTAL]).isEqualTo(1130);
+    }
+
+    @Test
+    void kernelAppliesMinimumFareBeforeRounding() {
+        long[] out = new long[2 * FareKernel.SLOTS];
+
+        FareKernel.compute(100, 100, 10, 1_234, 500_000, 2, FareKernel.ONE, out, FareKernel.SLOTS);
+
+        assertThat(out[FareKernel.SLOTS + FareKernel.AFTER_MULTIPLIERS]).isEqualTo(170);
+        assertThat(out[FareKernel.SLOTS + FareKernel.TOTAL]).isEqualTo(1_240);
+    }
+
+    @Test
+    void kernelReportsOverflow() {
+        long[] out = new long[FareKernel.SLOTS];
+
+        assertThat(FareKernel.compute(0, Long.MAX_VALUE / 2, 0, 0, 3 * FareKernel.ONE, 0, FareKernel.ONE, out, 0))
+            .isFalse();
+        assertThat(FareKernel.compute(Long.MAX_VALUE - 5, 0, 0, 0, 0, 0, FareKernel.ONE, out, 0)).isFalse();
+    }
+
+    @Test
+    void computeAllFillsOneCellPerRouteAndMultiplier() {
+        long[] distances = {1_003_000, -1, 12_000_000};
+        long[] minutes = {3, 5, 20};
+        long[] multipliers = {FareKernel.ONE, 1_800_000};
+        long[] out = new long[distances.length * multipliers.length * FareKernel.SLOTS];
+
+        int failed = FareKernel.computeAll(500, 250, 40, 800, distances, minutes, multipliers, out);
+
+        assertThat(failed).isEqualTo(2);
+        long[] single = new long[FareKernel.SLOTS];
+        for (int route = 0; route < distances.length; route++) {
+            for (int m = 0; m < multipliers.length; m++) {
+                int offset = (route * multipliers.length + m) * FareKernel.SLOTS;
+                if (distances[route] < 0) {
+                    assertThat(out[offset + FareKernel.TOTAL]).isEqualTo(-1);
+                    continue;
+                }
+                FareKernel.compute(500, 250, 40, 800, distances[route], minutes[route], multipliers[m], single, 0);
+                assertThat(Arrays.copyOfRange(out, offset, offset + FareKernel.SLOTS)).containsExactly(single);
+            }
+        }
+    }
+
+    @Test
+    void combinesMultipliersExactly() {
+        assertThat(FareKernel.combineMultipliers(1.2, 1.5)).isEqualTo(1_800_000);
+        assertThat(FareKernel.combineMultipliers(0.9, 1.3)).isEqualTo(1_170_000);
+        assertThat(FareKernel.combineMultipliers(0.001, 0.001)).isEqualTo(1);
+        assertThat(FareKernel.combineMultipliers(0.0001, 0.0001)).isEqualTo(-1);
+        assertThat(FareKernel.combineMultipliers(1.0000001, 1.0)).isEqualTo(-1);
+    }
+
+    @Test
+    void quotedFareUsesPricesAndMultiplierCapturedInQuote() {
+        FareConfiguration config = FareConfiguration.create(tenantId,
+            money(500), money(235), money(45), money(800), 0.2);
+        FareQuote quote = new FareQuote(UUID.randomUUID(), tenantId, new Location(-23.56, -46.65),
+            new Location(-23.62, -46.65), VehicleType.HATCHBACK, 7.2, 15, FareMultiplierType.NORMAL, 1.0, 0.9,
+            config.getBaseFare(), config.getPricePerKm(), config.getPricePerMinute(), config.getMinimumFare(),
+            money(2_870), Instant.parse("2026-10-18T12:05:00Z"));
+
+        Fare quoted = Fare.calculate(quote, UUID.randomUUID(), 9.731, 22);
+        Fare direct = Fare.calculate(config, UUID.randomUUID(), tenantId, 9.731, 22, VehicleType.HATCHBACK,
+            LocalDateTime.of(2026, 10, 18, 18, 45));
+
+        assertThat(quoted.getBreakdown().isMultiplierDiscount()).isTrue();
+        assertThat(quoted.getBreakdown()).isEqualTo(reference(config, 9.731, 22, VehicleType.HATCHBACK, TRIP_TIMES.get(2)));
+        assertThat(quoted.getTotalAmount().isLessThan(direct.getTotalAmount())).isTrue();
+    }
+
+    private void assertSameOutcome(FareConfiguration config, double distanceKm, int minutes,
+                                   VehicleType vehicle, LocalDateTime tripTime) {
+        String input = "distance=" + distanceKm + " minutes=" + minutes + " vehicle=" + vehicle
+            + " time=" + tripTime + " base=" + config.getBaseFare() + " perKm=" + config.getPricePerKm()
+            + " perMinute=" + config.getPricePerMinute() + " minimum=" + config.getMinimumFare();
+        FareBreakdown expected;
+        try {
+            expected = reference(config, distanceKm, minutes, vehicle, tripTime);
+        } catch (RuntimeException ex) {
+            assertThatThrownBy(() -> Fare.calculate(config, UUID.randomUUID(), tenantId, distanceKm, minutes,
+                vehicle, tripTime)).as(input).isExactlyInstanceOf(ex.getClass()).hasMessage(ex.getMessage());
+            return;
+        }
+
+        Fare fare = Fare.calculate(config, UUID.randomUUID(), tenantId, distanceKm, minutes, vehicle, tripTime);
+        FareBreakdown actual = fare.getBreakdown();
+
+        assertIdentical(actual.getDistanceFare(), expected.getDistanceFare(), input);
+        assertIdentical(actual.getTimeFare(), expected.getTimeFare(), input);
+        assertIdentical(actual.getSubtotal(), expected.getSubtotal(), input);
+        assertIdentical(actual.getTotalMultiplier(), expected.getTotalMultiplier(), input);
+        assertIdentical(actual.getFinalAmount(), expected.getFinalAmount(), input);
+        assertIdentical(fare.getTotalBeforeMultiplier(), expected.getSubtotal(), input);
+        assertIdentical(fare.getTotalAmount(), expected.getFinalAmount(), input);
+        assertThat(actual).as(input).isEqualTo(expected);
+    }
+
+    private static void assertIdentical(Money actual, Money expected, String input) {
+        // BigDecimal.equals also compares scale, so this is stricter than Money.equals
+        assertThat(actual.getAmount()).as(input).isEqualTo(expected.getAmount());
+        assertThat(actual.getCurrency()).as(input).isEqualTo(expected.getCurrency());
+    }
+
+    private static double randomDistance(Random random) {
+        int whole = random.nextInt(80);
+        return switch (random.nextInt(4)) {
+            case 0 -> whole + random.nextInt(100) / 100.0;
+            case 1 -> whole + random.nextInt(1_000) / 1_000.0;
+            case 2 -> BigDecimal.valueOf(whole * 1_000_000L + random.nextInt(1_000_000), 6).doubleValue();
+            default -> whole + random.nextDouble(); // usually more than six digits: decimal fallback
+        };
+    }
+
+    private static Money money(int cents) {
+        return Money.ofCents(cents, Currency.BRL);
+    }
+
+    /**
+     * The original all-{@code BigDecimal} fare calculation, kept verbatim as the oracle.
+     */
+    private static FareBreakdown reference(FareConfiguration config, double distanceKm, int durationMinutes,
+                                           VehicleType vehicleCategory, LocalDateTime tripTime) {
+        Money baseFare = config.getBaseFare();
+        Money distanceFare = legacyMoney(config.getPricePerKm().getAmount().multiply(BigDecimal.valueOf(distanceKm)),
+            config.getPricePerKm().getCurrency());
+        Money timeFare = legacyMoney(config.getPricePerMinute().getAmount().multiply(BigDecimal.valueOf(durationMinutes)),
+            config.getPricePerMinute().getCurrency());
+        Money subtotal = legacyMoney(baseFare.getAmount().add(distanceFare.getAmount()).add(timeFare.getAmount()),
+            baseFare.getCurrency());
+
+        double timeMultiplier = FareMultiplierType.fromTripTime(tripTime).getMultiplier();
+        double vehicleMultiplier = switch (vehicleCategory) {
+            case HATCHBACK -> 0.9;
+            case SEDAN -> 1.0;
+            case SUV -> 1.2;
+        };
+        BigDecimal combinedMultiplier = BigDecimal.valueOf(vehicleMultiplier)
+            .multiply(BigDecimal.valueOf(timeMultiplier));
+        Money totalAfterMultipliers = legacyMoney(subtotal.getAmount().multiply(combinedMultiplier),
+            subtotal.getCurrency());
+
+        Money minimumFare = config.getMinimumFare();
+        Money finalAmount = totalAfterMultipliers.getAmount().compareTo(minimumFare.getAmount()) < 0
+            ? minimumFare
+            : totalAfterMultipliers;
+
+        BigDecimal cents = finalAmount.getAmount().multiply(BigDecimal.valueOf(100));
+        BigDecimal roundedCents = cents.divide(BigDecimal.TEN, 0, RoundingMode.CEILING).multiply(BigDecimal.TEN);
+        finalAmount = new Money(roundedCents.divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
+
+        FareBreakdown breakdown = new FareBreakdown(baseFare, distanceFare, timeFare,
+            vehicleMultiplier, timeMultiplier, minimumFare, finalAmount);
+        if (finalAmount.isNegativeOrZero()) {
+            throw new IllegalArgumentException("Total amount must be positive");
+        }
+        return breakdown;
+    }
+
+    private static Money legacyMoney(BigDecimal amount, Currency currency) {
+        return new Money(amount.setScale(2, RoundingMode.HALF_UP), currency);
+    }
+}
@@ -0,0 +1,122 @@
+package com.rappidrive.domain.services;
+
+import com.rappidrive.domain.entities.Payment;
+import com.rappidrive.domain.enums.JournalEntryType;
+import com.rappidrive.domain.enums.PaymentStatus;
+import com.rappidrive.domain.valueobjects.*;
+import com.rappidrive.domain.valueobjects.JournalEntry.Posting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LedgerPostingServiceTest {
+
+    private final TenantId tenantId = TenantId.generate();
+    private final UUID driverId = UUID.randomUUID();
+    private LedgerPostingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LedgerPostingService();
+    }
+
+    @Test
+    void shouldSplitCompletedGatewayPaymentBetweenRevenueAndDriver() {
+        Payment payment = payment(PaymentMethod.pix("key@rappidrive.com"));
+        payment.complete();
+
+        JournalEntry entry = service.entryFor(payment, PaymentStatus.PENDING, driverId).orElseThrow();
+
+        assertThat(entry.type()).isEqualTo(JournalEntryType.PAYMENT_COMPLETED);
+        assertThat(entry.referenceId()).isEqualTo(payment.getId());
+        assertThat(entry.postings()).containsExactly(
+            Posting.debit(LedgerAccount.gatewayClearing(tenantId, Currency.BRL), 5_000),
+            Posting.credit(LedgerAccount.platformRevenue(tenantId, Currency.BRL), 1_000),
+            Posting.credit(LedgerAccount.driverPayable(tenantId, driverId, Currency.BRL), 4_000));
+    }
+
+    @Test
+    void shouldChargeDriverThePlatformFeeOfCashPayment() {
+        Payment payment = payment(PaymentMethod.cash());
+        payment.complete();
+
+        JournalEntry entry = service.entryFor(payment, PaymentStatus.PENDING, driverId).orElseThrow();
+
+        assertThat(entry.postings()).containsExactly(
+            Posting.debit(LedgerAccount.driverPayable(tenantId, driverId, Currency.BRL), 1_000),
+            Posting.credit(LedgerAccount.platformRevenue(tenantId, Currency.BRL), 1_000));
+    }
+
+    @Test
+    void shouldPostDriverShareToSuspenseWhenTripHasNoDriver() {
+        Payment payment = payment(PaymentMethod.pix("key@rappidrive.com"));
+        payment.complete();
+
+        JournalEntry entry = service.entryFor(payment, PaymentStatus.PENDING, null).orElseThrow();
+
+        assertThat(entry.postings()).contains(Posting.credit(LedgerAccount.suspense(tenantId, Currency.BRL), 4_000));
+    }
+
+    @Test
+    void shouldReverseCompletionOnRefund() {
+        Payment payment = payment(PaymentMethod.creditCard("4242", "VISA"));
+        payment.complete();
+        JournalEntry completion = service.entryFor(payment, PaymentStatus.PENDING, driverId).orElseThrow();
+        payment.refund();
+
+        JournalEntry refund = service.entryFor(payment, PaymentStatus.COMPLETED, driverId).orElseThrow();
+
+        assertThat(refund.type()).isEqualTo(JournalEntryType.PAYMENT_REFUNDED);
+        assertThat(refund.postings()).hasSameSizeAs(completion.postings());
+        for (int i = 0; i < refund.postings().size(); i++) {
+            assertThat(refund.postings().get(i).account()).isEqualTo(completion.postings().get(i).account());
+            assertThat(refund.postings().get(i).amountCents()).isEqualTo(-completion.postings().get(i).amountCents());
+        }
+    }
+
+    @Test
+    void shouldPostNothingWhenStatusIsUnchangedOrNotFinal() {
+        Payment payment = payment(PaymentMethod.pix("key@rappidrive.com"));
+
+        assertThat(service.entryFor(payment, null, driverId)).isEmpty();
+        payment.complete();
+        assertThat(service.entryFor(payment, PaymentStatus.COMPLETED, driverId)).isEmpty();
+    }
+
+    @Test
+    void shouldPostNothingForCashPaymentWithoutFee() {
+        Payment payment = Payment.create(UUID.randomUUID(), driverId, tenantId, Money.ofCents(5_000, Currency.BRL),
+            Money.zero(Currency.BRL), Money.ofCents(5_000, Currency.BRL), PaymentMethod.cash());
+        payment.complete();
+
+        Optional<JournalEntry> entry = service.entryFor(payment, PaymentStatus.PENDING, driverId);
+
+        assertThat(entry).isEmpty();
+    }
+
+    @Test
+    void shouldRejectUnbalancedJournalEntry() {
+        LedgerAccount revenue = LedgerAccount.platformRevenue(tenantId, Currency.BRL);
+        LedgerAccount clearing = LedgerAccount.gatewayClearing(tenantId, Currency.BRL);
+
+        assertThatThrownBy(() -> new JournalEntry(tenantId, JournalEntryType.PAYMENT_COMPLETED, UUID.randomUUID(),
+            List.of(Posting.debit(clearing, 100), Posting.credit(revenue, 99))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("unbalanced by 1 cents");
+        assertThatThrownBy(() -> new JournalEntry(tenantId, JournalEntryType.PAYMENT_COMPLETED, UUID.randomUUID(),
+            List.of(Posting.debit(clearing, 100), Posting.credit(LedgerAccount.platformRevenue(TenantId.generate(),
+                Currency.BRL), 100))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("another tenant");
+    }
+
+    private Payment payment(PaymentMethod method) {
+        return Payment.create(UUID.randomUUID(), driverId, tenantId, Money.ofCents(5_000, Currency.BRL),
+            Money.ofCents(1_000, Currency.BRL), Money.ofCents(4_000, Currency.BRL), method);
+    }
+}
@@ -0,0 +1,154 @@
+package com.rappidrive.domain.services;
+
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.InvalidPricingRuleException;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.PricingRule;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PricingTable.
+ */
+class PricingTableTest {
+
+    private static final LocalDate FRIDAY = LocalDate.of(2026, 10, 16);
+    private static final LocalDate NEW_YEARS_EVE = LocalDate.of(2026, 12, 31);
+
+    @Test
+    void standardTableMatchesBuiltInWindowsForEveryMinute() {
+        PricingTable table = PricingTable.standard();
+
+        for (int minute = 0; minute < PricingTable.MINUTES_PER_DAY; minute++) {
+            LocalDateTime tripTime = FRIDAY.atStartOfDay().plusMinutes(minute);
+            for (VehicleType vehicle : VehicleType.values()) {
+                int outcome = table.resolve(tripTime, vehicle);
+                FareMultiplierType expected = FareMultiplierType.fromTripTime(tripTime);
+                assertThat(table.multiplierType(outcome)).as("%s", tripTime).isEqualTo(expected);
+                assertThat(table.timeMultiplier(outcome)).isEqualTo(expected.getMultiplier());
+                assertThat(table.vehicleMultiplier(vehicle)).isEqualTo(Fare.getVehicleMultiplier(vehicle));
+            }
+        }
+    }
+
+    @Test
+    void weeklyWindowEndingBeforeItsStartRunsIntoTheNextDay() {
+        PricingTable table = PricingTable.compile(List.of(PricingRule.weekly("Friday nights",
+            Set.of(DayOfWeek.FRIDAY), LocalTime.of(22, 0), LocalTime.of(2, 0), Set.of(),
+            FareMultiplierType.PEAK, new BigDecimal("2.00"), 0)));
+
+        assertThat(timeMultiplier(table, FRIDAY.atTime(21, 59), VehicleType.SEDAN)).isEqualTo(1.0);
+        assertThat(timeMultiplier(table, FRIDAY.atTime(23, 30), VehicleType.SEDAN)).isEqualTo(2.0);
+        assertThat(timeMultiplier(table, FRIDAY.plusDays(1).atTime(1, 59), VehicleType.SUV)).isEqualTo(2.0);
+        assertThat(timeMultiplier(table, FRIDAY.plusDays(1).atTime(2, 0), VehicleType.SUV)).isEqualTo(1.3);
+        // Thursday night is not part of the rule
+        assertThat(timeMultiplier(table, FRIDAY.atTime(1, 0), VehicleType.SEDAN)).isEqualTo(1.3);
+    }
+
+    @Test
+    void datedRuleAppliesOnlyToItsRangeAndVehicleTypes() {
+        PricingTable table = PricingTable.compile(List.of(PricingRule.dated("New year",
+            NEW_YEARS_EVE.atTime(20, 0), NEW_YEARS_EVE.plusDays(1).atTime(4, 0), Set.of(VehicleType.SUV),
+            FareMultiplierType.PEAK, new BigDecimal("2.5"), 0)));
+
+        int outcome = table.resolve(NEW_YEARS_EVE.atTime(23, 0), VehicleType.SUV);
+        assertThat(table.multiplierType(outcome)).isEqualTo(FareMultiplierType.PEAK);
+        assertThat(table.timeMultiplier(outcome)).isEqualTo(2.5);
+        assertThat(timeMultiplier(table, NEW_YEARS_EVE.atTime(23, 0), VehicleType.SEDAN)).isEqualTo(1.0);
+        assertThat(timeMultiplier(table, NEW_YEARS_EVE.plusDays(1).atTime(3, 59), VehicleType.SUV)).isEqualTo(2.5);
+        assertThat(timeMultiplier(table, NEW_YEARS_EVE.plusDays(1).atTime(4, 0), VehicleType.SUV)).isEqualTo(1.3);
+        assertThat(timeMultiplier(table, NEW_YEARS_EVE.plusDays(7).atTime(23, 0), VehicleType.SUV)).isEqualTo(1.0);
+        assertThat(timeMultiplier(table, NEW_YEARS_EVE.minusDays(7).atTime(23, 0), VehicleType.SUV)).isEqualTo(1.0);
+    }
+
+    @Test
+    void higherPriorityWinsAndDatedRulesWinTies() {
+        LocalDateTime evening = FRIDAY.atTime(20, 0);
+        PricingRule weekly = PricingRule.weekly("Weekend evenings", Set.of(DayOfWeek.FRIDAY), LocalTime.of(18, 0),
+            LocalTime.of(23, 0), Set.of(), FareMultiplierType.PEAK, new BigDecimal("1.8"), 5);
+        PricingRule holiday = PricingRule.dated("Holiday", FRIDAY.atStartOfDay(), FRIDAY.plusDays(1).atStartOfDay(),
+            Set.of(), FareMultiplierType.NORMAL, new BigDecimal("1.1"), 0);
+
+        assertThat(timeMultiplier(PricingTable.compile(List.of(weekly, holiday)), evening, VehicleType.SEDAN))
+            .isEqualTo(1.8);
+        PricingRule samePriorityHoliday = PricingRule.dated("Holiday", FRIDAY.atStartOfDay(),
+            FRIDAY.plusDays(1).atStartOfDay(), Set.of(), FareMultiplierType.NORMAL, new BigDecimal("1.1"), 5);
+        assertThat(timeMultiplier(PricingTable.compile(List.of(samePriorityHoliday, weekly)), evening, VehicleType.SEDAN))
+            .isEqualTo(1.1);
+    }
+
+    @Test
+    void vehicleRatesReplaceDefaultsInCombinedMultiplier() {
+        PricingTable table = PricingTable.compile(List.of(
+            PricingRule.vehicleRate("Premium SUV", Set.of(VehicleType.SUV), new BigDecimal("1.35"), 0)));
+
+        int outcome = table.resolve(FRIDAY.atTime(8, 0), VehicleType.SUV);
+        assertThat(table.vehicleMultiplier(VehicleType.SUV)).isEqualTo(1.35);
+        assertThat(table.vehicleMultiplier(VehicleType.HATCHBACK)).isEqualTo(0.9);
+        assertThat(table.combinedMultiplierMicros(outcome, VehicleType.SUV)).isEqualTo(2_025_000L);
+    }
+
+    @Test
+    void identicalDatedDaysShareOneTable() {
+        PricingRule festival = PricingRule.dated("Festival", FRIDAY.atStartOfDay(), FRIDAY.plusDays(28).atStartOfDay(),
+            Set.of(), FareMultiplierType.PEAK, new BigDecimal("1.2"), 0);
+        PricingRule shadowed = PricingRule.dated("Shadowed", FRIDAY.atTime(12, 0), FRIDAY.atTime(13, 0),
+            Set.of(), FareMultiplierType.PEAK, new BigDecimal("1.2"), 0);
+        PricingRule always = PricingRule.weekly("Always", EnumSet.allOf(DayOfWeek.class), LocalTime.MIDNIGHT,
+            LocalTime.MIDNIGHT, Set.of(), FareMultiplierType.PEAK, new BigDecimal("1.2"), 10);
+
+        assertThat(PricingTable.compile(List.of(festival)).datedTableCount()).isEqualTo(1);
+        assertThat(PricingTable.compile(List.of(shadowed, always)).datedTableCount()).isZero();
+    }
+
+    @Test
+    void fareWithStandardTableEqualsFareWithBuiltInMultipliers() {
+        TenantId tenantId = TenantId.generate();
+        FareConfiguration config = FareConfiguration.create(tenantId, Money.of(5.00, Currency.BRL),
+            Money.of(2.35, Currency.BRL), Money.of(0.45, Currency.BRL), Money.of(8.00, Currency.BRL), 0.2);
+        LocalDateTime tripTime = FRIDAY.atTime(18, 15);
+
+        for (VehicleType vehicle : VehicleType.values()) {
+            Fare builtIn = Fare.calculate(config, UUID.randomUUID(), tenantId, 12.437, 27, vehicle, tripTime);
+            Fare tabled = Fare.calculate(config, PricingTable.standard(), UUID.randomUUID(), tenantId, 12.437, 27,
+                vehicle, tripTime);
+            assertThat(tabled.getBreakdown()).isEqualTo(builtIn.getBreakdown());
+            assertThat(tabled.getMultiplierType()).isEqualTo(builtIn.getMultiplierType());
+        }
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        assertThatThrownBy(() -> PricingRule.vehicleRate("Too precise", Set.of(VehicleType.SUV),
+            new BigDecimal("1.255"), 0)).isInstanceOf(InvalidPricingRuleException.class);
+        assertThatThrownBy(() -> PricingRule.weekly("No days", Set.of(), LocalTime.of(7, 0), LocalTime.of(9, 0),
+            Set.of(), FareMultiplierType.PEAK, new BigDecimal("1.5"), 0)).isInstanceOf(InvalidPricingRuleException.class);
+        assertThatThrownBy(() -> PricingTable.compile(List.of(
+            PricingRule.dated("2026", LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 2, 0, 0),
+                Set.of(), FareMultiplierType.PEAK, BigDecimal.ONE, 0),
+            PricingRule.dated("2040", LocalDateTime.of(2040, 1, 1, 0, 0), LocalDateTime.of(2040, 1, 2, 0, 0),
+                Set.of(), FareMultiplierType.PEAK, BigDecimal.ONE, 0))))
+            .isInstanceOf(InvalidPricingRuleException.class)
+            .hasMessageContaining("cannot span");
+    }
+
+    private static double timeMultiplier(PricingTable table, LocalDateTime tripTime, VehicleType vehicle) {
+        return table.timeMultiplier(table.resolve(tripTime, vehicle));
+    }
+}
@@ -3,6 +3,8 @@ package com.rappidrive.domain.valueobjects;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -203,4 +205,49 @@ class MoneyTest {
         assertEquals(new BigDecimal("150.00"), added.getAmount());
         assertEquals(new BigDecimal("200.00"), multiplied.getAmount());
     }
+
+    @Test
+    void shouldConvertBetweenCentsAndAmount() {
+        Money money = Money.ofCents(12345, Currency.BRL);
+
+        assertEquals(new BigDecimal("123.45"), money.getAmount());
+        assertEquals(12345, money.toCents());
+        assertEquals(Money.of(123.45, Currency.BRL), money);
+        assertThrows(IllegalArgumentException.class, () -> Money.ofCents(-1, Currency.BRL));
+    }
+
+    @Test
+    void shouldFallBackToBigDecimalBeyondLongCents() {
+        Money huge = new Money(new BigDecimal("100000000000000000000.00"), Currency.BRL);
+
+        assertFalse(huge.fitsInCents());
+        assertThrows(ArithmeticException.class, huge::toCents);
+        assertEquals(new BigDecimal("200000000000000000000.00"), huge.add(huge).getAmount());
+        assertTrue(huge.isGreaterThan(Money.ofCents(Long.MAX_VALUE, Currency.BRL)));
+        assertEquals(new BigDecimal("184467440737095516.14"),
+            Money.ofCents(Long.MAX_VALUE, Currency.BRL).multiply(2.0).getAmount());
+    }
+
+    @Test
+    void centsArithmeticShouldMatchBigDecimalArithmetic() {
+        Random random = new Random(31);
+        double[] factors = {0, 0.1, 0.9, 1.0, 1.17, 1.2345, 1.5, 2.000001, 3.14159265, 1e-7};
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal a = BigDecimal.valueOf(random.nextLong(10_000_000), 2);
+            BigDecimal b = BigDecimal.valueOf(random.nextLong(10_000_000), 2);
+            Money x = new Money(a, Currency.BRL);
+            Money y = new Money(b, Currency.BRL);
+            double factor = factors[random.nextInt(factors.length)];
+
+            assertEquals(a.add(b), x.add(y).getAmount());
+            if (a.compareTo(b) >= 0) {
+                assertEquals(a.subtract(b), x.subtract(y).getAmount());
+            }
+            assertEquals(a.multiply(BigDecimal.valueOf(factor)).setScale(2, RoundingMode.HALF_UP),
+                x.multiply(factor).getAmount());
+            assertEquals(a.compareTo(b) > 0, x.isGreaterThan(y));
+            assertEquals(a.compareTo(b) < 0, x.isLessThan(y));
+            assertEquals(a.compareTo(b) == 0, x.equals(y));
+        }
+    }
 }
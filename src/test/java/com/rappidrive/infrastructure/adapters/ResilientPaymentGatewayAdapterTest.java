@@ -0,0 +1,260 @@
+package com.rappidrive.infrastructure.adapters;
+
+import com.rappidrive.application.ports.output.PaymentGatewayPort;
+import com.rappidrive.application.ports.output.PaymentGatewayPort.PaymentGatewayRequest;
+import com.rappidrive.application.ports.output.PaymentGatewayPort.PaymentGatewayResponse;
+import com.rappidrive.domain.exceptions.PaymentOutcomeUnknownException;
+import com.rappidrive.domain.exceptions.PaymentServiceUnavailableException;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.PaymentMethod;
+import com.rappidrive.domain.valueobjects.TenantId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ResilientPaymentGatewayAdapter.
+ */
+class ResilientPaymentGatewayAdapterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TenantId tenantId = TenantId.generate();
+    private ResilientPaymentGatewayAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.close();
+        }
+    }
+
+    @Test
+    void rejectsCallsBeyondTheTenantLimitOnceTheQueueWaitExpires() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        adapter = adapter(new StubGateway(() -> {
+            if (calls.incrementAndGet() == 1) {
+                started.countDown();
+                await(release);
+            }
+            return approved();
+        }), 10, 1, Duration.ofSeconds(5), false);
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<PaymentGatewayResponse> first = callers.submit(() -> adapter.processPayment(request(null)));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> adapter.processPayment(request(null)))
+                .isInstanceOf(PaymentServiceUnavailableException.class)
+                .hasMessageContaining("capacity");
+            // another tenant still has its own permits
+            assertThat(adapter.refundPayment(TenantId.generate(), "TXN-1", Money.of(10, Currency.BRL)).success())
+                .isTrue();
+
+            release.countDown();
+            assertThat(first.get(1, TimeUnit.SECONDS).success()).isTrue();
+        }
+        assertThat(meterRegistry.get("payment_gateway_bulkhead_rejected_total").tag("operation", "charge")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void abandonsSlowCallAtTheRequestDeadlineButKeepsItsPermit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        adapter = adapter(new StubGateway(() -> {
+            calls.incrementAndGet();
+            awaitIgnoringInterrupts(release);
+            return approved();
+        }), 1, 1, Duration.ofSeconds(5), false);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> adapter.processPayment(new PaymentGatewayRequest(tenantId, Money.of(10, Currency.BRL),
+            PaymentMethod.pix("passenger@example.com"), "Trip payment", null, Instant.now().plusMillis(100))))
+            .isInstanceOf(PaymentOutcomeUnknownException.class)
+            .hasMessageContaining("deadline");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        // the abandoned call is still running at the gateway and holds the only permit
+        assertThatThrownBy(() -> adapter.processPayment(request(null)))
+            .isInstanceOf(PaymentServiceUnavailableException.class)
+            .hasMessageContaining("capacity");
+        assertThat(calls).hasValue(1);
+
+        release.countDown();
+        assertThat(waitForPermit()).isTrue();
+        assertThat(meterRegistry.get("payment_gateway_deadline_exceeded_total").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgesSlowIdempotentChargeAndTakesTheFirstAnswer() {
+        AtomicInteger calls = new AtomicInteger();
+        adapter = adapter(new StubGateway(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(2_000);
+                return new PaymentGatewayResponse(true, "TXN-SLOW", null);
+            }
+            return new PaymentGatewayResponse(true, "TXN-FAST", null);
+        }), 10, 10, Duration.ofSeconds(5), true);
+
+        PaymentGatewayResponse response = adapter.processPayment(request("payment-1"));
+
+        assertThat(response.transactionId()).isEqualTo("TXN-FAST");
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.get("payment_gateway_hedges_total").tag("result", "launched").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("payment_gateway_hedges_total").tag("result", "won").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void doesNotHedgeChargesWithoutIdempotencyKey() {
+        AtomicInteger calls = new AtomicInteger();
+        adapter = adapter(new StubGateway(() -> {
+            calls.incrementAndGet();
+            sleep(300);
+            return approved();
+        }), 10, 10, Duration.ofSeconds(5), true);
+
+        assertThat(adapter.processPayment(request(null)).success()).isTrue();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void keepsTenantPermitsWhileAbandonedCallsHoldThemAndDropsThemAfterwards() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        adapter = adapter(new StubGateway(() -> {
+            if (calls.incrementAndGet() == 1) {
+                awaitIgnoringInterrupts(release);
+            }
+            return approved();
+        }), 100, 1, Duration.ofSeconds(5), false);
+
+        assertThatThrownBy(() -> adapter.processPayment(new PaymentGatewayRequest(tenantId, Money.of(10, Currency.BRL),
+            PaymentMethod.pix("passenger@example.com"), "Trip payment", null, Instant.now().plusMillis(100))))
+            .isInstanceOf(PaymentOutcomeUnknownException.class);
+        for (int i = 0; i < 50; i++) {
+            assertThat(adapter.processPayment(new PaymentGatewayRequest(TenantId.generate(), Money.of(10, Currency.BRL),
+                PaymentMethod.pix("passenger@example.com"), "Trip payment")).success()).isTrue();
+        }
+
+        // the other tenants' semaphores are gone, the one with a permit checked out is still enforced
+        assertThat(waitForTrackedTenants(1)).isTrue();
+        assertThatThrownBy(() -> adapter.processPayment(request(null)))
+            .isInstanceOf(PaymentServiceUnavailableException.class)
+            .hasMessageContaining("capacity");
+
+        release.countDown();
+        assertThat(waitForTrackedTenants(0)).isTrue();
+    }
+
+    @Test
+    void hedgeDelayFollowsRecentP95WithinBounds() {
+        adapter = adapter(new StubGateway(ResilientPaymentGatewayAdapterTest::approved), 10, 10,
+            Duration.ofSeconds(5), true);
+        assertThat(adapter.hedgeDelay()).isEqualTo(Duration.ofMillis(50));
+
+        ResilientPaymentGatewayAdapter.LatencyWindow window = new ResilientPaymentGatewayAdapter.LatencyWindow(100);
+        assertThat(window.percentile(0.95)).isEqualTo(-1);
+        for (int i = 1; i <= 100; i++) {
+            window.record(i);
+        }
+        assertThat(window.percentile(0.95)).isEqualTo(95);
+    }
+
+    private ResilientPaymentGatewayAdapter adapter(PaymentGatewayPort gateway, int maxConcurrent, int perTenant,
+                                                   Duration timeout, boolean hedge) {
+        return new ResilientPaymentGatewayAdapter(gateway, meterRegistry, maxConcurrent, perTenant,
+            Duration.ofMillis(50), timeout, hedge, Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    private PaymentGatewayRequest request(String idempotencyKey) {
+        return new PaymentGatewayRequest(tenantId, Money.of(10, Currency.BRL), PaymentMethod.pix("passenger@example.com"), "Trip payment",
+            idempotencyKey, null);
+    }
+
+    private boolean waitForPermit() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            try {
+                adapter.refundPayment(tenantId, "TXN-1", Money.of(10, Currency.BRL));
+                return true;
+            } catch (PaymentServiceUnavailableException e) {
+                Thread.sleep(20);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Permits return when an attempt finishes, just after its caller got the answer.
+     */
+    private boolean waitForTrackedTenants(int expected) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (adapter.trackedTenants() == expected) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    private static PaymentGatewayResponse approved() {
+        return new PaymentGatewayResponse(true, "TXN-1", null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (latch.getCount() > 0) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+                return;
+            } catch (InterruptedException e) {
+                // a real gateway call is not stopped by the interrupt either
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record StubGateway(Supplier<PaymentGatewayResponse> answer)
+            implements PaymentGatewayPort {
+
+        @Override
+        public PaymentGatewayResponse processPayment(PaymentGatewayRequest request) {
+            return answer.get();
+        }
+
+        @Override
+        public PaymentGatewayResponse refundPayment(TenantId tenantId, String transactionId, Money amount) {
+            return answer.get();
+        }
+    }
+}
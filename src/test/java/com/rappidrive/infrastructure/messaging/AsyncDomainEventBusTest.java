@@ -0,0 +1,196 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.domain.events.DomainEvent;
+import com.rappidrive.domain.events.DomainEventHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncDomainEventBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncDomainEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (bus != null) {
+            bus.close(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void deliversEventsOfOneAggregateInPublishOrder() throws Exception {
+        bus = new AsyncDomainEventBus(meterRegistry, 4, 1024);
+        Map<UUID, List<Integer>> seen = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(300);
+        bus.subscribe(handler(event -> {
+            seen.computeIfAbsent(event.aggregateId(), id -> new CopyOnWriteArrayList<>()).add(event.sequence());
+            done.countDown();
+        }));
+        List<UUID> aggregates = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        for (int i = 0; i < 100; i++) {
+            for (UUID aggregate : aggregates) {
+                bus.handle(new TestEvent(aggregate, i));
+            }
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        for (UUID aggregate : aggregates) {
+            assertThat(seen.get(aggregate)).isSorted().hasSize(100);
+        }
+    }
+
+    @Test
+    void runsSubscribersOffThePublishingThread() throws Exception {
+        bus = new AsyncDomainEventBus(meterRegistry, 2, 16);
+        CountDownLatch done = new CountDownLatch(1);
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        bus.subscribe(handler(event -> {
+            threads.add(Thread.currentThread());
+            done.countDown();
+        }));
+
+        bus.handle(new TestEvent(UUID.randomUUID(), 1));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads.get(0)).isNotSameAs(Thread.currentThread());
+        assertThat(threads.get(0).isVirtual()).isTrue();
+    }
+
+    @Test
+    void holdsEventsUntilTheTransactionCommits() throws Exception {
+        bus = new AsyncDomainEventBus(meterRegistry, 2, 16);
+        CountDownLatch done = new CountDownLatch(1);
+        bus.subscribe(handler(event -> done.countDown()));
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.handle(new TestEvent(UUID.randomUUID(), 1));
+        assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void discardsEventsOfRolledBackTransactions() throws Exception {
+        bus = new AsyncDomainEventBus(meterRegistry, 2, 16);
+        CountDownLatch done = new CountDownLatch(1);
+        bus.subscribe(handler(event -> done.countDown()));
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.handle(new TestEvent(UUID.randomUUID(), 1));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(done.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(meterRegistry.get("domain_event_bus_discarded_total").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsEventsWhenTheLaneStaysFull() throws Exception {
+        bus = new AsyncDomainEventBus(meterRegistry, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        bus.subscribe(handler(event -> {
+            started.countDown();
+            await(release);
+        }));
+        UUID aggregate = UUID.randomUUID();
+
+        bus.handle(new TestEvent(aggregate, 1));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        bus.handle(new TestEvent(aggregate, 2)); // fills the lane
+        bus.handle(new TestEvent(aggregate, 3)); // rejected without waiting
+        release.countDown();
+
+        assertThat(meterRegistry.get("domain_event_bus_rejected_total").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failingSubscriberDoesNotStopTheLane() throws Exception {
+        bus = new AsyncDomainEventBus(meterRegistry, 1, 16);
+        CountDownLatch done = new CountDownLatch(2);
+        bus.subscribe(handler(event -> {
+            throw new IllegalStateException("boom");
+        }));
+        bus.subscribe(handler(event -> done.countDown()));
+
+        bus.handle(new TestEvent(UUID.randomUUID(), 1));
+        bus.handle(new TestEvent(UUID.randomUUID(), 2));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("domain_event_bus_handler_failures_total").counter().count()).isEqualTo(2);
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static DomainEventHandler<TestEvent> handler(java.util.function.Consumer<TestEvent> action) {
+        return new DomainEventHandler<>() {
+            @Override
+            public void handle(TestEvent event) {
+                action.accept(event);
+            }
+
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof TestEvent;
+            }
+        };
+    }
+
+    private record TestEvent(UUID aggregateId, int sequence) implements DomainEvent {
+        @Override
+        public LocalDateTime occurredOn() {
+            return LocalDateTime.now();
+        }
+
+        @Override
+        public String eventId() {
+            return aggregateId + ":" + sequence;
+        }
+
+        @Override
+        public String aggregateType() {
+            return "Test";
+        }
+    }
+}
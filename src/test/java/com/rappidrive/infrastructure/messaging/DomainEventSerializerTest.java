@@ -0,0 +1,67 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rappidrive.domain.events.TenantOnboardedEvent;
+import com.rappidrive.domain.events.TripCreatedEvent;
+import com.rappidrive.domain.events.TripDriverAssignedEvent;
+import com.rappidrive.domain.valueobjects.DriverId;
+import com.rappidrive.domain.valueobjects.PassengerId;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.TripId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainEventSerializerTest {
+
+    private ObjectMapper objectMapper;
+    private DomainEventSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        serializer = new DomainEventSerializer(objectMapper);
+    }
+
+    @Test
+    void serializesSamePayloadAsPlainObjectMapper() throws Exception {
+        TripCreatedEvent event = new TripCreatedEvent(TripId.generate(), new PassengerId(UUID.randomUUID()),
+            "origin", "destination", 4.2, "15.50");
+
+        String payload = serializer.serialize(event);
+
+        assertThat(payload).isEqualTo(objectMapper.writeValueAsString(event));
+        JsonNode json = objectMapper.readTree(payload);
+        assertThat(json.has("aggregateId")).isFalse();
+        assertThat(json.has("aggregateType")).isFalse();
+    }
+
+    @Test
+    void exposesEventTypeAndAggregateMetadataWithoutReflection() {
+        TripId tripId = TripId.generate();
+        TripDriverAssignedEvent event = new TripDriverAssignedEvent(tripId, new DriverId(UUID.randomUUID()));
+
+        assertThat(serializer.eventType(event)).isEqualTo("TripDriverAssignedEvent");
+        assertThat(event.aggregateId()).isEqualTo(tripId.getValue());
+        assertThat(event.aggregateType()).isEqualTo("Trip");
+    }
+
+    @Test
+    void tenantEventsAreKeyedByTenant() {
+        TenantId tenantId = TenantId.generate();
+        TenantOnboardedEvent event = TenantOnboardedEvent.builder()
+            .tenantId(tenantId)
+            .displayName("Acme")
+            .adminEmail("admin@acme.test")
+            .serviceAreaName("Centro")
+            .build();
+
+        assertThat(serializer.eventType(event)).isEqualTo("TenantOnboardedEvent");
+        assertThat(event.aggregateId()).isEqualTo(tenantId.getValue());
+        assertThat(serializer.serialize(event)).contains(tenantId.getValue().toString());
+    }
+}
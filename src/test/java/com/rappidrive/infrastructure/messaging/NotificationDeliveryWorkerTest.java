@@ -0,0 +1,197 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.application.ports.output.NotificationDeliveryQueuePort;
+import com.rappidrive.application.ports.output.NotificationDeliveryQueuePort.ClaimedDelivery;
+import com.rappidrive.application.ports.output.NotificationServicePort;
+import com.rappidrive.application.ports.output.NotificationServicePort.BatchResult;
+import com.rappidrive.domain.entities.Notification;
+import com.rappidrive.domain.enums.NotificationType;
+import com.rappidrive.domain.valueobjects.NotificationContent;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationDeliveryWorker.
+ */
+class NotificationDeliveryWorkerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T20:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private NotificationDeliveryQueuePort queue;
+    private RecordingProvider provider;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        queue = mock(NotificationDeliveryQueuePort.class);
+        provider = new RecordingProvider();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void sendsClaimedNotificationsInProviderSizedBatchesAndCompletesThemInBulk() {
+        List<ClaimedDelivery> claimed = claims(5, 1);
+        when(queue.claimDue(any(), any(), anyInt())).thenReturn(claimed);
+
+        worker(3).deliverDueNotifications();
+
+        assertThat(provider.batches).extracting(List::size).containsExactlyInAnyOrder(3, 2);
+        verify(queue).complete(argThat(ids(claimed)), argThat(Collection::isEmpty), eq(NOW));
+        verify(queue).reschedule(Map.of());
+        assertThat(meterRegistry.get("notification_deliveries_total").tag("outcome", "sent").counter().count())
+            .isEqualTo(5);
+    }
+
+    @Test
+    void failsRejectedAndRetriesUnansweredWithJitteredBackoff() {
+        List<ClaimedDelivery> claimed = claims(3, 2);
+        UUID rejected = claimed.get(1).notification().getId();
+        UUID unanswered = claimed.get(2).notification().getId();
+        provider.rejected = Set.of(rejected);
+        provider.unanswered = Set.of(unanswered);
+        when(queue.claimDue(any(), any(), anyInt())).thenReturn(claimed);
+
+        worker(10).deliverDueNotifications();
+
+        verify(queue).complete(List.of(claimed.get(0).notification().getId()), List.of(rejected), NOW);
+        // attempt 2: base 1s * 2 = 2s, half of it fixed and half jittered
+        verify(queue).reschedule(argThat(retries -> retries.size() == 1
+            && !retries.get(unanswered).isBefore(NOW.plusSeconds(1))
+            && !retries.get(unanswered).isAfter(NOW.plusSeconds(2))));
+    }
+
+    @Test
+    void providerOutageFailsNotificationsOnFinalAttempt() {
+        List<ClaimedDelivery> claimed = List.of(claim(1), claim(4));
+        provider.failure = new IllegalStateException("provider down");
+        when(queue.claimDue(any(), any(), anyInt())).thenReturn(claimed);
+
+        worker(10).deliverDueNotifications();
+
+        verify(queue).complete(List.of(), List.of(claimed.get(1).notification().getId()), NOW);
+        verify(queue).reschedule(argThat(retries -> retries.keySet()
+            .equals(Set.of(claimed.get(0).notification().getId()))));
+    }
+
+    @Test
+    void unavailableProviderDefersNotificationsWithoutSpendingAnAttempt() {
+        List<ClaimedDelivery> claimed = List.of(claim(1), claim(4));
+        provider.available = false;
+        when(queue.claimDue(any(), any(), anyInt())).thenReturn(claimed);
+
+        worker(10).deliverDueNotifications();
+
+        assertThat(provider.batches).isEmpty();
+        verify(queue).complete(List.of(), List.of(), NOW);
+        verify(queue).reschedule(Map.of());
+        verify(queue).defer(argThat(deferrals -> deferrals.keySet().equals(Set.copyOf(
+            claimed.stream().map(c -> c.notification().getId()).toList()))));
+        assertThat(meterRegistry.get("notification_deliveries_total").tag("outcome", "deferred").counter().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void jitterKeepsBackoffBetweenHalfAndFullDelay() {
+        NotificationDeliveryWorker worker = worker(10);
+
+        for (int attempt = 1; attempt <= 12; attempt++) {
+            Duration full = Duration.ofSeconds(1).multipliedBy(1L << (attempt - 1));
+            Duration capped = full.compareTo(Duration.ofSeconds(30)) > 0 ? Duration.ofSeconds(30) : full;
+            assertThat(worker.backoff(attempt)).isBetween(capped.dividedBy(2), capped);
+        }
+    }
+
+    private NotificationDeliveryWorker worker(int providerBatchSize) {
+        provider.maxBatchSize = providerBatchSize;
+        return new NotificationDeliveryWorker(List.of(provider), queue, meterRegistry, 100, 4,
+            Duration.ofSeconds(60), Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofSeconds(1), CLOCK,
+            new Random(42));
+    }
+
+    private static ArgumentMatcher<Collection<UUID>> ids(List<ClaimedDelivery> claimed) {
+        Set<UUID> expected = Set.copyOf(claimed.stream().map(c -> c.notification().getId()).toList());
+        return actual -> actual.size() == expected.size() && expected.containsAll(actual);
+    }
+
+    private static List<ClaimedDelivery> claims(int count, int attempt) {
+        return IntStream.range(0, count).mapToObj(i -> claim(attempt)).toList();
+    }
+
+    private static ClaimedDelivery claim(int attempt) {
+        Notification notification = Notification.create(UserId.generate(), NotificationType.TRIP_ACCEPTED,
+            NotificationContent.of("Trip accepted", "Your driver is on the way", Map.of()), TenantId.generate(), null);
+        return new ClaimedDelivery(notification, attempt);
+    }
+
+    private static final class RecordingProvider implements NotificationServicePort {
+        final List<List<Notification>> batches = new CopyOnWriteArrayList<>();
+        int maxBatchSize;
+        Set<UUID> rejected = Set.of();
+        Set<UUID> unanswered = Set.of();
+        RuntimeException failure;
+        boolean available = true;
+
+        @Override
+        public boolean sendPushNotification(Notification notification) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return available;
+        }
+
+        @Override
+        public int maxBatchSize() {
+            return maxBatchSize;
+        }
+
+        @Override
+        public int maxBatchesPerSecond() {
+            return 100;
+        }
+
+        @Override
+        public BatchResult sendBatch(List<Notification> notifications) {
+            if (failure != null) {
+                throw failure;
+            }
+            batches.add(notifications);
+            List<UUID> delivered = new ArrayList<>();
+            List<UUID> declined = new ArrayList<>();
+            for (Notification notification : notifications) {
+                if (rejected.contains(notification.getId())) {
+                    declined.add(notification.getId());
+                } else if (!unanswered.contains(notification.getId())) {
+                    delivered.add(notification.getId());
+                }
+            }
+            return new BatchResult(Set.copyOf(delivered), Set.copyOf(declined));
+        }
+    }
+}
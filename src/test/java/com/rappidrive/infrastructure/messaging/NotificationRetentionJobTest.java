@@ -0,0 +1,130 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.application.ports.output.NotificationUnreadCounterPort;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.domain.valueobjects.UserId;
+import com.rappidrive.infrastructure.messaging.NotificationRetentionJob.RetentionPolicy;
+import com.rappidrive.infrastructure.messaging.NotificationRetentionJob.RunResult;
+import com.rappidrive.infrastructure.messaging.NotificationRetentionJob.WindowRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationRetentionJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+    private static final TenantId TENANT = TenantId.generate();
+    private static final UserId USER = UserId.generate();
+
+    private JdbcTemplate jdbcTemplate;
+    private NotificationUnreadCounterPort unreadCounters;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        unreadCounters = mock(NotificationUnreadCounterPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new NotificationRetentionJob(jdbcTemplate, mock(PlatformTransactionManager.class), unreadCounters,
+            meterRegistry, new RetentionPolicy(Duration.ofDays(30), Duration.ofDays(90), Duration.ofDays(7),
+                Duration.ofDays(30), 2, Duration.ZERO, Duration.ofMinutes(1)), CLOCK);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void walksLiveRowsInKeysetWindowsAndLowersUnreadCounters() {
+        Timestamp old = Timestamp.valueOf(LocalDateTime.of(2026, 1, 5, 8, 0));
+        UUID first = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        UUID third = new UUID(0L, 3L);
+        List<Object[]> windowArgs = new ArrayList<>();
+        when(jdbcTemplate.query(startsWith("SELECT id, created_at"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(invocation -> {
+                windowArgs.add((Object[]) invocation.getRawArguments()[2]);
+                return switch (windowArgs.size()) {
+                    case 1 -> List.of(new WindowRow(first, old), new WindowRow(second, old));
+                    case 2 -> List.of(new WindowRow(third, old));
+                    default -> List.of();
+                };
+            });
+        givenSoftDeletedRows("PENDING", "SENT", "READ");
+        when(jdbcTemplate.update(startsWith("DELETE FROM notifications"), any(Object[].class))).thenReturn(1);
+
+        RunResult result = job.purge();
+
+        assertThat(windowArgs).hasSize(2);
+        assertThat(windowArgs.get(1)[1]).isEqualTo(old);
+        assertThat(windowArgs.get(1)[2]).isEqualTo(second);
+        assertThat(result.softDeleted()).isEqualTo(6);
+        assertThat(result.hardDeleted()).isEqualTo(1);
+        verify(unreadCounters, times(2)).adjust(USER, TENANT, -2);
+        assertThat(meterRegistry.get("notification_retention_rows_total").tag("phase", "soft_delete")
+            .counter().count()).isEqualTo(6);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsHardDeletingFullChunksUntilTheBacklogIsGone() {
+        when(jdbcTemplate.query(startsWith("SELECT id, created_at"), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of());
+        when(jdbcTemplate.update(startsWith("DELETE FROM notifications"), any(Object[].class)))
+            .thenReturn(2, 2, 0);
+
+        RunResult result = job.purge();
+
+        assertThat(result.hardDeleted()).isEqualTo(4);
+        verify(unreadCounters, never()).adjust(any(), any(), anyLong());
+        verify(jdbcTemplate, times(3))
+            .update(eq("DELETE FROM notifications WHERE id IN (SELECT id FROM notifications WHERE deleted_at < ? "
+                + "ORDER BY deleted_at LIMIT ? FOR UPDATE SKIP LOCKED)"), any(Object[].class));
+    }
+
+    private void givenSoftDeletedRows(String... statuses) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (String status : statuses) {
+                handler.processRow(row(status));
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("UPDATE notifications SET deleted_at"),
+            any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet row(String status) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject(1, UUID.class)).thenReturn(TENANT.getValue());
+        when(rs.getObject(2, UUID.class)).thenReturn(USER.getValue());
+        when(rs.getString(3)).thenReturn(status);
+        return rs;
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
@@ -117,7 +118,7 @@ class OutboxEventProcessorIntegrationTest {
         springDataRepository.save(event);
 
         // When - Query with pessimistic lock (SELECT ... FOR UPDATE SKIP LOCKED)
-        List<OutboxEventJpaEntity> locked = springDataRepository.findPendingForUpdate(10);
+        List<OutboxEventJpaEntity> locked = springDataRepository.findPendingForUpdate(LocalDateTime.now().minusDays(1), 10);
 
         // Then
         assertThat(locked).hasSize(1);
@@ -144,7 +145,7 @@ class OutboxEventProcessorIntegrationTest {
         springDataRepository.save(event2);
 
         // When - First query locks event1
-        List<OutboxEventJpaEntity> firstBatch = springDataRepository.findPendingForUpdate(1);
+        List<OutboxEventJpaEntity> firstBatch = springDataRepository.findPendingForUpdate(LocalDateTime.now().minusDays(1), 1);
 
         // Then - Should get only the first event
         assertThat(firstBatch).hasSize(1);
@@ -154,7 +155,8 @@ class OutboxEventProcessorIntegrationTest {
     void shouldMarkEventAsSentSuccessfully() {
         // Given
         UUID eventId = UUID.randomUUID();
-        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault());
+        // the column keeps microseconds; status updates match on created_at
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault()).truncatedTo(ChronoUnit.MICROS);
 
         OutboxEvent event = new OutboxEvent(
                 eventId,
@@ -172,7 +174,7 @@ class OutboxEventProcessorIntegrationTest {
         entityManager.flush();
 
         // When
-        outboxRepository.markSent(eventId);
+        outboxRepository.markSent(eventId, createdAt);
         entityManager.flush();
 
         // Then
@@ -186,7 +188,7 @@ class OutboxEventProcessorIntegrationTest {
     void shouldIncrementAttemptsAndUpdateNextAttemptTime() {
         // Given
         UUID eventId = UUID.randomUUID();
-        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault());
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault()).truncatedTo(ChronoUnit.MICROS);
 
         OutboxEvent event = new OutboxEvent(
                 eventId,
@@ -205,7 +207,7 @@ class OutboxEventProcessorIntegrationTest {
 
         // When
         LocalDateTime nextAttempt = LocalDateTime.now(ZoneId.systemDefault()).plusSeconds(10);
-        outboxRepository.incrementAttempts(eventId, nextAttempt);
+        outboxRepository.incrementAttempts(eventId, createdAt, nextAttempt);
         entityManager.flush();
 
         // Then
@@ -219,7 +221,7 @@ class OutboxEventProcessorIntegrationTest {
     void shouldMarkEventAsFailedAfterMaxRetries() {
         // Given
         UUID eventId = UUID.randomUUID();
-        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault());
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault()).truncatedTo(ChronoUnit.MICROS);
 
         OutboxEvent event = new OutboxEvent(
                 eventId,
@@ -237,7 +239,7 @@ class OutboxEventProcessorIntegrationTest {
         entityManager.flush();
 
         // When
-        outboxRepository.markFailed(eventId);
+        outboxRepository.markFailed(eventId, createdAt);
         entityManager.flush();
 
         // Then
@@ -250,7 +252,7 @@ class OutboxEventProcessorIntegrationTest {
     void shouldIdempotentlyMarkEventAsSent() {
         // Given
         UUID eventId = UUID.randomUUID();
-        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault());
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault()).truncatedTo(ChronoUnit.MICROS);
 
         OutboxEvent event = new OutboxEvent(
                 eventId,
@@ -268,7 +270,7 @@ class OutboxEventProcessorIntegrationTest {
         entityManager.flush();
 
         // When - Mark as sent
-        outboxRepository.markSent(eventId);
+        outboxRepository.markSent(eventId, createdAt);
         entityManager.flush();
 
         OutboxEventJpaEntity firstSent = springDataRepository.findById(eventId).orElse(null);
@@ -278,7 +280,7 @@ class OutboxEventProcessorIntegrationTest {
         LocalDateTime firstSentAt = firstSent.getSentAt();
 
         // When - Mark again (should be idempotent)
-        outboxRepository.markSent(eventId);
+        outboxRepository.markSent(eventId, createdAt);
         entityManager.flush();
 
         // Then - Should be idempotent (sentAt doesn't change, status remains SENT)
@@ -292,7 +294,7 @@ class OutboxEventProcessorIntegrationTest {
     void shouldHandleEventsWithRetryDelay() {
         // Given
         UUID eventId = UUID.randomUUID();
-        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault());
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.systemDefault()).truncatedTo(ChronoUnit.MICROS);
         LocalDateTime nextAttempt = createdAt.plusSeconds(100); // Far in future
 
         OutboxEventJpaEntity event = new OutboxEventJpaEntity(
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,34 +27,42 @@ class OutboxEventProcessorTest {
         outboxRepository = mock(JpaOutboxRepository.class);
         eventDispatcher = mock(EventDispatcherPort.class);
         meterRegistry = new SimpleMeterRegistry();
-        processor = new OutboxEventProcessor(outboxRepository, eventDispatcher, meterRegistry, null);
+        processor = new OutboxEventProcessor(outboxRepository, eventDispatcher,
+            new OutboxMetrics(meterRegistry, List.of("TRIP_CREATED")), null);
     }
 
     @Test
     void shouldProcessPendingEventsSuccessfully() throws Exception {
         OutboxEvent event = new OutboxEvent(
-            UUID.randomUUID(), UUID.randomUUID(), "TRIP_CREATED", "{}", "PENDING", 0, null, LocalDateTime.now(), null, null
+            UUID.randomUUID(), UUID.randomUUID(), "TRIP_CREATED", "{}", "PENDING", 0, null, LocalDateTime.now(ZoneOffset.UTC), null, null
         );
         when(outboxRepository.findPendingBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(event));
 
         processor.processPendingEvents();
 
-        verify(eventDispatcher, times(1)).dispatch(event.getId(), event.getEventType(), event.getPayload());
-        verify(outboxRepository, times(1)).markSent(event.getId());
+        verify(eventDispatcher, times(1)).dispatch(event.getId(), event.getAggregateId(), event.getEventType(), event.getPayload());
+        verify(outboxRepository, times(1)).markSent(event.getId(), event.getCreatedAt());
         assertThat(MDC.get("correlationId")).isNull();
+        assertThat(meterRegistry.get("outbox_events_claimed_total").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_events_dispatched_total").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_dispatch_total").tags("eventType", "TRIP_CREATED", "status", "success")
+            .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_delivery_latency").timer().count()).isEqualTo(1);
     }
 
     @Test
     void shouldMarkEventAsFailedAfterMaxRetries() throws Exception {
         OutboxEvent event = new OutboxEvent(
-            UUID.randomUUID(), UUID.randomUUID(), "TRIP_CREATED", "{}", "PENDING", 4, null, LocalDateTime.now(), null, null
+            UUID.randomUUID(), UUID.randomUUID(), "TRIP_CREATED", "{}", "PENDING", 4, null, LocalDateTime.now(ZoneOffset.UTC), null, null
         );
         when(outboxRepository.findPendingBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(event));
-        doThrow(new RuntimeException("Dispatch error")).when(eventDispatcher).dispatch(event.getId(), event.getEventType(), event.getPayload());
+        doThrow(new RuntimeException("Dispatch error")).when(eventDispatcher).dispatch(event.getId(), event.getAggregateId(), event.getEventType(), event.getPayload());
 
         processor.processPendingEvents();
 
-        verify(outboxRepository, times(1)).markFailed(event.getId());
+        verify(outboxRepository, times(1)).markFailed(event.getId(), event.getCreatedAt());
         assertThat(MDC.get("correlationId")).isNull();
+        assertThat(meterRegistry.get("outbox_events_failed_total").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_events_dispatched_total").counter().count()).isZero();
     }
 }
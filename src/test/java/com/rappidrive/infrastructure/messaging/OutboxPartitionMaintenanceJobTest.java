@@ -0,0 +1,160 @@
+package com.rappidrive.infrastructure.messaging;
+
+import com.rappidrive.infrastructure.messaging.OutboxPartitionMaintenanceJob.Granularity;
+import com.rappidrive.infrastructure.messaging.OutboxPartitionMaintenanceJob.OutboxPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxPartitionMaintenanceJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+
+    private JdbcTemplate jdbcTemplate;
+    private OutboxPartitionMaintenanceJob job;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        job = new OutboxPartitionMaintenanceJob(jdbcTemplate, mock(PlatformTransactionManager.class),
+            Granularity.DAILY, 48, 168, 720, 72, CLOCK);
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class))).thenReturn(true);
+    }
+
+    @Test
+    void parsesPartitionBoundsFromCatalog() {
+        OutboxPartition daily = OutboxPartition.fromBound("outbox_event_p20261018",
+            "FOR VALUES FROM ('2026-10-18 00:00:00') TO ('2026-10-19 00:00:00')");
+        OutboxPartition legacy = OutboxPartition.fromBound("outbox_event_legacy",
+            "FOR VALUES FROM (MINVALUE) TO ('2026-10-01 00:00:00')");
+        OutboxPartition fallback = OutboxPartition.fromBound("outbox_event_default", "DEFAULT");
+
+        assertThat(daily.from()).isEqualTo(LocalDateTime.of(2026, 10, 18, 0, 0));
+        assertThat(daily.to()).isEqualTo(LocalDateTime.of(2026, 10, 19, 0, 0));
+        assertThat(legacy.from()).isNull();
+        assertThat(legacy.to()).isEqualTo(LocalDateTime.of(2026, 10, 1, 0, 0));
+        assertThat(fallback.isDefault()).isTrue();
+    }
+
+    @Test
+    void preCreatesPartitionsUpToTheHorizon() {
+        givenPartitions(
+            partition("outbox_event_p20261018", day(18), day(19)),
+            new OutboxPartition("outbox_event_default", null, null));
+        when(jdbcTemplate.queryForObject(contains("FROM outbox_event_default"), eq(Boolean.class), any(), any()))
+            .thenReturn(false);
+
+        job.maintainPartitions();
+
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS \"outbox_event_p20261019\" PARTITION OF outbox_event "
+            + "FOR VALUES FROM ('2026-10-19 00:00:00') TO ('2026-10-20 00:00:00')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS \"outbox_event_p20261020\" PARTITION OF outbox_event "
+            + "FOR VALUES FROM ('2026-10-20 00:00:00') TO ('2026-10-21 00:00:00')");
+        verify(jdbcTemplate, never()).execute(contains("outbox_event_p20261021"));
+    }
+
+    @Test
+    void movesRowsOutOfDefaultPartitionBeforeAttaching() {
+        job = new OutboxPartitionMaintenanceJob(jdbcTemplate, mock(PlatformTransactionManager.class),
+            Granularity.HOURLY, 1, 168, 720, 72, CLOCK);
+        givenPartitions(
+            partition("outbox_event_p20261018", day(17), LocalDateTime.of(2026, 10, 18, 10, 0)),
+            new OutboxPartition("outbox_event_default", null, null));
+        when(jdbcTemplate.queryForObject(contains("FROM outbox_event_default"), eq(Boolean.class), any(), any()))
+            .thenReturn(true);
+
+        job.maintainPartitions();
+
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE \"outbox_event_p20261018_10\" (LIKE outbox_event"));
+        verify(jdbcTemplate).update(contains("DELETE FROM outbox_event_default"),
+            eq(LocalDateTime.of(2026, 10, 18, 10, 0)), eq(LocalDateTime.of(2026, 10, 18, 11, 0)));
+        verify(jdbcTemplate).execute("ALTER TABLE outbox_event ATTACH PARTITION \"outbox_event_p20261018_10\" "
+            + "FOR VALUES FROM ('2026-10-18 10:00:00') TO ('2026-10-18 11:00:00')");
+    }
+
+    @Test
+    void dropsOnlyExpiredPartitionsWithoutPendingEvents() {
+        givenPartitions(
+            new OutboxPartition("outbox_event_legacy", null, day(1)),
+            partition("outbox_event_p20261002", day(2), day(3)),
+            partition("outbox_event_p20261012", day(12), day(13)),
+            partition("outbox_event_p20261020", day(20), day(21)));
+        when(jdbcTemplate.queryForObject(contains("FROM \"outbox_event_legacy\""), eq(Boolean.class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject(contains("FROM \"outbox_event_p20261002\""), eq(Boolean.class))).thenReturn(true);
+
+        job.maintainPartitions();
+
+        verify(jdbcTemplate).execute("DROP TABLE \"outbox_event_legacy\"");
+        verify(jdbcTemplate, never()).execute("DROP TABLE \"outbox_event_p20261002\"");
+        verify(jdbcTemplate, never()).execute("DROP TABLE \"outbox_event_p20261012\"");
+        verify(jdbcTemplate, never()).execute("DROP TABLE \"outbox_event_p20261020\"");
+    }
+
+    @Test
+    void keepsPartitionsWithFailedEventsUntilTheFailedRetentionHasPassed() {
+        givenPartitions(
+            new OutboxPartition("outbox_event_legacy", null, LocalDateTime.of(2026, 9, 1, 0, 0)),
+            partition("outbox_event_p20261002", day(2), day(3)));
+        when(jdbcTemplate.queryForObject(contains("WHERE status = 'PENDING'"), eq(Boolean.class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject(contains("WHERE status = 'FAILED'"), eq(Long.class))).thenReturn(3L);
+
+        job.maintainPartitions();
+
+        verify(jdbcTemplate).execute("DROP TABLE \"outbox_event_legacy\"");
+        verify(jdbcTemplate, never()).execute("DROP TABLE \"outbox_event_p20261002\"");
+    }
+
+    @Test
+    void neverDropsAPartitionHoldingPendingEventsHoweverOld() {
+        OutboxPartition ancient = new OutboxPartition("outbox_event_legacy", null, LocalDateTime.of(2025, 1, 1, 0, 0));
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+
+        assertThat(job.mayDrop(ancient, true, 0, now)).isFalse();
+        assertThat(job.mayDrop(ancient, true, 5, now)).isFalse();
+        assertThat(job.mayDrop(ancient, false, 5, now)).isTrue();
+        assertThat(job.mayDrop(ancient, false, 0, now)).isTrue();
+    }
+
+    @Test
+    void skipsWhenAnotherInstanceHoldsTheLock() {
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class))).thenReturn(false);
+
+        job.maintainPartitions();
+
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPartitions(OutboxPartition... partitions) {
+        when(jdbcTemplate.query(contains("pg_inherits"), any(RowMapper.class))).thenReturn(List.of(partitions));
+    }
+
+    private static OutboxPartition partition(String name, LocalDateTime from, LocalDateTime to) {
+        return new OutboxPartition(name, from, to);
+    }
+
+    private static LocalDateTime day(int dayOfMonth) {
+        return LocalDateTime.of(2026, 10, dayOfMonth, 0, 0);
+    }
+}
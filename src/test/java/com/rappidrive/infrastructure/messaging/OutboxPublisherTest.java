@@ -3,6 +3,7 @@ package com.rappidrive.infrastructure.messaging;
 import com.rappidrive.application.ports.output.EventDispatcherPort;
 import com.rappidrive.application.ports.output.OutboxRepositoryPort;
 import com.rappidrive.domain.outbox.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -19,12 +20,14 @@ class OutboxPublisherTest {
     private OutboxRepositoryPort repo;
     private EventDispatcherPort dispatcher;
     private OutboxPublisher publisher;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         repo = mock(OutboxRepositoryPort.class);
         dispatcher = mock(EventDispatcherPort.class);
-        publisher = new OutboxPublisher(repo, dispatcher);
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new OutboxPublisher(repo, dispatcher, new OutboxMetrics(meterRegistry, List.of("T")));
     }
 
     @Test
@@ -34,21 +37,29 @@ class OutboxPublisherTest {
 
         publisher.publishPending();
 
-        verify(dispatcher).dispatch(e.getId(), e.getEventType(), e.getPayload());
-        verify(repo).markSent(e.getId());
+        verify(dispatcher).dispatch(e.getId(), e.getAggregateId(), e.getEventType(), e.getPayload());
+        verify(repo).markSent(e.getId(), e.getCreatedAt());
+        assertThat(meterRegistry.get("outbox_events_claimed_total").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_events_dispatched_total").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_dispatch_total").tags("eventType", "T", "status", "success")
+            .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_delivery_latency").timer().count()).isEqualTo(1);
     }
 
     @Test
     void publishPending_failure_incrementsAttempts() throws Exception {
         OutboxEvent e = new OutboxEvent(UUID.randomUUID(), UUID.randomUUID(), "T", "{}", "PENDING", 0, null, LocalDateTime.now(), null, null);
         when(repo.findPendingBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(e));
-        doThrow(new RuntimeException("fail")).when(dispatcher).dispatch(any(), any(), any());
+        doThrow(new RuntimeException("fail")).when(dispatcher).dispatch(any(), any(), any(), any());
 
         publisher.publishPending();
 
         ArgumentCaptor<java.time.LocalDateTime> cap = ArgumentCaptor.forClass(java.time.LocalDateTime.class);
-        verify(repo).incrementAttempts(eq(e.getId()), cap.capture());
+        verify(repo).incrementAttempts(eq(e.getId()), eq(e.getCreatedAt()), cap.capture());
         assertThat(cap.getValue()).isAfter(LocalDateTime.now().minusSeconds(1));
+        assertThat(meterRegistry.get("outbox_dispatch_total").tags("eventType", "T", "status", "error")
+            .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_events_retried_total").counter().count()).isEqualTo(1);
     }
 
     @Test
@@ -56,10 +67,12 @@ class OutboxPublisherTest {
         // simulate event with attempts = max-1 (OutboxPublisher maxAttempts=5)
         OutboxEvent e = new OutboxEvent(UUID.randomUUID(), UUID.randomUUID(), "T", "{}", "PENDING", 4, null, LocalDateTime.now(), null, null);
         when(repo.findPendingBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(e));
-        doThrow(new RuntimeException("fail")).when(dispatcher).dispatch(any(), any(), any());
+        doThrow(new RuntimeException("fail")).when(dispatcher).dispatch(any(), any(), any(), any());
 
         publisher.publishPending();
 
-        verify(repo).markFailed(e.getId());
+        verify(repo).markFailed(e.getId(), e.getCreatedAt());
+        assertThat(meterRegistry.get("outbox_events_failed_total").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox_events_dispatched_total").counter().count()).isZero();
     }
 }
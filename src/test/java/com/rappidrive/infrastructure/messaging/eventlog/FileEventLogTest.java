@@ -0,0 +1,257 @@
+package com.rappidrive.infrastructure.messaging.eventlog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileEventLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendsAndReadsBackInOffsetOrder() throws Exception {
+        try (FileEventLog eventLog = new FileEventLog(directory, 1024 * 1024, 64)) {
+            UUID aggregate = UUID.randomUUID();
+            for (int i = 0; i < 100; i++) {
+                long offset = eventLog.append(UUID.randomUUID(), aggregate, "TripCreatedEvent", "{\"n\":" + i + "}");
+                assertThat(offset).isEqualTo(i);
+            }
+
+            List<EventLogRecord> records = eventLog.read(42, 10);
+
+            assertThat(records).hasSize(10);
+            assertThat(records.get(0).offset()).isEqualTo(42);
+            assertThat(records.get(0).payload()).isEqualTo("{\"n\":42}");
+            assertThat(records.get(0).aggregateId()).isEqualTo(aggregate);
+            assertThat(records.get(9).offset()).isEqualTo(51);
+        }
+    }
+
+    @Test
+    void rollsSegmentsAndReadsAcrossThem() throws Exception {
+        try (FileEventLog eventLog = new FileEventLog(directory, 512, 128)) {
+            for (int i = 0; i < 50; i++) {
+                eventLog.append(UUID.randomUUID(), null, "T", "payload-" + i);
+            }
+
+            assertThat(eventLog.segmentCount()).isGreaterThan(1);
+            List<EventLogRecord> all = eventLog.read(0, 1000);
+            assertThat(all).extracting(EventLogRecord::offset)
+                .containsExactlyElementsOf(offsets(0, 50));
+        }
+    }
+
+    @Test
+    void recoversAfterReopenAndTruncatesTornTail() throws Exception {
+        try (FileEventLog eventLog = new FileEventLog(directory, 1024 * 1024, 64)) {
+            for (int i = 0; i < 10; i++) {
+                eventLog.append(UUID.randomUUID(), null, "T", "payload-" + i);
+            }
+        }
+        // simulate a crash in the middle of writing a record
+        try (FileChannel channel = FileChannel.open(directory.resolve(LogSegment.fileName(0, LogSegment.LOG_SUFFIX)),
+                StandardOpenOption.WRITE)) {
+            channel.write(java.nio.ByteBuffer.wrap(new byte[] {0, 0, 1, 0, 7, 7}), channel.size());
+        }
+
+        try (FileEventLog reopened = new FileEventLog(directory, 1024 * 1024, 64)) {
+            assertThat(reopened.endOffset()).isEqualTo(10);
+            assertThat(reopened.read(0, 100)).hasSize(10);
+
+            assertThat(reopened.append(UUID.randomUUID(), null, "T", "after-crash")).isEqualTo(10);
+            assertThat(reopened.read(10, 1).get(0).payload()).isEqualTo("after-crash");
+        }
+    }
+
+    @Test
+    void consumersTrackAndPersistTheirOwnOffsets() throws Exception {
+        try (FileEventLog eventLog = new FileEventLog(directory, 1024 * 1024, 64)) {
+            for (int i = 0; i < 20; i++) {
+                eventLog.append(UUID.randomUUID(), null, "T", "payload-" + i);
+            }
+            EventLogConsumer notifications = eventLog.consumer("notifications");
+            EventLogConsumer analytics = eventLog.consumer("analytics");
+
+            assertThat(notifications.poll(5)).hasSize(5);
+            notifications.commit();
+            assertThat(analytics.poll(15)).hasSize(15);
+
+            assertThat(notifications.lag()).isEqualTo(15);
+            assertThat(analytics.lag()).isEqualTo(5);
+        }
+
+        try (FileEventLog reopened = new FileEventLog(directory, 1024 * 1024, 64)) {
+            EventLogConsumer notifications = reopened.consumer("notifications");
+            EventLogConsumer analytics = reopened.consumer("analytics");
+
+            assertThat(notifications.position()).isEqualTo(5);
+            assertThat(analytics.position()).isZero(); // never committed
+        }
+    }
+
+    @Test
+    void compactionKeepsLatestRecordPerAggregate() throws Exception {
+        try (FileEventLog eventLog = new FileEventLog(directory, 256, 64)) {
+            UUID tripA = UUID.randomUUID();
+            UUID tripB = UUID.randomUUID();
+            for (int i = 0; i < 20; i++) {
+                eventLog.append(UUID.randomUUID(), i % 2 == 0 ? tripA : tripB, "TripEvent", "v" + i);
+            }
+            eventLog.append(UUID.randomUUID(), null, "Unkeyed", "kept");
+            long end = eventLog.endOffset();
+
+            long removed = eventLog.compact();
+
+            List<EventLogRecord> remaining = eventLog.read(0, 1000);
+            assertThat(removed).isEqualTo(18);
+            assertThat(remaining).extracting(EventLogRecord::payload).containsExactly("v18", "v19", "kept");
+            assertThat(eventLog.endOffset()).isEqualTo(end);
+            assertThat(eventLog.append(UUID.randomUUID(), tripA, "TripEvent", "next")).isEqualTo(end);
+        }
+
+        try (FileEventLog reopened = new FileEventLog(directory, 256, 64)) {
+            assertThat(reopened.read(0, 1000)).extracting(EventLogRecord::payload)
+                .containsExactly("v18", "v19", "kept", "next");
+        }
+    }
+
+    @Test
+    void readersKeepWorkingWhileCompactionSwapsSegments() throws Exception {
+        try (FileEventLog eventLog = new FileEventLog(directory, 256, 64)) {
+            UUID trip = UUID.randomUUID();
+            eventLog.append(UUID.randomUUID(), trip, "TripEvent", "initial");
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            AtomicBoolean done = new AtomicBoolean();
+            try {
+                List<Future<Integer>> readers = new ArrayList<>();
+                for (int r = 0; r < 4; r++) {
+                    readers.add(executor.submit(() -> {
+                        int reads = 0;
+                        while (!done.get()) {
+                            assertThat(eventLog.read(0, 1000)).isNotEmpty();
+                            reads++;
+                        }
+                        return reads;
+                    }));
+                }
+                for (int round = 0; round < 50; round++) {
+                    for (int i = 0; i < 10; i++) {
+                        eventLog.append(UUID.randomUUID(), trip, "TripEvent", "r" + round + "-" + i);
+                    }
+                    eventLog.compact();
+                }
+                done.set(true);
+                for (Future<Integer> reader : readers) {
+                    assertThat(reader.get()).isPositive();
+                }
+            } finally {
+                done.set(true);
+                executor.shutdownNow();
+            }
+            assertThat(eventLog.read(0, 1000)).extracting(EventLogRecord::payload).containsExactly("r49-9");
+        }
+    }
+
+    @Test
+    void retentionDropsOnlyExpiredSealedSegments() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        try (FileEventLog eventLog = new FileEventLog(directory, 256, 64, clock)) {
+            for (int i = 0; i < 10; i++) {
+                eventLog.append(UUID.randomUUID(), null, "T", "old-" + i);
+            }
+            clock.advance(Duration.ofDays(8));
+            for (int i = 0; i < 10; i++) {
+                eventLog.append(UUID.randomUUID(), null, "T", "new-" + i);
+            }
+
+            int removed = eventLog.applyRetention(Duration.ofDays(7));
+
+            // four records per segment: [0-3] and [4-7] expire, [8-11] still holds new records
+            assertThat(removed).isEqualTo(2);
+            assertThat(eventLog.startOffset()).isEqualTo(8);
+            assertThat(eventLog.read(0, 100)).extracting(EventLogRecord::payload)
+                .doesNotContain("old-0", "old-7")
+                .contains("old-8", "new-0", "new-9");
+            EventLogConsumer consumer = eventLog.consumer("late");
+            consumer.seek(0);
+            assertThat(consumer.poll(1).get(0).offset()).isEqualTo(eventLog.startOffset());
+        }
+    }
+
+    @Test
+    void concurrentAppendersShareGroupCommits() throws Exception {
+        try (FileEventLog eventLog = new FileEventLog(directory, 1024 * 1024, 4096)) {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Long>> futures = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    futures.add(executor.submit(() -> {
+                        long offset = eventLog.append(UUID.randomUUID(), null, "T", "{}");
+                        eventLog.awaitDurable(offset);
+                        return offset;
+                    }));
+                }
+                List<Long> offsets = new ArrayList<>();
+                for (Future<Long> future : futures) {
+                    offsets.add(future.get());
+                }
+                assertThat(offsets).doesNotHaveDuplicates().hasSize(200);
+                assertThat(eventLog.read(0, 1000)).hasSize(200);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static List<Long> offsets(long from, long to) {
+        List<Long> offsets = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            offsets.add(i);
+        }
+        return offsets;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.rappidrive.infrastructure.monitoring;
+
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataOutboxRepository;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataOutboxRepository.PendingSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxBacklogMonitorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T12:00:00Z"), ZoneOffset.UTC);
+
+    private SpringDataOutboxRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxBacklogMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SpringDataOutboxRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new OutboxBacklogMonitor(repository, meterRegistry, CLOCK);
+    }
+
+    @Test
+    void gaugesReflectTheLastRefresh() {
+        when(repository.summarizePending()).thenReturn(List.of(
+            summary("TripCreatedEvent", 7, 2, LocalDateTime.of(2026, 10, 18, 11, 58)),
+            summary("TripCompletedEvent", 3, 0, LocalDateTime.of(2026, 10, 18, 11, 59, 30))));
+
+        monitor.refresh();
+
+        assertThat(meterRegistry.get("outbox_backlog_pending").gauge().value()).isEqualTo(10);
+        assertThat(meterRegistry.get("outbox_backlog_retrying").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox_backlog_oldest_pending_age_seconds").gauge().value()).isEqualTo(120);
+        assertThat(meterRegistry.get("outbox_backlog_pending_by_type").tag("eventType", "TripCreatedEvent")
+            .gauge().value()).isEqualTo(7);
+    }
+
+    @Test
+    void drainedTypesDisappearFromTheBreakdown() {
+        when(repository.summarizePending())
+            .thenReturn(List.of(summary("TripCreatedEvent", 1, 0, LocalDateTime.of(2026, 10, 18, 11, 59))))
+            .thenReturn(List.of());
+
+        monitor.refresh();
+        monitor.refresh();
+
+        assertThat(meterRegistry.find("outbox_backlog_pending_by_type").gauges()).isEmpty();
+        assertThat(meterRegistry.get("outbox_backlog_pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("outbox_backlog_oldest_pending_age_seconds").gauge().value()).isZero();
+    }
+
+    @Test
+    void keepsPreviousSnapshotWhenTheQueryFails() {
+        when(repository.summarizePending())
+            .thenReturn(List.of(summary("TripCreatedEvent", 4, 1, LocalDateTime.of(2026, 10, 18, 11, 59))))
+            .thenThrow(new IllegalStateException("connection refused"));
+
+        monitor.refresh();
+        monitor.refresh();
+
+        assertThat(monitor.snapshot().totalPending()).isEqualTo(4);
+    }
+
+    @Test
+    void endpointExposesBacklogBreakdown() {
+        when(repository.summarizePending()).thenReturn(List.of(
+            summary("TripCreatedEvent", 5, 1, LocalDateTime.of(2026, 10, 18, 11, 59))));
+        monitor.refresh();
+
+        Map<String, Object> body = new OutboxBacklogEndpoint(monitor).backlog();
+
+        assertThat(body).containsEntry("pending", 5L)
+            .containsEntry("retrying", 1L)
+            .containsEntry("oldestPendingAgeSeconds", 60.0);
+        assertThat(body.get("byType")).asList().hasSize(1);
+    }
+
+    private static PendingSummary summary(String eventType, long pending, long retrying, LocalDateTime oldest) {
+        return new Summary(eventType, pending, retrying, oldest);
+    }
+
+    private record Summary(String eventType, long pending, long retrying, LocalDateTime oldestCreatedAt)
+            implements PendingSummary {
+
+        @Override
+        public String getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public long getPending() {
+            return pending;
+        }
+
+        @Override
+        public long getRetrying() {
+            return retrying;
+        }
+
+        @Override
+        public LocalDateTime getOldestCreatedAt() {
+            return oldestCreatedAt;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.rappidrive.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs V19 against an outbox that already holds rows from today (and, under clock skew, tomorrow),
+ * the situation a live database is in when the migration is applied.
+ */
+@Testcontainers
+class OutboxPartitionMigrationIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"))
+            .withDatabaseName("rappidrive_migration_test")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @Test
+    void attachesLegacyTableWhoseRowsReachPastToday() {
+        migrateTo("18");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        insertOutboxRow(jdbcTemplate, now.minusDays(10));
+        insertOutboxRow(jdbcTemplate, now);
+        insertOutboxRow(jdbcTemplate, now.plusHours(30));
+
+        migrateTo("19");
+
+        LocalDate legacyUpper = now.plusHours(30).toLocalDate().plusDays(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_class c WHERE c.relname = 'outbox_event_legacy'",
+            String.class)).contains("TO ('" + legacyUpper + " 00:00:00')");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_event_legacy", Long.class)).isEqualTo(3);
+
+        UUID next = insertOutboxRow(jdbcTemplate, legacyUpper.atTime(1, 0));
+        assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM outbox_event WHERE id = ?",
+            String.class, next)).isEqualTo("outbox_event_p" + legacyUpper.format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+
+    private static void migrateTo(String version) {
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration")
+            .target(version)
+            .load()
+            .migrate();
+    }
+
+    private static UUID insertOutboxRow(JdbcTemplate jdbcTemplate, LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO outbox_event (id, event_type, payload, status, created_at) "
+            + "VALUES (?, 'TRIP_CREATED', '{}'::jsonb, 'PENDING', ?)", id, Timestamp.valueOf(createdAt));
+        return id;
+    }
+}
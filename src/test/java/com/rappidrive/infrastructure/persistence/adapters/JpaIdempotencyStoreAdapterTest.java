@@ -0,0 +1,167 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.exceptions.IdempotencyKeyConflictException;
+import com.rappidrive.application.ports.output.IdempotencyStorePort.IdempotentRequest;
+import com.rappidrive.application.ports.output.IdempotencyStorePort.IdempotentResult;
+import com.rappidrive.infrastructure.persistence.entities.IdempotencyKeyJpaEntity;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataIdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JpaIdempotencyStoreAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class JpaIdempotencyStoreAdapterTest {
+
+    @Mock
+    private SpringDataIdempotencyKeyRepository jpaRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotentRequest request = new IdempotentRequest("payment", "key-1", "trip-1|PIX: a@b.com");
+    private final UUID paymentId = UUID.randomUUID();
+    private JpaIdempotencyStoreAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JpaIdempotencyStoreAdapter(jpaRepository, meterRegistry, 1_000, Duration.ofHours(24),
+            Duration.ofSeconds(2), Duration.ofSeconds(60), Duration.ofMillis(10), Clock.systemDefaultZone());
+    }
+
+    @Test
+    void runsOperationOnceAndAnswersRetriesFromCache() {
+        when(jpaRepository.reserve(eq("payment"), eq("key-1"), anyString(), any())).thenReturn(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        IdempotentResult first = adapter.execute(request, () -> {
+            runs.incrementAndGet();
+            return paymentId;
+        });
+        IdempotentResult retry = adapter.execute(request, () -> {
+            runs.incrementAndGet();
+            return UUID.randomUUID();
+        });
+
+        assertThat(first).isEqualTo(new IdempotentResult(paymentId, false));
+        assertThat(retry).isEqualTo(new IdempotentResult(paymentId, true));
+        assertThat(runs).hasValue(1);
+        verify(jpaRepository).complete(eq("payment"), eq("key-1"), eq(paymentId), any());
+        verify(jpaRepository, times(1)).reserve(any(), any(), any(), any());
+        verify(jpaRepository, never()).findById(any());
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForTheInFlightRequest() throws Exception {
+        when(jpaRepository.reserve(any(), any(), any(), any())).thenReturn(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<IdempotentResult> first = callers.submit(() -> adapter.execute(request, () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return paymentId;
+            }));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<IdempotentResult> duplicate = callers.submit(() -> adapter.execute(request, () -> {
+                runs.incrementAndGet();
+                return UUID.randomUUID();
+            }));
+
+            Thread.sleep(50);
+            assertThat(duplicate).isNotDone();
+            release.countDown();
+
+            assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(new IdempotentResult(paymentId, false));
+            assertThat(duplicate.get(1, TimeUnit.SECONDS)).isEqualTo(new IdempotentResult(paymentId, true));
+        }
+        assertThat(runs).hasValue(1);
+        verify(jpaRepository, times(1)).reserve(any(), any(), any(), any());
+    }
+
+    @Test
+    void rejectsKeyReusedForDifferentRequest() {
+        when(jpaRepository.reserve(any(), any(), any(), any())).thenReturn(1);
+        adapter.execute(request, () -> paymentId);
+
+        IdempotentRequest other = new IdempotentRequest("payment", "key-1", "trip-2|Cash");
+        assertThatThrownBy(() -> adapter.execute(other, UUID::randomUUID))
+            .isInstanceOf(IdempotencyKeyConflictException.class)
+            .hasMessageContaining("different request");
+    }
+
+    @Test
+    void failedOperationReleasesTheKeyForRetry() {
+        when(jpaRepository.reserve(any(), any(), any(), any())).thenReturn(1);
+
+        assertThatThrownBy(() -> adapter.execute(request, () -> {
+            throw new IllegalStateException("gateway down");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(jpaRepository).release("payment", "key-1");
+
+        assertThat(adapter.execute(request, () -> paymentId)).isEqualTo(new IdempotentResult(paymentId, false));
+    }
+
+    @Test
+    void replaysOutcomeStoredByAnotherNode() {
+        when(jpaRepository.reserve(any(), any(), any(), any())).thenReturn(0);
+        IdempotencyKeyJpaEntity inProgress = row(IdempotencyKeyJpaEntity.IN_PROGRESS, null, LocalDateTime.now());
+        IdempotencyKeyJpaEntity completed = row(IdempotencyKeyJpaEntity.COMPLETED, paymentId, LocalDateTime.now());
+        when(jpaRepository.findById(any())).thenReturn(Optional.of(inProgress), Optional.of(completed));
+
+        IdempotentResult result = adapter.execute(request, () -> {
+            throw new AssertionError("must not run");
+        });
+
+        assertThat(result).isEqualTo(new IdempotentResult(paymentId, true));
+        verify(jpaRepository, never()).complete(any(), any(), any(), any());
+    }
+
+    @Test
+    void takesOverReservationLeftBehindByDeadNode() {
+        when(jpaRepository.reserve(any(), any(), any(), any())).thenReturn(0);
+        when(jpaRepository.findById(any()))
+            .thenReturn(Optional.of(row(IdempotencyKeyJpaEntity.IN_PROGRESS, null, LocalDateTime.now().minusMinutes(5))));
+        when(jpaRepository.takeOverStale(eq("payment"), eq("key-1"), any(), any())).thenReturn(1);
+
+        assertThat(adapter.execute(request, () -> paymentId)).isEqualTo(new IdempotentResult(paymentId, false));
+        verify(jpaRepository).complete(eq("payment"), eq("key-1"), eq(paymentId), any());
+    }
+
+    private IdempotencyKeyJpaEntity row(String status, UUID resourceId, LocalDateTime createdAt) {
+        return new IdempotencyKeyJpaEntity("payment", "key-1", JpaIdempotencyStoreAdapter.sha256(request.fingerprint()),
+            status, resourceId, createdAt, resourceId != null ? createdAt : null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
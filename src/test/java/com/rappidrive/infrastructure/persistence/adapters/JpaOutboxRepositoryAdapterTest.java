@@ -7,9 +7,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,13 +19,17 @@ import static org.mockito.Mockito.*;
 
 class JpaOutboxRepositoryTest {
 
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final LocalDateTime SWEEP_LOWER_BOUND = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private SpringDataOutboxRepository repo;
     private com.rappidrive.infrastructure.persistence.adapters.JpaOutboxRepository adapter;
 
     @BeforeEach
     void setUp() {
         repo = mock(SpringDataOutboxRepository.class);
-        adapter = new com.rappidrive.infrastructure.persistence.adapters.JpaOutboxRepository(repo);
+        adapter = new com.rappidrive.infrastructure.persistence.adapters.JpaOutboxRepository(repo, CLOCK);
     }
 
     @Test
@@ -53,7 +59,7 @@ class JpaOutboxRepositoryTest {
     @Test
     void findPendingBatch_mapsEntitiesToDomain() {
         OutboxEventJpaEntity e = new OutboxEventJpaEntity(UUID.randomUUID(), UUID.randomUUID(), "T", "{}", "PENDING", 0, null, LocalDateTime.now(), null, null);
-        when(repo.findPending(any(LocalDateTime.class), any())).thenReturn(List.of(e));
+        when(repo.findPending(any(LocalDateTime.class), any(LocalDateTime.class), any())).thenReturn(List.of(e));
 
         List<OutboxEvent> batch = adapter.findPendingBatch(LocalDateTime.now(), 10);
 
@@ -62,16 +68,51 @@ class JpaOutboxRepositoryTest {
     }
 
     @Test
-    void markSent_updatesEntity() {
+    void findPendingBatch_onlyScansRecentPartitionsOnceTheSweepFindsNothingOld() {
+        when(repo.findPending(any(LocalDateTime.class), any(LocalDateTime.class), any())).thenReturn(List.of());
+
+        adapter.findPendingBatch(NOW, 10);
+        adapter.findPendingBatch(NOW, 10);
+
+        verify(repo).findPending(eq(NOW), eq(SWEEP_LOWER_BOUND), any());
+        verify(repo).findPending(eq(NOW), eq(NOW.minusHours(72)), any());
+    }
+
+    @Test
+    void findPendingBatch_keepsSweepingWhileEventsOlderThanTheLookbackArePending() {
+        OutboxEventJpaEntity stale = new OutboxEventJpaEntity(UUID.randomUUID(), UUID.randomUUID(), "T", "{}",
+            "PENDING", 3, null, NOW.minusDays(5), null, null);
+        when(repo.findPending(eq(NOW), eq(SWEEP_LOWER_BOUND), any())).thenReturn(List.of(stale), List.of());
+
+        assertThat(adapter.findPendingBatch(NOW, 10)).extracting(OutboxEvent::getId).containsExactly(stale.getId());
+        adapter.findPendingBatch(NOW, 10);
+        adapter.findPendingBatch(NOW, 10);
+
+        verify(repo, times(2)).findPending(eq(NOW), eq(SWEEP_LOWER_BOUND), any());
+        verify(repo).findPending(eq(NOW), eq(NOW.minusHours(72)), any());
+    }
+
+    @Test
+    void markSent_issuesSingleConditionalUpdateOnTheRowsPartition() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = NOW.minusMinutes(1);
+
+        adapter.markSent(id, createdAt);
+
+        verify(repo).markSent(eq(id), eq(createdAt), any(LocalDateTime.class));
+        verify(repo, never()).findById(any());
+        verify(repo, never()).save(any());
+    }
+
+    @Test
+    void incrementAttempts_issuesSingleUpdateOnTheRowsPartition() {
         UUID id = UUID.randomUUID();
-        OutboxEventJpaEntity e = new OutboxEventJpaEntity();
-        e.setId(id);
-        when(repo.findById(id)).thenReturn(Optional.of(e));
+        LocalDateTime createdAt = NOW.minusMinutes(1);
+        LocalDateTime next = NOW.plusSeconds(4);
 
-        adapter.markSent(id);
+        adapter.incrementAttempts(id, createdAt, next);
 
-        verify(repo).save(e);
-        assertThat(e.getStatus()).isEqualTo("SENT");
-        assertThat(e.getSentAt()).isNotNull();
+        verify(repo).incrementAttempts(id, createdAt, next);
+        verify(repo, never()).findById(any());
     }
 }
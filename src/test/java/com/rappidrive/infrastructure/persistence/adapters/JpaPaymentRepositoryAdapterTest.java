@@ -0,0 +1,90 @@
+package com.rappidrive.infrastructure.persistence.adapters;
+
+import com.rappidrive.application.ports.output.LedgerRepositoryPort;
+import com.rappidrive.domain.entities.Payment;
+import com.rappidrive.domain.services.LedgerPostingService;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.JournalEntry;
+import com.rappidrive.domain.valueobjects.LedgerAccount;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.PaymentMethod;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.persistence.entities.PaymentJpaEntity;
+import com.rappidrive.infrastructure.persistence.mappers.PaymentMapper;
+import com.rappidrive.infrastructure.persistence.repositories.SpringDataPaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JpaPaymentRepositoryAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class JpaPaymentRepositoryAdapterTest {
+
+    @Mock
+    private SpringDataPaymentRepository jpaRepository;
+
+    @Mock
+    private LedgerRepositoryPort ledgerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final PaymentMapper mapper = new PaymentMapper();
+    private final TenantId tenantId = TenantId.generate();
+    private final UUID driverId = UUID.randomUUID();
+    private JpaPaymentRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JpaPaymentRepositoryAdapter(jpaRepository, mapper, ledgerRepository, new LedgerPostingService(),
+            transactionManager);
+        when(jpaRepository.save(any(PaymentJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void completingALoadedPaymentCreditsItsDriverWithoutReadingTheStoredRow() {
+        Payment payment = mapper.toDomain(mapper.toJpaEntity(newPayment()));
+        payment.complete();
+
+        adapter.save(payment);
+
+        ArgumentCaptor<JournalEntry> entry = ArgumentCaptor.forClass(JournalEntry.class);
+        verify(ledgerRepository).append(entry.capture());
+        assertThat(entry.getValue().postings()).anyMatch(posting ->
+            posting.account().equals(LedgerAccount.driverPayable(tenantId, driverId, Currency.BRL)));
+        verify(transactionManager).getTransaction(any());
+        verify(jpaRepository).save(any(PaymentJpaEntity.class));
+        verifyNoMoreInteractions(jpaRepository);
+    }
+
+    @Test
+    void savingWithoutAFinalStatusChangeOpensNoTransactionAndPostsNothing() {
+        Payment payment = newPayment();
+        adapter.save(payment);
+        payment.complete();
+        adapter.save(payment);
+        reset(ledgerRepository, transactionManager);
+
+        Payment saved = adapter.save(payment);
+
+        assertThat(saved.getPersistedStatus()).isEqualTo(saved.getStatus());
+        verifyNoInteractions(ledgerRepository, transactionManager);
+    }
+
+    private Payment newPayment() {
+        return Payment.create(UUID.randomUUID(), driverId, tenantId, Money.ofCents(5_000, Currency.BRL),
+            Money.ofCents(1_000, Currency.BRL), Money.ofCents(4_000, Currency.BRL), PaymentMethod.pix("p@x.com"));
+    }
+}
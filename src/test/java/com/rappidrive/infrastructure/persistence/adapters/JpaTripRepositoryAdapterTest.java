@@ -2,6 +2,7 @@ package com.rappidrive.infrastructure.persistence.adapters;
 
 import com.rappidrive.domain.entities.Trip;
 import com.rappidrive.domain.exceptions.TripConcurrencyException;
+import com.rappidrive.infrastructure.messaging.DomainEventSerializer;
 import com.rappidrive.infrastructure.persistence.entities.TripJpaEntity;
 import com.rappidrive.infrastructure.persistence.mappers.TripMapper;
 import com.rappidrive.infrastructure.persistence.repositories.SpringDataTripRepository;
@@ -22,7 +23,7 @@ class JpaTripRepositoryAdapterTest {
     private SpringDataTripRepository jpaRepository;
     private TripMapper mapper;
     private com.rappidrive.application.ports.output.OutboxRepositoryPort outboxRepository;
-    private com.fasterxml.jackson.databind.ObjectMapper objectMapper;
+    private DomainEventSerializer eventSerializer;
     private Tracer tracer;
     private JpaTripRepositoryAdapter adapter;
 
@@ -31,9 +32,9 @@ class JpaTripRepositoryAdapterTest {
         jpaRepository = mock(SpringDataTripRepository.class);
         mapper = mock(TripMapper.class);
         outboxRepository = mock(com.rappidrive.application.ports.output.OutboxRepositoryPort.class);
-        objectMapper = mock(com.fasterxml.jackson.databind.ObjectMapper.class);
+        eventSerializer = mock(DomainEventSerializer.class);
         tracer = mock(Tracer.class);
-        adapter = new JpaTripRepositoryAdapter(jpaRepository, mapper, outboxRepository, objectMapper, tracer);
+        adapter = new JpaTripRepositoryAdapter(jpaRepository, mapper, outboxRepository, eventSerializer, tracer);
     }
 
     @Test
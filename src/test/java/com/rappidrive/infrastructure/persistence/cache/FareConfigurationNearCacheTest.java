@@ -0,0 +1,126 @@
+package com.rappidrive.infrastructure.persistence.cache;
+
+import com.rappidrive.domain.entities.FareConfiguration;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.persistence.cache.FareConfigurationNearCache.Versioned;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FareConfigurationNearCacheTest {
+
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(10);
+    private static final Duration MAX_STALENESS = Duration.ofHours(24);
+
+    private final Map<UUID, Versioned> database = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FareConfigurationNearCache cache;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FareConfigurationNearCache(key -> {
+            loads.incrementAndGet();
+            return database.getOrDefault(key, Versioned.absent());
+        }, meterRegistry, REFRESH_AHEAD, MAX_STALENESS, 100, nanos::get, Runnable::run);
+        tenantId = UUID.randomUUID();
+        write(5.00, 7);
+    }
+
+    @Test
+    void loadsEachTenantOnce() {
+        assertThat(cache.get(tenantId)).map(config -> config.getBaseFare()).contains(Money.of(5.00, Currency.BRL));
+        assertThat(cache.get(tenantId)).isPresent();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void cachesAbsentConfigurations() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThat(cache.get(unknown)).isEmpty();
+        assertThat(cache.get(unknown)).isEmpty();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void newerVersionEvictsEntry() {
+        cache.get(tenantId);
+        write(6.50, 8);
+
+        cache.onChange(tenantId, 8);
+
+        assertThat(cache.get(tenantId)).map(config -> config.getBaseFare()).contains(Money.of(6.50, Currency.BRL));
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.counter("fare_config_cache_invalidations_total", "outcome", "applied").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void sameOrOlderVersionIsIgnored() {
+        cache.get(tenantId);
+
+        cache.onChange(tenantId, 7);
+        cache.onChange(tenantId, 3);
+        cache.get(tenantId);
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.counter("fare_config_cache_invalidations_total", "outcome", "ignored").count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    void refreshesAheadWhileServingCachedValue() {
+        cache.get(tenantId);
+        write(6.50, 8);
+        nanos.addAndGet(REFRESH_AHEAD.plusSeconds(1).toNanos());
+
+        cache.get(tenantId);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get(tenantId)).map(config -> config.getBaseFare()).contains(Money.of(6.50, Currency.BRL));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void listenerAppliesPayloadsAndDropsEverythingOnGarbage() {
+        FareConfigurationChangeListener listener = new FareConfigurationChangeListener(null, cache,
+            Duration.ofMillis(10), Duration.ofMillis(10));
+        cache.get(tenantId);
+
+        listener.apply(tenantId + ":7");
+        cache.get(tenantId);
+        assertThat(loads).hasValue(1);
+
+        listener.apply("not-a-payload");
+        cache.get(tenantId);
+        assertThat(loads).hasValue(2);
+
+        listener.apply(tenantId + ":9");
+        cache.get(tenantId);
+        assertThat(loads).hasValue(3);
+    }
+
+    private void write(double baseFare, long version) {
+        FareConfiguration config = FareConfiguration.create(new TenantId(tenantId), Money.of(baseFare, Currency.BRL),
+            Money.of(2.35, Currency.BRL), Money.of(0.45, Currency.BRL), Money.of(8.00, Currency.BRL), 0.2);
+        database.put(tenantId, new Versioned(Optional.of(config), version));
+    }
+}
@@ -0,0 +1,114 @@
+package com.rappidrive.infrastructure.persistence.cache;
+
+import com.rappidrive.application.ports.output.NotificationIdempotencyFilterPort.Lookup;
+import com.rappidrive.domain.valueobjects.TenantId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationIdempotencyKeyFilterTest {
+
+    private static final Duration WINDOW = Duration.ofHours(24);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-10-18T10:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TenantId tenant = TenantId.generate();
+
+    private NotificationIdempotencyKeyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        filter = new NotificationIdempotencyKeyFilter(meterRegistry, 10_000, 0.01, WINDOW, clock);
+    }
+
+    @Test
+    void answersPossiblySeenUntilWarm() {
+        assertThat(filter.check(tenant, "trip-123:accepted")).isEqualTo(Lookup.NOT_READY);
+        assertThat(checks("cold")).isEqualTo(1);
+    }
+
+    @Test
+    void knownKeysArePossibleHitsAndOtherTenantsDoNotShareThem() {
+        filter.addRebuilt(tenant.getValue(), "trip-123:accepted");
+        filter.markWarm();
+
+        assertThat(filter.check(tenant, "trip-123:accepted")).isEqualTo(Lookup.MAYBE);
+        assertThat(filter.check(TenantId.generate(), "trip-123:accepted")).isEqualTo(Lookup.DEFINITELY_ABSENT);
+        assertThat(checks("possible_hit")).isEqualTo(1);
+        assertThat(checks("definite_miss")).isEqualTo(1);
+    }
+
+    @Test
+    void keysAreKeptForAtLeastOneWindowAndDroppedAfterTwo() {
+        filter.markWarm();
+        filter.add(tenant, "trip-123:accepted");
+
+        now.set(now.get().plus(WINDOW).plusSeconds(1));
+        assertThat(filter.check(tenant, "trip-123:accepted")).isEqualTo(Lookup.MAYBE);
+
+        now.set(now.get().plus(WINDOW).plusSeconds(1));
+        assertThat(filter.check(tenant, "trip-123:accepted")).isEqualTo(Lookup.DEFINITELY_ABSENT);
+    }
+
+    @Test
+    void rebuiltKeysAreDroppedOneWindowAfterStartup() {
+        filter.addRebuilt(tenant.getValue(), "trip-123:accepted");
+        filter.markWarm();
+        filter.add(tenant, "trip-456:accepted");
+
+        now.set(now.get().plus(WINDOW).plusSeconds(1));
+
+        assertThat(filter.check(tenant, "trip-123:accepted")).isEqualTo(Lookup.DEFINITELY_ABSENT);
+        assertThat(filter.check(tenant, "trip-456:accepted")).isEqualTo(Lookup.MAYBE);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredRateAtExpectedLoad() {
+        for (int i = 0; i < 10_000; i++) {
+            filter.addRebuilt(tenant.getValue(), UUID.randomUUID().toString());
+        }
+        filter.markWarm();
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(tenant, UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.check(tenant, UUID.randomUUID().toString()) == Lookup.MAYBE) {
+                falsePositives++;
+            }
+        }
+
+        // two full generations at 1% each
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("notification_idempotency_filter_checks_total").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,68 @@
+package com.rappidrive.infrastructure.reconciliation;
+
+import com.rappidrive.application.ports.output.SettlementFilePort.Format;
+import com.rappidrive.application.ports.output.SettlementFilePort.SettlementRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for MappedSettlementFileReader.
+ */
+class MappedSettlementFileReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsCsvColumnsByHeaderWithQuotedFields() throws IOException {
+        List<SettlementRecord> records = read(Format.CSV,
+            "status,\"merchant, name\",amount,transaction_id\r\n"
+                + "settled,\"Rappi \"\"Drive\"\"\",12.5,TXN-1\r\n"
+                + "\r\n"
+                + "REFUNDED,plain,-3,\"TXN-2\"\n", 8);
+
+        assertThat(records).containsExactly(
+            new SettlementRecord("TXN-1", 1250, "SETTLED"),
+            new SettlementRecord("TXN-2", -300, "REFUNDED"));
+    }
+
+    @Test
+    void readsNdjsonIgnoringOtherFieldsAndLastLineWithoutNewline() throws IOException {
+        List<SettlementRecord> records = read(Format.NDJSON,
+            "{\"fees\":{\"gateway\":0.35},\"transaction_id\":\"TXN-1\",\"amount\":10.00,\"status\":\"SETTLED\"}\n"
+                + "{\"transaction_id\":\"TXN-2\",\"amount\":\"7.05\",\"status\":\"FAILED\"}", 16);
+
+        assertThat(records).containsExactly(
+            new SettlementRecord("TXN-1", 1000, "SETTLED"),
+            new SettlementRecord("TXN-2", 705, "FAILED"));
+    }
+
+    @Test
+    void reportsLineOfMalformedRecord() {
+        assertThatThrownBy(() -> read(Format.CSV, "transaction_id,amount,status\nTXN-1,1.00,SETTLED\nTXN-2,1.005,SETTLED\n",
+            1024))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("line 3")
+            .hasMessageContaining("two decimal places");
+        assertThatThrownBy(() -> read(Format.CSV, "id,amount\n1,2\n", 1024))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("header");
+    }
+
+    private List<SettlementRecord> read(Format format, String content, long windowBytes) throws IOException {
+        Path file = Files.writeString(directory.resolve("settlement"), content);
+        List<SettlementRecord> records = new ArrayList<>();
+        try (MappedSettlementFileReader reader = new MappedSettlementFileReader(file, format, windowBytes)) {
+            reader.forEachRemaining(records::add);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,150 @@
+package com.rappidrive.infrastructure.security;
+
+import com.rappidrive.domain.entities.Fare;
+import com.rappidrive.domain.enums.FareMultiplierType;
+import com.rappidrive.domain.enums.VehicleType;
+import com.rappidrive.domain.exceptions.InvalidFareQuoteException;
+import com.rappidrive.domain.valueobjects.Currency;
+import com.rappidrive.domain.valueobjects.FareQuote;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.Money;
+import com.rappidrive.domain.valueobjects.TenantId;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HmacFareQuoteTokenAdapterTest {
+
+    private static final String SECRET = "test-fare-quote-signing-secret-0123456789";
+    private static final String OTHER_SECRET = "another-fare-quote-signing-secret-987654";
+
+    private final HmacFareQuoteTokenAdapter adapter = new HmacFareQuoteTokenAdapter(SECRET, "");
+
+    @Test
+    void verifiesTokensItSigned() {
+        FareQuote quote = quote();
+
+        String token = adapter.sign(quote);
+
+        assertThat(token).matches("[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+");
+        assertThat(adapter.verify(token)).isEqualTo(quote);
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = adapter.sign(quote());
+        char[] chars = token.toCharArray();
+        chars[40] = chars[40] == 'A' ? 'B' : 'A';
+
+        assertThatThrownBy(() -> adapter.verify(new String(chars)))
+            .isInstanceOf(InvalidFareQuoteException.class)
+            .hasMessageContaining("signature");
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherSecret() {
+        String token = new HmacFareQuoteTokenAdapter(OTHER_SECRET, "").sign(quote());
+
+        assertThatThrownBy(() -> adapter.verify(token)).isInstanceOf(InvalidFareQuoteException.class);
+    }
+
+    @Test
+    void acceptsTokensSignedWithThePreviousSecretDuringRotation() {
+        FareQuote quote = quote();
+        String oldToken = new HmacFareQuoteTokenAdapter(OTHER_SECRET, "").sign(quote);
+        HmacFareQuoteTokenAdapter rotated = new HmacFareQuoteTokenAdapter(SECRET, OTHER_SECRET);
+
+        assertThat(rotated.verify(oldToken)).isEqualTo(quote);
+        assertThat(adapter.verify(rotated.sign(quote))).isEqualTo(quote);
+    }
+
+    @Test
+    void decodesStoredTokensAfterTheSecretRotatedPastThem() {
+        FareQuote quote = quote();
+        String storedToken = new HmacFareQuoteTokenAdapter(OTHER_SECRET, "").sign(quote);
+
+        assertThatThrownBy(() -> adapter.verify(storedToken)).isInstanceOf(InvalidFareQuoteException.class);
+        assertThat(adapter.decode(storedToken)).isEqualTo(quote);
+    }
+
+    @Test
+    void decodesVersion1TokensWithTheBuiltInMultipliers() throws Exception {
+        FareQuote quote = quote();
+        String v1Token = version1Token(quote, SECRET);
+
+        FareQuote decoded = adapter.verify(v1Token);
+
+        assertThat(decoded.quoteId()).isEqualTo(quote.quoteId());
+        assertThat(decoded.totalAmount()).isEqualTo(quote.totalAmount());
+        assertThat(decoded.expiresAt()).isEqualTo(quote.expiresAt());
+        assertThat(decoded.timeMultiplier()).isEqualTo(FareMultiplierType.PEAK.getMultiplier());
+        assertThat(decoded.vehicleMultiplier()).isEqualTo(Fare.getVehicleMultiplier(VehicleType.SUV));
+        assertThat(adapter.decode(v1Token)).isEqualTo(decoded);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> adapter.verify("not-a-token")).isInstanceOf(InvalidFareQuoteException.class);
+        assertThatThrownBy(() -> adapter.verify("a.b.c")).isInstanceOf(InvalidFareQuoteException.class);
+        assertThatThrownBy(() -> adapter.verify("!!!.???")).isInstanceOf(InvalidFareQuoteException.class);
+        assertThatThrownBy(() -> adapter.verify(null)).isInstanceOf(InvalidFareQuoteException.class);
+        assertThatThrownBy(() -> adapter.decode("bm90LWEtcXVvdGU.c2ln")).isInstanceOf(InvalidFareQuoteException.class);
+    }
+
+    @Test
+    void refusesToStartWithoutASigningSecret() {
+        assertThatThrownBy(() -> new HmacFareQuoteTokenAdapter("", ""))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("FARE_QUOTE_SIGNING_SECRET");
+    }
+
+    @Test
+    void rejectsShortSecrets() {
+        assertThatThrownBy(() -> new HmacFareQuoteTokenAdapter("short", ""))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Encodes a quote the way tokens were issued before the multipliers were added to the payload.
+     */
+    private static String version1Token(FareQuote quote, String secret) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 16 + 16 + 4 * 8 + 1 + 8 + 4 + 1 + 1 + 5 * 8 + 8);
+        buffer.put((byte) 1);
+        buffer.putLong(quote.quoteId().getMostSignificantBits()).putLong(quote.quoteId().getLeastSignificantBits());
+        UUID tenant = quote.tenantId().getValue();
+        buffer.putLong(tenant.getMostSignificantBits()).putLong(tenant.getLeastSignificantBits());
+        buffer.putDouble(quote.origin().getLatitude()).putDouble(quote.origin().getLongitude());
+        buffer.putDouble(quote.destination().getLatitude()).putDouble(quote.destination().getLongitude());
+        buffer.put((byte) quote.vehicleType().ordinal());
+        buffer.putDouble(quote.distanceKm());
+        buffer.putInt(quote.durationMinutes());
+        buffer.put((byte) quote.multiplierType().ordinal());
+        buffer.put((byte) quote.totalAmount().getCurrency().ordinal());
+        buffer.putLong(quote.baseFare().toCents()).putLong(quote.pricePerKm().toCents())
+            .putLong(quote.pricePerMinute().toCents()).putLong(quote.minimumFare().toCents())
+            .putLong(quote.totalAmount().toCents());
+        buffer.putLong(quote.expiresAt().getEpochSecond());
+        byte[] payload = buffer.array();
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(mac.doFinal(payload));
+    }
+
+    private static FareQuote quote() {
+        return new FareQuote(UUID.randomUUID(), TenantId.generate(),
+            new Location(-23.561414, -46.655881), new Location(-23.626110, -46.656376),
+            VehicleType.SUV, 7.196, 15, FareMultiplierType.PEAK, 1.5, 1.2,
+            Money.of(5.00, Currency.BRL), Money.of(2.35, Currency.BRL), Money.of(0.45, Currency.BRL),
+            Money.of(8.00, Currency.BRL), Money.of(47.70, Currency.BRL),
+            Instant.parse("2026-10-18T12:05:00Z"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.rappidrive.infrastructure.web.uplink;
+
+import com.rappidrive.application.ports.input.driver.ActivateDriverInputPort;
+import com.rappidrive.application.ports.input.driver.DeactivateDriverInputPort;
+import com.rappidrive.application.ports.input.driver.UpdateDriverLocationInputPort;
+import com.rappidrive.application.ports.input.driver.UpdateDriverLocationInputPort.UpdateLocationCommand;
+import com.rappidrive.application.ports.input.trip.AssignDriverToTripInputPort;
+import com.rappidrive.application.ports.input.trip.AssignDriverToTripInputPort.AssignDriverCommand;
+import com.rappidrive.domain.exceptions.TripNotFoundException;
+import com.rappidrive.domain.valueobjects.TenantId;
+import com.rappidrive.infrastructure.context.TenantContext;
+import com.rappidrive.infrastructure.web.uplink.DriverUplinkFrame.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DriverUplinkWebSocketHandler and its framing.
+ */
+class DriverUplinkWebSocketHandlerTest {
+
+    private static final UUID DRIVER = UUID.randomUUID();
+    private static final TenantId TENANT = TenantId.generate();
+
+    private UpdateDriverLocationInputPort updateLocation;
+    private ActivateDriverInputPort activate;
+    private DeactivateDriverInputPort deactivate;
+    private AssignDriverToTripInputPort assignDriver;
+    private SimpleMeterRegistry meterRegistry;
+    private DriverUplinkWebSocketHandler handler;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        updateLocation = mock(UpdateDriverLocationInputPort.class);
+        activate = mock(ActivateDriverInputPort.class);
+        deactivate = mock(DeactivateDriverInputPort.class);
+        assignDriver = mock(AssignDriverToTripInputPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new DriverUplinkWebSocketHandler(updateLocation, activate, deactivate, assignDriver,
+            meterRegistry, Duration.ofMinutes(2));
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(DriverUplinkHandshakeInterceptor.DRIVER_ID_ATTRIBUTE, DRIVER);
+        attributes.put(DriverUplinkHandshakeInterceptor.TENANT_ID_ATTRIBUTE, TENANT);
+        session = mock(WebSocketSession.class);
+        when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    @Test
+    void locationFrameUpdatesLocationInSessionTenantWithoutReply() throws Exception {
+        AtomicReference<Optional<TenantId>> tenantSeen = new AtomicReference<>();
+        when(updateLocation.execute(any())).thenAnswer(invocation -> {
+            tenantSeen.set(TenantContext.getTenantIfPresent());
+            return null;
+        });
+
+        handler.handleMessage(session, frame(DriverUplinkFrame.LOCATION, 7, buffer -> buffer.putDouble(-23.55).putDouble(-46.63)));
+
+        ArgumentCaptor<UpdateLocationCommand> command = ArgumentCaptor.forClass(UpdateLocationCommand.class);
+        verify(updateLocation).execute(command.capture());
+        assertThat(command.getValue().driverId()).isEqualTo(DRIVER);
+        assertThat(command.getValue().location().getLatitude()).isEqualTo(-23.55);
+        assertThat(tenantSeen.get()).contains(TENANT);
+        assertThat(TenantContext.getTenantIfPresent()).isEmpty();
+        verify(session, never()).sendMessage(any());
+    }
+
+    @Test
+    void statusFrameTogglesAvailabilityAndIsAcknowledged() throws Exception {
+        handler.handleMessage(session, frame(DriverUplinkFrame.STATUS, 1, buffer -> buffer.put((byte) 0)));
+        handler.handleMessage(session, frame(DriverUplinkFrame.STATUS, 2, buffer -> buffer.put((byte) 1)));
+
+        verify(deactivate).execute(DRIVER);
+        verify(activate).execute(DRIVER);
+        assertThat(replyTo(2)).isEqualTo(Result.OK);
+    }
+
+    @Test
+    void acceptingAnOfferOfAMissingTripRepliesNotFound() throws Exception {
+        UUID trip = UUID.randomUUID();
+        when(assignDriver.execute(new AssignDriverCommand(trip, DRIVER))).thenThrow(new TripNotFoundException(trip));
+
+        handler.handleMessage(session, frame(DriverUplinkFrame.ACCEPT_OFFER, 42,
+            buffer -> buffer.putLong(trip.getMostSignificantBits()).putLong(trip.getLeastSignificantBits())));
+
+        assertThat(replyTo(42)).isEqualTo(Result.NOT_FOUND);
+        assertThat(meterRegistry.get("driver_uplink_frames_total")
+            .tag("type", "accept_offer").tag("result", "not_found").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void truncatedFrameIsRepliedAsMalformed() throws Exception {
+        handler.handleMessage(session, frame(DriverUplinkFrame.LOCATION, 3, buffer -> buffer.putDouble(1.0)));
+
+        assertThat(replyTo(0)).isEqualTo(Result.MALFORMED);
+        verifyNoInteractions(updateLocation);
+    }
+
+    @Test
+    void driverIdIsTakenFromTheUplinkPath() {
+        assertThat(DriverUplinkHandshakeInterceptor.driverIdFromPath("/api/v1/drivers/" + DRIVER + "/uplink"))
+            .contains(DRIVER);
+        assertThat(DriverUplinkHandshakeInterceptor.driverIdFromPath("/api/v1/drivers/not-a-uuid/uplink")).isEmpty();
+    }
+
+    private Result replyTo(int seq) throws Exception {
+        ArgumentCaptor<BinaryMessage> sent = ArgumentCaptor.forClass(BinaryMessage.class);
+        verify(session, atLeastOnce()).sendMessage(sent.capture());
+        ByteBuffer reply = sent.getValue().getPayload();
+        assertThat(reply.get() & DriverUplinkFrame.REPLY_FLAG).isNotZero();
+        assertThat(reply.getInt()).isEqualTo(seq);
+        return Result.values()[reply.get()];
+    }
+
+    private static BinaryMessage frame(byte type, int seq, Consumer<ByteBuffer> payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put(type).putInt(seq);
+        payload.accept(buffer);
+        return new BinaryMessage(buffer.flip());
+    }
+}
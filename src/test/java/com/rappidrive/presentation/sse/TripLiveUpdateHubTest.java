@@ -0,0 +1,181 @@
+package com.rappidrive.presentation.sse;
+
+import com.rappidrive.domain.enums.TripStatus;
+import com.rappidrive.domain.events.TripCompletedEvent;
+import com.rappidrive.domain.events.TripDriverAssignedEvent;
+import com.rappidrive.domain.events.TripStartedEvent;
+import com.rappidrive.domain.exceptions.TripNotFoundException;
+import com.rappidrive.domain.valueobjects.DriverId;
+import com.rappidrive.domain.valueobjects.Location;
+import com.rappidrive.domain.valueobjects.PassengerId;
+import com.rappidrive.domain.valueobjects.TripId;
+import com.rappidrive.presentation.sse.TripLiveUpdateHub.PositionUpdate;
+import com.rappidrive.presentation.sse.TripLiveUpdateHub.StatusUpdate;
+import com.rappidrive.presentation.sse.TripLiveUpdateHub.TripState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TripLiveUpdateHub.
+ */
+class TripLiveUpdateHubTest {
+
+    private static final UUID TRIP = UUID.randomUUID();
+    private static final UUID DRIVER = UUID.randomUUID();
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private TripLiveUpdateHub hub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new TripLiveUpdateHub(meterRegistry, Runnable::run, Duration.ofMinutes(30), 2, 10) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    void sendsCurrentStatusThenTripEventsInOrderAndClosesOnCompletion() {
+        subscribe(TripStatus.REQUESTED, null);
+        RecordingEmitter stream = emitters.get(0);
+
+        hub.handle(new TripDriverAssignedEvent(new TripId(TRIP), new DriverId(DRIVER)));
+        hub.handle(new TripStartedEvent(new TripId(TRIP), new DriverId(DRIVER)));
+        hub.handle(new TripCompletedEvent(new TripId(TRIP), PassengerId.generate(), new DriverId(DRIVER), "25.00", 12));
+
+        assertThat(stream.events).extracting(Event::name).containsOnly(TripLiveUpdateHub.STATUS_EVENT);
+        assertThat(stream.events).extracting(event -> ((StatusUpdate) event.data()).status())
+            .containsExactly(TripStatus.REQUESTED, TripStatus.DRIVER_ASSIGNED, TripStatus.IN_PROGRESS, TripStatus.COMPLETED);
+        assertThat(((StatusUpdate) stream.events.get(1).data()).driverId()).isEqualTo(DRIVER);
+        assertThat(stream.completed).isTrue();
+    }
+
+    @Test
+    void pushesOnlyTheLatestPositionPerIntervalAndDropsSmallMoves() {
+        subscribe(TripStatus.IN_PROGRESS, DRIVER);
+        RecordingEmitter stream = emitters.get(0);
+
+        moveTo(-23.5505, -46.6333);
+        moveTo(-23.5510, -46.6340);
+        hub.flushPositions();
+        moveTo(-23.55101, -46.63401); // about 1.5 m away from the last one pushed
+        hub.flushPositions();
+        hub.flushPositions();
+
+        List<PositionUpdate> positions = stream.events.stream()
+            .filter(event -> event.name().equals(TripLiveUpdateHub.POSITION_EVENT))
+            .map(event -> (PositionUpdate) event.data())
+            .toList();
+        assertThat(positions).hasSize(1);
+        assertThat(positions.get(0).latitude()).isEqualTo(-23.5510);
+        assertThat(meterRegistry.get("trip_live_positions_coalesced_total").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoresPositionsOfDriversWithoutWatchedTrip() {
+        subscribe(TripStatus.REQUESTED, null);
+
+        moveTo(-23.5505, -46.6333);
+        hub.flushPositions();
+
+        assertThat(emitters.get(0).events).extracting(Event::name).containsExactly(TripLiveUpdateHub.STATUS_EVENT);
+    }
+
+    @Test
+    void refusesStreamsBeyondTheLimitPerTrip() {
+        subscribe(TripStatus.DRIVER_ASSIGNED, DRIVER);
+        subscribe(TripStatus.DRIVER_ASSIGNED, DRIVER);
+
+        assertThatThrownBy(() -> subscribe(TripStatus.DRIVER_ASSIGNED, DRIVER))
+            .isInstanceOf(TripLiveUpdateHub.TooManySubscribersException.class);
+        assertThat(hub.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void finishedTripGetsItsStatusAndNoSubscription() {
+        subscribe(TripStatus.CANCELLED, DRIVER);
+
+        assertThat(emitters.get(0).events).hasSize(1);
+        assertThat(emitters.get(0).completed).isTrue();
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(hub.canHandle(new TripStartedEvent(new TripId(TRIP), new DriverId(DRIVER)))).isFalse();
+    }
+
+    @Test
+    void sendsAChangeCommittedWhileTheTripIsBeingReadAfterTheSnapshot() {
+        hub.subscribe(TRIP, () -> {
+            TripState read = new TripState(TripStatus.REQUESTED, null);
+            hub.handle(new TripDriverAssignedEvent(new TripId(TRIP), new DriverId(DRIVER)));
+            return read;
+        });
+
+        moveTo(-23.5505, -46.6333);
+        hub.flushPositions();
+
+        assertThat(emitters.get(0).events).extracting(Event::name).contains(TripLiveUpdateHub.POSITION_EVENT);
+        assertThat(emitters.get(0).events).extracting(Event::data).filteredOn(StatusUpdate.class::isInstance)
+            .extracting(update -> ((StatusUpdate) update).status())
+            .containsExactly(TripStatus.REQUESTED, TripStatus.DRIVER_ASSIGNED);
+    }
+
+    @Test
+    void releasesTheSubscriptionWhenTheTripCannotBeRead() {
+        assertThatThrownBy(() -> hub.subscribe(TRIP, () -> {
+            throw new TripNotFoundException(TRIP);
+        })).isInstanceOf(TripNotFoundException.class);
+
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(hub.canHandle(new TripStartedEvent(new TripId(TRIP), new DriverId(DRIVER)))).isFalse();
+    }
+
+    private void subscribe(TripStatus status, UUID driverId) {
+        hub.subscribe(TRIP, () -> new TripState(status, driverId));
+    }
+
+    private void moveTo(double latitude, double longitude) {
+        hub.offer(DRIVER, new Location(latitude, longitude));
+    }
+
+    private record Event(String name, Object data) {
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<Event> events = new ArrayList<>();
+        boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String name = null;
+            Object data = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (!(part.getData() instanceof String)) {
+                    data = part.getData();
+                } else if (part.getData() instanceof String text && text.startsWith("event:")) {
+                    name = text.substring("event:".length(), text.indexOf('\n'));
+                }
+            }
+            events.add(new Event(name, data));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}